@@ -55,6 +55,37 @@ public class NetworkConfigurationSchema {
     @Value(hasDefault = true)
     public final long shutdownTimeout = 15_000;
 
+    /**
+     * Maximum number of the messages written to a connection between two flushes. Messages are flushed in batches, which are
+     * collected while the connection's event loop is busy, this value bounds the size of such a batch. {@code 1} disables batching.
+     */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public final int maxMessagesPerFlush = 64;
+
+    /**
+     * Number of the connections to every remote node dedicated to bulk traffic, e.g. SQL exchanges and Raft snapshots, in addition
+     * to the connection used by all the other messages. {@code 0} sends all the messages over a single connection.
+     */
+    @Range(min = 0, max = 64)
+    @Value(hasDefault = true)
+    public final int bulkConnections = 1;
+
+    /**
+     * Whether the traffic between the nodes may be compressed with LZ4. The traffic of a connection is compressed only if
+     * compression is enabled on both ends of the connection.
+     */
+    @Value(hasDefault = true)
+    public final boolean compressionEnabled = false;
+
+    /**
+     * Minimal size in bytes of a batch of the messages flushed to a connection, starting from which the batch is compressed.
+     * Smaller batches are sent as is, because compression doesn't pay off for them.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public final int compressionThreshold = 1024;
+
     /** Server configuration. */
     @ConfigValue
     public InboundConfigurationSchema inbound;
@@ -79,14 +79,34 @@ public class ClientTableCommon {
         for (var colIdx = 0; colIdx < colCnt; colIdx++) {
             var col = schema.column(colIdx);
 
-            packer.packArrayHeader(4);
+            packer.packArrayHeader(5);
             packer.packString(col.name());
             packer.packInt(getClientDataType(col.type().spec()));
             packer.packBoolean(schema.isKeyColumn(colIdx));
             packer.packBoolean(col.nullable());
+            packer.packInt(colocationIndex(schema, col));
         }
     }
 
+    /**
+     * Gets the index of a column among the colocation columns.
+     *
+     * @param schema Schema.
+     * @param col Column.
+     * @return Index of the column among the colocation columns or {@code -1} if it is not a colocation column.
+     */
+    private static int colocationIndex(SchemaDescriptor schema, Column col) {
+        Column[] colocationCols = schema.colocationColumns();
+
+        for (int i = 0; i < colocationCols.length; i++) {
+            if (colocationCols[i].name().equals(col.name())) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
     /**
      * Writes a tuple.
      *
@@ -36,6 +36,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiFunction;
@@ -91,6 +92,9 @@ public final class ReliableChannel implements AutoCloseable {
     /** Cache addresses returned by {@code ThinClientAddressFinder}. */
     private volatile String[] prevHostAddrs;
 
+    /** Incremented on every channel failure, the cached partition assignments are reloaded once it changes. */
+    private final AtomicLong partitionAssignmentVer = new AtomicLong();
+
     /**
      * Constructor.
      *
@@ -142,6 +146,16 @@ public final class ReliableChannel implements AutoCloseable {
         return res;
     }
 
+    /**
+     * Gets the version of the partition assignments. The version changes when the cluster topology may have changed, e.g. a connection
+     * to a node is lost, so the partition assignments known to the client should be reloaded.
+     *
+     * @return Partition assignment version.
+     */
+    public long partitionAssignmentVersion() {
+        return partitionAssignmentVer.get();
+    }
+
     /**
      * Sends request and handles response asynchronously.
      *
@@ -353,6 +367,15 @@ public final class ReliableChannel implements AutoCloseable {
      * On current channel failure.
      */
     private void onChannelFailure(ClientChannel ch) {
+        // The failed channel is not the default one when the request was routed to the preferred node.
+        for (ClientChannelHolder hld : nodeChannels.values()) {
+            if (hld.ch == ch) {
+                onChannelFailure(hld, ch);
+
+                return;
+            }
+        }
+
         // There is nothing wrong if curChIdx was concurrently changed, since channel was closed by another thread
         // when current index was changed and no other wrong channel will be closed by current thread because
         // onChannelFailure checks channel binded to the holder before closing it.
@@ -367,6 +390,8 @@ public final class ReliableChannel implements AutoCloseable {
             hld.closeChannel();
         }
 
+        partitionAssignmentVer.incrementAndGet();
+
         chFailLsnrs.forEach(Runnable::run);
 
         // Roll current channel even if a topology changes. To help find working channel faster.
@@ -38,6 +38,9 @@ public class ClientColumn {
     /** Index of the column in the schema. */
     private final int schemaIndex;
 
+    /** Index of the column among the colocation columns, {@code -1} if it is not a colocation column or the index is unknown. */
+    private final int colocationIndex;
+
     /**
      * Constructor.
      *
@@ -48,6 +51,20 @@ public class ClientColumn {
      * @param schemaIndex Index of the column in the schema.
      */
     public ClientColumn(String name, int type, boolean nullable, boolean isKey, int schemaIndex) {
+        this(name, type, nullable, isKey, schemaIndex, -1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name            Column name.
+     * @param type            Column type code.
+     * @param nullable        Nullable flag.
+     * @param isKey           Key column flag.
+     * @param schemaIndex     Index of the column in the schema.
+     * @param colocationIndex Index of the column among the colocation columns, {@code -1} if it is not a colocation column.
+     */
+    public ClientColumn(String name, int type, boolean nullable, boolean isKey, int schemaIndex, int colocationIndex) {
         assert name != null;
         assert schemaIndex >= 0;
 
@@ -56,6 +73,7 @@ public class ClientColumn {
         this.nullable = nullable;
         this.isKey = isKey;
         this.schemaIndex = schemaIndex;
+        this.colocationIndex = colocationIndex;
     }
 
     public String name() {
@@ -97,4 +115,13 @@ public class ClientColumn {
     public int schemaIndex() {
         return schemaIndex;
     }
+
+    /**
+     * Gets the index of the column among the colocation columns.
+     *
+     * @return Colocation index or {@code -1} if it is not a colocation column or the index is unknown.
+     */
+    public int colocationIndex() {
+        return colocationIndex;
+    }
 }
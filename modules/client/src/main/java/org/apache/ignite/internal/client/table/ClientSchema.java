@@ -34,16 +34,29 @@ import static org.apache.ignite.internal.client.proto.ClientDataType.NUMBER;
 import static org.apache.ignite.internal.client.proto.ClientDataType.STRING;
 import static org.apache.ignite.internal.client.proto.ClientDataType.TIME;
 import static org.apache.ignite.internal.client.proto.ClientDataType.TIMESTAMP;
-
+import static org.apache.ignite.internal.client.proto.ClientMessageCommon.NO_VALUE;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import org.apache.ignite.internal.client.proto.ClientDataType;
 import org.apache.ignite.internal.client.proto.TuplePart;
 import org.apache.ignite.internal.marshaller.BinaryMode;
 import org.apache.ignite.internal.marshaller.Marshaller;
 import org.apache.ignite.internal.marshaller.MarshallerColumn;
+import org.apache.ignite.internal.util.HashCalculator;
 import org.apache.ignite.lang.ColumnNotFoundException;
 import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.table.Tuple;
 import org.apache.ignite.table.mapper.Mapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -65,6 +78,9 @@ public class ClientSchema {
     /** Columns map by name. */
     private final Map<String, ClientColumn> map = new HashMap<>();
 
+    /** Colocation columns. */
+    private final ClientColumn[] colocationColumns;
+
     /**
      * Constructor.
      *
@@ -89,6 +105,16 @@ public class ClientSchema {
         }
 
         keyColumnCount = keyCnt;
+
+        ClientColumn[] colocationCols = Arrays.stream(columns)
+                .filter(col -> col.colocationIndex() >= 0)
+                .sorted(Comparator.comparingInt(ClientColumn::colocationIndex))
+                .toArray(ClientColumn[]::new);
+
+        // Key columns are the colocation columns unless the server says otherwise.
+        colocationColumns = colocationCols.length > 0
+                ? colocationCols
+                : Arrays.stream(columns).filter(ClientColumn::key).toArray(ClientColumn[]::new);
     }
 
     /**
@@ -145,6 +171,117 @@ public class ClientSchema {
         return keyColumnCount;
     }
 
+    /**
+     * Computes the colocation hash of a tuple the same way the server computes the colocation hash of a row,
+     * so the partition of the tuple can be determined on the client.
+     *
+     * <p>Values are converted to the column types before hashing, because the server hashes the values it has read from the
+     * message. The hash may still differ from the server one when the server truncates a value, e.g. a temporal value with
+     * a precision higher than the precision of the column, then the request is just routed to a node which doesn't own the key.
+     *
+     * @param tuple Tuple.
+     * @return Colocation hash or {@code null} if the tuple lacks some of the colocation columns or the hash can't be computed.
+     */
+    public @Nullable Integer colocationHash(Tuple tuple) {
+        HashCalculator calc = new HashCalculator();
+
+        try {
+            for (ClientColumn col : colocationColumns) {
+                Object v = tuple.valueOrDefault(col.name(), NO_VALUE);
+
+                if (v == NO_VALUE || !appendHash(calc, col.type(), v)) {
+                    return null;
+                }
+            }
+        } catch (ClassCastException ignored) {
+            // The value doesn't match the column type, the server will reject the request.
+            return null;
+        }
+
+        return calc.hash();
+    }
+
+    private static boolean appendHash(HashCalculator calc, int dataType, @Nullable Object v) {
+        if (v == null) {
+            calc.appendNull();
+
+            return true;
+        }
+
+        switch (dataType) {
+            case INT8:
+                calc.appendByte(((Number) v).byteValue());
+                break;
+
+            case INT16:
+                calc.appendShort(((Number) v).shortValue());
+                break;
+
+            case INT32:
+                calc.appendInt(((Number) v).intValue());
+                break;
+
+            case INT64:
+                calc.appendLong(((Number) v).longValue());
+                break;
+
+            case FLOAT:
+                calc.appendFloat(((Number) v).floatValue());
+                break;
+
+            case DOUBLE:
+                calc.appendDouble(((Number) v).doubleValue());
+                break;
+
+            case DECIMAL:
+                calc.appendDecimal((BigDecimal) v);
+                break;
+
+            // Falls through.
+            case BIGINTEGER:
+            case NUMBER:
+                calc.appendNumber((BigInteger) v);
+                break;
+
+            case ClientDataType.UUID:
+                calc.appendUuid((UUID) v);
+                break;
+
+            case STRING:
+                calc.appendString((String) v);
+                break;
+
+            case BYTES:
+                calc.appendBytes((byte[]) v);
+                break;
+
+            case BITMASK:
+                calc.appendBitmask((BitSet) v);
+                break;
+
+            case DATE:
+                calc.appendDate((LocalDate) v);
+                break;
+
+            case TIME:
+                calc.appendTime((LocalTime) v);
+                break;
+
+            case DATETIME:
+                calc.appendDateTime((LocalDateTime) v);
+                break;
+
+            case TIMESTAMP:
+                calc.appendTimestamp((Instant) v);
+                break;
+
+            default:
+                return false;
+        }
+
+        return true;
+    }
+
     public <T> Marshaller getMarshaller(Mapper mapper, TuplePart part) {
         // TODO: Cache Marshallers (IGNITE-16094).
         return createMarshaller(mapper, part);
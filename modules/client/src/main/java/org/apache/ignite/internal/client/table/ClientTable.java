@@ -20,11 +20,16 @@ package org.apache.ignite.internal.client.table;
 import static org.apache.ignite.lang.ErrorGroups.Client.CONNECTION_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Common.UNKNOWN_ERR;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -49,6 +54,9 @@ import org.jetbrains.annotations.Nullable;
  * Client table API implementation.
  */
 public class ClientTable implements Table {
+    /** Period after which the partition assignment is reloaded, because partition leaders may change without any connection loss. */
+    private static final long PARTITION_ASSIGNMENT_TTL = TimeUnit.SECONDS.toMillis(30);
+
     private final UUID id;
 
     private final String name;
@@ -61,6 +69,17 @@ public class ClientTable implements Table {
 
     private final Object latestSchemaLock = new Object();
 
+    /** Names of the leader nodes of the partitions, {@code null} if not loaded yet. An element is {@code null} if the leader is unknown. */
+    private volatile @Nullable List<String> partitionAssignment;
+
+    /** {@link ReliableChannel#partitionAssignmentVersion()} the partition assignment was requested at. */
+    private volatile long partitionAssignmentVer = -1;
+
+    /** Time the partition assignment was requested at. */
+    private volatile long partitionAssignmentTs;
+
+    private final AtomicBoolean partitionAssignmentLoading = new AtomicBoolean();
+
     /**
      * Constructor.
      *
@@ -181,11 +200,12 @@ public class ClientTable implements Table {
             var type = in.unpackInt();
             var isKey = in.unpackBoolean();
             var isNullable = in.unpackBoolean();
+            var colocationIdx = propCnt > 4 ? in.unpackInt() : -1;
 
             // Skip unknown extra properties, if any.
-            in.skipValues(propCnt - 4);
+            in.skipValues(Math.max(0, propCnt - 5));
 
-            var column = new ClientColumn(name, type, isNullable, isKey, i);
+            var column = new ClientColumn(name, type, isNullable, isKey, i, colocationIdx);
             columns[i] = column;
         }
 
@@ -244,7 +264,7 @@ public class ClientTable implements Table {
             BiConsumer<ClientSchema, PayloadOutputChannel> writer,
             BiFunction<ClientSchema, ClientMessageUnpacker, T> reader
     ) {
-        return doSchemaOutInOpAsync(opCode, writer, reader, null);
+        return doSchemaOutInOpAsync(opCode, writer, reader, null, null, null);
     }
 
     <T> CompletableFuture<T> doSchemaOutInOpAsync(
@@ -252,12 +272,36 @@ public class ClientTable implements Table {
             BiConsumer<ClientSchema, PayloadOutputChannel> writer,
             BiFunction<ClientSchema, ClientMessageUnpacker, T> reader,
             T defaultValue
+    ) {
+        return doSchemaOutInOpAsync(opCode, writer, reader, defaultValue, null, null);
+    }
+
+    /**
+     * Performs a schema-based operation.
+     *
+     * @param opCode Op code.
+     * @param writer Writer.
+     * @param reader Reader.
+     * @param defaultValue Value returned when the server returns nothing.
+     * @param tx Transaction.
+     * @param key Key the request is routed by, see {@link #preferredNode(Transaction, ClientSchema, Tuple)}.
+     * @param <T> Result type.
+     * @return Future representing pending completion of the operation.
+     */
+    <T> CompletableFuture<T> doSchemaOutInOpAsync(
+            int opCode,
+            BiConsumer<ClientSchema, PayloadOutputChannel> writer,
+            BiFunction<ClientSchema, ClientMessageUnpacker, T> reader,
+            @Nullable T defaultValue,
+            @Nullable Transaction tx,
+            @Nullable Tuple key
     ) {
         return getLatestSchema()
                 .thenCompose(schema ->
                         ch.serviceAsync(opCode,
                                 w -> writer.accept(schema, w),
-                                r -> readSchemaAndReadData(schema, r.in(), reader, defaultValue)))
+                                r -> readSchemaAndReadData(schema, r.in(), reader, defaultValue),
+                                preferredNode(tx, schema, key)))
                 .thenCompose(t -> loadSchemaAndReadData(t, reader));
     }
 
@@ -274,11 +318,125 @@ public class ClientTable implements Table {
             int opCode,
             BiConsumer<ClientSchema, PayloadOutputChannel> writer,
             Function<ClientMessageUnpacker, T> reader) {
+        return doSchemaOutOpAsync(opCode, writer, reader, null, null);
+    }
+
+    /**
+     * Performs a schema-based operation.
+     *
+     * @param opCode Op code.
+     * @param writer Writer.
+     * @param reader Reader.
+     * @param tx Transaction.
+     * @param key Key the request is routed by, see {@link #preferredNode(Transaction, ClientSchema, Tuple)}.
+     * @param <T> Result type.
+     * @return Future representing pending completion of the operation.
+     */
+    public <T> CompletableFuture<T> doSchemaOutOpAsync(
+            int opCode,
+            BiConsumer<ClientSchema, PayloadOutputChannel> writer,
+            Function<ClientMessageUnpacker, T> reader,
+            @Nullable Transaction tx,
+            @Nullable Tuple key) {
         return getLatestSchema()
                 .thenCompose(schema ->
                         ch.serviceAsync(opCode,
                                 w -> writer.accept(schema, w),
-                                r -> reader.apply(r.in())));
+                                r -> reader.apply(r.in()),
+                                preferredNode(tx, schema, key)));
+    }
+
+    /**
+     * Gets the name of the node which is the leader of the partition of a key, so the request is sent directly to it
+     * instead of being forwarded by the node the default channel is connected to.
+     *
+     * <p>Requests of multi-key operations are routed by one of the keys: the server splits the keys by partitions anyway,
+     * so the request is still processed correctly, at least the part of the keys of the partition is not forwarded.
+     *
+     * @param tx Transaction.
+     * @param schema Schema.
+     * @param key Key.
+     * @return Node name or {@code null} if the request should be sent to the default channel.
+     */
+    @Nullable String preferredNode(@Nullable Transaction tx, ClientSchema schema, @Nullable Tuple key) {
+        // Transactional requests must be sent to the channel the transaction was started on.
+        if (tx != null || key == null) {
+            return null;
+        }
+
+        List<String> assignment = partitionAssignment();
+
+        if (assignment == null || assignment.isEmpty()) {
+            return null;
+        }
+
+        Integer hash = schema.colocationHash(key);
+
+        if (hash == null) {
+            return null;
+        }
+
+        // Same as InternalTableImpl#partId.
+        int part = hash % assignment.size();
+
+        // Null if the server doesn't know the leader of the partition, the default channel is used then.
+        return assignment.get(part < 0 ? -part : part);
+    }
+
+    /**
+     * Gets the partition assignment. Requests a new one if the topology may have changed or the current one is outdated.
+     * The old assignment is used until the new one is loaded: a misrouted request is forwarded by the server to the right node.
+     *
+     * @return Names of the leader nodes of the partitions or {@code null} if the assignment is not loaded yet.
+     */
+    private @Nullable List<String> partitionAssignment() {
+        long ver = ch.partitionAssignmentVersion();
+
+        if ((ver != partitionAssignmentVer || System.currentTimeMillis() - partitionAssignmentTs >= PARTITION_ASSIGNMENT_TTL)
+                && partitionAssignmentLoading.compareAndSet(false, true)) {
+            partitionAssignmentVer = ver;
+            partitionAssignmentTs = System.currentTimeMillis();
+
+            loadPartitionAssignment().whenComplete((res, err) -> {
+                // Requests are sent to the default channel until the assignment is loaded successfully.
+                partitionAssignment = err == null ? res : null;
+
+                partitionAssignmentLoading.set(false);
+            });
+        }
+
+        return partitionAssignment;
+    }
+
+    /**
+     * Loads the partition assignment.
+     *
+     * @return Future with the names of the leader nodes of the partitions, an element is {@code null} if the leader is unknown.
+     */
+    CompletableFuture<List<String>> loadPartitionAssignment() {
+        return ch.serviceAsync(ClientOp.PARTITION_ASSIGNMENT_GET,
+                w -> w.out().packUuid(id),
+                r -> {
+                    int cnt = r.in().unpackArrayHeader();
+
+                    List<String> res = new ArrayList<>(cnt);
+
+                    for (int i = 0; i < cnt; i++) {
+                        res.add(r.in().tryUnpackNil() ? null : r.in().unpackString());
+                    }
+
+                    return res;
+                });
+    }
+
+    /**
+     * Gets the first key of a collection to route a multi-key request by.
+     *
+     * @param keys Keys.
+     * @return First key or {@code null} if the collection is empty.
+     */
+    static @Nullable Tuple firstKey(Collection<Tuple> keys) {
+        return keys.isEmpty() ? null : keys.iterator().next();
     }
 
     private <T> Object readSchemaAndReadData(
@@ -38,6 +38,7 @@ import org.apache.ignite.internal.client.proto.ClientDataType;
 import org.apache.ignite.internal.client.table.ClientColumn;
 import org.apache.ignite.internal.client.table.ClientSchema;
 import org.apache.ignite.internal.client.table.ClientTuple;
+import org.apache.ignite.internal.util.HashCalculator;
 import org.apache.ignite.lang.ColumnNotFoundException;
 import org.apache.ignite.table.Tuple;
 import org.junit.jupiter.api.Test;
@@ -353,6 +354,36 @@ public class ClientTupleTest {
         assertEquals(clientTuple.hashCode(), tuple.hashCode());
     }
 
+    @Test
+    public void testColocationHashUsesKeyColumnsByDefault() {
+        var calc = new HashCalculator();
+        calc.appendLong(3L);
+
+        assertEquals(calc.hash(), SCHEMA.colocationHash(Tuple.create().set("id", 3L).set("name", "Shirt")));
+        assertEquals(calc.hash(), SCHEMA.colocationHash(Tuple.create().set("id", 3)));
+        assertNull(SCHEMA.colocationHash(Tuple.create().set("name", "Shirt")));
+        assertNull(SCHEMA.colocationHash(Tuple.create().set("id", "3")));
+    }
+
+    @Test
+    public void testColocationHashUsesColocationColumnsInOrder() {
+        var schema = new ClientSchema(1, new ClientColumn[]{
+                new ClientColumn("ID", ClientDataType.INT32, false, true, 0, -1),
+                new ClientColumn("ORG", ClientDataType.STRING, false, true, 1, 1),
+                new ClientColumn("REGION", ClientDataType.UUID, false, true, 2, 0),
+                new ClientColumn("NAME", ClientDataType.STRING, true, false, 3, -1)
+        });
+
+        var region = UUID.randomUUID();
+
+        var calc = new HashCalculator();
+        calc.appendUuid(region);
+        calc.appendString("org");
+
+        assertEquals(calc.hash(), schema.colocationHash(Tuple.create().set("id", 1).set("org", "org").set("region", region)));
+        assertEquals(calc.hash(), schema.colocationHash(Tuple.create().set("id", 2).set("org", "org").set("region", region)));
+    }
+
     private static ClientTuple getBuilder() {
         return new ClientTuple(SCHEMA);
     }
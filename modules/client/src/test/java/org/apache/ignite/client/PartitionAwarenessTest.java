@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.client.fakes.FakeIgnite;
+import org.apache.ignite.client.fakes.FakeIgniteTables;
+import org.apache.ignite.client.fakes.FakeInternalTable;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.testframework.IgniteTestUtils;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.table.Table;
+import org.apache.ignite.table.Tuple;
+import org.apache.ignite.tx.Transaction;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the client sends the keyed tuple operations to the partition leaders.
+ */
+public class PartitionAwarenessTest {
+    private static final String TABLE_NAME = "tbl1";
+
+    private static final int SERVERS = 3;
+
+    private final FakeIgnite[] ignites = new FakeIgnite[SERVERS];
+
+    private final TestServer[] servers = new TestServer[SERVERS];
+
+    /** Whether a server drops the connections. */
+    private final AtomicBoolean[] dropConnections = new AtomicBoolean[SERVERS];
+
+    private final AtomicLong keyGen = new AtomicLong();
+
+    private IgniteClient client;
+
+    /** Name of the node of the default channel of the client. */
+    private String defaultNode;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UUID tableId = UUID.randomUUID();
+
+        for (int i = 0; i < SERVERS; i++) {
+            AtomicBoolean drop = new AtomicBoolean();
+
+            ignites[i] = new FakeIgnite();
+            ((FakeIgniteTables) ignites[i].tables()).createTable(TABLE_NAME, tableId);
+
+            dropConnections[i] = drop;
+            servers[i] = new TestServer(10900 + i * 10, 10, 0, ignites[i], reqId -> drop.get(), nodeName(i));
+        }
+
+        String[] addresses = Arrays.stream(servers).map(s -> "127.0.0.1:" + s.port()).toArray(String[]::new);
+
+        client = IgniteClient.builder()
+                .addresses(addresses)
+                .reconnectThrottlingPeriod(0)
+                .retryPolicy(new RetryLimitPolicy().retryLimit(3))
+                .build();
+
+        assertTrue(IgniteTestUtils.waitForCondition(() -> client.connections().size() == SERVERS, 3000));
+
+        // Requests of a partition without a known leader are sent to the default channel.
+        setLeader(null);
+
+        Table table = client.tables().table(TABLE_NAME);
+
+        defaultNode = upsert(table, null);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(defaultNode, upsert(table, null));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        IgniteUtils.closeAll(client);
+        IgniteUtils.closeAll(servers);
+    }
+
+    @Test
+    public void testKeyedOperationGoesToLeader() throws Exception {
+        String leader = otherNode(defaultNode);
+
+        Table table = routedTable(leader);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(leader, upsert(table, null));
+        }
+    }
+
+    @Test
+    public void testTransactionalOperationStaysOnTransactionChannel() throws Exception {
+        Table table = routedTable(otherNode(defaultNode));
+
+        Transaction tx = client.transactions().begin();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(defaultNode, upsert(table, tx));
+        }
+
+        tx.commit();
+    }
+
+    @Test
+    public void testAssignmentReloadedAfterRoutedChannelFailure() throws Exception {
+        String leader = otherNode(defaultNode);
+        String newLeader = otherNode(defaultNode, leader);
+
+        Table table = routedTable(leader);
+
+        setLeader(newLeader);
+
+        // Leader changes are not pushed to the client, the loaded assignment is used until it expires.
+        assertEquals(leader, upsert(table, null));
+
+        dropConnections[nodeIndex(leader)].set(true);
+
+        // The routed request fails and is retried on the default channel.
+        assertEquals(defaultNode, upsert(table, null));
+
+        assertTrue(IgniteTestUtils.waitForCondition(() -> newLeader.equals(upsert(table, null)), 3000));
+    }
+
+    /**
+     * Sets the leader of the table partition on all the nodes and returns a new table instance, which requests the assignment
+     * again, once the requests of the table are sent to the leader.
+     */
+    private Table routedTable(String leader) throws Exception {
+        setLeader(leader);
+
+        Table table = client.tables().table(TABLE_NAME);
+
+        // The assignment is loaded asynchronously, the requests are sent to the default channel meanwhile.
+        assertTrue(IgniteTestUtils.waitForCondition(() -> leader.equals(upsert(table, null)), 3000));
+
+        return table;
+    }
+
+    /**
+     * Upserts a new key and returns the name of the node that has received it.
+     */
+    private String upsert(Table table, @Nullable Transaction tx) {
+        long key = keyGen.incrementAndGet();
+
+        table.recordView().upsert(tx, Tuple.create().set("id", key).set("name", "name-" + key));
+
+        for (int i = 0; i < SERVERS; i++) {
+            Table serverTable = ignites[i].tables().table(TABLE_NAME);
+
+            if (serverTable.recordView().get(null, Tuple.create().set("id", key)) != null) {
+                return nodeName(i);
+            }
+        }
+
+        return fail("Key is not found on the servers: " + key);
+    }
+
+    private void setLeader(@Nullable String nodeName) {
+        for (FakeIgnite ignite : ignites) {
+            TableImpl table = (TableImpl) ignite.tables().table(TABLE_NAME);
+
+            assertNotNull(table);
+
+            ((FakeInternalTable) table.internalTable()).leader(nodeName);
+        }
+    }
+
+    /**
+     * Returns the name of a node that is not one of the given ones.
+     */
+    private static String otherNode(String... excluded) {
+        for (int i = 0; i < SERVERS; i++) {
+            if (!Arrays.asList(excluded).contains(nodeName(i))) {
+                return nodeName(i);
+            }
+        }
+
+        throw new AssertionError("No other node: " + Arrays.toString(excluded));
+    }
+
+    private static String nodeName(int idx) {
+        return "s" + (idx + 1);
+    }
+
+    private static int nodeIndex(String nodeName) {
+        return Integer.parseInt(nodeName.substring(1)) - 1;
+    }
+}
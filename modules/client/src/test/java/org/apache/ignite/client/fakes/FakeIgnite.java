@@ -17,17 +17,20 @@
 
 package org.apache.ignite.client.fakes;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.compute.IgniteCompute;
 import org.apache.ignite.internal.sql.engine.QueryProcessor;
+import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.sql.IgniteSql;
 import org.apache.ignite.table.manager.IgniteTables;
 import org.apache.ignite.tx.IgniteTransactions;
 import org.apache.ignite.tx.Transaction;
-import org.apache.ignite.tx.TransactionException;
 
 /**
  * Fake Ignite.
@@ -68,27 +71,13 @@ public class FakeIgnite implements Ignite {
 
             @Override
             public CompletableFuture<Transaction> beginAsync() {
-                return CompletableFuture.completedFuture(new Transaction() {
-                    @Override
-                    public void commit() throws TransactionException {
-
-                    }
-
-                    @Override
-                    public CompletableFuture<Void> commitAsync() {
-                        return CompletableFuture.completedFuture(null);
-                    }
-
-                    @Override
-                    public void rollback() throws TransactionException {
+                // Table views cast the transactions to the internal ones, the fake tables ignore them.
+                InternalTransaction tx = mock(InternalTransaction.class);
 
-                    }
+                when(tx.commitAsync()).thenReturn(CompletableFuture.completedFuture(null));
+                when(tx.rollbackAsync()).thenReturn(CompletableFuture.completedFuture(null));
 
-                    @Override
-                    public CompletableFuture<Void> rollbackAsync() {
-                        return CompletableFuture.completedFuture(null);
-                    }
-                });
+                return CompletableFuture.completedFuture(tx);
             }
         };
     }
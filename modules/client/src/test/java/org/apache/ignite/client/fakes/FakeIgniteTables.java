@@ -59,7 +59,18 @@ public class FakeIgniteTables implements IgniteTables, IgniteTablesInternal {
     /** {@inheritDoc} */
     @Override
     public Table createTable(String name, Consumer<TableChange> tableInitChange) {
-        var newTable = getNewTable(name);
+        return createTable(name, UUID.randomUUID());
+    }
+
+    /**
+     * Creates a table with the given id, so the same table can be created in the fakes of several nodes.
+     *
+     * @param name Table name.
+     * @param id Table id.
+     * @return Table.
+     */
+    public Table createTable(String name, UUID id) {
+        var newTable = getNewTable(name, id);
 
         var oldTable = tables.putIfAbsent(name, newTable);
 
@@ -160,7 +171,7 @@ public class FakeIgniteTables implements IgniteTables, IgniteTablesInternal {
     }
 
     @NotNull
-    private TableImpl getNewTable(String name) {
+    private TableImpl getNewTable(String name, UUID id) {
         Function<Integer, SchemaDescriptor> history;
 
         switch (name) {
@@ -182,7 +193,7 @@ public class FakeIgniteTables implements IgniteTables, IgniteTablesInternal {
         }
 
         return new TableImpl(
-                new FakeInternalTable(name, UUID.randomUUID()),
+                new FakeInternalTable(name, id),
                 new FakeSchemaRegistry(history)
         );
     }
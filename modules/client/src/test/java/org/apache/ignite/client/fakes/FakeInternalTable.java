@@ -33,6 +33,7 @@ import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.raft.client.service.RaftGroupService;
 import org.jetbrains.annotations.Nullable;
 
@@ -49,6 +50,10 @@ public class FakeInternalTable implements InternalTable {
     /** Table data. */
     private final ConcurrentHashMap<ByteBuffer, BinaryRow> data = new ConcurrentHashMap<>();
 
+    /** Leader of the only partition, {@code null} if unknown. */
+    private volatile @Nullable ClusterNode leader =
+            new ClusterNode("fake-node-id", "fake-node", new NetworkAddress("127.0.0.1", 0, "fake-node"));
+
     /**
      * The constructor.
      *
@@ -278,7 +283,26 @@ public class FakeInternalTable implements InternalTable {
     /** {@inheritDoc} */
     @Override
     public ClusterNode leaderAssignment(int partition) {
-        throw new IgniteInternalException(new OperationNotSupportedException());
+        return leader;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ClusterNode>> leaderAssignmentsAsync() {
+        List<ClusterNode> res = new ArrayList<>(1);
+
+        res.add(leader);
+
+        return CompletableFuture.completedFuture(res);
+    }
+
+    /**
+     * Sets the leader of the only partition.
+     *
+     * @param nodeName Name of the leader node, {@code null} if the leader is unknown.
+     */
+    public void leader(@Nullable String nodeName) {
+        leader = nodeName == null ? null : new ClusterNode(nodeName + "-id", nodeName, new NetworkAddress("127.0.0.1", 8080));
     }
 
     /** {@inheritDoc} */
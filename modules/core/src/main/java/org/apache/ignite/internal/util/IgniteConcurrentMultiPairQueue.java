@@ -21,6 +21,7 @@ import static java.util.function.Predicate.not;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.ignite.internal.tostring.S;
@@ -140,7 +141,67 @@ public class IgniteConcurrentMultiPairQueue<K, V> {
             return false;
         }
 
-        int segment = res.getSegment();
+        int segment = segment(absPos, res.getSegment());
+
+        int relPos = relativePosition(absPos, segment);
+
+        K key = keysArr[segment];
+
+        res.set(key, vals[segment][relPos], segment);
+
+        return true;
+    }
+
+    /**
+     * Retrieves and removes up to {@code maxCount} elements of the same key from the head of this queue.
+     *
+     * @param res State holder, the key and the first retrieved element are set to it.
+     * @param batch List to add the retrieved elements to.
+     * @param maxCount Maximum number of elements to retrieve.
+     * @return Number of retrieved elements, {@code 0} if this queue is empty.
+     */
+    public int next(Result<K, V> res, List<V> batch, int maxCount) {
+        assert maxCount > 0 : maxCount;
+
+        while (true) {
+            int absPos = pos.get();
+
+            if (absPos >= maxPos) {
+                res.set(null, null, 0);
+
+                return 0;
+            }
+
+            int segment = segment(absPos, res.getSegment());
+
+            int count = Math.min(maxCount, lenSeq[segment] - absPos + 1);
+
+            if (!pos.compareAndSet(absPos, absPos + count)) {
+                continue;
+            }
+
+            int relPos = relativePosition(absPos, segment);
+
+            V[] segmentVals = vals[segment];
+
+            for (int i = 0; i < count; i++) {
+                batch.add(segmentVals[relPos + i]);
+            }
+
+            res.set(keysArr[segment], segmentVals[relPos], segment);
+
+            return count;
+        }
+    }
+
+    /**
+     * Returns the segment of the absolute position.
+     *
+     * @param absPos Absolute position.
+     * @param fromSegment Segment to start the search from.
+     */
+    private int segment(int absPos, int fromSegment) {
+        int segment = fromSegment;
 
         if (absPos > lenSeq[segment]) {
             segment = Arrays.binarySearch(lenSeq, segment, lenSeq.length - 1, absPos);
@@ -148,13 +209,17 @@ public class IgniteConcurrentMultiPairQueue<K, V> {
             segment = segment < 0 ? -segment - 1 : segment;
         }
 
-        int relPos = segment == 0 ? absPos : (absPos - lenSeq[segment - 1] - 1);
-
-        K key = keysArr[segment];
-
-        res.set(key, vals[segment][relPos], segment);
+        return segment;
+    }
 
-        return true;
+    /**
+     * Returns the position inside the segment.
+     *
+     * @param absPos Absolute position.
+     * @param segment Segment of the position.
+     */
+    private int relativePosition(int absPos, int segment) {
+        return segment == 0 ? absPos : (absPos - lenSeq[segment - 1] - 1);
     }
 
     /**
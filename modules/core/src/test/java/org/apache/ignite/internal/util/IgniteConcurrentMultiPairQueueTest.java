@@ -150,6 +150,74 @@ public class IgniteConcurrentMultiPairQueueTest {
         assertEquals(queue2.initialSize(), arr1.length + arr2.length + arr3.length + arr4.length);
     }
 
+    @Test
+    void testNextBatch() throws Exception {
+        runMultiThreaded(() -> {
+            Result<Integer, Integer> res = new Result<>();
+
+            List<Integer> batch = new ArrayList<>();
+
+            while (queue.next(res, batch, 3) > 0) {
+                assertTrue(batch.size() <= 3);
+
+                assertEquals(batch.get(0), res.getValue());
+
+                for (Integer val : batch) {
+                    assertTrue(mapForCheck.containsKey(res.getKey()));
+
+                    assertTrue(mapForCheck.get(res.getKey()).remove(val));
+                }
+
+                Collection<Integer> coll = mapForCheck.get(res.getKey());
+
+                if (coll != null && coll.isEmpty()) {
+                    mapForCheck.remove(res.getKey(), coll);
+                }
+
+                batch.clear();
+            }
+
+            return null;
+        }, current().nextInt(1, 20), "GridConcurrentMultiPairQueue batch test");
+
+        assertTrue(mapForCheck.isEmpty());
+
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testNextBatchDoesNotMixKeys() {
+        IgniteConcurrentMultiPairQueue<Integer, Integer> pairQueue = new IgniteConcurrentMultiPairQueue<>(
+                List.of(new IgniteBiTuple<>(0, new Integer[]{1, 2, 3}), new IgniteBiTuple<>(1, new Integer[]{4, 5}))
+        );
+
+        Result<Integer, Integer> res = new Result<>();
+
+        List<Integer> batch = new ArrayList<>();
+
+        assertEquals(2, pairQueue.next(res, batch, 2));
+        assertEquals(List.of(1, 2), batch);
+        assertEquals(0, res.getKey());
+
+        batch.clear();
+
+        assertEquals(1, pairQueue.next(res, batch, 2));
+        assertEquals(List.of(3), batch);
+        assertEquals(0, res.getKey());
+
+        batch.clear();
+
+        assertEquals(2, pairQueue.next(res, batch, 10));
+        assertEquals(List.of(4, 5), batch);
+        assertEquals(1, res.getKey());
+
+        batch.clear();
+
+        assertEquals(0, pairQueue.next(res, batch, 10));
+        assertTrue(batch.isEmpty());
+        assertTrue(pairQueue.isEmpty());
+    }
+
     @Test
     void testSize() {
         assertEquals(0, EMPTY.size());
@@ -153,6 +153,20 @@ public class AsyncFileIo extends AbstractFileIo {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> writeFullyAsync(ByteBuffer srcBuf, long position) {
+        WriteFullyFuture future = new WriteFullyFuture(srcBuf, position);
+
+        asyncFutures.add(future);
+
+        future.whenComplete((res, err) -> asyncFutures.remove(future));
+
+        ch.write(srcBuf, position, null, future);
+
+        return future;
+    }
+
     /** {@inheritDoc} */
     @Override
     public int write(byte[] buf, int off, int len) throws IOException {
@@ -240,4 +254,38 @@ public class AsyncFileIo extends AbstractFileIo {
             super.completeExceptionally(exc);
         }
     }
+
+    /**
+     * {@link ChannelOpFuture} that writes the remaining bytes of the buffer until it is fully written.
+     */
+    private class WriteFullyFuture extends ChannelOpFuture {
+        private final ByteBuffer buf;
+
+        private final long position;
+
+        private int written;
+
+        /**
+         * Constructor.
+         *
+         * @param buf Source buffer.
+         * @param position Starting file position.
+         */
+        private WriteFullyFuture(ByteBuffer buf, long position) {
+            this.buf = buf;
+            this.position = position;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void completed(Integer res, AsyncFileIo attach) {
+            written += res;
+
+            if (buf.hasRemaining()) {
+                ch.write(buf, position + written, null, this);
+            } else {
+                super.completed(written, null);
+            }
+        }
+    }
 }
@@ -17,11 +17,15 @@
 
 package org.apache.ignite.internal.fileio;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface to perform file I/O operations.
@@ -163,6 +167,24 @@ public interface FileIo extends AutoCloseable {
      */
     int writeFully(ByteBuffer srcBuf, long position) throws IOException;
 
+    /**
+     * Writes the entire {@code srcBuf} to this file starting from specified file {@code position} without waiting for the completion of
+     * the operation. Does not change the current file position, the buffer must not be changed until the returned future completes.
+     *
+     * <p>By default, the bytes are written synchronously by {@link #writeFully(ByteBuffer, long)}.
+     *
+     * @param srcBuf Source buffer.
+     * @param position Starting file position.
+     * @return Future that completes with the number of written bytes, or exceptionally with {@link IOException} if some I/O error occurs.
+     */
+    default CompletableFuture<Integer> writeFullyAsync(ByteBuffer srcBuf, long position) {
+        try {
+            return completedFuture(writeFully(srcBuf, position));
+        } catch (IOException e) {
+            return failedFuture(e);
+        }
+    }
+
     /**
      * Writes {@code len} bytes from the {@code buf} starting at offset {@code off} to this file.
      *
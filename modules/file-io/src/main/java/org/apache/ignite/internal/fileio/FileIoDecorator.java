@@ -22,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Decorator class for {@link FileIo}.
@@ -87,6 +88,12 @@ public class FileIoDecorator extends AbstractFileIo {
         return delegate.write(buf, off, len);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Integer> writeFullyAsync(ByteBuffer srcBuf, long position) {
+        return delegate.writeFullyAsync(srcBuf, position);
+    }
+
     /** {@inheritDoc} */
     @Override
     public MappedByteBuffer map(int sizeBytes) throws IOException {
@@ -129,6 +129,11 @@ public abstract class AbstractFileIoTest {
         checkWriteByPositionOperation((fileIo, position, buffer) -> fileIo.writeFully(buffer, position));
     }
 
+    @Test
+    void testWriteByPositionFullyAsync() throws Exception {
+        checkWriteByPositionOperation((fileIo, position, buffer) -> fileIo.writeFullyAsync(buffer, position).join());
+    }
+
     @Test
     void testWriteFromByteArrayFully() throws Exception {
         checkWriteFromByteArrayOperation((fileIo, off, bytes) -> fileIo.writeFully(bytes, (int) off, Math.min(1024, bytes.length)));
@@ -30,6 +30,7 @@ public class HashIndex implements Index<IndexDescriptor> {
     private final UUID id;
     private final UUID tableId;
     private final IndexDescriptor descriptor;
+    private volatile boolean available;
 
     /**
      * Constructs the index.
@@ -68,6 +69,18 @@ public class HashIndex implements Index<IndexDescriptor> {
         return descriptor;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean available() {
+        return available;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void markAvailable() {
+        available = true;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Cursor<BinaryTuple> scan(BinaryTuple key, BitSet columns) {
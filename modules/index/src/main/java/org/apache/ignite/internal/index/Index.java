@@ -38,6 +38,15 @@ public interface Index<DescriptorT extends IndexDescriptor> {
 
     DescriptorT descriptor();
 
+    /**
+     * Returns {@code true} if the index has been built over the data of the local partitions of the table, so it can be used by the
+     * queries.
+     */
+    boolean available();
+
+    /** Marks the index as built over the data of the local partitions of the table. */
+    void markAvailable();
+
     /** Returns cursor for the values corresponding to the given key. */
     Cursor<BinaryTuple> scan(BinaryTuple key, BitSet columns);
 }
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.index;
 
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.apache.ignite.internal.schema.SchemaUtils.canonicalName;
+import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,6 +27,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -411,6 +413,8 @@ public class IndexManager extends Producer<IndexEvent, IndexEventParameters> imp
 
             indexByName.remove(index.name(), index);
 
+            tableManager.cancelIndexBuild(index.id());
+
             fireEvent(IndexEvent.DROP, new IndexEventParameters(evt.storageRevision(), index.id()), null);
         } finally {
             busyLock.leaveBusy();
@@ -467,6 +471,19 @@ public class IndexManager extends Producer<IndexEvent, IndexEventParameters> imp
 
         fireEvent(IndexEvent.CREATE, new IndexEventParameters(causalityToken, index), null);
 
+        // The index is hidden from the queries until the existing data is indexed.
+        tableManager.buildIndexAsync(tableId, index.id()).whenComplete((res, th) -> {
+            if (th == null) {
+                index.markAvailable();
+
+                LOG.info("Index is available [name={}, id={}, tableId={}]", index.name(), index.id(), tableId);
+            } else if (unwrapCause(th) instanceof CancellationException || unwrapCause(th) instanceof NodeStoppingException) {
+                LOG.info("Index build cancelled [name={}, id={}, tableId={}]", index.name(), index.id(), tableId);
+            } else {
+                LOG.warn("Unable to build index [name={}, id={}, tableId={}]", th, index.name(), index.id(), tableId);
+            }
+        });
+
         return CompletableFuture.completedFuture(null);
     }
 
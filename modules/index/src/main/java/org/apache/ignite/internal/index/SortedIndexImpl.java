@@ -30,6 +30,7 @@ public class SortedIndexImpl implements SortedIndex {
     private final UUID id;
     private final UUID tableId;
     private final SortedIndexDescriptor descriptor;
+    private volatile boolean available;
 
     /**
      * Constructs the sorted index.
@@ -68,6 +69,18 @@ public class SortedIndexImpl implements SortedIndex {
         return descriptor;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean available() {
+        return available;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void markAvailable() {
+        available = true;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Cursor<BinaryTuple> scan(BinaryTuple key, BitSet columns) {
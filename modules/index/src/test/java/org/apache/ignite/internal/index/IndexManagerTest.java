@@ -23,7 +23,9 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -308,6 +310,8 @@ public class IndexManagerTest {
             listener.onCreate(createConfigurationEventIndexAddedMock(indexId, tableId, indexName));
         };
 
+        when(tableManagerMock.buildIndexAsync(tableId, indexId)).thenReturn(new CompletableFuture<>());
+
         var indexManager = new IndexManager(tableManagerMock, listenerConsumer);
 
         AtomicReference<IndexEventParameters> holder = new AtomicReference<>();
@@ -326,6 +330,41 @@ public class IndexManagerTest {
         assertThat(holder.get().index().name(), equalTo("PUBLIC." + indexName));
     }
 
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    public void indexIsAvailableWhenBuilt() {
+        var tableManagerMock = mock(TableManager.class);
+        var indexId = UUID.randomUUID();
+        var tableId = UUID.randomUUID();
+
+        Consumer<ConfigurationNamedListListener<TableIndexView>> listenerConsumer = listener -> {
+            listener.onCreate(createConfigurationEventIndexAddedMock(indexId, tableId, "idxName"));
+        };
+
+        var buildFuture = new CompletableFuture<Void>();
+
+        when(tableManagerMock.buildIndexAsync(tableId, indexId)).thenReturn(buildFuture);
+
+        var indexManager = new IndexManager(tableManagerMock, listenerConsumer);
+
+        AtomicReference<Index<?>> holder = new AtomicReference<>();
+
+        indexManager.listen(IndexEvent.CREATE, (param, th) -> {
+            holder.set(param.index());
+
+            return CompletableFuture.completedFuture(true);
+        });
+
+        indexManager.start();
+
+        assertThat(holder.get(), notNullValue());
+        assertFalse(holder.get().available());
+
+        buildFuture.complete(null);
+
+        assertTrue(holder.get().available());
+    }
+
     @SuppressWarnings("unchecked")
     private ConfigurationNotificationEvent<TableIndexView> createConfigurationEventIndexAddedMock(
             UUID indexId,
@@ -66,6 +66,7 @@ import java.util.stream.Collectors;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.metastorage.common.OperationType;
+import org.apache.ignite.internal.metastorage.common.command.RangeCommand;
 import org.apache.ignite.internal.metastorage.server.AbstractCompoundCondition;
 import org.apache.ignite.internal.metastorage.server.AbstractSimpleCondition;
 import org.apache.ignite.internal.metastorage.server.AndCondition;
@@ -654,6 +655,53 @@ public class ItMetaStorageServiceTest {
         verify(cursorMock, times(1)).close();
     }
 
+    /**
+     * Tests that {@link MetaStorageService#range(ByteArray, ByteArray, long)}} cursor retrieves the entries in batches, and the
+     * server side cursor is closed when it's exhausted.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRangeMultipleBatches() throws Exception {
+        ByteArray expKeyFrom = new ByteArray(new byte[]{1});
+
+        int entriesCnt = RangeCommand.DEFAULT_BATCH_SIZE * 2 + 1;
+
+        List<org.apache.ignite.internal.metastorage.server.Entry> srvEntries = new ArrayList<>(entriesCnt);
+        List<Entry> expEntries = new ArrayList<>(entriesCnt);
+
+        for (int i = 0; i < entriesCnt; i++) {
+            byte[] key = {(byte) (i >> 8), (byte) i};
+
+            srvEntries.add(new org.apache.ignite.internal.metastorage.server.Entry(key, new byte[]{2}, 10, i));
+            expEntries.add(new EntryImpl(new ByteArray(key), new byte[]{2}, 10, i));
+        }
+
+        Iterator<org.apache.ignite.internal.metastorage.server.Entry> srvIt = srvEntries.iterator();
+
+        Cursor cursorMock = mock(Cursor.class);
+
+        when(cursorMock.hasNext()).thenAnswer(invocation -> srvIt.hasNext());
+        when(cursorMock.next()).thenAnswer(invocation -> srvIt.next());
+
+        when(mockStorage.range(expKeyFrom.bytes(), null, false)).thenReturn(cursorMock);
+
+        Cursor<Entry> cursor = metaStorageSvc.range(expKeyFrom, null);
+
+        List<Entry> entries = new ArrayList<>();
+
+        cursor.forEach(entries::add);
+
+        assertEquals(expEntries, entries);
+
+        verify(cursorMock, times(1)).close();
+
+        // The exhausted cursor is already closed on the server side.
+        cursor.close();
+
+        verify(cursorMock, times(1)).close();
+    }
+
     @Test
     public void testWatchOnUpdate() throws Exception {
         org.apache.ignite.internal.metastorage.server.WatchEvent expectedEvent =
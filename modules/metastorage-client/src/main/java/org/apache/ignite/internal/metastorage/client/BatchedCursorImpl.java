@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.client;
+
+import static org.apache.ignite.internal.util.ExceptionUtils.withCauseAndCode;
+import static org.apache.ignite.lang.ErrorGroups.MetaStorage.CURSOR_CLOSING_ERR;
+import static org.apache.ignite.lang.ErrorGroups.MetaStorage.CURSOR_EXECUTION_ERR;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metastorage.common.MetaStorageException;
+import org.apache.ignite.internal.metastorage.common.command.CursorBatchResponse;
+import org.apache.ignite.internal.metastorage.common.command.SingleEntryResponse;
+import org.apache.ignite.internal.metastorage.common.command.cursor.CursorCloseCommand;
+import org.apache.ignite.internal.metastorage.common.command.cursor.CursorNextBatchCommand;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.lang.IgniteUuid;
+import org.apache.ignite.lang.NodeStoppingException;
+import org.apache.ignite.raft.client.service.RaftGroupService;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Meta storage service side implementation of a range cursor that retrieves the entries in batches.
+ *
+ * <p>The first batch is requested on the first access to the cursor. Every next batch is requested as soon as the previous one is
+ * received, so it's transferred while the previous one is consumed. The server side cursor is closed by the server when the last
+ * batch is sent, so {@link #close()} is a no-op for an exhausted cursor.
+ *
+ * <p>The cursor is not thread-safe.
+ *
+ * @param <T> Cursor parameter.
+ */
+public class BatchedCursorImpl<T> implements Cursor<T> {
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(BatchedCursorImpl.class);
+
+    /** Future that runs meta storage service operation that provides cursor. */
+    private final CompletableFuture<IgniteUuid> initOp;
+
+    /** Meta storage raft group service. */
+    private final RaftGroupService metaStorageRaftGrpSvc;
+
+    /** Function transforming the entries of the batches to the type of {@link T}. */
+    private final Function<SingleEntryResponse, T> fn;
+
+    /** Entries of the current batch. */
+    private Iterator<T> batchIt = Collections.emptyIterator();
+
+    /** Future of the next batch, {@code null} if the batch is not requested yet. */
+    @Nullable
+    private CompletableFuture<CursorBatchResponse> nextBatchFut;
+
+    /** {@code true} if the last batch is received, so the server side cursor is closed. */
+    private boolean exhausted;
+
+    /**
+     * Constructor.
+     *
+     * @param metaStorageRaftGrpSvc Meta storage raft group service.
+     * @param initOp                Future that runs meta storage service operation that provides cursor.
+     * @param fn                    Function transforming the entries of the batches to the type of {@link T}.
+     */
+    BatchedCursorImpl(
+            RaftGroupService metaStorageRaftGrpSvc,
+            CompletableFuture<IgniteUuid> initOp,
+            Function<SingleEntryResponse, T> fn
+    ) {
+        this.metaStorageRaftGrpSvc = metaStorageRaftGrpSvc;
+        this.initOp = initOp;
+        this.fn = fn;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (exhausted) {
+            return;
+        }
+
+        exhausted = true;
+
+        batchIt = Collections.emptyIterator();
+
+        CompletableFuture<CursorBatchResponse> fut = nextBatchFut;
+
+        nextBatchFut = null;
+
+        try {
+            // The close command is sent after the pending batch request, unless the batch turns out to be the last one.
+            CompletableFuture<Boolean> open = fut == null
+                    ? CompletableFuture.completedFuture(true)
+                    : fut.handle((resp, e) -> resp == null || resp.hasNextBatch());
+
+            open.thenCompose(o -> o
+                    ? initOp.thenCompose(cursorId -> metaStorageRaftGrpSvc.<Void>run(new CursorCloseCommand(cursorId)))
+                    : CompletableFuture.<Void>completedFuture(null)
+            ).get();
+        } catch (InterruptedException | ExecutionException e) {
+            if (e.getCause() instanceof NodeStoppingException) {
+                return;
+            }
+
+            LOG.debug("Unable to evaluate cursor close command", e);
+
+            throw withCauseAndCode(MetaStorageException::new, CURSOR_CLOSING_ERR, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        while (!batchIt.hasNext()) {
+            if (exhausted) {
+                return false;
+            }
+
+            CursorBatchResponse batch;
+
+            try {
+                batch = requestNextBatch().get();
+            } catch (InterruptedException | ExecutionException e) {
+                Throwable cause = e.getCause();
+
+                // The server side cursor is either closed or can't be reached anymore.
+                if (cause instanceof NodeStoppingException || cause instanceof NoSuchElementException) {
+                    exhausted = true;
+
+                    nextBatchFut = null;
+
+                    return false;
+                }
+
+                LOG.debug("Unable to evaluate cursor next batch command", e);
+
+                throw withCauseAndCode(MetaStorageException::new, CURSOR_EXECUTION_ERR, e);
+            }
+
+            nextBatchFut = null;
+
+            if (batch.hasNextBatch()) {
+                // Prefetch the next batch while the current one is consumed.
+                requestNextBatch();
+            } else {
+                exhausted = true;
+            }
+
+            batchIt = batch.entries().stream().map(fn).iterator();
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return batchIt.next();
+    }
+
+    /**
+     * Returns the future of the next batch, the batch is requested if it's not requested yet.
+     */
+    private CompletableFuture<CursorBatchResponse> requestNextBatch() {
+        if (nextBatchFut == null) {
+            nextBatchFut = initOp.thenCompose(cursorId -> metaStorageRaftGrpSvc.run(new CursorNextBatchCommand(cursorId)));
+        }
+
+        return nextBatchFut;
+    }
+}
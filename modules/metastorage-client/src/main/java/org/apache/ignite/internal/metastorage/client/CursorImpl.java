@@ -36,10 +36,9 @@ import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.lang.NodeStoppingException;
 import org.apache.ignite.raft.client.service.RaftGroupService;
-import org.jetbrains.annotations.Nullable;
 
 /**
- * Meta storage service side implementation of cursor.
+ * Meta storage service side implementation of a watch cursor, which fetches one event per {@link CursorNextCommand}.
  *
  * @param <T> Cursor parameter.
  */
@@ -60,8 +59,7 @@ public class CursorImpl<T> implements Cursor<T> {
      *
      * @param metaStorageRaftGrpSvc Meta storage raft group service.
      * @param initOp                Future that runs meta storage service operation that provides cursor.
-     * @param fn                    Function transforming the result of {@link CursorNextCommand} to the type of {@link T},
-     *                              or to the {@link Iterable} of type {@link T} if needed.
+     * @param fn                    Function transforming the result of {@link CursorNextCommand} to the type of {@link T}.
      */
     CursorImpl(
             RaftGroupService metaStorageRaftGrpSvc,
@@ -79,8 +77,6 @@ public class CursorImpl<T> implements Cursor<T> {
         try {
             initOp.thenCompose(
                     cursorId -> metaStorageRaftGrpSvc.run(new CursorCloseCommand(cursorId))).get();
-
-            ((InnerIterator) it).close();
         } catch (InterruptedException | ExecutionException e) {
             if (e.getCause() instanceof NodeStoppingException) {
                 return;
@@ -110,9 +106,6 @@ public class CursorImpl<T> implements Cursor<T> {
     private class InnerIterator implements Iterator<T> {
         private final Function<Object, Object> fn;
 
-        @Nullable
-        private Iterator<T> internalCacheIterator;
-
         public InnerIterator(Function<Object, Object> fn) {
             this.fn = fn;
         }
@@ -121,13 +114,9 @@ public class CursorImpl<T> implements Cursor<T> {
         @Override
         public boolean hasNext() {
             try {
-                if (internalCacheIterator != null && internalCacheIterator.hasNext()) {
-                    return true;
-                } else {
-                    return initOp
-                            .thenCompose(cursorId -> metaStorageRaftGrpSvc.<Boolean>run(new CursorHasNextCommand(cursorId)))
-                            .get();
-                }
+                return initOp
+                        .thenCompose(cursorId -> metaStorageRaftGrpSvc.<Boolean>run(new CursorHasNextCommand(cursorId)))
+                        .get();
             } catch (InterruptedException | ExecutionException e) {
                 if (e.getCause() instanceof NodeStoppingException) {
                     return false;
@@ -143,23 +132,11 @@ public class CursorImpl<T> implements Cursor<T> {
         @Override
         public T next() {
             try {
-                if (internalCacheIterator != null && internalCacheIterator.hasNext()) {
-                    return internalCacheIterator.next();
-                } else {
-                    Object res = initOp
-                            .thenCompose(cursorId -> metaStorageRaftGrpSvc.run(new CursorNextCommand(cursorId)))
-                            .get();
-
-                    Object transformed = fn.apply(res);
-
-                    if (transformed instanceof Iterable) {
-                        internalCacheIterator = ((Iterable<T>) transformed).iterator();
-
-                        return internalCacheIterator.next();
-                    } else {
-                        return (T) transformed;
-                    }
-                }
+                Object res = initOp
+                        .thenCompose(cursorId -> metaStorageRaftGrpSvc.run(new CursorNextCommand(cursorId)))
+                        .get();
+
+                return (T) fn.apply(res);
             } catch (InterruptedException | ExecutionException e) {
                 Throwable cause = e.getCause();
 
@@ -176,9 +153,5 @@ public class CursorImpl<T> implements Cursor<T> {
                 throw withCauseAndCode(MetaStorageException::new, CURSOR_EXECUTION_ERR, e);
             }
         }
-
-        public void close() {
-            internalCacheIterator = null;
-        }
     }
 }
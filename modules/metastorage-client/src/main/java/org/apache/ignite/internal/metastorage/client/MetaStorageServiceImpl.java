@@ -17,7 +17,6 @@
 
 package org.apache.ignite.internal.metastorage.client;
 
-import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.lang.ErrorGroups.MetaStorage.WATCH_STOPPING_ERR;
 
 import java.util.ArrayList;
@@ -230,7 +229,7 @@ public class MetaStorageServiceImpl implements MetaStorageService {
             long revUpperBound,
             boolean includeTombstones
     ) {
-        return new CursorImpl<>(
+        return new BatchedCursorImpl<>(
                 metaStorageRaftGrpSvc,
                 metaStorageRaftGrpSvc.run(
                         RangeCommand.builder(keyFrom, localNodeId, uuidGenerator.randomUuid())
@@ -239,7 +238,7 @@ public class MetaStorageServiceImpl implements MetaStorageService {
                                 .includeTombstones(includeTombstones)
                                 .build()
                 ),
-                MetaStorageServiceImpl::multipleEntryResultForCache
+                MetaStorageServiceImpl::singleEntryResult
         );
     }
 
@@ -252,11 +251,15 @@ public class MetaStorageServiceImpl implements MetaStorageService {
     /** {@inheritDoc} */
     @Override
     public @NotNull Cursor<Entry> range(@NotNull ByteArray keyFrom, @Nullable ByteArray keyTo, boolean includeTombstones) {
-        return new CursorImpl<>(
-            metaStorageRaftGrpSvc,
-            metaStorageRaftGrpSvc.run(
-                RangeCommand.builder(keyFrom, localNodeId, uuidGenerator.randomUuid()).keyTo(keyTo).build()),
-            MetaStorageServiceImpl::multipleEntryResultForCache
+        return new BatchedCursorImpl<>(
+                metaStorageRaftGrpSvc,
+                metaStorageRaftGrpSvc.run(
+                        RangeCommand.builder(keyFrom, localNodeId, uuidGenerator.randomUuid())
+                                .keyTo(keyTo)
+                                .includeTombstones(includeTombstones)
+                                .build()
+                ),
+                MetaStorageServiceImpl::singleEntryResult
         );
     }
 
@@ -424,14 +427,6 @@ public class MetaStorageServiceImpl implements MetaStorageService {
         return res;
     }
 
-    private static List<Entry> multipleEntryResultForCache(Object obj) {
-        MultipleEntryResponse resp = (MultipleEntryResponse) obj;
-
-        return resp.entries().stream()
-            .map(MetaStorageServiceImpl::singleEntryResult)
-            .collect(toList());
-    }
-
     private static Entry singleEntryResult(Object obj) {
         SingleEntryResponse resp = (SingleEntryResponse) obj;
 
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.metastorage.common.command;
+
+import java.util.List;
+
+/**
+ * Defines response for the command which returns a batch of the entries of a cursor.
+ */
+public class CursorBatchResponse extends MultipleEntryResponse {
+    /** {@code true} if the cursor has more entries, {@code false} if it's exhausted and closed. */
+    private final boolean hasNextBatch;
+
+    /**
+     * Constructs the batch response.
+     *
+     * @param entries The list of single responses.
+     * @param hasNextBatch {@code true} if the cursor has more entries, {@code false} if it's exhausted and closed.
+     */
+    public CursorBatchResponse(List<SingleEntryResponse> entries, boolean hasNextBatch) {
+        super(entries);
+
+        this.hasNextBatch = hasNextBatch;
+    }
+
+    /**
+     * Returns {@code true} if the cursor has more entries, {@code false} if it's exhausted and closed.
+     */
+    public boolean hasNextBatch() {
+        return hasNextBatch;
+    }
+}
@@ -39,6 +39,7 @@ import org.apache.ignite.internal.metastorage.common.UpdateInfo;
 import org.apache.ignite.internal.metastorage.common.command.CompoundConditionInfo;
 import org.apache.ignite.internal.metastorage.common.command.CompoundConditionType;
 import org.apache.ignite.internal.metastorage.common.command.ConditionInfo;
+import org.apache.ignite.internal.metastorage.common.command.CursorBatchResponse;
 import org.apache.ignite.internal.metastorage.common.command.GetAllCommand;
 import org.apache.ignite.internal.metastorage.common.command.GetAndPutAllCommand;
 import org.apache.ignite.internal.metastorage.common.command.GetAndPutCommand;
@@ -61,6 +62,7 @@ import org.apache.ignite.internal.metastorage.common.command.WatchExactKeysComma
 import org.apache.ignite.internal.metastorage.common.command.WatchRangeKeysCommand;
 import org.apache.ignite.internal.metastorage.common.command.cursor.CursorCloseCommand;
 import org.apache.ignite.internal.metastorage.common.command.cursor.CursorHasNextCommand;
+import org.apache.ignite.internal.metastorage.common.command.cursor.CursorNextBatchCommand;
 import org.apache.ignite.internal.metastorage.common.command.cursor.CursorNextCommand;
 import org.apache.ignite.internal.metastorage.common.command.cursor.CursorsCloseCommand;
 import org.apache.ignite.internal.metastorage.server.AndCondition;
@@ -279,40 +281,59 @@ public class MetaStorageListener implements RaftGroupListener {
                     return;
                 }
 
+                assert cursorDesc.type() == CursorType.WATCH
+                        : "Range cursors are read in batches [type=" + cursorDesc.type() + ']';
+
                 try {
-                    if (cursorDesc.type() == CursorType.RANGE) {
-                        int batchSize = requireNonNull(cursorDesc.batchSize());
+                    WatchEvent evt = (WatchEvent) cursorDesc.cursor().next();
 
-                        List<SingleEntryResponse> resp = new ArrayList<>(batchSize);
+                    List<SingleEntryResponse> resp = new ArrayList<>(evt.entryEvents().size() * 2);
 
-                        for (int i = 0; i < batchSize; i++) {
-                            if (cursorDesc.cursor().hasNext()) {
-                                Entry e = (Entry) cursorDesc.cursor().next();
+                    for (EntryEvent e : evt.entryEvents()) {
+                        Entry o = e.oldEntry();
 
-                                resp.add(new SingleEntryResponse(e.key(), e.value(), e.revision(), e.updateCounter()));
-                            } else {
-                                break;
-                            }
-                        }
+                        Entry n = e.entry();
+
+                        resp.add(new SingleEntryResponse(o.key(), o.value(), o.revision(), o.updateCounter()));
+
+                        resp.add(new SingleEntryResponse(n.key(), n.value(), n.revision(), n.updateCounter()));
+                    }
+
+                    clo.result(new MultipleEntryResponse(resp));
+                } catch (NoSuchElementException e) {
+                    clo.result(e);
+                }
+            } else if (command instanceof CursorNextBatchCommand) {
+                CursorNextBatchCommand cursorNextBatchCmd = (CursorNextBatchCommand) command;
+
+                CursorMeta cursorDesc = cursors.get(cursorNextBatchCmd.cursorId());
 
-                        clo.result(new MultipleEntryResponse(resp));
-                    } else if (cursorDesc.type() == CursorType.WATCH) {
-                        WatchEvent evt = (WatchEvent) cursorDesc.cursor().next();
+                if (cursorDesc == null) {
+                    clo.result(new NoSuchElementException("Corresponding cursor on the server side is not found."));
 
-                        List<SingleEntryResponse> resp = new ArrayList<>(evt.entryEvents().size() * 2);
+                    return;
+                }
 
-                        for (EntryEvent e : evt.entryEvents()) {
-                            Entry o = e.oldEntry();
+                assert cursorDesc.type() == CursorType.RANGE
+                        : "Batches are supported by range cursors only [type=" + cursorDesc.type() + ']';
 
-                            Entry n = e.entry();
+                try {
+                    List<SingleEntryResponse> batch = nextBatch(cursorDesc);
 
-                            resp.add(new SingleEntryResponse(o.key(), o.value(), o.revision(), o.updateCounter()));
+                    boolean hasNextBatch = cursorDesc.cursor().hasNext();
 
-                            resp.add(new SingleEntryResponse(n.key(), n.value(), n.revision(), n.updateCounter()));
-                        }
+                    // The exhausted cursor is closed right away, so the client doesn't need another round trip to close it.
+                    if (!hasNextBatch) {
+                        cursors.remove(cursorNextBatchCmd.cursorId());
 
-                        clo.result(new MultipleEntryResponse(resp));
+                        try {
+                            cursorDesc.cursor().close();
+                        } catch (Exception e) {
+                            throw new MetaStorageException(CURSOR_CLOSING_ERR, e);
+                        }
                     }
+
+                    clo.result(new CursorBatchResponse(batch, hasNextBatch));
                 } catch (NoSuchElementException e) {
                     clo.result(e);
                 }
@@ -518,6 +539,26 @@ public class MetaStorageListener implements RaftGroupListener {
         return ops;
     }
 
+    /**
+     * Moves a range cursor to the next batch of the entries.
+     *
+     * @param cursorDesc Range cursor meta.
+     * @return Entries, at most {@link CursorMeta#batchSize()} of them.
+     */
+    private static List<SingleEntryResponse> nextBatch(CursorMeta cursorDesc) {
+        int batchSize = requireNonNull(cursorDesc.batchSize());
+
+        List<SingleEntryResponse> resp = new ArrayList<>(batchSize);
+
+        for (int i = 0; i < batchSize && cursorDesc.cursor().hasNext(); i++) {
+            Entry e = (Entry) cursorDesc.cursor().next();
+
+            resp.add(new SingleEntryResponse(e.key(), e.value(), e.revision(), e.updateCounter()));
+        }
+
+        return resp;
+    }
+
     /**
      * Cursor meta information: origin node id and type.
      */
@@ -60,4 +60,16 @@ public interface NetworkMessage {
     default boolean needAck() {
         return true;
     }
+
+    /**
+     * Returns {@code true} if this message is bulk traffic, i.e. it is large or is sent in large numbers and its latency is not
+     * critical, {@code false} otherwise. Bulk messages are sent over dedicated connections, so they don't delay the other
+     * messages, e.g. Raft heartbeats. Bulk messages sent to a node by the same thread keep their order, but they may be reordered
+     * with the other messages.
+     *
+     * @return {@code true} if this message is bulk traffic, {@code false} otherwise.
+     */
+    default boolean bulk() {
+        return false;
+    }
 }
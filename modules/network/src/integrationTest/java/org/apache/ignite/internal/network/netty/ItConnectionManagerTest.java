@@ -21,6 +21,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -171,6 +172,45 @@ public class ItConnectionManagerTest {
         assertEquals(msgText, ((TestMessage) receivedMessage).msg());
     }
 
+    /**
+     * Tests that connections with different ids are established independently, and an incoming connection is reused only for
+     * sending messages with the same connection id.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConnectionsWithDifferentIds() throws Exception {
+        TestMessage testMessage = messageFactory.testMessage().msg("test").build();
+
+        int port1 = 4000;
+        int port2 = 4001;
+
+        ConnectionManager manager1 = startManager(port1).get1();
+        ConnectionManager manager2 = startManager(port2).get1();
+
+        NettySender defaultSender = manager1.channel(null, new InetSocketAddress(port2)).get(3, TimeUnit.SECONDS);
+        NettySender bulkSender = manager1.channel(null, new InetSocketAddress(port2), (short) 1).get(3, TimeUnit.SECONDS);
+
+        assertEquals(ConnectionManager.DEFAULT_CONNECTION_ID, defaultSender.connectionId());
+        assertEquals(1, bulkSender.connectionId());
+        assertNotEquals(defaultSender.channel().localAddress(), bulkSender.channel().localAddress());
+
+        // Ensure a handshake has finished on both sides by sending a message.
+        var messageReceivedOn2 = new CompletableFuture<Void>();
+
+        manager2.addListener((message) -> messageReceivedOn2.complete(null));
+
+        bulkSender.send(new OutNetworkObject(testMessage, Collections.emptyList()));
+
+        messageReceivedOn2.get(3, TimeUnit.SECONDS);
+
+        NettySender bulkSenderFrom2to1 = manager2.channel(manager1.consistentId(), new InetSocketAddress(port1), (short) 1)
+                .get(3, TimeUnit.SECONDS);
+
+        assertEquals(1, bulkSenderFrom2to1.connectionId());
+        assertEquals(bulkSender.channel().localAddress(), bulkSenderFrom2to1.channel().remoteAddress());
+    }
+
     /**
      * Tests that the resources of a connection manager are closed after a shutdown.
      *
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network;
+
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+
+/**
+ * Metric source of the inter-node network transport.
+ */
+public class NetworkMetricSource extends AbstractMetricSource<NetworkMetricSource.Holder> {
+    /** Source name. */
+    public static final String SOURCE_NAME = "network";
+
+    /** Bounds of the messages per flush distribution. */
+    private static final long[] MESSAGES_PER_FLUSH_BOUNDS = {1, 2, 4, 8, 16, 32, 64, 128};
+
+    /**
+     * Constructor.
+     */
+    public NetworkMetricSource() {
+        super(SOURCE_NAME);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void init(MetricSetBuilder bldr, Holder holder) {
+        holder.sent = bldr.longAdder("SentMessages", "Total number of the messages written to the outbound channels.");
+
+        holder.flushes = bldr.longAdder("Flushes", "Total number of the flushes of the outbound channels.");
+
+        holder.messagesPerFlush = bldr.distribution(
+                "MessagesPerFlush",
+                "Distribution of the number of the messages written to an outbound channel between two flushes.",
+                MESSAGES_PER_FLUSH_BOUNDS
+        );
+
+        holder.compressedIn = bldr.longAdder("CompressedBytesIn", "Total size of the outbound data that was compressed.");
+
+        holder.compressedOut = bldr.longAdder("CompressedBytesOut", "Total size of the outbound data after compression.");
+
+        holder.compressionTime = bldr.longAdder("CompressionTime", "Total time spent compressing the outbound data, in nanoseconds.");
+
+        holder.decompressedIn = bldr.longAdder("DecompressedBytesIn", "Total size of the compressed inbound data.");
+
+        holder.decompressedOut = bldr.longAdder("DecompressedBytesOut", "Total size of the inbound data after decompression.");
+
+        holder.decompressionTime = bldr.longAdder(
+                "DecompressionTime",
+                "Total time spent decompressing the inbound data, in nanoseconds."
+        );
+    }
+
+    /**
+     * Records a flush of an outbound channel.
+     *
+     * @param messages Number of the messages written to the channel since the previous flush.
+     */
+    public void onFlush(int messages) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.sent.add(messages);
+            holder.flushes.increment();
+            holder.messagesPerFlush.add(messages);
+        }
+    }
+
+    /**
+     * Records a compressed block of the outbound data.
+     *
+     * @param srcBytes Size of the data.
+     * @param dstBytes Size of the compressed data.
+     * @param nanos Time spent compressing the data.
+     */
+    public void onCompression(int srcBytes, int dstBytes, long nanos) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.compressedIn.add(srcBytes);
+            holder.compressedOut.add(dstBytes);
+            holder.compressionTime.add(nanos);
+        }
+    }
+
+    /**
+     * Records a decompressed block of the inbound data.
+     *
+     * @param srcBytes Size of the compressed data.
+     * @param dstBytes Size of the decompressed data.
+     * @param nanos Time spent decompressing the data.
+     */
+    public void onDecompression(int srcBytes, int dstBytes, long nanos) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.decompressedIn.add(srcBytes);
+            holder.decompressedOut.add(dstBytes);
+            holder.decompressionTime.add(nanos);
+        }
+    }
+
+    /**
+     * Holder class.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private LongAdderMetric sent;
+
+        private LongAdderMetric flushes;
+
+        private DistributionMetric messagesPerFlush;
+
+        private LongAdderMetric compressedIn;
+
+        private LongAdderMetric compressedOut;
+
+        private LongAdderMetric compressionTime;
+
+        private LongAdderMetric decompressedIn;
+
+        private LongAdderMetric decompressedOut;
+
+        private LongAdderMetric decompressionTime;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.HEADER_SIZE;
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.LZ4;
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.MAX_LZ4_FRAME_SIZE;
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.RAW;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.apache.ignite.internal.network.NetworkMetricSource;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Unpacks the frames written by {@link CompressionEncoder}.
+ */
+public class CompressionDecoder extends ByteToMessageDecoder {
+    /** Handler name. */
+    public static final String NAME = "compression-decoder";
+
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final @Nullable NetworkMetricSource metricSource;
+
+    /**
+     * Constructor.
+     *
+     * @param metricSource Network metric source or {@code null} if metrics are not collected.
+     */
+    public CompressionDecoder(@Nullable NetworkMetricSource metricSource) {
+        this.metricSource = metricSource;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        while (in.readableBytes() >= HEADER_SIZE) {
+            int idx = in.readerIndex();
+
+            byte type = in.getByte(idx);
+            int len = in.getInt(idx + 1);
+
+            if (in.readableBytes() < HEADER_SIZE + len) {
+                return;
+            }
+
+            in.skipBytes(HEADER_SIZE);
+
+            if (type == RAW) {
+                out.add(in.readRetainedSlice(len));
+            } else if (type == LZ4) {
+                out.add(decompress(ctx, in, len));
+            } else {
+                throw new CorruptedFrameException("Unknown frame type: " + type);
+            }
+        }
+    }
+
+    private ByteBuf decompress(ChannelHandlerContext ctx, ByteBuf in, int len) {
+        long start = System.nanoTime();
+
+        int compressedLen = len - Integer.BYTES;
+        int decompressedLen = in.readInt();
+
+        if (decompressedLen < 0 || decompressedLen > MAX_LZ4_FRAME_SIZE) {
+            throw new CorruptedFrameException("Invalid size of the decompressed frame: " + decompressedLen);
+        }
+
+        ByteBuf res = ctx.alloc().ioBuffer(decompressedLen);
+
+        try {
+            ByteBuffer src = in.nioBuffer(in.readerIndex(), compressedLen);
+            ByteBuffer dst = res.internalNioBuffer(0, decompressedLen);
+
+            int read = decompressor.decompress(src, src.position(), dst, dst.position(), decompressedLen);
+
+            if (read != compressedLen) {
+                throw new CorruptedFrameException("Invalid size of the compressed frame [expected=" + compressedLen
+                        + ", actual=" + read + ']');
+            }
+        } catch (RuntimeException e) {
+            res.release();
+
+            throw e;
+        }
+
+        res.writerIndex(decompressedLen);
+
+        in.skipBytes(compressedLen);
+
+        if (metricSource != null) {
+            metricSource.onDecompression(compressedLen, decompressedLen, System.nanoTime() - start);
+        }
+
+        return res;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import org.apache.ignite.internal.network.NetworkMetricSource;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Outbound handler that packs the written bytes into frames, see {@link CompressionDecoder} for the reverse operation.
+ *
+ * <p>Messages are streamed as a sequence of chunks without any framing, so the bytes written between two flushes are collected
+ * into one frame. A frame which is not smaller than the threshold is compressed with LZ4, unless the compression doesn't make it
+ * any smaller. Frame format:
+ * <pre>
+ *     | type (1 byte) | length (4 bytes) | payload (length bytes) |
+ * </pre>
+ * where the payload of an {@link #LZ4} frame starts with the 4 bytes of the length of the uncompressed data.
+ */
+public class CompressionEncoder extends ChannelOutboundHandlerAdapter {
+    /** Handler name. */
+    public static final String NAME = "compression-encoder";
+
+    /** Type of a frame with uncompressed payload. */
+    static final byte RAW = 0;
+
+    /** Type of a frame with LZ4 compressed payload. */
+    static final byte LZ4 = 1;
+
+    /** Size of the frame header. */
+    static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+    /** Maximum size of the uncompressed data in a frame, a frame is written without waiting for the flush once it is reached. */
+    static final int MAX_FRAME_SIZE = 64 * 1024;
+
+    /** Maximum size of the uncompressed data of an {@link #LZ4} frame, larger frames are written as is. */
+    static final int MAX_LZ4_FRAME_SIZE = 1024 * 1024;
+
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+
+    /** Minimal size of a frame to compress. */
+    private final int threshold;
+
+    private final @Nullable NetworkMetricSource metricSource;
+
+    /** Bytes written since the last frame. */
+    @Nullable
+    private CompositeByteBuf pending;
+
+    /** Promises of the writes of the {@link #pending} bytes. */
+    private final List<ChannelPromise> promises = new ArrayList<>();
+
+    /** Total size of the data which was compressed, updated from the event loop only. */
+    private volatile long uncompressedBytes;
+
+    /** Total size of the compressed data, updated from the event loop only. */
+    private volatile long compressedBytes;
+
+    /** Total time spent compressing the data, updated from the event loop only. */
+    private volatile long compressionNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param threshold Minimal size of a frame to compress.
+     * @param metricSource Network metric source or {@code null} if metrics are not collected.
+     */
+    public CompressionEncoder(int threshold, @Nullable NetworkMetricSource metricSource) {
+        assert threshold >= 0 : threshold;
+
+        this.threshold = threshold;
+        this.metricSource = metricSource;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof ByteBuf)) {
+            ctx.write(msg, promise);
+
+            return;
+        }
+
+        if (pending == null) {
+            pending = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
+        }
+
+        pending.addComponent(true, (ByteBuf) msg);
+
+        if (!promise.isVoid()) {
+            promises.add(promise);
+        }
+
+        if (pending.readableBytes() >= MAX_FRAME_SIZE) {
+            writeFrame(ctx);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        writeFrame(ctx);
+
+        ctx.flush();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (pending != null) {
+            ReferenceCountUtil.release(pending);
+
+            pending = null;
+        }
+
+        if (!promises.isEmpty()) {
+            var cause = new IllegalStateException("Channel is closed");
+
+            for (ChannelPromise promise : promises) {
+                promise.tryFailure(cause);
+            }
+
+            promises.clear();
+        }
+    }
+
+    /**
+     * Returns the ratio of the size of the compressed data to its uncompressed size or {@code 1} if nothing was compressed yet.
+     */
+    public double compressionRatio() {
+        return uncompressedBytes == 0 ? 1 : (double) compressedBytes / uncompressedBytes;
+    }
+
+    /**
+     * Returns the total time spent by this channel compressing the data, in nanoseconds.
+     */
+    public long compressionNanos() {
+        return compressionNanos;
+    }
+
+    private void writeFrame(ChannelHandlerContext ctx) {
+        CompositeByteBuf data = pending;
+
+        if (data == null) {
+            return;
+        }
+
+        pending = null;
+
+        int len = data.readableBytes();
+
+        ByteBuf frame = len >= threshold && len <= MAX_LZ4_FRAME_SIZE ? compress(ctx, data) : null;
+
+        if (frame == null) {
+            ByteBuf header = ctx.alloc().ioBuffer(HEADER_SIZE).writeByte(RAW).writeInt(len);
+
+            frame = ctx.alloc().compositeBuffer(2).addComponents(true, header, data);
+        } else {
+            data.release();
+        }
+
+        if (promises.isEmpty()) {
+            ctx.write(frame, ctx.voidPromise());
+        } else {
+            ChannelPromise[] framePromises = promises.toArray(ChannelPromise[]::new);
+
+            promises.clear();
+
+            ctx.write(frame).addListener(future -> {
+                for (ChannelPromise promise : framePromises) {
+                    if (future.isSuccess()) {
+                        promise.trySuccess();
+                    } else {
+                        promise.tryFailure(future.cause());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Compresses the data.
+     *
+     * @return Frame or {@code null} if the data is not compressible.
+     */
+    private @Nullable ByteBuf compress(ChannelHandlerContext ctx, ByteBuf data) {
+        long start = System.nanoTime();
+
+        int len = data.readableBytes();
+        int maxLen = compressor.maxCompressedLength(len);
+        int offset = HEADER_SIZE + Integer.BYTES;
+
+        ByteBuf frame = ctx.alloc().ioBuffer(offset + maxLen);
+
+        ByteBuffer src = data.nioBuffer();
+        ByteBuffer dst = frame.internalNioBuffer(0, offset + maxLen);
+
+        int compressedLen = compressor.compress(src, src.position(), len, dst, dst.position() + offset, maxLen);
+
+        if (compressedLen >= len) {
+            frame.release();
+
+            return null;
+        }
+
+        frame.writeByte(LZ4).writeInt(Integer.BYTES + compressedLen).writeInt(len);
+        frame.writerIndex(offset + compressedLen);
+
+        long nanos = System.nanoTime() - start;
+
+        uncompressedBytes += len;
+        compressedBytes += compressedLen;
+        compressionNanos += nanos;
+
+        if (metricSource != null) {
+            metricSource.onCompression(len, compressedLen, nanos);
+        }
+
+        return frame;
+    }
+}
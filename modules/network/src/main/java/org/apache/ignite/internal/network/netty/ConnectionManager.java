@@ -35,6 +35,7 @@ import org.apache.ignite.configuration.schemas.network.NetworkView;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
+import org.apache.ignite.internal.network.NetworkMetricSource;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
 import org.apache.ignite.internal.network.recovery.RecoveryClientHandshakeManager;
 import org.apache.ignite.internal.network.recovery.RecoveryDescriptorProvider;
@@ -42,6 +43,7 @@ import org.apache.ignite.internal.network.recovery.RecoveryServerHandshakeManage
 import org.apache.ignite.internal.network.serialization.SerializationService;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.network.NettyBootstrapFactory;
+import org.apache.ignite.network.NetworkMessage;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
@@ -58,18 +60,20 @@ public class ConnectionManager {
     /** Latest version of the direct marshalling protocol. */
     public static final byte DIRECT_PROTOCOL_VERSION = 1;
 
+    /** Id of the connection used for all the messages except the bulk ones. */
+    public static final short DEFAULT_CONNECTION_ID = 0;
+
     /** Client bootstrap. */
     private final Bootstrap clientBootstrap;
 
     /** Server. */
     private final NettyServer server;
 
-    // TODO: IGNITE-16948 Should be a map consistentId -> connectionId -> sender
-    /** Channels map from consistentId to {@link NettySender}. */
-    private final Map<String, NettySender> channels = new ConcurrentHashMap<>();
+    /** Channels map from consistentId and connection id to {@link NettySender}. */
+    private final Map<ConnectorKey<String>, NettySender> channels = new ConcurrentHashMap<>();
 
-    /** Clients. */
-    private final Map<SocketAddress, NettyClient> clients = new ConcurrentHashMap<>();
+    /** Clients by the remote address and connection id. */
+    private final Map<ConnectorKey<SocketAddress>, NettyClient> clients = new ConcurrentHashMap<>();
 
     /** Serialization service. */
     private final SerializationService serializationService;
@@ -89,6 +93,18 @@ public class ConnectionManager {
     /** Stop flag. */
     private final AtomicBoolean stopped = new AtomicBoolean(false);
 
+    /** Maximum number of the messages written to a channel between two flushes. */
+    private final int maxMessagesPerFlush;
+
+    /** Number of the connections to every remote node dedicated to bulk messages. */
+    private final int bulkConnections;
+
+    /** Minimal size of the data flushed at once to compress, negative if the compression is disabled. */
+    private final int compressionThreshold;
+
+    /** Network metric source. */
+    private final @Nullable NetworkMetricSource metricSource;
+
     /** Recovery descriptor provider. */
     private final RecoveryDescriptorProvider descriptorProvider = new DefaultRecoveryDescriptorProvider();
 
@@ -107,10 +123,35 @@ public class ConnectionManager {
             UUID launchId,
             String consistentId,
             NettyBootstrapFactory bootstrapFactory
+    ) {
+        this(networkConfiguration, serializationService, launchId, consistentId, bootstrapFactory, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param networkConfiguration          Network configuration.
+     * @param serializationService          Serialization service.
+     * @param launchId                      Launch id of this node.
+     * @param consistentId                  Consistent id of this node.
+     * @param bootstrapFactory              Bootstrap factory.
+     * @param metricSource                  Network metric source.
+     */
+    public ConnectionManager(
+            NetworkView networkConfiguration,
+            SerializationService serializationService,
+            UUID launchId,
+            String consistentId,
+            NettyBootstrapFactory bootstrapFactory,
+            @Nullable NetworkMetricSource metricSource
     ) {
         this.serializationService = serializationService;
         this.launchId = launchId;
         this.consistentId = consistentId;
+        this.maxMessagesPerFlush = networkConfiguration.maxMessagesPerFlush();
+        this.bulkConnections = networkConfiguration.bulkConnections();
+        this.compressionThreshold = networkConfiguration.compressionEnabled() ? networkConfiguration.compressionThreshold() : -1;
+        this.metricSource = metricSource;
 
         this.server = new NettyServer(
                 networkConfiguration,
@@ -171,12 +212,26 @@ public class ConnectionManager {
      * @return Sender.
      */
     public CompletableFuture<NettySender> channel(@Nullable String consistentId, SocketAddress address) {
+        return channel(consistentId, address, DEFAULT_CONNECTION_ID);
+    }
+
+    /**
+     * Gets a {@link NettySender}, that sends data from this node to another node with the specified address over the connection
+     * with the given id. Connections with different ids are independent: each of them has its own socket, event loop and
+     * recovery descriptor, so a connection busy with bulk data doesn't delay the messages sent over the other ones.
+     *
+     * @param consistentId Another node's consistent id.
+     * @param address      Another node's address.
+     * @param connectionId Connection id.
+     * @return Sender.
+     */
+    public CompletableFuture<NettySender> channel(@Nullable String consistentId, SocketAddress address, short connectionId) {
         if (consistentId != null) {
             // If consistent id is known, try looking up a channel by consistent id. There can be an outbound connection
             // or an inbound connection associated with that consistent id.
             NettySender channel = channels.compute(
-                    consistentId,
-                    (addr, sender) -> (sender == null || !sender.isOpen()) ? null : sender
+                    new ConnectorKey<>(consistentId, connectionId),
+                    (key, sender) -> (sender == null || !sender.isOpen()) ? null : sender
             );
 
             if (channel != null) {
@@ -187,10 +242,9 @@ public class ConnectionManager {
         // Get an existing client or create a new one. NettyClient provides a CompletableFuture that resolves
         // when the client is ready for write operations, so previously started client, that didn't establish connection
         // or didn't perform the handshake operation, can be reused.
-        // TODO: IGNITE-16948 Connection id may be different from 0
-        NettyClient client = clients.compute(address, (addr, existingClient) ->
+        NettyClient client = clients.compute(new ConnectorKey<>(address, connectionId), (key, existingClient) ->
                 existingClient != null && !existingClient.failedToConnect() && !existingClient.isDisconnected()
-                        ? existingClient : connect(addr, (short) 0)
+                        ? existingClient : connect(key.id(), key.connectionId())
         );
 
         CompletableFuture<NettySender> sender = client.sender();
@@ -200,6 +254,21 @@ public class ConnectionManager {
         return sender;
     }
 
+    /**
+     * Returns the id of the connection a message should be sent over. Bulk messages are spread over the dedicated connections by
+     * the sending thread, so the messages sent by the same thread keep their order.
+     *
+     * @param bulk Whether the message is bulk traffic, see {@link NetworkMessage#bulk()}.
+     * @return Connection id.
+     */
+    public short connectionId(boolean bulk) {
+        if (!bulk || bulkConnections == 0) {
+            return DEFAULT_CONNECTION_ID;
+        }
+
+        return (short) (DEFAULT_CONNECTION_ID + 1 + Thread.currentThread().getId() % bulkConnections);
+    }
+
     /**
      * Callback that is called upon receiving a new message.
      *
@@ -215,7 +284,7 @@ public class ConnectionManager {
      * @param channel Channel from client to this {@link #server}.
      */
     private void onNewIncomingChannel(NettySender channel) {
-        NettySender oldChannel = channels.put(channel.consistentId(), channel);
+        NettySender oldChannel = channels.put(new ConnectorKey<>(channel.consistentId(), channel.connectionId()), channel);
 
         if (oldChannel != null) {
             oldChannel.close();
@@ -226,6 +295,7 @@ public class ConnectionManager {
      * Create new client from this node to specified address.
      *
      * @param address Target address.
+     * @param connectionId Connection id.
      * @return New netty client.
      */
     private NettyClient connect(SocketAddress address, short connectionId) {
@@ -238,9 +308,9 @@ public class ConnectionManager {
 
         client.start(clientBootstrap).whenComplete((sender, throwable) -> {
             if (throwable == null) {
-                channels.put(sender.consistentId(), sender);
+                channels.put(new ConnectorKey<>(sender.consistentId(), connectionId), sender);
             } else {
-                clients.remove(address);
+                clients.remove(new ConnectorKey<>(address, connectionId));
             }
         });
 
@@ -292,11 +362,13 @@ public class ConnectionManager {
     }
 
     private HandshakeManager createClientHandshakeManager(short connectionId) {
-        return new RecoveryClientHandshakeManager(launchId, consistentId, connectionId, FACTORY, descriptorProvider);
+        return new RecoveryClientHandshakeManager(
+                launchId, consistentId, connectionId, FACTORY, descriptorProvider, maxMessagesPerFlush, compressionThreshold, metricSource);
     }
 
     private HandshakeManager createServerHandshakeManager() {
-        return new RecoveryServerHandshakeManager(launchId, consistentId, FACTORY, descriptorProvider);
+        return new RecoveryServerHandshakeManager(
+                launchId, consistentId, FACTORY, descriptorProvider, maxMessagesPerFlush, compressionThreshold, metricSource);
     }
 
     /**
@@ -335,7 +407,7 @@ public class ConnectionManager {
      * @return Map of the channels.
      */
     @TestOnly
-    public Map<String, NettySender> channels() {
+    public Map<ConnectorKey<String>, NettySender> channels() {
         return Collections.unmodifiableMap(channels);
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * Key of a connection to a remote node: the node's identifier, e.g. a consistent id or an address, and the connection id.
+ *
+ * @param <T> Type of the node's identifier.
+ */
+public class ConnectorKey<T> {
+    /** Identifier of the remote node. */
+    private final T id;
+
+    /** Connection id. */
+    private final short connectionId;
+
+    /**
+     * Constructor.
+     *
+     * @param id Identifier of the remote node.
+     * @param connectionId Connection id.
+     */
+    public ConnectorKey(T id, short connectionId) {
+        this.id = id;
+        this.connectionId = connectionId;
+    }
+
+    /**
+     * Returns the identifier of the remote node.
+     *
+     * @return Identifier of the remote node.
+     */
+    public T id() {
+        return id;
+    }
+
+    /**
+     * Returns the connection id.
+     *
+     * @return Connection id.
+     */
+    public short connectionId() {
+        return connectionId;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ConnectorKey<?> that = (ConnectorKey<?>) o;
+
+        if (connectionId != that.connectionId) {
+            return false;
+        }
+        return id.equals(that.id);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        int result = id.hashCode();
+        result = 31 * result + (int) connectionId;
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(ConnectorKey.class, this);
+    }
+}
@@ -20,16 +20,29 @@ package org.apache.ignite.internal.network.netty;
 import static org.apache.ignite.internal.network.netty.NettyUtils.toCompletableFuture;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
 import io.netty.handler.stream.ChunkedInput;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.ignite.internal.network.NetworkMetricSource;
 import org.apache.ignite.internal.network.direct.DirectMessageWriter;
 import org.apache.ignite.network.OutNetworkObject;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
  * Wrapper for a Netty {@link Channel}, that uses {@link ChunkedInput} and {@link DirectMessageWriter} to send data.
+ *
+ * <p>Writes are coalesced: a message is written to the channel without a flush, and the channel is flushed by a task which is
+ * submitted to its event loop after the first unflushed write. So all the messages written before the event loop gets to the task
+ * are sent with one flush, i.e. a burst of small messages results in a few large socket writes instead of a write per message.
+ * The number of the messages between two flushes is limited by {@link #maxMessagesPerFlush}.
  */
 public class NettySender {
+    /** Default maximum number of the messages written to a channel between two flushes. */
+    public static final int DFLT_MAX_MESSAGES_PER_FLUSH = 64;
+
     /** Netty channel. */
     private final Channel channel;
 
@@ -39,6 +52,24 @@ public class NettySender {
     /** Consistent id of the remote node. */
     private final String consistentId;
 
+    /** Connection id, distinguishes parallel connections between the same pair of nodes. */
+    private final short connectionId;
+
+    /** Maximum number of the messages written to the channel between two flushes. */
+    private final int maxMessagesPerFlush;
+
+    /** Network metric source. */
+    private final @Nullable NetworkMetricSource metricSource;
+
+    /** Task that flushes the channel once the event loop processed the writes submitted before it. */
+    private final Runnable flushTask = this::onScheduledFlush;
+
+    /** Number of the messages written since the last flush. Accessed from the event loop only. */
+    private int unflushed;
+
+    /** {@code true} if the {@link #flushTask} is submitted and not executed yet. Accessed from the event loop only. */
+    private boolean flushScheduled;
+
     /**
      * Constructor.
      *
@@ -47,19 +78,113 @@ public class NettySender {
      * @param consistentId Consistent id of the remote node.
      */
     public NettySender(Channel channel, String launchId, String consistentId) {
+        this(channel, launchId, consistentId, (short) 0, DFLT_MAX_MESSAGES_PER_FLUSH, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param channel             Netty channel.
+     * @param launchId            Launch id of the remote node.
+     * @param consistentId        Consistent id of the remote node.
+     * @param connectionId        Connection id.
+     * @param maxMessagesPerFlush Maximum number of the messages written to the channel between two flushes.
+     * @param metricSource        Network metric source.
+     */
+    public NettySender(
+            Channel channel,
+            String launchId,
+            String consistentId,
+            short connectionId,
+            int maxMessagesPerFlush,
+            @Nullable NetworkMetricSource metricSource
+    ) {
+        assert maxMessagesPerFlush > 0 : maxMessagesPerFlush;
+
         this.channel = channel;
         this.launchId = launchId;
         this.consistentId = consistentId;
+        this.connectionId = connectionId;
+        this.maxMessagesPerFlush = maxMessagesPerFlush;
+        this.metricSource = metricSource;
     }
 
     /**
-     * Sends the message.
+     * Sends the message. The channel is flushed together with the other messages written to it in the same event loop cycle.
      *
      * @param obj Network message wrapper.
      * @return Future of the send operation.
      */
     public CompletableFuture<Void> send(OutNetworkObject obj) {
-        return toCompletableFuture(channel.writeAndFlush(obj));
+        return send(obj, false);
+    }
+
+    /**
+     * Sends the message.
+     *
+     * @param obj Network message wrapper.
+     * @param flushImmediately Whether the channel should be flushed right after the message is written, e.g. for a message
+     *      the latency of which matters more than the throughput of the channel.
+     * @return Future of the send operation.
+     */
+    public CompletableFuture<Void> send(OutNetworkObject obj, boolean flushImmediately) {
+        ChannelPromise promise = channel.newPromise();
+
+        EventLoop eventLoop = channel.eventLoop();
+
+        if (eventLoop.inEventLoop()) {
+            write(obj, promise, flushImmediately);
+        } else {
+            try {
+                eventLoop.execute(() -> write(obj, promise, flushImmediately));
+            } catch (RejectedExecutionException e) {
+                promise.setFailure(e);
+            }
+        }
+
+        return toCompletableFuture(promise);
+    }
+
+    /**
+     * Writes the message to the channel and either flushes the channel or makes sure that a flush is scheduled.
+     *
+     * @param obj Network message wrapper.
+     * @param promise Promise of the write operation.
+     * @param flushImmediately Whether the channel should be flushed right after the message is written.
+     */
+    private void write(OutNetworkObject obj, ChannelPromise promise, boolean flushImmediately) {
+        channel.write(obj, promise);
+
+        unflushed++;
+
+        if (flushImmediately || unflushed >= maxMessagesPerFlush) {
+            flush();
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+
+            // The task is executed after all the writes already submitted to the event loop, so they will share the flush.
+            channel.eventLoop().execute(flushTask);
+        }
+    }
+
+    private void onScheduledFlush() {
+        flushScheduled = false;
+
+        flush();
+    }
+
+    private void flush() {
+        if (unflushed == 0) {
+            return;
+        }
+
+        if (metricSource != null) {
+            metricSource.onFlush(unflushed);
+        }
+
+        unflushed = 0;
+
+        channel.flush();
     }
 
     /**
@@ -80,6 +205,15 @@ public class NettySender {
         return consistentId;
     }
 
+    /**
+     * Returns connection id.
+     *
+     * @return Connection id.
+     */
+    public short connectionId() {
+        return connectionId;
+    }
+
     /**
      * Closes channel.
      */
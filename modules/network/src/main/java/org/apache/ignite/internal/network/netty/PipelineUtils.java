@@ -18,18 +18,24 @@
 package org.apache.ignite.internal.network.netty;
 
 import io.netty.channel.ChannelPipeline;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import java.util.function.Consumer;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
+import org.apache.ignite.internal.network.NetworkMetricSource;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
 import org.apache.ignite.internal.network.recovery.RecoveryDescriptor;
 import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
+import org.jetbrains.annotations.Nullable;
 
 /** Pipeline utils. */
 public class PipelineUtils {
     /** {@link ChunkedWriteHandler}'s name. */
     private static final String CHUNKED_WRITE_HANDLER_NAME = "chunked-write-handler";
 
+    /** {@link FlushConsolidationHandler}'s name. */
+    private static final String FLUSH_CONSOLIDATION_HANDLER_NAME = "flush-consolidation-handler";
+
     /**
      * Sets up initial pipeline.
      *
@@ -40,6 +46,11 @@ public class PipelineUtils {
      */
     public static void setup(ChannelPipeline pipeline, PerSessionSerializationService serializationService,
                 HandshakeManager handshakeManager, Consumer<InNetworkObject> messageListener) {
+        // ChunkedWriteHandler flushes every chunk, so the flushes are consolidated to avoid a syscall per chunk.
+        pipeline.addLast(
+                FLUSH_CONSOLIDATION_HANDLER_NAME,
+                new FlushConsolidationHandler(FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true)
+        );
         pipeline.addLast(InboundDecoder.NAME, new InboundDecoder(serializationService));
         pipeline.addLast(HandshakeHandler.NAME, new HandshakeHandler(handshakeManager, messageListener, serializationService));
         pipeline.addLast(CHUNKED_WRITE_HANDLER_NAME, new ChunkedWriteHandler());
@@ -65,4 +76,25 @@ public class PipelineUtils {
         pipeline.addBefore(HandshakeHandler.NAME, InboundRecoveryHandler.NAME, new InboundRecoveryHandler(descriptor, factory));
         pipeline.addAfter(HandshakeHandler.NAME, MessageHandler.NAME, messageHandler);
     }
+
+    /**
+     * Adds the handler decompressing the inbound data, must be called before the remote node starts compressing it.
+     *
+     * @param pipeline Pipeline.
+     * @param metricSource Network metric source or {@code null} if metrics are not collected.
+     */
+    public static void enableInboundCompression(ChannelPipeline pipeline, @Nullable NetworkMetricSource metricSource) {
+        pipeline.addFirst(CompressionDecoder.NAME, new CompressionDecoder(metricSource));
+    }
+
+    /**
+     * Adds the handler compressing the outbound data, the remote node must be ready to decompress it.
+     *
+     * @param pipeline Pipeline.
+     * @param threshold Minimal size of the data flushed at once to compress.
+     * @param metricSource Network metric source or {@code null} if metrics are not collected.
+     */
+    public static void enableOutboundCompression(ChannelPipeline pipeline, int threshold, @Nullable NetworkMetricSource metricSource) {
+        pipeline.addFirst(CompressionEncoder.NAME, new CompressionEncoder(threshold, metricSource));
+    }
 }
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
+import org.apache.ignite.internal.network.NetworkMetricSource;
 import org.apache.ignite.internal.network.handshake.HandshakeException;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
 import org.apache.ignite.internal.network.netty.HandshakeHandler;
@@ -37,6 +38,7 @@ import org.apache.ignite.internal.network.recovery.message.HandshakeStartMessage
 import org.apache.ignite.internal.network.recovery.message.HandshakeStartResponseMessage;
 import org.apache.ignite.network.NetworkMessage;
 import org.apache.ignite.network.OutNetworkObject;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -55,6 +57,15 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
     /** Recovery descriptor provider. */
     private final RecoveryDescriptorProvider recoveryDescriptorProvider;
 
+    /** Maximum number of the messages written to the channel between two flushes. */
+    private final int maxMessagesPerFlush;
+
+    /** Network metric source. */
+    private final @Nullable NetworkMetricSource metricSource;
+
+    /** Minimal size of the data flushed at once to compress, negative if the compression is disabled. */
+    private final int compressionThreshold;
+
     /** Connection id. */
     private final short connectionId;
 
@@ -79,6 +90,9 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
     /** Recovery descriptor. */
     private RecoveryDescriptor recoveryDescriptor;
 
+    /** Whether the traffic of the connection is compressed. */
+    private boolean compression;
+
     /**
      * Constructor.
      *
@@ -90,11 +104,34 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
     public RecoveryClientHandshakeManager(
             UUID launchId, String consistentId, short connectionId, NetworkMessagesFactory messageFactory,
             RecoveryDescriptorProvider recoveryDescriptorProvider) {
+        this(launchId, consistentId, connectionId, messageFactory, recoveryDescriptorProvider, NettySender.DFLT_MAX_MESSAGES_PER_FLUSH,
+                -1, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param launchId Launch id.
+     * @param consistentId Consistent id.
+     * @param connectionId Connection id.
+     * @param messageFactory Message factory.
+     * @param recoveryDescriptorProvider Recovery descriptor provider.
+     * @param maxMessagesPerFlush Maximum number of the messages written to the channel between two flushes.
+     * @param compressionThreshold Minimal size of the data flushed at once to compress, negative if the compression is disabled.
+     * @param metricSource Network metric source.
+     */
+    public RecoveryClientHandshakeManager(
+            UUID launchId, String consistentId, short connectionId, NetworkMessagesFactory messageFactory,
+            RecoveryDescriptorProvider recoveryDescriptorProvider, int maxMessagesPerFlush, int compressionThreshold,
+            @Nullable NetworkMetricSource metricSource) {
         this.launchId = launchId;
         this.consistentId = consistentId;
         this.connectionId = connectionId;
         this.messageFactory = messageFactory;
         this.recoveryDescriptorProvider = recoveryDescriptorProvider;
+        this.maxMessagesPerFlush = maxMessagesPerFlush;
+        this.compressionThreshold = compressionThreshold;
+        this.metricSource = metricSource;
     }
 
     /** {@inheritDoc} */
@@ -113,6 +150,7 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
 
             this.remoteLaunchId = msg.launchId();
             this.remoteConsistentId = msg.consistentId();
+            this.compression = compressionThreshold >= 0 && msg.compressionSupported();
 
             this.recoveryDescriptor = recoveryDescriptorProvider.getRecoveryDescriptor(remoteConsistentId, remoteLaunchId, connectionId,
                     false);
@@ -130,6 +168,11 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
 
             recoveryDescriptor.acknowledge(receivedCount);
 
+            // The server compresses everything it sends after the handshake response, the client starts right now.
+            if (compression) {
+                PipelineUtils.enableOutboundCompression(ctx.pipeline(), compressionThreshold, metricSource);
+            }
+
             int cnt = recoveryDescriptor.unacknowledgedCount();
 
             if (cnt == 0) {
@@ -167,11 +210,16 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
     private void handshake(RecoveryDescriptor descriptor) {
         PipelineUtils.afterHandshake(ctx.pipeline(), descriptor, createMessageHandler(), messageFactory);
 
+        if (compression) {
+            PipelineUtils.enableInboundCompression(ctx.pipeline(), metricSource);
+        }
+
         HandshakeStartResponseMessage response = messageFactory.handshakeStartResponseMessage()
                 .launchId(launchId)
                 .consistentId(consistentId)
                 .receivedCount(descriptor.receivedCount())
                 .connectionId(connectionId)
+                .compression(compression)
                 .build();
 
         ChannelFuture sendFuture = ctx.channel().writeAndFlush(new OutNetworkObject(response, Collections.emptyList(), false));
@@ -201,7 +249,9 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
         // Removes handshake handler from the pipeline as the handshake is finished
         this.ctx.pipeline().remove(this.handler);
 
-        handshakeCompleteFuture.complete(new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId));
+        handshakeCompleteFuture.complete(
+                new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId, connectionId, maxMessagesPerFlush, metricSource)
+        );
     }
 
     @TestOnly
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
+import org.apache.ignite.internal.network.NetworkMetricSource;
 import org.apache.ignite.internal.network.handshake.HandshakeException;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
 import org.apache.ignite.internal.network.netty.HandshakeHandler;
@@ -37,6 +38,7 @@ import org.apache.ignite.internal.network.recovery.message.HandshakeStartMessage
 import org.apache.ignite.internal.network.recovery.message.HandshakeStartResponseMessage;
 import org.apache.ignite.network.NetworkMessage;
 import org.apache.ignite.network.OutNetworkObject;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -61,6 +63,9 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
     /** Remote node's consistent id. */
     private String remoteConsistentId;
 
+    /** Id of the connection assigned by the remote node. */
+    private short remoteConnectionId;
+
     /** Netty pipeline channel handler context. */
     private ChannelHandlerContext ctx;
 
@@ -76,6 +81,15 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
     /** Recovery descriptor provider. */
     private final RecoveryDescriptorProvider recoveryDescriptorProvider;
 
+    /** Maximum number of the messages written to the channel between two flushes. */
+    private final int maxMessagesPerFlush;
+
+    /** Minimal size of the data flushed at once to compress, negative if the compression is disabled. */
+    private final int compressionThreshold;
+
+    /** Network metric source. */
+    private final @Nullable NetworkMetricSource metricSource;
+
     /** Recovery descriptor. */
     private RecoveryDescriptor recoveryDescriptor;
 
@@ -90,10 +104,31 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
     public RecoveryServerHandshakeManager(
             UUID launchId, String consistentId, NetworkMessagesFactory messageFactory,
             RecoveryDescriptorProvider recoveryDescriptorProvider) {
+        this(launchId, consistentId, messageFactory, recoveryDescriptorProvider, NettySender.DFLT_MAX_MESSAGES_PER_FLUSH, -1, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param launchId Launch id.
+     * @param consistentId Consistent id.
+     * @param messageFactory Message factory.
+     * @param recoveryDescriptorProvider Recovery descriptor provider.
+     * @param maxMessagesPerFlush Maximum number of the messages written to the channel between two flushes.
+     * @param compressionThreshold Minimal size of the data flushed at once to compress, negative if the compression is disabled.
+     * @param metricSource Network metric source.
+     */
+    public RecoveryServerHandshakeManager(
+            UUID launchId, String consistentId, NetworkMessagesFactory messageFactory,
+            RecoveryDescriptorProvider recoveryDescriptorProvider, int maxMessagesPerFlush, int compressionThreshold,
+            @Nullable NetworkMetricSource metricSource) {
         this.launchId = launchId;
         this.consistentId = consistentId;
         this.messageFactory = messageFactory;
         this.recoveryDescriptorProvider = recoveryDescriptorProvider;
+        this.maxMessagesPerFlush = maxMessagesPerFlush;
+        this.compressionThreshold = compressionThreshold;
+        this.metricSource = metricSource;
     }
 
     /** {@inheritDoc} */
@@ -110,6 +145,7 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         HandshakeStartMessage handshakeStartMessage = messageFactory.handshakeStartMessage()
                 .launchId(launchId)
                 .consistentId(consistentId)
+                .compressionSupported(compressionThreshold >= 0)
                 .build();
 
         ChannelFuture sendFuture = channel.writeAndFlush(new OutNetworkObject(handshakeStartMessage, Collections.emptyList(), false));
@@ -132,11 +168,12 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
             this.remoteLaunchId = msg.launchId();
             this.remoteConsistentId = msg.consistentId();
             this.receivedCount = msg.receivedCount();
+            this.remoteConnectionId = msg.connectionId();
 
             this.recoveryDescriptor = recoveryDescriptorProvider.getRecoveryDescriptor(remoteConsistentId, remoteLaunchId,
-                    msg.connectionId(), true);
+                    remoteConnectionId, true);
 
-            handshake(recoveryDescriptor);
+            handshake(recoveryDescriptor, compressionThreshold >= 0 && msg.compression());
 
             return;
         }
@@ -150,9 +187,15 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         ctx.fireChannelRead(message);
     }
 
-    private void handshake(RecoveryDescriptor descriptor) {
+    private void handshake(RecoveryDescriptor descriptor, boolean compression) {
         PipelineUtils.afterHandshake(ctx.pipeline(), descriptor, createMessageHandler(), messageFactory);
 
+        // Everything starting with the handshake finish message is compressed.
+        if (compression) {
+            PipelineUtils.enableInboundCompression(ctx.pipeline(), metricSource);
+            PipelineUtils.enableOutboundCompression(ctx.pipeline(), compressionThreshold, metricSource);
+        }
+
         HandshakeFinishMessage response = messageFactory.handshakeFinishMessage()
                 .receivedCount(descriptor.receivedCount())
                 .build();
@@ -216,7 +259,16 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         // Removes handshake handler from the pipeline as the handshake is finished
         this.ctx.pipeline().remove(this.handler);
 
-        handshakeCompleteFuture.complete(new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId));
+        var sender = new NettySender(
+                channel,
+                remoteLaunchId.toString(),
+                remoteConsistentId,
+                remoteConnectionId,
+                maxMessagesPerFlush,
+                metricSource
+        );
+
+        handshakeCompleteFuture.complete(sender);
     }
 
     @TestOnly
@@ -40,4 +40,11 @@ public interface HandshakeStartMessage extends InternalMessage {
      * @return Consistent id.
      */
     String consistentId();
+
+    /**
+     * Returns {@code true} if the server supports compression of the traffic of the connection.
+     *
+     * @return {@code true} if the server supports compression of the traffic of the connection.
+     */
+    boolean compressionSupported();
 }
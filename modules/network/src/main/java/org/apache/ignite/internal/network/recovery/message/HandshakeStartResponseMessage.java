@@ -54,4 +54,13 @@ public interface HandshakeStartResponseMessage extends InternalMessage {
      * @return Connection id.
      */
     short connectionId();
+
+    /**
+     * Returns {@code true} if the traffic of the connection is compressed, i.e. both the client and the server support compression.
+     * The client compresses the messages it sends after the {@link HandshakeFinishMessage} is received, the server compresses
+     * all the messages it sends after this one is received, starting with the {@link HandshakeFinishMessage}.
+     *
+     * @return {@code true} if the traffic of the connection is compressed.
+     */
+    boolean compression();
 }
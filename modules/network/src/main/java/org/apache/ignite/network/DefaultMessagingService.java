@@ -189,7 +189,8 @@ public class DefaultMessagingService extends AbstractMessagingService {
 
         String recipientConsistentId = recipient != null ? recipient.name() : address.consistentId();
 
-        return this.sendMessage0(message, recipientConsistentId, addr);
+        // The requester is waiting for the response, so it is not held back to be flushed along with other messages.
+        return this.sendMessage0(message, recipientConsistentId, addr, msg.bulk(), correlationId != null);
     }
 
     /**
@@ -225,7 +226,7 @@ public class DefaultMessagingService extends AbstractMessagingService {
 
         String recipientConsistentId = recipient != null ? recipient.name() : addr.consistentId();
 
-        return sendMessage0(message, recipientConsistentId, address).thenCompose(unused -> responseFuture);
+        return sendMessage0(message, recipientConsistentId, address, msg.bulk(), false).thenCompose(unused -> responseFuture);
     }
 
     /**
@@ -234,12 +235,23 @@ public class DefaultMessagingService extends AbstractMessagingService {
      * @param message Message.
      * @param recipientConsistentId Target consistent id
      * @param addr Address.
+     * @param bulk Whether the message is bulk traffic, see {@link NetworkMessage#bulk()}. Invocation requests and responses wrap
+     *      the actual messages, so the flag of the wrapped message is passed.
+     * @param flushImmediately Whether the channel should be flushed right after the message is written.
      * @return Future of the send operation.
      */
-    private CompletableFuture<Void> sendMessage0(NetworkMessage message, String recipientConsistentId, InetSocketAddress addr) {
+    private CompletableFuture<Void> sendMessage0(
+            NetworkMessage message,
+            String recipientConsistentId,
+            InetSocketAddress addr,
+            boolean bulk,
+            boolean flushImmediately
+    ) {
         if (isInNetworkThread()) {
-            return CompletableFuture.supplyAsync(() -> sendMessage0(message, recipientConsistentId, addr), outboundService)
-                    .thenCompose(Function.identity());
+            return CompletableFuture.supplyAsync(
+                    () -> sendMessage0(message, recipientConsistentId, addr, bulk, flushImmediately),
+                    outboundService
+            ).thenCompose(Function.identity());
         }
 
         List<ClassDescriptorMessage> descriptors;
@@ -250,8 +262,8 @@ public class DefaultMessagingService extends AbstractMessagingService {
             return CompletableFuture.failedFuture(new IgniteException("Failed to marshal message: " + e.getMessage(), e));
         }
 
-        return connectionManager.channel(recipientConsistentId, addr)
-                .thenCompose(sender -> sender.send(new OutNetworkObject(message, descriptors)));
+        return connectionManager.channel(recipientConsistentId, addr, connectionManager.connectionId(bulk))
+                .thenCompose(sender -> sender.send(new OutNetworkObject(message, descriptors), flushImmediately));
     }
 
     private List<ClassDescriptorMessage> beforeRead(NetworkMessage msg) throws Exception {
@@ -36,6 +36,7 @@ import org.apache.ignite.configuration.schemas.network.ScaleCubeView;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
+import org.apache.ignite.internal.network.NetworkMetricSource;
 import org.apache.ignite.internal.network.netty.ConnectionManager;
 import org.apache.ignite.internal.network.serialization.ClassDescriptorFactory;
 import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
@@ -51,6 +52,7 @@ import org.apache.ignite.network.NettyBootstrapFactory;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.network.NodeFinder;
 import org.apache.ignite.network.NodeFinderFactory;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Cluster service factory that uses ScaleCube for messaging and topology services.
@@ -71,6 +73,24 @@ public class ScaleCubeClusterServiceFactory {
             ClusterLocalConfiguration context,
             NetworkConfiguration networkConfiguration,
             NettyBootstrapFactory nettyBootstrapFactory
+    ) {
+        return createClusterService(context, networkConfiguration, nettyBootstrapFactory, null);
+    }
+
+    /**
+     * Creates a new {@link ClusterService} using the provided context. The created network will not be in the "started" state.
+     *
+     * @param context               Cluster context.
+     * @param networkConfiguration  Network configuration.
+     * @param nettyBootstrapFactory Bootstrap factory.
+     * @param metricSource          Network metric source.
+     * @return New cluster service.
+     */
+    public ClusterService createClusterService(
+            ClusterLocalConfiguration context,
+            NetworkConfiguration networkConfiguration,
+            NettyBootstrapFactory nettyBootstrapFactory,
+            @Nullable NetworkMetricSource metricSource
     ) {
         var messageFactory = new NetworkMessagesFactory();
 
@@ -104,7 +124,8 @@ public class ScaleCubeClusterServiceFactory {
                         serializationService,
                         launchId,
                         consistentId,
-                        nettyBootstrapFactory
+                        nettyBootstrapFactory,
+                        metricSource
                 );
 
                 connectionMgr.start();
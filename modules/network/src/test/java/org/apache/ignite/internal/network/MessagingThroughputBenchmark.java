@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.configuration.annotation.ConfigurationType;
+import org.apache.ignite.configuration.schemas.network.NetworkConfiguration;
+import org.apache.ignite.internal.configuration.ConfigurationManager;
+import org.apache.ignite.internal.configuration.storage.TestConfigurationStorage;
+import org.apache.ignite.internal.network.netty.ConnectionManager;
+import org.apache.ignite.internal.network.netty.NettySender;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorFactory;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
+import org.apache.ignite.internal.network.serialization.SerializationService;
+import org.apache.ignite.internal.network.serialization.UserObjectSerializationContext;
+import org.apache.ignite.internal.network.serialization.marshal.DefaultUserObjectMarshaller;
+import org.apache.ignite.network.NettyBootstrapFactory;
+import org.apache.ignite.network.OutNetworkObject;
+import org.apache.ignite.network.TestMessage;
+import org.apache.ignite.network.TestMessageSerializationRegistryImpl;
+import org.apache.ignite.network.TestMessagesFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the number of the small messages per second one local node sends to another one over a single connection.
+ * Flush coalescing is effectively disabled with {@code maxMessagesPerFlush = 1}.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MessagingThroughputBenchmark {
+    /** Number of the messages sent in one benchmark invocation. */
+    private static final int BATCH = 1_000;
+
+    private static final int SENDER_PORT = 3344;
+
+    private static final int RECEIVER_PORT = 3345;
+
+    @Param({"1", "64"})
+    private int maxMessagesPerFlush;
+
+    private final List<ConfigurationManager> cfgManagers = new ArrayList<>();
+
+    private final List<NettyBootstrapFactory> bootstrapFactories = new ArrayList<>();
+
+    private final List<ConnectionManager> connectionManagers = new ArrayList<>();
+
+    /** Permits are released by the receiver, one per received message. */
+    private final Semaphore received = new Semaphore(0);
+
+    private NettySender sender;
+
+    private TestMessage message;
+
+    /**
+     * Starts the nodes and establishes the connection.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ConnectionManager senderManager = startNode(SENDER_PORT);
+        ConnectionManager receiverManager = startNode(RECEIVER_PORT);
+
+        receiverManager.addListener(obj -> received.release());
+
+        sender = senderManager.channel(null, receiverManager.getLocalAddress()).get(10, TimeUnit.SECONDS);
+
+        message = new TestMessagesFactory().testMessage().msg("x".repeat(64)).build();
+    }
+
+    /**
+     * Stops the nodes.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connectionManagers.forEach(ConnectionManager::stop);
+
+        for (NettyBootstrapFactory factory : bootstrapFactories) {
+            factory.stop();
+        }
+
+        for (ConfigurationManager cfgManager : cfgManagers) {
+            cfgManager.stop();
+        }
+    }
+
+    /**
+     * Sends a batch of messages without waiting for the individual sends and waits until all of them are received.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void send() throws InterruptedException {
+        for (int i = 0; i < BATCH; i++) {
+            sender.send(new OutNetworkObject(message, Collections.emptyList()));
+        }
+
+        received.acquire(BATCH);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(MessagingThroughputBenchmark.class.getName() + ".*")
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    private ConnectionManager startNode(int port) {
+        var cfgManager = new ConfigurationManager(
+                Collections.singleton(NetworkConfiguration.KEY),
+                Map.of(),
+                new TestConfigurationStorage(ConfigurationType.LOCAL),
+                List.of(),
+                List.of()
+        );
+
+        cfgManager.start();
+        cfgManagers.add(cfgManager);
+
+        NetworkConfiguration cfg = cfgManager.configurationRegistry().getConfiguration(NetworkConfiguration.KEY);
+
+        cfg.change(c -> c.changePort(port).changeMaxMessagesPerFlush(maxMessagesPerFlush)).join();
+
+        String consistentId = "node-" + port;
+
+        var bootstrapFactory = new NettyBootstrapFactory(cfg, consistentId);
+
+        bootstrapFactory.start();
+        bootstrapFactories.add(bootstrapFactory);
+
+        var descriptorRegistry = new ClassDescriptorRegistry();
+        var descriptorFactory = new ClassDescriptorFactory(descriptorRegistry);
+
+        var userObjectSerialization = new UserObjectSerializationContext(
+                descriptorRegistry,
+                descriptorFactory,
+                new DefaultUserObjectMarshaller(descriptorRegistry, descriptorFactory)
+        );
+
+        var manager = new ConnectionManager(
+                cfg.value(),
+                new SerializationService(new TestMessageSerializationRegistryImpl(), userObjectSerialization),
+                UUID.randomUUID(),
+                consistentId,
+                bootstrapFactory
+        );
+
+        manager.start();
+        connectionManagers.add(manager);
+
+        return manager;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A micro-benchmark of {@link CompressionEncoder} and {@link CompressionDecoder}: a batch of the given size is framed and unframed
+ * with and without compression. It measures the CPU cost of the compression only, the channels are in-memory ones.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CompressionBenchmark {
+    @Param({"128", "512", "1024", "4096", "16384", "65536"})
+    int size;
+
+    private byte[] data;
+
+    private EmbeddedChannel rawEncoder;
+
+    private EmbeddedChannel lz4Encoder;
+
+    private EmbeddedChannel decoder;
+
+    /**
+     * Prepares the data and the channels.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        var sb = new StringBuilder(size);
+
+        // Looks like a batch of rows: repeated field names, a few distinct values.
+        for (int i = 0; sb.length() < size; i++) {
+            sb.append("id=").append(i).append(",name=Name").append(i % 100).append(",amount=").append(i * 31 % 1000).append(';');
+        }
+
+        data = sb.substring(0, size).getBytes(StandardCharsets.UTF_8);
+
+        rawEncoder = new EmbeddedChannel(new CompressionEncoder(Integer.MAX_VALUE, null));
+        lz4Encoder = new EmbeddedChannel(new CompressionEncoder(0, null));
+        decoder = new EmbeddedChannel(new CompressionDecoder(null));
+    }
+
+    /**
+     * Releases the channels.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        rawEncoder.finishAndReleaseAll();
+        lz4Encoder.finishAndReleaseAll();
+        decoder.finishAndReleaseAll();
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options build = new OptionsBuilder()
+                .include(CompressionBenchmark.class.getName() + ".*").build();
+
+        new Runner(build).run();
+    }
+
+    @Benchmark
+    public int raw() {
+        return roundTrip(rawEncoder);
+    }
+
+    @Benchmark
+    public int lz4() {
+        return roundTrip(lz4Encoder);
+    }
+
+    private int roundTrip(EmbeddedChannel encoder) {
+        decoder.writeInbound(encode(encoder));
+
+        ByteBuf res = decoder.readInbound();
+
+        int len = res.readableBytes();
+
+        res.release();
+
+        return len;
+    }
+
+    private ByteBuf encode(EmbeddedChannel encoder) {
+        encoder.writeAndFlush(Unpooled.wrappedBuffer(data));
+
+        return encoder.readOutbound();
+    }
+}
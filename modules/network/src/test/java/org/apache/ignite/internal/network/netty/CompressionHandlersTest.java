@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CompressionEncoder} and {@link CompressionDecoder}.
+ */
+public class CompressionHandlersTest {
+    private static final int THRESHOLD = 1024;
+
+    private final CompressionEncoder encoder = new CompressionEncoder(THRESHOLD, null);
+
+    private final EmbeddedChannel encoderChannel = new EmbeddedChannel(encoder);
+
+    private final EmbeddedChannel decoderChannel = new EmbeddedChannel(new CompressionDecoder(null));
+
+    @AfterEach
+    void tearDown() {
+        encoderChannel.finishAndReleaseAll();
+        decoderChannel.finishAndReleaseAll();
+    }
+
+    /**
+     * Tests that the data smaller than the threshold is sent as is.
+     */
+    @Test
+    public void testSmallDataIsNotCompressed() {
+        byte[] data = compressible(THRESHOLD - 1);
+
+        ByteBuf frame = encode(data);
+
+        assertEquals(CompressionEncoder.RAW, frame.getByte(0));
+        assertEquals(CompressionEncoder.HEADER_SIZE + data.length, frame.readableBytes());
+
+        assertArrayEquals(data, decode(frame));
+    }
+
+    /**
+     * Tests that the data larger than the threshold is compressed.
+     */
+    @Test
+    public void testLargeDataIsCompressed() {
+        byte[] data = compressible(16 * 1024);
+
+        ByteBuf frame = encode(data);
+
+        assertEquals(CompressionEncoder.LZ4, frame.getByte(0));
+        assertTrue(frame.readableBytes() < data.length / 2, "Frame size: " + frame.readableBytes());
+        assertTrue(encoder.compressionRatio() < 0.5, "Ratio: " + encoder.compressionRatio());
+
+        assertArrayEquals(data, decode(frame));
+    }
+
+    /**
+     * Tests that the incompressible data is sent as is.
+     */
+    @Test
+    public void testIncompressibleDataIsNotCompressed() {
+        byte[] data = new byte[16 * 1024];
+
+        ThreadLocalRandom.current().nextBytes(data);
+
+        ByteBuf frame = encode(data);
+
+        assertEquals(CompressionEncoder.RAW, frame.getByte(0));
+
+        assertArrayEquals(data, decode(frame));
+    }
+
+    /**
+     * Tests that the chunks written between two flushes are packed into one frame and the promises of all of them are completed.
+     */
+    @Test
+    public void testChunksArePackedIntoFrame() {
+        byte[] data = compressible(4 * 1024);
+
+        ChannelFuture fut1 = encoderChannel.write(Unpooled.wrappedBuffer(data, 0, 1000));
+        ChannelFuture fut2 = encoderChannel.write(Unpooled.wrappedBuffer(data, 1000, data.length - 1000));
+
+        assertNull(encoderChannel.readOutbound());
+
+        encoderChannel.flush();
+
+        assertTrue(fut1.isSuccess());
+        assertTrue(fut2.isSuccess());
+
+        ByteBuf frame = encoderChannel.readOutbound();
+
+        assertNull(encoderChannel.readOutbound());
+
+        assertArrayEquals(data, decode(frame));
+    }
+
+    /**
+     * Tests that a frame split into several reads is decoded.
+     */
+    @Test
+    public void testFragmentedFrame() {
+        byte[] data = compressible(8 * 1024);
+
+        ByteBuf frame = encode(data);
+
+        int half = frame.readableBytes() / 2;
+
+        decoderChannel.writeInbound(frame.readRetainedSlice(half));
+
+        assertNull(decoderChannel.readInbound());
+
+        assertArrayEquals(data, decode(frame));
+    }
+
+    private ByteBuf encode(byte[] data) {
+        encoderChannel.writeAndFlush(Unpooled.wrappedBuffer(data));
+
+        return encoderChannel.readOutbound();
+    }
+
+    private byte[] decode(ByteBuf frame) {
+        decoderChannel.writeInbound(frame);
+
+        ByteBuf res = decoderChannel.readInbound();
+
+        try {
+            return ByteBufUtil.getBytes(res);
+        } finally {
+            res.release();
+        }
+    }
+
+    private static byte[] compressible(int size) {
+        var sb = new StringBuilder(size);
+
+        for (int i = 0; sb.length() < size; i++) {
+            sb.append("id=").append(i).append(",name=Name").append(i % 100).append(';');
+        }
+
+        return sb.substring(0, size).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.network.OutNetworkObject;
+import org.apache.ignite.network.TestMessagesFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NettySender}.
+ */
+public class NettySenderTest {
+    private final TestMessagesFactory messageFactory = new TestMessagesFactory();
+
+    /** Number of the flushes that reached the channel. */
+    private int flushes;
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes++;
+
+            ctx.flush();
+        }
+    });
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    /**
+     * Tests that the messages written within one event loop cycle are flushed together.
+     */
+    @Test
+    public void testWritesAreCoalesced() {
+        var sender = new NettySender(channel, "launch", "node", (short) 0, 64, null);
+
+        CompletableFuture<Void> fut1 = sender.send(message());
+        CompletableFuture<Void> fut2 = sender.send(message());
+        CompletableFuture<Void> fut3 = sender.send(message());
+
+        assertEquals(0, flushes);
+        assertEquals(0, channel.outboundMessages().size());
+        assertFalse(fut1.isDone());
+
+        channel.runPendingTasks();
+
+        assertEquals(1, flushes);
+        assertEquals(3, channel.outboundMessages().size());
+        assertTrue(fut1.isDone() && fut2.isDone() && fut3.isDone());
+    }
+
+    /**
+     * Tests that the channel is flushed once the number of the unflushed messages reaches the limit.
+     */
+    @Test
+    public void testMaxMessagesPerFlush() {
+        var sender = new NettySender(channel, "launch", "node", (short) 0, 2, null);
+
+        for (int i = 0; i < 5; i++) {
+            sender.send(message());
+        }
+
+        assertEquals(2, flushes);
+        assertEquals(4, channel.outboundMessages().size());
+
+        channel.runPendingTasks();
+
+        assertEquals(3, flushes);
+        assertEquals(5, channel.outboundMessages().size());
+    }
+
+    /**
+     * Tests that a message can be flushed right away.
+     */
+    @Test
+    public void testImmediateFlush() {
+        var sender = new NettySender(channel, "launch", "node", (short) 0, 64, null);
+
+        sender.send(message());
+
+        CompletableFuture<Void> fut = sender.send(message(), true);
+
+        assertEquals(1, flushes);
+        assertEquals(2, channel.outboundMessages().size());
+        assertTrue(fut.isDone());
+
+        // The scheduled flush has nothing left to flush.
+        channel.runPendingTasks();
+
+        assertEquals(1, flushes);
+    }
+
+    private OutNetworkObject message() {
+        return new OutNetworkObject(messageFactory.testMessage().msg("test").build(), Collections.emptyList());
+    }
+}
@@ -87,8 +87,8 @@ public class RecoveryHandshakeTest {
         exchangeClientToServer(serverSideChannel, clientSideChannel);
         exchangeServerToClient(serverSideChannel, clientSideChannel);
 
-        assertNull(clientSideChannel.readOutbound());
-        assertNull(serverSideChannel.readOutbound());
+        assertNull(readOutbound(clientSideChannel));
+        assertNull(readOutbound(serverSideChannel));
 
         checkHandshakeCompleted(serverHandshakeManager);
         checkHandshakeCompleted(clientHandshakeManager);
@@ -130,10 +130,10 @@ public class RecoveryHandshakeTest {
         exchangeClientToServer(serverSideChannel, clientSideChannel);
         exchangeServerToClient(serverSideChannel, clientSideChannel);
 
-        assertNull(clientSideChannel.readOutbound());
+        assertNull(readOutbound(clientSideChannel));
 
         exchangeServerToClient(serverSideChannel, clientSideChannel);
-        assertNull(serverSideChannel.readOutbound());
+        assertNull(readOutbound(serverSideChannel));
 
         TestMessage ackedMessage = messageCaptor.get();
         assertNotNull(ackedMessage);
@@ -153,6 +153,60 @@ public class RecoveryHandshakeTest {
         assertFalse(clientSideChannel.finish());
     }
 
+    @Test
+    public void testHandshakeWithCompression() throws Exception {
+        RecoveryDescriptorProvider clientRecovery = createRecoveryDescriptorProvider();
+        RecoveryDescriptorProvider serverRecovery = createRecoveryDescriptorProvider();
+
+        UUID clientLaunchId = UUID.randomUUID();
+        RecoveryDescriptor serverRecoveryDescriptor = serverRecovery.getRecoveryDescriptor("client", clientLaunchId, CONNECTION_ID, true);
+        addUnacknowledgedMessages(serverRecoveryDescriptor);
+
+        var clientHandshakeManager = new RecoveryClientHandshakeManager(clientLaunchId, "client", CONNECTION_ID, MESSAGE_FACTORY,
+                clientRecovery, NettySender.DFLT_MAX_MESSAGES_PER_FLUSH, 0, null);
+        var serverHandshakeManager = new RecoveryServerHandshakeManager(UUID.randomUUID(), "server", MESSAGE_FACTORY,
+                serverRecovery, NettySender.DFLT_MAX_MESSAGES_PER_FLUSH, 0, null);
+
+        var messageCaptor = new AtomicReference<TestMessage>();
+        EmbeddedChannel clientSideChannel = setupChannel(clientHandshakeManager, (inObject) -> {
+            NetworkMessage msg = inObject.message();
+
+            assertInstanceOf(TestMessage.class, msg);
+
+            messageCaptor.set((TestMessage) msg);
+        });
+
+        EmbeddedChannel serverSideChannel = setupChannel(serverHandshakeManager, noMessageListener);
+
+        exchangeServerToClient(serverSideChannel, clientSideChannel);
+        exchangeClientToServer(serverSideChannel, clientSideChannel);
+
+        // Handshake finish message and the unacknowledged message are flushed together, so they are packed into one frame.
+        exchangeServerToClient(serverSideChannel, clientSideChannel);
+        assertNull(readOutbound(serverSideChannel));
+
+        TestMessage ackedMessage = messageCaptor.get();
+        assertNotNull(ackedMessage);
+
+        checkHandshakeNotCompleted(serverHandshakeManager);
+        checkHandshakeCompleted(clientHandshakeManager);
+
+        exchangeClientToServer(serverSideChannel, clientSideChannel);
+
+        checkHandshakeCompleted(serverHandshakeManager);
+        checkHandshakeCompleted(clientHandshakeManager);
+
+        for (EmbeddedChannel channel : new EmbeddedChannel[] {serverSideChannel, clientSideChannel}) {
+            checkPipelineAfterHandshake(channel);
+
+            assertNotNull(channel.pipeline().get(CompressionEncoder.NAME));
+            assertNotNull(channel.pipeline().get(CompressionDecoder.NAME));
+        }
+
+        assertFalse(serverSideChannel.finish());
+        assertFalse(clientSideChannel.finish());
+    }
+
     @Test
     public void testHandshakeWithUnacknowledgedClientMessage() throws Exception {
         RecoveryDescriptorProvider clientRecovery = createRecoveryDescriptorProvider();
@@ -183,10 +237,10 @@ public class RecoveryHandshakeTest {
         exchangeClientToServer(serverSideChannel, clientSideChannel);
         exchangeServerToClient(serverSideChannel, clientSideChannel);
 
-        assertNull(serverSideChannel.readOutbound());
+        assertNull(readOutbound(serverSideChannel));
 
         exchangeClientToServer(serverSideChannel, clientSideChannel);
-        assertNull(clientSideChannel.readOutbound());
+        assertNull(readOutbound(clientSideChannel));
 
         TestMessage ackedMessage = messageCaptor.get();
         assertNotNull(ackedMessage);
@@ -342,8 +396,8 @@ public class RecoveryHandshakeTest {
             exchangeServerToClient(serverSideChannel, clientSideChannel);
         }
 
-        assertNull(serverSideChannel.readOutbound());
-        assertNull(clientSideChannel.readOutbound());
+        assertNull(readOutbound(serverSideChannel));
+        assertNull(readOutbound(clientSideChannel));
 
         assertTrue(receivedSecond.get());
 
@@ -402,17 +456,26 @@ public class RecoveryHandshakeTest {
     }
 
     private void exchangeServerToClient(EmbeddedChannel serverSideChannel, EmbeddedChannel clientSideChannel) {
-        ByteBuf outgoingMessageBuffer = serverSideChannel.readOutbound();
+        ByteBuf outgoingMessageBuffer = readOutbound(serverSideChannel);
         // No need to release buffer because inbound buffers are released by InboundDecoder
         clientSideChannel.writeInbound(outgoingMessageBuffer);
     }
 
     private void exchangeClientToServer(EmbeddedChannel serverSideChannel, EmbeddedChannel clientSideChannel) {
-        ByteBuf outgoingMessageBuffer = clientSideChannel.readOutbound();
+        ByteBuf outgoingMessageBuffer = readOutbound(clientSideChannel);
         // No need to release buffer because inbound buffers are released by InboundDecoder
         serverSideChannel.writeInbound(outgoingMessageBuffer);
     }
 
+    /**
+     * Reads an outbound buffer, running the pending tasks first because the flushes are consolidated and may be deferred.
+     */
+    private static ByteBuf readOutbound(EmbeddedChannel channel) {
+        channel.runPendingTasks();
+
+        return channel.readOutbound();
+    }
+
     private final Consumer<InNetworkObject> noMessageListener = inNetworkObject ->
             fail("Received message while shouldn't have, [" + inNetworkObject.message() + "]");
 
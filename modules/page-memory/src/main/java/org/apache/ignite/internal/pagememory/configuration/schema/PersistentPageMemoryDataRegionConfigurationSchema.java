@@ -40,12 +40,26 @@ public class PersistentPageMemoryDataRegionConfigurationSchema extends BasePageM
     /** CLOCK page replacement algorithm. */
     public static final String CLOCK_REPLACEMENT_MODE = "CLOCK";
 
+    /** Adaptive Replacement Cache (ARC) page replacement algorithm, resistant to scans. */
+    public static final String ARC_REPLACEMENT_MODE = "ARC";
+
+    /** Speed-based throttling of the writers: the speed of dirtying the pages is kept below the speed of the checkpoint. */
+    public static final String SPEED_BASED_THROTTLING_POLICY = "SPEED_BASED";
+
+    /** No throttling of the writers. */
+    public static final String DISABLED_THROTTLING_POLICY = "DISABLED";
+
     /** Memory region size in bytes. */
     @Value(hasDefault = true)
     public long size = DFLT_DATA_REGION_SIZE;
 
     /** Memory pages replacement mode. */
-    @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE})
+    @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE, ARC_REPLACEMENT_MODE})
     @Value(hasDefault = true)
     public String replacementMode = CLOCK_REPLACEMENT_MODE;
+
+    /** Policy of throttling of the threads which mark the pages dirty during a checkpoint. */
+    @OneOf({SPEED_BASED_THROTTLING_POLICY, DISABLED_THROTTLING_POLICY})
+    @Value(hasDefault = true)
+    public String throttlingPolicy = SPEED_BASED_THROTTLING_POLICY;
 }
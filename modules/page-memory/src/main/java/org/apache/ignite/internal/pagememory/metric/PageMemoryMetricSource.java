@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.metric;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+
+/**
+ * Metric source of a persistent data region. Page read and write times are measured in microseconds.
+ */
+public class PageMemoryMetricSource extends AbstractMetricSource<PageMemoryMetricSource.Holder> {
+    /** Prefix of the source name, followed by the name of the data region. */
+    public static final String SOURCE_NAME_PREFIX = "pagememory.persistent.";
+
+    /** Bounds of the page read and write time distributions, in microseconds. */
+    private static final long[] TIME_BOUNDS_US = {10, 50, 100, 500, 1_000, 5_000, 10_000, 100_000};
+
+    /** Page memory of the data region. */
+    private final PersistentPageMemory pageMemory;
+
+    /**
+     * Constructor.
+     *
+     * @param regionName Name of the data region.
+     * @param pageMemory Page memory of the data region.
+     */
+    public PageMemoryMetricSource(String regionName, PersistentPageMemory pageMemory) {
+        super(SOURCE_NAME_PREFIX + regionName);
+
+        this.pageMemory = pageMemory;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void init(MetricSetBuilder bldr, Holder holder) {
+        holder.hits = bldr.longAdder("PageHits", "Number of the page acquisitions served from the page memory.");
+
+        holder.misses = bldr.longAdder("PageMisses", "Number of the page acquisitions that required reading the page from the disk.");
+
+        holder.replacements = bldr.longAdder("PageReplacements", "Number of the pages evicted from the page memory to load other pages.");
+
+        holder.pagesWritten = bldr.longAdder("PagesWritten", "Number of the pages written to the disk.");
+
+        holder.readTime = bldr.distribution(
+                "PageReadTime",
+                "Distribution of the time of the page reads from the disk, in microseconds.",
+                TIME_BOUNDS_US
+        );
+
+        holder.writeTime = bldr.distribution(
+                "PageWriteTime",
+                "Distribution of the time of the page write requests to the disk, in microseconds. A checkpoint writes adjacent pages "
+                        + "by a single request.",
+                TIME_BOUNDS_US
+        );
+
+        bldr.longGauge("LoadedPages", "Number of the pages loaded to the page memory.", pageMemory::loadedPages);
+
+        bldr.longGauge("TotalPages", "Number of the pages that fit into the page memory.", pageMemory::totalPages);
+
+        bldr.doubleGauge(
+                "LoadedPagesMapOccupancy",
+                "Ratio of the occupied slots of the loaded pages maps.",
+                () -> ratio(pageMemory.loadedPages(), pageMemory.loadedPagesMapCapacity())
+        );
+
+        bldr.longGauge("DirtyPages", "Number of the dirty pages to be written by the next checkpoint.", pageMemory::dirtyPagesCount);
+
+        bldr.doubleGauge(
+                "DirtyPagesRatio",
+                "Ratio of the dirty pages to the pages that fit into the page memory.",
+                () -> ratio(pageMemory.dirtyPagesCount(), pageMemory.totalPages())
+        );
+
+        bldr.intGauge(
+                "CheckpointBufferUsedPages",
+                "Number of the pages of the checkpoint buffer holding copies of the pages modified during a checkpoint.",
+                pageMemory::usedCheckpointBufferPages
+        );
+
+        bldr.intGauge("CheckpointBufferPages", "Capacity of the checkpoint buffer.", pageMemory::maxCheckpointBufferPages);
+    }
+
+    /**
+     * Records a page acquisition served from the page memory.
+     */
+    public void onPageHit() {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.hits.increment();
+        }
+    }
+
+    /**
+     * Records a page acquisition that required reading the page from the disk.
+     *
+     * @param readNanos Time of the page read in nanoseconds.
+     */
+    public void onPageMiss(long readNanos) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.misses.increment();
+            holder.readTime.add(TimeUnit.NANOSECONDS.toMicros(readNanos));
+        }
+    }
+
+    /**
+     * Records a page evicted from the page memory.
+     */
+    public void onPageReplaced() {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.replacements.increment();
+        }
+    }
+
+    /**
+     * Records a write request of the pages to the disk.
+     *
+     * @param pageCount Number of the written pages.
+     * @param writeNanos Time of the request in nanoseconds.
+     */
+    public void onPagesWritten(int pageCount, long writeNanos) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.pagesWritten.add(pageCount);
+            holder.writeTime.add(TimeUnit.NANOSECONDS.toMicros(writeNanos));
+        }
+    }
+
+    private static double ratio(long count, long total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+
+    /**
+     * Holder class.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private LongAdderMetric hits;
+
+        private LongAdderMetric misses;
+
+        private LongAdderMetric replacements;
+
+        private LongAdderMetric pagesWritten;
+
+        private DistributionMetric readTime;
+
+        private DistributionMetric writeTime;
+    }
+}
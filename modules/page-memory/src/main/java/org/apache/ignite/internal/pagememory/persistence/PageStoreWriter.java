@@ -20,6 +20,7 @@ package org.apache.ignite.internal.pagememory.persistence;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.pagememory.FullPageId;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
 import org.apache.ignite.internal.pagememory.persistence.store.PageStore;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 
@@ -31,7 +32,7 @@ public interface PageStoreWriter {
      * Callback for write page. {@link PersistentPageMemory} will copy page content to buffer before call.
      *
      * @param fullPageId Page ID to get byte buffer for. The page ID must be present in the collection returned by the {@link
-     * PersistentPageMemory#beginCheckpoint(CompletableFuture)} method call.
+     * PersistentPageMemory#beginCheckpoint(CompletableFuture, CheckpointMetricsTracker)} method call.
      * @param buf Temporary buffer to write changes into.
      * @param tag {@code Partition generation} if data was read.
      * @throws IgniteInternalCheckedException If write page failed.
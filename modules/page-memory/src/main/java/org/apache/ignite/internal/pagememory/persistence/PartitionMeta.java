@@ -51,6 +51,10 @@ public class PartitionMeta {
 
     private volatile long rowVersionFreeListRootPageId;
 
+    private volatile long indexColumnsFreeListRootPageId;
+
+    private volatile long indexTreeMetaPageId;
+
     private volatile int pageCount;
 
     private volatile PartitionMetaSnapshot metaSnapshot;
@@ -69,6 +73,8 @@ public class PartitionMeta {
      * @param lastAppliedIndex Last applied index value.
      * @param versionChainTreeRootPageId Version chain tree root page ID.
      * @param rowVersionFreeListRootPageId Row version free list root page ID.
+     * @param indexColumnsFreeListRootPageId Index columns free list root page ID.
+     * @param indexTreeMetaPageId Index meta tree meta page ID.
      * @param pageCount Count of pages in the partition.
      */
     public PartitionMeta(
@@ -76,11 +82,15 @@ public class PartitionMeta {
             long lastAppliedIndex,
             long versionChainTreeRootPageId,
             long rowVersionFreeListRootPageId,
+            long indexColumnsFreeListRootPageId,
+            long indexTreeMetaPageId,
             int pageCount
     ) {
         this.lastAppliedIndex = lastAppliedIndex;
         this.versionChainTreeRootPageId = versionChainTreeRootPageId;
         this.rowVersionFreeListRootPageId = rowVersionFreeListRootPageId;
+        this.indexColumnsFreeListRootPageId = indexColumnsFreeListRootPageId;
+        this.indexTreeMetaPageId = indexTreeMetaPageId;
         this.pageCount = pageCount;
 
         metaSnapshot = new PartitionMetaSnapshot(checkpointId, this);
@@ -99,6 +109,8 @@ public class PartitionMeta {
                 metaIo.getLastAppliedIndex(pageAddr),
                 metaIo.getVersionChainTreeRootPageId(pageAddr),
                 metaIo.getRowVersionFreeListRootPageId(pageAddr),
+                metaIo.getIndexColumnsFreeListRootPageId(pageAddr),
+                metaIo.getIndexTreeMetaPageId(pageAddr),
                 metaIo.getPageCount(pageAddr)
         );
     }
@@ -160,6 +172,44 @@ public class PartitionMeta {
         this.rowVersionFreeListRootPageId = rowVersionFreeListRootPageId;
     }
 
+    /**
+     * Returns index columns free list root page ID.
+     */
+    public long indexColumnsFreeListRootPageId() {
+        return indexColumnsFreeListRootPageId;
+    }
+
+    /**
+     * Sets index columns free list root page ID.
+     *
+     * @param checkpointId Checkpoint ID.
+     * @param indexColumnsFreeListRootPageId Index columns free list root page ID.
+     */
+    public void indexColumnsFreeListRootPageId(@Nullable UUID checkpointId, long indexColumnsFreeListRootPageId) {
+        updateSnapshot(checkpointId);
+
+        this.indexColumnsFreeListRootPageId = indexColumnsFreeListRootPageId;
+    }
+
+    /**
+     * Returns index meta tree meta page ID.
+     */
+    public long indexTreeMetaPageId() {
+        return indexTreeMetaPageId;
+    }
+
+    /**
+     * Sets index meta tree meta page ID.
+     *
+     * @param checkpointId Checkpoint ID.
+     * @param indexTreeMetaPageId Index meta tree meta page ID.
+     */
+    public void indexTreeMetaPageId(@Nullable UUID checkpointId, long indexTreeMetaPageId) {
+        updateSnapshot(checkpointId);
+
+        this.indexTreeMetaPageId = indexTreeMetaPageId;
+    }
+
     /**
      * Returns count of pages in the partition.
      */
@@ -219,6 +269,10 @@ public class PartitionMeta {
 
         private final long rowVersionFreeListRootPageId;
 
+        private final long indexColumnsFreeListRootPageId;
+
+        private final long indexTreeMetaPageId;
+
         private final int pageCount;
 
         /**
@@ -232,6 +286,8 @@ public class PartitionMeta {
             this.lastAppliedIndex = partitionMeta.lastAppliedIndex;
             this.versionChainTreeRootPageId = partitionMeta.versionChainTreeRootPageId;
             this.rowVersionFreeListRootPageId = partitionMeta.rowVersionFreeListRootPageId;
+            this.indexColumnsFreeListRootPageId = partitionMeta.indexColumnsFreeListRootPageId;
+            this.indexTreeMetaPageId = partitionMeta.indexTreeMetaPageId;
             this.pageCount = partitionMeta.pageCount;
         }
 
@@ -256,6 +312,20 @@ public class PartitionMeta {
             return rowVersionFreeListRootPageId;
         }
 
+        /**
+         * Returns index columns free list root page ID.
+         */
+        public long indexColumnsFreeListRootPageId() {
+            return indexColumnsFreeListRootPageId;
+        }
+
+        /**
+         * Returns index meta tree meta page ID.
+         */
+        public long indexTreeMetaPageId() {
+            return indexTreeMetaPageId;
+        }
+
         /**
          * Returns count of pages in the partition.
          */
@@ -273,6 +343,8 @@ public class PartitionMeta {
             metaIo.setLastAppliedIndex(pageAddr, lastAppliedIndex);
             metaIo.setVersionChainTreeRootPageId(pageAddr, versionChainTreeRootPageId);
             metaIo.setRowVersionFreeListRootPageId(pageAddr, rowVersionFreeListRootPageId);
+            metaIo.setIndexColumnsFreeListRootPageId(pageAddr, indexColumnsFreeListRootPageId);
+            metaIo.setIndexTreeMetaPageId(pageAddr, indexTreeMetaPageId);
             metaIo.setPageCount(pageAddr, pageCount);
         }
 
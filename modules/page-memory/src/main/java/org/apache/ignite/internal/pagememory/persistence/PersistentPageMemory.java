@@ -19,9 +19,12 @@ package org.apache.ignite.internal.pagememory.persistence;
 
 import static java.lang.System.lineSeparator;
 import static org.apache.ignite.internal.pagememory.FullPageId.NULL_PAGE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.ARC_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.CLOCK_REPLACEMENT_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DISABLED_THROTTLING_POLICY;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.RANDOM_LRU_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SEGMENTED_LRU_REPLACEMENT_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SPEED_BASED_THROTTLING_POLICY;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getCrc;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getPageId;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getType;
@@ -86,15 +89,19 @@ import org.apache.ignite.internal.pagememory.mem.IgniteOutOfMemoryException;
 import org.apache.ignite.internal.pagememory.mem.unsafe.UnsafeMemoryProvider;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagememory.metric.PageMemoryMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointPages;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
+import org.apache.ignite.internal.pagememory.persistence.replacement.ArcPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.ClockPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.DelayedPageReplacementTracker;
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicy;
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.RandomLruPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.SegmentedLruPageReplacementPolicyFactory;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteThrottlePolicy;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.util.OffheapReadWriteLock;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -213,6 +220,13 @@ public class PersistentPageMemory implements PageMemory {
     /** Checkpoint timeout lock. */
     private final CheckpointTimeoutLock checkpointTimeoutLock;
 
+    /** Throttling policy of the threads marking the pages dirty, {@code null} if throttling is disabled. */
+    @Nullable
+    private final PagesWriteThrottlePolicy writeThrottle;
+
+    /** Metric source of the data region. */
+    private final PageMemoryMetricSource metricSource;
+
     /**
      * Constructor.
      *
@@ -245,6 +259,8 @@ public class PersistentPageMemory implements PageMemory {
         this.changeTracker = changeTracker;
         this.checkpointTimeoutLock = checkpointTimeoutLock;
 
+        metricSource = new PageMemoryMetricSource(dataRegionConfigView.name(), this);
+
         if (!(dataRegionConfigView.memoryAllocator() instanceof UnsafeMemoryAllocatorView)) {
             throw new IgniteInternalException("Unexpected memory allocator: " + dataRegionConfigView.memoryAllocator());
         }
@@ -269,12 +285,39 @@ public class PersistentPageMemory implements PageMemory {
             case CLOCK_REPLACEMENT_MODE:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case ARC_REPLACEMENT_MODE:
+                pageReplacementPolicyFactory = new ArcPageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteInternalException("Unexpected page replacement mode: " + replacementMode);
         }
 
-        delayedPageReplacementTracker = new DelayedPageReplacementTracker(pageSize, flushDirtyPageForReplacement, LOG, sizes.length - 1);
+        String throttlingPolicy = dataRegionConfigView.throttlingPolicy();
+
+        switch (throttlingPolicy) {
+            case SPEED_BASED_THROTTLING_POLICY:
+                writeThrottle = new PagesWriteSpeedBasedThrottle(this);
+
+                break;
+            case DISABLED_THROTTLING_POLICY:
+                writeThrottle = null;
+
+                break;
+            default:
+                throw new IgniteInternalException("Unexpected throttling policy: " + throttlingPolicy);
+        }
+
+        WriteDirtyPage timedFlushDirtyPage = (pageMemory, fullPageId, buffer) -> {
+            long startNanos = System.nanoTime();
+
+            flushDirtyPageForReplacement.write(pageMemory, fullPageId, buffer);
+
+            metricSource.onPagesWritten(1, System.nanoTime() - startNanos);
+        };
+
+        delayedPageReplacementTracker = new DelayedPageReplacementTracker(pageSize, timedFlushDirtyPage, LOG, sizes.length - 1);
     }
 
     /** {@inheritDoc} */
@@ -669,6 +712,8 @@ public class PersistentPageMemory implements PageMemory {
 
                 seg.pageReplacementPolicy.onHit(relPtr);
 
+                metricSource.onPageHit();
+
                 statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
 
                 return absPtr;
@@ -775,6 +820,8 @@ public class PersistentPageMemory implements PageMemory {
                 absPtr = seg.absolute(relPtr);
 
                 seg.pageReplacementPolicy.onHit(relPtr);
+
+                metricSource.onPageHit();
             }
 
             seg.acquirePage(absPtr);
@@ -802,8 +849,12 @@ public class PersistentPageMemory implements PageMemory {
                 long actualPageId = 0;
 
                 try {
+                    long startNanos = System.nanoTime();
+
                     pageStoreManager.read(grpId, pageId, buf, false);
 
+                    metricSource.onPageMiss(System.nanoTime() - startNanos);
+
                     statHolder.trackPhysicalAndLogicalRead(pageAddr);
 
                     actualPageId = getPageId(buf);
@@ -980,6 +1031,44 @@ public class PersistentPageMemory implements PageMemory {
         return total;
     }
 
+    /**
+     * Returns the total capacity of the loaded pages maps of the segments.
+     */
+    public long loadedPagesMapCapacity() {
+        long total = 0;
+
+        Segment[] segments = this.segments;
+
+        if (segments != null) {
+            for (Segment seg : segments) {
+                if (seg == null) {
+                    break;
+                }
+
+                seg.readLock().lock();
+
+                try {
+                    if (seg.closed) {
+                        continue;
+                    }
+
+                    total += seg.loadedPages.capacity();
+                } finally {
+                    seg.readLock().unlock();
+                }
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns the metric source of the data region.
+     */
+    public PageMemoryMetricSource metricSource() {
+        return metricSource;
+    }
+
     /**
      * Returns total number of acquired pages.
      */
@@ -1164,6 +1253,11 @@ public class PersistentPageMemory implements PageMemory {
                 throw ex;
             }
         }
+
+        // Throttle only after the page is unlocked, so other threads are not blocked on it.
+        if (writeThrottle != null && !restore && markDirty && !wasDirty) {
+            writeThrottle.onMarkDirty(isInCheckpoint(fullId));
+        }
     }
 
     /**
@@ -1557,7 +1651,11 @@ public class PersistentPageMemory implements PageMemory {
                 throw oomException("all pages are acquired");
             }
 
-            return pageReplacementPolicy.replace();
+            long relPtr = pageReplacementPolicy.replace();
+
+            metricSource.onPageReplaced();
+
+            return relPtr;
         }
 
         /**
@@ -1769,6 +1867,67 @@ public class PersistentPageMemory implements PageMemory {
         return checkpointPool == null ? 0 : checkpointPool.pages();
     }
 
+    /**
+     * Returns number of dirty pages which will be written by the next checkpoint.
+     */
+    public long dirtyPagesCount() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        long total = 0;
+
+        for (Segment seg : segments) {
+            total += seg.dirtyPagesCntr.get();
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns max number of dirty pages, reaching it in a segment triggers a checkpoint.
+     */
+    public long maxDirtyPages() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        long total = 0;
+
+        for (Segment seg : segments) {
+            total += seg.maxDirtyPages;
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns number of pages of the current checkpoint which have not been written yet, {@code 0} if there is no checkpoint in progress.
+     */
+    public int checkpointPagesToWrite() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        int total = 0;
+
+        for (Segment seg : segments) {
+            CheckpointPages pages0 = seg.checkpointPages;
+
+            if (pages0 != null) {
+                total += pages0.size();
+            }
+        }
+
+        return total;
+    }
+
     private void releaseCheckpointBufferPage(long tmpBufPtr) {
         checkpointPool.releaseFreePage(tmpBufPtr);
     }
@@ -1910,7 +2069,7 @@ public class PersistentPageMemory implements PageMemory {
      * Prepare page for write during checkpoint. {@link PageStoreWriter} will be called when the page will be ready to write.
      *
      * @param fullId Page ID to get byte buffer for. The page ID must be present in the collection returned by the {@link
-     * #beginCheckpoint(CompletableFuture)} method call.
+     * #beginCheckpoint(CompletableFuture, CheckpointMetricsTracker)} method call.
      * @param buf Temporary buffer to write changes into.
      * @param pageStoreWriter Checkpoint page write context.
      * @param tracker Checkpoint metrics tracker.
@@ -2031,10 +2190,14 @@ public class PersistentPageMemory implements PageMemory {
      * finished. This method must be called when no concurrent operations on pages are performed.
      *
      * @param allowToReplace The sign which allows replacing pages from a checkpoint by page replacer.
+     * @param tracker Checkpoint metrics tracker.
      * @return Collection view of dirty page IDs.
      * @throws IgniteInternalException If checkpoint has been already started and was not finished.
      */
-    public Collection<FullPageId> beginCheckpoint(CompletableFuture<?> allowToReplace) throws IgniteInternalException {
+    public Collection<FullPageId> beginCheckpoint(
+            CompletableFuture<?> allowToReplace,
+            CheckpointMetricsTracker tracker
+    ) throws IgniteInternalException {
         if (segments == null) {
             return List.of();
         }
@@ -2055,6 +2218,10 @@ public class PersistentPageMemory implements PageMemory {
 
         safeToUpdate.set(true);
 
+        if (writeThrottle != null) {
+            writeThrottle.onBeginCheckpoint(tracker);
+        }
+
         return CollectionUtils.concat(dirtyPageIds);
     }
 
@@ -2071,5 +2238,9 @@ public class PersistentPageMemory implements PageMemory {
                 seg.checkpointPages = null;
             }
         }
+
+        if (writeThrottle != null) {
+            writeThrottle.onFinishCheckpoint();
+        }
     }
 }
@@ -28,6 +28,7 @@ import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointView;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointDirtyPages.CheckpointDirtyPagesView;
@@ -123,7 +124,7 @@ public class CheckpointManager {
 
         checkpointPagesWriterFactory = new CheckpointPagesWriterFactory(
                 Loggers.forClass(CheckpointPagesWriterFactory.class),
-                (pageMemory, fullPageId, pageBuf) -> writePageToDeltaFilePageStore(pageMemory, fullPageId, pageBuf, true),
+                this::deltaFilePageStore,
                 ioRegistry,
                 partitionMetaManager,
                 pageSize
@@ -271,7 +272,28 @@ public class CheckpointManager {
             ByteBuffer pageBuf,
             boolean calculateCrc
     ) throws IgniteInternalCheckedException {
-        FilePageStore filePageStore = filePageStoreManager.getStore(pageId.groupId(), pageId.partitionId());
+        GroupPartitionId partitionId = new GroupPartitionId(pageId.groupId(), pageId.partitionId());
+
+        deltaFilePageStore(pageMemory, partitionId).write(pageId.pageId(), pageBuf, calculateCrc);
+    }
+
+    /**
+     * Returns the delta file page store of the current checkpoint for the partition, creates it if it doesn't exist yet.
+     *
+     * <p>Must be used at checkpoint and page replacement.
+     *
+     * @param pageMemory Page memory.
+     * @param partitionId Partition ID.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    DeltaFilePageStoreIo deltaFilePageStore(
+            PersistentPageMemory pageMemory,
+            GroupPartitionId partitionId
+    ) throws IgniteInternalCheckedException {
+        int groupId = partitionId.getGroupId();
+        int partId = partitionId.getPartitionId();
+
+        FilePageStore filePageStore = filePageStoreManager.getStore(groupId, partId);
 
         CheckpointProgress lastCheckpointProgress = lastCheckpointProgress();
 
@@ -283,11 +305,11 @@ public class CheckpointManager {
         assert pagesToWrite != null : "Dirty pages must be sorted out";
 
         CompletableFuture<DeltaFilePageStoreIo> deltaFilePageStoreFuture = filePageStore.getOrCreateNewDeltaFile(
-                index -> filePageStoreManager.tmpDeltaFilePageStorePath(pageId.groupId(), pageId.partitionId(), index),
-                () -> pageIndexesForDeltaFilePageStore(pagesToWrite.getPartitionView(pageMemory, pageId.groupId(), pageId.partitionId()))
+                index -> filePageStoreManager.tmpDeltaFilePageStorePath(groupId, partId, index),
+                () -> pageIndexesForDeltaFilePageStore(pagesToWrite.getPartitionView(pageMemory, groupId, partId))
         );
 
-        deltaFilePageStoreFuture.join().write(pageId.pageId(), pageBuf, calculateCrc);
+        return deltaFilePageStoreFuture.join();
     }
 
     /**
@@ -17,10 +17,13 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
+import static java.lang.Math.max;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater;
 import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMillis;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import org.apache.ignite.internal.pagememory.persistence.store.PageStore;
 
 /**
@@ -44,10 +47,30 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COPY_ON_WRITE_PAGES_WRITTEN_UPDATER =
             newUpdater(CheckpointMetricsTracker.class, "copyOnWritePagesWritten");
 
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> THROTTLED_WRITES_UPDATER =
+            newUpdater(CheckpointMetricsTracker.class, "throttledWrites");
+
+    private static final AtomicLongFieldUpdater<CheckpointMetricsTracker> THROTTLE_PARK_NANOS_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "throttleParkNanos");
+
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> PAGES_WRITTEN_UPDATER =
+            newUpdater(CheckpointMetricsTracker.class, "pagesWritten");
+
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> WRITE_REQUESTS_UPDATER =
+            newUpdater(CheckpointMetricsTracker.class, "writeRequests");
+
     private volatile int dataPagesWritten;
 
     private volatile int copyOnWritePagesWritten;
 
+    private volatile int throttledWrites;
+
+    private volatile long throttleParkNanos;
+
+    private volatile int pagesWritten;
+
+    private volatile int writeRequests;
+
     private final long checkpointStartTimestamp = coarseCurrentTimeMillis();
 
     private long checkpointWriteLockWaitStartTimestamp;
@@ -122,6 +145,87 @@ public class CheckpointMetricsTracker {
         return dataPagesWritten;
     }
 
+    /**
+     * Callback on parking a thread which marked a page dirty, because pages are dirtied faster than the checkpoint writes them.
+     *
+     * <p>Thread safe.
+     *
+     * @param parkNanos Park duration in nanoseconds.
+     */
+    public void onWriteThrottled(long parkNanos) {
+        THROTTLED_WRITES_UPDATER.incrementAndGet(this);
+        THROTTLE_PARK_NANOS_UPDATER.addAndGet(this, parkNanos);
+    }
+
+    /**
+     * Returns the number of the throttled writes.
+     *
+     * <p>Thread safe.
+     */
+    public int throttledWrites() {
+        return throttledWrites;
+    }
+
+    /**
+     * Returns total park duration of the throttled writes in mills.
+     *
+     * <p>Thread safe.
+     */
+    public long throttleParkDuration() {
+        return NANOSECONDS.toMillis(throttleParkNanos);
+    }
+
+    /**
+     * Callback on writing pages to a page store with a single I/O request.
+     *
+     * <p>Thread safe.
+     *
+     * @param pageCount Number of the written pages.
+     */
+    public void onPagesWritten(int pageCount) {
+        PAGES_WRITTEN_UPDATER.addAndGet(this, pageCount);
+        WRITE_REQUESTS_UPDATER.incrementAndGet(this);
+    }
+
+    /**
+     * Returns the number of the pages written to the page stores, including partition meta pages.
+     *
+     * <p>Thread safe.
+     */
+    public int pagesWritten() {
+        return pagesWritten;
+    }
+
+    /**
+     * Returns the number of the I/O requests the pages were written with.
+     *
+     * <p>Thread safe.
+     */
+    public int writeRequests() {
+        return writeRequests;
+    }
+
+    /**
+     * Returns the speed of writing pages to the page stores in pages per second.
+     *
+     * <p>Not thread safe.
+     */
+    public long pagesWriteSpeed() {
+        return pagesWritten * 1000L / max(pagesWriteDuration(), 1);
+    }
+
+    /**
+     * Returns the ratio of the pages written to the page stores to the dirty pages of the checkpoint, partition meta pages are written in
+     * addition to the dirty pages.
+     *
+     * <p>Thread safe.
+     *
+     * @param dirtyPages Number of the dirty pages of the checkpoint.
+     */
+    public double writeAmplification(int dirtyPages) {
+        return dirtyPages == 0 ? 0 : (double) pagesWritten / dirtyPages;
+    }
+
     /**
      * Callback before acquiring checkpoint write lock.
      *
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.checkpoint;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
+import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.ignite.internal.pagememory.metric.PageMemoryMetricSource;
+import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Batch of checkpoint pages which are stored one after another in a delta file page store, the pages of a batch are written by a single
+ * I/O request.
+ *
+ * <p>Pages are copied to one of several buffers. When the next page can't be appended to the current batch (it belongs to another file or
+ * it isn't stored right after the previous page), or the buffer is full, the batch is written asynchronously and the next buffer is used.
+ * Before a buffer is reused the writing from it is awaited, so the number of the writes in flight is bounded by the number of the buffers.
+ *
+ * <p>Not thread safe, every checkpoint thread uses its own instance.
+ */
+class CheckpointPagesWriteBatch {
+    /** Page size in bytes. */
+    private final int pageSize;
+
+    /** Buffers to accumulate the pages in. */
+    private final ByteBuffer[] buffers;
+
+    /** Slices of the buffers, one for every page. */
+    private final ByteBuffer[][] pageBuffers;
+
+    /** Futures of the writes from the buffers, {@code null} if a buffer isn't being written. */
+    private final CompletableFuture<?>[] writeFutures;
+
+    /** Index of the current buffer. */
+    private int bufferIdx;
+
+    /** Number of the pages in the current buffer. */
+    private int pageCount;
+
+    /** Delta file page store of the pages in the current buffer. */
+    private @Nullable DeltaFilePageStoreIo store;
+
+    /** Metric source of the data region of the pages in the current buffer. */
+    private @Nullable PageMemoryMetricSource metricSource;
+
+    /** ID of the first page in the current buffer. */
+    private long firstPageId;
+
+    /** Offset in the file of the page which may be appended to the current buffer. */
+    private long nextPageOffset;
+
+    /**
+     * Constructor.
+     *
+     * @param pageSize Page size in bytes.
+     * @param maxPagesPerWrite Maximum number of the pages written by a single I/O request.
+     * @param maxWritesInFlight Maximum number of the I/O requests in flight.
+     */
+    CheckpointPagesWriteBatch(int pageSize, int maxPagesPerWrite, int maxWritesInFlight) {
+        assert maxPagesPerWrite > 0 : maxPagesPerWrite;
+        assert maxWritesInFlight > 0 : maxWritesInFlight;
+
+        this.pageSize = pageSize;
+
+        buffers = new ByteBuffer[maxWritesInFlight];
+        pageBuffers = new ByteBuffer[maxWritesInFlight][maxPagesPerWrite];
+        writeFutures = new CompletableFuture[maxWritesInFlight];
+
+        for (int i = 0; i < maxWritesInFlight; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(pageSize * maxPagesPerWrite).order(nativeOrder());
+
+            for (int j = 0; j < maxPagesPerWrite; j++) {
+                pageBuffers[i][j] = buffers[i].duplicate().position(j * pageSize).limit((j + 1) * pageSize).slice().order(nativeOrder());
+            }
+        }
+    }
+
+    /**
+     * Returns the buffer to copy the next page to, the page must be {@link #add added} after that.
+     */
+    ByteBuffer nextPageBuffer() {
+        return pageBuffers[bufferIdx][pageCount].rewind();
+    }
+
+    /**
+     * Adds the page copied to the {@link #nextPageBuffer() next page buffer}.
+     *
+     * @param store Delta file page store to write the page to.
+     * @param pageId Page ID.
+     * @param metricSource Metric source of the data region of the page.
+     * @param tracker Checkpoint metrics tracker.
+     * @throws IgniteInternalCheckedException If writing of the previous pages failed.
+     */
+    void add(
+            DeltaFilePageStoreIo store,
+            long pageId,
+            PageMemoryMetricSource metricSource,
+            CheckpointMetricsTracker tracker
+    ) throws IgniteInternalCheckedException {
+        long pageOffset = store.pageOffset(pageId);
+
+        assert pageOffset >= 0 : "Page is missing in the delta file [pageId=" + hexLong(pageId) + ", file=" + store.filePath() + ']';
+
+        if (pageCount > 0 && (store != this.store || pageOffset != nextPageOffset)) {
+            ByteBuffer pageBuf = pageBuffers[bufferIdx][pageCount];
+
+            flush(tracker);
+
+            pageBuffers[bufferIdx][0].rewind().put(pageBuf.rewind());
+        }
+
+        if (pageCount == 0) {
+            this.store = store;
+            this.metricSource = metricSource;
+
+            firstPageId = pageId;
+        }
+
+        nextPageOffset = pageOffset + pageSize;
+
+        if (++pageCount == pageBuffers[bufferIdx].length) {
+            flush(tracker);
+        }
+    }
+
+    /**
+     * Starts writing of the added pages, if there are any.
+     *
+     * @param tracker Checkpoint metrics tracker.
+     * @throws IgniteInternalCheckedException If writing of the previous pages failed.
+     */
+    void flush(CheckpointMetricsTracker tracker) throws IgniteInternalCheckedException {
+        if (pageCount == 0) {
+            return;
+        }
+
+        DeltaFilePageStoreIo store = this.store;
+        PageMemoryMetricSource metricSource = this.metricSource;
+
+        assert store != null;
+        assert metricSource != null;
+
+        int pageCount = this.pageCount;
+
+        ByteBuffer buffer = buffers[bufferIdx].limit(pageCount * pageSize).rewind();
+
+        long startNanos = System.nanoTime();
+
+        writeFutures[bufferIdx] = store.writeAsync(firstPageId, buffer, true).thenRun(() -> {
+            tracker.onPagesWritten(pageCount);
+
+            metricSource.onPagesWritten(pageCount, System.nanoTime() - startNanos);
+        });
+
+        this.store = null;
+        this.metricSource = null;
+        this.pageCount = 0;
+
+        bufferIdx = (bufferIdx + 1) % buffers.length;
+
+        awaitWrite(bufferIdx);
+    }
+
+    /**
+     * Waits for all the writes in flight.
+     *
+     * @throws IgniteInternalCheckedException If writing failed.
+     */
+    void awaitWrites() throws IgniteInternalCheckedException {
+        IgniteInternalCheckedException err = null;
+
+        for (int i = 0; i < writeFutures.length; i++) {
+            try {
+                awaitWrite(i);
+            } catch (IgniteInternalCheckedException e) {
+                if (err == null) {
+                    err = e;
+                } else {
+                    err.addSuppressed(e);
+                }
+            }
+        }
+
+        if (err != null) {
+            throw err;
+        }
+    }
+
+    /**
+     * Drops the added pages that are not written yet and waits for all the writes in flight ignoring their errors, so the batch can be
+     * reused after a failure.
+     */
+    void reset() {
+        store = null;
+        metricSource = null;
+        pageCount = 0;
+
+        try {
+            awaitWrites();
+        } catch (IgniteInternalCheckedException ignored) {
+            // The error has already been handled by the owner of the previous write.
+        }
+    }
+
+    private void awaitWrite(int idx) throws IgniteInternalCheckedException {
+        CompletableFuture<?> writeFuture = writeFutures[idx];
+
+        if (writeFuture == null) {
+            return;
+        }
+
+        writeFutures[idx] = null;
+
+        try {
+            writeFuture.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = unwrapCause(e);
+
+            if (cause instanceof IgniteInternalCheckedException) {
+                throw (IgniteInternalCheckedException) cause;
+            }
+
+            throw new IgniteInternalCheckedException(cause);
+        }
+    }
+}
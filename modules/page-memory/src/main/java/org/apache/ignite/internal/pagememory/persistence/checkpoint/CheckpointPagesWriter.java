@@ -33,7 +33,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import org.apache.ignite.internal.logger.IgniteLogger;
@@ -44,8 +43,8 @@ import org.apache.ignite.internal.pagememory.persistence.PageStoreWriter;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMeta.PartitionMetaSnapshot;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
-import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
 import org.apache.ignite.internal.pagememory.persistence.io.PartitionMetaIo;
+import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
 import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
 import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue.Result;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -55,6 +54,9 @@ import org.jetbrains.annotations.Nullable;
  * Implementation of page writer which able to store pages to disk during checkpoint.
  */
 public class CheckpointPagesWriter implements Runnable {
+    /** Maximum number of the page IDs taken from the queue at once. */
+    static final int MAX_PAGES_PER_QUEUE_POLL = 64;
+
     /** Logger. */
     private final IgniteLogger log;
 
@@ -78,14 +80,14 @@ public class CheckpointPagesWriter implements Runnable {
     /** Update heartbeat callback. */
     private final Runnable updateHeartbeat;
 
-    /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
-    private final ThreadLocal<ByteBuffer> threadBuf;
+    /** Thread local with batches of pages to write for the checkpoint threads. */
+    private final ThreadLocal<CheckpointPagesWriteBatch> threadWriteBatch;
 
     /** Current checkpoint. This field is updated only by checkpoint thread. */
     private final CheckpointProgressImpl checkpointProgress;
 
-    /** Writer which able to write one page. */
-    private final WriteDirtyPage pageWriter;
+    /** Provider of the delta file page stores to write the pages to. */
+    private final DeltaFilePageStoreProvider deltaFilePageStoreProvider;
 
     /** Page IO registry. */
     private final PageIoRegistry ioRegistry;
@@ -105,9 +107,9 @@ public class CheckpointPagesWriter implements Runnable {
      * @param doneFut Done future.
      * @param updateHeartbeat Update heartbeat callback.
      * @param log Logger.
-     * @param threadBuf Thread local byte buffer.
+     * @param threadWriteBatch Thread local batch of pages to write.
      * @param checkpointProgress Checkpoint progress.
-     * @param pageWriter File page store manager.
+     * @param deltaFilePageStoreProvider Provider of the delta file page stores to write the pages to.
      * @param ioRegistry Page IO registry.
      * @param partitionMetaManager Partition meta information manager.
      * @param shutdownNow Shutdown supplier.
@@ -119,9 +121,9 @@ public class CheckpointPagesWriter implements Runnable {
             ConcurrentMap<GroupPartitionId, LongAdder> updatedPartitions,
             CompletableFuture<?> doneFut,
             Runnable updateHeartbeat,
-            ThreadLocal<ByteBuffer> threadBuf,
+            ThreadLocal<CheckpointPagesWriteBatch> threadWriteBatch,
             CheckpointProgressImpl checkpointProgress,
-            WriteDirtyPage pageWriter,
+            DeltaFilePageStoreProvider deltaFilePageStoreProvider,
             PageIoRegistry ioRegistry,
             PartitionMetaManager partitionMetaManager,
             BooleanSupplier shutdownNow
@@ -132,9 +134,9 @@ public class CheckpointPagesWriter implements Runnable {
         this.updatedPartitions = updatedPartitions;
         this.doneFut = doneFut;
         this.updateHeartbeat = updateHeartbeat;
-        this.threadBuf = threadBuf;
+        this.threadWriteBatch = threadWriteBatch;
         this.checkpointProgress = checkpointProgress;
-        this.pageWriter = pageWriter;
+        this.deltaFilePageStoreProvider = deltaFilePageStoreProvider;
         this.ioRegistry = ioRegistry;
         this.partitionMetaManager = partitionMetaManager;
         this.shutdownNow = shutdownNow;
@@ -143,8 +145,10 @@ public class CheckpointPagesWriter implements Runnable {
     /** {@inheritDoc} */
     @Override
     public void run() {
+        CheckpointPagesWriteBatch writeBatch = threadWriteBatch.get();
+
         try {
-            IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> pageIdsToRetry = writePages(writePageIds);
+            IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> pageIdsToRetry = writePages(writePageIds, writeBatch);
 
             while (!pageIdsToRetry.isEmpty()) {
                 if (log.isInfoEnabled()) {
@@ -152,11 +156,17 @@ public class CheckpointPagesWriter implements Runnable {
                             + "unsuccessful page write lock acquisition and will be retried [pageCount={}]", pageIdsToRetry.size());
                 }
 
-                pageIdsToRetry = writePages(pageIdsToRetry);
+                pageIdsToRetry = writePages(pageIdsToRetry, writeBatch);
             }
 
+            writeBatch.flush(tracker);
+
+            writeBatch.awaitWrites();
+
             doneFut.complete(null);
         } catch (Throwable e) {
+            writeBatch.reset();
+
             doneFut.completeExceptionally(e);
         }
     }
@@ -164,50 +174,56 @@ public class CheckpointPagesWriter implements Runnable {
     /**
      * Writes dirty pages.
      *
+     * <p>Pages are taken from the queue in batches, so the pages that are adjacent in the delta file page store are written by the same
+     * thread and may be {@link CheckpointPagesWriteBatch merged} into a single I/O request.
+     *
      * @param writePageIds Queue of dirty page IDs to write.
+     * @param writeBatch Batch of pages to write.
      * @return pagesToRetry Queue dirty page IDs which should be retried.
      */
     private IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> writePages(
-            IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> writePageIds
+            IgniteConcurrentMultiPairQueue<PersistentPageMemory, FullPageId> writePageIds,
+            CheckpointPagesWriteBatch writeBatch
     ) throws IgniteInternalCheckedException {
         Map<PersistentPageMemory, List<FullPageId>> pageIdsToRetry = new HashMap<>();
 
         Map<PersistentPageMemory, PageStoreWriter> pageStoreWriters = new HashMap<>();
 
-        ByteBuffer tmpWriteBuf = threadBuf.get();
-
         Result<PersistentPageMemory, FullPageId> queueResult = new Result<>();
 
-        GroupPartitionId partitionId = null;
+        List<FullPageId> pageIds = new ArrayList<>(MAX_PAGES_PER_QUEUE_POLL);
 
-        AtomicBoolean writeMetaPage = new AtomicBoolean();
+        GroupPartitionId partitionId = null;
 
-        while (!shutdownNow.getAsBoolean() && writePageIds.next(queueResult)) {
-            updateHeartbeat.run();
+        while (!shutdownNow.getAsBoolean() && writePageIds.next(queueResult, pageIds, MAX_PAGES_PER_QUEUE_POLL) > 0) {
+            PersistentPageMemory pageMemory = queueResult.getKey();
 
-            FullPageId fullId = queueResult.getValue();
+            PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(
+                    pageMemory,
+                    pm -> createPageStoreWriter(pm, pageIdsToRetry, writeBatch)
+            );
 
-            PersistentPageMemory pageMemory = queueResult.getKey();
+            for (int i = 0; i < pageIds.size(); i++) {
+                if (i > 0 && shutdownNow.getAsBoolean()) {
+                    break;
+                }
 
-            if (hasPartitionChanged(partitionId, fullId)) {
-                updatedPartitions.computeIfAbsent(partitionId = toPartitionId(fullId), partId -> {
-                    writeMetaPage.set(true);
+                updateHeartbeat.run();
 
-                    return new LongAdder();
-                });
+                FullPageId fullId = pageIds.get(i);
 
-                if (writeMetaPage.get()) {
-                    writePartitionMeta(pageMemory, partitionId, tmpWriteBuf.rewind());
+                if (hasPartitionChanged(partitionId, fullId)) {
+                    partitionId = toPartitionId(fullId);
 
-                    writeMetaPage.set(false);
+                    if (updatedPartitions.putIfAbsent(partitionId, new LongAdder()) == null) {
+                        writePartitionMeta(pageMemory, partitionId, writeBatch);
+                    }
                 }
-            }
 
-            tmpWriteBuf.rewind();
-
-            PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(pageMemory, pm -> createPageStoreWriter(pm, pageIdsToRetry));
+                pageMemory.checkpointWritePage(fullId, writeBatch.nextPageBuffer(), pageStoreWriter, tracker);
+            }
 
-            pageMemory.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker);
+            pageIds.clear();
         }
 
         return pageIdsToRetry.isEmpty() ? EMPTY : new IgniteConcurrentMultiPairQueue<>(pageIdsToRetry);
@@ -218,10 +234,12 @@ public class CheckpointPagesWriter implements Runnable {
      *
      * @param pageMemory Page memory.
      * @param pagesToRetry Page IDs that need to be rewritten.
+     * @param writeBatch Batch of pages to write.
      */
     private PageStoreWriter createPageStoreWriter(
             PersistentPageMemory pageMemory,
-            Map<PersistentPageMemory, List<FullPageId>> pagesToRetry
+            Map<PersistentPageMemory, List<FullPageId>> pagesToRetry,
+            CheckpointPagesWriteBatch writeBatch
     ) {
         return new PageStoreWriter() {
             /** {@inheritDoc} */
@@ -246,9 +264,13 @@ public class CheckpointPagesWriter implements Runnable {
 
                 checkpointProgress.writtenPagesCounter().incrementAndGet();
 
-                pageWriter.write(pageMemory, fullPageId, buf);
+                GroupPartitionId partitionId = toPartitionId(fullPageId);
+
+                DeltaFilePageStoreIo deltaFilePageStore = deltaFilePageStoreProvider.deltaFilePageStore(pageMemory, partitionId);
+
+                writeBatch.add(deltaFilePageStore, pageId, pageMemory.metricSource(), tracker);
 
-                updatedPartitions.get(toPartitionId(fullPageId)).increment();
+                updatedPartitions.get(partitionId).increment();
             }
         };
     }
@@ -256,15 +278,15 @@ public class CheckpointPagesWriter implements Runnable {
     private void writePartitionMeta(
             PersistentPageMemory pageMemory,
             GroupPartitionId partitionId,
-            ByteBuffer buffer
+            CheckpointPagesWriteBatch writeBatch
     ) throws IgniteInternalCheckedException {
         PartitionMetaSnapshot partitionMetaSnapshot = partitionMetaManager.getMeta(partitionId).metaSnapshot(checkpointProgress.id());
 
-        partitionMetaManager.writeMetaToBuffer(partitionId, partitionMetaSnapshot, buffer.rewind());
+        partitionMetaManager.writeMetaToBuffer(partitionId, partitionMetaSnapshot, writeBatch.nextPageBuffer());
 
-        FullPageId fullPageId = new FullPageId(partitionMetaPageId(partitionId.getPartitionId()), partitionId.getGroupId());
+        DeltaFilePageStoreIo deltaFilePageStore = deltaFilePageStoreProvider.deltaFilePageStore(pageMemory, partitionId);
 
-        pageWriter.write(pageMemory, fullPageId, buffer.rewind());
+        writeBatch.add(deltaFilePageStore, partitionMetaPageId(partitionId.getPartitionId()), pageMemory.metricSource(), tracker);
 
         checkpointProgress.writtenPagesCounter().incrementAndGet();
 
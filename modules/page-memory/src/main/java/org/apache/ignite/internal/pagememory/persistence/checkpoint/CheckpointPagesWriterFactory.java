@@ -17,8 +17,6 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.LongAdder;
@@ -29,7 +27,6 @@ import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
-import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
 import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
 
 /**
@@ -38,14 +35,20 @@ import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
  * <p>It holds all dependency which is needed for creation of checkpoint writer.
  */
 public class CheckpointPagesWriterFactory {
+    /** Maximum number of the pages written by a single I/O request. */
+    static final int MAX_PAGES_PER_WRITE = 16;
+
+    /** Maximum number of the I/O requests in flight per checkpoint thread. */
+    static final int MAX_WRITES_IN_FLIGHT = 4;
+
     /** Logger. */
     private final IgniteLogger log;
 
-    /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
-    private final ThreadLocal<ByteBuffer> threadBuf;
+    /** Thread local with batches of pages to write for the checkpoint threads. */
+    private final ThreadLocal<CheckpointPagesWriteBatch> threadWriteBatch;
 
-    /** Writer which writes pages to page store during the checkpoint. */
-    private final WriteDirtyPage dirtyPageWriter;
+    /** Provider of the delta file page stores to write the pages to. */
+    private final DeltaFilePageStoreProvider deltaFilePageStoreProvider;
 
     /** Page IO registry. */
     private final PageIoRegistry ioRegistry;
@@ -57,31 +60,27 @@ public class CheckpointPagesWriterFactory {
      * Constructor.
      *
      * @param log Logger.
-     * @param dirtyPageWriter Checkpoint page writer.
+     * @param deltaFilePageStoreProvider Provider of the delta file page stores to write the pages to.
      * @param ioRegistry Page IO registry.
      * @param partitionMetaManager Partition meta information manager.
      * @param pageSize Page size in bytes.
      */
     CheckpointPagesWriterFactory(
             IgniteLogger log,
-            WriteDirtyPage dirtyPageWriter,
+            DeltaFilePageStoreProvider deltaFilePageStoreProvider,
             PageIoRegistry ioRegistry,
             PartitionMetaManager partitionMetaManager,
             // TODO: IGNITE-17017 Move to common config
             int pageSize
     ) {
         this.log = log;
-        this.dirtyPageWriter = dirtyPageWriter;
+        this.deltaFilePageStoreProvider = deltaFilePageStoreProvider;
         this.ioRegistry = ioRegistry;
         this.partitionMetaManager = partitionMetaManager;
 
-        threadBuf = ThreadLocal.withInitial(() -> {
-            ByteBuffer tmpWriteBuf = ByteBuffer.allocateDirect(pageSize);
-
-            tmpWriteBuf.order(ByteOrder.nativeOrder());
-
-            return tmpWriteBuf;
-        });
+        threadWriteBatch = ThreadLocal.withInitial(
+                () -> new CheckpointPagesWriteBatch(pageSize, MAX_PAGES_PER_WRITE, MAX_WRITES_IN_FLIGHT)
+        );
     }
 
     /**
@@ -112,9 +111,9 @@ public class CheckpointPagesWriterFactory {
                 updatedPartitions,
                 doneWriteFut,
                 updateHeartbeat,
-                threadBuf,
+                threadWriteBatch,
                 checkpointProgress,
-                dirtyPageWriter,
+                deltaFilePageStoreProvider,
                 ioRegistry,
                 partitionMetaManager,
                 shutdownNow
@@ -232,7 +232,7 @@ class CheckpointWorkflow {
             tracker.onMarkCheckpointBeginEnd();
 
             // Page replacement is allowed only after sorting dirty pages.
-            dirtyPages = beginCheckpoint(dataRegions, curr.futureFor(PAGES_SORTED));
+            dirtyPages = beginCheckpoint(dataRegions, curr.futureFor(PAGES_SORTED), tracker);
 
             curr.currentCheckpointPagesCount(dirtyPages.dirtyPageCount);
 
@@ -341,12 +341,13 @@ class CheckpointWorkflow {
 
     private DataRegionsDirtyPages beginCheckpoint(
             Collection<? extends DataRegion<PersistentPageMemory>> dataRegions,
-            CompletableFuture<?> allowToReplace
+            CompletableFuture<?> allowToReplace,
+            CheckpointMetricsTracker tracker
     ) {
         Collection<DataRegionDirtyPages<Collection<FullPageId>>> dataRegionsDirtyPages = new ArrayList<>(dataRegions.size());
 
         for (DataRegion<PersistentPageMemory> dataRegion : dataRegions) {
-            Collection<FullPageId> dirtyPages = dataRegion.pageMemory().beginCheckpoint(allowToReplace);
+            Collection<FullPageId> dirtyPages = dataRegion.pageMemory().beginCheckpoint(allowToReplace, tracker);
 
             dataRegionsDirtyPages.add(new DataRegionDirtyPages<>(dataRegion.pageMemory(), dirtyPages));
         }
@@ -345,11 +345,18 @@ public class Checkpointer extends IgniteWorker {
             if (chp.hasDelta()) {
                 if (log.isInfoEnabled()) {
                     log.info(String.format(
-                            "Checkpoint finished [checkpointId=%s, pages=%d, pagesWriteTime=%dms, fsyncTime=%dms, totalTime=%dms]",
+                            "Checkpoint finished [checkpointId=%s, pages=%d, pagesWriteTime=%dms, pagesWriteSpeed=%d pages/s, "
+                                    + "writeRequests=%d, writeAmplification=%.2f, fsyncTime=%dms, "
+                                    + "throttledWrites=%d, throttleParkTime=%dms, totalTime=%dms]",
                             chp.progress.id(),
                             chp.dirtyPagesSize,
                             tracker.pagesWriteDuration(),
+                            tracker.pagesWriteSpeed(),
+                            tracker.writeRequests(),
+                            tracker.writeAmplification(chp.dirtyPagesSize),
                             tracker.fsyncDuration(),
+                            tracker.throttledWrites(),
+                            tracker.throttleParkDuration(),
                             tracker.totalDuration()
                     ));
                 }
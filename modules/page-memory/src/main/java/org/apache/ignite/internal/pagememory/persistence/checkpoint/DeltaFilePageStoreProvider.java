@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.checkpoint;
+
+import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+
+/**
+ * Provider of the delta file page stores to which the dirty pages of the current checkpoint are written.
+ */
+@FunctionalInterface
+public interface DeltaFilePageStoreProvider {
+    /**
+     * Returns the delta file page store of the current checkpoint for the partition, creates it if it doesn't exist yet.
+     *
+     * @param pageMemory Page memory.
+     * @param partitionId Partition ID.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    DeltaFilePageStoreIo deltaFilePageStore(
+            PersistentPageMemory pageMemory,
+            GroupPartitionId partitionId
+    ) throws IgniteInternalCheckedException;
+}
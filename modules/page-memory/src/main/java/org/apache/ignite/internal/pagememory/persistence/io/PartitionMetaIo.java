@@ -37,7 +37,11 @@ public class PartitionMetaIo extends PageIo {
 
     private static final int ROW_VERSION_FREE_LIST_ROOT_PAGE_ID_OFF = VERSION_CHAIN_TREE_ROOT_PAGE_ID_OFF + Long.BYTES;
 
-    private static final int PAGE_COUNT_OFF = ROW_VERSION_FREE_LIST_ROOT_PAGE_ID_OFF + Long.BYTES;
+    private static final int INDEX_COLUMNS_FREE_LIST_ROOT_PAGE_ID_OFF = ROW_VERSION_FREE_LIST_ROOT_PAGE_ID_OFF + Long.BYTES;
+
+    private static final int INDEX_TREE_META_PAGE_ID_OFF = INDEX_COLUMNS_FREE_LIST_ROOT_PAGE_ID_OFF + Long.BYTES;
+
+    private static final int PAGE_COUNT_OFF = INDEX_TREE_META_PAGE_ID_OFF + Long.BYTES;
 
     /** Page IO type. */
     public static final short T_TABLE_PARTITION_META_IO = 7;
@@ -62,6 +66,8 @@ public class PartitionMetaIo extends PageIo {
         setLastAppliedIndex(pageAddr, 0);
         setVersionChainTreeRootPageId(pageAddr, 0);
         setRowVersionFreeListRootPageId(pageAddr, 0);
+        setIndexColumnsFreeListRootPageId(pageAddr, 0);
+        setIndexTreeMetaPageId(pageAddr, 0);
         setPageCount(pageAddr, 0);
     }
 
@@ -128,6 +134,48 @@ public class PartitionMetaIo extends PageIo {
         return getLong(pageAddr, ROW_VERSION_FREE_LIST_ROOT_PAGE_ID_OFF);
     }
 
+    /**
+     * Sets index columns free list root page ID.
+     *
+     * @param pageAddr Page address.
+     * @param pageId Index columns free list root page ID.
+     */
+    public void setIndexColumnsFreeListRootPageId(long pageAddr, long pageId) {
+        assertPageType(pageAddr);
+
+        putLong(pageAddr, INDEX_COLUMNS_FREE_LIST_ROOT_PAGE_ID_OFF, pageId);
+    }
+
+    /**
+     * Returns index columns free list root page ID.
+     *
+     * @param pageAddr Page address.
+     */
+    public long getIndexColumnsFreeListRootPageId(long pageAddr) {
+        return getLong(pageAddr, INDEX_COLUMNS_FREE_LIST_ROOT_PAGE_ID_OFF);
+    }
+
+    /**
+     * Sets index meta tree meta page ID.
+     *
+     * @param pageAddr Page address.
+     * @param pageId Index meta tree meta page ID.
+     */
+    public void setIndexTreeMetaPageId(long pageAddr, long pageId) {
+        assertPageType(pageAddr);
+
+        putLong(pageAddr, INDEX_TREE_META_PAGE_ID_OFF, pageId);
+    }
+
+    /**
+     * Returns index meta tree meta page ID.
+     *
+     * @param pageAddr Page address.
+     */
+    public long getIndexTreeMetaPageId(long pageAddr) {
+        return getLong(pageAddr, INDEX_TREE_META_PAGE_ID_OFF);
+    }
+
     /**
      * Sets the count of pages.
      *
@@ -156,6 +204,8 @@ public class PartitionMetaIo extends PageIo {
                 .app("lastAppliedIndex=").app(getLastAppliedIndex(addr)).nl()
                 .app(", versionChainTreeRootPageId=").appendHex(getVersionChainTreeRootPageId(addr)).nl()
                 .app(", rowVersionFreeListRootPageId=").appendHex(getRowVersionFreeListRootPageId(addr)).nl()
+                .app(", indexColumnsFreeListRootPageId=").appendHex(getIndexColumnsFreeListRootPageId(addr)).nl()
+                .app(", indexTreeMetaPageId=").appendHex(getIndexTreeMetaPageId(addr)).nl()
                 .app(", pageCount=").app(getPageCount(addr)).nl()
                 .app(']');
     }
@@ -0,0 +1,420 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.util.GridUnsafe.getByte;
+import static org.apache.ignite.internal.util.GridUnsafe.getInt;
+import static org.apache.ignite.internal.util.GridUnsafe.putByte;
+import static org.apache.ignite.internal.util.GridUnsafe.putInt;
+import static org.apache.ignite.internal.util.GridUnsafe.putLong;
+
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Page lists of the Adaptive Replacement Cache (ARC) algorithm.
+ *
+ * <p>Loaded pages are kept in two LRU lists: T1 holds the pages that were not accessed since they were loaded, T2 holds the pages that
+ * were accessed at least once more. Only an access separated from the previous one by the accesses of other pages moves a page to T2: the
+ * accesses in quick succession, e.g. the reads of the rows of a page by a scan, are correlated and count as a single one. Evicted pages
+ * are remembered in the ghost lists B1 and B2, according to the list they were evicted from. The pages are evicted from T1 while it is
+ * larger than the target size, which is adapted to the workload: a miss on a page from B1 means that T1 is too small and increases the
+ * target, a miss on a page from B2 decreases it. Pages read once, e.g. by a scan, never get to T2, so a scan evicts only the pages of T1
+ * and the frequently accessed pages survive it.
+ *
+ * <p>Ghost lists are approximated by a direct-mapped table of the hashes of the evicted pages: an evicted page replaces the ghost in the
+ * same slot of the table. So the number of ghosts never exceeds the number of slots, and the ghosts don't need to be ordered.
+ */
+public class ArcPageLists {
+    /** Null page index. */
+    static final int NULL_IDX = -1;
+
+    /** State of a page which is not in the lists. */
+    static final byte NONE = 0;
+
+    /** State of a page from T1 list, also marks the ghosts of B1 list. */
+    static final byte T1 = 1;
+
+    /** State of a page from T2 list, also marks the ghosts of B2 list. */
+    static final byte T2 = 2;
+
+    /** Mask of the list of a ghost. */
+    private static final int GHOST_LIST_MASK = 3;
+
+    /** Minimal number of the slots of the ghost table. */
+    private static final int MIN_GHOST_SLOTS = 16;
+
+    /** Total pages count. */
+    private final int capacity;
+
+    /** Indexes of the head (least recently used) pages of the lists, indexed by the list state. */
+    private final int[] heads = {NULL_IDX, NULL_IDX, NULL_IDX};
+
+    /** Indexes of the tail (most recently used) pages of the lists, indexed by the list state. */
+    private final int[] tails = {NULL_IDX, NULL_IDX, NULL_IDX};
+
+    /** Sizes of the lists, indexed by the list state. */
+    private final int[] sizes = new int[3];
+
+    /** Sizes of the ghost lists, indexed by the state of the list the ghosts were evicted from. */
+    private final int[] ghostSizes = new int[3];
+
+    /** Target size of T1 list. */
+    private int target;
+
+    /** Logical time: the number of the page accesses, both hits and misses. */
+    private int clock;
+
+    /** Number of the accesses of other pages that must happen between two accesses of a page of T1 list to move it to T2 list. */
+    private final int correlatedPeriod;
+
+    /** Pointer to memory region to store links. */
+    private final long linksPtr;
+
+    /** Pointer to memory region to store page states. */
+    private final long statesPtr;
+
+    /** Pointer to memory region to store the logical times of the last accesses of the pages. */
+    private final long accessTimesPtr;
+
+    /** Pointer to memory region to store the ghost table. */
+    private final long ghostsPtr;
+
+    /** Mask of the slot index of the ghost table. */
+    private final int ghostSlotMask;
+
+    /**
+     * Constructor.
+     *
+     * @param totalPagesCnt Total pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    public ArcPageLists(int totalPagesCnt, long memPtr) {
+        capacity = totalPagesCnt;
+
+        int ghostSlots = ghostSlots(totalPagesCnt);
+
+        linksPtr = memPtr;
+        statesPtr = linksPtr + (((long) totalPagesCnt) << 3);
+        accessTimesPtr = statesPtr + statesSize(totalPagesCnt);
+        ghostsPtr = accessTimesPtr + (((long) totalPagesCnt) << 2);
+
+        ghostSlotMask = ghostSlots - 1;
+
+        correlatedPeriod = Math.max(1, totalPagesCnt >>> 5);
+
+        GridUnsafe.setMemory(linksPtr, ((long) totalPagesCnt) << 3, (byte) 0xFF);
+        GridUnsafe.setMemory(statesPtr, statesSize(totalPagesCnt), NONE);
+        GridUnsafe.setMemory(accessTimesPtr, ((long) totalPagesCnt) << 2, (byte) 0);
+        GridUnsafe.setMemory(ghostsPtr, ((long) ghostSlots) << 2, (byte) 0);
+    }
+
+    /**
+     * Adds a loaded page: to T2 list if it was evicted recently, otherwise to T1 list.
+     *
+     * @param pageIdx Page index.
+     * @param pageHash Hash of the page ID.
+     */
+    public synchronized void onMiss(int pageIdx, int pageHash) {
+        assert state(pageIdx) == NONE : "Page is already in the lists [pageIdx=" + pageIdx + ", state=" + state(pageIdx) + ']';
+
+        putInt(accessTimePtr(pageIdx), ++clock);
+
+        long ghostPtr = ghostPtr(pageHash);
+        int ghost = getInt(ghostPtr);
+
+        int ghostList = ghost != 0 && (ghost & ~GHOST_LIST_MASK) == (pageHash & ~GHOST_LIST_MASK) ? ghost & GHOST_LIST_MASK : NONE;
+
+        if (ghostList == T1) {
+            // T1 was too small to keep the page.
+            target = Math.min(capacity, target + Math.max(1, ghostSizes[T2] / ghostSizes[T1]));
+        } else if (ghostList == T2) {
+            // T2 was too small to keep the page.
+            target = Math.max(0, target - Math.max(1, ghostSizes[T1] / ghostSizes[T2]));
+        }
+
+        if (ghostList == NONE) {
+            addToTail(pageIdx, T1);
+        } else {
+            putInt(ghostPtr, 0);
+
+            ghostSizes[ghostList]--;
+
+            addToTail(pageIdx, T2);
+        }
+    }
+
+    /**
+     * Moves an accessed page to the tail of T2 list, unless the page is in T1 list and the access is correlated with the previous one.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void onHit(int pageIdx) {
+        int now = ++clock;
+
+        byte state = state(pageIdx);
+
+        if (state == NONE || !linked(pageIdx, state)) {
+            return;
+        }
+
+        if (state == T2 && tails[T2] == pageIdx) {
+            return;
+        }
+
+        if (state == T1) {
+            long accessTimePtr = accessTimePtr(pageIdx);
+
+            // The difference is correct even if the clock overflows.
+            boolean correlated = now - getInt(accessTimePtr) <= correlatedPeriod;
+
+            putInt(accessTimePtr, now);
+
+            if (correlated) {
+                return;
+            }
+        }
+
+        unlink(pageIdx, state);
+
+        addToTail(pageIdx, T2);
+    }
+
+    /**
+     * Removes a page from the lists without remembering it as a ghost.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void remove(int pageIdx) {
+        byte state = state(pageIdx);
+
+        if (state == NONE) {
+            return;
+        }
+
+        if (linked(pageIdx, state)) {
+            unlink(pageIdx, state);
+        }
+
+        state(pageIdx, NONE);
+    }
+
+    /**
+     * Removes the head page of T1 list if T1 is larger than its target size, otherwise the head page of T2 list. The page must be either
+     * {@link #evict evicted} or {@link #restore restored} after that.
+     *
+     * @return Page index or {@code -1} if the lists are empty.
+     */
+    public synchronized int poll() {
+        byte list = sizes[T1] > 0 && (sizes[T1] > target || sizes[T2] == 0) ? T1 : T2;
+
+        int pageIdx = heads[list];
+
+        if (pageIdx != NULL_IDX) {
+            unlink(pageIdx, list);
+        }
+
+        return pageIdx;
+    }
+
+    /**
+     * Remembers a {@link #poll polled} page as a ghost of the list it was polled from.
+     *
+     * @param pageIdx Page index.
+     * @param pageHash Hash of the page ID.
+     */
+    public synchronized void evict(int pageIdx, int pageHash) {
+        byte state = state(pageIdx);
+
+        assert state != NONE && !linked(pageIdx, state) : "Page is not polled [pageIdx=" + pageIdx + ", state=" + state + ']';
+
+        long ghostPtr = ghostPtr(pageHash);
+        int ghost = getInt(ghostPtr);
+
+        if (ghost != 0) {
+            ghostSizes[ghost & GHOST_LIST_MASK]--;
+        }
+
+        putInt(ghostPtr, (pageHash & ~GHOST_LIST_MASK) | state);
+
+        ghostSizes[state]++;
+
+        state(pageIdx, NONE);
+    }
+
+    /**
+     * Returns a {@link #poll polled} page, that can't be evicted, to the tail of the list it was polled from.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void restore(int pageIdx) {
+        byte state = state(pageIdx);
+
+        assert state != NONE && !linked(pageIdx, state) : "Page is not polled [pageIdx=" + pageIdx + ", state=" + state + ']';
+
+        addToTail(pageIdx, state);
+    }
+
+    private void addToTail(int pageIdx, byte list) {
+        int tailIdx = tails[list];
+
+        if (tailIdx == NULL_IDX) {
+            assert heads[list] == NULL_IDX : heads[list];
+
+            heads[list] = pageIdx;
+        } else {
+            next(tailIdx, pageIdx);
+            prev(pageIdx, tailIdx);
+        }
+
+        tails[list] = pageIdx;
+
+        sizes[list]++;
+
+        state(pageIdx, list);
+    }
+
+    private void unlink(int pageIdx, byte list) {
+        int prevIdx = prev(pageIdx);
+        int nextIdx = next(pageIdx);
+
+        if (prevIdx == NULL_IDX) {
+            assert heads[list] == pageIdx : "Unexpected page index [headIdx=" + heads[list] + ", pageIdx=" + pageIdx + ']';
+
+            heads[list] = nextIdx;
+        } else {
+            next(prevIdx, nextIdx);
+        }
+
+        if (nextIdx == NULL_IDX) {
+            assert tails[list] == pageIdx : "Unexpected page index [tailIdx=" + tails[list] + ", pageIdx=" + pageIdx + ']';
+
+            tails[list] = prevIdx;
+        } else {
+            prev(nextIdx, prevIdx);
+        }
+
+        putLong(linksPtr + (((long) pageIdx) << 3), -1L);
+
+        sizes[list]--;
+    }
+
+    private boolean linked(int pageIdx, byte list) {
+        return prev(pageIdx) != NULL_IDX || heads[list] == pageIdx;
+    }
+
+    private long accessTimePtr(int pageIdx) {
+        return accessTimesPtr + (((long) pageIdx) << 2);
+    }
+
+    private long ghostPtr(int pageHash) {
+        return ghostsPtr + (((long) (pageHash & ghostSlotMask)) << 2);
+    }
+
+    /**
+     * Gets link to the previous page in the list.
+     *
+     * @param pageIdx Page index.
+     */
+    int prev(int pageIdx) {
+        return getInt(linksPtr + (((long) pageIdx) << 3));
+    }
+
+    private void prev(int pageIdx, int prevIdx) {
+        putInt(linksPtr + (((long) pageIdx) << 3), prevIdx);
+    }
+
+    /**
+     * Gets link to the next page in the list.
+     *
+     * @param pageIdx Page index.
+     */
+    int next(int pageIdx) {
+        return getInt(linksPtr + (((long) pageIdx) << 3) + 4);
+    }
+
+    private void next(int pageIdx, int nextIdx) {
+        putInt(linksPtr + (((long) pageIdx) << 3) + 4, nextIdx);
+    }
+
+    /**
+     * Gets the state of a page: the list it belongs to.
+     *
+     * @param pageIdx Page index.
+     */
+    byte state(int pageIdx) {
+        return getByte(statesPtr + pageIdx);
+    }
+
+    private void state(int pageIdx, byte state) {
+        putByte(statesPtr + pageIdx, state);
+    }
+
+    /**
+     * Gets the index of the head page of a list.
+     *
+     * @param list List state.
+     */
+    synchronized int headIdx(byte list) {
+        return heads[list];
+    }
+
+    /**
+     * Gets the size of a list.
+     *
+     * @param list List state.
+     */
+    synchronized int size(byte list) {
+        return sizes[list];
+    }
+
+    /**
+     * Gets the size of a ghost list.
+     *
+     * @param list State of the list the ghosts were evicted from.
+     */
+    synchronized int ghostSize(byte list) {
+        return ghostSizes[list];
+    }
+
+    /**
+     * Gets the target size of T1 list.
+     */
+    synchronized int target() {
+        return target;
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        return (((long) pagesCnt) << 3) /* links = 2 ints per page */
+                + statesSize(pagesCnt) /* states = 1 byte per page + 8 byte align */
+                + (((long) pagesCnt) << 2) /* access times = 1 int per page */
+                + (((long) ghostSlots(pagesCnt)) << 2) /* ghost table = 1 int per slot */;
+    }
+
+    private static long statesSize(int pagesCnt) {
+        return (pagesCnt + 7L) & ~7L;
+    }
+
+    private static int ghostSlots(int pagesCnt) {
+        return Math.max(MIN_GHOST_SLOTS, Integer.highestOneBit(Math.max(pagesCnt, 1) - 1) << 1);
+    }
+}
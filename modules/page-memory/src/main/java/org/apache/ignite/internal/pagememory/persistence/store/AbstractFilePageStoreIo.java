@@ -21,6 +21,7 @@ import static java.nio.ByteOrder.nativeOrder;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
 import static org.apache.ignite.internal.util.IgniteUtils.atomicMoveFile;
 import static org.apache.ignite.internal.util.IgniteUtils.hexInt;
 import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
@@ -34,6 +35,11 @@ import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.internal.fileio.FileIo;
@@ -61,6 +67,9 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
 
     private volatile @Nullable FileIo fileIo;
 
+    /** Async writes in progress, see {@link #writeAsync}. */
+    private final Set<CompletableFuture<?>> asyncWrites = ConcurrentHashMap.newKeySet();
+
     /** Initialized file page store IO. */
     private volatile boolean initialized;
 
@@ -231,6 +240,150 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
         }
     }
 
+    /**
+     * Writes pages that are stored one after another in the file page store, starting from the given one, with a single I/O operation
+     * without waiting for its completion.
+     *
+     * @param firstPageId ID of the first page.
+     * @param pagesBuf Buffer with the pages to write from, its remaining bytes must be a multiple of the {@link #pageSize() page size}.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @return Future that completes when the pages are written, or exceptionally with {@link IgniteInternalCheckedException} if an
+     *      IO error occurred. The buffer must not be changed until the future completes.
+     * @throws IgniteInternalCheckedException If the file page store could not be initialized.
+     */
+    public CompletableFuture<Void> writeAsync(
+            long firstPageId,
+            ByteBuffer pagesBuf,
+            boolean calculateCrc
+    ) throws IgniteInternalCheckedException {
+        ensure();
+
+        int pageSize = pageSize();
+
+        assert pagesBuf.order() == nativeOrder() : "Page buffer order " + pagesBuf.order() + " should be same with " + nativeOrder();
+        assert pagesBuf.remaining() > 0 && pagesBuf.remaining() % pageSize == 0 : pagesBuf.remaining();
+
+        int pagesPos = pagesBuf.position();
+
+        for (int pos = pagesPos; pos < pagesBuf.limit(); pos += pageSize) {
+            ByteBuffer pageBuf = pageBuffer(pagesBuf, pos, pageSize);
+
+            assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(PageIo.getPageId(pageBuf));
+            assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(PageIo.getPageId(pageBuf));
+
+            if (calculateCrc && !skipCrc) {
+                assert PageIo.getCrc(pageBuf) == 0 : hexLong(PageIo.getPageId(pageBuf));
+
+                PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize));
+            }
+
+            // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
+            assert skipCrc || PageIo.getCrc(pageBuf) != 0
+                    || calcCrc32(pageBuf, pageSize) == 0 : "CRC hasn't been calculated, crc=0";
+        }
+
+        CompletableFuture<Void> res = new CompletableFuture<>();
+
+        writeAsync0(firstPageId, pagesBuf, pagesPos, res);
+
+        return res;
+    }
+
+    /**
+     * Starts an attempt to write the pages, the attempt is retried with the reinitialized file page store if the file channel has been
+     * closed.
+     *
+     * @param firstPageId ID of the first page.
+     * @param pagesBuf Buffer with the pages to write from.
+     * @param pagesPos Position of the first page in the buffer.
+     * @param res Future to complete when the pages are written.
+     */
+    private void writeAsync0(long firstPageId, ByteBuffer pagesBuf, int pagesPos, CompletableFuture<Void> res) {
+        FileIo fileIo;
+
+        CompletableFuture<Integer> writeFut;
+
+        readWriteLock.readLock().lock();
+
+        try {
+            fileIo = this.fileIo;
+
+            if (fileIo == null) {
+                res.completeExceptionally(writeAsyncError(firstPageId, pagesBuf, pagesPos, new IOException("FileIo has stopped")));
+
+                return;
+            }
+
+            writeFut = fileIo.writeFullyAsync(pagesBuf.position(pagesPos), pageOffset(firstPageId));
+
+            // The read lock can't be released by another thread, so the write is registered instead: the file is not closed until
+            // the write completes, as if the read lock were held until then.
+            asyncWrites.add(writeFut);
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+
+        writeFut.whenComplete((written, e) -> {
+            asyncWrites.remove(writeFut);
+
+            if (e == null) {
+                int pageSize = pageSize();
+
+                for (int pos = pagesPos; pos < pagesBuf.limit(); pos += pageSize) {
+                    PageIo.setCrc(pageBuffer(pagesBuf, pos, pageSize), 0);
+                }
+
+                res.complete(null);
+
+                return;
+            }
+
+            Throwable cause = unwrapCause(e);
+
+            if (cause instanceof ClosedChannelException) {
+                try {
+                    reinit(fileIo);
+
+                    writeAsync0(firstPageId, pagesBuf, pagesPos, res);
+
+                    return;
+                } catch (IOException e0) {
+                    e0.addSuppressed(cause);
+
+                    cause = e0;
+                }
+            }
+
+            res.completeExceptionally(writeAsyncError(firstPageId, pagesBuf, pagesPos, cause));
+        });
+    }
+
+    private IgniteInternalCheckedException writeAsyncError(long firstPageId, ByteBuffer pagesBuf, int pagesPos, Throwable cause) {
+        return new IgniteInternalCheckedException(
+                "Failed to write pages [filePath=" + filePath + ", firstPageId=" + firstPageId
+                        + ", pageCount=" + (pagesBuf.limit() - pagesPos) / pageSize() + "]",
+                cause
+        );
+    }
+
+    private static ByteBuffer pageBuffer(ByteBuffer pagesBuf, int pos, int pageSize) {
+        return pagesBuf.duplicate().position(pos).limit(pos + pageSize).slice().order(nativeOrder());
+    }
+
+    /**
+     * Waits for the completion of the async writes in progress. Must be called under the write lock before the file is closed, so no new
+     * writes can be started.
+     */
+    private void awaitAsyncWrites() {
+        for (CompletableFuture<?> writeFut : asyncWrites) {
+            try {
+                writeFut.join();
+            } catch (CompletionException | CancellationException ignored) {
+                // The error is handled by the owner of the write.
+            }
+        }
+    }
+
     /**
      * Sync method used to ensure that the given pages are guaranteed to be written to the file page store.
      *
@@ -370,6 +523,8 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
                 return;
             }
 
+            awaitAsyncWrites();
+
             fileIo.force();
 
             fileIo.close();
@@ -591,6 +746,8 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
 
                 assert fileIo != null : "Tried to rename right after creation: " + filePath;
 
+                awaitAsyncWrites();
+
                 fileIo.force();
 
                 fileIo.close();
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+/**
+ * Speed-based throttling policy.
+ *
+ * <p>During a checkpoint the speed of writing of the checkpoint pages is measured, it gives the estimation of the time left until the
+ * end of the checkpoint. Two resources are consumed by the writers meanwhile: the checkpoint buffer, which holds the copies of the
+ * checkpoint pages modified before they are written, and the limit of the dirty pages of the next checkpoint. The speed at which a
+ * resource may be consumed is its free space divided by the time left. When the writers consume a resource faster, every thread is
+ * parked after marking a page dirty for a time proportional to the time it spent since the previous mark, so the total speed of the
+ * writers drops to the allowed one, instead of failing with the exhausted checkpoint buffer or waiting for the next checkpoint.
+ */
+public class PagesWriteSpeedBasedThrottle implements PagesWriteThrottlePolicy {
+    /** Interval of the measurement of the speeds in nanoseconds. */
+    static final long MEASUREMENT_INTERVAL_NANOS = MILLISECONDS.toNanos(100);
+
+    /** Fill ratio of a resource starting from which the writers may be throttled, lower ratios are not worth it. */
+    static final double THROTTLE_START_RATIO = 0.3;
+
+    /** Maximum duration of a single park in nanoseconds. */
+    static final long MAX_PARK_NANOS = MILLISECONDS.toNanos(100);
+
+    /** Page memory. */
+    private final PersistentPageMemory pageMemory;
+
+    /** Clock in nanoseconds. */
+    private final LongSupplier nanoClock;
+
+    /** Metrics tracker of the current checkpoint, {@code null} if there is no checkpoint in progress. */
+    private volatile @Nullable CheckpointMetricsTracker tracker;
+
+    /** Number of the checkpoint pages marked dirty during the current measurement interval. */
+    private final LongAdder checkpointBufferMarks = new LongAdder();
+
+    /** Number of the other pages marked dirty during the current measurement interval. */
+    private final LongAdder dirtyPagesMarks = new LongAdder();
+
+    /** Start of the current measurement interval. */
+    private final AtomicLong intervalStartNanos = new AtomicLong();
+
+    /** Number of the checkpoint pages not written at the start of the current measurement interval. */
+    private volatile int intervalStartPagesToWrite;
+
+    /** Last measured speed of writing the checkpoint pages, pages per second, {@code 0} if not measured yet. */
+    private volatile double checkpointWriteSpeed;
+
+    /** By how much the speed of consuming the checkpoint buffer exceeds the allowed one, e.g. {@code 0.5} for 150%. */
+    private volatile double checkpointBufferOverspeed;
+
+    /** By how much the speed of dirtying the pages of the next checkpoint exceeds the allowed one. */
+    private volatile double dirtyPagesOverspeed;
+
+    /** Time of the end of the previous mark by the thread, {@code 0} if the thread hasn't marked pages yet. */
+    private final ThreadLocal<long[]> lastMarkNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    /** Parked threads. */
+    private final Set<Thread> parkedThreads = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor.
+     *
+     * @param pageMemory Page memory.
+     */
+    public PagesWriteSpeedBasedThrottle(PersistentPageMemory pageMemory) {
+        this(pageMemory, System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pageMemory Page memory.
+     * @param nanoClock Clock in nanoseconds.
+     */
+    PagesWriteSpeedBasedThrottle(PersistentPageMemory pageMemory, LongSupplier nanoClock) {
+        this.pageMemory = pageMemory;
+        this.nanoClock = nanoClock;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMarkDirty(boolean isPageInCheckpoint) {
+        CheckpointMetricsTracker tracker = this.tracker;
+
+        if (tracker == null) {
+            return;
+        }
+
+        (isPageInCheckpoint ? checkpointBufferMarks : dirtyPagesMarks).increment();
+
+        long now = nanoClock.getAsLong();
+
+        long intervalStart = intervalStartNanos.get();
+
+        if (now - intervalStart >= MEASUREMENT_INTERVAL_NANOS && intervalStartNanos.compareAndSet(intervalStart, now)) {
+            measure(now - intervalStart);
+        }
+
+        long[] lastMark = lastMarkNanos.get();
+
+        // Time the thread spent doing the work since the previous mark, the longer it is, the longer is the park.
+        long workNanos = lastMark[0] == 0 ? 0 : Math.min(now - lastMark[0], MEASUREMENT_INTERVAL_NANOS);
+
+        double overspeed = isPageInCheckpoint ? checkpointBufferOverspeed : dirtyPagesOverspeed;
+
+        long parkNanos = (long) Math.min(MAX_PARK_NANOS, overspeed * workNanos);
+
+        if (parkNanos > 0) {
+            park(parkNanos);
+
+            tracker.onWriteThrottled(parkNanos);
+
+            now = nanoClock.getAsLong();
+        }
+
+        lastMark[0] = now;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onBeginCheckpoint(CheckpointMetricsTracker tracker) {
+        checkpointBufferMarks.reset();
+        dirtyPagesMarks.reset();
+
+        checkpointWriteSpeed = 0;
+        checkpointBufferOverspeed = 0;
+        dirtyPagesOverspeed = 0;
+
+        intervalStartPagesToWrite = pageMemory.checkpointPagesToWrite();
+        intervalStartNanos.set(nanoClock.getAsLong());
+
+        this.tracker = tracker;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFinishCheckpoint() {
+        tracker = null;
+
+        checkpointBufferOverspeed = 0;
+        dirtyPagesOverspeed = 0;
+
+        parkedThreads.forEach(LockSupport::unpark);
+    }
+
+    /**
+     * Measures the speeds at the end of a measurement interval and recalculates the throttling. Called by a single thread at a time.
+     *
+     * @param intervalNanos Duration of the interval in nanoseconds.
+     */
+    private void measure(long intervalNanos) {
+        double intervalSeconds = (double) intervalNanos / SECONDS.toNanos(1);
+
+        int pagesToWrite = pageMemory.checkpointPagesToWrite();
+
+        int written = intervalStartPagesToWrite - pagesToWrite;
+
+        intervalStartPagesToWrite = pagesToWrite;
+
+        if (written > 0) {
+            checkpointWriteSpeed = written / intervalSeconds;
+        }
+
+        double checkpointBufferMarkSpeed = checkpointBufferMarks.sumThenReset() / intervalSeconds;
+        double dirtyPagesMarkSpeed = dirtyPagesMarks.sumThenReset() / intervalSeconds;
+
+        // Nothing to throttle if all the pages were written or the speed of the checkpoint is unknown yet.
+        if (pagesToWrite == 0 || checkpointWriteSpeed == 0) {
+            checkpointBufferOverspeed = 0;
+            dirtyPagesOverspeed = 0;
+
+            return;
+        }
+
+        double secondsLeft = pagesToWrite / checkpointWriteSpeed;
+
+        checkpointBufferOverspeed = overspeed(
+                checkpointBufferMarkSpeed,
+                pageMemory.usedCheckpointBufferPages(),
+                pageMemory.maxCheckpointBufferPages(),
+                secondsLeft
+        );
+
+        dirtyPagesOverspeed = overspeed(dirtyPagesMarkSpeed, pageMemory.dirtyPagesCount(), pageMemory.maxDirtyPages(), secondsLeft);
+    }
+
+    /**
+     * Calculates by how much the speed of consuming a resource exceeds the allowed one.
+     *
+     * @param speed Speed of consuming the resource, pages per second.
+     * @param used Used pages of the resource.
+     * @param max Capacity of the resource in pages.
+     * @param secondsLeft Time left until the end of the checkpoint in seconds.
+     * @return Excess ratio, {@code 0} if the speed doesn't exceed the allowed one.
+     */
+    private static double overspeed(double speed, long used, long max, double secondsLeft) {
+        if (max <= 0 || used < max * THROTTLE_START_RATIO) {
+            return 0;
+        }
+
+        double allowedSpeed = Math.max(max - used, 1) / secondsLeft;
+
+        return speed > allowedSpeed ? speed / allowedSpeed - 1 : 0;
+    }
+
+    private void park(long nanos) {
+        Thread thread = Thread.currentThread();
+
+        parkedThreads.add(thread);
+
+        try {
+            LockSupport.parkNanos(nanos);
+        } finally {
+            parkedThreads.remove(thread);
+        }
+    }
+
+    /**
+     * Returns by how much the speed of consuming the checkpoint buffer exceeds the allowed one.
+     */
+    @TestOnly
+    double checkpointBufferOverspeed() {
+        return checkpointBufferOverspeed;
+    }
+
+    /**
+     * Returns by how much the speed of dirtying the pages of the next checkpoint exceeds the allowed one.
+     */
+    @TestOnly
+    double dirtyPagesOverspeed() {
+        return dirtyPagesOverspeed;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
+
+/**
+ * Policy of throttling of the threads which mark the pages of a {@link PersistentPageMemory} dirty. Throttling slows down the writers
+ * when they dirty the pages faster than the checkpoint is able to write them, so the checkpoint buffer and the limit of the dirty pages
+ * don't get exhausted.
+ */
+public interface PagesWriteThrottlePolicy {
+    /**
+     * Callback on marking a page dirty, may park the current thread. Must be called without holding any page locks.
+     *
+     * @param isPageInCheckpoint {@code True} if the page belongs to the current checkpoint, its copy occupies the checkpoint buffer.
+     */
+    void onMarkDirty(boolean isPageInCheckpoint);
+
+    /**
+     * Callback on the beginning of a checkpoint, after the pages to write were collected.
+     *
+     * @param tracker Metrics tracker of the checkpoint, throttling statistics are reported to it.
+     */
+    void onBeginCheckpoint(CheckpointMetricsTracker tracker);
+
+    /**
+     * Callback on the end of a checkpoint, wakes up the parked threads.
+     */
+    void onFinishCheckpoint();
+}
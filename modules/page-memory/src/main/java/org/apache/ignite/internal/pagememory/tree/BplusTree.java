@@ -1489,6 +1489,44 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Returns the greatest row within the bounds, or {@code null} if there is no such row.
+     *
+     * <p>Leaf pages are only linked in the forward direction, so a range is iterated backwards by repeated calls, each one bounded by
+     * the row returned by the previous one.
+     *
+     * @param lower Lower bound or {@code null} if unbounded.
+     * @param upper Upper bound or {@code null} if unbounded.
+     * @param lowIncl {@code true} if lower bound is inclusive.
+     * @param upIncl {@code true} if upper bound is inclusive.
+     * @param x Implementation specific argument, {@code null} always means that we need to return full detached data row.
+     * @return The greatest row within the bounds.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public @Nullable T findLast(
+            @Nullable L lower,
+            @Nullable L upper,
+            boolean lowIncl,
+            boolean upIncl,
+            @Nullable Object x
+    ) throws IgniteInternalCheckedException {
+        checkDestroyed();
+
+        GetLastInRange g = new GetLastInRange(lower, upper, lowIncl, upIncl, x);
+
+        try {
+            return g.find();
+        } catch (CorruptedDataStructureException e) {
+            throw e;
+        } catch (IgniteInternalCheckedException e) {
+            throw new IgniteInternalCheckedException("Runtime failure on bounds: [lower=" + lower + ", upper=" + upper + "]", e);
+        } catch (RuntimeException | AssertionError e) {
+            throw corruptedTreeException("Runtime failure on bounds: [lower=" + lower + ", upper=" + upper + "]", e, grpId, g.pageId);
+        } finally {
+            checkDestroyed();
+        }
+    }
+
     /**
      * Returns found result or {@code null}.
      *
@@ -3647,6 +3685,134 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Get the last item in the tree within the bounds.
+     */
+    private final class GetLastInRange extends Get {
+        private final @Nullable L lower;
+
+        private final boolean lowIncl;
+
+        private final @Nullable Object x;
+
+        /**
+         * Greatest keys of the rows to the left of the current path by levels, {@code null} where the path takes the leftmost child.
+         * The rows of a left subtree are not greater than the inner key that follows it.
+         */
+        private Object[] leftBounds = new Object[0];
+
+        private boolean retry = true;
+
+        private @Nullable T res;
+
+        /**
+         * Constructor.
+         *
+         * @param lower Lower bound or {@code null} if unbounded.
+         * @param upper Upper bound or {@code null} if unbounded.
+         * @param lowIncl {@code true} if lower bound is inclusive.
+         * @param upIncl {@code true} if upper bound is inclusive.
+         * @param x Implementation specific argument.
+         */
+        GetLastInRange(@Nullable L lower, @Nullable L upper, boolean lowIncl, boolean upIncl, @Nullable Object x) {
+            super(upper, upper == null);
+
+            this.lower = lower;
+            this.lowIncl = lowIncl;
+            this.x = x;
+
+            // A row equal to an inclusive bound is an exact match, a row equal to an exclusive one is treated as a greater row.
+            shift = upIncl ? 0 : -1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean found(BplusIo<L> io, long pageAddr, int idx, int lvl) throws IgniteInternalCheckedException {
+            if (lvl != 0) {
+                // Exact match on an inner page, the search goes left down.
+                leftBound(io, pageAddr, idx, lvl);
+
+                return false;
+            }
+
+            return last(io, pageAddr, idx);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean notFound(BplusIo<L> io, long pageAddr, int idx, int lvl) throws IgniteInternalCheckedException {
+            if (lvl != 0) {
+                leftBound(io, pageAddr, idx, lvl);
+
+                return false;
+            }
+
+            return last(io, pageAddr, idx - 1);
+        }
+
+        private void leftBound(BplusIo<L> io, long pageAddr, int idx, int lvl) throws IgniteInternalCheckedException {
+            leftBounds = set(leftBounds, lvl, idx == 0 ? null : io.getLookupRow(BplusTree.this, pageAddr, idx - 1));
+        }
+
+        /**
+         * Handles the leaf page of the search.
+         *
+         * @param io IO.
+         * @param pageAddr Page address.
+         * @param idx Index of the greatest row in the page that is within the upper bound, negative if there is no such row.
+         * @return {@code true} to stop the search.
+         * @throws IgniteInternalCheckedException If failed.
+         */
+        private boolean last(BplusIo<L> io, long pageAddr, int idx) throws IgniteInternalCheckedException {
+            if (idx < 0) {
+                Object bound = null;
+
+                // The deepest left bound is the tightest one, the bounds above the root level are left from the previous searches.
+                for (int lvl = 1; lvl <= rootLvl && lvl < leftBounds.length && bound == null; lvl++) {
+                    bound = leftBounds[lvl];
+                }
+
+                if (bound == null) {
+                    retry = false; // The leftmost leaf, there are no rows before it.
+                } else {
+                    // Restart from the rows that are not greater than the left bound.
+                    row = (L) bound;
+                    shift = 0;
+                    findLast = false;
+                }
+
+                return true;
+            }
+
+            retry = false;
+
+            if (lower != null) {
+                int cmp = compare(0, io, pageAddr, idx, lower);
+
+                if (cmp < 0 || (cmp == 0 && !lowIncl)) {
+                    return true;
+                }
+            }
+
+            res = getRow(io, pageAddr, idx, x);
+
+            return true;
+        }
+
+        /**
+         * Returns the last item in the tree within the bounds.
+         *
+         * @throws IgniteInternalCheckedException If failure.
+         */
+        @Nullable T find() throws IgniteInternalCheckedException {
+            while (retry) {
+                doFind(this);
+            }
+
+            return res;
+        }
+    }
+
     /**
      * Put operation.
      */
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DISABLED_THROTTLING_POLICY;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.mockCheckpointTimeoutLock;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.TestPageReadWriteManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Replays page access traces through {@link PersistentPageMemory} with every page replacement policy.
+ *
+ * <p>The average time of a page access includes the CPU cost of the page replacement. The hits and the misses of the page memory are
+ * reported by the auxiliary counters, the hit ratio is {@code hits / (hits + misses)}.
+ *
+ * <p>By default, a trace is generated: skewed point lookups of the hot pages, which fit into the page memory, optionally mixed with
+ * scans of a table, which is several times larger than the page memory. A recorded trace can be replayed instead, see
+ * {@link #traceFile}.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 1, time = 20)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+@SuppressWarnings("InstanceVariableMayNotBeInitialized")
+public class PageReplacementBenchmark {
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    private static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+
+    private static final long CHECKPOINT_BUFFER_SIZE = 16L * 1024 * 1024;
+
+    private static final int PARTITION_ID = 0;
+
+    private static final int GROUP_ID = 1;
+
+    /** Length of a generated trace. */
+    private static final int TRACE_LENGTH = 1 << 22;
+
+    /** Ratio of the hot pages to the pages that fit into the page memory. */
+    private static final double HOT_PAGES_RATIO = 0.5;
+
+    /** Ratio of the pages of the scanned table to the pages that fit into the page memory. */
+    private static final int TABLE_PAGES_RATIO = 4;
+
+    /** Page replacement mode. */
+    @Param({"RANDOM_LRU", "SEGMENTED_LRU", "CLOCK", "ARC"})
+    public String replacementMode;
+
+    /** Fraction of the page accesses of a generated trace made by the scans. */
+    @Param({"0", "0.5"})
+    public double scanFraction;
+
+    /** Path to a recorded trace: a text file with a page index per line. If empty, a trace is generated. */
+    @Param({""})
+    public String traceFile;
+
+    private PersistentPageMemory pageMemory;
+
+    private CountingPageReadWriteManager pageStore;
+
+    private long[] trace;
+
+    private int tracePos;
+
+    /**
+     * Hits and misses of the page memory.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        /** Accesses to the pages that were loaded. */
+        public long hits;
+
+        /** Accesses to the pages that were read from the page store. */
+        public long misses;
+
+        /**
+         * Resets the counters.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(PageReplacementBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        PageIoRegistry ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        PersistentPageMemoryDataRegionView regionView = mock(PersistentPageMemoryDataRegionView.class);
+
+        when(regionView.name()).thenReturn("benchmark");
+        when(regionView.size()).thenReturn(SEGMENT_SIZE);
+        when(regionView.replacementMode()).thenReturn(replacementMode);
+        when(regionView.throttlingPolicy()).thenReturn(DISABLED_THROTTLING_POLICY);
+        when(regionView.memoryAllocator()).thenReturn(mock(UnsafeMemoryAllocatorView.class));
+
+        PersistentPageMemoryDataRegionConfiguration regionCfg = mock(PersistentPageMemoryDataRegionConfiguration.class);
+
+        when(regionCfg.value()).thenReturn(regionView);
+
+        pageStore = new CountingPageReadWriteManager();
+
+        pageMemory = new PersistentPageMemory(
+                regionCfg,
+                ioRegistry,
+                new long[]{SEGMENT_SIZE},
+                CHECKPOINT_BUFFER_SIZE,
+                pageStore,
+                null,
+                (fullPageId, buf, tag) -> {
+                    throw new AssertionError("Pages are never dirty: " + fullPageId);
+                },
+                mockCheckpointTimeoutLock(Loggers.forClass(PageReplacementBenchmark.class), true),
+                PAGE_SIZE
+        );
+
+        pageMemory.start();
+
+        trace = traceFile.isEmpty() ? generateTrace((int) pageMemory.totalPages()) : readTrace(Path.of(traceFile));
+    }
+
+    /**
+     * Closes resources.
+     */
+    @TearDown
+    public void tearDown() {
+        pageMemory.stop(true);
+    }
+
+    /**
+     * Accesses the next page of the trace.
+     */
+    @Benchmark
+    public long accessPage(Counters counters) throws Exception {
+        long pageId = trace[tracePos];
+
+        tracePos = tracePos + 1 == trace.length ? 0 : tracePos + 1;
+
+        long reads = pageStore.reads;
+
+        long page = pageMemory.acquirePage(GROUP_ID, pageId);
+
+        pageMemory.releasePage(GROUP_ID, pageId, page);
+
+        if (pageStore.reads == reads) {
+            counters.hits++;
+        } else {
+            counters.misses++;
+        }
+
+        return page;
+    }
+
+    private long[] generateTrace(int loadedPages) {
+        Random rnd = new Random(0);
+
+        int hotPages = (int) (loadedPages * HOT_PAGES_RATIO);
+        int tablePages = loadedPages * TABLE_PAGES_RATIO;
+
+        long[] trace = new long[TRACE_LENGTH];
+
+        int scanPos = 0;
+
+        for (int i = 0; i < TRACE_LENGTH; i++) {
+            int pageIdx;
+
+            if (rnd.nextDouble() < scanFraction) {
+                // Scanned table follows the hot pages.
+                pageIdx = hotPages + scanPos;
+
+                scanPos = scanPos + 1 == tablePages ? 0 : scanPos + 1;
+            } else {
+                // Skewed lookups: the lower the index of a hot page is, the more frequently it is accessed.
+                pageIdx = (int) (hotPages * Math.pow(rnd.nextDouble(), 3));
+            }
+
+            // Page with index 0 is the partition meta page.
+            trace[i] = pageId(PARTITION_ID, FLAG_DATA, pageIdx + 1);
+        }
+
+        return trace;
+    }
+
+    private static long[] readTrace(Path path) throws Exception {
+        return Files.readAllLines(path).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .mapToLong(line -> pageId(PARTITION_ID, FLAG_DATA, Integer.parseInt(line)))
+                .toArray();
+    }
+
+    /**
+     * Page store which counts the reads of the pages, i.e. the misses of the page memory.
+     */
+    private static class CountingPageReadWriteManager extends TestPageReadWriteManager {
+        long reads;
+
+        /** {@inheritDoc} */
+        @Override
+        public void read(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc) {
+            reads++;
+        }
+    }
+}
@@ -133,7 +133,7 @@ public class PartitionMetaManagerTest {
             try (FilePageStore filePageStore = createFilePageStore(testFilePath)) {
                 manager.writeMetaToBuffer(
                         partId,
-                        new PartitionMeta(UUID.randomUUID(), 100, 300, 900, 4).metaSnapshot(null),
+                        new PartitionMeta(UUID.randomUUID(), 100, 300, 900, 0, 0, 4).metaSnapshot(null),
                         buffer.rewind()
                 );
 
@@ -95,11 +95,41 @@ public class PartitionMetaTest {
         assertEquals(500, meta.rowVersionFreeListRootPageId());
     }
 
+    @Test
+    void testIndexColumnsFreeListRootPageId() {
+        PartitionMeta meta = new PartitionMeta();
+
+        assertEquals(0, meta.indexColumnsFreeListRootPageId());
+
+        assertDoesNotThrow(() -> meta.indexColumnsFreeListRootPageId(null, 100));
+
+        assertEquals(100, meta.indexColumnsFreeListRootPageId());
+
+        assertDoesNotThrow(() -> meta.indexColumnsFreeListRootPageId(UUID.randomUUID(), 500));
+
+        assertEquals(500, meta.indexColumnsFreeListRootPageId());
+    }
+
+    @Test
+    void testIndexTreeMetaPageId() {
+        PartitionMeta meta = new PartitionMeta();
+
+        assertEquals(0, meta.indexTreeMetaPageId());
+
+        assertDoesNotThrow(() -> meta.indexTreeMetaPageId(null, 100));
+
+        assertEquals(100, meta.indexTreeMetaPageId());
+
+        assertDoesNotThrow(() -> meta.indexTreeMetaPageId(UUID.randomUUID(), 500));
+
+        assertEquals(500, meta.indexTreeMetaPageId());
+    }
+
     @Test
     void testSnapshot() {
         UUID checkpointId = null;
 
-        PartitionMeta meta = new PartitionMeta(checkpointId, 0, 0, 0, 0);
+        PartitionMeta meta = new PartitionMeta(checkpointId, 0, 0, 0, 0, 0, 0);
 
         checkSnapshot(meta.metaSnapshot(checkpointId), 0, 0, 0, 0);
         checkSnapshot(meta.metaSnapshot(checkpointId = UUID.randomUUID()), 0, 0, 0, 0);
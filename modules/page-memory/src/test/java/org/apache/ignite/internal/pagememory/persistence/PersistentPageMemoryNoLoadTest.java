@@ -28,6 +28,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -49,6 +50,9 @@ import java.util.stream.LongStream;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.metrics.DoubleMetric;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.pagememory.AbstractPageMemoryNoLoadSelfTest;
 import org.apache.ignite.internal.pagememory.DataRegion;
 import org.apache.ignite.internal.pagememory.FullPageId;
@@ -360,6 +364,8 @@ public class PersistentPageMemoryNoLoadTest extends AbstractPageMemoryNoLoadSelf
 
         pageMemory.start();
 
+        MetricSet metricSet = pageMemory.metricSource().enable();
+
         CompletableFuture<?> startWriteMetaToBufferFuture = new CompletableFuture<>();
         CompletableFuture<?> finishWaitWriteMetaToBufferFuture = new CompletableFuture<>();
 
@@ -410,6 +416,10 @@ public class PersistentPageMemoryNoLoadTest extends AbstractPageMemoryNoLoadSelf
             }
 
             checkpointProgress.futureFor(FINISHED).get(1, SECONDS);
+
+            assertThat(metricSet.<LongMetric>get("PageReplacements").value(), greaterThan(0L));
+            assertThat(metricSet.<LongMetric>get("PagesWritten").value(), greaterThan(0L));
+            assertThat(metricSet.<DoubleMetric>get("LoadedPagesMapOccupancy").value(), greaterThan(0.0));
         } finally {
             finishWaitWriteMetaToBufferFuture.complete(null);
 
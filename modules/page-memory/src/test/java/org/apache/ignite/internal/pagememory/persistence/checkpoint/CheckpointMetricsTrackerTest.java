@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMillis;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -68,6 +69,44 @@ public class CheckpointMetricsTrackerTest {
         assertThat(tracker.copyOnWritePagesWritten(), equalTo(2));
     }
 
+    @Test
+    void testPagesWritten() {
+        CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+        assertThat(tracker.pagesWritten(), equalTo(0));
+        assertThat(tracker.writeRequests(), equalTo(0));
+        assertThat(tracker.writeAmplification(0), equalTo(0.0));
+
+        tracker.onPagesWritten(3);
+
+        assertThat(tracker.pagesWritten(), equalTo(3));
+        assertThat(tracker.writeRequests(), equalTo(1));
+
+        tracker.onPagesWritten(1);
+
+        assertThat(tracker.pagesWritten(), equalTo(4));
+        assertThat(tracker.writeRequests(), equalTo(2));
+        assertThat(tracker.writeAmplification(2), equalTo(2.0));
+    }
+
+    @Test
+    void testWriteThrottled() {
+        CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+        assertThat(tracker.throttledWrites(), equalTo(0));
+        assertThat(tracker.throttleParkDuration(), equalTo(0L));
+
+        tracker.onWriteThrottled(MILLISECONDS.toNanos(3));
+
+        assertThat(tracker.throttledWrites(), equalTo(1));
+        assertThat(tracker.throttleParkDuration(), equalTo(3L));
+
+        tracker.onWriteThrottled(MILLISECONDS.toNanos(2));
+
+        assertThat(tracker.throttledWrites(), equalTo(2));
+        assertThat(tracker.throttleParkDuration(), equalTo(5L));
+    }
+
     @Test
     void testDataPagesWritten() {
         CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.checkpoint;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.pagememory.metric.PageMemoryMetricSource;
+import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link CheckpointPagesWriteBatch} testing.
+ */
+public class CheckpointPagesWriteBatchTest {
+    private static final int PAGE_SIZE = 128;
+
+    private final List<List<Long>> writes = new ArrayList<>();
+
+    private final CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+    private final PageMemoryMetricSource metricSource = mock(PageMemoryMetricSource.class);
+
+    @Test
+    void testMergeAdjacentPages() throws Exception {
+        DeltaFilePageStoreIo store = createDeltaFilePageStore();
+
+        CheckpointPagesWriteBatch writeBatch = new CheckpointPagesWriteBatch(PAGE_SIZE, 4, 2);
+
+        add(writeBatch, store, 1);
+        add(writeBatch, store, 2);
+        add(writeBatch, store, 3);
+
+        assertThat(writes, equalTo(List.of()));
+
+        writeBatch.flush(tracker);
+        writeBatch.awaitWrites();
+
+        assertThat(writes, equalTo(List.of(List.of(1L, 2L, 3L))));
+
+        assertThat(tracker.pagesWritten(), equalTo(3));
+        assertThat(tracker.writeRequests(), equalTo(1));
+    }
+
+    @Test
+    void testSplitNotAdjacentPages() throws Exception {
+        DeltaFilePageStoreIo store0 = createDeltaFilePageStore();
+        DeltaFilePageStoreIo store1 = createDeltaFilePageStore();
+
+        CheckpointPagesWriteBatch writeBatch = new CheckpointPagesWriteBatch(PAGE_SIZE, 4, 2);
+
+        add(writeBatch, store0, 1);
+        add(writeBatch, store0, 2);
+        add(writeBatch, store0, 4);
+        add(writeBatch, store1, 5);
+        add(writeBatch, store1, 6);
+
+        writeBatch.flush(tracker);
+        writeBatch.awaitWrites();
+
+        assertThat(writes, equalTo(List.of(List.of(1L, 2L), List.of(4L), List.of(5L, 6L))));
+
+        assertThat(tracker.pagesWritten(), equalTo(5));
+        assertThat(tracker.writeRequests(), equalTo(3));
+    }
+
+    @Test
+    void testFlushFullBuffer() throws Exception {
+        DeltaFilePageStoreIo store = createDeltaFilePageStore();
+
+        CheckpointPagesWriteBatch writeBatch = new CheckpointPagesWriteBatch(PAGE_SIZE, 2, 2);
+
+        for (long pageId = 1; pageId <= 5; pageId++) {
+            add(writeBatch, store, pageId);
+        }
+
+        assertThat(writes, equalTo(List.of(List.of(1L, 2L), List.of(3L, 4L))));
+
+        writeBatch.flush(tracker);
+        writeBatch.awaitWrites();
+
+        assertThat(writes, equalTo(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L))));
+    }
+
+    @Test
+    void testFailWrite() throws Exception {
+        DeltaFilePageStoreIo store = mock(DeltaFilePageStoreIo.class);
+
+        when(store.writeAsync(anyLong(), any(ByteBuffer.class), anyBoolean()))
+                .thenReturn(failedFuture(new IgniteInternalCheckedException("test")));
+
+        CheckpointPagesWriteBatch writeBatch = new CheckpointPagesWriteBatch(PAGE_SIZE, 4, 2);
+
+        add(writeBatch, store, 1);
+
+        writeBatch.flush(tracker);
+
+        IgniteInternalCheckedException exception = assertThrows(IgniteInternalCheckedException.class, writeBatch::awaitWrites);
+
+        assertThat(exception.getMessage(), equalTo("test"));
+
+        assertThat(tracker.pagesWritten(), equalTo(0));
+
+        // The failed write must not affect the next writes.
+        writeBatch.awaitWrites();
+    }
+
+    private void add(CheckpointPagesWriteBatch writeBatch, DeltaFilePageStoreIo store, long pageId) throws Exception {
+        writeBatch.nextPageBuffer().putLong(0, pageId);
+
+        writeBatch.add(store, pageId, metricSource, tracker);
+    }
+
+    /**
+     * Returns mocked instance of {@link DeltaFilePageStoreIo}, the pages of which are stored in the order of their indexes. The IDs of
+     * the written pages are collected to {@link #writes}.
+     */
+    private DeltaFilePageStoreIo createDeltaFilePageStore() throws Exception {
+        DeltaFilePageStoreIo store = mock(DeltaFilePageStoreIo.class);
+
+        when(store.pageOffset(anyLong())).then(answer -> (long) pageIndex(answer.getArgument(0)) * PAGE_SIZE);
+
+        when(store.writeAsync(anyLong(), any(ByteBuffer.class), anyBoolean())).then(answer -> {
+            long firstPageId = answer.getArgument(0);
+            ByteBuffer buffer = answer.getArgument(1);
+
+            List<Long> pageIds = new ArrayList<>();
+
+            for (int pos = buffer.position(); pos < buffer.limit(); pos += PAGE_SIZE) {
+                pageIds.add(buffer.getLong(pos));
+            }
+
+            assertThat(pageIds.get(0), equalTo(firstPageId));
+
+            writes.add(pageIds);
+
+            return completedFuture(null);
+        });
+
+        return store;
+    }
+}
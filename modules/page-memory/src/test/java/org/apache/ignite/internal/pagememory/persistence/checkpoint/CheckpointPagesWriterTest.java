@@ -17,12 +17,13 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.TRY_AGAIN_TAG;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.createPartitionMetaManager;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
-import static org.apache.ignite.internal.util.GridUnsafe.allocateBuffer;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
 import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
@@ -33,8 +34,9 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -42,6 +44,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -57,18 +60,17 @@ import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.TestPageIoModule.TestPageIo;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.metric.PageMemoryMetricSource;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PageStoreWriter;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMeta;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
-import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
+import org.apache.ignite.internal.pagememory.persistence.store.DeltaFilePageStoreIo;
 import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
-import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 
 /**
  * For {@link CheckpointPagesWriter} testing.
@@ -112,11 +114,14 @@ public class CheckpointPagesWriterTest {
 
         Runnable beforePageWrite = mock(Runnable.class);
 
-        ThreadLocal<ByteBuffer> threadBuf = createThreadLocalBuffer();
+        ThreadLocal<CheckpointPagesWriteBatch> threadWriteBatch = createThreadLocalWriteBatch();
 
-        ArgumentCaptor<FullPageId> writtenFullPageIds = ArgumentCaptor.forClass(FullPageId.class);
+        List<List<FullPageId>> writes = new ArrayList<>();
 
-        WriteDirtyPage pageWriter = createDirtyPageWriter(writtenFullPageIds);
+        DeltaFilePageStoreProvider deltaFilePageStoreProvider = createDeltaFilePageStoreProvider(Map.of(
+                groupPartId0, createDeltaFilePageStore(groupPartId0, writes),
+                groupPartId1, createDeltaFilePageStore(groupPartId1, writes)
+        ));
 
         ConcurrentMap<GroupPartitionId, LongAdder> updatedPartitions = new ConcurrentHashMap<>();
 
@@ -136,9 +141,9 @@ public class CheckpointPagesWriterTest {
                 updatedPartitions,
                 doneFuture,
                 beforePageWrite,
-                threadBuf,
+                threadWriteBatch,
                 progressImpl,
-                pageWriter,
+                deltaFilePageStoreProvider,
                 ioRegistry,
                 createPartitionMetaManager(Map.of(groupPartId0, partitionMeta0, groupPartId1, partitionMeta1)),
                 () -> false
@@ -160,21 +165,26 @@ public class CheckpointPagesWriterTest {
         assertThat(tracker.dataPagesWritten(), equalTo(4));
         assertThat(progressImpl.writtenPagesCounter().get(), equalTo(8));
 
+        assertThat(tracker.pagesWritten(), equalTo(8));
+        assertThat(tracker.writeRequests(), equalTo(5));
+
+        // Pages stored one after another in a delta file are written by a single I/O request.
         assertThat(
-                writtenFullPageIds.getAllValues(),
+                writes,
                 equalTo(List.of(
                         // At the beginning, we write the partition meta for each new partition.
-                        fullPageId(0, 0, 0),
+                        List.of(fullPageId(0, 0, 0)),
                         // Order is different because the first 3 pages we have to try to write to the page store 2 times.
-                        fullPageId4, fullPageId5,
-                        fullPageId(0, 1, 0),
-                        fullPageId6, fullPageId1, fullPageId2, fullPageId3
+                        List.of(fullPageId4, fullPageId5),
+                        List.of(fullPageId(0, 1, 0)),
+                        List.of(fullPageId6),
+                        List.of(fullPageId1, fullPageId2, fullPageId3)
                 ))
         );
 
         verify(beforePageWrite, times(9)).run();
 
-        verify(threadBuf, times(2)).get();
+        verify(threadWriteBatch, times(1)).get();
 
         verify(partitionMeta0, times(1)).metaSnapshot(any(UUID.class));
         verify(partitionMeta0, times(1)).metaSnapshot(any(UUID.class));
@@ -186,6 +196,8 @@ public class CheckpointPagesWriterTest {
 
         PersistentPageMemory pageMemory = mock(PersistentPageMemory.class);
 
+        when(pageMemory.metricSource()).thenReturn(mock(PageMemoryMetricSource.class));
+
         doThrow(IgniteInternalCheckedException.class)
                 .when(pageMemory)
                 .checkpointWritePage(
@@ -204,9 +216,9 @@ public class CheckpointPagesWriterTest {
                 new ConcurrentHashMap<>(),
                 doneFuture,
                 () -> {},
-                createThreadLocalBuffer(),
+                createThreadLocalWriteBatch(),
                 new CheckpointProgressImpl(0),
-                createDirtyPageWriter(null),
+                createDeltaFilePageStoreProvider(Map.of(groupPartId, createDeltaFilePageStore(groupPartId, new ArrayList<>()))),
                 ioRegistry,
                 createPartitionMetaManager(Map.of(groupPartId, mock(PartitionMeta.class))),
                 () -> false
@@ -225,6 +237,8 @@ public class CheckpointPagesWriterTest {
 
         PersistentPageMemory pageMemory = mock(PersistentPageMemory.class);
 
+        when(pageMemory.metricSource()).thenReturn(mock(PageMemoryMetricSource.class));
+
         AtomicInteger checkpointWritePageCount = new AtomicInteger();
 
         doAnswer(answer -> {
@@ -255,9 +269,9 @@ public class CheckpointPagesWriterTest {
                 updatedPartitions,
                 doneFuture,
                 () -> {},
-                createThreadLocalBuffer(),
+                createThreadLocalWriteBatch(),
                 new CheckpointProgressImpl(0),
-                createDirtyPageWriter(null),
+                createDeltaFilePageStoreProvider(Map.of(groupPartId, createDeltaFilePageStore(groupPartId, new ArrayList<>()))),
                 ioRegistry,
                 createPartitionMetaManager(Map.of(groupPartId, mock(PartitionMeta.class))),
                 () -> checkpointWritePageCount.get() > 0
@@ -267,7 +281,7 @@ public class CheckpointPagesWriterTest {
 
         assertDoesNotThrow(() -> doneFuture.get(1, TimeUnit.SECONDS));
 
-        assertThat(writePageIds.size(), equalTo(1));
+        assertThat(checkpointWritePageCount.get(), equalTo(1));
         assertThat(updatedPartitions.keySet(), contains(groupPartId));
     }
 
@@ -280,6 +294,8 @@ public class CheckpointPagesWriterTest {
     private static PersistentPageMemory createPageMemory(int tryAgainTagFirstPageCount) throws Exception {
         PersistentPageMemory pageMemory = mock(PersistentPageMemory.class);
 
+        when(pageMemory.metricSource()).thenReturn(mock(PageMemoryMetricSource.class));
+
         AtomicInteger pageCount = new AtomicInteger();
 
         doAnswer(answer -> {
@@ -308,31 +324,51 @@ public class CheckpointPagesWriterTest {
         return pageMemory;
     }
 
-    private static ThreadLocal<ByteBuffer> createThreadLocalBuffer() {
-        ThreadLocal<ByteBuffer> threadBuf = mock(ThreadLocal.class);
+    private static ThreadLocal<CheckpointPagesWriteBatch> createThreadLocalWriteBatch() {
+        ThreadLocal<CheckpointPagesWriteBatch> threadWriteBatch = mock(ThreadLocal.class);
+
+        CheckpointPagesWriteBatch writeBatch = new CheckpointPagesWriteBatch(PAGE_SIZE, 4, 2);
 
-        ByteBuffer buffer = allocateBuffer(PAGE_SIZE);
+        when(threadWriteBatch.get()).thenReturn(writeBatch);
 
-        when(threadBuf.get()).thenReturn(buffer.rewind());
+        return threadWriteBatch;
+    }
 
-        return threadBuf;
+    private static DeltaFilePageStoreProvider createDeltaFilePageStoreProvider(Map<GroupPartitionId, DeltaFilePageStoreIo> stores) {
+        return (pageMemory, partitionId) -> stores.get(partitionId);
     }
 
     /**
-     * Returns mocked instance of {@link WriteDirtyPage}.
+     * Returns mocked instance of {@link DeltaFilePageStoreIo}, the pages of which are stored in the order of their indexes.
      *
-     * @param fullPageIdArgumentCaptor Collector of pages that will fall into {@link WriteDirtyPage#write}.
+     * @param partitionId Partition ID.
+     * @param writes Collector of the pages that will be written by every {@link DeltaFilePageStoreIo#writeAsync} call.
      */
-    private static WriteDirtyPage createDirtyPageWriter(
-            @Nullable ArgumentCaptor<FullPageId> fullPageIdArgumentCaptor
+    private static DeltaFilePageStoreIo createDeltaFilePageStore(
+            GroupPartitionId partitionId,
+            List<List<FullPageId>> writes
     ) throws Exception {
-        WriteDirtyPage writer = mock(WriteDirtyPage.class);
+        DeltaFilePageStoreIo store = mock(DeltaFilePageStoreIo.class);
+
+        when(store.pageOffset(anyLong())).then(answer -> (long) pageIndex(answer.getArgument(0)) * PAGE_SIZE);
+
+        when(store.writeAsync(anyLong(), any(ByteBuffer.class), anyBoolean())).then(answer -> {
+            long firstPageId = answer.getArgument(0);
+            ByteBuffer buffer = answer.getArgument(1);
+
+            List<FullPageId> pageIds = new ArrayList<>();
+
+            // Pages are stored in the order of their indexes, so the index of every next page of a request is greater by one.
+            for (int i = 0; i < buffer.remaining() / PAGE_SIZE; i++) {
+                pageIds.add(new FullPageId(firstPageId + i, partitionId.getGroupId()));
+            }
+
+            writes.add(pageIds);
 
-        if (fullPageIdArgumentCaptor != null) {
-            doNothing().when(writer).write(any(PersistentPageMemory.class), fullPageIdArgumentCaptor.capture(), any(ByteBuffer.class));
-        }
+            return completedFuture(null);
+        });
 
-        return writer;
+        return store;
     }
 
     private static FullPageId fullPageId(int grpId, int partId, int pageIdx) {
@@ -575,7 +575,7 @@ public class CheckpointWorkflowTest {
     private static PersistentPageMemory newPageMemory(Collection<FullPageId> pageIds) {
         PersistentPageMemory mock = mock(PersistentPageMemory.class);
 
-        when(mock.beginCheckpoint(any(CompletableFuture.class))).thenReturn(pageIds);
+        when(mock.beginCheckpoint(any(CompletableFuture.class), any(CheckpointMetricsTracker.class))).thenReturn(pageIds);
 
         return mock;
     }
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.pagememory.persistence.replacement.ArcPageLists.NONE;
+import static org.apache.ignite.internal.pagememory.persistence.replacement.ArcPageLists.NULL_IDX;
+import static org.apache.ignite.internal.pagememory.persistence.replacement.ArcPageLists.T1;
+import static org.apache.ignite.internal.pagememory.persistence.replacement.ArcPageLists.T2;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link ArcPageLists} testing.
+ */
+public class ArcPageListsTest {
+    private static final int PAGES_CNT = 8;
+
+    private long memPtr;
+
+    private ArcPageLists lists;
+
+    @BeforeEach
+    void setUp() {
+        long memSize = ArcPageLists.requiredMemory(PAGES_CNT);
+
+        memPtr = GridUnsafe.allocateMemory(memSize);
+
+        lists = new ArcPageLists(PAGES_CNT, memPtr);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GridUnsafe.freeMemory(memPtr);
+    }
+
+    @Test
+    void testMissAndHit() {
+        lists.onMiss(0, 100);
+        lists.onMiss(1, 101);
+
+        assertThat(lists.state(0), equalTo(T1));
+        assertThat(lists.size(T1), equalTo(2));
+        assertThat(lists.size(T2), equalTo(0));
+
+        lists.onHit(0);
+        lists.onHit(0);
+
+        assertThat(lists.state(0), equalTo(T2));
+        assertThat(lists.size(T1), equalTo(1));
+        assertThat(lists.size(T2), equalTo(1));
+
+        lists.remove(0);
+        lists.remove(1);
+
+        assertThat(lists.state(0), equalTo(NONE));
+        assertThat(lists.state(1), equalTo(NONE));
+        assertThat(lists.size(T1), equalTo(0));
+        assertThat(lists.size(T2), equalTo(0));
+
+        assertThat(lists.poll(), equalTo(NULL_IDX));
+    }
+
+    @Test
+    void testCorrelatedHitsDoNotPromote() {
+        lists.onMiss(0, 100);
+
+        // E.g. a scan reads the rows of the page.
+        lists.onHit(0);
+        lists.onHit(0);
+
+        assertThat(lists.state(0), equalTo(T1));
+
+        lists.onMiss(1, 101);
+
+        lists.onHit(0);
+
+        assertThat(lists.state(0), equalTo(T2));
+        assertThat(lists.state(1), equalTo(T1));
+    }
+
+    @Test
+    void testPollAndRestore() {
+        lists.onMiss(0, 100);
+        lists.onMiss(1, 101);
+        lists.onMiss(2, 102);
+
+        int pageIdx = lists.poll();
+
+        assertThat(pageIdx, equalTo(0));
+        assertThat(lists.size(T1), equalTo(2));
+
+        lists.restore(pageIdx);
+
+        assertThat(lists.size(T1), equalTo(3));
+        assertThat(lists.headIdx(T1), equalTo(1));
+
+        assertThat(lists.poll(), equalTo(1));
+        assertThat(lists.poll(), equalTo(2));
+        assertThat(lists.poll(), equalTo(0));
+    }
+
+    @Test
+    void testScanDoesNotEvictFrequentlyUsedPages() {
+        for (int i = 0; i < PAGES_CNT; i++) {
+            lists.onMiss(i, i);
+        }
+
+        // Half of the pages is used frequently.
+        for (int i = 0; i < PAGES_CNT / 2; i++) {
+            lists.onHit(i);
+        }
+
+        // Scan of many pages, that are accessed once, replaces only the pages that were not used frequently.
+        for (int hash = PAGES_CNT; hash < PAGES_CNT * 10; hash++) {
+            int pageIdx = lists.poll();
+
+            assertThat(lists.state(pageIdx), equalTo(T1));
+
+            lists.evict(pageIdx, hash - PAGES_CNT / 2);
+            lists.onMiss(pageIdx, hash);
+        }
+
+        for (int i = 0; i < PAGES_CNT / 2; i++) {
+            assertThat(lists.state(i), equalTo(T2));
+        }
+
+        assertThat(lists.target(), equalTo(0));
+    }
+
+    @Test
+    void testGhostHitAdaptsTarget() {
+        for (int i = 0; i < PAGES_CNT; i++) {
+            lists.onMiss(i, i);
+        }
+
+        for (int i = 0; i < PAGES_CNT; i++) {
+            lists.onHit(i);
+        }
+
+        // The pages are evicted from T2 while T1 is empty.
+        int pageIdx = lists.poll();
+
+        assertThat(pageIdx, equalTo(0));
+
+        lists.evict(pageIdx, 0);
+
+        assertThat(lists.ghostSize(T2), equalTo(1));
+
+        // A page of B2 list is loaded again: it goes to T2 list.
+        lists.onMiss(pageIdx, 0);
+
+        assertThat(lists.state(pageIdx), equalTo(T2));
+        assertThat(lists.ghostSize(T2), equalTo(0));
+        assertThat(lists.target(), equalTo(0));
+
+        // A page of B1 list is loaded again: target size of T1 list grows.
+        lists.remove(1);
+        lists.onMiss(1, 1000);
+
+        assertThat(lists.poll(), equalTo(1));
+
+        lists.evict(1, 1000);
+        lists.onMiss(1, 1000);
+
+        assertThat(lists.state(1), equalTo(T2));
+        assertThat(lists.ghostSize(T1), equalTo(0));
+        assertThat(lists.target(), greaterThan(0));
+        assertThat(lists.target(), lessThan(PAGES_CNT + 1));
+    }
+}
@@ -17,10 +17,13 @@
 
 package org.apache.ignite.internal.pagememory.persistence.store;
 
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getCrc;
 import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.createDataPageId;
 import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.createPageByteBuffer;
 import static org.apache.ignite.internal.pagememory.persistence.store.TestPageStoreUtils.randomBytes;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.getFieldValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -30,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
@@ -218,6 +222,62 @@ public abstract class AbstractFilePageStoreIoTest {
         }
     }
 
+    @Test
+    void testWriteAsync() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (AbstractFilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath)) {
+            filePageStoreIo.ensure();
+
+            long pageId0 = createDataPageId(() -> 0);
+            long pageId1 = createDataPageId(() -> 1);
+
+            ByteBuffer pagesByteBuffer = ByteBuffer.allocateDirect(2 * PAGE_SIZE).order(nativeOrder())
+                    .put(createPageByteBuffer(pageId0, PAGE_SIZE).position(8).put(randomBytes(128)).rewind())
+                    .put(createPageByteBuffer(pageId1, PAGE_SIZE).position(8).put(randomBytes(128)).rewind())
+                    .rewind();
+
+            filePageStoreIo.writeAsync(pageId0, pagesByteBuffer, true).get(1, SECONDS);
+
+            assertEquals(3 * PAGE_SIZE, testFilePath.toFile().length());
+
+            assertEquals(0, getCrc(pagesByteBuffer));
+
+            for (long pageId : new long[]{pageId0, pageId1}) {
+                ByteBuffer readBuffer = ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+
+                filePageStoreIo.read(pageId, filePageStoreIo.pageOffset(pageId), readBuffer, true);
+
+                assertEquals(pageId, PageIo.getPageId(readBuffer.rewind()));
+                assertNotEquals(0, getCrc(readBuffer));
+            }
+        }
+    }
+
+    @Test
+    void testWriteAsyncAfterChannelClosed() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        try (AbstractFilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath)) {
+            filePageStoreIo.ensure();
+
+            // Emulates the channel closed by an interrupted thread.
+            ((FileIo) getFieldValue(filePageStoreIo, AbstractFilePageStoreIo.class, "fileIo")).close();
+
+            long pageId = createDataPageId(() -> 0);
+
+            ByteBuffer pageByteBuffer = createPageByteBuffer(pageId, PAGE_SIZE);
+
+            filePageStoreIo.writeAsync(pageId, pageByteBuffer, true).get(1, SECONDS);
+
+            ByteBuffer readBuffer = ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+
+            filePageStoreIo.read(pageId, filePageStoreIo.pageOffset(pageId), readBuffer, false);
+
+            assertEquals(pageId, PageIo.getPageId(readBuffer.rewind()));
+        }
+    }
+
     @Test
     void testRead() throws Exception {
         Path testFilePath = workDir.resolve("test");
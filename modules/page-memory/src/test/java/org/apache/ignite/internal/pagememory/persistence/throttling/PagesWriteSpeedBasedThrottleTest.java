@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.MAX_PARK_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.MEASUREMENT_INTERVAL_NANOS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link PagesWriteSpeedBasedThrottle} testing.
+ */
+public class PagesWriteSpeedBasedThrottleTest {
+    private final AtomicLong clock = new AtomicLong(MILLISECONDS.toNanos(1));
+
+    private PersistentPageMemory pageMemory;
+
+    private PagesWriteSpeedBasedThrottle throttle;
+
+    private CheckpointMetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        pageMemory = mock(PersistentPageMemory.class);
+
+        when(pageMemory.maxCheckpointBufferPages()).thenReturn(1000);
+        when(pageMemory.maxDirtyPages()).thenReturn(10_000L);
+
+        throttle = new PagesWriteSpeedBasedThrottle(pageMemory, clock::get);
+
+        tracker = new CheckpointMetricsTracker();
+    }
+
+    @Test
+    void testNoThrottlingWithoutCheckpoint() {
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(1000);
+
+        markDirtyDuringInterval(true, 1000);
+
+        assertThat(throttle.checkpointBufferOverspeed(), equalTo(0.0));
+        assertThat(tracker.throttledWrites(), equalTo(0));
+    }
+
+    @Test
+    void testThrottlingOfCheckpointBufferConsumption() {
+        when(pageMemory.checkpointPagesToWrite()).thenReturn(1000);
+
+        throttle.onBeginCheckpoint(tracker);
+
+        // Checkpoint writes 1000 pages per second, 900 pages are left, so it ends in 0.9 seconds.
+        when(pageMemory.checkpointPagesToWrite()).thenReturn(900);
+
+        // 500 free pages of the checkpoint buffer may be consumed at 555 pages per second, while the writers consume 2000.
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(500);
+
+        markDirtyDuringInterval(true, 200);
+
+        assertThat(throttle.checkpointBufferOverspeed(), closeTo(2000 / (500 / 0.9) - 1, 0.01));
+        assertThat(throttle.dirtyPagesOverspeed(), equalTo(0.0));
+
+        // The last mark is throttled right away, the thread has been working for the whole interval, so it's parked for the maximum time.
+        assertThat(tracker.throttledWrites(), equalTo(1));
+        assertThat(tracker.throttleParkDuration(), equalTo(MILLISECONDS.convert(MAX_PARK_NANOS, NANOSECONDS)));
+
+        // The thread worked 100 microseconds since the previous mark, so it's parked for 260 microseconds.
+        clock.addAndGet(MICROSECONDS.toNanos(100));
+
+        throttle.onMarkDirty(true);
+
+        assertThat(tracker.throttledWrites(), equalTo(2));
+
+        // Pages which are not in the checkpoint are not throttled, the limit of the dirty pages is far from being reached.
+        throttle.onMarkDirty(false);
+
+        assertThat(tracker.throttledWrites(), equalTo(2));
+
+        throttle.onFinishCheckpoint();
+
+        assertThat(throttle.checkpointBufferOverspeed(), equalTo(0.0));
+
+        clock.addAndGet(MICROSECONDS.toNanos(100));
+
+        throttle.onMarkDirty(true);
+
+        assertThat(tracker.throttledWrites(), equalTo(2));
+    }
+
+    @Test
+    void testThrottlingOfDirtyPages() {
+        when(pageMemory.checkpointPagesToWrite()).thenReturn(1000);
+
+        throttle.onBeginCheckpoint(tracker);
+
+        when(pageMemory.checkpointPagesToWrite()).thenReturn(900);
+
+        // 1000 free pages may be dirtied at 1111 pages per second, while the writers dirty 5000.
+        when(pageMemory.dirtyPagesCount()).thenReturn(9000L);
+
+        markDirtyDuringInterval(false, 500);
+
+        assertThat(throttle.dirtyPagesOverspeed(), closeTo(5000 / (1000 / 0.9) - 1, 0.01));
+        assertThat(throttle.checkpointBufferOverspeed(), equalTo(0.0));
+    }
+
+    @Test
+    void testNoThrottlingBelowStartRatio() {
+        when(pageMemory.checkpointPagesToWrite()).thenReturn(1000);
+
+        throttle.onBeginCheckpoint(tracker);
+
+        when(pageMemory.checkpointPagesToWrite()).thenReturn(900);
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(100);
+
+        markDirtyDuringInterval(true, 10_000);
+
+        assertThat(throttle.checkpointBufferOverspeed(), equalTo(0.0));
+    }
+
+    @Test
+    void testNoThrottlingUntilCheckpointSpeedIsKnown() {
+        when(pageMemory.checkpointPagesToWrite()).thenReturn(1000);
+        when(pageMemory.usedCheckpointBufferPages()).thenReturn(900);
+
+        throttle.onBeginCheckpoint(tracker);
+
+        markDirtyDuringInterval(true, 10_000);
+
+        assertThat(throttle.checkpointBufferOverspeed(), equalTo(0.0));
+    }
+
+    /**
+     * Marks the pages dirty, then moves the clock to the end of the measurement interval and marks one more page, which recalculates
+     * the throttling.
+     */
+    private void markDirtyDuringInterval(boolean isPageInCheckpoint, int pages) {
+        for (int i = 0; i < pages - 1; i++) {
+            throttle.onMarkDirty(isPageInCheckpoint);
+        }
+
+        clock.addAndGet(MEASUREMENT_INTERVAL_NANOS);
+
+        throttle.onMarkDirty(isPageInCheckpoint);
+    }
+}
@@ -3761,6 +3761,56 @@ public class ItNodeTest {
         assertTrue(res.get().isOk());
     }
 
+    /**
+     * Tests that only the leader with a valid lease may serve reads without the ReadIndex exchange.
+     */
+    @Test
+    public void testLeaseReadAvailable() throws Exception {
+        List<PeerId> peers = TestUtils.generatePeers(3);
+        cluster = new TestCluster("unittest", dataPath, peers, testInfo);
+
+        for (PeerId peer : peers) {
+            RaftOptions opts = new RaftOptions();
+            opts.setReadOnlyOptions(ReadOnlyOption.ReadOnlyLeaseBased);
+            assertTrue(cluster.start(peer.getEndpoint(), false, 300, false, null, opts));
+        }
+
+        cluster.waitLeader();
+
+        Node leader = cluster.getLeader();
+        assertNotNull(leader);
+
+        sendTestTaskAndWait(leader);
+        cluster.ensureSame();
+
+        assertTrue(waitForCondition(leader::isLeaseReadAvailable, 5_000));
+
+        for (Node follower : cluster.getFollowers())
+            assertFalse(follower.isLeaseReadAvailable());
+    }
+
+    /**
+     * Tests that the leader never serves reads without the ReadIndex exchange if lease-based reads are not enabled.
+     */
+    @Test
+    public void testLeaseReadNotAvailableWithReadOnlySafe() throws Exception {
+        List<PeerId> peers = TestUtils.generatePeers(3);
+        cluster = new TestCluster("unittest", dataPath, peers, testInfo);
+
+        for (PeerId peer : peers)
+            assertTrue(cluster.start(peer.getEndpoint()));
+
+        cluster.waitLeader();
+
+        Node leader = cluster.getLeader();
+        assertNotNull(leader);
+
+        sendTestTaskAndWait(leader);
+        cluster.ensureSame();
+
+        assertFalse(leader.isLeaseReadAvailable());
+    }
+
     private NodeOptions createNodeOptions(int nodeIdx) {
         NodeOptions options = new NodeOptions();
 
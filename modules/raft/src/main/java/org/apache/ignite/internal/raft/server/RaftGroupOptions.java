@@ -37,6 +37,9 @@ public class RaftGroupOptions {
     /** Raft meta storage factory. */
     private RaftMetaStorageFactory raftMetaStorageFactory;
 
+    /** Whether the leader may serve linearizable reads locally while its lease is valid, instead of confirming leadership with a quorum. */
+    private boolean leaseBasedReads;
+
     /**
      * Returns default options as defined by classic Raft (so stores are persistent).
      *
@@ -126,4 +129,21 @@ public class RaftGroupOptions {
 
         return this;
     }
+
+    /**
+     * Returns {@code true} if the leader serves linearizable reads from the local state machine while its lease is valid, falling back
+     * to the ReadIndex exchange with a quorum otherwise.
+     */
+    public boolean leaseBasedReads() {
+        return leaseBasedReads;
+    }
+
+    /**
+     * Enables or disables lease-based reads on the leader.
+     */
+    public RaftGroupOptions leaseBasedReads(boolean leaseBasedReads) {
+        this.leaseBasedReads = leaseBasedReads;
+
+        return this;
+    }
 }
@@ -77,6 +77,14 @@ public interface Node extends Lifecycle<NodeOptions>, Describer {
      */
     boolean isLeader(final boolean blocking);
 
+    /**
+     * Returns true when a linearizable read-only query can be served by the local state machine right away, skipping the
+     * ReadIndex exchange. It is the case when {@link org.apache.ignite.raft.jraft.option.ReadOnlyOption#ReadOnlyLeaseBased}
+     * is enabled, the node is the leader with a valid lease, it has committed a log entry at its term and all the committed
+     * entries are applied to the state machine.
+     */
+    boolean isLeaseReadAvailable();
+
     /**
      * Shutdown local replica node.
      *
@@ -2930,6 +2930,32 @@ public class NodeImpl implements Node, RaftServerService {
         }
     }
 
+    @Override
+    public boolean isLeaseReadAvailable() {
+        if (this.raftOptions.getReadOnlyOptions() != ReadOnlyOption.ReadOnlyLeaseBased) {
+            return false;
+        }
+        this.readLock.lock();
+        try {
+            if (this.state != State.STATE_LEADER) {
+                return false;
+            }
+            final long lastCommittedIndex = this.ballotBox.getLastCommittedIndex();
+            // Same as in readLeader: the leader must have committed a log entry at its term.
+            if (this.logManager.getTerm(lastCommittedIndex) != this.currTerm) {
+                return false;
+            }
+            if (getQuorum() > 1 && !isLeaderLeaseValid()) {
+                return false;
+            }
+            // ReadIndex would also wait for the committed entries to be applied, so fall back to it if they are not.
+            return this.fsmCaller.getLastAppliedIndex() >= lastCommittedIndex;
+        }
+        finally {
+            this.readLock.unlock();
+        }
+    }
+
     @Override
     public void shutdown(final Closure done) {
         this.writeLock.lock();
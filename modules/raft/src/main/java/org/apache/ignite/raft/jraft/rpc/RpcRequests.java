@@ -196,6 +196,12 @@ public final class RpcRequests {
         long offset();
 
         boolean readPartly();
+
+        /** Snapshot files are copied over the bulk connections, so the copying doesn't delay heartbeats and replication. */
+        @Override
+        default boolean bulk() {
+            return true;
+        }
     }
 
     @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.GET_FILE_RESPONSE)
@@ -206,6 +212,12 @@ public final class RpcRequests {
 
         @Marshallable
         ByteString data();
+
+        /** {@inheritDoc} */
+        @Override
+        default boolean bulk() {
+            return true;
+        }
     }
 
     @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.READ_INDEX_REQUEST)
@@ -139,61 +139,61 @@ public class ActionRequestProcessor implements RpcProcessor<ActionRequest> {
      */
     private void applyRead(Node node, ActionRequest request, RpcContext rpcCtx) {
         if (request.readOnlySafe()) {
+            if (node.isLeaseReadAvailable()) {
+                // The leader lease guarantees that no other leader could have committed anything, so the local state is up-to-date.
+                node.getNodeMetrics().recordTimes("lease-read-times", 1);
+
+                readLocal(node, request, rpcCtx);
+
+                return;
+            }
+
+            node.getNodeMetrics().recordTimes("read-index-read-times", 1);
+
             node.readIndex(BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
                 @Override public void run(Status status, long index, byte[] reqCtx) {
-                    if (status.isOk()) {
-                        JraftServerImpl.DelegatingStateMachine fsm =
-                                (JraftServerImpl.DelegatingStateMachine) node.getOptions().getFsm();
-
-                        try {
-                            fsm.getListener().onRead(List.<CommandClosure<ReadCommand>>of(new CommandClosure<>() {
-                                @Override public ReadCommand command() {
-                                    return (ReadCommand)request.command();
-                                }
-
-                                @Override public void result(Serializable res) {
-                                    if (res instanceof Throwable) {
-                                        sendSMError(rpcCtx, (Throwable)res, true);
-
-                                        return;
-                                    }
-
-                                    rpcCtx.sendResponse(factory.actionResponse().result(res).build());
-                                }
-                            }).iterator());
-                        }
-                        catch (Exception e) {
-                            sendRaftError(rpcCtx, RaftError.ESTATEMACHINE, e.getMessage());
-                        }
-                    }
+                    if (status.isOk())
+                        readLocal(node, request, rpcCtx);
                     else
                         sendRaftError(rpcCtx, status, node);
                 }
             });
         } else {
-            // TODO asch remove copy paste, batching https://issues.apache.org/jira/browse/IGNITE-14832
-            JraftServerImpl.DelegatingStateMachine fsm =
-                    (JraftServerImpl.DelegatingStateMachine) node.getOptions().getFsm();
-
-            try {
-                fsm.getListener().onRead(List.<CommandClosure<ReadCommand>>of(new CommandClosure<>() {
-                    @Override public ReadCommand command() {
-                        return (ReadCommand)request.command();
-                    }
+            readLocal(node, request, rpcCtx);
+        }
+    }
 
-                    @Override public void result(Serializable res) {
-                        if (res instanceof Throwable) {
-                            sendSMError(rpcCtx, (Throwable)res, true);
+    /**
+     * Executes a read command on the local state machine.
+     *
+     * @param node    The node.
+     * @param request The request.
+     * @param rpcCtx  The context.
+     */
+    private void readLocal(Node node, ActionRequest request, RpcContext rpcCtx) {
+        // TODO asch batching https://issues.apache.org/jira/browse/IGNITE-14832
+        JraftServerImpl.DelegatingStateMachine fsm =
+                (JraftServerImpl.DelegatingStateMachine) node.getOptions().getFsm();
+
+        try {
+            fsm.getListener().onRead(List.<CommandClosure<ReadCommand>>of(new CommandClosure<>() {
+                @Override public ReadCommand command() {
+                    return (ReadCommand)request.command();
+                }
 
-                            return;
-                        }
-                        rpcCtx.sendResponse(factory.actionResponse().result(res).build());
+                @Override public void result(Serializable res) {
+                    if (res instanceof Throwable) {
+                        sendSMError(rpcCtx, (Throwable)res, true);
+
+                        return;
                     }
-                }).iterator());
-            }
-            catch (Exception e) {
-                sendRaftError(rpcCtx, RaftError.ESTATEMACHINE, e.getMessage());
-            }
+
+                    rpcCtx.sendResponse(factory.actionResponse().result(res).build());
+                }
+            }).iterator());
+        }
+        catch (Exception e) {
+            sendRaftError(rpcCtx, RaftError.ESTATEMACHINE, e.getMessage());
         }
     }
 
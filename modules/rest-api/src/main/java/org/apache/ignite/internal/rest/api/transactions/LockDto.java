@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rest.api.transactions;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * REST representation of a lock queue of a key.
+ */
+@Schema(name = "Lock")
+public class LockDto {
+    /** String representation of the locked key. */
+    private final String key;
+
+    /** Lock holders and waiters ordered from the oldest to the youngest transaction. */
+    private final List<LockWaiterDto> waiters;
+
+    /**
+     * Constructor.
+     *
+     * @param key String representation of the locked key.
+     * @param waiters Lock holders and waiters ordered from the oldest to the youngest transaction.
+     */
+    @JsonCreator
+    public LockDto(
+            @JsonProperty("key") String key,
+            @JsonProperty("waiters") List<LockWaiterDto> waiters) {
+        this.key = key;
+        this.waiters = waiters;
+    }
+
+    /**
+     * Returns a string representation of the locked key.
+     *
+     * @return Locked key.
+     */
+    @JsonGetter("key")
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Returns lock holders and waiters ordered from the oldest to the youngest transaction.
+     *
+     * @return Lock holders and waiters.
+     */
+    @JsonGetter("waiters")
+    public List<LockWaiterDto> waiters() {
+        return waiters;
+    }
+}
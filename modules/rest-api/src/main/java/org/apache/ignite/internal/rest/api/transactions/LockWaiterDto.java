@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rest.api.transactions;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * REST representation of a transaction in a lock queue.
+ */
+@Schema(name = "LockWaiter")
+public class LockWaiterDto {
+    /** Transaction id. */
+    private final String txId;
+
+    /** Whether the transaction holds the lock. */
+    private final boolean locked;
+
+    /** Whether a read lock is held or requested. */
+    private final boolean forRead;
+
+    /** Whether the transaction holds a read lock and waits for its upgrade to a write lock. */
+    private final boolean upgrading;
+
+    /**
+     * Constructor.
+     *
+     * @param txId Transaction id.
+     * @param locked Whether the transaction holds the lock.
+     * @param forRead Whether a read lock is held or requested.
+     * @param upgrading Whether the transaction holds a read lock and waits for its upgrade to a write lock.
+     */
+    @JsonCreator
+    public LockWaiterDto(
+            @JsonProperty("txId") String txId,
+            @JsonProperty("locked") boolean locked,
+            @JsonProperty("forRead") boolean forRead,
+            @JsonProperty("upgrading") boolean upgrading) {
+        this.txId = txId;
+        this.locked = locked;
+        this.forRead = forRead;
+        this.upgrading = upgrading;
+    }
+
+    /**
+     * Returns the transaction id.
+     *
+     * @return Transaction id.
+     */
+    @JsonGetter("txId")
+    public String txId() {
+        return txId;
+    }
+
+    /**
+     * Returns {@code true} if the transaction holds the lock, {@code false} if it waits for it.
+     *
+     * @return Whether the transaction holds the lock.
+     */
+    @JsonGetter("locked")
+    public boolean locked() {
+        return locked;
+    }
+
+    /**
+     * Returns {@code true} if a read lock is held or requested.
+     *
+     * @return Whether a read lock is held or requested.
+     */
+    @JsonGetter("forRead")
+    public boolean forRead() {
+        return forRead;
+    }
+
+    /**
+     * Returns {@code true} if the transaction holds a read lock and waits for its upgrade to a write lock.
+     *
+     * @return Whether the transaction waits for a lock upgrade.
+     */
+    @JsonGetter("upgrading")
+    public boolean upgrading() {
+        return upgrading;
+    }
+}
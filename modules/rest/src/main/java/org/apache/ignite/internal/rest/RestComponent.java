@@ -39,6 +39,7 @@ import org.apache.ignite.internal.rest.api.cluster.TopologyApi;
 import org.apache.ignite.internal.rest.api.configuration.ClusterConfigurationApi;
 import org.apache.ignite.internal.rest.api.configuration.NodeConfigurationApi;
 import org.apache.ignite.internal.rest.api.node.NodeManagementApi;
+import org.apache.ignite.internal.rest.api.transactions.TransactionsManagementApi;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.jetbrains.annotations.Nullable;
 
@@ -58,7 +59,8 @@ import org.jetbrains.annotations.Nullable;
         NodeConfigurationApi.class,
         ClusterManagementApi.class,
         NodeManagementApi.class,
-        TopologyApi.class
+        TopologyApi.class,
+        TransactionsManagementApi.class
 })
 public class RestComponent implements IgniteComponent {
     /** Default port. */
@@ -58,6 +58,7 @@ import org.apache.ignite.internal.configuration.schema.ExtendedTableConfiguratio
 import org.apache.ignite.internal.manager.IgniteComponent;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.metastorage.server.SimpleInMemoryKeyValueStorage;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorConfigurationSchema;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.server.impl.JraftServerImpl;
@@ -470,7 +471,8 @@ public class ItRebalanceDistributedTest {
                             name,
                             clusterCfgMgr.configurationRegistry(),
                             dir.resolve("storage"),
-                            null));
+                            null,
+                            new MetricManager()));
 
             baselineMgr = new BaselineManager(
                     clusterCfgMgr,
@@ -67,6 +67,7 @@ import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.manager.IgniteComponent;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.metastorage.server.persistence.RocksDbKeyValueStorage;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.storage.impl.LocalLogStorageFactory;
 import org.apache.ignite.internal.recovery.ConfigurationCatchUpListener;
@@ -263,7 +264,8 @@ public class ItIgniteNodeRestartTest extends IgniteAbstractTest {
                         name,
                         clusterCfgMgr.configurationRegistry(),
                         getPartitionsStorePath(dir),
-                        null
+                        null,
+                        new MetricManager()
                 )
         );
 
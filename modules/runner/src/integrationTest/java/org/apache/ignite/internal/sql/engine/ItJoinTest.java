@@ -809,19 +809,29 @@ public class ItJoinTest extends AbstractBasicIntegrationTest {
         NESTED_LOOP(
             "CorrelatedNestedLoopJoin",
             "JoinCommuteRule",
-            "MergeJoinConverter"
+            "MergeJoinConverter",
+            "HashJoinConverter"
         ),
 
         MERGE(
             "CorrelatedNestedLoopJoin",
             "JoinCommuteRule",
-            "NestedLoopJoinConverter"
+            "NestedLoopJoinConverter",
+            "HashJoinConverter"
+        ),
+
+        HASH(
+            "CorrelatedNestedLoopJoin",
+            "JoinCommuteRule",
+            "NestedLoopJoinConverter",
+            "MergeJoinConverter"
         ),
 
         CORRELATED(
             "MergeJoinConverter",
             "JoinCommuteRule",
-            "NestedLoopJoinConverter"
+            "NestedLoopJoinConverter",
+            "HashJoinConverter"
         );
 
         private final String[] disabledRules;
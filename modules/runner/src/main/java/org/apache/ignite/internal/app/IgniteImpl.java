@@ -60,6 +60,7 @@ import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.metastorage.server.persistence.RocksDbKeyValueStorage;
 import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.network.NetworkMetricSource;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.storage.impl.VolatileLogStorageFactoryCreator;
 import org.apache.ignite.internal.recovery.ConfigurationCatchUpListener;
@@ -68,6 +69,7 @@ import org.apache.ignite.internal.rest.RestComponent;
 import org.apache.ignite.internal.rest.RestFactory;
 import org.apache.ignite.internal.rest.configuration.PresentationsFactory;
 import org.apache.ignite.internal.rest.node.NodeManagementRestFactory;
+import org.apache.ignite.internal.rest.transactions.TransactionsManagementRestFactory;
 import org.apache.ignite.internal.schema.SchemaManager;
 import org.apache.ignite.internal.sql.api.IgniteSqlImpl;
 import org.apache.ignite.internal.sql.engine.QueryProcessor;
@@ -80,14 +82,16 @@ import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.table.distributed.TableTxManagerImpl;
 import org.apache.ignite.internal.table.message.TableMessagesSerializationRegistryInitializer;
 import org.apache.ignite.internal.tx.TxManager;
-import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.DeadlockDetector;
 import org.apache.ignite.internal.tx.impl.IgniteTransactionsImpl;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
 import org.apache.ignite.internal.tx.message.TxMessagesSerializationRegistryInitializer;
 import org.apache.ignite.internal.vault.VaultManager;
 import org.apache.ignite.internal.vault.VaultService;
 import org.apache.ignite.internal.vault.persistence.PersistentVaultService;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.lang.IgniteSystemProperties;
 import org.apache.ignite.lang.NodeStoppingException;
 import org.apache.ignite.network.ClusterLocalConfiguration;
 import org.apache.ignite.network.ClusterNode;
@@ -173,6 +177,9 @@ public class IgniteImpl implements Ignite {
     /** Transactions manager. */
     private final TxManager txManager;
 
+    /** Deadlock detector of the transaction locks. */
+    private final DeadlockDetector deadlockDetector;
+
     /** Distributed table manager. */
     private final TableManager distributedTblMgr;
 
@@ -251,10 +258,15 @@ public class IgniteImpl implements Ignite {
 
         nettyBootstrapFactory = new NettyBootstrapFactory(networkConfiguration, clusterLocalConfiguration.getName());
 
+        NetworkMetricSource networkMetricSource = new NetworkMetricSource();
+
+        metricManager.registerSource(networkMetricSource);
+
         clusterSvc = new ScaleCubeClusterServiceFactory().createClusterService(
                 clusterLocalConfiguration,
                 networkConfiguration,
-                nettyBootstrapFactory
+                nettyBootstrapFactory,
+                networkMetricSource
         );
 
         computeComponent = new ComputeComponentImpl(
@@ -265,7 +277,15 @@ public class IgniteImpl implements Ignite {
 
         raftMgr = new Loza(clusterSvc, workDir);
 
-        txManager = new TableTxManagerImpl(clusterSvc, new HeapLockManager());
+        long deadlockDetectionInterval = IgniteSystemProperties.getLong(DeadlockDetector.IGNITE_DEADLOCK_DETECTION_INTERVAL, 0);
+
+        StripedLockManager lockManager = new StripedLockManager(StripedLockManager.DFLT_STRIPES, deadlockDetectionInterval <= 0);
+
+        metricManager.registerSource(lockManager.metricSource());
+
+        txManager = new TableTxManagerImpl(clusterSvc, lockManager);
+
+        deadlockDetector = new DeadlockDetector(name, clusterSvc, lockManager, deadlockDetectionInterval);
 
         cmgMgr = new ClusterManagementGroupManager(
                 vaultMgr,
@@ -295,9 +315,10 @@ public class IgniteImpl implements Ignite {
         RestFactory presentationsFactory = new PresentationsFactory(nodeCfgMgr, clusterCfgMgr);
         RestFactory clusterManagementRestFactory = new ClusterManagementRestFactory(clusterSvc, cmgMgr);
         RestFactory nodeManagementRestFactory = new NodeManagementRestFactory(lifecycleManager, () -> name);
+        RestFactory transactionsManagementRestFactory = new TransactionsManagementRestFactory(lockManager);
         RestConfiguration restConfiguration = nodeCfgMgr.configurationRegistry().getConfiguration(RestConfiguration.KEY);
         restComponent = new RestComponent(
-                List.of(presentationsFactory, clusterManagementRestFactory, nodeManagementRestFactory),
+                List.of(presentationsFactory, clusterManagementRestFactory, nodeManagementRestFactory, transactionsManagementRestFactory),
                 restConfiguration
         );
 
@@ -320,7 +341,8 @@ public class IgniteImpl implements Ignite {
                         name,
                         clusterCfgMgr.configurationRegistry(),
                         getPartitionsStorePath(workDir),
-                        longJvmPauseDetector
+                        longJvmPauseDetector,
+                        metricManager
                 )
         );
 
@@ -345,6 +367,8 @@ public class IgniteImpl implements Ignite {
                 volatileLogStorageFactoryCreator
         );
 
+        metricManager.registerSource(distributedTblMgr.mvGcMetricSource());
+
         indexManager = new IndexManager(
                 distributedTblMgr,
                 clusterCfgMgr.configurationRegistry()
@@ -361,11 +385,15 @@ public class IgniteImpl implements Ignite {
                 distributedTblMgr,
                 indexManager,
                 schemaManager,
+                metaStorageMgr,
                 dataStorageMgr,
                 txManager,
-                () -> dataStorageModules.collectSchemasFields(modules.distributed().polymorphicSchemaExtensions())
+                () -> dataStorageModules.collectSchemasFields(modules.distributed().polymorphicSchemaExtensions()),
+                workDir
         );
 
+        metricManager.registerSource(qryEngine.spillMetricSource());
+
         sql = new IgniteSqlImpl(qryEngine);
 
         compute = new IgniteComputeImpl(clusterSvc.topologyService(), distributedTblMgr, computeComponent);
@@ -468,6 +496,7 @@ public class IgniteImpl implements Ignite {
                                     clusterCfgMgr,
                                     computeComponent,
                                     txManager,
+                                    deadlockDetector,
                                     baselineMgr,
                                     dataStorageMgr,
                                     schemaManager,
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rest.transactions;
+
+import io.micronaut.http.annotation.Controller;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.internal.rest.api.transactions.LockDto;
+import org.apache.ignite.internal.rest.api.transactions.LockWaiterDto;
+import org.apache.ignite.internal.rest.api.transactions.TransactionsManagementApi;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.WaiterInfo;
+import org.apache.ignite.lang.IgniteException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * REST endpoint allows to dump lock queues of the local node.
+ */
+@Controller("/management/v1/transactions")
+public class TransactionsManagementController implements TransactionsManagementApi {
+    private final LockManager lockManager;
+
+    public TransactionsManagementController(LockManager lockManager) {
+        this.lockManager = lockManager;
+    }
+
+    @Override
+    public Collection<LockDto> locks() {
+        return dump(null);
+    }
+
+    @Override
+    public Collection<LockDto> transactionLocks(String txId) {
+        try {
+            return dump(UUID.fromString(txId));
+        } catch (IllegalArgumentException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /**
+     * Converts a snapshot of lock queues.
+     *
+     * @param txId Transaction to return the lock queues of, {@code null} to return all the lock queues.
+     * @return Lock queues.
+     */
+    private Collection<LockDto> dump(@Nullable UUID txId) {
+        List<LockDto> res = new ArrayList<>();
+
+        for (Map.Entry<Object, List<WaiterInfo>> entry : lockManager.locks().entrySet()) {
+            List<WaiterInfo> queue = entry.getValue();
+
+            if (txId != null && queue.stream().noneMatch(waiter -> waiter.txId().equals(txId))) {
+                continue;
+            }
+
+            List<LockWaiterDto> waiters = new ArrayList<>(queue.size());
+
+            for (WaiterInfo waiter : queue) {
+                waiters.add(new LockWaiterDto(waiter.txId().toString(), waiter.locked(), waiter.isForRead(), waiter.upgrading()));
+            }
+
+            res.add(new LockDto(entry.getKey().toString(), waiters));
+        }
+
+        return res;
+    }
+}
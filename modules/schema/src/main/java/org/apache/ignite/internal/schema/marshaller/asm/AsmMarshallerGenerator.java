@@ -29,12 +29,15 @@ import com.facebook.presto.bytecode.Scope;
 import com.facebook.presto.bytecode.Variable;
 import com.facebook.presto.bytecode.control.IfStatement;
 import com.facebook.presto.bytecode.control.TryCatch;
+import com.facebook.presto.bytecode.expression.BytecodeExpression;
 import com.facebook.presto.bytecode.expression.BytecodeExpressions;
 import java.io.StringWriter;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import javax.annotation.processing.Generated;
-import jdk.jfr.Experimental;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.schema.BinaryRow;
@@ -52,11 +55,11 @@ import org.apache.ignite.internal.schema.row.RowAssembler;
 import org.apache.ignite.internal.util.ObjectFactory;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.table.mapper.Mapper;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * {@link org.apache.ignite.internal.schema.marshaller.reflection.Marshaller} code generator.
  */
-@Experimental
 public class AsmMarshallerGenerator implements MarshallerFactory {
     /** The logger. */
     private static final IgniteLogger LOG = Loggers.forClass(AsmMarshallerGenerator.class);
@@ -66,57 +69,33 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
 
     /** Marshaller package name prefix. */
     public static final String MARSHALLER_CLASS_NAME_PREFIX = "MarshallerForSchema_";
+
+    /** Record marshaller class name prefix. */
+    public static final String RECORD_MARSHALLER_CLASS_NAME_PREFIX = "RecordMarshallerForSchema_";
+
+    /** Generated classes counter, makes the class names unique within a class loader. */
+    private static final AtomicInteger CLASS_ID_GEN = new AtomicInteger();
+
     /** Dump generated code. */
     private final boolean dumpCode = LOG.isTraceEnabled();
 
     /** {@inheritDoc} */
     @Override
     public <K, V> KvMarshaller<K, V> create(SchemaDescriptor schema, Mapper<K> keyMapper, Mapper<V> valueMapper) {
-        final String className = MARSHALLER_CLASS_NAME_PREFIX + schema.version();
+        final String className = MARSHALLER_CLASS_NAME_PREFIX + schema.version() + '_' + CLASS_ID_GEN.incrementAndGet();
 
         Class<K> keyClass = keyMapper.targetType();
         Class<V> valClass = valueMapper.targetType();
-        final StringWriter writer = new StringWriter();
-        try {
-            // Generate Marshaller code.
-            long generation = System.nanoTime();
-
-            final ClassDefinition classDef = generateMarshallerClass(className, schema, keyClass, valClass);
-            long compilationTime = System.nanoTime();
-            generation = compilationTime - generation;
-
-            final ClassGenerator generator = ClassGenerator.classGenerator(getClassLoader());
 
-            if (dumpCode) {
-                generator.outputTo(writer)
-                        .fakeLineNumbers(true)
-                        .runAsmVerifier(true)
-                        .dumpRawBytecode(true);
-            }
-
-            final Class<? extends KvMarshaller> aClass = generator.defineClass(classDef, KvMarshaller.class);
-            compilationTime = System.nanoTime() - compilationTime;
-
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("ASM marshaller created: codeGenStage={}us, compileStage={}us. Code: {}",
-                        TimeUnit.NANOSECONDS.toMicros(generation), TimeUnit.NANOSECONDS.toMicros(compilationTime), writer);
-            } else if (LOG.isDebugEnabled()) {
-                LOG.debug("ASM marshaller created: codeGenStage={}us, compileStage={}us.",
-                        TimeUnit.NANOSECONDS.toMicros(generation), TimeUnit.NANOSECONDS.toMicros(compilationTime));
-            }
-
-            // Instantiate marshaller.
+        try {
             //noinspection unchecked
-            return aClass
-                    .getDeclaredConstructor(
-                            SchemaDescriptor.class,
-                            ObjectFactory.class,
-                            ObjectFactory.class)
-                    .newInstance(
-                            schema,
-                            MarshallerUtil.factoryForClass(keyClass),
-                            MarshallerUtil.factoryForClass(valClass));
-
+            return generate(
+                    KvMarshaller.class,
+                    () -> generateMarshallerClass(className, schema, keyClass, valClass),
+                    schema,
+                    keyClass,
+                    valClass
+            );
         } catch (Exception | LinkageError e) {
             throw new IllegalArgumentException("Failed to create marshaller for key-value pair: schemaVer=" + schema.version()
                     + ", keyClass=" + keyClass.getSimpleName() + ", valueClass=" + valClass.getSimpleName(), e);
@@ -126,7 +105,86 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
     /** {@inheritDoc} */
     @Override
     public <R> RecordMarshaller<R> create(SchemaDescriptor schema, Mapper<R> mapper) {
-        throw new UnsupportedOperationException("Not implemented yet.");
+        final String className = RECORD_MARSHALLER_CLASS_NAME_PREFIX + schema.version() + '_' + CLASS_ID_GEN.incrementAndGet();
+
+        Class<R> recClass = mapper.targetType();
+
+        try {
+            if (MarshallerUtil.mode(recClass) != BinaryMode.POJO) {
+                throw new IllegalArgumentException("Record class must be a POJO: " + recClass.getName());
+            }
+
+            //noinspection unchecked
+            return generate(
+                    RecordMarshaller.class,
+                    () -> generateRecordMarshallerClass(className, schema, recClass),
+                    schema,
+                    recClass,
+                    recClass
+            );
+        } catch (Exception | LinkageError e) {
+            throw new IllegalArgumentException("Failed to create marshaller for record: schemaVer=" + schema.version()
+                    + ", recordClass=" + recClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Generates, compiles and instantiates a marshaller class.
+     *
+     * @param iface            Marshaller interface.
+     * @param classDefSupplier Marshaller class definition supplier.
+     * @param schema           Schema descriptor.
+     * @param keyClass         Key class.
+     * @param valClass         Value class.
+     * @return Marshaller.
+     * @throws ReflectiveOperationException If failed to instantiate the marshaller.
+     */
+    private <T> T generate(
+            Class<T> iface,
+            Supplier<ClassDefinition> classDefSupplier,
+            SchemaDescriptor schema,
+            Class<?> keyClass,
+            Class<?> valClass
+    ) throws ReflectiveOperationException {
+        final StringWriter writer = new StringWriter();
+
+        // Generate Marshaller code.
+        long generation = System.nanoTime();
+
+        final ClassDefinition classDef = classDefSupplier.get();
+        long compilationTime = System.nanoTime();
+        generation = compilationTime - generation;
+
+        final ClassGenerator generator = ClassGenerator.classGenerator(getClassLoader());
+
+        if (dumpCode) {
+            generator.outputTo(writer)
+                    .fakeLineNumbers(true)
+                    .runAsmVerifier(true)
+                    .dumpRawBytecode(true);
+        }
+
+        final Class<? extends T> aClass = generator.defineClass(classDef, iface);
+        compilationTime = System.nanoTime() - compilationTime;
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ASM marshaller created: codeGenStage={}us, compileStage={}us. Code: {}",
+                    TimeUnit.NANOSECONDS.toMicros(generation), TimeUnit.NANOSECONDS.toMicros(compilationTime), writer);
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("ASM marshaller created: codeGenStage={}us, compileStage={}us.",
+                    TimeUnit.NANOSECONDS.toMicros(generation), TimeUnit.NANOSECONDS.toMicros(compilationTime));
+        }
+
+        // Instantiate marshaller.
+        return aClass
+                .getDeclaredConstructor(
+                        SchemaDescriptor.class,
+                        ObjectFactory.class,
+                        ObjectFactory.class)
+                .newInstance(
+                        schema,
+                        MarshallerUtil.factoryForClass(keyClass),
+                        MarshallerUtil.factoryForClass(valClass));
     }
 
     /**
@@ -147,11 +205,62 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
         MarshallerCodeGenerator keyMarsh = createMarshaller(keyClass, schema.keyColumns(), 0);
         MarshallerCodeGenerator valMarsh = createMarshaller(valClass, schema.valueColumns(), schema.keyColumns().length());
 
+        final ClassDefinition classDef = generateClass(className, KvMarshaller.class, schema, keyMarsh, valMarsh);
+
+        generateMarshalMethod(classDef, "marshal", keyMarsh, null, "key", null);
+        generateMarshalMethod(classDef, "marshal", keyMarsh, valMarsh, "key", "val");
+        generateUnmarshalKeyMethod(classDef, keyMarsh);
+        generateUnmarshalValueMethod(classDef, valMarsh);
+        return classDef;
+    }
+
+    /**
+     * Generates record marshaller class definition.
+     *
+     * @param className Marshaller class name.
+     * @param schema    Schema descriptor.
+     * @param recClass  Record class.
+     * @return Generated java class definition.
+     */
+    private ClassDefinition generateRecordMarshallerClass(
+            String className,
+            SchemaDescriptor schema,
+            Class<?> recClass
+    ) {
+        ObjectMarshallerCodeGenerator keyMarsh = new ObjectMarshallerCodeGenerator(schema.keyColumns(), recClass, 0);
+        ObjectMarshallerCodeGenerator valMarsh = new ObjectMarshallerCodeGenerator(schema.valueColumns(), recClass,
+                schema.keyColumns().length());
+
+        final ClassDefinition classDef = generateClass(className, RecordMarshaller.class, schema, keyMarsh, valMarsh);
+
+        generateMarshalMethod(classDef, "marshal", keyMarsh, valMarsh, "rec", "rec");
+        generateMarshalMethod(classDef, "marshalKey", keyMarsh, null, "rec", null);
+        generateUnmarshalRecordMethod(classDef, keyMarsh, valMarsh);
+        return classDef;
+    }
+
+    /**
+     * Generates marshaller class definition with the members which are common for the key-value and record marshallers.
+     *
+     * @param className Marshaller class name.
+     * @param iface     Marshaller interface.
+     * @param schema    Schema descriptor.
+     * @param keyMarsh  Key marshaller code generator.
+     * @param valMarsh  Value marshaller code generator.
+     * @return Generated java class definition.
+     */
+    private ClassDefinition generateClass(
+            String className,
+            Class<?> iface,
+            SchemaDescriptor schema,
+            MarshallerCodeGenerator keyMarsh,
+            MarshallerCodeGenerator valMarsh
+    ) {
         final ClassDefinition classDef = new ClassDefinition(
                 EnumSet.of(Access.PUBLIC),
                 MARSHALLER_PACKAGE_NAME.replace('.', '/') + '/' + className,
                 ParameterizedType.type(Object.class),
-                ParameterizedType.type(KvMarshaller.class)
+                ParameterizedType.type(iface)
         );
 
         classDef.declareAnnotation(Generated.class).setValue("value", getClass().getCanonicalName());
@@ -169,9 +278,6 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
 
         generateSchemaVersionMethod(classDef, schema);
 
-        generateMarshalMethod(classDef, keyMarsh, valMarsh);
-        generateUnmarshalKeyMethod(classDef, keyMarsh);
-        generateUnmarshalValueMethod(classDef, valMarsh);
         return classDef;
     }
 
@@ -296,15 +402,19 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
         columns = schema.valueColumns();
         if (columns.hasVarlengthColumns()) {
             final Variable tmp = scope.createTempVariable(Object.class);
+            final BytecodeBlock valBlock = new BytecodeBlock();
 
             for (int i = columns.firstVarlengthColumn(); i < columns.length(); i++) {
                 assert !columns.column(i).type().spec().fixedLength();
 
-                body.append(valMarsh.getValue(classDef.getType(), scope.getVariable("val"), i)).putVariable(tmp);
-                body.append(new IfStatement().condition(BytecodeExpressions.isNotNull(tmp)).ifTrue(
+                valBlock.append(valMarsh.getValue(classDef.getType(), scope.getVariable("val"), i)).putVariable(tmp);
+                valBlock.append(new IfStatement().condition(BytecodeExpressions.isNotNull(tmp)).ifTrue(
                         new BytecodeBlock().append(varlenValueCols.increment()))
                 );
             }
+
+            // The value is absent when a key-only row is marshalled.
+            body.append(new IfStatement().condition(BytecodeExpressions.isNotNull(scope.getVariable("val"))).ifTrue(valBlock));
         }
 
         body.append(BytecodeExpressions.newInstance(RowAssembler.class,
@@ -318,32 +428,46 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
     /**
      * Generates marshal method.
      *
-     * @param classDef Marshaller class definition.
-     * @param keyMarsh Key marshaller code generator.
-     * @param valMarsh Value marshaller code generator.
+     * @param classDef   Marshaller class definition.
+     * @param methodName Method name.
+     * @param keyMarsh   Key marshaller code generator.
+     * @param valMarsh   Value marshaller code generator or {@code null} if the method marshals the key only.
+     * @param keyParam   Name of the parameter holding the key object.
+     * @param valParam   Name of the parameter holding the value object, may be the same as {@code keyParam}.
      */
     private void generateMarshalMethod(
             ClassDefinition classDef,
+            String methodName,
             MarshallerCodeGenerator keyMarsh,
-            MarshallerCodeGenerator valMarsh
+            @Nullable MarshallerCodeGenerator valMarsh,
+            String keyParam,
+            @Nullable String valParam
     ) {
+        final List<Parameter> params = valParam == null || valParam.equals(keyParam)
+                ? List.of(Parameter.arg(keyParam, Object.class))
+                : List.of(Parameter.arg(keyParam, Object.class), Parameter.arg(valParam, Object.class));
+
         final MethodDefinition methodDef = classDef.declareMethod(
                 EnumSet.of(Access.PUBLIC),
-                "marshal",
+                methodName,
                 ParameterizedType.type(Row.class),
-                Parameter.arg("key", Object.class),
-                Parameter.arg("val", Object.class)
+                params
         ).addException(MarshallerException.class);
 
         methodDef.declareAnnotation(Override.class);
 
+        final Variable key = methodDef.getScope().getVariable(keyParam);
+        final BytecodeExpression val = valParam == null
+                ? BytecodeExpressions.constantNull(Object.class)
+                : methodDef.getScope().getVariable(valParam);
+
         final Variable asm = methodDef.getScope().createTempVariable(RowAssembler.class);
 
         methodDef.getBody()
                 .append(asm.set(methodDef.getScope().getThis().invoke("createAssembler",
                         RowAssembler.class,
-                        methodDef.getScope().getVariable("key"),
-                        methodDef.getScope().getVariable("val"))))
+                        key,
+                        val)))
                 .append(new IfStatement().condition(BytecodeExpressions.isNull(asm)).ifTrue(
                         new BytecodeBlock()
                                 .append(BytecodeExpressions.newInstance(IgniteInternalException.class,
@@ -352,19 +476,13 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
                 ));
 
         final BytecodeBlock block = new BytecodeBlock();
+        block.append(keyMarsh.marshallObject(classDef.getType(), asm, key));
+
+        if (valMarsh != null) {
+            block.append(valMarsh.marshallObject(classDef.getType(), asm, methodDef.getScope().getVariable(valParam)));
+        }
+
         block.append(
-                        keyMarsh.marshallObject(
-                                classDef.getType(),
-                                asm,
-                                methodDef.getScope().getVariable("key"))
-                )
-                .append(
-                        valMarsh.marshallObject(
-                                classDef.getType(),
-                                asm,
-                                methodDef.getScope().getVariable("val"))
-                )
-                .append(
                         BytecodeExpressions.newInstance(Row.class,
                                 methodDef.getThis().getField("schema", SchemaDescriptor.class),
                                 BytecodeExpressions.newInstance(ByteBufferRow.class,
@@ -431,11 +549,50 @@ public class AsmMarshallerGenerator implements MarshallerFactory {
                 methodDef.getBody(), methodDef.getThis().getField("valFactory", ObjectFactory.class));
 
         methodDef.getBody()
+                .append(new IfStatement().condition(BytecodeExpressions.not(methodDef.getScope().getVariable("row")
+                        .invoke("hasValue", boolean.class))).ifTrue(
+                        new BytecodeBlock().append(BytecodeExpressions.constantNull(Object.class)).retObject()
+                ))
                 .append(valMarsh.unmarshallObject(classDef.getType(), methodDef.getScope().getVariable("row"), obj, objFactory))
                 .append(obj)
                 .retObject();
     }
 
+    /**
+     * Generates unmarshal record method.
+     *
+     * @param classDef Marshaller class definition.
+     * @param keyMarsh Key columns marshaller code generator.
+     * @param valMarsh Value columns marshaller code generator.
+     */
+    private void generateUnmarshalRecordMethod(
+            ClassDefinition classDef,
+            ObjectMarshallerCodeGenerator keyMarsh,
+            ObjectMarshallerCodeGenerator valMarsh
+    ) {
+        final MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PUBLIC),
+                "unmarshal",
+                ParameterizedType.type(Object.class),
+                Parameter.arg("row", Row.class)
+        ).addException(MarshallerException.class);
+
+        methodDef.declareAnnotation(Override.class);
+
+        final Variable row = methodDef.getScope().getVariable("row");
+        final Variable obj = methodDef.getScope().declareVariable(Object.class, "obj");
+        final Variable objFactory = methodDef.getScope().declareVariable("factory",
+                methodDef.getBody(), methodDef.getThis().getField("keyFactory", ObjectFactory.class));
+
+        methodDef.getBody()
+                .append(keyMarsh.unmarshallObject(classDef.getType(), row, obj, objFactory))
+                .append(new IfStatement().condition(row.invoke("hasValue", boolean.class)).ifTrue(
+                        valMarsh.unmarshallFields(classDef.getType(), row, obj)
+                ))
+                .append(obj)
+                .retObject();
+    }
+
     /**
      * Resolves current classloader.
      *
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.schema.marshaller.asm;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.Columns;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.BinaryMode;
+import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
+import org.apache.ignite.internal.schema.marshaller.MarshallerFactory;
+import org.apache.ignite.internal.schema.marshaller.MarshallerUtil;
+import org.apache.ignite.internal.schema.marshaller.RecordMarshaller;
+import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
+import org.apache.ignite.table.mapper.Mapper;
+import org.apache.ignite.table.mapper.OneColumnMapper;
+import org.apache.ignite.table.mapper.PojoMapper;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Marshaller factory that creates the marshallers with {@link AsmMarshallerGenerator} and falls back to the reflection-based ones
+ * for the mappings the generated code doesn't support: custom column names, type converters, fields of types other than the types
+ * of the columns, etc.
+ *
+ * <p>Created marshallers are cached by the schema version and the mapped classes, so an instance of the factory must not be shared
+ * between the tables.
+ */
+public class GeneratedMarshallerFactory implements MarshallerFactory {
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(GeneratedMarshallerFactory.class);
+
+    /** Marshaller generator. */
+    private final AsmMarshallerGenerator generator = new AsmMarshallerGenerator();
+
+    /** Fallback factory. */
+    private final MarshallerFactory fallback = new ReflectionMarshallerFactory();
+
+    /** Key-value marshallers. */
+    private final ConcurrentMap<CacheKey, KvMarshaller<?, ?>> kvMarshallers = new ConcurrentHashMap<>();
+
+    /** Record marshallers. */
+    private final ConcurrentMap<CacheKey, RecordMarshaller<?>> recMarshallers = new ConcurrentHashMap<>();
+
+    /** {@inheritDoc} */
+    @Override
+    public <K, V> KvMarshaller<K, V> create(SchemaDescriptor schema, Mapper<K> keyMapper, Mapper<V> valueMapper) {
+        if (!supported(schema.keyColumns(), keyMapper) || !supported(schema.valueColumns(), valueMapper)) {
+            return fallback.create(schema, keyMapper, valueMapper);
+        }
+
+        var key = new CacheKey(schema.version(), keyMapper.targetType(), valueMapper.targetType());
+
+        //noinspection unchecked
+        return (KvMarshaller<K, V>) kvMarshallers.computeIfAbsent(key, k -> {
+            try {
+                return generator.create(schema, keyMapper, valueMapper);
+            } catch (IllegalArgumentException e) {
+                LOG.debug("Falling back to reflection-based marshaller: {}", e, e.getMessage());
+
+                return fallback.create(schema, keyMapper, valueMapper);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <R> RecordMarshaller<R> create(SchemaDescriptor schema, Mapper<R> mapper) {
+        if (!supported(schema.keyColumns(), mapper) || !supported(schema.valueColumns(), mapper)
+                || MarshallerUtil.mode(mapper.targetType()) != BinaryMode.POJO) {
+            return fallback.create(schema, mapper);
+        }
+
+        var key = new CacheKey(schema.version(), mapper.targetType(), null);
+
+        //noinspection unchecked
+        return (RecordMarshaller<R>) recMarshallers.computeIfAbsent(key, k -> {
+            try {
+                return generator.create(schema, mapper);
+            } catch (IllegalArgumentException e) {
+                LOG.debug("Falling back to reflection-based marshaller: {}", e, e.getMessage());
+
+                return fallback.create(schema, mapper);
+            }
+        });
+    }
+
+    /**
+     * Checks whether the generated code supports the mapping of the columns.
+     *
+     * @param cols   Columns.
+     * @param mapper Mapper.
+     * @return {@code true} if the mapping is supported.
+     */
+    private static boolean supported(Columns cols, Mapper<?> mapper) {
+        Class<?> cls = mapper.targetType();
+
+        if (mapper instanceof OneColumnMapper) {
+            OneColumnMapper<?> oneColMapper = (OneColumnMapper<?>) mapper;
+
+            if (oneColMapper.converter() != null || cols.length() != 1) {
+                return false;
+            }
+
+            Column col = cols.column(0);
+
+            return (oneColMapper.mappedColumn() == null || oneColMapper.mappedColumn().equals(col.name()))
+                    && compatible(cls, col);
+        }
+
+        if (!(mapper instanceof PojoMapper) || MarshallerUtil.mode(cls) != BinaryMode.POJO) {
+            return false;
+        }
+
+        PojoMapper<?> pojoMapper = (PojoMapper<?>) mapper;
+
+        for (int i = 0; i < cols.length(); i++) {
+            Column col = cols.column(i);
+
+            String fieldName = pojoMapper.fieldForColumn(col.name());
+
+            // Generated code maps the fields to the columns by the upper-cased field names.
+            if (fieldName == null || !fieldName.toUpperCase().equals(col.name()) || pojoMapper.converterForColumn(col.name()) != null) {
+                return false;
+            }
+
+            Field field;
+
+            try {
+                field = cls.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                return false;
+            }
+
+            if (!compatible(field.getType(), col) || (field.getType().isPrimitive() && col.nullable())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether the values of the type are written to the column as is.
+     */
+    private static boolean compatible(Class<?> type, Column col) {
+        BinaryMode mode = MarshallerUtil.mode(type);
+
+        return mode != BinaryMode.POJO && mode.typeSpec() == col.type().spec();
+    }
+
+    /**
+     * Marshaller cache key.
+     */
+    private static class CacheKey {
+        private final int schemaVersion;
+
+        private final Class<?> keyClass;
+
+        private final @Nullable Class<?> valClass;
+
+        CacheKey(int schemaVersion, Class<?> keyClass, @Nullable Class<?> valClass) {
+            this.schemaVersion = schemaVersion;
+            this.keyClass = keyClass;
+            this.valClass = valClass;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            CacheKey that = (CacheKey) o;
+
+            return schemaVersion == that.schemaVersion && keyClass == that.keyClass && valClass == that.valClass;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            int result = schemaVersion;
+            result = 31 * result + keyClass.hashCode();
+            result = 31 * result + (valClass == null ? 0 : valClass.hashCode());
+            return result;
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.schema.marshaller.asm;
 import com.facebook.presto.bytecode.BytecodeNode;
 import com.facebook.presto.bytecode.ParameterizedType;
 import com.facebook.presto.bytecode.Variable;
+import com.facebook.presto.bytecode.control.IfStatement;
 import com.facebook.presto.bytecode.expression.BytecodeExpressions;
 import org.apache.ignite.internal.schema.row.RowAssembler;
 
@@ -48,7 +49,9 @@ class IdentityMarshallerCodeGenerator implements MarshallerCodeGenerator {
     /** {@inheritDoc} */
     @Override
     public BytecodeNode marshallObject(ParameterizedType marshallerClass, Variable asm, Variable obj) {
-        return asm.invoke(columnAccessor.writeMethodName(), RowAssembler.class, obj.cast(columnAccessor.writeArgType()));
+        return new IfStatement().condition(BytecodeExpressions.isNull(obj))
+                .ifTrue(asm.invoke("appendNull", RowAssembler.class))
+                .ifFalse(asm.invoke(columnAccessor.writeMethodName(), RowAssembler.class, obj.cast(columnAccessor.writeArgType())));
     }
 
     /** {@inheritDoc} */
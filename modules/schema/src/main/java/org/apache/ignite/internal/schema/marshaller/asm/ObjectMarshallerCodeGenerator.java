@@ -132,6 +132,20 @@ class ObjectMarshallerCodeGenerator implements MarshallerCodeGenerator {
 
         block.append(objVar.set(objFactory.invoke("create", Object.class)));
 
+        return block.append(unmarshallFields(marshallerClass, row, objVar));
+    }
+
+    /**
+     * Returns a code that reads the mapped columns of a {@code row} into the fields of an existing {@code obj}.
+     *
+     * @param marshallerClass Marshaller class.
+     * @param row             Row.
+     * @param objVar          Target object variable.
+     * @return Unmarshall fields code.
+     */
+    BytecodeBlock unmarshallFields(ParameterizedType marshallerClass, Variable row, Variable objVar) {
+        final BytecodeBlock block = new BytecodeBlock();
+
         for (int i = 0; i < columns.length(); i++) {
             final ColumnAccessCodeGenerator columnAccessor = columnAccessors[i];
 
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.schema.marshaller;
+
+import static org.apache.ignite.internal.schema.NativeTypes.INT32;
+import static org.apache.ignite.internal.schema.NativeTypes.INT64;
+import static org.apache.ignite.internal.schema.NativeTypes.STRING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Objects;
+import java.util.Random;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.asm.GeneratedMarshallerFactory;
+import org.apache.ignite.internal.schema.marshaller.reflection.KvMarshallerImpl;
+import org.apache.ignite.internal.schema.marshaller.reflection.RecordMarshallerImpl;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.testframework.IgniteTestUtils;
+import org.apache.ignite.table.mapper.Mapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GeneratedMarshallerFactory}.
+ */
+public class GeneratedMarshallerFactoryTest {
+    /** Schema of the {@link TestObject} table. */
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(
+            1,
+            new Column[]{new Column("ID", INT64, false)},
+            new Column[]{
+                    new Column("INTCOL", INT32, true),
+                    new Column("STRINGCOL", STRING, true)
+            }
+    );
+
+    /** Random. */
+    private Random rnd;
+
+    /** Factory. */
+    private GeneratedMarshallerFactory factory;
+
+    /**
+     * Init test.
+     */
+    @BeforeEach
+    public void setUp() {
+        long seed = System.currentTimeMillis();
+
+        System.out.println("Using seed: " + seed + "L;");
+
+        rnd = new Random(seed);
+
+        factory = new GeneratedMarshallerFactory();
+    }
+
+    @Test
+    public void kvMarshallerIsGeneratedAndCached() throws MarshallerException {
+        KvMarshaller<Long, TestObject> marshaller = factory.create(SCHEMA, Long.class, TestObject.class);
+
+        assertFalse(marshaller instanceof KvMarshallerImpl);
+        assertSame(marshaller, factory.create(SCHEMA, Long.class, TestObject.class));
+
+        TestObject val = TestObject.randomObject(rnd);
+        val.id = 0;
+
+        BinaryRow row = marshaller.marshal(42L, val);
+
+        assertEquals(42L, marshaller.unmarshalKey(new Row(SCHEMA, row)));
+        assertEquals(val, marshaller.unmarshalValue(new Row(SCHEMA, row)));
+
+        BinaryRow keyRow = marshaller.marshal(42L);
+
+        assertFalse(keyRow.hasValue());
+        assertEquals(42L, marshaller.unmarshalKey(new Row(SCHEMA, keyRow)));
+        assertNull(marshaller.unmarshalValue(new Row(SCHEMA, keyRow)));
+    }
+
+    @Test
+    public void recordMarshallerIsGeneratedAndCached() throws MarshallerException {
+        RecordMarshaller<TestObject> marshaller = factory.create(SCHEMA, TestObject.class);
+
+        assertFalse(marshaller instanceof RecordMarshallerImpl);
+        assertSame(marshaller, factory.create(SCHEMA, TestObject.class));
+
+        TestObject rec = TestObject.randomObject(rnd);
+        rec.intCol = null;
+
+        assertEquals(rec, marshaller.unmarshal(new Row(SCHEMA, marshaller.marshal(rec))));
+
+        TestObject keyRec = new TestObject();
+        keyRec.id = rec.id;
+
+        assertEquals(keyRec, marshaller.unmarshal(new Row(SCHEMA, marshaller.marshalKey(rec))));
+    }
+
+    @Test
+    public void newSchemaVersionCreatesNewMarshaller() {
+        SchemaDescriptor schema2 = new SchemaDescriptor(2, SCHEMA.keyColumns().columns(), SCHEMA.valueColumns().columns());
+
+        assertNotSame(factory.create(SCHEMA, TestObject.class), factory.create(schema2, TestObject.class));
+    }
+
+    @Test
+    public void unsupportedMappingFallsBackToReflection() throws MarshallerException {
+        SchemaDescriptor schema = new SchemaDescriptor(
+                1,
+                new Column[]{new Column("KEY", INT64, false)},
+                new Column[]{new Column("STRINGCOL", STRING, true)}
+        );
+
+        Mapper<TestObject> mapper = Mapper.builder(TestObject.class)
+                .map("id", "key")
+                .map("stringCol", "stringCol")
+                .build();
+
+        RecordMarshaller<TestObject> marshaller = factory.create(schema, mapper);
+
+        assertTrue(marshaller instanceof RecordMarshallerImpl);
+
+        TestObject rec = TestObject.randomObject(rnd);
+        rec.intCol = null;
+
+        assertEquals(rec, marshaller.unmarshal(new Row(schema, marshaller.marshal(rec))));
+    }
+
+    /**
+     * Test object.
+     */
+    @SuppressWarnings("InstanceVariableMayNotBeInitialized")
+    public static class TestObject {
+        private long id;
+
+        private Integer intCol;
+
+        private String stringCol;
+
+        static TestObject randomObject(Random rnd) {
+            final TestObject obj = new TestObject();
+
+            obj.id = rnd.nextLong();
+            obj.intCol = rnd.nextInt();
+            obj.stringCol = IgniteTestUtils.randomString(rnd, 100);
+
+            return obj;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            TestObject that = (TestObject) o;
+
+            return id == that.id
+                    && Objects.equals(intCol, that.intCol)
+                    && Objects.equals(stringCol, that.stringCol);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+    }
+}
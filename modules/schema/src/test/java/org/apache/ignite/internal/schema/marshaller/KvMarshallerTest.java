@@ -70,6 +70,7 @@ import org.apache.ignite.internal.schema.NativeTypes;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaTestUtils;
 import org.apache.ignite.internal.schema.marshaller.asm.AsmMarshallerGenerator;
+import org.apache.ignite.internal.schema.marshaller.asm.GeneratedMarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.reflection.SerializingConverter;
 import org.apache.ignite.internal.schema.row.Row;
@@ -96,7 +97,8 @@ public class KvMarshallerTest {
     private static List<MarshallerFactory> marshallerFactoryProvider() {
         return List.of(
                 new ReflectionMarshallerFactory(),
-                new AsmMarshallerGenerator()
+                new AsmMarshallerGenerator(),
+                new GeneratedMarshallerFactory()
         );
     }
 
@@ -61,6 +61,7 @@ import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.NativeTypeSpec;
 import org.apache.ignite.internal.schema.NativeTypes;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.asm.GeneratedMarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.schema.testobjects.TestObjectWithAllTypes;
@@ -82,7 +83,7 @@ public class RecordMarshallerTest {
      * Returns list of marshaller factories for the test.
      */
     private static List<MarshallerFactory> marshallerFactoryProvider() {
-        return List.of(new ReflectionMarshallerFactory());
+        return List.of(new ReflectionMarshallerFactory(), new GeneratedMarshallerFactory());
     }
 
     /** Random. */
@@ -419,6 +419,18 @@ SqlNode SqlAlterTable() :
     )
 }
 
+SqlNode SqlAnalyzeTable() :
+{
+    final Span s;
+    final SqlIdentifier id;
+}
+{
+    <ANALYZE> { s = span(); }
+    <TABLE> id = CompoundIdentifier() {
+        return new IgniteSqlAnalyzeTable(s.end(this), id);
+    }
+}
+
 <DEFAULT, DQID, BTID> TOKEN :
 {
 < NEGATE: "!" >
@@ -22,6 +22,7 @@ import static org.apache.ignite.lang.ErrorGroups.Sql.QUERY_INVALID_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Sql.SESSION_NOT_FOUND_ERR;
 import static org.apache.ignite.lang.IgniteStringFormatter.format;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -40,6 +41,7 @@ import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.SqlNodeList;
 import org.apache.calcite.tools.Frameworks;
 import org.apache.calcite.util.Pair;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
 import org.apache.ignite.internal.index.IndexManager;
 import org.apache.ignite.internal.index.event.IndexEvent;
 import org.apache.ignite.internal.index.event.IndexEventParameters;
@@ -47,6 +49,7 @@ import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.manager.Event;
 import org.apache.ignite.internal.manager.EventListener;
+import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.schema.SchemaManager;
 import org.apache.ignite.internal.sql.engine.exec.ArrayRowHandler;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeServiceImpl;
@@ -56,6 +59,8 @@ import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistryImpl;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillMetricSource;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
@@ -65,6 +70,7 @@ import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManagerImpl;
 import org.apache.ignite.internal.sql.engine.session.SessionId;
 import org.apache.ignite.internal.sql.engine.session.SessionManager;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
 import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.storage.DataStorageManager;
@@ -105,6 +111,8 @@ public class SqlQueryProcessor implements QueryProcessor {
 
     private final SchemaManager schemaManager;
 
+    private final MetaStorageManager metaStorageManager;
+
     private final Consumer<Function<Long, CompletableFuture<?>>> registry;
 
     private final DataStorageManager dataStorageManager;
@@ -130,6 +138,11 @@ public class SqlQueryProcessor implements QueryProcessor {
     /** Transaction manager. */
     private final TxManager txManager;
 
+    /** Work directory of the node. */
+    private final Path workDir;
+
+    private final SpillMetricSource spillMetricSource = new SpillMetricSource();
+
     /** Constructor. */
     public SqlQueryProcessor(
             Consumer<Function<Long, CompletableFuture<?>>> registry,
@@ -137,18 +150,29 @@ public class SqlQueryProcessor implements QueryProcessor {
             TableManager tableManager,
             IndexManager indexManager,
             SchemaManager schemaManager,
+            MetaStorageManager metaStorageManager,
             DataStorageManager dataStorageManager,
             TxManager txManager,
-            Supplier<Map<String, Map<String, Class<?>>>> dataStorageFieldsSupplier
+            Supplier<Map<String, Map<String, Class<?>>>> dataStorageFieldsSupplier,
+            Path workDir
     ) {
         this.registry = registry;
         this.clusterSrvc = clusterSrvc;
         this.tableManager = tableManager;
         this.indexManager = indexManager;
         this.schemaManager = schemaManager;
+        this.metaStorageManager = metaStorageManager;
         this.dataStorageManager = dataStorageManager;
         this.txManager = txManager;
         this.dataStorageFieldsSupplier = dataStorageFieldsSupplier;
+        this.workDir = workDir;
+    }
+
+    /**
+     * Returns the metric source of the spilling to disk.
+     */
+    public SpillMetricSource spillMetricSource() {
+        return spillMetricSource;
     }
 
     /** {@inheritDoc} */
@@ -182,12 +206,33 @@ public class SqlQueryProcessor implements QueryProcessor {
                 msgSrvc
         ));
 
-        SqlSchemaManagerImpl sqlSchemaManager = new SqlSchemaManagerImpl(tableManager, schemaManager, registry, busyLock);
+        var statisticsManager = registerService(new StatisticsManager(
+                nodeName,
+                clusterSrvc.topologyService(),
+                tableManager,
+                metaStorageManager,
+                txManager
+        ));
+
+        SqlSchemaManagerImpl sqlSchemaManager = new SqlSchemaManagerImpl(
+                tableManager,
+                schemaManager,
+                statisticsManager,
+                registry,
+                busyLock
+        );
 
         sqlSchemaManager.registerListener(prepareSvc);
 
         this.prepareSvc = prepareSvc;
 
+        var spillManager = registerService(new SpillManager(
+                workDir.resolve(SpillManager.SPILL_DIR),
+                new RandomAccessFileIoFactory(),
+                SpillManager.configuredQuota(),
+                spillMetricSource
+        ));
+
         var executionSrvc = registerService(ExecutionServiceImpl.create(
                 clusterSrvc.topologyService(),
                 msgSrvc,
@@ -198,7 +243,9 @@ public class SqlQueryProcessor implements QueryProcessor {
                 ArrayRowHandler.INSTANCE,
                 mailboxRegistry,
                 exchangeService,
-                dataStorageManager
+                dataStorageManager,
+                spillManager,
+                statisticsManager
         ));
 
         clusterSrvc.topologyService().addEventHandler(executionSrvc);
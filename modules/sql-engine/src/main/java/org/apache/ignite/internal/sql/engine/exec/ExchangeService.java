@@ -81,6 +81,14 @@ public interface ExchangeService extends LifecycleAware {
      */
     void sendError(String nodeId, UUID qryId, long fragmentId, Throwable err) throws IgniteInternalCheckedException;
 
+    /**
+     * Notifies the service that the query is closed on the local node. Batches of the query may still arrive after that, e.g.
+     * when the close request overtakes them, so they are dropped instead of creating inboxes nobody is going to close.
+     *
+     * @param qryId Query ID.
+     */
+    void onQueryClosed(UUID qryId);
+
     /**
      * Alive.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -19,11 +19,14 @@ package org.apache.ignite.internal.sql.engine.exec;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
@@ -48,6 +51,11 @@ public class ExchangeServiceImpl implements ExchangeService {
 
     private static final SqlQueryMessagesFactory FACTORY = new SqlQueryMessagesFactory();
 
+    /** Time a closed query is remembered for, late batches of the query are expected to arrive within it. */
+    private static final long CLOSED_QUERY_TTL_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final int CLOSED_QUERIES_MAX_SIZE = 100_000;
+
     private final String localNodeId;
 
     private final QueryTaskExecutor taskExecutor;
@@ -56,6 +64,13 @@ public class ExchangeServiceImpl implements ExchangeService {
 
     private final MessageService msgSrvc;
 
+    /** Recently closed queries, the batches of which are dropped. */
+    private final ConcurrentMap<UUID, Boolean> closedQueries = Caffeine.newBuilder()
+            .expireAfterWrite(CLOSED_QUERY_TTL_MS, TimeUnit.MILLISECONDS)
+            .maximumSize(CLOSED_QUERIES_MAX_SIZE)
+            .<UUID, Boolean>build()
+            .asMap();
+
     /**
      * Constructor. TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
      */
@@ -148,6 +163,12 @@ public class ExchangeServiceImpl implements ExchangeService {
         );
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void onQueryClosed(UUID qryId) {
+        closedQueries.put(qryId, Boolean.TRUE);
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean alive(String nodeId) {
@@ -187,7 +208,7 @@ public class ExchangeServiceImpl implements ExchangeService {
     protected void onMessage(String nodeId, QueryBatchMessage msg) {
         Inbox<?> inbox = mailboxRegistry.inbox(msg.queryId(), msg.exchangeId());
 
-        if (inbox == null && msg.batchId() == 0) {
+        if (inbox == null && msg.batchId() == 0 && !closedQueries.containsKey(msg.queryId())) {
             // first message sent before a fragment is built
             // note that an inbox source fragment id is also used as an exchange id
             Inbox<?> newInbox = new Inbox<>(baseInboxContext(nodeId, msg.queryId(), msg.fragmentId()),
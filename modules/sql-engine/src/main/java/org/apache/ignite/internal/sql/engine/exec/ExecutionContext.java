@@ -35,6 +35,7 @@ import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionFactoryImpl;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
 import org.apache.ignite.internal.sql.engine.metadata.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.metadata.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
@@ -80,6 +81,8 @@ public class ExecutionContext<RowT> extends AbstractQueryContext implements Data
 
     private final AtomicBoolean cancelFlag = new AtomicBoolean();
 
+    private final QueryMemoryTracker memoryTracker;
+
     /** Transaction. */
     private InternalTransaction tx;
 
@@ -102,7 +105,6 @@ public class ExecutionContext<RowT> extends AbstractQueryContext implements Data
      * @param params       Parameters.
      * @param tx           Transaction.
      */
-    @SuppressWarnings("AssignmentOrReturnOfFieldWithMutableType")
     public ExecutionContext(
             BaseQueryContext qctx,
             QueryTaskExecutor executor,
@@ -113,6 +115,34 @@ public class ExecutionContext<RowT> extends AbstractQueryContext implements Data
             RowHandler<RowT> handler,
             Map<String, Object> params,
             InternalTransaction tx
+    ) {
+        this(qctx, executor, qryId, locNodeId, originatingNodeId, fragmentDesc, handler, params, tx, QueryMemoryTracker.unlimited());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor      Task executor.
+     * @param qctx          Base query context.
+     * @param qryId         Query ID.
+     * @param fragmentDesc  Partitions information.
+     * @param handler       Row handler.
+     * @param params        Parameters.
+     * @param tx            Transaction.
+     * @param memoryTracker Memory tracker of the query.
+     */
+    @SuppressWarnings("AssignmentOrReturnOfFieldWithMutableType")
+    public ExecutionContext(
+            BaseQueryContext qctx,
+            QueryTaskExecutor executor,
+            UUID qryId,
+            String locNodeId,
+            String originatingNodeId,
+            FragmentDescription fragmentDesc,
+            RowHandler<RowT> handler,
+            Map<String, Object> params,
+            InternalTransaction tx,
+            QueryMemoryTracker memoryTracker
     ) {
         super(qctx);
 
@@ -125,6 +155,7 @@ public class ExecutionContext<RowT> extends AbstractQueryContext implements Data
         this.locNodeId = locNodeId;
         this.originatingNodeId = originatingNodeId;
         this.tx = tx;
+        this.memoryTracker = memoryTracker;
 
         expressionFactory = new ExpressionFactoryImpl<>(
                 this,
@@ -200,6 +231,13 @@ public class ExecutionContext<RowT> extends AbstractQueryContext implements Data
         return handler;
     }
 
+    /**
+     * Get memory tracker of the query.
+     */
+    public QueryMemoryTracker memoryTracker() {
+        return memoryTracker;
+    }
+
     /**
      * Get expression factory.
      */
@@ -44,6 +44,8 @@ import org.apache.ignite.internal.sql.engine.exec.ddl.DdlCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.AsyncRootNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.message.ErrorMessage;
 import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.QueryCloseMessage;
@@ -63,6 +65,7 @@ import org.apache.ignite.internal.sql.engine.prepare.MappingQueryContext;
 import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
 import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
 import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
@@ -102,6 +105,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
     private final ImplementorFactory<RowT> implementorFactory;
 
+    private final SpillManager spillManager;
+
     private final Map<UUID, DistributedQueryManager> queryManagerMap = new ConcurrentHashMap<>();
 
     /**
@@ -117,6 +122,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
      * @param mailboxRegistry Mailbox registry.
      * @param exchangeSrvc Exchange service.
      * @param dataStorageManager Storage manager.
+     * @param spillManager Spill manager.
+     * @param statisticsManager Statistics manager.
      * @param <RowT> Type of the sql row.
      * @return An execution service.
      */
@@ -130,18 +137,21 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             RowHandler<RowT> handler,
             MailboxRegistry mailboxRegistry,
             ExchangeService exchangeSrvc,
-            DataStorageManager dataStorageManager
+            DataStorageManager dataStorageManager,
+            SpillManager spillManager,
+            StatisticsManager statisticsManager
     ) {
         return new ExecutionServiceImpl<>(
                 topSrvc.localMember().id(),
                 msgSrvc,
                 new MappingServiceImpl(topSrvc),
                 sqlSchemaManager,
-                new DdlCommandHandler(tblManager, indexManager, dataStorageManager),
+                new DdlCommandHandler(tblManager, indexManager, dataStorageManager, statisticsManager),
                 taskExecutor,
                 handler,
                 exchangeSrvc,
-                ctx -> new LogicalRelImplementor<>(ctx, cacheId -> Objects::hashCode, mailboxRegistry, exchangeSrvc)
+                ctx -> new LogicalRelImplementor<>(ctx, cacheId -> Objects::hashCode, mailboxRegistry, exchangeSrvc),
+                spillManager
         );
     }
 
@@ -157,7 +167,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             QueryTaskExecutor taskExecutor,
             RowHandler<RowT> handler,
             ExchangeService exchangeSrvc,
-            ImplementorFactory<RowT> implementorFactory
+            ImplementorFactory<RowT> implementorFactory,
+            SpillManager spillManager
     ) {
         this.locNodeId = localNodeId;
         this.handler = handler;
@@ -168,6 +179,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         this.exchangeSrvc = exchangeSrvc;
         this.ddlCmdHnd = ddlCmdHnd;
         this.implementorFactory = implementorFactory;
+        this.spillManager = spillManager;
     }
 
     /** {@inheritDoc} */
@@ -301,6 +313,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
     private void onMessage(String nodeId, QueryCloseMessage msg) {
         assert nodeId != null && msg != null;
 
+        // The request may overtake the start request or the batches of the query.
+        exchangeSrvc.onQueryClosed(msg.queryId());
+
         DistributedQueryManager dqm = queryManagerMap.get(msg.queryId());
 
         if (dqm != null) {
@@ -361,6 +376,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
         private @Nullable InternalTransaction transaction;
 
+        /** Memory tracker shared by the fragments of the query executed on the local node. */
+        private final QueryMemoryTracker memoryTracker = spillManager.createTracker();
+
         private DistributedQueryManager(
                 BaseQueryContext ctx,
                 @Nullable InternalTransaction transaction
@@ -501,7 +519,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                     desc,
                     handler,
                     Commons.parametersMap(ctx.parameters()),
-                    transaction
+                    transaction,
+                    memoryTracker
             );
         }
 
@@ -595,6 +614,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                 return cancelFut.thenApply(Function.identity());
             }
 
+            exchangeSrvc.onQueryClosed(ctx.queryId());
+
             CompletableFuture<Void> start = new CompletableFuture<>();
 
             start
@@ -650,6 +671,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                         var finalStepFut = compoundCancelFut.thenRun(() -> {
                             queryManagerMap.remove(ctx.queryId());
 
+                            memoryTracker.close();
+
                             try {
                                 ctx.cancel().cancel();
                             } catch (Exception ex) {
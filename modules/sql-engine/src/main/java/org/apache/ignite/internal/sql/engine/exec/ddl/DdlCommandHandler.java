@@ -44,6 +44,7 @@ import org.apache.ignite.internal.schema.SchemaUtils;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AbstractTableDdlCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterTableAddCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterTableDropCommand;
+import org.apache.ignite.internal.sql.engine.prepare.ddl.AnalyzeTableCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.ColumnDefinition;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.CreateIndexCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.CreateTableCommand;
@@ -52,8 +53,10 @@ import org.apache.ignite.internal.sql.engine.prepare.ddl.DefaultValueDefinition.
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DefaultValueDefinition.FunctionCall;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DropIndexCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DropTableCommand;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.storage.DataStorageManager;
+import org.apache.ignite.internal.table.TableImpl;
 import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.util.IgniteObjectName;
 import org.apache.ignite.internal.util.Pair;
@@ -74,17 +77,21 @@ public class DdlCommandHandler {
 
     private final DataStorageManager dataStorageManager;
 
+    private final StatisticsManager statisticsManager;
+
     /**
      * Constructor.
      */
     public DdlCommandHandler(
             TableManager tableManager,
             IndexManager indexManager,
-            DataStorageManager dataStorageManager
+            DataStorageManager dataStorageManager,
+            StatisticsManager statisticsManager
     ) {
         this.tableManager = tableManager;
         this.indexManager = indexManager;
         this.dataStorageManager = dataStorageManager;
+        this.statisticsManager = statisticsManager;
     }
 
     /** Handles ddl commands. */
@@ -103,6 +110,8 @@ public class DdlCommandHandler {
             return handleCreateIndex((CreateIndexCommand) cmd);
         } else if (cmd instanceof DropIndexCommand) {
             return handleDropIndex((DropIndexCommand) cmd);
+        } else if (cmd instanceof AnalyzeTableCommand) {
+            return handleAnalyzeTable((AnalyzeTableCommand) cmd);
         } else {
             throw new IgniteInternalCheckedException("Unsupported DDL operation ["
                     + "cmdName=" + (cmd == null ? null : cmd.getClass().getSimpleName()) + "; "
@@ -189,6 +198,24 @@ public class DdlCommandHandler {
         }
     }
 
+    /** Handles analyze table command. */
+    private boolean handleAnalyzeTable(AnalyzeTableCommand cmd) {
+        String fullName = SchemaUtils.canonicalName(
+                IgniteObjectName.quote(cmd.schemaName()),
+                IgniteObjectName.quote(cmd.tableName())
+        );
+
+        TableImpl table = tableManager.tableImpl(fullName);
+
+        if (table == null) {
+            throw new TableNotFoundException(fullName);
+        }
+
+        statisticsManager.requestCollection(table.tableId()).join();
+
+        return true;
+    }
+
     /** Handles add column command. */
     private boolean handleAlterAddColumn(AlterTableAddCommand cmd) {
         if (nullOrEmpty(cmd.columns())) {
@@ -38,14 +38,33 @@ import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulator;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.lang.IgniteInternalException;
 
 /**
  * HashAggregateNode.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
+ *
+ * <p>MAP and SINGLE aggregates spill to disk once the {@link QueryMemoryTracker memory quota} of the query is exhausted: the groups
+ * which are already in memory keep being aggregated, while the input rows of new groups are partitioned to disk by the hash of
+ * the group key. Once the in-memory groups are emitted, the partitions are aggregated one by one, a partition which does not fit
+ * into the quota is partitioned again with other bits of the hash.
  */
 public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Number of bits of the group key hash used to choose a spill partition. */
+    private static final int PARTITION_BITS = 4;
+
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+
+    /** Maximum number of the partitioning levels, each level uses other bits of the hash. */
+    private static final int MAX_LEVEL = Integer.SIZE / PARTITION_BITS - 1;
+
+    /** Estimated size of a group in addition to its key. */
+    private static final int GROUP_OVERHEAD = 64;
+
     private final AggregateType type;
 
     /** May be {@code null} when there are not accumulators (DISTINCT aggregate node). */
@@ -57,6 +76,8 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
     private final List<Grouping> groupings;
 
+    private final QueryMemoryTracker memoryTracker;
+
     private int requested;
 
     private int waiting;
@@ -77,6 +98,8 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         this.accFactory = accFactory;
         this.rowFactory = rowFactory;
 
+        memoryTracker = ctx.memoryTracker();
+
         ImmutableBitSet.Builder b = ImmutableBitSet.builder();
 
         if (grpSets.size() > Byte.MAX_VALUE) {
@@ -142,6 +165,10 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         waiting = -1;
 
+        for (Grouping grouping : groupings) {
+            grouping.finishSpill();
+        }
+
         flush();
     }
 
@@ -153,6 +180,14 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         groupings.forEach(Grouping::reset);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        groupings.forEach(Grouping::releaseResources);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected Downstream<RowT> requestDownstream(int idx) {
@@ -231,11 +266,30 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         private final RowHandler<RowT> handler;
 
+        /**
+         * Whether the input rows may be spilled. REDUCE input rows hold accumulators rather than plain values, and a grouping
+         * without fields has a single group, so they are always aggregated in memory.
+         */
+        private final boolean spillable;
+
+        /** Memory reserved for the groups in bytes. */
+        private long reserved;
+
+        /** Partitioning level of the rows being aggregated. */
+        private int level;
+
+        /** Partitions of the rows which are being spilled, {@code null} if nothing is spilled at the current level. */
+        private SpillFile<RowT>[] partitions;
+
+        /** Spilled partitions waiting for the aggregation. */
+        private final ArrayDeque<SpilledPartition<RowT>> pending = new ArrayDeque<>();
+
         private Grouping(byte grpId, ImmutableBitSet grpFields) {
             this.grpId = grpId;
             this.grpFields = grpFields;
 
             handler = context().rowHandler();
+            spillable = memoryTracker.spillEnabled() && type != AggregateType.REDUCE && !grpFields.isEmpty();
 
             init();
         }
@@ -251,10 +305,32 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         private void reset() {
             groups.clear();
 
+            releaseResources();
+
             init();
         }
 
-        private void add(RowT row) {
+        private void releaseResources() {
+            memoryTracker.release(reserved);
+
+            reserved = 0;
+            level = 0;
+
+            if (partitions != null) {
+                for (SpillFile<RowT> file : partitions) {
+                    if (file != null) {
+                        file.close();
+                    }
+                }
+
+                partitions = null;
+            }
+
+            pending.forEach(p -> p.file.close());
+            pending.clear();
+        }
+
+        private void add(RowT row) throws Exception {
             if (type == AggregateType.REDUCE) {
                 addOnReducer(row);
             } else {
@@ -269,7 +345,11 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
          * @param cnt Number of rows.
          * @return Actually sent rows number.
          */
-        private List<RowT> getRows(int cnt) {
+        private List<RowT> getRows(int cnt) throws Exception {
+            while (groups.isEmpty() && !pending.isEmpty()) {
+                loadPartition(pending.poll());
+            }
+
             if (nullOrEmpty(groups)) {
                 return Collections.emptyList();
             } else if (type == AggregateType.MAP) {
@@ -279,7 +359,7 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
             }
         }
 
-        private void addOnMapper(RowT row) {
+        private void addOnMapper(RowT row) throws Exception {
             GroupKey.Builder b = GroupKey.builder(grpFields.cardinality());
 
             for (Integer field : grpFields) {
@@ -288,7 +368,19 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
             GroupKey grpKey = b.build();
 
-            List<AccumulatorWrapper<RowT>> wrappers = groups.computeIfAbsent(grpKey, this::create);
+            List<AccumulatorWrapper<RowT>> wrappers = groups.get(grpKey);
+
+            if (wrappers == null) {
+                if (!reserve(row)) {
+                    spill(grpKey, row);
+
+                    return;
+                }
+
+                wrappers = create(grpKey);
+
+                groups.put(grpKey, wrappers);
+            }
 
             for (AccumulatorWrapper<RowT> wrapper : wrappers) {
                 wrapper.add(row);
@@ -378,7 +470,94 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         }
 
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && pending.isEmpty();
+        }
+
+        /** Reserves the memory for a new group, returns {@code false} if the input row of the group has to be spilled. */
+        private boolean reserve(RowT row) {
+            if (!spillable || level > MAX_LEVEL) {
+                return true;
+            }
+
+            long size = RowSizeEstimator.estimate(handler, row) + GROUP_OVERHEAD;
+
+            if (memoryTracker.tryReserve(size)) {
+                reserved += size;
+
+                return true;
+            }
+
+            // Too small hash tables are not spilled, their groups are just not accounted.
+            return groups.size() < inBufSize;
+        }
+
+        private void spill(GroupKey grpKey, RowT row) throws Exception {
+            if (partitions == null) {
+                partitions = new SpillFile[PARTITIONS];
+            }
+
+            int h = grpKey.hashCode();
+
+            int idx = Integer.rotateRight(h ^ (h >>> 16), level * PARTITION_BITS) & (PARTITIONS - 1);
+
+            SpillFile<RowT> file = partitions[idx];
+
+            if (file == null) {
+                partitions[idx] = file = memoryTracker.createSpillFile(handler);
+            }
+
+            file.add(row);
+        }
+
+        /** Finishes the partitions spilled at the current level and puts them to the queue of the pending ones. */
+        private void finishSpill() throws Exception {
+            if (partitions == null) {
+                return;
+            }
+
+            SpillFile<RowT>[] partitions0 = partitions;
+
+            partitions = null;
+
+            for (SpillFile<RowT> file : partitions0) {
+                if (file != null) {
+                    file.finish();
+
+                    pending.add(new SpilledPartition<>(file, level + 1));
+                }
+            }
+        }
+
+        private void loadPartition(SpilledPartition<RowT> partition) throws Exception {
+            assert groups.isEmpty();
+
+            memoryTracker.release(reserved);
+
+            reserved = 0;
+            level = partition.level;
+
+            try (SpillFile<RowT> file = partition.file) {
+                SpillFile<RowT>.Reader reader = file.reader();
+
+                for (RowT row = reader.read(); row != null; row = reader.read()) {
+                    addOnMapper(row);
+                }
+            }
+
+            finishSpill();
+        }
+    }
+
+    /** Spilled partition of the input rows. */
+    private static class SpilledPartition<RowT> {
+        private final SpillFile<RowT> file;
+
+        /** Partitioning level of the rows in the file. */
+        private final int level;
+
+        private SpilledPartition(SpillFile<RowT> file, int level) {
+            this.file = file;
+            this.level = level;
         }
     }
 }
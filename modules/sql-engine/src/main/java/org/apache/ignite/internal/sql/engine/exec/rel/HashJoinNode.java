@@ -0,0 +1,891 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.lang.IgniteSystemProperties;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash join node.
+ *
+ * <p>The right input is the build side: it is materialized into a hash table by the join keys before the first row is
+ * emitted. The left input is the probe side and is streamed. Rows having {@code null} in any of the join keys never match,
+ * as prescribed by the equality semantics.
+ *
+ * <p>Once the build side exceeds the {@link QueryMemoryTracker memory quota} of the query, the join falls back to the grace
+ * hash join: the rows of both inputs are partitioned to disk by the hash of the join key, then the partitions are joined one
+ * by one. The order of the left rows is not preserved in this case. Rows with {@code null} keys go to the first partition,
+ * where they are emitted as not matched if the join type requires it.
+ *
+ * <p>If the spilling is disabled, the number of rows of the build side is limited by the
+ * {@link #IGNITE_SQL_HASH_JOIN_MAX_BUILD_ROWS} system property, the query fails once the limit is exceeded.
+ */
+public abstract class HashJoinNode<RowT> extends AbstractNode<RowT> {
+    /** Maximum number of rows of the hash join build side. */
+    public static final String IGNITE_SQL_HASH_JOIN_MAX_BUILD_ROWS = "IGNITE_SQL_HASH_JOIN_MAX_BUILD_ROWS";
+
+    /** Default maximum number of rows of the hash join build side. */
+    public static final int DFLT_MAX_BUILD_ROWS = 1_000_000;
+
+    /** Special value to highlights that all row were received and we are not waiting any more. */
+    protected static final int NOT_WAITING = -1;
+
+    /** Number of the grace hash join partitions. */
+    private static final int PARTITIONS = 16;
+
+    /** Estimated size of a hash table entry in addition to the row. */
+    private static final int ENTRY_OVERHEAD = 32;
+
+    protected final RowHandler<RowT> handler;
+
+    private final ImmutableIntList leftKeys;
+
+    private final ImmutableIntList rightKeys;
+
+    private final int maxBuildRows;
+
+    private final QueryMemoryTracker memoryTracker;
+
+    /** Memory reserved for the build side in bytes. */
+    private long reserved;
+
+    /** Partitions of the build side, {@code null} unless the join is spilled. */
+    private SpillFile<RowT>[] buildParts;
+
+    /** Partitions of the probe side, {@code null} unless the join is spilled. */
+    private SpillFile<RowT>[] probeParts;
+
+    /** Partition being joined, {@code -1} while the inputs are partitioned. */
+    private int curPart = -1;
+
+    /** Reader of the probe side of the current partition, {@code null} once it is exhausted. */
+    private SpillFile<RowT>.Reader probeReader;
+
+    protected int requested;
+
+    protected int waitingLeft;
+
+    protected int waitingRight;
+
+    /** Rows of the build side. */
+    protected final List<RowT> rightMaterialized = new ArrayList<>(inBufSize);
+
+    /** Indexes of the build side rows by a join key. */
+    private final Map<GroupKey, IntArrayList> hashTable = new HashMap<>();
+
+    protected final Deque<RowT> leftInBuf = new ArrayDeque<>(inBufSize);
+
+    protected boolean inLoop;
+
+    /** Current left row. */
+    protected RowT left;
+
+    /** Indexes of the right rows matching the current left row. */
+    protected IntList matches = IntLists.EMPTY_LIST;
+
+    /** Position of the next right row to join with the current left row. */
+    protected int matchIdx;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param rowType Rel data type.
+     * @param leftKeys Join keys of the left input.
+     * @param rightKeys Join keys of the right input.
+     * @param maxBuildRows Maximum number of rows of the build side.
+     */
+    private HashJoinNode(
+            ExecutionContext<RowT> ctx,
+            RelDataType rowType,
+            ImmutableIntList leftKeys,
+            ImmutableIntList rightKeys,
+            int maxBuildRows
+    ) {
+        super(ctx, rowType);
+
+        assert !nullOrEmpty(leftKeys) && leftKeys.size() == rightKeys.size();
+
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.maxBuildRows = maxBuildRows;
+
+        handler = ctx.rowHandler();
+        memoryTracker = ctx.memoryTracker();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(int rowsCnt) throws Exception {
+        assert !nullOrEmpty(sources()) && sources().size() == 2;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (!inLoop) {
+            context().execute(this::doJoin, this::onError);
+        }
+    }
+
+    private void doJoin() throws Exception {
+        checkState();
+
+        join();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        requested = 0;
+        waitingLeft = 0;
+        waitingRight = 0;
+
+        rightMaterialized.clear();
+        hashTable.clear();
+        leftInBuf.clear();
+
+        left = null;
+        matches = IntLists.EMPTY_LIST;
+        matchIdx = 0;
+
+        releaseResources();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        releaseResources();
+    }
+
+    private void releaseResources() {
+        memoryTracker.release(reserved);
+
+        reserved = 0;
+
+        closeAll(buildParts);
+        closeAll(probeParts);
+
+        buildParts = null;
+        probeParts = null;
+        probeReader = null;
+        curPart = -1;
+    }
+
+    private static <RowT> void closeAll(@Nullable SpillFile<RowT>[] files) {
+        if (files != null) {
+            for (SpillFile<RowT> file : files) {
+                if (file != null) {
+                    file.close();
+                }
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Downstream<RowT> requestDownstream(int idx) {
+        if (idx == 0) {
+            return new Downstream<RowT>() {
+                /** {@inheritDoc} */
+                @Override
+                public void push(RowT row) throws Exception {
+                    pushLeft(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void end() throws Exception {
+                    endLeft();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        } else if (idx == 1) {
+            return new Downstream<RowT>() {
+                /** {@inheritDoc} */
+                @Override
+                public void push(RowT row) throws Exception {
+                    pushRight(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void end() throws Exception {
+                    endRight();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        }
+
+        throw new IndexOutOfBoundsException();
+    }
+
+    private void pushLeft(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft--;
+
+        if (buildParts != null && waitingRight == NOT_WAITING) {
+            spill(probeParts, row, key(row, leftKeys));
+        } else {
+            leftInBuf.add(row);
+        }
+
+        join();
+    }
+
+    private void pushRight(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight--;
+
+        GroupKey key = key(row, rightKeys);
+
+        if (buildParts != null) {
+            spill(buildParts, row, key);
+        } else if (memoryTracker.spillEnabled()) {
+            long size = RowSizeEstimator.estimate(handler, row) + ENTRY_OVERHEAD;
+
+            if (memoryTracker.tryReserve(size)) {
+                reserved += size;
+
+                addToHashTable(row, key);
+            } else if (rightMaterialized.size() < inBufSize) {
+                // Too small hash tables are not spilled, their rows are just not accounted.
+                addToHashTable(row, key);
+            } else {
+                spillBuildSide();
+
+                spill(buildParts, row, key);
+            }
+        } else {
+            if (rightMaterialized.size() == maxBuildRows) {
+                throw new IgniteInternalException("Hash join build side exceeds the limit of " + maxBuildRows + " rows, "
+                        + "increase the limit with the " + IGNITE_SQL_HASH_JOIN_MAX_BUILD_ROWS + " system property or "
+                        + "disable the rule with the /*+ DISABLE_RULE('HashJoinConverter') */ hint");
+            }
+
+            addToHashTable(row, key);
+        }
+
+        if (waitingRight == 0) {
+            rightSource().request(waitingRight = inBufSize);
+        }
+    }
+
+    private void endLeft() throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft = NOT_WAITING;
+
+        join();
+    }
+
+    private void endRight() throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight = NOT_WAITING;
+
+        if (buildParts != null) {
+            for (SpillFile<RowT> file : buildParts) {
+                if (file != null) {
+                    file.finish();
+                }
+            }
+
+            // The left rows buffered while the build side was read are partitioned as well.
+            while (!leftInBuf.isEmpty()) {
+                RowT row = leftInBuf.remove();
+
+                spill(probeParts, row, key(row, leftKeys));
+            }
+        }
+
+        join();
+    }
+
+    private void addToHashTable(RowT row, @Nullable GroupKey key) {
+        if (key != null) {
+            hashTable.computeIfAbsent(key, k -> new IntArrayList(1)).add(rightMaterialized.size());
+        }
+
+        rightMaterialized.add(row);
+    }
+
+    /** Moves the materialized build side rows to the partitions on disk. */
+    private void spillBuildSide() throws Exception {
+        buildParts = new SpillFile[PARTITIONS];
+        probeParts = new SpillFile[PARTITIONS];
+
+        for (RowT row : rightMaterialized) {
+            spill(buildParts, row, key(row, rightKeys));
+        }
+
+        rightMaterialized.clear();
+        hashTable.clear();
+
+        memoryTracker.release(reserved);
+
+        reserved = 0;
+    }
+
+    private void spill(SpillFile<RowT>[] parts, RowT row, @Nullable GroupKey key) throws Exception {
+        int idx = 0;
+
+        if (key != null) {
+            int h = key.hashCode();
+
+            idx = (h ^ (h >>> 16)) & (PARTITIONS - 1);
+        }
+
+        SpillFile<RowT> file = parts[idx];
+
+        if (file == null) {
+            parts[idx] = file = memoryTracker.createSpillFile(handler);
+        }
+
+        file.add(row);
+    }
+
+    /**
+     * Switches to the given partition of the spilled join: loads its build side into the hash table and opens its probe side.
+     */
+    private void loadPartition(int part) throws Exception {
+        if (curPart >= 0) {
+            closePartition(curPart);
+        }
+
+        rightMaterialized.clear();
+        hashTable.clear();
+
+        left = null;
+        matches = IntLists.EMPTY_LIST;
+        matchIdx = 0;
+
+        curPart = part;
+        probeReader = null;
+
+        if (part == PARTITIONS) {
+            return;
+        }
+
+        SpillFile<RowT> buildFile = buildParts[part];
+
+        if (buildFile != null) {
+            SpillFile<RowT>.Reader reader = buildFile.reader();
+
+            for (RowT row = reader.read(); row != null; row = reader.read()) {
+                addToHashTable(row, key(row, rightKeys));
+            }
+        }
+
+        SpillFile<RowT> probeFile = probeParts[part];
+
+        if (probeFile != null) {
+            probeReader = probeFile.reader();
+        }
+
+        onPartitionStart();
+    }
+
+    private void closePartition(int part) {
+        if (buildParts[part] != null) {
+            buildParts[part].close();
+            buildParts[part] = null;
+        }
+
+        if (probeParts[part] != null) {
+            probeParts[part].close();
+            probeParts[part] = null;
+        }
+    }
+
+    /** Fills the left buffer from the probe side of the current partition. */
+    private void fillLeft() throws Exception {
+        while (probeReader != null && leftInBuf.size() < inBufSize) {
+            RowT row = probeReader.read();
+
+            if (row == null) {
+                probeReader = null;
+            } else {
+                leftInBuf.add(row);
+            }
+        }
+    }
+
+    protected Node<RowT> leftSource() {
+        return sources().get(0);
+    }
+
+    protected Node<RowT> rightSource() {
+        return sources().get(1);
+    }
+
+    /**
+     * Takes the next left row from the buffer and looks up the matching right rows.
+     */
+    protected void nextLeft() {
+        left = leftInBuf.remove();
+
+        GroupKey key = key(left, leftKeys);
+
+        IntList idxs = key == null ? null : hashTable.get(key);
+
+        matches = idxs == null ? IntLists.EMPTY_LIST : idxs;
+        matchIdx = 0;
+    }
+
+    /**
+     * Builds a join key of the row.
+     *
+     * @return Join key or {@code null} if any of the key fields is {@code null}.
+     */
+    private @Nullable GroupKey key(RowT row, ImmutableIntList keys) {
+        GroupKey.Builder b = GroupKey.builder(keys.size());
+
+        for (int i = 0; i < keys.size(); i++) {
+            Object field = handler.get(keys.getInt(i), row);
+
+            if (field == null) {
+                return null;
+            }
+
+            b.add(field);
+        }
+
+        return b.build();
+    }
+
+    private void join() throws Exception {
+        if (buildParts != null) {
+            joinSpilled();
+
+            return;
+        }
+
+        if (waitingRight == NOT_WAITING) {
+            inLoop = true;
+            try {
+                probe();
+            } finally {
+                inLoop = false;
+            }
+        }
+
+        if (waitingRight == 0) {
+            rightSource().request(waitingRight = inBufSize);
+        }
+
+        if (waitingLeft == 0 && leftInBuf.isEmpty()) {
+            leftSource().request(waitingLeft = inBufSize);
+        }
+
+        if (requested > 0 && waitingLeft == NOT_WAITING && waitingRight == NOT_WAITING && left == null
+                && leftInBuf.isEmpty() && !hasPendingRows()) {
+            requested = 0;
+            downstream().end();
+        }
+    }
+
+    private void joinSpilled() throws Exception {
+        if (waitingRight == NOT_WAITING && waitingLeft == NOT_WAITING) {
+            if (curPart < 0) {
+                for (SpillFile<RowT> file : probeParts) {
+                    if (file != null) {
+                        file.finish();
+                    }
+                }
+
+                loadPartition(0);
+            }
+
+            inLoop = true;
+            try {
+                while (requested > 0 && curPart < PARTITIONS) {
+                    checkState();
+
+                    if (left == null && leftInBuf.isEmpty()) {
+                        fillLeft();
+                    }
+
+                    probe();
+
+                    if (leftExhausted() && !hasPendingRows()) {
+                        loadPartition(curPart + 1);
+                    }
+                }
+            } finally {
+                inLoop = false;
+            }
+
+            if (requested > 0 && curPart == PARTITIONS) {
+                requested = 0;
+                downstream().end();
+            }
+
+            return;
+        }
+
+        if (waitingRight == 0) {
+            rightSource().request(waitingRight = inBufSize);
+        }
+
+        if (waitingLeft == 0 && (waitingRight == NOT_WAITING || leftInBuf.isEmpty())) {
+            leftSource().request(waitingLeft = inBufSize);
+        }
+    }
+
+    /**
+     * Returns {@code true} if all the left rows (of the current partition of a spilled join) are processed.
+     */
+    protected boolean leftExhausted() {
+        return waitingLeft == NOT_WAITING && left == null && leftInBuf.isEmpty() && probeReader == null;
+    }
+
+    /**
+     * Joins the buffered left rows with the build side. Invoked once the build side is materialized.
+     */
+    protected abstract void probe() throws Exception;
+
+    /**
+     * Resets the state of the previous partition, invoked once the next partition of a spilled join is loaded.
+     */
+    protected void onPartitionStart() {
+        // No-op.
+    }
+
+    /**
+     * Returns {@code true} if there are rows to emit after all the left rows are processed.
+     */
+    protected boolean hasPendingRows() {
+        return false;
+    }
+
+    /**
+     * Creates a hash join node.
+     *
+     * @param ctx Execution context.
+     * @param outputRowType Output row type.
+     * @param leftRowType Left row type.
+     * @param rightRowType Right row type.
+     * @param joinType Join type.
+     * @param leftKeys Join keys of the left input.
+     * @param rightKeys Join keys of the right input.
+     * @return Hash join node.
+     */
+    @NotNull
+    public static <RowT> HashJoinNode<RowT> create(ExecutionContext<RowT> ctx, RelDataType outputRowType,
+            RelDataType leftRowType, RelDataType rightRowType, JoinRelType joinType, ImmutableIntList leftKeys,
+            ImmutableIntList rightKeys) {
+        int maxBuildRows = IgniteSystemProperties.getInteger(IGNITE_SQL_HASH_JOIN_MAX_BUILD_ROWS, DFLT_MAX_BUILD_ROWS);
+
+        return create(ctx, outputRowType, leftRowType, rightRowType, joinType, leftKeys, rightKeys, maxBuildRows);
+    }
+
+    /**
+     * Creates a hash join node with the given limit of the build side.
+     */
+    @NotNull
+    static <RowT> HashJoinNode<RowT> create(ExecutionContext<RowT> ctx, RelDataType outputRowType,
+            RelDataType leftRowType, RelDataType rightRowType, JoinRelType joinType, ImmutableIntList leftKeys,
+            ImmutableIntList rightKeys, int maxBuildRows) {
+        switch (joinType) {
+            case INNER:
+                return new InnerJoin<>(ctx, outputRowType, leftKeys, rightKeys, maxBuildRows);
+
+            case LEFT: {
+                RowHandler.RowFactory<RowT> rightRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), rightRowType);
+
+                return new LeftJoin<>(ctx, outputRowType, leftKeys, rightKeys, maxBuildRows, rightRowFactory);
+            }
+
+            case RIGHT: {
+                RowHandler.RowFactory<RowT> leftRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), leftRowType);
+
+                return new RightJoin<>(ctx, outputRowType, leftKeys, rightKeys, maxBuildRows, leftRowFactory, null);
+            }
+
+            case FULL: {
+                RowHandler.RowFactory<RowT> leftRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), leftRowType);
+                RowHandler.RowFactory<RowT> rightRowFactory = ctx.rowHandler().factory(ctx.getTypeFactory(), rightRowType);
+
+                return new RightJoin<>(ctx, outputRowType, leftKeys, rightKeys, maxBuildRows, leftRowFactory, rightRowFactory);
+            }
+
+            case SEMI:
+                return new SemiJoin<>(ctx, outputRowType, leftKeys, rightKeys, maxBuildRows, false);
+
+            case ANTI:
+                return new SemiJoin<>(ctx, outputRowType, leftKeys, rightKeys, maxBuildRows, true);
+
+            default:
+                throw new IllegalStateException("Join type \"" + joinType + "\" is not supported yet");
+        }
+    }
+
+    private static class InnerJoin<RowT> extends HashJoinNode<RowT> {
+        private InnerJoin(ExecutionContext<RowT> ctx, RelDataType rowType, ImmutableIntList leftKeys,
+                ImmutableIntList rightKeys, int maxBuildRows) {
+            super(ctx, rowType, leftKeys, rightKeys, maxBuildRows);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void probe() throws Exception {
+            while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+                checkState();
+
+                if (left == null) {
+                    nextLeft();
+                }
+
+                while (requested > 0 && matchIdx < matches.size()) {
+                    requested--;
+                    downstream().push(handler.concat(left, rightMaterialized.get(matches.getInt(matchIdx++))));
+                }
+
+                if (matchIdx == matches.size()) {
+                    left = null;
+                }
+            }
+        }
+    }
+
+    private static class LeftJoin<RowT> extends HashJoinNode<RowT> {
+        /** Right row factory. */
+        private final RowHandler.RowFactory<RowT> rightRowFactory;
+
+        private LeftJoin(ExecutionContext<RowT> ctx, RelDataType rowType, ImmutableIntList leftKeys,
+                ImmutableIntList rightKeys, int maxBuildRows, RowHandler.RowFactory<RowT> rightRowFactory) {
+            super(ctx, rowType, leftKeys, rightKeys, maxBuildRows);
+
+            this.rightRowFactory = rightRowFactory;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void probe() throws Exception {
+            while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+                checkState();
+
+                if (left == null) {
+                    nextLeft();
+
+                    if (matches.isEmpty()) {
+                        requested--;
+                        downstream().push(handler.concat(left, rightRowFactory.create()));
+
+                        left = null;
+
+                        continue;
+                    }
+                }
+
+                while (requested > 0 && matchIdx < matches.size()) {
+                    requested--;
+                    downstream().push(handler.concat(left, rightMaterialized.get(matches.getInt(matchIdx++))));
+                }
+
+                if (matchIdx == matches.size()) {
+                    left = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Right and full outer joins: emits the right rows which have not been matched after all the left rows are processed.
+     */
+    private static class RightJoin<RowT> extends HashJoinNode<RowT> {
+        /** Left row factory. */
+        private final RowHandler.RowFactory<RowT> leftRowFactory;
+
+        /** Right row factory, {@code null} for a right join. */
+        private final RowHandler.RowFactory<RowT> rightRowFactory;
+
+        private BitSet rightNotMatchedIndexes;
+
+        private int lastPushedInd;
+
+        private RightJoin(ExecutionContext<RowT> ctx, RelDataType rowType, ImmutableIntList leftKeys,
+                ImmutableIntList rightKeys, int maxBuildRows, RowHandler.RowFactory<RowT> leftRowFactory,
+                @Nullable RowHandler.RowFactory<RowT> rightRowFactory) {
+            super(ctx, rowType, leftKeys, rightKeys, maxBuildRows);
+
+            this.leftRowFactory = leftRowFactory;
+            this.rightRowFactory = rightRowFactory;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void rewindInternal() {
+            rightNotMatchedIndexes = null;
+            lastPushedInd = 0;
+
+            super.rewindInternal();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void onPartitionStart() {
+            rightNotMatchedIndexes = null;
+            lastPushedInd = 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void probe() throws Exception {
+            if (rightNotMatchedIndexes == null) {
+                rightNotMatchedIndexes = new BitSet(rightMaterialized.size());
+
+                rightNotMatchedIndexes.set(0, rightMaterialized.size());
+            }
+
+            while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+                checkState();
+
+                if (left == null) {
+                    nextLeft();
+
+                    if (matches.isEmpty() && rightRowFactory != null) {
+                        requested--;
+                        downstream().push(handler.concat(left, rightRowFactory.create()));
+
+                        left = null;
+
+                        continue;
+                    }
+                }
+
+                while (requested > 0 && matchIdx < matches.size()) {
+                    int rightIdx = matches.getInt(matchIdx++);
+
+                    rightNotMatchedIndexes.clear(rightIdx);
+
+                    requested--;
+                    downstream().push(handler.concat(left, rightMaterialized.get(rightIdx)));
+                }
+
+                if (matchIdx == matches.size()) {
+                    left = null;
+                }
+            }
+
+            if (leftExhausted()) {
+                while (requested > 0 && (lastPushedInd = rightNotMatchedIndexes.nextSetBit(lastPushedInd)) >= 0) {
+                    checkState();
+
+                    rightNotMatchedIndexes.clear(lastPushedInd);
+
+                    requested--;
+                    downstream().push(handler.concat(leftRowFactory.create(), rightMaterialized.get(lastPushedInd)));
+                }
+
+                if (lastPushedInd < 0) {
+                    lastPushedInd = 0;
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean hasPendingRows() {
+            return rightNotMatchedIndexes == null || !rightNotMatchedIndexes.isEmpty();
+        }
+    }
+
+    /**
+     * Semi and anti joins: emits the left rows which have (or have not for an anti join) at least one matching right row.
+     */
+    private static class SemiJoin<RowT> extends HashJoinNode<RowT> {
+        /** Whether it is an anti join. */
+        private final boolean anti;
+
+        private SemiJoin(ExecutionContext<RowT> ctx, RelDataType rowType, ImmutableIntList leftKeys,
+                ImmutableIntList rightKeys, int maxBuildRows, boolean anti) {
+            super(ctx, rowType, leftKeys, rightKeys, maxBuildRows);
+
+            this.anti = anti;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void probe() throws Exception {
+            while (requested > 0 && !leftInBuf.isEmpty()) {
+                checkState();
+
+                nextLeft();
+
+                if (matches.isEmpty() == anti) {
+                    requested--;
+                    downstream().push(left);
+                }
+
+                left = null;
+            }
+        }
+    }
+}
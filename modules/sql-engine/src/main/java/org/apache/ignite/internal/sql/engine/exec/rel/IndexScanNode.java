@@ -0,0 +1,479 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.util.ArrayUtils.nullOrEmpty;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.BinaryTupleSchema;
+import org.apache.ignite.internal.schema.BinaryTupleSchema.Element;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.schema.IgniteIndex;
+import org.apache.ignite.internal.sql.engine.schema.InternalIgniteTable;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.IndexRow;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor.ColumnDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scan node over a sorted index.
+ *
+ * <p>The range of the index defined by the lower and the upper bounds is scanned in every partition of the table which is
+ * located on the local node. Row ids found in the index are resolved to the table rows in batches of {@link #inBufSize}.
+ * The bounds are inclusive, so the rows are expected to be filtered by the scan condition as well.
+ *
+ * <p>The index keeps the entries of the overwritten row versions, so a row is returned only if its current index columns are
+ * equal to the ones of the index entry it is found by. This way the stale entries are skipped, a row is returned once and in the
+ * order of the index.
+ */
+public class IndexScanNode<RowT> extends AbstractNode<RowT> {
+    /** Table that provides access to underlying data. */
+    private final InternalTable physTable;
+
+    /** Table that is an object in SQL schema. */
+    private final InternalIgniteTable schemaTable;
+
+    private final IgniteIndex idx;
+
+    private final RowHandler.RowFactory<RowT> factory;
+
+    private final int[] parts;
+
+    private final Deque<RowT> inBuff = new ArrayDeque<>(inBufSize);
+
+    private final @Nullable Predicate<RowT> filters;
+
+    private final @Nullable Function<RowT, RowT> rowTransformer;
+
+    /** Participating columns. */
+    private final @Nullable ImmutableBitSet requiredColumns;
+
+    private final @Nullable Supplier<RowT> lowerBound;
+
+    private final @Nullable Supplier<RowT> upperBound;
+
+    private int requested;
+
+    private boolean inLoop;
+
+    private int curPartIdx;
+
+    /** Cursor over the index of the current partition, {@code null} if the next partition has to be opened. */
+    private @Nullable Cursor<IndexRow> cursor;
+
+    private @Nullable MvPartitionStorage partStorage;
+
+    /** Names of the index columns of the current partition. */
+    private @Nullable List<String> idxColumnNames;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx             Execution context.
+     * @param rowType         Output type of the current node.
+     * @param schemaTable     The table this node should scan.
+     * @param idx             Sorted index of the table.
+     * @param parts           Partition numbers to scan.
+     * @param filters         Optional filter to filter out rows.
+     * @param rowTransformer  Optional projection function.
+     * @param requiredColumns Optional set of column of interest.
+     * @param lowerBound      Optional inclusive lower bound of the index columns.
+     * @param upperBound      Optional inclusive upper bound of the index columns.
+     */
+    public IndexScanNode(
+            ExecutionContext<RowT> ctx,
+            RelDataType rowType,
+            InternalIgniteTable schemaTable,
+            IgniteIndex idx,
+            int[] parts,
+            @Nullable Predicate<RowT> filters,
+            @Nullable Function<RowT, RowT> rowTransformer,
+            @Nullable ImmutableBitSet requiredColumns,
+            @Nullable Supplier<RowT> lowerBound,
+            @Nullable Supplier<RowT> upperBound
+    ) {
+        super(ctx, rowType);
+
+        assert !nullOrEmpty(parts);
+        assert idx.type() == IgniteIndex.Type.SORTED : idx.type();
+
+        this.physTable = schemaTable.table();
+        this.schemaTable = schemaTable;
+        this.idx = idx;
+        this.parts = parts;
+        this.filters = filters;
+        this.rowTransformer = rowTransformer;
+        this.requiredColumns = requiredColumns;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+
+        factory = ctx.rowHandler().factory(ctx.getTypeFactory(), rowType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(int rowsCnt) throws Exception {
+        assert rowsCnt > 0 && requested == 0 : "rowsCnt=" + rowsCnt + ", requested=" + requested;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (!inLoop) {
+            context().execute(this::push, this::onError);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void closeInternal() {
+        super.closeInternal();
+
+        closeCursor();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        closeCursor();
+
+        inBuff.clear();
+        curPartIdx = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void register(List<Node<RowT>> sources) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Downstream<RowT> requestDownstream(int idx) {
+        throw new UnsupportedOperationException();
+    }
+
+    private void push() throws Exception {
+        if (isClosed()) {
+            return;
+        }
+
+        checkState();
+
+        int processed = 0;
+
+        inLoop = true;
+        try {
+            while (requested > 0) {
+                if (inBuff.isEmpty() && !fetch()) {
+                    break;
+                }
+
+                RowT row = inBuff.poll();
+
+                requested--;
+                downstream().push(row);
+
+                if (++processed == inBufSize && requested > 0) {
+                    // Allow others to do their job.
+                    context().execute(this::push, this::onError);
+
+                    return;
+                }
+            }
+        } finally {
+            inLoop = false;
+        }
+
+        if (requested > 0 && inBuff.isEmpty()) {
+            requested = 0;
+            downstream().end();
+        }
+    }
+
+    /**
+     * Fills the buffer with the next batch of the rows.
+     *
+     * @return {@code false} if all the partitions have been scanned.
+     */
+    private boolean fetch() {
+        while (inBuff.isEmpty()) {
+            Cursor<IndexRow> cursor = this.cursor;
+
+            if (cursor == null) {
+                if (curPartIdx == parts.length) {
+                    return false;
+                }
+
+                cursor = this.cursor = openCursor(parts[curPartIdx++]);
+            }
+
+            List<IndexRow> idxRows = new ArrayList<>(inBufSize);
+
+            while (idxRows.size() < inBufSize && cursor.hasNext()) {
+                idxRows.add(cursor.next());
+            }
+
+            MvPartitionStorage partStorage = this.partStorage;
+            List<String> idxColumnNames = this.idxColumnNames;
+
+            assert partStorage != null && idxColumnNames != null;
+
+            if (idxRows.size() < inBufSize) {
+                closeCursor();
+            }
+
+            if (!idxRows.isEmpty()) {
+                List<BinaryRow> binRows = read(partStorage, idxRows);
+
+                for (int i = 0; i < binRows.size(); i++) {
+                    BinaryRow binRow = binRows.get(i);
+
+                    if (binRow == null) {
+                        // The row is removed after the index entry has been read.
+                        continue;
+                    }
+
+                    BinaryTuple idxColumns = schemaTable.toIndexColumns(idx.id(), binRow, idxColumnNames);
+
+                    if (!idxColumns.byteBuffer().equals(idxRows.get(i).indexColumns().byteBuffer())) {
+                        // The entry is left by an overwritten version of the row.
+                        continue;
+                    }
+
+                    RowT row = schemaTable.toRow(context(), binRow, factory, requiredColumns);
+
+                    if (filters != null && !filters.test(row)) {
+                        continue;
+                    }
+
+                    if (rowTransformer != null) {
+                        row = rowTransformer.apply(row);
+                    }
+
+                    inBuff.add(row);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private Cursor<IndexRow> openCursor(int part) {
+        MvPartitionStorage partStorage = physTable.storage().getMvPartition(part);
+
+        if (partStorage == null) {
+            throw new IgniteInternalException("Partition is not found on the local node [table=" + physTable.name()
+                    + ", part=" + part + ']');
+        }
+
+        // The index is marked available when it has been built on the node the query is planned on, the partitions of the other
+        // nodes may be still being built.
+        if (!partStorage.indexBuilt(idx.id())) {
+            throw new IgniteInternalException("Index is not built on the local node yet [table=" + physTable.name()
+                    + ", index=" + idx.name() + ", part=" + part + ']');
+        }
+
+        // Index storages are created by the index build and the write path, a query only reads them.
+        SortedIndexStorage idxStorage = physTable.storage().getSortedIndex(part, idx.id());
+
+        if (idxStorage == null) {
+            throw new IgniteInternalException("Index is not found on the local node [table=" + physTable.name()
+                    + ", index=" + idx.name() + ", part=" + part + ']');
+        }
+
+        List<ColumnDescriptor> columns = idxStorage.indexDescriptor().indexColumns();
+
+        this.partStorage = partStorage;
+        idxColumnNames = columns.stream().map(ColumnDescriptor::name).collect(Collectors.toList());
+
+        return idxStorage.scan(
+                toBound(columns, lowerBound),
+                toBound(columns, upperBound),
+                SortedIndexStorage.GREATER_OR_EQUAL | SortedIndexStorage.LESS_OR_EQUAL
+        );
+    }
+
+    private List<BinaryRow> read(MvPartitionStorage partStorage, List<IndexRow> idxRows) {
+        List<RowId> rowIds = idxRows.stream().map(IndexRow::rowId).collect(Collectors.toList());
+
+        InternalTransaction tx = context().transaction();
+
+        if (tx != null) {
+            return partStorage.readAll(rowIds, tx.id());
+        }
+
+        List<BinaryRow> rows = new ArrayList<>(rowIds.size());
+
+        for (RowId rowId : rowIds) {
+            rows.add(partStorage.read(rowId, Timestamp.nextVersion()));
+        }
+
+        return rows;
+    }
+
+    private void closeCursor() {
+        Cursor<IndexRow> cursor = this.cursor;
+
+        if (cursor != null) {
+            this.cursor = null;
+            partStorage = null;
+            idxColumnNames = null;
+
+            Commons.closeQuiet(cursor);
+        }
+    }
+
+    /**
+     * Converts a bound row to a prefix of the index columns. The prefix ends at the first column without a bound value.
+     *
+     * @param columns Index columns.
+     * @param bound Bound row of the table row type, {@code null} if the range is unbounded.
+     * @return Prefix or {@code null} if the range is unbounded.
+     */
+    private @Nullable BinaryTuple toBound(List<ColumnDescriptor> columns, @Nullable Supplier<RowT> bound) {
+        if (bound == null) {
+            return null;
+        }
+
+        RowT row = bound.get();
+        RowHandler<RowT> hnd = context().rowHandler();
+
+        List<RelFieldCollation> collations = idx.collation().getFieldCollations();
+
+        int cnt = Math.min(collations.size(), columns.size());
+
+        List<Object> vals = new ArrayList<>(cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            Object val = hnd.get(collations.get(i).getFieldIndex(), row);
+
+            if (val == null) {
+                break;
+            }
+
+            vals.add(TypeUtils.fromInternal(context(), val, Commons.nativeTypeToClass(columns.get(i).type())));
+        }
+
+        if (vals.isEmpty()) {
+            return null;
+        }
+
+        Element[] elements = new Element[vals.size()];
+
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new Element(columns.get(i).type(), columns.get(i).nullable());
+        }
+
+        BinaryTupleSchema schema = BinaryTupleSchema.create(elements);
+
+        BinaryTupleBuilder builder = BinaryTupleBuilder.create(schema.elementCount(), schema.hasNullableElements());
+
+        for (int i = 0; i < elements.length; i++) {
+            appendValue(builder, elements[i], vals.get(i));
+        }
+
+        return new BinaryTuple(schema, builder.build());
+    }
+
+    private static void appendValue(BinaryTupleBuilder builder, Element element, Object val) {
+        switch (element.typeSpec()) {
+            case INT8:
+                builder.appendByte(((Number) val).byteValue());
+                break;
+            case INT16:
+                builder.appendShort(((Number) val).shortValue());
+                break;
+            case INT32:
+                builder.appendInt(((Number) val).intValue());
+                break;
+            case INT64:
+                builder.appendLong(((Number) val).longValue());
+                break;
+            case FLOAT:
+                builder.appendFloat(((Number) val).floatValue());
+                break;
+            case DOUBLE:
+                builder.appendDouble(((Number) val).doubleValue());
+                break;
+            case NUMBER:
+                builder.appendNumberNotNull(val instanceof BigDecimal ? ((BigDecimal) val).toBigInteger() : (BigInteger) val);
+                break;
+            case DECIMAL:
+                builder.appendDecimalNotNull((BigDecimal) val);
+                break;
+            case UUID:
+                builder.appendUuidNotNull((UUID) val);
+                break;
+            case BYTES:
+                builder.appendBytesNotNull((byte[]) val);
+                break;
+            case STRING:
+                builder.appendStringNotNull(val.toString());
+                break;
+            case BITMASK:
+                builder.appendBitmaskNotNull((BitSet) val);
+                break;
+            case DATE:
+                builder.appendDateNotNull((LocalDate) val);
+                break;
+            case TIME:
+                builder.appendTimeNotNull((LocalTime) val);
+                break;
+            case DATETIME:
+                builder.appendDateTimeNotNull((LocalDateTime) val);
+                break;
+            case TIMESTAMP:
+                builder.appendTimestampNotNull((Instant) val);
+                break;
+            default:
+                throw new IgniteInternalException("Unsupported type of an index column: " + element.typeSpec());
+        }
+    }
+}
@@ -19,13 +19,24 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.PriorityQueue;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
+ *
+ * <p>Rows are buffered in memory while the {@link QueryMemoryTracker memory quota} of the query allows. Once the quota is
+ * exhausted, the buffered rows are sorted and written to disk as a run. At the end of the input the runs and the rows left in
+ * memory are merged in a streaming way, so only one row per run is kept in memory.
  */
 public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
     /** How many rows are requested by downstream. */
@@ -39,6 +50,19 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
     /** Rows buffer. */
     private final PriorityQueue<RowT> rows;
 
+    private final Comparator<RowT> comp;
+
+    private final QueryMemoryTracker memoryTracker;
+
+    /** Memory reserved for the buffered rows in bytes. */
+    private long reserved;
+
+    /** Sorted runs spilled to disk. */
+    private final List<SpillFile<RowT>> runs = new ArrayList<>();
+
+    /** Heads of the merged runs, {@code null} until the merge is started. */
+    private @Nullable PriorityQueue<RunCursor> merge;
+
     /**
      * Constructor.
      *
@@ -49,7 +73,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
     public SortNode(ExecutionContext<RowT> ctx, RelDataType rowType, Comparator<RowT> comp) {
         super(ctx, rowType);
 
-        rows = comp == null ? new PriorityQueue<>() : new PriorityQueue<>(comp);
+        this.comp = comp == null ? (r1, r2) -> ((Comparable<RowT>) r1).compareTo(r2) : comp;
+
+        rows = new PriorityQueue<>(this.comp);
+        memoryTracker = ctx.memoryTracker();
     }
 
     /** {@inheritDoc} */
@@ -58,6 +85,16 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
         requested = 0;
         waiting = 0;
         rows.clear();
+
+        releaseResources();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        releaseResources();
     }
 
     /** {@inheritDoc} */
@@ -100,6 +137,17 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         rows.add(row);
 
+        if (memoryTracker.spillEnabled()) {
+            long size = RowSizeEstimator.estimate(context().rowHandler(), row);
+
+            if (memoryTracker.tryReserve(size)) {
+                reserved += size;
+            } else if (rows.size() >= inBufSize) {
+                // Too small buffers are not spilled to avoid a lot of tiny runs, their rows are just not accounted.
+                spill();
+            }
+        }
+
         if (waiting == 0) {
             source().request(waiting = inBufSize);
         }
@@ -127,14 +175,18 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         int processed = 0;
 
+        if (!runs.isEmpty() && merge == null) {
+            startMerge();
+        }
+
         inLoop = true;
         try {
-            while (requested > 0 && !rows.isEmpty()) {
+            while (requested > 0 && hasRows()) {
                 checkState();
 
                 requested--;
 
-                downstream().push(rows.poll());
+                downstream().push(pollRow());
 
                 if (++processed >= inBufSize && requested > 0) {
                     // allow others to do their job
@@ -144,7 +196,9 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 }
             }
 
-            if (rows.isEmpty()) {
+            if (!hasRows()) {
+                releaseResources();
+
                 if (requested > 0) {
                     downstream().end();
                 }
@@ -155,4 +209,95 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             inLoop = false;
         }
     }
+
+    /** Sorts the buffered rows and writes them to disk as a new run. */
+    private void spill() throws Exception {
+        RowT[] sorted = (RowT[]) rows.toArray();
+
+        rows.clear();
+
+        Arrays.sort(sorted, comp);
+
+        SpillFile<RowT> run = memoryTracker.createSpillFile(context().rowHandler());
+
+        runs.add(run);
+
+        for (RowT row : sorted) {
+            run.add(row);
+        }
+
+        run.finish();
+
+        memoryTracker.release(reserved);
+
+        reserved = 0;
+    }
+
+    private void startMerge() throws Exception {
+        merge = new PriorityQueue<>(runs.size() + 1, (c1, c2) -> comp.compare(c1.head, c2.head));
+
+        for (SpillFile<RowT> run : runs) {
+            RunCursor cursor = new RunCursor(run.reader());
+
+            if (cursor.advance()) {
+                merge.add(cursor);
+            }
+        }
+
+        RunCursor memCursor = new RunCursor(null);
+
+        if (memCursor.advance()) {
+            merge.add(memCursor);
+        }
+    }
+
+    private boolean hasRows() {
+        return merge == null ? !rows.isEmpty() : !merge.isEmpty();
+    }
+
+    private RowT pollRow() throws Exception {
+        if (merge == null) {
+            return rows.poll();
+        }
+
+        RunCursor cursor = merge.poll();
+
+        RowT row = cursor.head;
+
+        if (cursor.advance()) {
+            merge.add(cursor);
+        }
+
+        return row;
+    }
+
+    private void releaseResources() {
+        merge = null;
+
+        runs.forEach(SpillFile::close);
+        runs.clear();
+
+        memoryTracker.release(reserved);
+
+        reserved = 0;
+    }
+
+    /** Current row of a merged run. */
+    private class RunCursor {
+        /** Reader of a spilled run, {@code null} for the rows left in memory. */
+        private final @Nullable SpillFile<RowT>.Reader reader;
+
+        private RowT head;
+
+        private RunCursor(@Nullable SpillFile<RowT>.Reader reader) {
+            this.reader = reader;
+        }
+
+        /** Moves to the next row of the run, returns {@code false} if the run is exhausted. */
+        private boolean advance() throws Exception {
+            head = reader != null ? reader.read() : rows.poll();
+
+            return head != null;
+        }
+    }
 }
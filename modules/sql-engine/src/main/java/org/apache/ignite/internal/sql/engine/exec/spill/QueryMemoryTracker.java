@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tracks the memory consumed by the execution nodes of a query on the local node.
+ *
+ * <p>Memory hungry nodes reserve the memory for the rows they buffer. Once a reservation fails because the quota of the query
+ * is exhausted, the node spills its buffered rows to disk and releases the reserved memory. The tracker is shared by all the
+ * fragments of the query running on the node, so it is thread safe.
+ */
+public class QueryMemoryTracker {
+    /** Spill manager, {@code null} if the spilling is disabled. */
+    private final @Nullable SpillManager spillManager;
+
+    /** Memory quota in bytes. */
+    private final long quota;
+
+    private final AtomicLong reserved = new AtomicLong();
+
+    private final LongAdder spillFiles = new LongAdder();
+
+    private final LongAdder spilledRows = new LongAdder();
+
+    private final LongAdder spilledBytes = new LongAdder();
+
+    /** Spill files which are not closed yet. */
+    private final Set<SpillFile<?>> files = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor.
+     *
+     * @param spillManager Spill manager, {@code null} to disable the spilling.
+     * @param quota Memory quota in bytes, the spilling is disabled if it is not positive.
+     */
+    QueryMemoryTracker(@Nullable SpillManager spillManager, long quota) {
+        this.spillManager = quota > 0 ? spillManager : null;
+        this.quota = quota;
+    }
+
+    /**
+     * Creates a tracker which never requests the spilling.
+     */
+    public static QueryMemoryTracker unlimited() {
+        return new QueryMemoryTracker(null, 0);
+    }
+
+    /**
+     * Returns {@code true} if the nodes have to track their memory and spill rows once the quota is exhausted.
+     */
+    public boolean spillEnabled() {
+        return spillManager != null;
+    }
+
+    /**
+     * Tries to reserve the memory.
+     *
+     * @param size Size in bytes.
+     * @return {@code true} if the memory is reserved, {@code false} if the quota is exhausted and the caller should spill.
+     */
+    public boolean tryReserve(long size) {
+        if (spillManager == null) {
+            return true;
+        }
+
+        while (true) {
+            long cur = reserved.get();
+
+            if (cur + size > quota) {
+                return false;
+            }
+
+            if (reserved.compareAndSet(cur, cur + size)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the memory reserved with {@link #tryReserve(long)}.
+     *
+     * @param size Size in bytes.
+     */
+    public void release(long size) {
+        if (spillManager != null && size > 0) {
+            long res = reserved.addAndGet(-size);
+
+            assert res >= 0 : res;
+        }
+    }
+
+    /**
+     * Returns the reserved memory in bytes.
+     */
+    public long reserved() {
+        return reserved.get();
+    }
+
+    /**
+     * Creates a spill file.
+     *
+     * @param handler Row handler.
+     * @return Spill file.
+     * @throws IOException If failed.
+     */
+    public <RowT> SpillFile<RowT> createSpillFile(RowHandler<RowT> handler) throws IOException {
+        SpillManager spillManager = this.spillManager;
+
+        assert spillManager != null : "Spilling is disabled";
+
+        SpillFile<RowT> file = spillManager.createFile(this, handler);
+
+        files.add(file);
+
+        return file;
+    }
+
+    /**
+     * Returns the number of spill files written by the query.
+     */
+    public long spillFiles() {
+        return spillFiles.sum();
+    }
+
+    /**
+     * Returns the number of rows spilled by the query.
+     */
+    public long spilledRows() {
+        return spilledRows.sum();
+    }
+
+    /**
+     * Returns the number of bytes spilled by the query.
+     */
+    public long spilledBytes() {
+        return spilledBytes.sum();
+    }
+
+    /**
+     * Closes the spill files which are left open, e.g. by the nodes of a cancelled query.
+     */
+    public void close() {
+        for (SpillFile<?> file : new ArrayList<>(files)) {
+            file.close();
+        }
+    }
+
+    void onSpilled(long rows, long bytes) {
+        spillFiles.increment();
+        spilledRows.add(rows);
+        spilledBytes.add(bytes);
+
+        if (spillManager != null) {
+            spillManager.metricSource().onSpilled(rows, bytes);
+        }
+    }
+
+    void onClosed(SpillFile<?> file) {
+        files.remove(file);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.math.BigDecimal;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+
+/**
+ * Rough estimation of the heap size of the rows. Precision is traded for speed: the estimation is done for every buffered row.
+ */
+public final class RowSizeEstimator {
+    /** Object header and the reference of a row, plus the header of the fields array. */
+    private static final int ROW_OVERHEAD = 32;
+
+    private static final int REF_SIZE = 8;
+
+    /** Size of a boxed value of a primitive type up to 4 bytes. */
+    private static final int SMALL_BOXED_SIZE = 16;
+
+    /** Size of a boxed value of a primitive type of 8 bytes. */
+    private static final int LARGE_BOXED_SIZE = 24;
+
+    private static final int STRING_OVERHEAD = 40;
+
+    private static final int ARRAY_OVERHEAD = 16;
+
+    private static final int DECIMAL_OVERHEAD = 64;
+
+    private static final int DEFAULT_SIZE = 32;
+
+    private RowSizeEstimator() {
+        // No-op.
+    }
+
+    /**
+     * Estimates the heap size of the row.
+     *
+     * @param handler Row handler.
+     * @param row Row.
+     * @return Estimated size in bytes.
+     */
+    public static <RowT> long estimate(RowHandler<RowT> handler, RowT row) {
+        int cnt = handler.columnCount(row);
+
+        long size = ROW_OVERHEAD + (long) cnt * REF_SIZE;
+
+        for (int i = 0; i < cnt; i++) {
+            size += estimateValue(handler.get(i, row));
+        }
+
+        return size;
+    }
+
+    private static long estimateValue(Object val) {
+        if (val == null || val instanceof Boolean) {
+            return 0;
+        } else if (val instanceof Integer || val instanceof Short || val instanceof Byte || val instanceof Float) {
+            return SMALL_BOXED_SIZE;
+        } else if (val instanceof Long || val instanceof Double) {
+            return LARGE_BOXED_SIZE;
+        } else if (val instanceof String) {
+            return STRING_OVERHEAD + ((String) val).length();
+        } else if (val instanceof BigDecimal) {
+            return DECIMAL_OVERHEAD + ((BigDecimal) val).unscaledValue().bitLength() / Byte.SIZE;
+        } else if (val instanceof ByteString) {
+            return ARRAY_OVERHEAD + SMALL_BOXED_SIZE + ((ByteString) val).length();
+        } else if (val instanceof byte[]) {
+            return ARRAY_OVERHEAD + ((byte[]) val).length;
+        } else {
+            return DEFAULT_SIZE;
+        }
+    }
+}
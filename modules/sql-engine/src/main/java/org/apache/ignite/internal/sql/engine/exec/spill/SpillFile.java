@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.util.io.IgniteUnsafeDataInput;
+import org.apache.ignite.internal.util.io.IgniteUnsafeDataOutput;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Temporary file holding rows spilled by an execution node.
+ *
+ * <p>Rows are appended sequentially through a write buffer. Once the writing is finished the file can be read back, possibly
+ * several times, with independent {@link Reader readers}. The file is deleted on close.
+ */
+public class SpillFile<RowT> implements AutoCloseable {
+    private static final IgniteLogger LOG = Loggers.forClass(SpillFile.class);
+
+    /** Size of the write and read buffers. */
+    static final int BUF_SIZE = 64 * 1024;
+
+    private final Path path;
+
+    private final FileIo io;
+
+    private final SpillRowSerializer<RowT> serializer;
+
+    private final QueryMemoryTracker tracker;
+
+    /** Write buffer, {@code null} once the writing is finished. */
+    private @Nullable IgniteUnsafeDataOutput out = new IgniteUnsafeDataOutput(BUF_SIZE);
+
+    /** Number of bytes flushed to the file. */
+    private long size;
+
+    private long rows;
+
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param path File path.
+     * @param io File I/O.
+     * @param serializer Row serializer.
+     * @param tracker Memory tracker of the query.
+     */
+    SpillFile(Path path, FileIo io, SpillRowSerializer<RowT> serializer, QueryMemoryTracker tracker) {
+        this.path = path;
+        this.io = io;
+        this.serializer = serializer;
+        this.tracker = tracker;
+    }
+
+    /**
+     * Appends a row to the file.
+     *
+     * @param row Row.
+     * @throws IOException If failed.
+     */
+    public void add(RowT row) throws IOException {
+        IgniteUnsafeDataOutput out = this.out;
+
+        assert out != null : "Writing is finished: " + path;
+
+        int start = out.offset();
+
+        // Reserve a place for the length of the row.
+        out.writeInt(0);
+
+        serializer.write(row, out);
+
+        int end = out.offset();
+
+        out.offset(start);
+        out.writeInt(end - start - Integer.BYTES);
+        out.offset(end);
+
+        rows++;
+
+        if (end >= BUF_SIZE) {
+            flush(out);
+        }
+    }
+
+    /**
+     * Finishes the writing, the file is read only afterwards.
+     *
+     * @throws IOException If failed.
+     */
+    public void finish() throws IOException {
+        IgniteUnsafeDataOutput out = this.out;
+
+        if (out == null) {
+            return;
+        }
+
+        flush(out);
+
+        this.out = null;
+
+        tracker.onSpilled(rows, size);
+    }
+
+    private void flush(IgniteUnsafeDataOutput out) throws IOException {
+        int len = out.offset();
+
+        if (len > 0) {
+            io.writeFully(ByteBuffer.wrap(out.internalArray(), 0, len), size);
+
+            size += len;
+
+            out.offset(0);
+        }
+    }
+
+    /**
+     * Returns the number of rows in the file.
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of bytes flushed to the file.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Finishes the writing and creates a reader of the file from the beginning.
+     *
+     * @return Reader.
+     * @throws IOException If failed.
+     */
+    public Reader reader() throws IOException {
+        finish();
+
+        return new Reader();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        out = null;
+
+        try {
+            io.close();
+
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOG.warn("Failed to delete a spill file [path={}]", e, path);
+        }
+
+        tracker.onClosed(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "SpillFile [path=" + path + ", rows=" + rows + ", size=" + size + ']';
+    }
+
+    /**
+     * Sequential reader of the rows of the file.
+     */
+    public class Reader {
+        private final IgniteUnsafeDataInput in = new IgniteUnsafeDataInput();
+
+        private byte[] buf = new byte[BUF_SIZE];
+
+        /** Position of the buffer start in the file. */
+        private long pos;
+
+        /** Offset of the next row in the buffer. */
+        private int off;
+
+        /** Number of valid bytes in the buffer. */
+        private int limit;
+
+        private long remaining = rows;
+
+        /**
+         * Reads the next row.
+         *
+         * @return Row or {@code null} if all the rows have been read.
+         * @throws IOException If failed.
+         */
+        public @Nullable RowT read() throws IOException {
+            if (remaining == 0) {
+                return null;
+            }
+
+            ensureAvailable(Integer.BYTES);
+
+            // Note that the last argument is an end offset rather than a length.
+            in.bytes(buf, off, off + Integer.BYTES);
+
+            int len = in.readInt();
+
+            off += Integer.BYTES;
+
+            ensureAvailable(len);
+
+            in.bytes(buf, off, off + len);
+
+            RowT row = serializer.read(in);
+
+            off += len;
+            remaining--;
+
+            return row;
+        }
+
+        private void ensureAvailable(int len) throws IOException {
+            int available = limit - off;
+
+            if (available >= len) {
+                return;
+            }
+
+            if (len > buf.length) {
+                byte[] newBuf = new byte[Math.max(len, buf.length << 1)];
+
+                System.arraycopy(buf, off, newBuf, 0, available);
+
+                buf = newBuf;
+            } else {
+                System.arraycopy(buf, off, buf, 0, available);
+            }
+
+            pos += off;
+            off = 0;
+            limit = available;
+
+            while (limit < len) {
+                int read = io.read(ByteBuffer.wrap(buf, limit, buf.length - limit), pos + limit);
+
+                if (read <= 0) {
+                    throw new EOFException("Unexpected end of a spill file: " + path);
+                }
+
+                limit += read;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.fileio.FileIoFactory;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteSystemProperties;
+
+/**
+ * Manages the spilling of the query execution nodes to disk: creates {@link QueryMemoryTracker memory trackers} for the queries
+ * and owns the directory of the spill files.
+ */
+public class SpillManager implements LifecycleAware {
+    /**
+     * Memory quota of a query on a node in bytes. Memory hungry execution nodes spill rows to disk once the quota is exhausted,
+     * not positive value disables the spilling. Default is 10% of the maximum heap size.
+     */
+    public static final String IGNITE_SQL_QUERY_MEMORY_QUOTA = "IGNITE_SQL_QUERY_MEMORY_QUOTA";
+
+    /** Name of the spill directory in the work directory of a node. */
+    public static final String SPILL_DIR = "sql-spill";
+
+    private final Path spillDir;
+
+    private final FileIoFactory fileIoFactory;
+
+    private final long quota;
+
+    private final SpillMetricSource metricSource;
+
+    private final AtomicLong fileIdGen = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param spillDir Spill directory, it is created on demand and cleared on start and stop.
+     * @param fileIoFactory File I/O factory.
+     * @param quota Memory quota of a query in bytes, not positive value disables the spilling.
+     * @param metricSource Metric source.
+     */
+    public SpillManager(Path spillDir, FileIoFactory fileIoFactory, long quota, SpillMetricSource metricSource) {
+        this.spillDir = spillDir;
+        this.fileIoFactory = fileIoFactory;
+        this.quota = quota;
+        this.metricSource = metricSource;
+    }
+
+    /**
+     * Returns the memory quota of a query configured with the {@link #IGNITE_SQL_QUERY_MEMORY_QUOTA} system property.
+     */
+    public static long configuredQuota() {
+        return IgniteSystemProperties.getLong(IGNITE_SQL_QUERY_MEMORY_QUOTA, Runtime.getRuntime().maxMemory() / 10);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        // Removes the files left by a previous run.
+        IgniteUtils.deleteIfExists(spillDir);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        IgniteUtils.deleteIfExists(spillDir);
+    }
+
+    /**
+     * Creates a memory tracker of a query.
+     */
+    public QueryMemoryTracker createTracker() {
+        return new QueryMemoryTracker(this, quota);
+    }
+
+    /**
+     * Returns the metric source.
+     */
+    public SpillMetricSource metricSource() {
+        return metricSource;
+    }
+
+    <RowT> SpillFile<RowT> createFile(QueryMemoryTracker tracker, RowHandler<RowT> handler) throws IOException {
+        Files.createDirectories(spillDir);
+
+        Path path = spillDir.resolve("spill-" + fileIdGen.incrementAndGet() + ".bin");
+
+        FileIo io = fileIoFactory.create(path, CREATE_NEW, READ, WRITE);
+
+        return new SpillFile<>(path, io, new SpillRowSerializer<>(handler), tracker);
+    }
+}
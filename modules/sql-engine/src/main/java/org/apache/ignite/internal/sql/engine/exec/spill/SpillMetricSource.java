@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+
+/**
+ * Metric source of the SQL spilling to disk.
+ */
+public class SpillMetricSource extends AbstractMetricSource<SpillMetricSource.Holder> {
+    /** Source name. */
+    public static final String SOURCE_NAME = "sql.spill";
+
+    /**
+     * Constructor.
+     */
+    public SpillMetricSource() {
+        super(SOURCE_NAME);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void init(MetricSetBuilder bldr, Holder holder) {
+        holder.files = bldr.longAdder("SpillFiles", "Total number of spill files written by query execution nodes.");
+
+        holder.rows = bldr.longAdder("SpilledRows", "Total number of rows spilled to disk.");
+
+        holder.bytes = bldr.longAdder("SpilledBytes", "Total number of bytes spilled to disk.");
+    }
+
+    /**
+     * Records a written spill file.
+     *
+     * @param rows Number of rows in the file.
+     * @param bytes Size of the file in bytes.
+     */
+    void onSpilled(long rows, long bytes) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.files.increment();
+            holder.rows.add(rows);
+            holder.bytes.add(bytes);
+        }
+    }
+
+    /**
+     * Holder class.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private LongAdderMetric files;
+
+        private LongAdderMetric rows;
+
+        private LongAdderMetric bytes;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.util.io.IgniteDataInput;
+import org.apache.ignite.internal.util.io.IgniteDataOutput;
+import org.apache.ignite.lang.IgniteInternalException;
+
+/**
+ * Serializer of the rows written to the spill files.
+ *
+ * <p>Every value is prefixed with a type tag, so a row is restored without its row type: the rows are created with a factory
+ * of untyped columns of the row handler.
+ */
+class SpillRowSerializer<RowT> {
+    private static final byte NULL = 0;
+
+    private static final byte BOOLEAN = 1;
+
+    private static final byte BYTE = 2;
+
+    private static final byte SHORT = 3;
+
+    private static final byte INT = 4;
+
+    private static final byte LONG = 5;
+
+    private static final byte FLOAT = 6;
+
+    private static final byte DOUBLE = 7;
+
+    private static final byte STRING = 8;
+
+    private static final byte DECIMAL = 9;
+
+    private static final byte BYTE_STRING = 10;
+
+    private static final byte BYTE_ARRAY = 11;
+
+    private static final byte UUID_TYPE = 12;
+
+    /** Any other serializable value, written with the JDK serialization. */
+    private static final byte SERIALIZABLE = 13;
+
+    private final RowHandler<RowT> handler;
+
+    /** Row factories by the number of columns. */
+    private RowFactory<RowT>[] factories;
+
+    /**
+     * Constructor.
+     *
+     * @param handler Row handler.
+     */
+    @SuppressWarnings("unchecked")
+    SpillRowSerializer(RowHandler<RowT> handler) {
+        this.handler = handler;
+
+        factories = new RowFactory[0];
+    }
+
+    /**
+     * Writes the row.
+     *
+     * @param row Row.
+     * @param out Output.
+     * @throws IOException If failed.
+     */
+    void write(RowT row, IgniteDataOutput out) throws IOException {
+        int cnt = handler.columnCount(row);
+
+        out.writeInt(cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            writeValue(handler.get(i, row), out);
+        }
+    }
+
+    /**
+     * Reads a row.
+     *
+     * @param in Input.
+     * @return Row.
+     * @throws IOException If failed.
+     */
+    RowT read(IgniteDataInput in) throws IOException {
+        int cnt = in.readInt();
+
+        Object[] fields = new Object[cnt];
+
+        for (int i = 0; i < cnt; i++) {
+            fields[i] = readValue(in);
+        }
+
+        return factory(cnt).create(fields);
+    }
+
+    private RowFactory<RowT> factory(int cnt) {
+        if (cnt >= factories.length) {
+            factories = Arrays.copyOf(factories, cnt + 1);
+        }
+
+        RowFactory<RowT> factory = factories[cnt];
+
+        if (factory == null) {
+            Type[] types = new Type[cnt];
+
+            Arrays.fill(types, Object.class);
+
+            factories[cnt] = factory = handler.factory(types);
+        }
+
+        return factory;
+    }
+
+    private static void writeValue(Object val, IgniteDataOutput out) throws IOException {
+        if (val == null) {
+            out.writeByte(NULL);
+        } else if (val instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) val);
+        } else if (val instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) val);
+        } else if (val instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) val);
+        } else if (val instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) val);
+        } else if (val instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) val);
+        } else if (val instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) val);
+        } else if (val instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) val);
+        } else if (val instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(((String) val).getBytes(StandardCharsets.UTF_8), out);
+        } else if (val instanceof BigDecimal) {
+            BigDecimal dec = (BigDecimal) val;
+
+            out.writeByte(DECIMAL);
+            out.writeInt(dec.scale());
+            writeBytes(dec.unscaledValue().toByteArray(), out);
+        } else if (val instanceof ByteString) {
+            out.writeByte(BYTE_STRING);
+            writeBytes(((ByteString) val).getBytes(), out);
+        } else if (val instanceof byte[]) {
+            out.writeByte(BYTE_ARRAY);
+            writeBytes((byte[]) val, out);
+        } else if (val instanceof UUID) {
+            out.writeByte(UUID_TYPE);
+            out.writeLong(((UUID) val).getMostSignificantBits());
+            out.writeLong(((UUID) val).getLeastSignificantBits());
+        } else if (val instanceof Serializable) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                oos.writeObject(val);
+            }
+
+            out.writeByte(SERIALIZABLE);
+            writeBytes(bytes.toByteArray(), out);
+        } else {
+            throw new IgniteInternalException("Failed to spill a value of unsupported type: " + val.getClass().getName());
+        }
+    }
+
+    private static Object readValue(IgniteDataInput in) throws IOException {
+        byte type = in.readByte();
+
+        switch (type) {
+            case NULL:
+                return null;
+
+            case BOOLEAN:
+                return in.readBoolean();
+
+            case BYTE:
+                return in.readByte();
+
+            case SHORT:
+                return in.readShort();
+
+            case INT:
+                return in.readInt();
+
+            case LONG:
+                return in.readLong();
+
+            case FLOAT:
+                return in.readFloat();
+
+            case DOUBLE:
+                return in.readDouble();
+
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+
+            case DECIMAL: {
+                int scale = in.readInt();
+
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+
+            case BYTE_STRING:
+                return new ByteString(readBytes(in));
+
+            case BYTE_ARRAY:
+                return readBytes(in);
+
+            case UUID_TYPE:
+                return new UUID(in.readLong(), in.readLong());
+
+            case SERIALIZABLE:
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                    return ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Failed to read a spilled value", e);
+                }
+
+            default:
+                throw new IOException("Unexpected spilled value type: " + type);
+        }
+    }
+
+    private static void writeBytes(byte[] bytes, IgniteDataOutput out) throws IOException {
+        out.writeInt(bytes.length);
+        out.writeByteArray(bytes);
+    }
+
+    private static byte[] readBytes(IgniteDataInput in) throws IOException {
+        return in.readByteArray(in.readInt());
+    }
+}
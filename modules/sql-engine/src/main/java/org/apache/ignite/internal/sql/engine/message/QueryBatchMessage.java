@@ -47,4 +47,13 @@ public interface QueryBatchMessage extends ExecutionContextAwareMessage {
      */
     @Marshallable
     List<Object> rows();
+
+    /**
+     * Batches are sent over the bulk connections, so large exchanges don't delay latency-critical messages. All the batches of an
+     * exchange are sent by the thread of the fragment, so they keep their order.
+     */
+    @Override
+    default boolean bulk() {
+        return true;
+    }
 }
@@ -17,14 +17,21 @@
 
 package org.apache.ignite.internal.sql.engine.metadata;
 
+import java.util.List;
 import org.apache.calcite.plan.volcano.RelSubset;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.BuiltInMethod;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
+import org.apache.ignite.internal.sql.engine.statistic.TableStatistics;
 
 /**
  * IgniteMdDistinctRowCount.
@@ -54,4 +61,62 @@ public class IgniteMdDistinctRowCount extends RelMdDistinctRowCount {
 
         return rowCount;
     }
+
+    /**
+     * Estimates the number of distinct values of the group key of a table scan using the collected statistics of the table.
+     * The columns are assumed to be independent.
+     */
+    public Double getDistinctRowCount(
+            ProjectableFilterableTableScan rel,
+            RelMetadataQuery mq,
+            ImmutableBitSet groupKey,
+            RexNode predicate
+    ) {
+        if (groupKey.cardinality() == 0) {
+            return 1d;
+        }
+
+        TableStatistics stats = IgniteMdSelectivity.statistics(rel);
+
+        if (stats == null) {
+            return super.getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+        }
+
+        List<RexNode> projects = rel.projects();
+
+        double distinct = 1d;
+
+        for (int key : groupKey) {
+            int field = key;
+
+            if (projects != null) {
+                if (!(projects.get(key) instanceof RexInputRef)) {
+                    return super.getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+                }
+
+                field = ((RexInputRef) projects.get(key)).getIndex();
+            }
+
+            ColumnStatistics col = IgniteMdSelectivity.columnStatistics(rel, stats, field);
+
+            if (col == null) {
+                return super.getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+            }
+
+            // Null is a distinct value of the group key as well.
+            distinct *= Math.max(col.distinctCount(), 1d) + (col.nullFraction() > 0 ? 1 : 0);
+        }
+
+        double rowCount = mq.getRowCount(rel);
+
+        if (predicate != null) {
+            Double selectivity = mq.getSelectivity(rel, predicate);
+
+            if (selectivity != null) {
+                rowCount *= selectivity;
+            }
+        }
+
+        return RelMdUtil.numDistinctVals(distinct, rowCount);
+    }
 }
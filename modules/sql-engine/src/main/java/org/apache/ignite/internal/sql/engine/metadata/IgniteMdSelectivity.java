@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.engine.metadata;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.math.BigDecimal;
 import java.util.List;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
@@ -27,15 +28,22 @@ import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.sql.engine.rel.AbstractIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteHashIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSortedIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
+import org.apache.ignite.internal.sql.engine.statistic.TableStatistics;
 import org.apache.ignite.internal.sql.engine.util.RexUtils;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * IgniteMdSelectivity.
@@ -55,6 +63,12 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
             return getSelectivity((ProjectableFilterableTableScan) rel, mq, predicate);
         }
 
+        Double estimated = estimateSelectivity(rel, rel.condition());
+
+        if (estimated != null) {
+            return estimated;
+        }
+
         List<RexNode> lowerCond = rel.lowerCondition();
         List<RexNode> upperCond = rel.upperCondition();
 
@@ -99,7 +113,9 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
      */
     public Double getSelectivity(ProjectableFilterableTableScan rel, RelMetadataQuery mq, RexNode predicate) {
         if (predicate == null) {
-            return RelMdUtil.guessSelectivity(rel.condition());
+            Double estimated = estimateSelectivity(rel, rel.condition());
+
+            return estimated != null ? estimated : RelMdUtil.guessSelectivity(rel.condition());
         }
 
         RexNode condition = rel.pushUpPredicate();
@@ -142,4 +158,169 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
 
         return mq.getSelectivity(rel.getInput(), rel.condition());
     }
+
+    /**
+     * Estimates the selectivity of a condition over the row of a scan using the collected statistics of the scanned table.
+     * Conjunctions which can't be estimated by the statistics are guessed the usual way.
+     *
+     * @param rel Table scan.
+     * @param condition Condition over the row of the scan before the projection.
+     * @return Selectivity or {@code null} if the statistics of the table are not collected.
+     */
+    static @Nullable Double estimateSelectivity(ProjectableFilterableTableScan rel, @Nullable RexNode condition) {
+        TableStatistics stats = statistics(rel);
+
+        if (stats == null) {
+            return null;
+        }
+
+        if (condition == null) {
+            return 1.0;
+        }
+
+        double selectivity = 1.0;
+
+        for (RexNode conjunction : RelOptUtil.conjunctions(RexUtil.expandSearch(RexUtils.builder(rel), null, condition))) {
+            Double conjunctionSelectivity = estimateConjunction(rel, stats, conjunction);
+
+            selectivity *= conjunctionSelectivity != null ? conjunctionSelectivity : RelMdUtil.guessSelectivity(conjunction);
+        }
+
+        // At least one row is expected to match.
+        return Math.max(selectivity, 1.0 / Math.max(stats.rowCount(), 1L));
+    }
+
+    /**
+     * Returns the collected statistics of the table of a scan.
+     *
+     * @param rel Table scan.
+     * @return Statistics or {@code null} if they are not collected.
+     */
+    static @Nullable TableStatistics statistics(ProjectableFilterableTableScan rel) {
+        IgniteTable tbl = rel.getTable().unwrap(IgniteTable.class);
+
+        return tbl == null ? null : tbl.statistics();
+    }
+
+    /**
+     * Returns the collected statistics of a column of a scan.
+     *
+     * @param rel Table scan.
+     * @param stats Statistics of the scanned table.
+     * @param field Index of the field of the row of the scan before the projection.
+     * @return Statistics or {@code null} if they are not collected for the column.
+     */
+    static @Nullable ColumnStatistics columnStatistics(ProjectableFilterableTableScan rel, TableStatistics stats, int field) {
+        IgniteTable tbl = rel.getTable().unwrap(IgniteTable.class);
+
+        ImmutableBitSet requiredColumns = rel.requiredColumns();
+
+        int colIdx = requiredColumns == null ? field : requiredColumns.nth(field);
+
+        return stats.column(tbl.descriptor().columnDescriptor(colIdx).name());
+    }
+
+    private static @Nullable Double estimateConjunction(ProjectableFilterableTableScan rel, TableStatistics stats, RexNode node) {
+        if (!(node instanceof RexCall)) {
+            return null;
+        }
+
+        RexCall call = (RexCall) node;
+        SqlKind kind = call.getKind();
+
+        if (kind == SqlKind.IS_NULL || kind == SqlKind.IS_NOT_NULL) {
+            RexNode operand = RexUtil.removeCast(call.getOperands().get(0));
+
+            if (!(operand instanceof RexInputRef)) {
+                return null;
+            }
+
+            ColumnStatistics col = columnStatistics(rel, stats, ((RexInputRef) operand).getIndex());
+
+            if (col == null) {
+                return null;
+            }
+
+            return kind == SqlKind.IS_NULL ? col.nullFraction() : 1.0 - col.nullFraction();
+        }
+
+        if (!SqlKind.COMPARISON.contains(kind) || call.getOperands().size() != 2) {
+            return null;
+        }
+
+        RexNode left = RexUtil.removeCast(call.getOperands().get(0));
+        RexNode right = RexUtil.removeCast(call.getOperands().get(1));
+
+        if (left instanceof RexLiteral && right instanceof RexInputRef) {
+            RexNode tmp = left;
+            left = right;
+            right = tmp;
+
+            kind = kind.reverse();
+        }
+
+        if (!(left instanceof RexInputRef) || !(right instanceof RexLiteral)) {
+            return null;
+        }
+
+        ColumnStatistics col = columnStatistics(rel, stats, ((RexInputRef) left).getIndex());
+
+        if (col == null) {
+            return null;
+        }
+
+        RexLiteral literal = (RexLiteral) right;
+
+        if (literal.isNull()) {
+            return 0.0;
+        }
+
+        double notNull = 1.0 - col.nullFraction();
+
+        if (kind == SqlKind.EQUALS) {
+            return col.equalsSelectivity();
+        } else if (kind == SqlKind.NOT_EQUALS) {
+            return Math.max(0.0, notNull - col.equalsSelectivity());
+        }
+
+        Double val = literalValue(literal);
+
+        if (val == null || !col.ordered()) {
+            return null;
+        }
+
+        double less = col.fractionLess(val);
+        double equal = 1.0 / Math.max(col.distinctCount(), 1.0);
+
+        switch (kind) {
+            case LESS_THAN:
+                return notNull * less;
+            case LESS_THAN_OR_EQUAL:
+                return notNull * Math.min(1.0, less + equal);
+            case GREATER_THAN:
+                return notNull * Math.max(0.0, 1.0 - less - equal);
+            case GREATER_THAN_OR_EQUAL:
+                return notNull * (1.0 - less);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Maps the value of a literal the same way {@link ColumnStatistics#toDouble(Object)} maps the values of a column.
+     */
+    private static @Nullable Double literalValue(RexLiteral literal) {
+        switch (literal.getTypeName()) {
+            case DATE:
+            case TIME:
+                return literal.getValueAs(Integer.class).doubleValue();
+            case TIMESTAMP:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return literal.getValueAs(Long.class).doubleValue();
+            default:
+                Comparable<?> val = literal.getValue();
+
+                return val instanceof BigDecimal ? ((BigDecimal) val).doubleValue() : null;
+        }
+    }
 }
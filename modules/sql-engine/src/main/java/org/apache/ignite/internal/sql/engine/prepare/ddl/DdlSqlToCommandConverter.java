@@ -66,6 +66,7 @@ import org.apache.ignite.internal.sql.engine.prepare.IgnitePlanner;
 import org.apache.ignite.internal.sql.engine.prepare.PlanningContext;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterTableAddColumn;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterTableDropColumn;
+import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAnalyzeTable;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateIndex;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateTable;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateTableOption;
@@ -167,6 +168,10 @@ public class DdlSqlToCommandConverter {
             return convertDropIndex((IgniteSqlDropIndex) ddlNode, ctx);
         }
 
+        if (ddlNode instanceof IgniteSqlAnalyzeTable) {
+            return convertAnalyzeTable((IgniteSqlAnalyzeTable) ddlNode, ctx);
+        }
+
         throw new IgniteException("Unsupported operation ["
                 + "sqlNodeKind=" + ddlNode.getKind() + "; "
                 + "querySql=\"" + ctx.query() + "\"]");
@@ -378,6 +383,21 @@ public class DdlSqlToCommandConverter {
         return dropTblCmd;
     }
 
+    /**
+     * Converts a given AnalyzeTable AST to a AnalyzeTable command.
+     *
+     * @param analyzeTblNode Root node of the given AST.
+     * @param ctx            Planning context.
+     */
+    private AnalyzeTableCommand convertAnalyzeTable(IgniteSqlAnalyzeTable analyzeTblNode, PlanningContext ctx) {
+        AnalyzeTableCommand analyzeTblCmd = new AnalyzeTableCommand();
+
+        analyzeTblCmd.schemaName(deriveSchemaName(analyzeTblNode.name(), ctx));
+        analyzeTblCmd.tableName(deriveObjectName(analyzeTblNode.name(), ctx, "tableName"));
+
+        return analyzeTblCmd;
+    }
+
     /**
      * Converts create index to appropriate wrapper.
      */
@@ -17,12 +17,27 @@
 
 package org.apache.ignite.internal.sql.engine.schema;
 
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
 import org.apache.calcite.rel.RelCollation;
 
 /**
  * Ignite scannable index.
  */
 public class IgniteIndex {
+    /**
+     * Type of the index.
+     */
+    public enum Type {
+        SORTED,
+
+        HASH
+    }
+
+    private final UUID id;
+
+    private final Type type;
+
     private final RelCollation collation;
 
     private final String idxName;
@@ -30,14 +45,46 @@ public class IgniteIndex {
     //    private final GridIndex<H2Row> idx;
     private final InternalIgniteTable tbl;
 
+    private final BooleanSupplier available;
+
+    /**
+     * Constructor of an index that is always available to the queries.
+     *
+     * @param id Index id.
+     * @param type Index type.
+     * @param collation Collation of the index columns, in terms of the table columns.
+     * @param name Index name.
+     * @param tbl Indexed table.
+     */
+    public IgniteIndex(UUID id, Type type, RelCollation collation, String name, InternalIgniteTable tbl) {
+        this(id, type, collation, name, tbl, () -> true);
+    }
+
     /**
      * Constructor.
-     * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
+     *
+     * @param id Index id.
+     * @param type Index type.
+     * @param collation Collation of the index columns, in terms of the table columns.
+     * @param name Index name.
+     * @param tbl Indexed table.
+     * @param available Whether the index has been built, so it can be used by the queries.
      */
-    public IgniteIndex(RelCollation collation, String name, InternalIgniteTable tbl) {
+    public IgniteIndex(UUID id, Type type, RelCollation collation, String name, InternalIgniteTable tbl, BooleanSupplier available) {
+        this.id = id;
+        this.type = type;
         this.collation = collation;
         idxName = name;
         this.tbl = tbl;
+        this.available = available;
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    public Type type() {
+        return type;
     }
 
     public RelCollation collation() {
@@ -51,4 +98,11 @@ public class IgniteIndex {
     public InternalIgniteTable table() {
         return tbl;
     }
+
+    /**
+     * Returns {@code true} if the index has been built, so it can be used by the queries.
+     */
+    public boolean available() {
+        return available.getAsBoolean();
+    }
 }
@@ -33,6 +33,7 @@ import org.apache.calcite.schema.Wrapper;
 import org.apache.calcite.sql.SqlCall;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.statistic.TableStatistics;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -117,6 +118,15 @@ public interface IgniteTable extends TranslatableTable, Wrapper {
         return false;
     }
 
+    /**
+     * Returns the collected statistics of the table.
+     *
+     * @return Statistics or {@code null} if they are not collected yet.
+     */
+    default @Nullable TableStatistics statistics() {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override
     default Statistic getStatistic() {
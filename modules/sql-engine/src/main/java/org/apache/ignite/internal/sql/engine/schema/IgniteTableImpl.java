@@ -20,7 +20,6 @@ package org.apache.ignite.internal.sql.engine.schema;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +27,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.calcite.plan.Convention;
 import org.apache.calcite.plan.RelOptCluster;
@@ -43,6 +43,7 @@ import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.NativeTypeSpec;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
@@ -56,6 +57,8 @@ import org.apache.ignite.internal.sql.engine.prepare.MappingQueryContext;
 import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalTableScan;
 import org.apache.ignite.internal.sql.engine.schema.ModifyRow.Operation;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
+import org.apache.ignite.internal.sql.engine.statistic.TableStatistics;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 import org.apache.ignite.internal.sql.engine.trait.RewindabilityTrait;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
@@ -63,6 +66,7 @@ import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.distributed.index.IndexColumnsConverter;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -77,6 +81,10 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
 
     private final SchemaRegistry schemaRegistry;
 
+    private final StatisticsManager statisticsManager;
+
+    private final IndexColumnsConverter indexColumnsConverter;
+
     public final SchemaDescriptor schemaDescriptor;
 
     private final Statistic statistic;
@@ -90,17 +98,22 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
      *
      * @param desc  Table descriptor.
      * @param table Physical table this schema object created for.
+     * @param schemaRegistry Schema registry of the table.
+     * @param statisticsManager Manager of the collected statistics.
      */
     public IgniteTableImpl(
             TableDescriptor desc,
             InternalTable table,
-            SchemaRegistry schemaRegistry
+            SchemaRegistry schemaRegistry,
+            StatisticsManager statisticsManager
     ) {
         this.ver = schemaRegistry.lastSchemaVersion();
         this.desc = desc;
         this.table = table;
         this.schemaRegistry = schemaRegistry;
+        this.statisticsManager = statisticsManager;
         this.schemaDescriptor = schemaRegistry.schema();
+        this.indexColumnsConverter = new IndexColumnsConverter(table.name(), () -> schemaRegistry);
 
         assert schemaDescriptor != null;
 
@@ -139,6 +152,12 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
         return statistic;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable TableStatistics statistics() {
+        return statisticsManager.statistics(id());
+    }
+
 
     /** {@inheritDoc} */
     @Override
@@ -200,7 +219,10 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
     /** {@inheritDoc} */
     @Override
     public Map<String, IgniteIndex> indexes() {
-        return Collections.unmodifiableMap(indexes);
+        // Indexes which are still being built are not exposed to the planner.
+        return indexes.values().stream()
+                .filter(IgniteIndex::available)
+                .collect(Collectors.toUnmodifiableMap(IgniteIndex::name, Function.identity()));
     }
 
     /** {@inheritDoc} */
@@ -266,6 +288,12 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
         return res;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public BinaryTuple toIndexColumns(UUID indexId, BinaryRow row, List<String> columnNames) {
+        return indexColumnsConverter.indexColumns(indexId, row, () -> columnNames);
+    }
+
     /** {@inheritDoc} */
     @Override
     public <RowT> ModifyRow toModifyRow(
@@ -471,6 +499,13 @@ public class IgniteTableImpl extends AbstractTable implements InternalIgniteTabl
         /** {@inheritDoc} */
         @Override
         public Double getRowCount() {
+            TableStatistics stats = statistics();
+
+            // Collected statistics cover all the partitions of the table, not only the local ones.
+            if (stats != null) {
+                return (double) stats.rowCount();
+            }
+
             if (statReqCnt.getAndIncrement() % STATS_CLI_UPDATE_THRESHOLD == 0) {
                 int parts = table.storage().configuration().partitions().value();
 
@@ -19,12 +19,14 @@ package org.apache.ignite.internal.sql.engine.schema;
 
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.rel.core.TableModify;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.metadata.ColocationGroup;
@@ -97,6 +99,16 @@ public interface InternalIgniteTable extends IgniteTable {
             @Nullable ImmutableBitSet requiredColumns
     );
 
+    /**
+     * Converts a tuple to the index columns of a secondary index, the same way as the tuple is put to the index storage.
+     *
+     * @param indexId     Index id.
+     * @param row         Tuple to convert.
+     * @param columnNames Names of the index columns.
+     * @return Index columns.
+     */
+    BinaryTuple toIndexColumns(UUID indexId, BinaryRow row, List<String> columnNames);
+
     /**
      * Converts a relational node row to internal tuple.
      *
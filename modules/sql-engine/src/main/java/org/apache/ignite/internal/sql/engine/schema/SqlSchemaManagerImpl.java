@@ -48,6 +48,7 @@ import org.apache.ignite.internal.schema.DefaultValueProvider.Type;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaManager;
 import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
 import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
 import org.apache.ignite.internal.table.TableImpl;
 import org.apache.ignite.internal.table.distributed.TableManager;
@@ -74,6 +75,8 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
 
     private final SchemaManager schemaManager;
 
+    private final StatisticsManager statisticsManager;
+
     private final VersionedValue<SchemaPlus> calciteSchemaVv;
 
     private final Set<SchemaUpdateListener> listeners = new CopyOnWriteArraySet<>();
@@ -88,11 +91,13 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
     public SqlSchemaManagerImpl(
             TableManager tableManager,
             SchemaManager schemaManager,
+            StatisticsManager statisticsManager,
             Consumer<Function<Long, CompletableFuture<?>>> registry,
             IgniteSpinBusyLock busyLock
     ) {
         this.tableManager = tableManager;
         this.schemaManager = schemaManager;
+        this.statisticsManager = statisticsManager;
         schemasVv = new VersionedValue<>(registry, HashMap::new);
         tablesVv = new VersionedValue<>(registry, HashMap::new);
         indicesVv = new VersionedValue<>(registry, HashMap::new);
@@ -359,7 +364,8 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         return new IgniteTableImpl(
                 new TableDescriptorImpl(colDescriptors),
                 table.internalTable(),
-                schemaRegistry
+                schemaRegistry,
+                statisticsManager
         );
     }
 
@@ -385,14 +391,16 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
                     )
             ).collect(Collectors.toList());
 
-            return new IgniteIndex(RelCollations.of(collations), index.name(), (InternalIgniteTable) table);
+            return new IgniteIndex(index.id(), IgniteIndex.Type.SORTED, RelCollations.of(collations), index.name(),
+                    (InternalIgniteTable) table, index::available);
         }
 
         List<RelFieldCollation> collations = desc.columns().stream().map(colName ->
                 TraitUtils.createFieldCollation(schema.column(colName).columnOrder())
         ).collect(Collectors.toList());
 
-        return new IgniteIndex(RelCollations.of(collations), index.name(), (InternalIgniteTable) table);
+        return new IgniteIndex(index.id(), IgniteIndex.Type.HASH, RelCollations.of(collations), index.name(),
+                (InternalIgniteTable) table, index::available);
     }
 
     private DefaultValueStrategy convertDefaultValueProvider(DefaultValueProvider defaultValueProvider) {
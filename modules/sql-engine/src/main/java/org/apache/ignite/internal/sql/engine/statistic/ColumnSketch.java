@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Mergeable summary of the values of a column in a set of rows, {@link ColumnStatistics} are built from it.
+ *
+ * <p>Distinct values are counted with a {@link HyperLogLog} sketch. Values of the ordered types are additionally sampled
+ * with a reservoir, the histogram of the column is built from the sample.
+ */
+public class ColumnSketch implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    /** Maximum number of the sampled values. */
+    static final int SAMPLE_SIZE = 1024;
+
+    /** Number of the buckets of a histogram. */
+    static final int BUCKETS = 32;
+
+    private final HyperLogLog distinct = new HyperLogLog();
+
+    private long nulls;
+
+    private long notNulls;
+
+    /** Number of the values of the ordered types, i.e. the number of the candidates for the sample. */
+    private long ordered;
+
+    private double[] sample = new double[0];
+
+    private int sampleSize;
+
+    /**
+     * Adds a value.
+     *
+     * @param val Value.
+     */
+    public void add(@Nullable Object val) {
+        if (val == null) {
+            nulls++;
+
+            return;
+        }
+
+        notNulls++;
+
+        distinct.add(val);
+
+        Double d = ColumnStatistics.toDouble(val);
+
+        if (d == null) {
+            return;
+        }
+
+        ordered++;
+
+        if (sampleSize < SAMPLE_SIZE) {
+            if (sampleSize == sample.length) {
+                sample = Arrays.copyOf(sample, Math.min(SAMPLE_SIZE, Math.max(16, sampleSize << 1)));
+            }
+
+            sample[sampleSize++] = d;
+        } else {
+            long idx = ThreadLocalRandom.current().nextLong(ordered);
+
+            if (idx < SAMPLE_SIZE) {
+                sample[(int) idx] = d;
+            }
+        }
+    }
+
+    /**
+     * Merges the other sketch into this one.
+     *
+     * @param other Sketch of another set of rows.
+     */
+    public void merge(ColumnSketch other) {
+        nulls += other.nulls;
+        notNulls += other.notNulls;
+
+        distinct.merge(other.distinct);
+
+        double[] merged = new double[Math.min(SAMPLE_SIZE, sampleSize + other.sampleSize)];
+
+        Random rnd = ThreadLocalRandom.current();
+
+        double[] left = shuffled(sample, sampleSize, rnd);
+        double[] right = shuffled(other.sample, other.sampleSize, rnd);
+
+        int i = 0;
+        int j = 0;
+
+        // Every value is taken from one of the samples with the probability proportional to the size of its population.
+        for (int k = 0; k < merged.length; k++) {
+            boolean fromLeft = j == right.length
+                    || (i < left.length && rnd.nextDouble() * (ordered + other.ordered) < ordered);
+
+            merged[k] = fromLeft ? left[i++] : right[j++];
+        }
+
+        ordered += other.ordered;
+        sample = merged;
+        sampleSize = merged.length;
+    }
+
+    /**
+     * Builds the statistics of the column.
+     *
+     * @param rowCount Number of the rows.
+     * @return Statistics.
+     */
+    public ColumnStatistics build(long rowCount) {
+        double nullFraction = rowCount == 0 ? 0 : Math.min(1.0, (double) nulls / rowCount);
+
+        // The estimation can't exceed the number of the values.
+        double distinctCount = Math.min(distinct.estimate(), notNulls);
+
+        return new ColumnStatistics(nullFraction, distinctCount, histogram());
+    }
+
+    private double @Nullable [] histogram() {
+        if (sampleSize == 0 || ordered < notNulls) {
+            return null;
+        }
+
+        double[] sorted = Arrays.copyOf(sample, sampleSize);
+
+        Arrays.sort(sorted);
+
+        int buckets = Math.min(BUCKETS, sampleSize);
+
+        double[] bounds = new double[buckets + 1];
+
+        for (int i = 0; i <= buckets; i++) {
+            bounds[i] = sorted[(int) ((long) i * (sampleSize - 1) / buckets)];
+        }
+
+        return bounds;
+    }
+
+    private static double[] shuffled(double[] sample, int size, Random rnd) {
+        double[] res = Arrays.copyOf(sample, size);
+
+        for (int i = size - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+
+            double tmp = res[i];
+            res[i] = res[j];
+            res[j] = tmp;
+        }
+
+        return res;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statistics of a column of a table.
+ *
+ * <p>Values of the ordered types (numbers, dates and times) are mapped to doubles, see {@link #toDouble(Object)}. The distribution
+ * of such values is described by an equi-depth histogram: every bucket holds the same number of the values.
+ */
+public class ColumnStatistics {
+    private final double nullFraction;
+
+    private final double distinctCount;
+
+    /** Bounds of the buckets of the histogram, {@code null} if the column is not of an ordered type. */
+    private final double @Nullable [] histogram;
+
+    /**
+     * Constructor.
+     *
+     * @param nullFraction Fraction of the rows with null value of the column.
+     * @param distinctCount Number of distinct not null values.
+     * @param histogram Ascending bounds of the buckets of the histogram, {@code null} if the column is not of an ordered type.
+     */
+    public ColumnStatistics(double nullFraction, double distinctCount, double @Nullable [] histogram) {
+        assert histogram == null || histogram.length > 1 : Arrays.toString(histogram);
+
+        this.nullFraction = nullFraction;
+        this.distinctCount = distinctCount;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Returns the fraction of the rows with null value of the column.
+     */
+    public double nullFraction() {
+        return nullFraction;
+    }
+
+    /**
+     * Returns the number of distinct not null values.
+     */
+    public double distinctCount() {
+        return distinctCount;
+    }
+
+    /**
+     * Returns the minimal value or {@code null} if it is unknown.
+     */
+    public @Nullable Double min() {
+        return histogram == null ? null : histogram[0];
+    }
+
+    /**
+     * Returns the maximal value or {@code null} if it is unknown.
+     */
+    public @Nullable Double max() {
+        return histogram == null ? null : histogram[histogram.length - 1];
+    }
+
+    /**
+     * Returns {@code true} if the distribution of the values is known, so {@link #fractionLess(double)} can be used.
+     */
+    public boolean ordered() {
+        return histogram != null;
+    }
+
+    /**
+     * Returns the selectivity of the equality to a value.
+     */
+    public double equalsSelectivity() {
+        return (1.0 - nullFraction) / Math.max(distinctCount, 1.0);
+    }
+
+    /**
+     * Estimates the fraction of the not null values which are less than the given one.
+     *
+     * @param val Value mapped with {@link #toDouble(Object)}.
+     * @return Fraction from 0 to 1.
+     */
+    public double fractionLess(double val) {
+        double[] bounds = histogram;
+
+        assert bounds != null;
+
+        if (val <= bounds[0]) {
+            return 0;
+        }
+
+        int buckets = bounds.length - 1;
+
+        for (int i = 0; i < buckets; i++) {
+            if (val < bounds[i + 1]) {
+                // Values are assumed to be distributed uniformly inside a bucket.
+                return (i + (val - bounds[i]) / (bounds[i + 1] - bounds[i])) / buckets;
+            }
+        }
+
+        return 1;
+    }
+
+    /**
+     * Maps a value of an ordered type to a double, so the order of the values is kept.
+     *
+     * <p>Dates are mapped to the number of days since the epoch, times to the milliseconds of the day and timestamps to the
+     * milliseconds since the epoch, the same way the values of the literals are represented by Calcite.
+     *
+     * @param val Value.
+     * @return Mapped value or {@code null} if the value is not of an ordered type.
+     */
+    public static @Nullable Double toDouble(@Nullable Object val) {
+        if (val instanceof Number) {
+            return ((Number) val).doubleValue();
+        } else if (val instanceof LocalDate) {
+            return (double) ((LocalDate) val).toEpochDay();
+        } else if (val instanceof LocalTime) {
+            return (double) (((LocalTime) val).toNanoOfDay() / 1_000_000L);
+        } else if (val instanceof LocalDateTime) {
+            return (double) ((LocalDateTime) val).toInstant(ZoneOffset.UTC).toEpochMilli();
+        } else if (val instanceof Instant) {
+            return (double) ((Instant) val).toEpochMilli();
+        } else {
+            return null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "ColumnStatistics [nullFraction=" + nullFraction + ", distinctCount=" + distinctCount
+                + ", min=" + min() + ", max=" + max() + ']';
+    }
+}
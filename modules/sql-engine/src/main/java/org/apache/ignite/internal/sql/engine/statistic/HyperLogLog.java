@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import org.apache.ignite.internal.util.HashUtils;
+
+/**
+ * HyperLogLog sketch estimating the number of distinct values.
+ *
+ * <p>Sketches built over different sets of rows are merged by taking the maximum of every register, the estimation of the
+ * merged sketch is the estimation of the union of the sets.
+ */
+public class HyperLogLog implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    /** Number of the hash bits addressing a register, the standard error of the estimation is about 2%. */
+    static final int PRECISION = 11;
+
+    private static final int REGISTERS = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers = new byte[REGISTERS];
+
+    /**
+     * Adds a value.
+     *
+     * @param val Not null value.
+     */
+    public void add(Object val) {
+        addHash(hash(val));
+    }
+
+    void addHash(long hash) {
+        int idx = (int) (hash >>> (Long.SIZE - PRECISION));
+
+        // The marker bit limits the rank if all the remaining bits are zero.
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+
+        if (rank > registers[idx]) {
+            registers[idx] = (byte) rank;
+        }
+    }
+
+    /**
+     * Merges the other sketch into this one.
+     *
+     * @param other Other sketch.
+     */
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the estimated number of distinct values.
+     */
+    public double estimate() {
+        double sum = 0;
+        int zeros = 0;
+
+        for (byte reg : registers) {
+            sum += 1.0 / (1L << reg);
+
+            if (reg == 0) {
+                zeros++;
+            }
+        }
+
+        double est = ALPHA * REGISTERS * REGISTERS / sum;
+
+        // Linear counting is more precise for the small cardinalities.
+        if (est <= 2.5 * REGISTERS && zeros > 0) {
+            est = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+
+        return est;
+    }
+
+    private static long hash(Object val) {
+        if (val instanceof Long || val instanceof Integer || val instanceof Short || val instanceof Byte) {
+            return HashUtils.hash64(((Number) val).longValue(), 0);
+        } else if (val instanceof Double || val instanceof Float) {
+            return HashUtils.hash64(Double.doubleToLongBits(((Number) val).doubleValue()), 0);
+        } else if (val instanceof String) {
+            return HashUtils.hash64(((String) val).getBytes(StandardCharsets.UTF_8));
+        } else if (val instanceof byte[]) {
+            return HashUtils.hash64((byte[]) val);
+        } else {
+            return HashUtils.hash64(val.hashCode(), 0);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "HyperLogLog [estimate=" + estimate() + ']';
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metastorage.MetaStorageManager;
+import org.apache.ignite.internal.metastorage.client.Entry;
+import org.apache.ignite.internal.metastorage.client.EntryEvent;
+import org.apache.ignite.internal.metastorage.client.WatchEvent;
+import org.apache.ignite.internal.metastorage.client.WatchListener;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.distributed.TableManager;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.util.ByteUtils;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.lang.ByteArray;
+import org.apache.ignite.lang.IgniteSystemProperties;
+import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.TopologyService;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects the statistics of the tables for the cost based planner.
+ *
+ * <p>Every node summarizes the partitions it leads into a {@link TableSketch} and publishes it in the metastorage, the sketches
+ * of all the nodes are merged into the cluster wide {@link TableStatistics} on every node. The sketch of a partition is
+ * re-collected once the number of the rows of the partition changes by more than {@link #REFRESH_FRACTION}, or on the
+ * {@link #requestCollection(UUID) request}, e.g. issued by {@code ANALYZE TABLE}.
+ */
+public class StatisticsManager implements LifecycleAware {
+    private static final IgniteLogger LOG = Loggers.forClass(StatisticsManager.class);
+
+    /** Period of the check for the changed partitions in milliseconds. Default is 1 minute. */
+    public static final String IGNITE_SQL_STATISTICS_REFRESH_PERIOD = "IGNITE_SQL_STATISTICS_REFRESH_PERIOD";
+
+    /** Fraction of the rows of a partition which has to be changed to re-collect the sketch of the partition. */
+    static final double REFRESH_FRACTION = 0.1;
+
+    private static final String STATISTICS_PREFIX = "sql.statistics.";
+
+    /** Prefix of the keys of the sketches: {@code sql.statistics.data.<tableId>.<nodeName>}. */
+    private static final String DATA_PREFIX = STATISTICS_PREFIX + "data.";
+
+    /** Prefix of the keys of the collection requests: {@code sql.statistics.request.<tableId>}. */
+    private static final String REQUEST_PREFIX = STATISTICS_PREFIX + "request.";
+
+    private final String nodeName;
+
+    private final TopologyService topSrvc;
+
+    private final TableManager tableManager;
+
+    private final MetaStorageManager metaStorageMgr;
+
+    private final TxManager txManager;
+
+    private final long refreshPeriod;
+
+    /** Sketches of the partitions led by the local node, by table id and partition. */
+    private final Map<UUID, Map<Integer, TableSketch>> localSketches = new ConcurrentHashMap<>();
+
+    /** Published sketches, by table id and node name. */
+    private final Map<UUID, Map<String, TableSketch>> nodeSketches = new ConcurrentHashMap<>();
+
+    private final Map<UUID, TableStatistics> statistics = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService executor;
+
+    private volatile long watchId = -1;
+
+    /** Whether the sketches published before the start of the local node are loaded. */
+    private boolean loaded;
+
+    /**
+     * Constructor.
+     *
+     * @param nodeName Name of the local node.
+     * @param topSrvc Topology service.
+     * @param tableManager Table manager.
+     * @param metaStorageMgr Metastorage manager.
+     * @param txManager Transaction manager.
+     */
+    public StatisticsManager(
+            String nodeName,
+            TopologyService topSrvc,
+            TableManager tableManager,
+            MetaStorageManager metaStorageMgr,
+            TxManager txManager
+    ) {
+        this.nodeName = nodeName;
+        this.topSrvc = topSrvc;
+        this.tableManager = tableManager;
+        this.metaStorageMgr = metaStorageMgr;
+        this.txManager = txManager;
+
+        refreshPeriod = IgniteSystemProperties.getLong(IGNITE_SQL_STATISTICS_REFRESH_PERIOD, TimeUnit.MINUTES.toMillis(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(
+                new NamedThreadFactory(NamedThreadFactory.threadPrefix(nodeName, "sql-statistics"), LOG));
+
+        executor.scheduleWithFixedDelay(this::refresh, refreshPeriod, refreshPeriod, TimeUnit.MILLISECONDS);
+
+        metaStorageMgr.registerWatchByPrefix(ByteArray.fromString(STATISTICS_PREFIX), new StatisticsListener())
+                .thenAccept(id -> watchId = id);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() throws Exception {
+        if (watchId != -1) {
+            metaStorageMgr.unregisterWatch(watchId);
+        }
+
+        ScheduledExecutorService executor = this.executor;
+
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the statistics of a table.
+     *
+     * @param tableId Table id.
+     * @return Statistics or {@code null} if they are not collected yet.
+     */
+    public @Nullable TableStatistics statistics(UUID tableId) {
+        return statistics.get(tableId);
+    }
+
+    /**
+     * Requests all the nodes to re-collect the statistics of a table.
+     *
+     * @param tableId Table id.
+     * @return Future completed once the request is stored in the metastorage.
+     */
+    public CompletableFuture<Void> requestCollection(UUID tableId) {
+        return metaStorageMgr.put(ByteArray.fromString(REQUEST_PREFIX + tableId), ByteUtils.toBytes(System.currentTimeMillis()));
+    }
+
+    /** Re-collects the sketches of the changed partitions of all the tables. */
+    private void refresh() {
+        try {
+            if (!loaded) {
+                loadSketches();
+
+                loaded = true;
+            }
+
+            Map<UUID, TableImpl> tables = tableManager.latestTables();
+
+            for (UUID tableId : localSketches.keySet()) {
+                if (!tables.containsKey(tableId)) {
+                    localSketches.remove(tableId);
+
+                    metaStorageMgr.remove(dataKey(tableId, nodeName));
+                }
+            }
+
+            for (TableImpl table : tables.values()) {
+                collect(table, false);
+            }
+        } catch (Throwable e) {
+            LOG.warn("Failed to refresh the statistics of the tables", e);
+        }
+    }
+
+    private void collect(UUID tableId) {
+        try {
+            TableImpl table = tableManager.latestTables().get(tableId);
+
+            if (table != null) {
+                collect(table, true);
+            }
+        } catch (Throwable e) {
+            LOG.warn("Failed to collect the statistics [tableId={}]", e, tableId);
+        }
+    }
+
+    /**
+     * Collects the sketches of the partitions of the table led by the local node and publishes their summary.
+     *
+     * @param table Table.
+     * @param force Whether to re-collect the sketches of all the partitions, otherwise only the changed partitions are scanned.
+     */
+    private void collect(TableImpl table, boolean force) {
+        InternalTable internalTbl = table.internalTable();
+
+        List<String> assignments = internalTbl.assignments();
+
+        String localNodeId = topSrvc.localMember().id();
+
+        Map<Integer, TableSketch> parts = localSketches.computeIfAbsent(table.tableId(), id -> new ConcurrentHashMap<>());
+
+        boolean changed = false;
+
+        for (int p = 0; p < assignments.size(); p++) {
+            if (!localNodeId.equals(assignments.get(p))) {
+                changed |= parts.remove(p) != null;
+
+                continue;
+            }
+
+            MvPartitionStorage partStorage = internalTbl.storage().getMvPartition(p);
+
+            if (partStorage == null) {
+                continue;
+            }
+
+            TableSketch sketch = parts.get(p);
+
+            if (!force && sketch != null) {
+                long rows = partStorage.rowsCount();
+
+                if (Math.abs(rows - sketch.rowCount()) <= REFRESH_FRACTION * Math.max(sketch.rowCount(), 1)) {
+                    continue;
+                }
+            }
+
+            parts.put(p, collectPartition(table.schemaView(), partStorage));
+
+            changed = true;
+        }
+
+        if (changed || force) {
+            TableSketch summary = null;
+
+            for (TableSketch sketch : parts.values()) {
+                if (summary == null) {
+                    summary = copy(sketch);
+                } else {
+                    summary.merge(sketch);
+                }
+            }
+
+            if (summary == null) {
+                metaStorageMgr.remove(dataKey(table.tableId(), nodeName));
+            } else {
+                metaStorageMgr.put(dataKey(table.tableId(), nodeName), ByteUtils.toBytes(summary));
+            }
+        }
+    }
+
+    private TableSketch collectPartition(SchemaRegistry schemaReg, MvPartitionStorage partStorage) {
+        SchemaDescriptor schema = schemaReg.schema();
+
+        List<String> columnNames = new ArrayList<>(schema.length());
+
+        for (int i = 0; i < schema.length(); i++) {
+            columnNames.add(schema.column(i).name());
+        }
+
+        TableSketch sketch = new TableSketch(columnNames);
+
+        Object[] values = new Object[columnNames.size()];
+
+        Timestamp readTs = txManager.registerReadTimestamp();
+
+        try (Cursor<BinaryRow> cur = partStorage.scan(row -> true, readTs)) {
+            for (BinaryRow binRow : cur) {
+                Row row = schemaReg.resolve(binRow, schema);
+
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = row.value(i);
+                }
+
+                sketch.add(columnNames, values);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to scan a partition", e);
+        } finally {
+            txManager.unregisterReadTimestamp(readTs);
+        }
+
+        return sketch;
+    }
+
+    private void loadSketches() throws Exception {
+        try (Cursor<Entry> cur = metaStorageMgr.prefix(ByteArray.fromString(DATA_PREFIX))) {
+            for (Entry entry : cur) {
+                onSketchUpdated(entry.key().toString(), entry.value());
+            }
+        }
+    }
+
+    private void onSketchUpdated(String key, byte @Nullable [] val) {
+        String suffix = key.substring(DATA_PREFIX.length());
+
+        int sep = suffix.indexOf('.');
+
+        UUID tableId = UUID.fromString(suffix.substring(0, sep));
+        String node = suffix.substring(sep + 1);
+
+        synchronized (nodeSketches) {
+            Map<String, TableSketch> sketches = nodeSketches.computeIfAbsent(tableId, id -> new ConcurrentHashMap<>());
+
+            if (val == null) {
+                sketches.remove(node);
+            } else {
+                sketches.put(node, ByteUtils.fromBytes(val));
+            }
+
+            rebuild(tableId);
+        }
+    }
+
+    /** Rebuilds the cluster wide statistics of a table from the sketches of the nodes of the current topology. */
+    private void rebuild(UUID tableId) {
+        Map<String, TableSketch> sketches = nodeSketches.get(tableId);
+
+        Set<String> topology = topSrvc.allMembers().stream().map(ClusterNode::name).collect(Collectors.toSet());
+
+        TableSketch merged = null;
+
+        if (sketches != null) {
+            for (Map.Entry<String, TableSketch> e : sketches.entrySet()) {
+                // Sketches of the left nodes are ignored, their partitions are led by other nodes now.
+                if (!topology.contains(e.getKey())) {
+                    continue;
+                }
+
+                if (merged == null) {
+                    merged = copy(e.getValue());
+                } else {
+                    merged.merge(e.getValue());
+                }
+            }
+        }
+
+        if (merged == null) {
+            statistics.remove(tableId);
+        } else {
+            statistics.put(tableId, merged.build());
+        }
+    }
+
+    /** Sketches are merged in place, so a copy is taken to keep the original intact. */
+    private static TableSketch copy(TableSketch sketch) {
+        return ByteUtils.fromBytes(ByteUtils.toBytes(sketch));
+    }
+
+    private static ByteArray dataKey(UUID tableId, String nodeName) {
+        return ByteArray.fromString(DATA_PREFIX + tableId + '.' + nodeName);
+    }
+
+    /**
+     * Listener of the updates of the sketches and of the collection requests.
+     */
+    private class StatisticsListener implements WatchListener {
+        /** {@inheritDoc} */
+        @Override
+        public boolean onUpdate(@NotNull WatchEvent evt) {
+            for (EntryEvent entryEvt : evt.entryEvents()) {
+                Entry entry = entryEvt.newEntry();
+
+                String key = entry.key().toString();
+
+                if (key.startsWith(REQUEST_PREFIX)) {
+                    if (entry.value() != null) {
+                        UUID tableId = UUID.fromString(key.substring(REQUEST_PREFIX.length()));
+
+                        executor.execute(() -> collect(tableId));
+                    }
+                } else if (key.startsWith(DATA_PREFIX)) {
+                    onSketchUpdated(key, entry.value());
+                }
+            }
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onError(@NotNull Throwable e) {
+            LOG.warn("Failed to process an update of the statistics", e);
+        }
+    }
+}
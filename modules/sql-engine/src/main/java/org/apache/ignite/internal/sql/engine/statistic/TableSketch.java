@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mergeable summary of a set of rows of a table, e.g. of a partition or of all the partitions collected by a node.
+ */
+public class TableSketch implements Serializable {
+    private static final long serialVersionUID = 0L;
+
+    private final Map<String, ColumnSketch> columns = new HashMap<>();
+
+    private long rowCount;
+
+    /**
+     * Constructor.
+     *
+     * @param columnNames Names of the columns of the table.
+     */
+    public TableSketch(List<String> columnNames) {
+        for (String name : columnNames) {
+            columns.put(name, new ColumnSketch());
+        }
+    }
+
+    /**
+     * Adds a row.
+     *
+     * @param columnNames Names of the columns.
+     * @param values Values of the columns.
+     */
+    public void add(List<String> columnNames, Object[] values) {
+        assert columnNames.size() == values.length;
+
+        rowCount++;
+
+        for (int i = 0; i < values.length; i++) {
+            columns.get(columnNames.get(i)).add(values[i]);
+        }
+    }
+
+    /**
+     * Returns the number of the rows.
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Merges the other sketch into this one. Columns which are not present in the both sketches are dropped, because the rows
+     * of one of the sketches were collected before the column was added or after it was dropped.
+     *
+     * @param other Sketch of another set of rows of the same table.
+     */
+    public void merge(TableSketch other) {
+        rowCount += other.rowCount;
+
+        columns.keySet().retainAll(other.columns.keySet());
+
+        columns.forEach((name, col) -> col.merge(other.columns.get(name)));
+    }
+
+    /**
+     * Builds the statistics of the table.
+     */
+    public TableStatistics build() {
+        Map<String, ColumnStatistics> res = new HashMap<>(columns.size());
+
+        columns.forEach((name, col) -> res.put(name, col.build(rowCount)));
+
+        return new TableStatistics(rowCount, res);
+    }
+}
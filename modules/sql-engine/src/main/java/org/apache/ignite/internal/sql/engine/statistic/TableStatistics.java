@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cluster wide statistics of a table.
+ */
+public class TableStatistics {
+    private final long rowCount;
+
+    private final Map<String, ColumnStatistics> columns;
+
+    /**
+     * Constructor.
+     *
+     * @param rowCount Number of the rows of the table.
+     * @param columns Statistics of the columns by the column names.
+     */
+    public TableStatistics(long rowCount, Map<String, ColumnStatistics> columns) {
+        this.rowCount = rowCount;
+        this.columns = Map.copyOf(columns);
+    }
+
+    /**
+     * Returns the number of the rows of the table.
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the statistics of a column.
+     *
+     * @param name Column name.
+     * @return Statistics or {@code null} if they are not collected for the column.
+     */
+    public @Nullable ColumnStatistics column(String name) {
+        return columns.get(name);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "TableStatistics [rowCount=" + rowCount + ", columns=" + columns + ']';
+    }
+}
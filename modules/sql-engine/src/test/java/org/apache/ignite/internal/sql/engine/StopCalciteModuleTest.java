@@ -35,6 +35,7 @@ import static org.mockito.Mockito.when;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
@@ -60,6 +61,7 @@ import org.apache.ignite.internal.index.IndexManager;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.manager.EventListener;
+import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.NativeTypes;
@@ -77,6 +79,8 @@ import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.table.event.TableEvent;
 import org.apache.ignite.internal.table.event.TableEventParameters;
 import org.apache.ignite.internal.testframework.IgniteTestUtils;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.IgniteInternalException;
@@ -97,6 +101,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
  */
 @ExtendWith(ConfigurationExtension.class)
 @ExtendWith(MockitoExtension.class)
+@ExtendWith(WorkDirectoryExtension.class)
 public class StopCalciteModuleTest {
     /** The logger. */
     private static final IgniteLogger LOG = Loggers.forClass(StopCalciteModuleTest.class);
@@ -120,6 +125,9 @@ public class StopCalciteModuleTest {
     @Mock
     DataStorageManager dataStorageManager;
 
+    @Mock
+    MetaStorageManager metaStorageManager;
+
     @Mock
     MessagingService msgSrvc;
 
@@ -136,6 +144,9 @@ public class StopCalciteModuleTest {
 
     TestRevisionRegister testRevisionRegister = new TestRevisionRegister();
 
+    @WorkDirectory
+    private Path workDir;
+
     @InjectConfiguration(polymorphicExtensions = {
             HashIndexConfigurationSchema.class,
             UnknownDataStorageConfigurationSchema.class,
@@ -227,13 +238,17 @@ public class StopCalciteModuleTest {
                 tableManager,
                 indexManager,
                 schemaManager,
+                metaStorageManager,
                 dataStorageManager,
                 txManager,
-                Map::of
+                Map::of,
+                workDir
         );
 
         when(tbl.tableId()).thenReturn(UUID.randomUUID());
 
+        when(metaStorageManager.registerWatchByPrefix(any(), any())).thenReturn(completedFuture(1L));
+
         when(tbl.storage()).thenReturn(mock(MvTableStorage.class));
         when(tbl.storage().configuration()).thenReturn(mock(TableConfiguration.class));
         when(tbl.storage().configuration().partitions()).thenReturn(mock(ConfigurationValue.class));
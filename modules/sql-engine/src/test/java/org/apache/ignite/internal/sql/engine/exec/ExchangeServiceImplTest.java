@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.sql.engine.message.MessageService;
+import org.apache.ignite.internal.sql.engine.message.QueryBatchMessage;
+import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Test class to verify {@link ExchangeServiceImpl}. */
+public class ExchangeServiceImplTest {
+    private static final String NODE_ID = "node";
+
+    private static final long EXCHANGE_ID = 1;
+
+    private MailboxRegistry mailboxRegistry;
+
+    private ExchangeServiceImpl exchangeService;
+
+    @BeforeEach
+    public void setUp() {
+        mailboxRegistry = new MailboxRegistryImpl();
+
+        exchangeService = new ExchangeServiceImpl(NODE_ID, mock(QueryTaskExecutor.class), mailboxRegistry, mock(MessageService.class));
+    }
+
+    @Test
+    public void testFirstBatchCreatesInbox() {
+        UUID qryId = UUID.randomUUID();
+
+        exchangeService.onMessage("remote", batch(qryId, 0));
+
+        assertNotNull(mailboxRegistry.inbox(qryId, EXCHANGE_ID));
+    }
+
+    @Test
+    public void testBatchesOfClosedQueryAreDropped() {
+        UUID qryId = UUID.randomUUID();
+
+        // The close request overtakes the batches.
+        exchangeService.onQueryClosed(qryId);
+
+        exchangeService.onMessage("remote", batch(qryId, 0));
+        exchangeService.onMessage("remote", batch(qryId, 1));
+
+        assertNull(mailboxRegistry.inbox(qryId, EXCHANGE_ID));
+    }
+
+    private static QueryBatchMessage batch(UUID qryId, int batchId) {
+        return new SqlQueryMessagesFactory().queryBatchMessage()
+                .queryId(qryId)
+                .fragmentId(EXCHANGE_ID)
+                .exchangeId(EXCHANGE_ID)
+                .batchId(batchId)
+                .last(false)
+                .rows(List.of())
+                .build();
+    }
+}
@@ -68,6 +68,7 @@ import org.apache.ignite.internal.configuration.testframework.InjectConfiguratio
 import org.apache.ignite.internal.configuration.testframework.InjectRevisionListenerHolder;
 import org.apache.ignite.internal.index.IndexManager;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.storage.impl.LocalLogStorageFactory;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
@@ -258,7 +259,7 @@ public class MockedStructuresTest extends IgniteAbstractTest {
 
         dataStorageManager = new DataStorageManager(
                 tblsCfg,
-                dataStorageModules.createStorageEngines(NODE_NAME, configRegistry, workDir, null)
+                dataStorageModules.createStorageEngines(NODE_NAME, configRegistry, workDir, null, new MetricManager())
         );
 
         dataStorageManager.start();
@@ -279,12 +280,14 @@ public class MockedStructuresTest extends IgniteAbstractTest {
                 tblManager,
                 idxManager,
                 schemaManager,
+                msm,
                 dataStorageManager,
                 tm,
                 () -> dataStorageModules.collectSchemasFields(List.of(
                         RocksDbDataStorageConfigurationSchema.class,
                         TestConcurrentHashMapDataStorageConfigurationSchema.class
-                ))
+                )),
+                workDir
         );
 
         queryProc.start();
@@ -768,6 +771,7 @@ public class MockedStructuresTest extends IgniteAbstractTest {
         });
 
         when(msm.registerWatch(any(ByteArray.class), any())).thenReturn(CompletableFuture.completedFuture(1L));
+        when(msm.registerWatchByPrefix(any(ByteArray.class), any())).thenReturn(CompletableFuture.completedFuture(2L));
 
         TableManager tableManager = createTableManager();
 
@@ -38,6 +38,7 @@ import org.apache.ignite.internal.sql.engine.exec.ArrayRowHandler;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
 import org.apache.ignite.internal.sql.engine.metadata.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
@@ -85,6 +86,10 @@ public class AbstractExecutionTest extends IgniteAbstractTest {
     }
 
     protected ExecutionContext<Object[]> executionContext(boolean withDelays) {
+        return executionContext(withDelays, QueryMemoryTracker.unlimited());
+    }
+
+    protected ExecutionContext<Object[]> executionContext(boolean withDelays, QueryMemoryTracker memoryTracker) {
         if (withDelays) {
             StripedThreadPoolExecutor testExecutor = new IgniteTestStripedThreadPoolExecutor(8,
                     NamedThreadFactory.threadPrefix("fake-test-node", "sqlTestExec"),
@@ -106,7 +111,8 @@ public class AbstractExecutionTest extends IgniteAbstractTest {
                 fragmentDesc,
                 ArrayRowHandler.INSTANCE,
                 Map.of(),
-                null
+                null,
+                memoryTracker
         );
     }
 
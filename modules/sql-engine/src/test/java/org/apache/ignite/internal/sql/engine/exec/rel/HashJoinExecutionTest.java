@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.calcite.rel.core.JoinRelType.ANTI;
+import static org.apache.calcite.rel.core.JoinRelType.FULL;
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
+import static org.apache.calcite.rel.core.JoinRelType.LEFT;
+import static org.apache.calcite.rel.core.JoinRelType.RIGHT;
+import static org.apache.calcite.rel.core.JoinRelType.SEMI;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrowsWithCause;
+import static org.apache.ignite.internal.util.ArrayUtils.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link HashJoinNode}.
+ */
+public class HashJoinExecutionTest extends AbstractExecutionTest {
+    public static final Object[][] EMPTY = new Object[0][];
+
+    @Test
+    public void joinEmptyTables() {
+        verifyJoin(EMPTY, EMPTY, INNER, EMPTY);
+        verifyJoin(EMPTY, EMPTY, LEFT, EMPTY);
+        verifyJoin(EMPTY, EMPTY, RIGHT, EMPTY);
+        verifyJoin(EMPTY, EMPTY, FULL, EMPTY);
+        verifyJoin(EMPTY, EMPTY, SEMI, EMPTY);
+        verifyJoin(EMPTY, EMPTY, ANTI, EMPTY);
+    }
+
+    @Test
+    public void joinEmptyLeftTable() {
+        Object[][] right = {
+                {1, "Core"},
+                {1, "OLD_Core"},
+                {2, "SQL"}
+        };
+
+        verifyJoin(EMPTY, right, INNER, EMPTY);
+        verifyJoin(EMPTY, right, LEFT, EMPTY);
+        verifyJoin(EMPTY, right, RIGHT, new Object[][]{
+                {null, null, "Core"},
+                {null, null, "OLD_Core"},
+                {null, null, "SQL"}
+        });
+        verifyJoin(EMPTY, right, FULL, new Object[][]{
+                {null, null, "Core"},
+                {null, null, "OLD_Core"},
+                {null, null, "SQL"}
+        });
+        verifyJoin(EMPTY, right, SEMI, EMPTY);
+        verifyJoin(EMPTY, right, ANTI, EMPTY);
+    }
+
+    @Test
+    public void joinEmptyRightTable() {
+        Object[][] left = {
+                {1, "Roman", null},
+                {2, "Igor", 1},
+                {3, "Alexey", 2}
+        };
+
+        verifyJoin(left, EMPTY, INNER, EMPTY);
+        verifyJoin(left, EMPTY, LEFT, new Object[][]{
+                {1, "Roman", null},
+                {2, "Igor", null},
+                {3, "Alexey", null}
+        });
+        verifyJoin(left, EMPTY, RIGHT, EMPTY);
+        verifyJoin(left, EMPTY, FULL, new Object[][]{
+                {1, "Roman", null},
+                {2, "Igor", null},
+                {3, "Alexey", null}
+        });
+        verifyJoin(left, EMPTY, SEMI, EMPTY);
+        verifyJoin(left, EMPTY, ANTI, new Object[][]{
+                {1, "Roman"},
+                {2, "Igor"},
+                {3, "Alexey"}
+        });
+    }
+
+    @Test
+    public void joinOneToMany() {
+        Object[][] left = {
+                {1, "Roman", null},
+                {2, "Igor", 1},
+                {3, "Alexey", 2}
+        };
+
+        Object[][] right = {
+                {1, "Core"},
+                {1, "OLD_Core"},
+                {2, "SQL"},
+                {3, "Arch"}
+        };
+
+        verifyJoin(left, right, INNER, new Object[][]{
+                {2, "Igor", "Core"},
+                {2, "Igor", "OLD_Core"},
+                {3, "Alexey", "SQL"}
+        });
+        verifyJoin(left, right, LEFT, new Object[][]{
+                {1, "Roman", null},
+                {2, "Igor", "Core"},
+                {2, "Igor", "OLD_Core"},
+                {3, "Alexey", "SQL"}
+        });
+        verifyJoin(left, right, RIGHT, new Object[][]{
+                {2, "Igor", "Core"},
+                {2, "Igor", "OLD_Core"},
+                {3, "Alexey", "SQL"},
+                {null, null, "Arch"}
+        });
+        verifyJoin(left, right, FULL, new Object[][]{
+                {1, "Roman", null},
+                {2, "Igor", "Core"},
+                {2, "Igor", "OLD_Core"},
+                {3, "Alexey", "SQL"},
+                {null, null, "Arch"}
+        });
+        verifyJoin(left, right, SEMI, new Object[][]{
+                {2, "Igor"},
+                {3, "Alexey"}
+        });
+        verifyJoin(left, right, ANTI, new Object[][]{
+                {1, "Roman"}
+        });
+    }
+
+    @Test
+    public void joinUnsortedManyToManyWithNullKeys() {
+        Object[][] left = {
+                {1, "Roman", 3},
+                {2, "Igor", 1},
+                {3, "Alexey", 3},
+                {4, "Ivan", null}
+        };
+
+        Object[][] right = {
+                {3, "QA"},
+                {1, "Core"},
+                {2, "SQL"},
+                {3, "OLD_QA"},
+                {null, "Nobody"}
+        };
+
+        verifyJoin(left, right, INNER, new Object[][]{
+                {1, "Roman", "QA"},
+                {1, "Roman", "OLD_QA"},
+                {2, "Igor", "Core"},
+                {3, "Alexey", "QA"},
+                {3, "Alexey", "OLD_QA"}
+        });
+        verifyJoin(left, right, LEFT, new Object[][]{
+                {1, "Roman", "QA"},
+                {1, "Roman", "OLD_QA"},
+                {2, "Igor", "Core"},
+                {3, "Alexey", "QA"},
+                {3, "Alexey", "OLD_QA"},
+                {4, "Ivan", null}
+        });
+        verifyJoin(left, right, RIGHT, new Object[][]{
+                {1, "Roman", "QA"},
+                {1, "Roman", "OLD_QA"},
+                {2, "Igor", "Core"},
+                {3, "Alexey", "QA"},
+                {3, "Alexey", "OLD_QA"},
+                {null, null, "SQL"},
+                {null, null, "Nobody"}
+        });
+        verifyJoin(left, right, FULL, new Object[][]{
+                {1, "Roman", "QA"},
+                {1, "Roman", "OLD_QA"},
+                {2, "Igor", "Core"},
+                {3, "Alexey", "QA"},
+                {3, "Alexey", "OLD_QA"},
+                {4, "Ivan", null},
+                {null, null, "SQL"},
+                {null, null, "Nobody"}
+        });
+        verifyJoin(left, right, SEMI, new Object[][]{
+                {1, "Roman"},
+                {2, "Igor"},
+                {3, "Alexey"}
+        });
+        verifyJoin(left, right, ANTI, new Object[][]{
+                {4, "Ivan"}
+        });
+    }
+
+    @Test
+    public void joinManyRows() {
+        int rows = 10_000;
+
+        Object[][] left = new Object[rows][];
+        Object[][] right = new Object[rows][];
+        Object[][] expRes = new Object[rows][];
+
+        for (int i = 0; i < rows; i++) {
+            left[i] = new Object[]{i, "left" + i, rows - i - 1};
+            right[i] = new Object[]{i, "right" + i};
+            expRes[i] = new Object[]{i, "left" + i, "right" + (rows - i - 1)};
+        }
+
+        verifyJoin(left, right, INNER, expRes);
+    }
+
+    @Test
+    public void buildSideLimit() {
+        Object[][] left = {
+                {1, "Roman", 1}
+        };
+
+        Object[][] right = {
+                {1, "Core"},
+                {1, "OLD_Core"},
+                {2, "SQL"}
+        };
+
+        verifyJoin(left, right, INNER, 3, new Object[][]{
+                {1, "Roman", "Core"},
+                {1, "Roman", "OLD_Core"}
+        });
+
+        assertThrowsWithCause(() -> verifyJoin(left, right, INNER, 2, EMPTY), IgniteInternalException.class,
+                "Hash join build side exceeds the limit of 2 rows");
+    }
+
+    private void verifyJoin(Object[][] left, Object[][] right, JoinRelType joinType, Object[][] expRes) {
+        verifyJoin(left, right, joinType, HashJoinNode.DFLT_MAX_BUILD_ROWS, expRes);
+    }
+
+    private void verifyJoin(Object[][] left, Object[][] right, JoinRelType joinType, int maxBuildRows, Object[][] expRes) {
+        ExecutionContext<Object[]> ctx = executionContext(true);
+
+        RelDataType leftType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class);
+        ScanNode<Object[]> leftNode = new ScanNode<>(ctx, leftType, Arrays.asList(left));
+
+        RelDataType rightType = TypeUtils.createRowType(ctx.getTypeFactory(), Integer.class, String.class);
+        ScanNode<Object[]> rightNode = new ScanNode<>(ctx, rightType, Arrays.asList(right));
+
+        boolean semiOrAnti = joinType == SEMI || joinType == ANTI;
+
+        RelDataType outType;
+        if (semiOrAnti) {
+            outType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class);
+        } else {
+            outType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class, Integer.class,
+                    String.class);
+        }
+
+        HashJoinNode<Object[]> join = HashJoinNode.create(ctx, outType, leftType, rightType, joinType,
+                ImmutableIntList.of(2), ImmutableIntList.of(0), maxBuildRows);
+        join.register(asList(leftNode, rightNode));
+
+        RelDataType rowType;
+        ProjectNode<Object[]> project;
+        if (semiOrAnti) {
+            rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class);
+            project = new ProjectNode<>(ctx, rowType, r -> new Object[]{r[0], r[1]});
+        } else {
+            rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, String.class);
+            project = new ProjectNode<>(ctx, rowType, r -> new Object[]{r[0], r[1], r[4]});
+        }
+        project.register(join);
+
+        RootNode<Object[]> node = new RootNode<>(ctx, rowType);
+        node.register(project);
+
+        ArrayList<Object[]> rows = new ArrayList<>();
+
+        while (node.hasNext()) {
+            rows.add(node.next());
+        }
+
+        assertThat(rows.toArray(EMPTY), equalTo(expRes));
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.configuration.schemas.table.NullValueDefaultConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.SortedIndexChange;
+import org.apache.ignite.configuration.schemas.table.SortedIndexConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.TableConfiguration;
+import org.apache.ignite.configuration.schemas.table.UnlimitedBudgetConfigurationSchema;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.configuration.SchemaConfigurationConverter;
+import org.apache.ignite.internal.schema.registry.SchemaRegistryImpl;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.schema.ColumnDescriptor;
+import org.apache.ignite.internal.sql.engine.schema.ColumnDescriptorImpl;
+import org.apache.ignite.internal.sql.engine.schema.DefaultValueStrategy;
+import org.apache.ignite.internal.sql.engine.schema.IgniteIndex;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTableImpl;
+import org.apache.ignite.internal.sql.engine.schema.TableDescriptorImpl;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapMvTableStorage;
+import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapStorageEngine;
+import org.apache.ignite.internal.storage.chm.schema.TestConcurrentHashMapDataStorageConfigurationSchema;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.distributed.index.IndexUpdater;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.apache.ignite.schema.definition.ColumnType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Tests for the {@link IndexScanNode}.
+ */
+@ExtendWith(ConfigurationExtension.class)
+public class IndexScanNodeExecutionTest extends AbstractExecutionTest {
+    private static final String INDEX_NAME = "VAL_IDX";
+
+    private static final int PART_ID = 0;
+
+    private static final int ROWS = 10;
+
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(
+            1,
+            new Column[]{new Column("KEY", NativeTypes.INT32, false)},
+            new Column[]{new Column("VAL", NativeTypes.INT32, false)}
+    );
+
+    @InjectConfiguration(
+            polymorphicExtensions = {
+                    TestConcurrentHashMapDataStorageConfigurationSchema.class,
+                    SortedIndexConfigurationSchema.class,
+                    NullValueDefaultConfigurationSchema.class,
+                    UnlimitedBudgetConfigurationSchema.class
+            },
+            value = "mock.dataStorage.name = " + TestConcurrentHashMapStorageEngine.ENGINE_NAME
+    )
+    private TableConfiguration tableCfg;
+
+    private MvPartitionStorage partStorage;
+
+    private IndexUpdater indexUpdater;
+
+    private IgniteTableImpl schemaTable;
+
+    private IgniteIndex index;
+
+    /** Row ids by the keys. */
+    private final List<RowId> rowIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        assertThat(tableCfg.change(tableChange -> tableChange
+                .changeColumns(columns -> columns
+                        .create("KEY", column -> column
+                                .changeType(type -> SchemaConfigurationConverter.convert(ColumnType.INT32, type))
+                                .changeNullable(false))
+                        .create("VAL", column -> column
+                                .changeType(type -> SchemaConfigurationConverter.convert(ColumnType.INT32, type))
+                                .changeNullable(false)))
+                .changePrimaryKey(pk -> pk.changeColumns("KEY").changeColocationColumns("KEY"))
+                .changeIndices(indices -> indices.create(INDEX_NAME, idx -> idx.convert(SortedIndexChange.class)
+                        .changeColumns(columns -> columns.create("VAL", column -> column.changeAsc(true)))))
+        ), willCompleteSuccessfully());
+
+        UUID indexId = tableCfg.indices().value().get(INDEX_NAME).id();
+
+        TestConcurrentHashMapMvTableStorage tableStorage = new TestConcurrentHashMapMvTableStorage(tableCfg);
+
+        InternalTable internalTable = mock(InternalTable.class);
+
+        when(internalTable.storage()).thenReturn(tableStorage);
+        when(internalTable.name()).thenReturn("TEST");
+
+        SchemaRegistry schemaRegistry = new SchemaRegistryImpl(ver -> SCHEMA, () -> SCHEMA.version(), SCHEMA);
+
+        TableImpl table = mock(TableImpl.class);
+
+        when(table.internalTable()).thenReturn(internalTable);
+        when(table.schemaView()).thenReturn(schemaRegistry);
+        when(table.name()).thenReturn("TEST");
+
+        indexUpdater = new IndexUpdater(table);
+
+        schemaTable = new IgniteTableImpl(
+                new TableDescriptorImpl(List.of(column("KEY", true, 0), column("VAL", false, 1))),
+                internalTable,
+                schemaRegistry,
+                mock(StatisticsManager.class)
+        );
+
+        index = new IgniteIndex(indexId, IgniteIndex.Type.SORTED, RelCollations.of(new RelFieldCollation(1)), INDEX_NAME, schemaTable);
+
+        partStorage = tableStorage.getOrCreateMvPartition(PART_ID);
+
+        for (int key = 0; key < ROWS; key++) {
+            Row row = binaryRow(key, key * 10);
+
+            rowIds.add(partStorage.runConsistently(() -> {
+                RowId rowId = partStorage.insert(row, UUID.randomUUID());
+
+                partStorage.commitWrite(rowId, Timestamp.nextVersion());
+
+                indexUpdater.put(rowId, row);
+
+                return rowId;
+            }));
+        }
+    }
+
+    /**
+     * Tests that a row updated within the scanned range is returned once and at the position of its current value.
+     */
+    @Test
+    public void testUpdateWithinRange() {
+        partStorage.indexBuildProgress(index.id(), null);
+
+        update(2, 75);
+        update(2, 25);
+        update(5, 15);
+
+        List<Object[]> res = scan(10, 80);
+
+        Object[][] expected = {
+                {1, 10},
+                {5, 15},
+                {2, 25},
+                {3, 30},
+                {4, 40},
+                {6, 60},
+                {7, 70},
+                {8, 80}
+        };
+
+        assertArrayEquals(expected, res.toArray(Object[][]::new));
+    }
+
+    /**
+     * Tests that a scan fails instead of returning an incomplete result if the index is not built on the local node.
+     */
+    @Test
+    public void testIndexNotBuilt() {
+        assertThrows(IgniteInternalException.class, () -> scan(10, 80));
+    }
+
+    private void update(int key, int val) {
+        Row row = binaryRow(key, val);
+
+        RowId rowId = rowIds.get(key);
+
+        partStorage.runConsistently(() -> {
+            partStorage.addWrite(rowId, row, UUID.randomUUID());
+
+            partStorage.commitWrite(rowId, Timestamp.nextVersion());
+
+            indexUpdater.put(rowId, row);
+
+            return null;
+        });
+    }
+
+    private List<Object[]> scan(int lower, int upper) {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        RelDataType rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, int.class);
+
+        IndexScanNode<Object[]> scan = new IndexScanNode<>(
+                ctx,
+                rowType,
+                schemaTable,
+                index,
+                new int[]{PART_ID},
+                null,
+                null,
+                null,
+                () -> row(null, lower),
+                () -> row(null, upper)
+        );
+
+        RootNode<Object[]> root = new RootNode<>(ctx, rowType);
+
+        root.register(scan);
+
+        List<Object[]> res = new ArrayList<>();
+
+        while (root.hasNext()) {
+            res.add(root.next());
+        }
+
+        return res;
+    }
+
+    private static ColumnDescriptor column(String name, boolean key, int idx) {
+        return new ColumnDescriptorImpl(name, key, false, idx, idx, NativeTypes.INT32, DefaultValueStrategy.DEFAULT_NULL, () -> null);
+    }
+
+    private static Row binaryRow(int key, int val) {
+        RowAssembler rowBuilder = new RowAssembler(SCHEMA, 0, 0);
+
+        rowBuilder.appendInt(key);
+        rowBuilder.appendInt(val);
+
+        return new Row(SCHEMA, rowBuilder.build());
+    }
+}
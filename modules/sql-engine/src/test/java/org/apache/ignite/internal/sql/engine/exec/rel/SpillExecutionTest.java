@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.SINGLE;
+import static org.apache.ignite.internal.util.ArrayUtils.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.spill.QueryMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillMetricSource;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests of the execution nodes spilling rows to disk once the memory quota of the query is exhausted.
+ */
+public class SpillExecutionTest extends AbstractExecutionTest {
+    /** Memory quota which is exhausted by a few hundreds of rows. */
+    private static final long QUOTA = 16 * 1024;
+
+    private Path spillDir;
+
+    private QueryMemoryTracker tracker;
+
+    @BeforeEach
+    public void createTracker() {
+        spillDir = workDir.resolve(SpillManager.SPILL_DIR);
+
+        tracker = new SpillManager(spillDir, new RandomAccessFileIoFactory(), QUOTA, new SpillMetricSource()).createTracker();
+    }
+
+    @Test
+    public void sort() throws Exception {
+        int rows = 5_000;
+
+        List<Object[]> data = new ArrayList<>(rows);
+
+        for (int i = 0; i < rows; i++) {
+            int key = (i * 7_919) % rows;
+
+            data.add(row(key, "val" + key));
+        }
+
+        ExecutionContext<Object[]> ctx = executionContext(false, tracker);
+        RelDataType rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class);
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, rowType, data);
+
+        SortNode<Object[]> sort = new SortNode<>(ctx, rowType, (r1, r2) -> Integer.compare((int) r1[0], (int) r2[0]));
+        sort.register(scan);
+
+        List<Object[]> res = execute(ctx, rowType, sort);
+
+        assertEquals(rows, res.size());
+
+        for (int i = 0; i < rows; i++) {
+            assertEquals(i, res.get(i)[0]);
+            assertEquals("val" + i, res.get(i)[1]);
+        }
+
+        assertSpilled();
+    }
+
+    @Test
+    public void hashAggregate() throws Exception {
+        int groups = 2_000;
+
+        List<Object[]> data = new ArrayList<>();
+
+        for (int i = 0; i < 3 * groups; i++) {
+            data.add(row("grp" + (i % groups), i));
+        }
+
+        ExecutionContext<Object[]> ctx = executionContext(false, tracker);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, String.class, int.class);
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, rowType, data);
+
+        AggregateCall call = AggregateCall.create(
+                SqlStdOperatorTable.COUNT,
+                false,
+                false,
+                false,
+                ImmutableIntList.of(),
+                -1,
+                null,
+                RelCollations.EMPTY,
+                tf.createJavaType(int.class),
+                null);
+
+        RelDataType aggType = TypeUtils.createRowType(tf, String.class, int.class);
+        HashAggregateNode<Object[]> agg = new HashAggregateNode<>(
+                ctx,
+                aggType,
+                SINGLE,
+                List.of(ImmutableBitSet.of(0)),
+                ctx.expressionFactory().accumulatorsFactory(SINGLE, asList(call), rowType),
+                rowFactory()
+        );
+        agg.register(scan);
+
+        Map<Object, Object> res = new HashMap<>();
+
+        for (Object[] row : execute(ctx, aggType, agg)) {
+            assertNull(res.put(row[0], row[1]), "Duplicate group: " + row[0]);
+        }
+
+        assertEquals(groups, res.size());
+
+        for (int i = 0; i < groups; i++) {
+            assertEquals(3, res.get("grp" + i));
+        }
+
+        assertSpilled();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = JoinRelType.class, names = {"INNER", "LEFT", "RIGHT", "FULL", "SEMI", "ANTI"})
+    public void hashJoin(JoinRelType joinType) throws Exception {
+        List<Object[]> left = new ArrayList<>();
+        List<Object[]> right = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            left.add(row(i, "left" + i, i % 10 == 0 ? null : i % 1_100));
+        }
+
+        for (int i = 0; i < 1_200; i++) {
+            right.add(row(i % 100 == 0 ? null : i, "right" + i));
+        }
+
+        List<String> exp = hashJoin(left, right, joinType, QueryMemoryTracker.unlimited());
+        List<String> res = hashJoin(left, right, joinType, tracker);
+
+        assertEquals(exp, res);
+
+        assertSpilled();
+    }
+
+    private List<String> hashJoin(List<Object[]> left, List<Object[]> right, JoinRelType joinType,
+            QueryMemoryTracker memoryTracker) {
+        ExecutionContext<Object[]> ctx = executionContext(false, memoryTracker);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+
+        RelDataType leftType = TypeUtils.createRowType(tf, int.class, String.class, Integer.class);
+        ScanNode<Object[]> leftNode = new ScanNode<>(ctx, leftType, left);
+
+        RelDataType rightType = TypeUtils.createRowType(tf, Integer.class, String.class);
+        ScanNode<Object[]> rightNode = new ScanNode<>(ctx, rightType, right);
+
+        RelDataType outType = joinType == JoinRelType.SEMI || joinType == JoinRelType.ANTI
+                ? leftType
+                : TypeUtils.createRowType(tf, int.class, String.class, Integer.class, Integer.class, String.class);
+
+        HashJoinNode<Object[]> join = HashJoinNode.create(ctx, outType, leftType, rightType, joinType,
+                ImmutableIntList.of(2), ImmutableIntList.of(0));
+        join.register(asList(leftNode, rightNode));
+
+        List<String> res = new ArrayList<>();
+
+        for (Object[] row : execute(ctx, outType, join)) {
+            res.add(Arrays.toString(row));
+        }
+
+        res.sort(null);
+
+        return res;
+    }
+
+    private List<Object[]> execute(ExecutionContext<Object[]> ctx, RelDataType rowType, Node<Object[]> node) {
+        RootNode<Object[]> root = new RootNode<>(ctx, rowType);
+        root.register(node);
+
+        List<Object[]> res = new ArrayList<>();
+
+        while (root.hasNext()) {
+            res.add(root.next());
+        }
+
+        return res;
+    }
+
+    /** Checks that the rows were spilled and the spill files are removed once the query is closed. */
+    private void assertSpilled() throws Exception {
+        assertTrue(tracker.spillFiles() > 0);
+        assertTrue(tracker.spilledRows() > 0);
+        assertTrue(tracker.spilledBytes() > 0);
+
+        tracker.close();
+
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
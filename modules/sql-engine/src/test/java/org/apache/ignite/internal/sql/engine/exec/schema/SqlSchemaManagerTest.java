@@ -55,6 +55,7 @@ import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTableImpl;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManagerImpl;
+import org.apache.ignite.internal.sql.engine.statistic.StatisticsManager;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.TableImpl;
 import org.apache.ignite.internal.table.distributed.TableManager;
@@ -91,6 +92,9 @@ public class SqlSchemaManagerTest {
     @Mock
     private SchemaManager schemaManager;
 
+    @Mock
+    private StatisticsManager statisticsManager;
+
     @Mock
     private TableImpl table;
 
@@ -116,6 +120,7 @@ public class SqlSchemaManagerTest {
         sqlSchemaManager = new SqlSchemaManagerImpl(
                 tableManager,
                 schemaManager,
+                statisticsManager,
                 testRevisionRegister,
                 busyLock
         );
@@ -299,6 +304,7 @@ public class SqlSchemaManagerTest {
         IgniteIndex igniteIndex = assertInstanceOf(IgniteIndex.class, schemaIndex);
         IgniteTableImpl igniteTable = assertInstanceOf(IgniteTableImpl.class, schemaTable);
 
+        assertEquals(indexId, igniteIndex.id());
         assertEquals(igniteTable.id(), igniteIndex.table().id());
         assertSame(igniteTable, schemaIndex.table());
         assertSame(((IgniteTableImpl) igniteTable), schemaIndex.table());
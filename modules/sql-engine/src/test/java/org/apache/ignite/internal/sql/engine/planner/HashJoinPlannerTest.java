@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.ignite.internal.sql.engine.rel.IgniteHashJoin;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * HashJoin planner test.
+ */
+public class HashJoinPlannerTest extends AbstractPlannerTest {
+    /** Only HashJoin encourage. */
+    private static final String[] DISABLED_RULES = {
+            "NestedLoopJoinConverter",
+            "MergeJoinConverter",
+            "CorrelatedNestedLoopJoin"
+    };
+
+    @Test
+    public void testEquiJoin() throws Exception {
+        IgniteSchema schema = createSchema(
+                createTable("LEFT_T", IgniteDistributions.single(), "C1", Integer.class, "C2", Integer.class),
+                createTable("RIGHT_T", IgniteDistributions.single(), "C1", Integer.class, "C2", Integer.class)
+        );
+
+        for (String joinType : new String[] {"INNER", "LEFT", "RIGHT", "FULL"}) {
+            String sql = "select * from LEFT_T " + joinType + " join RIGHT_T on LEFT_T.c1 = RIGHT_T.c1 and LEFT_T.c2 = RIGHT_T.c2";
+
+            assertPlan(sql, schema, nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)), DISABLED_RULES);
+        }
+    }
+
+    @Test
+    public void testNonEquiJoin() throws Exception {
+        IgniteSchema schema = createSchema(
+                createTable("LEFT_T", IgniteDistributions.single(), "C1", Integer.class, "C2", Integer.class),
+                createTable("RIGHT_T", IgniteDistributions.single(), "C1", Integer.class, "C2", Integer.class)
+        );
+
+        String sql = "select * from LEFT_T join RIGHT_T on LEFT_T.c1 = RIGHT_T.c1 and LEFT_T.c2 > RIGHT_T.c2";
+
+        IgniteRel rel = physicalPlan(sql, schema, "MergeJoinConverter", "CorrelatedNestedLoopJoin");
+
+        assertNull(findFirstNode(rel, byClass(IgniteHashJoin.class)));
+    }
+
+    @Test
+    public void testNullSafeJoin() throws Exception {
+        IgniteSchema schema = createSchema(
+                createTable("LEFT_T", IgniteDistributions.single(), "C1", Integer.class, "C2", Integer.class),
+                createTable("RIGHT_T", IgniteDistributions.single(), "C1", Integer.class, "C2", Integer.class)
+        );
+
+        String sql = "select * from LEFT_T join RIGHT_T on LEFT_T.c1 is not distinct from RIGHT_T.c1";
+
+        IgniteRel rel = physicalPlan(sql, schema, "MergeJoinConverter", "CorrelatedNestedLoopJoin");
+
+        assertNull(findFirstNode(rel, byClass(IgniteHashJoin.class)));
+
+        sql = "select * from LEFT_T join RIGHT_T on LEFT_T.c1 = RIGHT_T.c1";
+
+        rel = physicalPlan(sql, schema, DISABLED_RULES);
+
+        assertNotNull(findFirstNode(rel, byClass(IgniteHashJoin.class)));
+    }
+}
@@ -26,6 +26,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollations;
@@ -56,7 +57,7 @@ public class JoinColocationPlannerTest extends AbstractPlannerTest {
                 "VAL", String.class
         );
 
-        tbl.addIndex(new IgniteIndex(RelCollations.of(0), "PK", tbl));
+        tbl.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED, RelCollations.of(0), "PK", tbl));
 
         IgniteSchema schema = createSchema(tbl);
 
@@ -64,7 +65,7 @@ public class JoinColocationPlannerTest extends AbstractPlannerTest {
                 + "from TEST_TBL t1 "
                 + "join TEST_TBL t2 on t1.id = t2.id";
 
-        RelNode phys = physicalPlan(sql, schema, "NestedLoopJoinConverter", "CorrelatedNestedLoopJoin");
+        RelNode phys = physicalPlan(sql, schema, "NestedLoopJoinConverter", "CorrelatedNestedLoopJoin", "HashJoinConverter");
 
         IgniteMergeJoin join = findFirstNode(phys, byClass(IgniteMergeJoin.class));
 
@@ -89,7 +90,7 @@ public class JoinColocationPlannerTest extends AbstractPlannerTest {
                 "VAL", String.class
         );
 
-        tbl.addIndex(new IgniteIndex(RelCollations.of(ImmutableIntList.of(0, 1)), "PK", tbl));
+        tbl.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED, RelCollations.of(ImmutableIntList.of(0, 1)), "PK", tbl));
 
         IgniteSchema schema = createSchema(tbl);
 
@@ -97,7 +98,7 @@ public class JoinColocationPlannerTest extends AbstractPlannerTest {
                 + "from TEST_TBL t1 "
                 + "join TEST_TBL t2 on t1.id1 = t2.id1 and t1.id2 = t2.id2";
 
-        RelNode phys = physicalPlan(sql, schema, "NestedLoopJoinConverter", "CorrelatedNestedLoopJoin");
+        RelNode phys = physicalPlan(sql, schema, "NestedLoopJoinConverter", "CorrelatedNestedLoopJoin", "HashJoinConverter");
 
         IgniteMergeJoin join = findFirstNode(phys, byClass(IgniteMergeJoin.class));
 
@@ -123,7 +124,8 @@ public class JoinColocationPlannerTest extends AbstractPlannerTest {
                 "VAL", String.class
         );
 
-        complexTbl.addIndex(new IgniteIndex(RelCollations.of(ImmutableIntList.of(0, 1)), "PK", complexTbl));
+        complexTbl.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED,
+                RelCollations.of(ImmutableIntList.of(0, 1)), "PK", complexTbl));
 
         TestTable simpleTbl = createTable(
                 "SIMPLE_TBL",
@@ -133,7 +135,7 @@ public class JoinColocationPlannerTest extends AbstractPlannerTest {
                 "VAL", String.class
         );
 
-        simpleTbl.addIndex(new IgniteIndex(RelCollations.of(0), "PK", simpleTbl));
+        simpleTbl.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED, RelCollations.of(0), "PK", simpleTbl));
 
         IgniteSchema schema = createSchema(complexTbl, simpleTbl);
 
@@ -141,7 +143,7 @@ public class JoinColocationPlannerTest extends AbstractPlannerTest {
                 + "from COMPLEX_TBL t1 "
                 + "join SIMPLE_TBL t2 on t1.id1 = t2.id";
 
-        RelNode phys = physicalPlan(sql, schema, "NestedLoopJoinConverter", "CorrelatedNestedLoopJoin");
+        RelNode phys = physicalPlan(sql, schema, "NestedLoopJoinConverter", "CorrelatedNestedLoopJoin", "HashJoinConverter");
 
         IgniteMergeJoin join = findFirstNode(phys, byClass(IgniteMergeJoin.class));
 
@@ -172,7 +174,8 @@ public class JoinColocationPlannerTest extends AbstractPlannerTest {
                 "VAL", String.class
         );
 
-        complexTblDirect.addIndex(new IgniteIndex(RelCollations.of(ImmutableIntList.of(0, 1)), "PK", complexTblDirect));
+        complexTblDirect.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED,
+                RelCollations.of(ImmutableIntList.of(0, 1)), "PK", complexTblDirect));
 
         TestTable complexTblIndirect = createTable(
                 "COMPLEX_TBL_INDIRECT",
@@ -182,7 +185,8 @@ public class JoinColocationPlannerTest extends AbstractPlannerTest {
                 "VAL", String.class
         );
 
-        complexTblIndirect.addIndex(new IgniteIndex(RelCollations.of(ImmutableIntList.of(0, 1)), "PK", complexTblIndirect));
+        complexTblIndirect.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED,
+                RelCollations.of(ImmutableIntList.of(0, 1)), "PK", complexTblIndirect));
 
         IgniteSchema schema = createSchema(complexTblDirect, complexTblIndirect);
 
@@ -190,7 +194,7 @@ public class JoinColocationPlannerTest extends AbstractPlannerTest {
                 + "from COMPLEX_TBL_DIRECT t1 "
                 + "join COMPLEX_TBL_INDIRECT t2 on t1.id1 = t2.id1 and t1.id2 = t2.id2";
 
-        RelNode phys = physicalPlan(sql, schema, "NestedLoopJoinConverter", "CorrelatedNestedLoopJoin");
+        RelNode phys = physicalPlan(sql, schema, "NestedLoopJoinConverter", "CorrelatedNestedLoopJoin", "HashJoinConverter");
 
         IgniteMergeJoin exchange = findFirstNode(phys, node -> node instanceof IgniteExchange
                 && ((IgniteRel) node).distribution().function().affinity());
@@ -39,6 +39,7 @@ public class MergeJoinPlannerTest extends AbstractPlannerTest {
     /** Only MergeJoin encourage. */
     private static final String[] DISABLED_RULES = {
             "NestedLoopJoinConverter",
+            "HashJoinConverter",
             "CorrelatedNestedLoopJoin",
             "FilterSpoolMergeRule",
             "JoinCommuteRule"
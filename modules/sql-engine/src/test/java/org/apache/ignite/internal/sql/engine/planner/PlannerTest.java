@@ -98,7 +98,7 @@ public class PlannerTest extends AbstractPlannerTest {
                         .build()) {
             @Override
             public IgniteIndex getIndex(String idxName) {
-                return new IgniteIndex(null, null, null);
+                return new IgniteIndex(null, null, null, null, null);
             }
 
             @Override
@@ -756,7 +756,8 @@ public class PlannerTest extends AbstractPlannerTest {
             }
         };
 
-        emp.addIndex(new IgniteIndex(RelCollations.of(ImmutableIntList.of(1, 2)), "emp_idx", emp));
+        emp.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED,
+                RelCollations.of(ImmutableIntList.of(1, 2)), "emp_idx", emp));
 
         TestTable dept = new TestTable(
                 new RelDataTypeFactory.Builder(f)
@@ -770,7 +771,8 @@ public class PlannerTest extends AbstractPlannerTest {
             }
         };
 
-        dept.addIndex(new IgniteIndex(RelCollations.of(ImmutableIntList.of(1, 0)), "dep_idx", dept));
+        dept.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED,
+                RelCollations.of(ImmutableIntList.of(1, 0)), "dep_idx", dept));
 
         IgniteSchema publicSchema = new IgniteSchema("PUBLIC");
 
@@ -91,6 +91,7 @@ public class SortAggregatePlannerTest extends AbstractAggregatePlannerTest {
                 sql,
                 publicSchema,
                 "NestedLoopJoinConverter",
+                "HashJoinConverter",
                 "CorrelatedNestedLoopJoin",
                 "CorrelateToNestedLoopRule",
                 "HashSingleAggregateConverterRule",
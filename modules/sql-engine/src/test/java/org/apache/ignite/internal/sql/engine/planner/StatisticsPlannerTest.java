@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.rel.IgniteNestedLoopJoin;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
+import org.apache.ignite.internal.sql.engine.statistic.TableStatistics;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the estimations of the planner based on the collected statistics of the tables.
+ */
+public class StatisticsPlannerTest extends AbstractPlannerTest {
+    private static final int ROW_CNT = 1_000;
+
+    /** Column with nulls and without the histogram. */
+    private static final ColumnStatistics A_STATS = new ColumnStatistics(0.2, 50, null);
+
+    /** Column with the values distributed uniformly from 0 to 100. */
+    private static final ColumnStatistics B_STATS = new ColumnStatistics(0, 100, new double[] {0, 25, 50, 75, 100});
+
+    @Test
+    public void testRowCountWithoutStatistics() throws Exception {
+        IgniteSchema schema = createSchema(table("T", ROW_CNT, null));
+
+        // Calcite guesses 0.15 for the equality, 0.25 for the null check and 0.5 for the comparison.
+        assertEquals(150, scanRowCount("SELECT * FROM T WHERE A = 1", schema), 1e-6);
+        assertEquals(250, scanRowCount("SELECT * FROM T WHERE A IS NULL", schema), 1e-6);
+        assertEquals(500, scanRowCount("SELECT * FROM T WHERE B < 25", schema), 1e-6);
+    }
+
+    @Test
+    public void testRowCountWithStatistics() throws Exception {
+        IgniteSchema schema = createSchema(table("T", ROW_CNT, statistics(ROW_CNT, A_STATS, B_STATS)));
+
+        assertEquals(ROW_CNT, scanRowCount("SELECT * FROM T", schema), 1e-6);
+
+        // (1 - 0.2) / 50 of the rows.
+        assertEquals(16, scanRowCount("SELECT * FROM T WHERE A = 1", schema), 1e-6);
+        assertEquals(200, scanRowCount("SELECT * FROM T WHERE A IS NULL", schema), 1e-6);
+        assertEquals(800, scanRowCount("SELECT * FROM T WHERE A IS NOT NULL", schema), 1e-6);
+
+        // The first bucket of four.
+        assertEquals(250, scanRowCount("SELECT * FROM T WHERE B < 25", schema), 1e-6);
+        assertEquals(750, scanRowCount("SELECT * FROM T WHERE B >= 25", schema), 1e-6);
+
+        // Conjunctions are assumed to be independent.
+        assertEquals(4, scanRowCount("SELECT * FROM T WHERE A = 1 AND B < 25", schema), 1e-6);
+
+        // At least one row is expected.
+        assertEquals(1, scanRowCount("SELECT * FROM T WHERE B < 0", schema), 1e-6);
+    }
+
+    @Test
+    public void testDistinctRowCount() throws Exception {
+        IgniteSchema noStats = createSchema(table("T", ROW_CNT, null));
+        IgniteSchema partialStats = createSchema(table("T", ROW_CNT, statistics(ROW_CNT, null, B_STATS)));
+        IgniteSchema stats = createSchema(table("T", ROW_CNT, statistics(ROW_CNT, A_STATS, B_STATS)));
+
+        // 50 distinct values and null.
+        assertEquals(51, distinctRowCount(stats, 1), 1);
+        assertEquals(100, distinctRowCount(stats, 2), 1);
+
+        // The estimation falls back to the default one if any column of the key has no statistics.
+        assertEquals(distinctRowCount(noStats, 1), distinctRowCount(partialStats, 1));
+        assertEquals(distinctRowCount(noStats, 1, 2), distinctRowCount(partialStats, 1, 2));
+    }
+
+    @Test
+    public void testJoinOrder() throws Exception {
+        String sql = "SELECT COUNT(*) FROM T1 JOIN T2 ON T1.ID = T2.ID WHERE T1.A = 1 AND T2.A = 1";
+
+        String[] disabledRules = {"MergeJoinConverter", "HashJoinConverter", "CorrelatedNestedLoopJoin"};
+
+        // Without statistics the filtered T1 is guessed to be smaller, so it's on the right side of the join.
+        IgniteSchema schema = createSchema(
+                table("T1", ROW_CNT, null),
+                table("T2", 10 * ROW_CNT, null)
+        );
+
+        assertEquals("T1", rightTable(physicalPlan(sql, schema, disabledRules)));
+
+        // Statistics show that the filter on T2 is much more selective.
+        schema = createSchema(
+                table("T1", ROW_CNT, statistics(ROW_CNT, new ColumnStatistics(0, 2, null), B_STATS)),
+                table("T2", 10 * ROW_CNT, statistics(10 * ROW_CNT, new ColumnStatistics(0, 10 * ROW_CNT, null), B_STATS))
+        );
+
+        assertEquals("T2", rightTable(physicalPlan(sql, schema, disabledRules)));
+    }
+
+    private double scanRowCount(String sql, IgniteSchema schema) throws Exception {
+        IgniteTableScan scan = findFirstNode(physicalPlan(sql, schema), byClass(IgniteTableScan.class));
+
+        assertNotNull(scan);
+
+        return scan.getCluster().getMetadataQuery().getRowCount(scan);
+    }
+
+    private @Nullable Double distinctRowCount(IgniteSchema schema, int... keys) throws Exception {
+        IgniteTableScan scan = findFirstNode(physicalPlan("SELECT * FROM T", schema), byClass(IgniteTableScan.class));
+
+        assertNotNull(scan);
+
+        RelMetadataQuery mq = scan.getCluster().getMetadataQuery();
+
+        return mq.getDistinctRowCount(scan, ImmutableBitSet.of(keys), null);
+    }
+
+    private static String rightTable(IgniteRel phys) {
+        IgniteNestedLoopJoin join = findFirstNode(phys, byClass(IgniteNestedLoopJoin.class));
+
+        assertNotNull(join);
+
+        IgniteTableScan scan = findFirstNode(join.getRight(), byClass(IgniteTableScan.class));
+
+        assertNotNull(scan);
+
+        return scan.getTable().getQualifiedName().get(1);
+    }
+
+    private static TableStatistics statistics(long rowCnt, @Nullable ColumnStatistics a, @Nullable ColumnStatistics b) {
+        Map<String, ColumnStatistics> cols = new HashMap<>();
+
+        cols.put("ID", new ColumnStatistics(0, rowCnt, new double[] {0, rowCnt - 1}));
+
+        if (a != null) {
+            cols.put("A", a);
+        }
+
+        if (b != null) {
+            cols.put("B", b);
+        }
+
+        return new TableStatistics(rowCnt, cols);
+    }
+
+    private static TestTable table(String name, int size, @Nullable TableStatistics stats) {
+        return new TestTable(
+                name,
+                new RelDataTypeFactory.Builder(TYPE_FACTORY)
+                        .add("ID", TYPE_FACTORY.createJavaType(Integer.class))
+                        .add("A", TYPE_FACTORY.createJavaType(Integer.class))
+                        .add("B", TYPE_FACTORY.createJavaType(Integer.class))
+                        .build(), size) {
+
+            @Override
+            public IgniteDistribution distribution() {
+                return IgniteDistributions.affinity(0, name, "hash");
+            }
+
+            @Override
+            public @Nullable TableStatistics statistics() {
+                return stats;
+            }
+        };
+    }
+}
@@ -24,6 +24,7 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.util.UUID;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.RelNode;
@@ -81,7 +82,7 @@ public class TableDmlPlannerTest extends AbstractPlannerTest {
     public void insertCachesIndexScan() throws Exception {
         TestTable tbl = createTable("TEST", IgniteDistributions.random(), "VAL", Integer.class);
 
-        tbl.addIndex(new IgniteIndex(RelCollations.of(0), "IDX", tbl));
+        tbl.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED, RelCollations.of(0), "IDX", tbl));
 
         IgniteSchema schema = createSchema(tbl);
 
@@ -138,7 +139,7 @@ public class TableDmlPlannerTest extends AbstractPlannerTest {
     public void updateNotCachesNonDependentIndexScan() throws Exception {
         TestTable tbl = createTable("TEST", IgniteDistributions.random(), "VAL", Integer.class, "IDX_VAL", Integer.class);
 
-        tbl.addIndex(new IgniteIndex(RelCollations.of(1), "IDX", tbl));
+        tbl.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED, RelCollations.of(1), "IDX", tbl));
 
         IgniteSchema schema = createSchema(tbl);
 
@@ -164,7 +165,7 @@ public class TableDmlPlannerTest extends AbstractPlannerTest {
     public void updateCachesDependentIndexScan() throws Exception {
         TestTable tbl = createTable("TEST", IgniteDistributions.random(), "VAL", Integer.class);
 
-        tbl.addIndex(new IgniteIndex(RelCollations.of(0), "IDX", tbl));
+        tbl.addIndex(new IgniteIndex(UUID.randomUUID(), IgniteIndex.Type.SORTED, RelCollations.of(0), "IDX", tbl));
 
         IgniteSchema schema = createSchema(tbl);
 
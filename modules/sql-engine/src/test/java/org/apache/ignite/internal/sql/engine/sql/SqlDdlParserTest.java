@@ -536,6 +536,27 @@ public class SqlDdlParserTest {
         assertThat(dropIndex.indexName().names, is(List.of("MY_INDEX")));
     }
 
+    @Test
+    public void analyzeTableSimpleCase() throws SqlParseException {
+        var query = "analyze table my_table";
+
+        SqlNode node = parse(query);
+
+        assertThat(node, instanceOf(IgniteSqlAnalyzeTable.class));
+        assertThat(node.getKind(), is(SqlKind.OTHER_DDL));
+        assertThat(((IgniteSqlAnalyzeTable) node).name().names, is(List.of("MY_TABLE")));
+    }
+
+    @Test
+    public void analyzeTableSchemaSpecified() throws SqlParseException {
+        var query = "analyze table my_schema.my_table";
+
+        SqlNode node = parse(query);
+
+        assertThat(node, instanceOf(IgniteSqlAnalyzeTable.class));
+        assertThat(((IgniteSqlAnalyzeTable) node).name().names, is(List.of("MY_SCHEMA", "MY_TABLE")));
+    }
+
     private IgniteSqlCreateTable parseCreateTable(String stmt) throws SqlParseException {
         SqlNode node = parse(stmt);
 
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the sketches the column statistics are built from.
+ */
+public class StatisticsSketchTest {
+    @Test
+    public void hyperLogLogEstimatesDistinctCount() {
+        for (int distinct : new int[]{10, 1_000, 100_000}) {
+            HyperLogLog hll = new HyperLogLog();
+
+            for (int i = 0; i < distinct * 3; i++) {
+                hll.add(i % distinct);
+            }
+
+            assertEquals(distinct, hll.estimate(), distinct * 0.1);
+        }
+    }
+
+    @Test
+    public void hyperLogLogMergeIsUnion() {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+
+        for (int i = 0; i < 20_000; i++) {
+            left.add("val" + i);
+            right.add("val" + (i + 10_000));
+        }
+
+        left.merge(right);
+
+        assertEquals(30_000, left.estimate(), 30_000 * 0.1);
+    }
+
+    @Test
+    public void columnStatistics() {
+        ColumnSketch sketch = new ColumnSketch();
+
+        // Every fourth value is null, the rest are 750 distinct numbers from 1 to 999.
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add(i % 4 == 0 ? null : i % 1_000);
+        }
+
+        ColumnStatistics stats = sketch.build(10_000);
+
+        assertEquals(0.25, stats.nullFraction(), 1e-9);
+        assertEquals(750, stats.distinctCount(), 75);
+        assertTrue(stats.ordered());
+        assertEquals(0.5, stats.fractionLess(500), 0.1);
+        assertEquals(0, stats.fractionLess(-1));
+        assertEquals(1, stats.fractionLess(1_000));
+    }
+
+    @Test
+    public void mergedSketchesKeepDistribution() {
+        ColumnSketch left = new ColumnSketch();
+        ColumnSketch right = new ColumnSketch();
+
+        // The left sketch holds three quarters of the values, all of them are less than the values of the right sketch.
+        for (int i = 0; i < 30_000; i++) {
+            left.add(i);
+        }
+
+        for (int i = 30_000; i < 40_000; i++) {
+            right.add(i);
+        }
+
+        left.merge(right);
+
+        ColumnStatistics stats = left.build(40_000);
+
+        assertEquals(0, stats.nullFraction());
+        assertEquals(40_000, stats.distinctCount(), 4_000);
+        assertEquals(0.75, stats.fractionLess(30_000), 0.1);
+        assertEquals(0.0, stats.min(), 1_000);
+        assertEquals(40_000, stats.max(), 1_000);
+    }
+
+    @Test
+    public void notOrderedColumnHasNoHistogram() {
+        ColumnSketch sketch = new ColumnSketch();
+
+        for (int i = 0; i < 100; i++) {
+            sketch.add("val" + (i % 10));
+        }
+
+        ColumnStatistics stats = sketch.build(100);
+
+        assertFalse(stats.ordered());
+        assertEquals(10, stats.distinctCount(), 1);
+        assertEquals(0.1, stats.equalsSelectivity(), 0.01);
+    }
+
+    @Test
+    public void tableSketchMergeDropsMissingColumns() {
+        TableSketch left = new TableSketch(List.of("ID", "VAL"));
+        TableSketch right = new TableSketch(List.of("ID"));
+
+        left.add(List.of("ID", "VAL"), new Object[]{1, LocalDate.of(2022, 1, 1)});
+        right.add(List.of("ID"), new Object[]{2});
+
+        left.merge(right);
+
+        TableStatistics stats = left.build();
+
+        assertEquals(2, stats.rowCount());
+        assertNotNull(stats.column("ID"));
+        assertNull(stats.column("VAL"));
+    }
+}
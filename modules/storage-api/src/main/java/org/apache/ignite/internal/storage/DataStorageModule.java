@@ -21,6 +21,7 @@ import java.nio.file.Path;
 import org.apache.ignite.configuration.schemas.store.DataStorageConfigurationSchema;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.configuration.ConfigurationRegistry;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
 import org.jetbrains.annotations.Nullable;
 
@@ -42,12 +43,14 @@ public interface DataStorageModule {
      * @param configRegistry Configuration register.
      * @param storagePath Storage path.
      * @param longJvmPauseDetector Long JVM pause detector.
+     * @param metricManager Metric manager to register the metric sources of the storage engine.
      * @throws StorageException If there is an error when creating the storage engine.
      */
     StorageEngine createEngine(
             String igniteInstanceName,
             ConfigurationRegistry configRegistry,
             Path storagePath,
-            @Nullable LongJvmPauseDetector longJvmPauseDetector
+            @Nullable LongJvmPauseDetector longJvmPauseDetector,
+            MetricManager metricManager
     ) throws StorageException;
 }
@@ -17,6 +17,9 @@
 
 package org.apache.ignite.internal.storage;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
@@ -113,6 +116,27 @@ public interface MvPartitionStorage extends AutoCloseable {
     @Nullable
     BinaryRow read(RowId rowId, UUID txId) throws TxIdMismatchException, StorageException;
 
+    /**
+     * Reads either the committed values from the storage or the uncommitted values belonging to given transaction for a batch of row
+     * ids. Implementations may perform the lookups in any order that suits the underlying storage best, the result is always ordered
+     * as the passed row ids.
+     *
+     * @param rowIds Row ids.
+     * @param txId Transaction id.
+     * @return Binary rows that correspond to the row ids, with {@code null} elements for the values that are not found.
+     * @throws TxIdMismatchException If there's another pending update associated with different transaction id.
+     * @throws StorageException If failed to read data from the storage.
+     */
+    default List<BinaryRow> readAll(List<RowId> rowIds, UUID txId) throws TxIdMismatchException, StorageException {
+        List<BinaryRow> res = new ArrayList<>(rowIds.size());
+
+        for (RowId rowId : rowIds) {
+            res.add(read(rowId, txId));
+        }
+
+        return res;
+    }
+
     /**
      * Reads the value from the storage as it was at the given timestamp.
      *
@@ -193,6 +217,32 @@ public interface MvPartitionStorage extends AutoCloseable {
      */
     void commitWrite(RowId rowId, HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Writes the rows directly as committed versions, without creating and committing write intents. Intended for the initial load of
+     * the data, so the row ids must not exist in the storage.
+     *
+     * <p>The rows may be written in any order that suits the underlying storage best and not necessarily atomically, so this method
+     * must not be invoked inside of {@link #runConsistently(WriteClosure)}. The default implementation writes the rows as write intents
+     * of a single transaction and commits them.
+     *
+     * @param rows Rows by their row ids.
+     * @param timestamp Timestamp to associate with the committed rows.
+     * @throws StorageException If failed to write data to the storage.
+     */
+    default void bulkLoad(Map<RowId, BinaryRow> rows, HybridTimestamp timestamp) throws StorageException {
+        UUID txId = UUID.randomUUID();
+
+        runConsistently(() -> {
+            rows.forEach((rowId, row) -> {
+                addWrite(rowId, row, txId);
+
+                commitWrite(rowId, timestamp);
+            });
+
+            return null;
+        });
+    }
+
     /**
      * Scans the partition and returns a cursor of values. All filtered values must either be uncommitted in current transaction
      * or already committed in different transaction.
@@ -225,6 +275,75 @@ public interface MvPartitionStorage extends AutoCloseable {
      */
     Cursor<BinaryRow> scan(Predicate<BinaryRow> keyFilter, HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Removes the committed row versions that can't be read anymore.
+     *
+     * @deprecated Use {@link #vacuum(HybridTimestamp, RowId, int)}
+     */
+    @Deprecated
+    default VacuumResult vacuum(Timestamp lowWatermark, @Nullable RowId lowerBound, int limit) throws StorageException {
+        return vacuum(convertTimestamp(lowWatermark), lowerBound, limit);
+    }
+
+    /**
+     * Removes the committed row versions that can't be read anymore: of all the versions committed at or before the low watermark only
+     * the newest one is kept in a version chain, because no reads are performed at the timestamps below the low watermark.
+     *
+     * <p>Version chains are processed in an order defined by the storage, so a partition is vacuumed by a series of invocations, each
+     * one continuing from the {@link VacuumResult#nextRowId()} of the previous one. Every invocation is applied consistently by the
+     * storage itself, so this method must not be invoked inside of {@link #runConsistently(WriteClosure)}.
+     *
+     * @param lowWatermark Timestamp below which no reads are performed.
+     * @param lowerBound Row id to start from, inclusive, {@code null} to start from the beginning of the partition.
+     * @param limit Maximum number of the version chains to process.
+     * @return Result of the vacuum.
+     * @throws StorageException If failed to vacuum the storage.
+     */
+    VacuumResult vacuum(HybridTimestamp lowWatermark, @Nullable RowId lowerBound, int limit) throws StorageException;
+
+    /**
+     * Iterates over all versions of the version chains, except for tombstones, starting from the given row id. Intended for the build
+     * of the indexes over the data that already exists in the partition.
+     *
+     * <p>Version chains are processed in the order of their row ids, so a partition is scanned by a series of invocations, each one
+     * continuing from the row id returned by the previous one. The versions written between the invocations are seen by the scan if
+     * their row ids are not less than the row id it continues from.
+     *
+     * @param lowerBound Row id to start from, inclusive, {@code null} to start from the beginning of the partition.
+     * @param limit Maximum number of the version chains to process.
+     * @param consumer Closure to process the versions.
+     * @return Row id to continue the scan from, {@code null} if the end of the partition has been reached.
+     * @throws StorageException If failed to read data from the storage.
+     */
+    @Nullable RowId scanVersions(@Nullable RowId lowerBound, int limit, BiConsumer<RowId, BinaryRow> consumer) throws StorageException;
+
+    /**
+     * Returns the row id to continue the build of an index from, see {@link #indexBuildProgress(UUID, RowId)}.
+     *
+     * @param indexId Index id.
+     * @return Row id or {@code null} if the build hasn't saved any progress yet or has been completed.
+     * @throws StorageException If failed to read data from the storage.
+     */
+    @Nullable RowId indexBuildProgress(UUID indexId) throws StorageException;
+
+    /**
+     * Returns {@code true} if the build of an index has been completed, see {@link #indexBuildProgress(UUID, RowId)}.
+     *
+     * @param indexId Index id.
+     * @throws StorageException If failed to read data from the storage.
+     */
+    boolean indexBuilt(UUID indexId) throws StorageException;
+
+    /**
+     * Saves the progress of the build of an index, so the build is resumed from it after the node restart. Must be invoked inside of
+     * {@link #runConsistently(WriteClosure)} together with the writes of the index rows the progress covers.
+     *
+     * @param indexId Index id.
+     * @param nextRowId Row id to continue the build from, {@code null} if the build has been completed.
+     * @throws StorageException If failed to write data to the storage.
+     */
+    void indexBuildProgress(UUID indexId, @Nullable RowId nextRowId) throws StorageException;
+
     /**
      * Returns rows count belongs to current storage.
      *
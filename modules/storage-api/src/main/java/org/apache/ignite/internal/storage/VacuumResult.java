@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Result of a {@link MvPartitionStorage#vacuum} invocation.
+ */
+public class VacuumResult {
+    private final int chains;
+
+    private final int versions;
+
+    private final int removedVersions;
+
+    private final int maxChainLength;
+
+    private final @Nullable RowId nextRowId;
+
+    /**
+     * Constructor.
+     *
+     * @param chains Number of the processed version chains.
+     * @param versions Number of the versions in the processed chains, including the removed ones.
+     * @param removedVersions Number of the removed versions.
+     * @param maxChainLength Maximum length of a processed chain, including the removed versions.
+     * @param nextRowId Row id to continue the vacuum from, {@code null} if the end of the partition has been reached.
+     */
+    public VacuumResult(int chains, int versions, int removedVersions, int maxChainLength, @Nullable RowId nextRowId) {
+        this.chains = chains;
+        this.versions = versions;
+        this.removedVersions = removedVersions;
+        this.maxChainLength = maxChainLength;
+        this.nextRowId = nextRowId;
+    }
+
+    /**
+     * Returns the number of the processed version chains.
+     */
+    public int chains() {
+        return chains;
+    }
+
+    /**
+     * Returns the number of the versions in the processed chains, including the removed ones.
+     */
+    public int versions() {
+        return versions;
+    }
+
+    /**
+     * Returns the number of the removed versions.
+     */
+    public int removedVersions() {
+        return removedVersions;
+    }
+
+    /**
+     * Returns the maximum length of a processed chain, including the removed versions.
+     */
+    public int maxChainLength() {
+        return maxChainLength;
+    }
+
+    /**
+     * Returns the row id to continue the vacuum from, {@code null} if the end of the partition has been reached.
+     */
+    public @Nullable RowId nextRowId() {
+        return nextRowId;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "VacuumResult [chains=" + chains + ", versions=" + versions + ", removedVersions=" + removedVersions
+                + ", maxChainLength=" + maxChainLength + ", nextRowId=" + nextRowId + ']';
+    }
+}
@@ -72,6 +72,16 @@ public interface MvTableStorage {
      */
     SortedIndexStorage getOrCreateSortedIndex(int partitionId, UUID indexId);
 
+    /**
+     * Returns an already created Sorted Index, unlike {@link #getOrCreateSortedIndex(int, UUID)} the index storage is never created.
+     *
+     * @param partitionId Partition ID for which this index has been configured.
+     * @param indexId Index ID.
+     * @return Sorted Index storage or {@code null} if it has not been created yet.
+     * @throws StorageException If the given partition does not exist.
+     */
+    @Nullable SortedIndexStorage getSortedIndex(int partitionId, UUID indexId);
+
     /**
      * Returns an already created Hash Index with the given name or creates a new one if it does not exist.
      *
@@ -86,6 +96,19 @@ public interface MvTableStorage {
      */
     HashIndexStorage getOrCreateHashIndex(int partitionId, UUID indexId);
 
+    /**
+     * Returns an already created Primary Index of the given partition or creates a new one if it does not exist.
+     *
+     * <p>Primary Index maps key chunks of binary rows to their {@link org.apache.ignite.internal.storage.RowId}s, see
+     * {@link org.apache.ignite.internal.storage.index.PrimaryIndexUtils}. Unlike configured indexes, it always exists and is
+     * destroyed together with the partition.
+     *
+     * @param partitionId Partition ID.
+     * @return Primary Index storage.
+     * @throws StorageException If the given partition does not exist.
+     */
+    HashIndexStorage getOrCreatePrimaryIndex(int partitionId);
+
     /**
      * Destroys the index under the given name and all data in it.
      *
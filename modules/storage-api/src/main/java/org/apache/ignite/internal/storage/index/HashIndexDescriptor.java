@@ -50,9 +50,24 @@ public class HashIndexDescriptor {
         private final boolean nullable;
 
         ColumnDescriptor(ColumnView tableColumnView) {
-            this.name = tableColumnView.name();
-            this.type = SchemaDescriptorConverter.convert(SchemaConfigurationConverter.convert(tableColumnView.type()));
-            this.nullable = tableColumnView.nullable();
+            this(
+                    tableColumnView.name(),
+                    SchemaDescriptorConverter.convert(SchemaConfigurationConverter.convert(tableColumnView.type())),
+                    tableColumnView.nullable()
+            );
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param name Column name.
+         * @param type Column type.
+         * @param nullable Whether the column can contain null values.
+         */
+        public ColumnDescriptor(String name, NativeType type, boolean nullable) {
+            this.name = name;
+            this.type = type;
+            this.nullable = nullable;
         }
 
         /**
@@ -121,6 +136,17 @@ public class HashIndexDescriptor {
                 .collect(toUnmodifiableList());
     }
 
+    /**
+     * Creates an Index Descriptor from explicitly provided columns, for indexes that are not present in the Table Configuration.
+     *
+     * @param indexId Index ID.
+     * @param columns Index columns.
+     */
+    public HashIndexDescriptor(UUID indexId, List<ColumnDescriptor> columns) {
+        this.id = indexId;
+        this.columns = List.copyOf(columns);
+    }
+
     /**
      * Returns the ID of this Index.
      */
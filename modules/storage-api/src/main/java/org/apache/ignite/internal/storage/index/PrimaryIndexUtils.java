@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.index;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.BinaryTupleSchema;
+import org.apache.ignite.internal.schema.BinaryTupleSchema.Element;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor.ColumnDescriptor;
+
+/**
+ * Utilities for working with the primary index of a table partition.
+ *
+ * <p>Primary index is a {@link HashIndexStorage} that maps serialized key chunks of binary rows to their {@link RowId}s. It is not a
+ * part of the Table Configuration, so it has a reserved ID and a single {@code BYTES} column that contains the key chunk as is.
+ */
+public class PrimaryIndexUtils {
+    /** Reserved ID of the primary index. Configured indexes always have random IDs, so there will be no collisions. */
+    public static final UUID PRIMARY_INDEX_ID = new UUID(0L, 0L);
+
+    /** Name of the only column of the primary index. */
+    public static final String PRIMARY_INDEX_COLUMN_NAME = "__KEY";
+
+    /** Descriptor of the primary index. */
+    public static final HashIndexDescriptor PRIMARY_INDEX_DESCRIPTOR = new HashIndexDescriptor(
+            PRIMARY_INDEX_ID,
+            List.of(new ColumnDescriptor(PRIMARY_INDEX_COLUMN_NAME, NativeTypes.BYTES, false))
+    );
+
+    /** Binary tuple schema of the primary index rows. */
+    private static final BinaryTupleSchema PRIMARY_INDEX_SCHEMA = BinaryTupleSchema.create(new Element[]{
+            new Element(NativeTypes.BYTES, false)
+    });
+
+    private PrimaryIndexUtils() {
+    }
+
+    /**
+     * Converts a key chunk of a binary row into a primary index key.
+     *
+     * @param keySlice Key chunk of a binary row. Its position is not modified.
+     * @return Primary index key.
+     */
+    public static BinaryTuple primaryIndexKey(ByteBuffer keySlice) {
+        ByteBuffer key = keySlice.duplicate();
+
+        ByteBuffer tupleBuffer = BinaryTupleBuilder.create(1, false, key.remaining())
+                .appendElementBytes(key)
+                .build();
+
+        return new BinaryTuple(PRIMARY_INDEX_SCHEMA, tupleBuffer);
+    }
+
+    /**
+     * Creates a primary index row.
+     *
+     * @param keySlice Key chunk of a binary row. Its position is not modified.
+     * @param rowId Row ID.
+     * @return Primary index row.
+     */
+    public static IndexRow primaryIndexRow(ByteBuffer keySlice, RowId rowId) {
+        return new IndexRowImpl(primaryIndexKey(keySlice), rowId);
+    }
+}
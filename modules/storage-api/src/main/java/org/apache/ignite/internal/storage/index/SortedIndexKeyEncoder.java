@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.index;
+
+import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor.ColumnDescriptor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encoder of the Sorted Index rows into byte arrays.
+ *
+ * <p>Encoded columns are compared byte-wise (as unsigned bytes) in the same order as the columns themselves are compared by the
+ * index, so storages can order the rows without decoding them, e.g. with the natural key order of RocksDB. Every column is encoded
+ * into a self-delimiting sequence of bytes that starts with a null flag (nulls go first). All bytes of the descending columns are
+ * inverted.
+ *
+ * <p>Encoding of a tuple that contains only a prefix of the index columns is a prefix of the encodings of all the rows that start
+ * with the same column values, which is how the scan bounds are calculated.
+ *
+ * <p>Instances are not thread-safe and are meant to be created for every encoded key.
+ */
+public class SortedIndexKeyEncoder {
+    /** Null flag of a null column value. */
+    private static final byte NULL = 0;
+
+    /** Null flag of a non-null column value. */
+    private static final byte NOT_NULL = 1;
+
+    /** Escaped zero byte of a variable length value. */
+    private static final byte ESCAPE = -1;
+
+    /** Terminator of a variable length value, it is always preceded by a zero byte. */
+    private static final byte TERMINATOR = 0;
+
+    private final SortedIndexDescriptor descriptor;
+
+    /** Key buffer. */
+    private byte[] buf;
+
+    /** Number of the used bytes of the key buffer. */
+    private int len;
+
+    /**
+     * Constructor.
+     *
+     * @param descriptor Index descriptor.
+     */
+    public SortedIndexKeyEncoder(SortedIndexDescriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * Encodes index columns.
+     *
+     * @param tuple Index columns, possibly only a prefix of them.
+     * @return Encoded columns.
+     */
+    public byte[] encode(BinaryTuple tuple) {
+        return encode(BYTE_EMPTY_ARRAY, tuple, null);
+    }
+
+    /**
+     * Encodes index columns into a key.
+     *
+     * @param prefix Constant prefix of the key.
+     * @param tuple Index columns, possibly only a prefix of them.
+     * @param rowId Row ID that is appended to the end of the key, {@code null} if the key is a scan bound.
+     * @return Key bytes.
+     */
+    public byte[] encode(byte[] prefix, BinaryTuple tuple, @Nullable RowId rowId) {
+        buf = new byte[prefix.length + 2 * Long.BYTES + 8 * tuple.count()];
+        len = 0;
+
+        put(prefix);
+
+        for (int i = 0; i < tuple.count(); i++) {
+            int start = len;
+
+            putColumn(tuple, i);
+
+            if (!descriptor.indexColumns().get(i).asc()) {
+                for (int j = start; j < len; j++) {
+                    buf[j] = (byte) ~buf[j];
+                }
+            }
+        }
+
+        if (rowId != null) {
+            putLong(rowId.mostSignificantBits());
+            putLong(rowId.leastSignificantBits());
+        }
+
+        return len == buf.length ? buf : Arrays.copyOf(buf, len);
+    }
+
+    private void putColumn(BinaryTuple tuple, int idx) {
+        if (tuple.hasNullValue(idx)) {
+            put(NULL);
+
+            return;
+        }
+
+        put(NOT_NULL);
+
+        ColumnDescriptor column = descriptor.indexColumns().get(idx);
+
+        switch (column.type().spec()) {
+            case INT8:
+                put((byte) (tuple.byteValue(idx) ^ Byte.MIN_VALUE));
+
+                break;
+
+            case INT16:
+                putShort((short) (tuple.shortValue(idx) ^ Short.MIN_VALUE));
+
+                break;
+
+            case INT32:
+                putInt(tuple.intValue(idx) ^ Integer.MIN_VALUE);
+
+                break;
+
+            case INT64:
+                putLong(tuple.longValue(idx) ^ Long.MIN_VALUE);
+
+                break;
+
+            case FLOAT: {
+                int bits = Float.floatToIntBits(tuple.floatValue(idx));
+
+                // Flips the sign bit of positive values and all the bits of negative ones.
+                putInt(bits ^ ((bits >> 31) | Integer.MIN_VALUE));
+
+                break;
+            }
+
+            case DOUBLE: {
+                long bits = Double.doubleToLongBits(tuple.doubleValue(idx));
+
+                putLong(bits ^ ((bits >> 63) | Long.MIN_VALUE));
+
+                break;
+            }
+
+            case UUID: {
+                UUID uuid = tuple.uuidValue(idx);
+
+                putLong(uuid.getMostSignificantBits() ^ Long.MIN_VALUE);
+                putLong(uuid.getLeastSignificantBits() ^ Long.MIN_VALUE);
+
+                break;
+            }
+
+            case DATE:
+                putDate(tuple.dateValue(idx));
+
+                break;
+
+            case TIME:
+                putLong(tuple.timeValue(idx).toNanoOfDay());
+
+                break;
+
+            case DATETIME: {
+                LocalDateTime dateTime = tuple.dateTimeValue(idx);
+
+                putDate(dateTime.toLocalDate());
+                putLong(dateTime.toLocalTime().toNanoOfDay());
+
+                break;
+            }
+
+            case TIMESTAMP: {
+                Instant instant = tuple.timestampValue(idx);
+
+                putLong(instant.getEpochSecond() ^ Long.MIN_VALUE);
+                putInt(instant.getNano());
+
+                break;
+            }
+
+            case BYTES:
+                putBytes(tuple.bytesValue(idx), Byte.MIN_VALUE);
+
+                break;
+
+            case STRING:
+                putString(tuple.stringValue(idx));
+
+                break;
+
+            case BITMASK:
+                for (long word : tuple.bitmaskValue(idx).toLongArray()) {
+                    put(NOT_NULL);
+                    putLong(word ^ Long.MIN_VALUE);
+                }
+
+                put(NULL);
+
+                break;
+
+            case NUMBER:
+                putDecimal(new BigDecimal(tuple.numberValue(idx)));
+
+                break;
+
+            case DECIMAL:
+                putDecimal(tuple.decimalValue(idx));
+
+                break;
+
+            default:
+                throw new IllegalArgumentException(String.format(
+                        "Unsupported column schema for creating a sorted index. Column name: %s, column type: %s",
+                        column.name(), column.type()
+                ));
+        }
+    }
+
+    private void putDate(LocalDate date) {
+        putInt(date.getYear() ^ Integer.MIN_VALUE);
+        put((byte) date.getMonthValue());
+        put((byte) date.getDayOfMonth());
+    }
+
+    /**
+     * Writes a string as a sequence of UTF-16 code units, because this is how strings are compared by {@link String#compareTo}.
+     */
+    private void putString(String str) {
+        byte[] chars = str.getBytes(StandardCharsets.UTF_16BE);
+
+        putBytes(chars, 0);
+    }
+
+    /**
+     * Writes a variable length value. Zero bytes are escaped and the value is terminated, so a value that is a prefix of another
+     * value is written as a smaller sequence of bytes.
+     *
+     * @param bytes Value.
+     * @param mask Mask that is applied to every byte, {@link Byte#MIN_VALUE} makes the signed bytes comparable as unsigned ones.
+     */
+    private void putBytes(byte[] bytes, int mask) {
+        for (byte b : bytes) {
+            byte masked = (byte) (b ^ mask);
+
+            put(masked);
+
+            if (masked == 0) {
+                put(ESCAPE);
+            }
+        }
+
+        put((byte) 0);
+        put(TERMINATOR);
+    }
+
+    /**
+     * Writes a decimal as a sign, a decimal exponent and a sequence of significant digits, so the values are ordered by their
+     * numerical values regardless of their scales. All bytes of a negative value except the sign are inverted.
+     */
+    private void putDecimal(BigDecimal val) {
+        int signum = val.signum();
+
+        put((byte) (signum + 1));
+
+        if (signum == 0) {
+            return;
+        }
+
+        BigDecimal normalized = val.stripTrailingZeros();
+
+        byte[] digits = normalized.unscaledValue().abs().toString().getBytes(StandardCharsets.US_ASCII);
+
+        // Value is 0.d1d2...dn * 10 ^ exponent and d1 is not zero.
+        int exponent = digits.length - normalized.scale();
+
+        int start = len;
+
+        putInt(exponent ^ Integer.MIN_VALUE);
+        put(digits);
+        put((byte) 0);
+
+        if (signum < 0) {
+            for (int j = start; j < len; j++) {
+                buf[j] = (byte) ~buf[j];
+            }
+        }
+    }
+
+    private void putShort(short val) {
+        ensureCapacity(Short.BYTES);
+
+        buf[len++] = (byte) (val >>> 8);
+        buf[len++] = (byte) val;
+    }
+
+    private void putInt(int val) {
+        ensureCapacity(Integer.BYTES);
+
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            buf[len++] = (byte) (val >>> shift);
+        }
+    }
+
+    private void putLong(long val) {
+        ensureCapacity(Long.BYTES);
+
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buf[len++] = (byte) (val >>> shift);
+        }
+    }
+
+    private void put(byte b) {
+        ensureCapacity(1);
+
+        buf[len++] = b;
+    }
+
+    private void put(byte[] bytes) {
+        ensureCapacity(bytes.length);
+
+        System.arraycopy(bytes, 0, buf, len, bytes.length);
+
+        len += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (len + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(len + extra, buf.length * 2));
+        }
+    }
+}
@@ -67,6 +67,11 @@ public interface SortedIndexStorage {
      */
     void remove(IndexRow row);
 
+    /**
+     * Removes all data from this index.
+     */
+    void destroy();
+
     /**
      * Returns a range of index values between the lower bound and the upper bound.
      *
@@ -32,8 +32,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -80,6 +83,13 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvStoragesTest
         return storage.runConsistently(() -> storage.read(rowId, timestamp));
     }
 
+    /**
+     * Reads a batch of rows inside of consistency closure.
+     */
+    protected List<BinaryRow> readAll(List<RowId> rowIds, UUID txId) {
+        return storage.runConsistently(() -> storage.readAll(rowIds, txId));
+    }
+
     /**
      * Scans partition inside of consistency closure.
      */
@@ -383,6 +393,53 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvStoragesTest
         assertRowMatches(foundRow, binaryRow);
     }
 
+    @Test
+    void readAllReturnsRowsInTheOrderOfRowIds() {
+        List<RowId> rowIds = new ArrayList<>();
+        List<BinaryRow> rows = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            BinaryRow row = binaryRow(new TestKey(i, "foo" + i), new TestValue(i, "bar" + i));
+
+            RowId rowId = insert(row, txId);
+
+            if (i % 2 == 0) {
+                commitWrite(rowId, clock.now());
+            }
+
+            rowIds.add(rowId);
+            rows.add(row);
+        }
+
+        rowIds.add(new RowId(PARTITION_ID));
+        rows.add(null);
+
+        Collections.reverse(rowIds);
+        Collections.reverse(rows);
+
+        List<BinaryRow> foundRows = readAll(rowIds, txId);
+
+        assertEquals(rows.size(), foundRows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i) == null) {
+                assertNull(foundRows.get(i));
+            } else {
+                assertRowMatches(foundRows.get(i), rows.get(i));
+            }
+        }
+    }
+
+    @Test
+    void readAllOfUncommittedRowWithDifferentTransactionIdThrows() {
+        RowId rowId1 = insert(binaryRow, txId);
+        commitWrite(rowId1, clock.now());
+
+        RowId rowId2 = insert(binaryRow2, txId);
+
+        assertThrows(TxIdMismatchException.class, () -> readAll(List.of(rowId1, rowId2), newTransactionId()));
+    }
+
     @Test
     void readsUncommittedVersionEvenWhenThereIsCommittedVersionBeforeIt() {
         RowId rowId1 = insert(binaryRow, txId);
@@ -722,6 +779,140 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvStoragesTest
         assertThat(foundRow, is(nullValue()));
     }
 
+    @Test
+    void bulkLoadWritesCommittedVersions() throws Exception {
+        Map<RowId, BinaryRow> rows = new HashMap<>();
+
+        for (int i = 0; i < 10; i++) {
+            rows.put(new RowId(PARTITION_ID), binaryRow(new TestKey(i, "foo" + i), new TestValue(i, "bar" + i)));
+        }
+
+        HybridTimestamp beforeLoad = clock.now();
+        HybridTimestamp loadTimestamp = clock.now();
+
+        storage.bulkLoad(rows, loadTimestamp);
+
+        rows.forEach((rowId, row) -> {
+            assertRowMatches(read(rowId, loadTimestamp), row);
+            assertRowMatches(read(rowId, clock.now()), row);
+            assertRowMatches(read(rowId, newTransactionId()), row);
+
+            assertThat(read(rowId, beforeLoad), is(nullValue()));
+        });
+
+        try (Cursor<BinaryRow> cursor = scan(row -> true, clock.now())) {
+            List<BinaryRow> foundRows = new ArrayList<>();
+
+            cursor.forEachRemaining(foundRows::add);
+
+            assertEquals(rows.size(), foundRows.size());
+        }
+    }
+
+    @Test
+    void vacuumRemovesVersionsInvisibleAtLowWatermark() {
+        RowId rowId = insert(binaryRow, txId);
+        HybridTimestamp firstCommitTs = clock.now();
+        commitWrite(rowId, firstCommitTs);
+
+        addWrite(rowId, binaryRow2, txId);
+        HybridTimestamp secondCommitTs = clock.now();
+        commitWrite(rowId, secondCommitTs);
+
+        HybridTimestamp lowWatermark = clock.now();
+
+        addWrite(rowId, binaryRow, txId);
+        HybridTimestamp thirdCommitTs = clock.now();
+        commitWrite(rowId, thirdCommitTs);
+
+        addWrite(rowId, binaryRow2, txId);
+
+        VacuumResult result = storage.vacuum(lowWatermark, null, 10);
+
+        assertEquals(1, result.chains());
+        assertEquals(4, result.versions());
+        assertEquals(1, result.removedVersions());
+        assertEquals(4, result.maxChainLength());
+        assertNull(result.nextRowId());
+
+        assertThat(read(rowId, firstCommitTs), is(nullValue()));
+        assertRowMatches(read(rowId, secondCommitTs), binaryRow2);
+        assertRowMatches(read(rowId, lowWatermark), binaryRow2);
+        assertRowMatches(read(rowId, thirdCommitTs), binaryRow);
+        assertRowMatches(read(rowId, txId), binaryRow2);
+
+        result = storage.vacuum(lowWatermark, null, 10);
+
+        assertEquals(3, result.versions());
+        assertEquals(0, result.removedVersions());
+    }
+
+    @Test
+    void vacuumIsResumedFromNextRowId() {
+        for (int i = 0; i < 3; i++) {
+            RowId rowId = insert(binaryRow, txId);
+            commitWrite(rowId, clock.now());
+
+            addWrite(rowId, binaryRow2, txId);
+            commitWrite(rowId, clock.now());
+        }
+
+        HybridTimestamp lowWatermark = clock.now();
+
+        VacuumResult result = storage.vacuum(lowWatermark, null, 2);
+
+        assertEquals(2, result.chains());
+        assertEquals(2, result.removedVersions());
+        assertThat(result.nextRowId(), is(notNullValue()));
+
+        result = storage.vacuum(lowWatermark, result.nextRowId(), 2);
+
+        assertEquals(1, result.chains());
+        assertEquals(1, result.removedVersions());
+        assertNull(result.nextRowId());
+    }
+
+    @Test
+    void scanVersionsIsResumedFromNextRowId() {
+        List<RowId> rowIds = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            RowId rowId = insert(binaryRow, txId);
+            commitWrite(rowId, clock.now());
+
+            addWrite(rowId, binaryRow2, txId);
+
+            rowIds.add(rowId);
+        }
+
+        // Tombstones are skipped.
+        RowId removedRowId = insert(binaryRow, txId);
+        commitWrite(removedRowId, clock.now());
+
+        addWrite(removedRowId, null, txId);
+
+        Map<RowId, List<BinaryRow>> versions = new HashMap<>();
+
+        RowId nextRowId = storage.scanVersions(null, 2, (rowId, row) -> versions.computeIfAbsent(rowId, id -> new ArrayList<>()).add(row));
+
+        assertThat(nextRowId, is(notNullValue()));
+        assertEquals(2, versions.size());
+
+        nextRowId = storage.scanVersions(nextRowId, 2, (rowId, row) -> versions.computeIfAbsent(rowId, id -> new ArrayList<>()).add(row));
+
+        assertNull(nextRowId);
+        assertEquals(4, versions.size());
+
+        for (RowId rowId : rowIds) {
+            assertEquals(2, versions.get(rowId).size());
+
+            assertRowMatches(versions.get(rowId).get(0), binaryRow2);
+            assertRowMatches(versions.get(rowId).get(1), binaryRow);
+        }
+
+        assertEquals(1, versions.get(removedRowId).size());
+    }
+
     /**
      * Tests that changed {@link MvPartitionStorage#lastAppliedIndex()} can be successfully read and that it's returned from
      * {@link MvPartitionStorage#persistedIndex()} after the {@link MvPartitionStorage#flush()}.
@@ -25,7 +25,9 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.ByteBuffer;
 import java.util.List;
@@ -44,6 +46,7 @@ import org.apache.ignite.internal.schema.testutils.builder.SchemaBuilders;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.index.HashIndexStorage;
 import org.apache.ignite.internal.storage.index.IndexRowImpl;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.schema.definition.ColumnType;
 import org.apache.ignite.schema.definition.TableDefinition;
@@ -147,6 +150,22 @@ public abstract class AbstractMvTableStorageTest extends BaseMvStoragesTest {
         assertThat(tableStorage.getOrCreateSortedIndex(PARTITION_ID, sortedIndexId), is(notNullValue()));
     }
 
+    /**
+     * Tests that getting a Sorted Index doesn't create it.
+     */
+    @Test
+    public void testGetSortedIndex() {
+        assertThrows(StorageException.class, () -> tableStorage.getSortedIndex(PARTITION_ID, sortedIndexId));
+
+        tableStorage.getOrCreateMvPartition(PARTITION_ID);
+
+        assertThat(tableStorage.getSortedIndex(PARTITION_ID, sortedIndexId), is(nullValue()));
+
+        SortedIndexStorage sortedIndexStorage = tableStorage.getOrCreateSortedIndex(PARTITION_ID, sortedIndexId);
+
+        assertThat(tableStorage.getSortedIndex(PARTITION_ID, sortedIndexId), is(sameInstance(sortedIndexStorage)));
+    }
+
     /**
      * Test creating a Hash Index.
      */
@@ -174,6 +193,41 @@ public abstract class AbstractMvTableStorageTest extends BaseMvStoragesTest {
         assertThat(tableStorage.destroyIndex(hashIndexId), willCompleteSuccessfully());
     }
 
+    /**
+     * Tests that the build progress of an index is saved by the partition storage.
+     */
+    @Test
+    public void testIndexBuildProgress() {
+        MvPartitionStorage partitionStorage = tableStorage.getOrCreateMvPartition(PARTITION_ID);
+
+        assertThat(tableStorage.getOrCreateHashIndex(PARTITION_ID, hashIndexId), is(notNullValue()));
+
+        assertThat(partitionStorage.indexBuildProgress(hashIndexId), is(nullValue()));
+        assertFalse(partitionStorage.indexBuilt(hashIndexId));
+
+        var rowId = new RowId(PARTITION_ID);
+
+        partitionStorage.runConsistently(() -> {
+            partitionStorage.indexBuildProgress(hashIndexId, rowId);
+
+            return null;
+        });
+
+        assertThat(partitionStorage.indexBuildProgress(hashIndexId), is(equalTo(rowId)));
+        assertFalse(partitionStorage.indexBuilt(hashIndexId));
+
+        partitionStorage.runConsistently(() -> {
+            partitionStorage.indexBuildProgress(hashIndexId, null);
+
+            return null;
+        });
+
+        assertThat(partitionStorage.indexBuildProgress(hashIndexId), is(nullValue()));
+        assertTrue(partitionStorage.indexBuilt(hashIndexId));
+
+        assertFalse(partitionStorage.indexBuilt(sortedIndexId));
+    }
+
     @Test
     public void testHashIndexIndependence() {
         MvPartitionStorage partitionStorage1 = tableStorage.getOrCreateMvPartition(PARTITION_ID);
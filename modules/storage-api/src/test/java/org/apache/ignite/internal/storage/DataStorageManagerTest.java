@@ -50,6 +50,7 @@ import org.apache.ignite.configuration.schemas.table.UnlimitedBudgetConfiguratio
 import org.apache.ignite.internal.configuration.ConfigurationRegistry;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.storage.DataStorageModulesTest.FirstDataStorageConfigurationSchema;
 import org.apache.ignite.internal.storage.DataStorageModulesTest.SecondDataStorageConfigurationSchema;
 import org.apache.ignite.internal.testframework.WorkDirectory;
@@ -94,7 +95,7 @@ public class DataStorageManagerTest {
 
         DataStorageManager dataStorageManager = new DataStorageManager(
                 tablesConfig,
-                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null)
+                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null, new MetricManager())
         );
 
         // Checks that the current default is "aimem" even if we have one engine and it's not "aimem".
@@ -111,7 +112,7 @@ public class DataStorageManagerTest {
 
         DataStorageManager dataStorageManager = new DataStorageManager(
                 tablesConfig,
-                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null)
+                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null, new MetricManager())
         );
 
         // TODO: IGNITE-17197 Uncomment after the ticket is resolved.
@@ -136,7 +137,7 @@ public class DataStorageManagerTest {
 
         DataStorageManager dataStorageManager = new DataStorageManager(
                 tablesConfig,
-                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null)
+                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null, new MetricManager())
         );
 
         // Check random polymorphicTypeId.
@@ -179,7 +180,7 @@ public class DataStorageManagerTest {
 
         DataStorageManager dataStorageManager = new DataStorageManager(
                 tablesConfig,
-                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null)
+                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null, new MetricManager())
         );
 
         DataStorageView dataStorageView = dataStorageConfig.value();
@@ -215,7 +216,7 @@ public class DataStorageManagerTest {
 
         DataStorageManager dataStorageManager = new DataStorageManager(
                 tablesConfig,
-                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null)
+                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null, new MetricManager())
         );
 
         dataStorageConfig.change(dataStorageManager.defaultTableDataStorageConsumer(FIRST)).get(1, TimeUnit.SECONDS);
@@ -236,7 +237,7 @@ public class DataStorageManagerTest {
 
         DataStorageManager dataStorageManager = new DataStorageManager(
                 tablesConfig,
-                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null)
+                dataStorageModules.createStorageEngines("test", mock(ConfigurationRegistry.class), workDir, null, new MetricManager())
         );
 
         dataStorageConfig.change(dataStorageManager.defaultTableDataStorageConsumer(FIRST)).get(1, TimeUnit.SECONDS);
@@ -39,6 +39,7 @@ import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.configuration.schemas.store.DataStorageConfigurationSchema;
 import org.apache.ignite.configuration.schemas.store.UnknownDataStorageConfigurationSchema;
 import org.apache.ignite.internal.configuration.ConfigurationRegistry;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
@@ -118,7 +119,8 @@ public class DataStorageModulesTest {
                 "test",
                 mock(ConfigurationRegistry.class),
                 workDir,
-                null
+                null,
+                new MetricManager()
         );
 
         assertThat(engines, aMapWithSize(2));
@@ -213,7 +215,7 @@ public class DataStorageModulesTest {
 
         when(mock.name()).thenReturn(name);
 
-        when(mock.createEngine(any(), any(), any(), any())).thenReturn(mock(StorageEngine.class));
+        when(mock.createEngine(any(), any(), any(), any(), any())).thenReturn(mock(StorageEngine.class));
 
         return mock;
     }
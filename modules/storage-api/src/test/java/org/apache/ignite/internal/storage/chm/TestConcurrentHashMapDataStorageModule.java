@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.storage.chm.TestConcurrentHashMapStorag
 import java.nio.file.Path;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.configuration.ConfigurationRegistry;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.storage.DataStorageModule;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
@@ -43,7 +44,8 @@ public class TestConcurrentHashMapDataStorageModule implements DataStorageModule
             String igniteInstanceName,
             ConfigurationRegistry configRegistry,
             Path storagePath,
-            @Nullable LongJvmPauseDetector longJvmPauseDetector
+            @Nullable LongJvmPauseDetector longJvmPauseDetector,
+            MetricManager metricManager
     ) throws StorageException {
         return new TestConcurrentHashMapStorageEngine();
     }
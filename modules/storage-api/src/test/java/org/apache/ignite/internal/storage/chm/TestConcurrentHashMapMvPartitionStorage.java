@@ -17,21 +17,26 @@
 
 package org.apache.ignite.internal.storage.chm;
 
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.apache.ignite.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.TxIdMismatchException;
+import org.apache.ignite.internal.storage.VacuumResult;
 import org.apache.ignite.internal.util.Cursor;
 import org.jetbrains.annotations.Nullable;
 
@@ -39,8 +44,15 @@ import org.jetbrains.annotations.Nullable;
  * Test implementation of MV partition storage.
  */
 public class TestConcurrentHashMapMvPartitionStorage implements MvPartitionStorage {
+    private static final Comparator<RowId> ROW_ID_COMPARATOR = Comparator.comparingLong(RowId::mostSignificantBits)
+            .thenComparingLong(RowId::leastSignificantBits);
+
     private final ConcurrentMap<RowId, VersionChain> map = new ConcurrentHashMap<>();
 
+    private final ConcurrentMap<UUID, RowId> indexBuildProgress = new ConcurrentHashMap<>();
+
+    private final Set<UUID> builtIndexes = ConcurrentHashMap.newKeySet();
+
     private long lastAppliedIndex = 0;
 
     private final int partitionId;
@@ -261,6 +273,109 @@ public class TestConcurrentHashMapMvPartitionStorage implements MvPartitionStora
         return Cursor.fromIterator(iterator);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public VacuumResult vacuum(HybridTimestamp lowWatermark, @Nullable RowId lowerBound, int limit) {
+        List<RowId> rowIds = map.keySet().stream()
+                .filter(rowId -> lowerBound == null || ROW_ID_COMPARATOR.compare(rowId, lowerBound) >= 0)
+                .sorted(ROW_ID_COMPARATOR)
+                .limit(limit + 1L)
+                .collect(Collectors.toList());
+
+        int chains = Math.min(limit, rowIds.size());
+        int[] versions = {0};
+        int[] removedVersions = {0};
+        int[] maxChainLength = {0};
+
+        for (RowId rowId : rowIds.subList(0, chains)) {
+            map.computeIfPresent(rowId, (ignored, versionChain) -> {
+                int length = length(versionChain);
+
+                VersionChain trimmed = trim(versionChain, lowWatermark);
+
+                versions[0] += length;
+                removedVersions[0] += length - length(trimmed);
+                maxChainLength[0] = Math.max(maxChainLength[0], length);
+
+                return trimmed;
+            });
+        }
+
+        RowId nextRowId = rowIds.size() > limit ? rowIds.get(limit) : null;
+
+        return new VacuumResult(chains, versions[0], removedVersions[0], maxChainLength[0], nextRowId);
+    }
+
+    private static VersionChain trim(VersionChain versionChain, HybridTimestamp lowWatermark) {
+        if (versionChain.begin != null && versionChain.begin.compareTo(lowWatermark) <= 0) {
+            return versionChain.next == null ? versionChain : new VersionChain(versionChain.row, versionChain.begin, null, null);
+        }
+
+        if (versionChain.next == null) {
+            return versionChain;
+        }
+
+        VersionChain next = trim(versionChain.next, lowWatermark);
+
+        return next == versionChain.next
+                ? versionChain
+                : new VersionChain(versionChain.row, versionChain.begin, versionChain.txId, next);
+    }
+
+    private static int length(@Nullable VersionChain versionChain) {
+        int length = 0;
+
+        for (VersionChain cur = versionChain; cur != null; cur = cur.next) {
+            length++;
+        }
+
+        return length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable RowId scanVersions(@Nullable RowId lowerBound, int limit, BiConsumer<RowId, BinaryRow> consumer) {
+        List<RowId> rowIds = map.keySet().stream()
+                .filter(rowId -> lowerBound == null || ROW_ID_COMPARATOR.compare(rowId, lowerBound) >= 0)
+                .sorted(ROW_ID_COMPARATOR)
+                .limit(limit + 1L)
+                .collect(Collectors.toList());
+
+        for (RowId rowId : rowIds.subList(0, Math.min(limit, rowIds.size()))) {
+            for (VersionChain cur = map.get(rowId); cur != null; cur = cur.next) {
+                if (cur.row != null) {
+                    consumer.accept(rowId, cur.row);
+                }
+            }
+        }
+
+        return rowIds.size() > limit ? rowIds.get(limit) : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable RowId indexBuildProgress(UUID indexId) {
+        return indexBuildProgress.get(indexId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean indexBuilt(UUID indexId) {
+        return builtIndexes.contains(indexId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void indexBuildProgress(UUID indexId, @Nullable RowId nextRowId) {
+        if (nextRowId == null) {
+            indexBuildProgress.remove(indexId);
+
+            builtIndexes.add(indexId);
+        } else {
+            indexBuildProgress.put(indexId, nextRowId);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public long rowsCount() {
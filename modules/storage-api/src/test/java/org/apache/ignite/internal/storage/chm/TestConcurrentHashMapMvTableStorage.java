@@ -17,6 +17,9 @@
 
 package org.apache.ignite.internal.storage.chm;
 
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.PRIMARY_INDEX_DESCRIPTOR;
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.PRIMARY_INDEX_ID;
+
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -120,6 +123,17 @@ public class TestConcurrentHashMapMvTableStorage implements MvTableStorage {
         return sortedIndices.getOrCreateStorage(partitionId);
     }
 
+    @Override
+    public @Nullable SortedIndexStorage getSortedIndex(int partitionId, UUID indexId) {
+        if (!partitions.containsKey(partitionId)) {
+            throw new StorageException("Partition ID " + partitionId + " does not exist");
+        }
+
+        SortedIndices sortedIndices = sortedIndicesById.get(indexId);
+
+        return sortedIndices == null ? null : sortedIndices.storageByPartitionId.get(partitionId);
+    }
+
     @Override
     public HashIndexStorage getOrCreateHashIndex(int partitionId, UUID indexId) {
         if (!partitions.containsKey(partitionId)) {
@@ -134,6 +148,20 @@ public class TestConcurrentHashMapMvTableStorage implements MvTableStorage {
         return sortedIndices.getOrCreateStorage(partitionId);
     }
 
+    @Override
+    public HashIndexStorage getOrCreatePrimaryIndex(int partitionId) {
+        if (!partitions.containsKey(partitionId)) {
+            throw new StorageException("Partition ID " + partitionId + " does not exist");
+        }
+
+        HashIndices primaryIndices = hashIndicesById.computeIfAbsent(
+                PRIMARY_INDEX_ID,
+                id -> new HashIndices(PRIMARY_INDEX_DESCRIPTOR)
+        );
+
+        return primaryIndices.getOrCreateStorage(partitionId);
+    }
+
     @Override
     public CompletableFuture<Void> destroyIndex(UUID indexId) {
         sortedIndicesById.remove(indexId);
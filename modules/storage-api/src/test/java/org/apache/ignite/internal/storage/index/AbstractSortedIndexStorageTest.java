@@ -569,6 +569,41 @@ public abstract class AbstractSortedIndexStorageTest {
         );
     }
 
+    /**
+     * Tests the backwards scans of an index that is large enough to span many pages.
+     */
+    @Test
+    void testBackwardsScanOfManyRows() throws Exception {
+        SortedIndexDefinition indexDefinition = SchemaBuilders.sortedIndex(randomString(random, 10))
+                .addIndexColumn(ColumnType.INT32.typeSpec().name()).asc().done()
+                .build();
+
+        SortedIndexStorage index = createIndexStorage(indexDefinition);
+
+        var serializer = new BinaryTupleRowSerializer(index.indexDescriptor());
+
+        List<Integer> vals = IntStream.range(0, 10_000).boxed().collect(toList());
+
+        Collections.shuffle(vals, random);
+
+        for (int val : vals) {
+            index.put(serializer.serializeRow(new Object[]{val}, new RowId(0)));
+        }
+
+        List<Object[]> forward = scan(index, null, null, FORWARD);
+        List<Object[]> backwards = new ArrayList<>(scan(index, null, null, BACKWARDS));
+
+        assertThat(forward, hasSize(vals.size()));
+
+        Collections.reverse(backwards);
+
+        assertThat(backwards, contains(forward.toArray()));
+
+        List<Object[]> range = scan(index, prefix(index, 1_000), prefix(index, 9_000), GREATER_OR_EQUAL | LESS | BACKWARDS);
+
+        assertThat(range, contains(IntStream.iterate(8_999, i -> i >= 1_000, i -> i - 1).mapToObj(i -> new Object[]{i}).toArray()));
+    }
+
     /**
      * Tests that an empty range is returned if {@link SortedIndexStorage#scan} method is called using overlapping keys.
      */
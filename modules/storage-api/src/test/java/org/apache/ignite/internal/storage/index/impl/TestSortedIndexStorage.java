@@ -92,6 +92,11 @@ public class TestSortedIndexStorage implements SortedIndexStorage {
         });
     }
 
+    @Override
+    public void destroy() {
+        index.clear();
+    }
+
     /** {@inheritDoc} */
     @Override
     public Cursor<IndexRow> scan(
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.storage.pagememory;
 
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.PRIMARY_INDEX_DESCRIPTOR;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -30,7 +32,9 @@ import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
 import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.apache.ignite.internal.storage.pagememory.mv.AbstractPageMemoryMvPartitionStorage;
 import org.apache.ignite.internal.tostring.S;
@@ -144,12 +148,35 @@ public abstract class AbstractPageMemoryTableStorage implements MvTableStorage {
     /** {@inheritDoc} */
     @Override
     public SortedIndexStorage getOrCreateSortedIndex(int partitionId, UUID indexId) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        return getPartitionOrThrow(partitionId).getOrCreateSortedIndex(new SortedIndexDescriptor(indexId, tableCfg.value()));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable SortedIndexStorage getSortedIndex(int partitionId, UUID indexId) {
+        return getPartitionOrThrow(partitionId).getSortedIndex(indexId);
+    }
+
+    /** {@inheritDoc} */
     @Override
     public HashIndexStorage getOrCreateHashIndex(int partitionId, UUID indexId) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        return getPartitionOrThrow(partitionId).getOrCreateHashIndex(new HashIndexDescriptor(indexId, tableCfg.value()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HashIndexStorage getOrCreatePrimaryIndex(int partitionId) {
+        return getPartitionOrThrow(partitionId).getOrCreateHashIndex(PRIMARY_INDEX_DESCRIPTOR);
+    }
+
+    private AbstractPageMemoryMvPartitionStorage getPartitionOrThrow(int partitionId) {
+        AbstractPageMemoryMvPartitionStorage partitionStorage = getMvPartition(partitionId);
+
+        if (partitionStorage == null) {
+            throw new StorageException(String.format("Partition %d has not been created yet", partitionId));
+        }
+
+        return partitionStorage;
     }
 
     /** {@inheritDoc} */
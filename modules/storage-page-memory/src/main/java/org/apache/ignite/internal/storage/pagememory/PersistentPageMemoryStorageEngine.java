@@ -34,6 +34,7 @@ import org.apache.ignite.internal.fileio.AsyncFileIoFactory;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionView;
@@ -66,6 +67,8 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
     @Nullable
     private final LongJvmPauseDetector longJvmPauseDetector;
 
+    private final MetricManager metricManager;
+
     private final Map<String, PersistentPageMemoryDataRegion> regions = new ConcurrentHashMap<>();
 
     @Nullable
@@ -85,19 +88,22 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
      * @param ioRegistry IO registry.
      * @param storagePath Storage path.
      * @param longJvmPauseDetector Long JVM pause detector.
+     * @param metricManager Metric manager to register the metric sources of the data regions.
      */
     public PersistentPageMemoryStorageEngine(
             String igniteInstanceName,
             PersistentPageMemoryStorageEngineConfiguration engineConfig,
             PageIoRegistry ioRegistry,
             Path storagePath,
-            @Nullable LongJvmPauseDetector longJvmPauseDetector
+            @Nullable LongJvmPauseDetector longJvmPauseDetector,
+            MetricManager metricManager
     ) {
         this.igniteInstanceName = igniteInstanceName;
         this.engineConfig = engineConfig;
         this.ioRegistry = ioRegistry;
         this.storagePath = storagePath;
         this.longJvmPauseDetector = longJvmPauseDetector;
+        this.metricManager = metricManager;
     }
 
     /**
@@ -168,6 +174,8 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
     @Override
     public void stop() throws StorageException {
         try {
+            regions.values().forEach(region -> metricManager.unregisterSource(region.pageMemory().metricSource()));
+
             Stream<AutoCloseable> closeRegions = regions.values().stream().map(region -> region::stop);
 
             CheckpointManager checkpointManager = this.checkpointManager;
@@ -224,6 +232,8 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
 
         dataRegion.start();
 
+        metricManager.registerSource(dataRegion.pageMemory().metricSource());
+
         regions.put(name, dataRegion);
     }
 }
@@ -23,6 +23,8 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.configuration.schemas.table.TableView;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
@@ -35,6 +37,8 @@ import org.apache.ignite.internal.pagememory.persistence.store.FilePageStore;
 import org.apache.ignite.internal.pagememory.reuse.ReuseList;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
+import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMetaTree;
 import org.apache.ignite.internal.storage.pagememory.mv.PersistentPageMemoryMvPartitionStorage;
 import org.apache.ignite.internal.storage.pagememory.mv.RowVersionFreeList;
 import org.apache.ignite.internal.storage.pagememory.mv.VersionChain;
@@ -45,6 +49,8 @@ import org.apache.ignite.lang.IgniteInternalCheckedException;
  * Implementation of {@link AbstractPageMemoryTableStorage} for persistent case.
  */
 public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableStorage {
+    private static final IgniteLogger LOG = Loggers.forClass(PersistentPageMemoryTableStorage.class);
+
     /** Storage engine instance. */
     private final PersistentPageMemoryStorageEngine engine;
 
@@ -164,6 +170,22 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
                 initRowVersionFreeList = true;
             }
 
+            boolean initIndexColumnsFreeList = false;
+
+            if (meta.indexColumnsFreeListRootPageId() == 0) {
+                meta.indexColumnsFreeListRootPageId(checkpointId, persistentPageMemory.allocatePage(grpId, partitionId, FLAG_AUX));
+
+                initIndexColumnsFreeList = true;
+            }
+
+            boolean initIndexMetaTree = false;
+
+            if (meta.indexTreeMetaPageId() == 0) {
+                meta.indexTreeMetaPageId(checkpointId, persistentPageMemory.allocatePage(grpId, partitionId, FLAG_AUX));
+
+                initIndexMetaTree = true;
+            }
+
             RowVersionFreeList rowVersionFreeList = createRowVersionFreeList(
                     tableView,
                     partitionId,
@@ -181,6 +203,23 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
                     initNewVersionChainTree
             );
 
+            IndexColumnsFreeList indexColumnsFreeList = createIndexColumnsFreeList(
+                    tableView,
+                    partitionId,
+                    meta.indexColumnsFreeListRootPageId(),
+                    initIndexColumnsFreeList
+            );
+
+            autoCloseables.add(indexColumnsFreeList::close);
+
+            IndexMetaTree indexMetaTree = createIndexMetaTree(
+                    tableView,
+                    partitionId,
+                    indexColumnsFreeList,
+                    meta.indexTreeMetaPageId(),
+                    initIndexMetaTree
+            );
+
             return new PersistentPageMemoryMvPartitionStorage(
                     this,
                     partitionId,
@@ -189,7 +228,9 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
                     checkpointManager,
                     meta,
                     rowVersionFreeList,
-                    versionChainTree
+                    versionChainTree,
+                    indexColumnsFreeList,
+                    indexMetaTree
             );
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException(
@@ -298,4 +339,78 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
             );
         }
     }
+
+    /**
+     * Returns new {@link IndexColumnsFreeList} instance for partition.
+     *
+     * @param tableView Table configuration.
+     * @param partId Partition ID.
+     * @param rootPageId Root page ID.
+     * @param initNew {@code True} if new metadata should be initialized.
+     * @throws StorageException If failed.
+     */
+    private IndexColumnsFreeList createIndexColumnsFreeList(
+            TableView tableView,
+            int partId,
+            long rootPageId,
+            boolean initNew
+    ) throws StorageException {
+        try {
+            return new IndexColumnsFreeList(
+                    tableView.tableId(),
+                    partId,
+                    dataRegion.pageMemory(),
+                    null,
+                    PageLockListenerNoOp.INSTANCE,
+                    LOG,
+                    rootPageId,
+                    initNew,
+                    dataRegion.pageListCacheLimit(),
+                    PageEvictionTrackerNoOp.INSTANCE,
+                    IoStatisticsHolderNoOp.INSTANCE
+            );
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException(
+                    String.format("Error creating IndexColumnsFreeList [tableName=%s, partitionId=%s]", tableView.name(), partId),
+                    e
+            );
+        }
+    }
+
+    /**
+     * Returns new {@link IndexMetaTree} instance for partition.
+     *
+     * @param tableView Table configuration.
+     * @param partId Partition ID.
+     * @param reuseList Reuse list.
+     * @param rootPageId Root page ID.
+     * @param initNewTree {@code True} if new tree should be created.
+     * @throws StorageException If failed.
+     */
+    private IndexMetaTree createIndexMetaTree(
+            TableView tableView,
+            int partId,
+            ReuseList reuseList,
+            long rootPageId,
+            boolean initNewTree
+    ) throws StorageException {
+        try {
+            return new IndexMetaTree(
+                    tableView.tableId(),
+                    tableView.name(),
+                    partId,
+                    dataRegion.pageMemory(),
+                    PageLockListenerNoOp.INSTANCE,
+                    new AtomicLong(),
+                    rootPageId,
+                    reuseList,
+                    initNewTree
+            );
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException(
+                    String.format("Error creating IndexMetaTree [tableName=%s, partitionId=%s]", tableView.name(), partId),
+                    e
+            );
+        }
+    }
 }
@@ -20,6 +20,8 @@ package org.apache.ignite.internal.storage.pagememory;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.DataRegion;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
@@ -30,6 +32,7 @@ import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.reuse.ReuseList;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
 import org.apache.ignite.internal.storage.pagememory.mv.RowVersionFreeList;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.jetbrains.annotations.Nullable;
@@ -38,6 +41,8 @@ import org.jetbrains.annotations.Nullable;
  * Implementation of {@link DataRegion} for in-memory case.
  */
 public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemory> {
+    private static final IgniteLogger LOG = Loggers.forClass(VolatilePageMemoryDataRegion.class);
+
     private static final int FREE_LIST_GROUP_ID = 0;
 
     private static final int FREE_LIST_PARTITION_ID = 0;
@@ -52,6 +57,8 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
 
     private volatile RowVersionFreeList rowVersionFreeList;
 
+    private volatile IndexColumnsFreeList indexColumnsFreeList;
+
     /**
      * Constructor.
      *
@@ -84,6 +91,12 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
             throw new StorageException("Error creating a RowVersionFreeList", e);
         }
 
+        try {
+            indexColumnsFreeList = createIndexColumnsFreeList(pageMemory);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error creating an IndexColumnsFreeList", e);
+        }
+
         this.pageMemory = pageMemory;
     }
 
@@ -108,13 +121,33 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
         );
     }
 
+    private static IndexColumnsFreeList createIndexColumnsFreeList(PageMemory pageMemory) throws IgniteInternalCheckedException {
+        long metaPageId = pageMemory.allocatePage(FREE_LIST_GROUP_ID, FREE_LIST_PARTITION_ID, FLAG_AUX);
+
+        return new IndexColumnsFreeList(
+                FREE_LIST_GROUP_ID,
+                FREE_LIST_PARTITION_ID,
+                pageMemory,
+                null,
+                PageLockListenerNoOp.INSTANCE,
+                LOG,
+                metaPageId,
+                true,
+                // Because in memory.
+                null,
+                PageEvictionTrackerNoOp.INSTANCE,
+                IoStatisticsHolderNoOp.INSTANCE
+        );
+    }
+
     /**
      * Starts the in-memory data region.
      */
     public void stop() throws Exception {
         closeAll(
                 pageMemory != null ? () -> pageMemory.stop(true) : null,
-                rowVersionFreeList != null ? rowVersionFreeList::close : null
+                rowVersionFreeList != null ? rowVersionFreeList::close : null,
+                indexColumnsFreeList != null ? indexColumnsFreeList::close : null
         );
     }
 
@@ -137,6 +170,17 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
         return rowVersionFreeList;
     }
 
+    /**
+     * Returns index columns free list.
+     *
+     * @throws StorageException If the data region did not start.
+     */
+    public IndexColumnsFreeList indexColumnsFreeList() {
+        checkDataRegionStarted();
+
+        return indexColumnsFreeList;
+    }
+
     /**
      * Checks that the data region has started.
      *
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.storage.pagememory.VolatilePageMemorySt
 import java.nio.file.Path;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.configuration.ConfigurationRegistry;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.storage.DataStorageModule;
 import org.apache.ignite.internal.storage.StorageException;
@@ -45,7 +46,8 @@ public class VolatilePageMemoryDataStorageModule implements DataStorageModule {
             String igniteInstanceName,
             ConfigurationRegistry configRegistry,
             Path storagePath,
-            @Nullable LongJvmPauseDetector longJvmPauseDetector
+            @Nullable LongJvmPauseDetector longJvmPauseDetector,
+            MetricManager metricManager
     ) throws StorageException {
         VolatilePageMemoryStorageEngineConfiguration engineConfig = configRegistry.getConfiguration(
                 VolatilePageMemoryStorageEngineConfiguration.KEY
@@ -24,6 +24,7 @@ import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.configuration.schemas.table.TableView;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMetaTree;
 import org.apache.ignite.internal.storage.pagememory.mv.VersionChainTree;
 import org.apache.ignite.internal.storage.pagememory.mv.VolatilePageMemoryMvPartitionStorage;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -51,12 +52,16 @@ public class VolatilePageMemoryTableStorage extends AbstractPageMemoryTableStora
     public VolatilePageMemoryMvPartitionStorage createMvPartitionStorage(int partitionId) throws StorageException {
         VersionChainTree versionChainTree = createVersionChainTree(partitionId, tableCfg.value());
 
+        IndexMetaTree indexMetaTree = createIndexMetaTree(partitionId, tableCfg.value());
+
         return new VolatilePageMemoryMvPartitionStorage(
                 partitionId,
                 tableCfg.value(),
                 dataRegion.pageMemory(),
                 dataRegion.rowVersionFreeList(),
-                versionChainTree
+                versionChainTree,
+                dataRegion.indexColumnsFreeList(),
+                indexMetaTree
         );
     }
 
@@ -101,4 +106,34 @@ public class VolatilePageMemoryTableStorage extends AbstractPageMemoryTableStora
             );
         }
     }
+
+    /**
+     * Returns new {@link IndexMetaTree} instance for partition.
+     *
+     * @param partId Partition ID.
+     * @param tableView Table configuration.
+     * @throws StorageException If failed.
+     */
+    IndexMetaTree createIndexMetaTree(int partId, TableView tableView) throws StorageException {
+        int grpId = tableView.tableId();
+
+        try {
+            return new IndexMetaTree(
+                    grpId,
+                    tableView.name(),
+                    partId,
+                    dataRegion.pageMemory(),
+                    PageLockListenerNoOp.INSTANCE,
+                    new AtomicLong(),
+                    dataRegion.pageMemory().allocatePage(grpId, partId, FLAG_AUX),
+                    dataRegion.indexColumnsFreeList(),
+                    true
+            );
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException(
+                    String.format("Error creating IndexMetaTree [tableName=%s, partitionId=%s]", tableView.name(), partId),
+                    e
+            );
+        }
+    }
 }
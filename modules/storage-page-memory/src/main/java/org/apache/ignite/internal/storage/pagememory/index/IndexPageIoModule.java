@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.pagememory.index;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import org.apache.ignite.internal.pagememory.PageMemory;
@@ -29,6 +30,9 @@ import org.apache.ignite.internal.storage.pagememory.index.hash.io.HashIndexTree
 import org.apache.ignite.internal.storage.pagememory.index.meta.io.IndexMetaInnerIo;
 import org.apache.ignite.internal.storage.pagememory.index.meta.io.IndexMetaLeafIo;
 import org.apache.ignite.internal.storage.pagememory.index.meta.io.IndexMetaTreeMetaIo;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeInnerIo;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeLeafIo;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeMetaIo;
 
 /**
  * {@link PageIoModule} related to {@link PageMemory} based indexes.
@@ -37,7 +41,7 @@ public class IndexPageIoModule implements PageIoModule {
     /** {@inheritDoc} */
     @Override
     public Collection<IoVersions<?>> ioVersions() {
-        return List.of(
+        List<IoVersions<?>> ioVersions = new ArrayList<>(List.of(
                 IndexColumnsDataIo.VERSIONS,
                 // Meta tree IO.
                 IndexMetaTreeMetaIo.VERSIONS,
@@ -46,7 +50,14 @@ public class IndexPageIoModule implements PageIoModule {
                 // Hash index IO.
                 HashIndexTreeMetaIo.VERSIONS,
                 HashIndexTreeInnerIo.VERSIONS,
-                HashIndexTreeLeafIo.VERSIONS
-        );
+                HashIndexTreeLeafIo.VERSIONS,
+                // Sorted index IO.
+                SortedIndexTreeMetaIo.VERSIONS
+        ));
+
+        ioVersions.addAll(SortedIndexTreeInnerIo.VERSIONS);
+        ioVersions.addAll(SortedIndexTreeLeafIo.VERSIONS);
+
+        return ioVersions;
     }
 }
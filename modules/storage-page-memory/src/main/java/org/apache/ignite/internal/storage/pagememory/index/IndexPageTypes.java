@@ -41,4 +41,19 @@ public interface IndexPageTypes {
 
     /** Hash index tree meta IO type. */
     short T_HASH_INDEX_LEAF_IO = 10_002;
+
+    /** Sorted index tree meta IO type. */
+    short T_SORTED_INDEX_META_IO = 10_003;
+
+    /**
+     * First sorted index tree inner IO type. There is an IO type for every inline size, see
+     * {@link org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeInnerIo#versions(int)}.
+     */
+    short T_SORTED_INDEX_INNER_IO_START = 10_100;
+
+    /**
+     * First sorted index tree leaf IO type. There is an IO type for every inline size, see
+     * {@link org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeLeafIo#versions(int)}.
+     */
+    short T_SORTED_INDEX_LEAF_IO_START = 10_200;
 }
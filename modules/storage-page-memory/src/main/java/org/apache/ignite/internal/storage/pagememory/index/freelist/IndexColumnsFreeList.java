@@ -32,6 +32,8 @@ import org.jetbrains.annotations.Nullable;
  * Free list implementation to store {@link IndexColumns} values.
  */
 public class IndexColumnsFreeList extends AbstractFreeList<IndexColumns>  {
+    private final IoStatisticsHolder statHolder;
+
     /**
      * Constructor.
      *
@@ -45,6 +47,7 @@ public class IndexColumnsFreeList extends AbstractFreeList<IndexColumns>  {
      * @param initNew {@code True} if new metadata should be initialized.
      * @param pageListCacheLimit Page list cache limit.
      * @param evictionTracker Page eviction tracker.
+     * @param statHolder Statistics holder to track IO operations.
      * @throws IgniteInternalCheckedException If failed.
      */
     public IndexColumnsFreeList(
@@ -73,5 +76,23 @@ public class IndexColumnsFreeList extends AbstractFreeList<IndexColumns>  {
                 pageListCacheLimit,
                 evictionTracker
         );
+
+        this.statHolder = statHolder;
+    }
+
+    /**
+     * Returns statistics holder to track IO operations.
+     */
+    public IoStatisticsHolder statHolder() {
+        return statHolder;
+    }
+
+    /**
+     * Shortcut method for {@link #saveMetadata(IoStatisticsHolder)} with statistics holder.
+     *
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void saveMetadata() throws IgniteInternalCheckedException {
+        super.saveMetadata(statHolder);
     }
 }
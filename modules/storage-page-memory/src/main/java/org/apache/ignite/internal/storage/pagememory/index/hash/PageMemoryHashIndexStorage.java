@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.storage.pagememory.index.hash;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.storage.index.IndexRow;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumns;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.internal.util.IgniteCursor;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+
+/**
+ * Implementation of Hash index storage using Page Memory.
+ */
+public class PageMemoryHashIndexStorage implements HashIndexStorage {
+    /** Lowest possible row id, used as a lower bound of the key lookup. */
+    private final RowId lowestRowId;
+
+    /** Highest possible row id, used as an upper bound of the key lookup. */
+    private final RowId highestRowId;
+
+    /** Index descriptor. */
+    private final HashIndexDescriptor descriptor;
+
+    /** Free list to store index columns. */
+    private final IndexColumnsFreeList freeList;
+
+    /** Hash index tree instance. */
+    private final HashIndexTree hashIndexTree;
+
+    /** Partition storage that the index belongs to. */
+    private final MvPartitionStorage partitionStorage;
+
+    /** Partition id. */
+    private final int partitionId;
+
+    /**
+     * Constructor.
+     *
+     * @param descriptor Hash index descriptor.
+     * @param partitionStorage Partition storage that the index belongs to.
+     * @param freeList Free list to store index columns.
+     * @param hashIndexTree Hash index tree instance.
+     */
+    public PageMemoryHashIndexStorage(
+            HashIndexDescriptor descriptor,
+            MvPartitionStorage partitionStorage,
+            IndexColumnsFreeList freeList,
+            HashIndexTree hashIndexTree
+    ) {
+        this.descriptor = descriptor;
+        this.partitionStorage = partitionStorage;
+        this.freeList = freeList;
+        this.hashIndexTree = hashIndexTree;
+
+        partitionId = hashIndexTree.partitionId();
+
+        lowestRowId = new RowId(partitionId, Long.MIN_VALUE, Long.MIN_VALUE);
+
+        highestRowId = new RowId(partitionId, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HashIndexDescriptor indexDescriptor() {
+        return descriptor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Cursor<RowId> get(BinaryTuple key) {
+        IndexColumns indexColumns = new IndexColumns(partitionId, key.byteBuffer());
+
+        HashIndexRow lowerBound = new HashIndexRow(indexColumns, lowestRowId);
+        HashIndexRow upperBound = new HashIndexRow(lowerBound.indexColumnsHash(), indexColumns, highestRowId);
+
+        IgniteCursor<HashIndexRow> cursor;
+
+        try {
+            cursor = hashIndexTree.find(lowerBound, upperBound);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to create scan cursor", e);
+        }
+
+        return new Cursor<>() {
+            private Boolean hasNext;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    if (hasNext == null) {
+                        hasNext = cursor.next();
+                    }
+
+                    return hasNext;
+                } catch (IgniteInternalCheckedException e) {
+                    throw new StorageException("Failed to read next element from the tree", e);
+                }
+            }
+
+            @Override
+            public RowId next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                hasNext = null;
+
+                try {
+                    return cursor.get().rowId();
+                } catch (IgniteInternalCheckedException e) {
+                    throw new StorageException("Failed to read next element from the tree", e);
+                }
+            }
+
+            @Override
+            public void close() {
+                // No-op.
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(IndexRow row) {
+        IndexColumns indexColumns = new IndexColumns(partitionId, row.indexColumns().byteBuffer());
+
+        HashIndexRow hashIndexRow = new HashIndexRow(indexColumns, row.rowId());
+
+        var insert = new InsertHashIndexRowInvokeClosure(hashIndexRow, freeList, freeList.statHolder());
+
+        try {
+            hashIndexTree.invoke(hashIndexRow, null, insert);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to put value into index", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove(IndexRow row) {
+        IndexColumns indexColumns = new IndexColumns(partitionId, row.indexColumns().byteBuffer());
+
+        HashIndexRow hashIndexRow = new HashIndexRow(indexColumns, row.rowId());
+
+        var remove = new RemoveHashIndexRowInvokeClosure(hashIndexRow, freeList, freeList.statHolder());
+
+        try {
+            hashIndexTree.invoke(hashIndexRow, null, remove);
+
+            // Performs actual deletion from freeList if necessary.
+            remove.afterCompletion();
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to remove value from index", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void destroy() {
+        partitionStorage.runConsistently(() -> {
+            try {
+                IgniteCursor<HashIndexRow> cursor = hashIndexTree.find(null, null);
+
+                // Rows are collected first, because the tree must not be modified while it's being iterated.
+                List<HashIndexRow> rows = new ArrayList<>();
+
+                while (cursor.next()) {
+                    rows.add(cursor.get());
+                }
+
+                for (HashIndexRow row : rows) {
+                    hashIndexTree.removex(row);
+
+                    freeList.removeDataRowByLink(row.indexColumns().link(), freeList.statHolder());
+                }
+            } catch (IgniteInternalCheckedException e) {
+                throw new StorageException("Failed to destroy index", e);
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * Closes the hash index storage.
+     */
+    public void close() {
+        hashIndexTree.close();
+    }
+}
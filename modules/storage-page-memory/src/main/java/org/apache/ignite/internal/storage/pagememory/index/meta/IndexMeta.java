@@ -20,6 +20,7 @@ package org.apache.ignite.internal.storage.pagememory.index.meta;
 import java.util.UUID;
 import org.apache.ignite.internal.tostring.IgniteToStringInclude;
 import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Index tree meta information.
@@ -30,15 +31,37 @@ public class IndexMeta {
 
     private final long rootPageId;
 
+    /** Bits of the row ID to continue the build of the index from. */
+    private final @Nullable UUID nextRowIdToBuild;
+
+    private final boolean built;
+
     /**
-     * Constructor.
+     * Constructor of the meta of an index without any saved build progress.
      *
      * @param id Index ID.
      * @param rootPageId Index root page ID.
      */
     public IndexMeta(UUID id, long rootPageId) {
+        this(id, rootPageId, null, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param id Index ID.
+     * @param rootPageId Index root page ID.
+     * @param nextRowIdToBuild Bits of the row ID to continue the build of the index from, {@code null} if the build hasn't saved any
+     *      progress yet or has been completed.
+     * @param built Whether the build of the index has been completed.
+     */
+    public IndexMeta(UUID id, long rootPageId, @Nullable UUID nextRowIdToBuild, boolean built) {
+        assert nextRowIdToBuild == null || !built : id;
+
         this.id = id;
         this.rootPageId = rootPageId;
+        this.nextRowIdToBuild = nextRowIdToBuild;
+        this.built = built;
     }
 
     /**
@@ -55,6 +78,21 @@ public class IndexMeta {
         return rootPageId;
     }
 
+    /**
+     * Returns the bits of the row ID to continue the build of the index from, {@code null} if the build hasn't saved any progress yet or
+     * has been completed.
+     */
+    public @Nullable UUID nextRowIdToBuild() {
+        return nextRowIdToBuild;
+    }
+
+    /**
+     * Returns {@code true} if the build of the index has been completed.
+     */
+    public boolean built() {
+        return built;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
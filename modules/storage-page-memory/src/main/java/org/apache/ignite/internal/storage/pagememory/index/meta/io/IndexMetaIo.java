@@ -17,7 +17,9 @@
 
 package org.apache.ignite.internal.storage.pagememory.index.meta.io;
 
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getByte;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.getLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putByte;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
 
 import java.util.UUID;
@@ -31,7 +33,9 @@ import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMeta;
  * <p>Defines a following data layout:
  * <ul>
  *     <li>Index ID - {@link UUID} (16 bytes);</li>
- *     <li>Index root page ID - long (8 bytes).</li>
+ *     <li>Index root page ID - long (8 bytes);</li>
+ *     <li>Index build state - byte (1 byte), see {@link #BUILD_NOT_STARTED}, {@link #BUILD_IN_PROGRESS} and {@link #BUILD_COMPLETED};</li>
+ *     <li>Row ID to continue the index build from - {@link UUID} (16 bytes), valid only if the build is in progress.</li>
  * </ul>
  */
 public interface IndexMetaIo {
@@ -44,8 +48,26 @@ public interface IndexMetaIo {
     /** Index root page ID offset - long (8 bytes). */
     int INDEX_ROOT_PAGE_ID_OFFSET = INDEX_ID_LSB_OFFSET + Long.BYTES;
 
+    /** Index build state offset - byte (1 byte). */
+    int BUILD_STATE_OFFSET = INDEX_ROOT_PAGE_ID_OFFSET + Long.BYTES;
+
+    /** Offset of the most significant bits of the row ID to continue the index build from (8 bytes). */
+    int NEXT_ROW_ID_MSB_OFFSET = BUILD_STATE_OFFSET + Byte.BYTES;
+
+    /** Offset of the least significant bits of the row ID to continue the index build from (8 bytes). */
+    int NEXT_ROW_ID_LSB_OFFSET = NEXT_ROW_ID_MSB_OFFSET + Long.BYTES;
+
     /** Payload size in bytes. */
-    int SIZE_IN_BYTES = 2 * Long.BYTES /* Index ID - {@link UUID} (16 bytes) */ + Long.BYTES /* Index root page ID - long (8 bytes) */;
+    int SIZE_IN_BYTES = NEXT_ROW_ID_LSB_OFFSET + Long.BYTES;
+
+    /** Build state of an index without any saved build progress. */
+    byte BUILD_NOT_STARTED = 0;
+
+    /** Build state of an index with the saved row ID to continue the build from. */
+    byte BUILD_IN_PROGRESS = 1;
+
+    /** Build state of an index which build has been completed. */
+    byte BUILD_COMPLETED = 2;
 
     /**
      * Returns an offset of the element inside the page.
@@ -88,7 +110,14 @@ public interface IndexMetaIo {
 
         long indexRootPageId = getLong(pageAddr, elementOffset + INDEX_ROOT_PAGE_ID_OFFSET);
 
-        return new IndexMeta(new UUID(indexIdMsb, indexIdLsb), indexRootPageId);
+        byte buildState = getByte(pageAddr, elementOffset + BUILD_STATE_OFFSET);
+
+        UUID nextRowIdToBuild = buildState != BUILD_IN_PROGRESS ? null : new UUID(
+                getLong(pageAddr, elementOffset + NEXT_ROW_ID_MSB_OFFSET),
+                getLong(pageAddr, elementOffset + NEXT_ROW_ID_LSB_OFFSET)
+        );
+
+        return new IndexMeta(new UUID(indexIdMsb, indexIdLsb), indexRootPageId, nextRowIdToBuild, buildState == BUILD_COMPLETED);
     }
 
     /**
@@ -113,5 +142,16 @@ public interface IndexMetaIo {
         putLong(pageAddr, off + INDEX_ID_LSB_OFFSET, row.id().getLeastSignificantBits());
 
         putLong(pageAddr, off + INDEX_ROOT_PAGE_ID_OFFSET, row.rootPageId());
+
+        UUID nextRowIdToBuild = row.nextRowIdToBuild();
+
+        if (nextRowIdToBuild != null) {
+            putByte(pageAddr, off + BUILD_STATE_OFFSET, BUILD_IN_PROGRESS);
+
+            putLong(pageAddr, off + NEXT_ROW_ID_MSB_OFFSET, nextRowIdToBuild.getMostSignificantBits());
+            putLong(pageAddr, off + NEXT_ROW_ID_LSB_OFFSET, nextRowIdToBuild.getLeastSignificantBits());
+        } else {
+            putByte(pageAddr, off + BUILD_STATE_OFFSET, row.built() ? BUILD_COMPLETED : BUILD_NOT_STARTED);
+        }
     }
 }
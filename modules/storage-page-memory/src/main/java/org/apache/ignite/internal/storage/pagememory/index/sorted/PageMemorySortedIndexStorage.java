@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.index.IndexRow;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumns;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.internal.util.IgniteCursor;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Implementation of Sorted index storage using Page Memory.
+ */
+public class PageMemorySortedIndexStorage implements SortedIndexStorage {
+    /** Index descriptor. */
+    private final SortedIndexDescriptor descriptor;
+
+    /** Free list to store index columns. */
+    private final IndexColumnsFreeList freeList;
+
+    /** Sorted index tree instance. */
+    private final SortedIndexTree sortedIndexTree;
+
+    /** Partition storage that the index belongs to. */
+    private final MvPartitionStorage partitionStorage;
+
+    /** Partition id. */
+    private final int partitionId;
+
+    /**
+     * Constructor.
+     *
+     * @param descriptor Sorted index descriptor.
+     * @param partitionStorage Partition storage that the index belongs to.
+     * @param freeList Free list to store index columns.
+     * @param sortedIndexTree Sorted index tree instance.
+     */
+    public PageMemorySortedIndexStorage(
+            SortedIndexDescriptor descriptor,
+            MvPartitionStorage partitionStorage,
+            IndexColumnsFreeList freeList,
+            SortedIndexTree sortedIndexTree
+    ) {
+        this.descriptor = descriptor;
+        this.partitionStorage = partitionStorage;
+        this.freeList = freeList;
+        this.sortedIndexTree = sortedIndexTree;
+
+        partitionId = sortedIndexTree.partitionId();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SortedIndexDescriptor indexDescriptor() {
+        return descriptor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(IndexRow row) {
+        SortedIndexRow sortedIndexRow = toSortedIndexRow(row);
+
+        // Encoded columns are required to store the inline prefix.
+        sortedIndexTree.encodedColumns(sortedIndexRow);
+
+        var insert = new InsertSortedIndexRowInvokeClosure(sortedIndexRow, freeList, freeList.statHolder());
+
+        try {
+            sortedIndexTree.invoke(sortedIndexRow, null, insert);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to put value into index", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove(IndexRow row) {
+        SortedIndexRow sortedIndexRow = toSortedIndexRow(row);
+
+        var remove = new RemoveSortedIndexRowInvokeClosure(sortedIndexRow, freeList, freeList.statHolder());
+
+        try {
+            sortedIndexTree.invoke(sortedIndexRow, null, remove);
+
+            // Performs actual deletion from freeList if necessary.
+            remove.afterCompletion();
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to remove value from index", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Leaf pages of the tree are only linked in the forward direction, so a backwards scan looks every row up from the root of the
+     * tree, below the previously returned one.
+     */
+    @Override
+    public Cursor<IndexRow> scan(@Nullable BinaryTuple lowerBound, @Nullable BinaryTuple upperBound, int flags) {
+        boolean includeLower = (flags & GREATER_OR_EQUAL) != 0;
+        boolean includeUpper = (flags & LESS_OR_EQUAL) != 0;
+
+        // Bound keys never equal to the rows, the rows that start with the bound columns go either before or after them.
+        SortedIndexRowKey lower = lowerBound == null ? null : new SortedIndexRowKey(lowerBound, includeLower ? 1 : -1);
+        SortedIndexRowKey upper = upperBound == null ? null : new SortedIndexRowKey(upperBound, includeUpper ? -1 : 1);
+
+        if ((flags & BACKWARDS) != 0) {
+            return backwardsCursor(lower, upper);
+        }
+
+        IgniteCursor<SortedIndexRow> cursor;
+
+        try {
+            cursor = sortedIndexTree.find(lower, upper);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to create scan cursor", e);
+        }
+
+        return new Cursor<>() {
+            private Boolean hasNext;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    if (hasNext == null) {
+                        hasNext = cursor.next();
+                    }
+
+                    return hasNext;
+                } catch (IgniteInternalCheckedException e) {
+                    throw new StorageException("Failed to read next element from the tree", e);
+                }
+            }
+
+            @Override
+            public IndexRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                hasNext = null;
+
+                try {
+                    return cursor.get();
+                } catch (IgniteInternalCheckedException e) {
+                    throw new StorageException("Failed to read next element from the tree", e);
+                }
+            }
+
+            @Override
+            public void close() {
+                // No-op.
+            }
+        };
+    }
+
+    private Cursor<IndexRow> backwardsCursor(@Nullable SortedIndexRowKey lower, @Nullable SortedIndexRowKey upper) {
+        return new Cursor<>() {
+            /** Upper bound of the next row: the upper bound of the scan and then the previously returned row. */
+            private @Nullable SortedIndexRowKey nextUpper = upper;
+
+            private @Nullable SortedIndexRow next;
+
+            private boolean finished;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null && !finished) {
+                    try {
+                        // Bounds never equal to the rows, so only the previously returned row needs to be excluded.
+                        next = sortedIndexTree.findLast(lower, nextUpper, true, false, null);
+                    } catch (IgniteInternalCheckedException e) {
+                        throw new StorageException("Failed to read next element from the tree", e);
+                    }
+
+                    if (next == null) {
+                        finished = true;
+                    } else {
+                        nextUpper = next;
+                    }
+                }
+
+                return next != null;
+            }
+
+            @Override
+            public IndexRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                IndexRow row = next;
+
+                next = null;
+
+                return row;
+            }
+
+            @Override
+            public void close() {
+                // No-op.
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void destroy() {
+        partitionStorage.runConsistently(() -> {
+            try {
+                IgniteCursor<SortedIndexRow> cursor = sortedIndexTree.find(null, null);
+
+                // Rows are collected first, because the tree must not be modified while it's being iterated.
+                List<SortedIndexRow> rows = new ArrayList<>();
+
+                while (cursor.next()) {
+                    rows.add(cursor.get());
+                }
+
+                for (SortedIndexRow row : rows) {
+                    sortedIndexTree.removex(row);
+
+                    freeList.removeDataRowByLink(row.storedColumns().link(), freeList.statHolder());
+                }
+            } catch (IgniteInternalCheckedException e) {
+                throw new StorageException("Failed to destroy index", e);
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * Closes the sorted index storage.
+     */
+    public void close() {
+        sortedIndexTree.close();
+    }
+
+    private SortedIndexRow toSortedIndexRow(IndexRow row) {
+        IndexColumns indexColumns = new IndexColumns(partitionId, row.indexColumns().byteBuffer());
+
+        return new SortedIndexRow(row.indexColumns(), indexColumns, row.rowId());
+    }
+}
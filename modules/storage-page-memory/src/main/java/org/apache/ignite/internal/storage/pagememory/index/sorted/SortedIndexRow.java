@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted;
+
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.IndexRow;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumns;
+
+/**
+ * {@link IndexRow} implementation used in the {@link SortedIndexTree}.
+ */
+public class SortedIndexRow extends SortedIndexRowKey implements IndexRow {
+    /** Index columns stored in the free list. */
+    private final IndexColumns storedColumns;
+
+    /** Row id. */
+    private final RowId rowId;
+
+    /**
+     * Constructor.
+     *
+     * @param indexColumns Index columns.
+     * @param storedColumns Index columns stored in the free list, they must contain the same data as {@code indexColumns}.
+     * @param rowId Row id.
+     */
+    public SortedIndexRow(BinaryTuple indexColumns, IndexColumns storedColumns, RowId rowId) {
+        super(indexColumns, 0);
+
+        this.storedColumns = storedColumns;
+        this.rowId = rowId;
+    }
+
+    /**
+     * Returns the index columns stored in the free list.
+     */
+    public IndexColumns storedColumns() {
+        return storedColumns;
+    }
+
+    @Override
+    public RowId rowId() {
+        return rowId;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted;
+
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Key to search for a {@link SortedIndexRow} in the {@link SortedIndexTree}.
+ *
+ * <p>A key that is not a {@link SortedIndexRow} is a scan bound, it may contain only a prefix of the index columns. Such a key is
+ * never equal to a row, {@link #prefixComparison()} defines the position of the rows that start with the bound columns.
+ */
+public class SortedIndexRowKey {
+    private final BinaryTuple indexColumns;
+
+    private final int prefixComparison;
+
+    /** Index columns in the order-preserving encoding, calculated on demand. */
+    private byte @Nullable [] encodedColumns;
+
+    /**
+     * Constructor.
+     *
+     * @param indexColumns Index columns, possibly only a prefix of them.
+     * @param prefixComparison Result of the comparison of a row, that starts with the key columns, with the key: a positive value if
+     *      such rows go after the key and a negative value if they go before it.
+     */
+    public SortedIndexRowKey(BinaryTuple indexColumns, int prefixComparison) {
+        this.indexColumns = indexColumns;
+        this.prefixComparison = prefixComparison;
+    }
+
+    /**
+     * Returns the index columns.
+     */
+    public BinaryTuple indexColumns() {
+        return indexColumns;
+    }
+
+    /**
+     * Returns the result of the comparison of a row, that starts with the key columns, with the key.
+     */
+    public int prefixComparison() {
+        return prefixComparison;
+    }
+
+    /**
+     * Returns the index columns in the order-preserving encoding or {@code null} if they have not been encoded yet.
+     */
+    public byte @Nullable [] encodedColumns() {
+        return encodedColumns;
+    }
+
+    /**
+     * Sets the index columns in the order-preserving encoding.
+     */
+    public void encodedColumns(byte[] encodedColumns) {
+        this.encodedColumns = encodedColumns;
+    }
+}
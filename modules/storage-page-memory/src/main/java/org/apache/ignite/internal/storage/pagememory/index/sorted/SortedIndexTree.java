@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted;
+
+import static org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeIo.INLINE_SIZE_STEP;
+import static org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeIo.MAX_INLINE_SIZE;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.pagememory.PageMemory;
+import org.apache.ignite.internal.pagememory.datapage.DataPageReader;
+import org.apache.ignite.internal.pagememory.reuse.ReuseList;
+import org.apache.ignite.internal.pagememory.tree.BplusTree;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.pagememory.util.PageLockListener;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.BinaryTupleSchema;
+import org.apache.ignite.internal.schema.BinaryTupleSchema.Element;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor.ColumnDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexKeyEncoder;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumns;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.ReadIndexColumnsValue;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeInnerIo;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeIo;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeLeafIo;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.io.SortedIndexTreeMetaIo;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link BplusTree} implementation for storing {@link SortedIndexRow}.
+ *
+ * <p>Every tree item contains a fixed-length prefix of the index columns in the order-preserving encoding, so most of the comparisons
+ * don't have to read the index columns from the free list. The size of the prefix is derived from the index column types, see
+ * {@link #inlineSize(SortedIndexDescriptor)}.
+ */
+public class SortedIndexTree extends BplusTree<SortedIndexRowKey, SortedIndexRow> {
+    /** Inline size of a variable length column: null flag and the first bytes of the value. */
+    private static final int VARLEN_COLUMN_INLINE_SIZE = 1 + 15;
+
+    /** Data page reader instance to read payload from data pages. */
+    private final DataPageReader dataPageReader;
+
+    /** Index descriptor. */
+    private final SortedIndexDescriptor descriptor;
+
+    /** Schema of the index columns. */
+    private final BinaryTupleSchema tupleSchema;
+
+    /** Size of the inline prefix of the index columns. */
+    private final int inlineSize;
+
+    /**
+     * Constructor.
+     *
+     * @param grpId Group ID.
+     * @param grpName Group name.
+     * @param partId Partition ID.
+     * @param pageMem Page memory.
+     * @param lockLsnr Page lock listener.
+     * @param globalRmvId Remove ID.
+     * @param metaPageId Meta page ID.
+     * @param reuseList Reuse list.
+     * @param descriptor Index descriptor.
+     * @param initNew {@code True} if new tree should be created.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public SortedIndexTree(
+            int grpId,
+            @Nullable String grpName,
+            int partId,
+            PageMemory pageMem,
+            PageLockListener lockLsnr,
+            AtomicLong globalRmvId,
+            long metaPageId,
+            @Nullable ReuseList reuseList,
+            SortedIndexDescriptor descriptor,
+            boolean initNew
+    ) throws IgniteInternalCheckedException {
+        super("SortedIndexTree_" + grpId, grpId, grpName, partId, pageMem, lockLsnr, globalRmvId, metaPageId, reuseList);
+
+        this.descriptor = descriptor;
+
+        tupleSchema = BinaryTupleSchema.create(descriptor.indexColumns().stream()
+                .map(column -> new Element(column.type(), column.nullable()))
+                .toArray(Element[]::new));
+
+        inlineSize = inlineSize(descriptor);
+
+        setIos(
+                SortedIndexTreeInnerIo.versions(inlineSize),
+                SortedIndexTreeLeafIo.versions(inlineSize),
+                SortedIndexTreeMetaIo.VERSIONS
+        );
+
+        dataPageReader = new DataPageReader(pageMem, grpId, statisticsHolder());
+
+        initTree(initNew);
+    }
+
+    /**
+     * Returns a partition id.
+     */
+    public int partitionId() {
+        return partId;
+    }
+
+    /**
+     * Returns a data page reader instance to read payload from data pages.
+     */
+    public DataPageReader dataPageReader() {
+        return dataPageReader;
+    }
+
+    /**
+     * Returns the index descriptor.
+     */
+    public SortedIndexDescriptor descriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Returns the schema of the index columns.
+     */
+    public BinaryTupleSchema tupleSchema() {
+        return tupleSchema;
+    }
+
+    /**
+     * Returns the size of the inline prefix of the index columns.
+     */
+    public int inlineSize() {
+        return inlineSize;
+    }
+
+    /**
+     * Returns the index columns of the key in the order-preserving encoding, encoding them if necessary.
+     *
+     * @param rowKey Row key.
+     * @return Encoded index columns.
+     */
+    public byte[] encodedColumns(SortedIndexRowKey rowKey) {
+        byte[] encodedColumns = rowKey.encodedColumns();
+
+        if (encodedColumns == null) {
+            encodedColumns = new SortedIndexKeyEncoder(descriptor).encode(rowKey.indexColumns());
+
+            rowKey.encodedColumns(encodedColumns);
+        }
+
+        return encodedColumns;
+    }
+
+    /**
+     * Reads the index columns from the free list and encodes them in the order-preserving encoding.
+     *
+     * @param link Index columns link.
+     * @return Encoded index columns.
+     * @throws IgniteInternalCheckedException If failed to read payload from data pages.
+     */
+    public byte[] readEncodedColumns(long link) throws IgniteInternalCheckedException {
+        return new SortedIndexKeyEncoder(descriptor).encode(new BinaryTuple(tupleSchema, readIndexColumns(link)));
+    }
+
+    /**
+     * Reads a sorted index row with the index columns from the free list.
+     *
+     * @param link Index columns link.
+     * @param rowId Row ID.
+     * @return Sorted index row.
+     * @throws IgniteInternalCheckedException If failed to read payload from data pages.
+     */
+    public SortedIndexRow readRow(long link, RowId rowId) throws IgniteInternalCheckedException {
+        byte[] bytes = readIndexColumns(link);
+
+        IndexColumns storedColumns = new IndexColumns(partId, link, ByteBuffer.wrap(bytes));
+
+        return new SortedIndexRow(new BinaryTuple(tupleSchema, bytes), storedColumns, rowId);
+    }
+
+    private byte[] readIndexColumns(long link) throws IgniteInternalCheckedException {
+        ReadIndexColumnsValue indexColumnsTraversal = new ReadIndexColumnsValue();
+
+        dataPageReader.traverse(link, indexColumnsTraversal, null);
+
+        return indexColumnsTraversal.result();
+    }
+
+    @Override
+    protected int compare(BplusIo<SortedIndexRowKey> io, long pageAddr, int idx, SortedIndexRowKey row)
+            throws IgniteInternalCheckedException {
+        SortedIndexTreeIo sortedIndexTreeIo = (SortedIndexTreeIo) io;
+
+        return sortedIndexTreeIo.compare(this, pageAddr, idx, row);
+    }
+
+    @Override
+    public SortedIndexRow getRow(BplusIo<SortedIndexRowKey> io, long pageAddr, int idx, Object x) throws IgniteInternalCheckedException {
+        SortedIndexTreeIo sortedIndexTreeIo = (SortedIndexTreeIo) io;
+
+        return sortedIndexTreeIo.getRow(this, pageAddr, idx);
+    }
+
+    /**
+     * Calculates the size of the inline prefix of the index columns.
+     *
+     * <p>The size only depends on the column types, so it's the same every time the tree is restored. Fixed length columns are
+     * inlined completely, variable length columns contribute a constant number of bytes. The size is rounded up to a multiple of
+     * {@link SortedIndexTreeIo#INLINE_SIZE_STEP} and is limited by {@link SortedIndexTreeIo#MAX_INLINE_SIZE}.
+     *
+     * @param descriptor Index descriptor.
+     * @return Inline size in bytes.
+     */
+    public static int inlineSize(SortedIndexDescriptor descriptor) {
+        int size = 0;
+
+        for (ColumnDescriptor column : descriptor.indexColumns()) {
+            size += columnInlineSize(column);
+
+            if (size >= MAX_INLINE_SIZE) {
+                return MAX_INLINE_SIZE;
+            }
+        }
+
+        return (size + INLINE_SIZE_STEP - 1) / INLINE_SIZE_STEP * INLINE_SIZE_STEP;
+    }
+
+    /**
+     * Returns the number of bytes a column takes in the order-preserving encoding, including the null flag.
+     */
+    private static int columnInlineSize(ColumnDescriptor column) {
+        switch (column.type().spec()) {
+            case INT8:
+                return 1 + Byte.BYTES;
+
+            case INT16:
+                return 1 + Short.BYTES;
+
+            case INT32:
+            case FLOAT:
+                return 1 + Integer.BYTES;
+
+            case INT64:
+            case DOUBLE:
+            case TIME:
+                return 1 + Long.BYTES;
+
+            case UUID:
+                return 1 + 2 * Long.BYTES;
+
+            case DATE:
+                return 1 + Integer.BYTES + 2;
+
+            case DATETIME:
+                return 1 + Integer.BYTES + 2 + Long.BYTES;
+
+            case TIMESTAMP:
+                return 1 + Long.BYTES + Integer.BYTES;
+
+            default:
+                return VARLEN_COLUMN_INLINE_SIZE;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted.io;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.pagememory.io.IoVersions;
+import org.apache.ignite.internal.pagememory.tree.BplusTree;
+import org.apache.ignite.internal.pagememory.tree.io.BplusInnerIo;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.storage.pagememory.index.IndexPageTypes;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexRow;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexRowKey;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexTree;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+
+/**
+ * {@link BplusInnerIo} implementation for {@link SortedIndexTree}.
+ */
+public class SortedIndexTreeInnerIo extends BplusInnerIo<SortedIndexRowKey> implements SortedIndexTreeIo {
+    /** I/O versions for every inline size, from {@code 0} to {@link #MAX_INLINE_SIZE} with a step of {@link #INLINE_SIZE_STEP}. */
+    public static final List<IoVersions<SortedIndexTreeInnerIo>> VERSIONS = IntStream.rangeClosed(0, MAX_INLINE_SIZE / INLINE_SIZE_STEP)
+            .mapToObj(i -> new IoVersions<>(new SortedIndexTreeInnerIo(1, i * INLINE_SIZE_STEP)))
+            .collect(Collectors.toUnmodifiableList());
+
+    /** Size of the inline prefix of the index columns. */
+    private final int inlineSize;
+
+    /**
+     * Constructor.
+     *
+     * @param ver Page format version.
+     * @param inlineSize Size of the inline prefix of the index columns.
+     */
+    protected SortedIndexTreeInnerIo(int ver, int inlineSize) {
+        super(IndexPageTypes.T_SORTED_INDEX_INNER_IO_START + inlineSize / INLINE_SIZE_STEP, ver, true, inlineSize + LINK_AND_ROW_ID_SIZE);
+
+        this.inlineSize = inlineSize;
+    }
+
+    /**
+     * Returns I/O versions for the inline size.
+     *
+     * @param inlineSize Size of the inline prefix of the index columns.
+     */
+    public static IoVersions<SortedIndexTreeInnerIo> versions(int inlineSize) {
+        assert inlineSize >= 0 && inlineSize <= MAX_INLINE_SIZE && inlineSize % INLINE_SIZE_STEP == 0 : inlineSize;
+
+        return VERSIONS.get(inlineSize / INLINE_SIZE_STEP);
+    }
+
+    @Override
+    public int inlineSize() {
+        return inlineSize;
+    }
+
+    @Override
+    public void store(long dstPageAddr, int dstIdx, BplusIo<SortedIndexRowKey> srcIo, long srcPageAddr, int srcIdx) {
+        SortedIndexTreeIo.super.store(dstPageAddr, dstIdx, srcIo, srcPageAddr, srcIdx);
+    }
+
+    @Override
+    public void storeByOffset(long pageAddr, int off, SortedIndexRowKey row) {
+        SortedIndexTreeIo.super.storeByOffset(pageAddr, off, row);
+    }
+
+    @Override
+    public SortedIndexRowKey getLookupRow(BplusTree<SortedIndexRowKey, ?> tree, long pageAddr, int idx)
+            throws IgniteInternalCheckedException {
+        SortedIndexTree sortedIndexTree = (SortedIndexTree) tree;
+
+        SortedIndexRow row = getRow(sortedIndexTree, pageAddr, idx);
+
+        // Lookup rows may be stored into other pages, which requires the encoded columns.
+        sortedIndexTree.encodedColumns(row);
+
+        return row;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.index.sorted.io;
+
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getByte;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putByte;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putBytes;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
+import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.PARTITIONLESS_LINK_SIZE_BYTES;
+import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.readPartitionlessLink;
+import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.writePartitionlessLink;
+
+import java.util.Arrays;
+import org.apache.ignite.internal.pagememory.tree.io.BplusIo;
+import org.apache.ignite.internal.pagememory.util.PageUtils;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.SortedIndexKeyEncoder;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexRow;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexRowKey;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexTree;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+
+/**
+ * Interface for {@link SortedIndexTree} B+Tree-related IO.
+ *
+ * <p>Defines a following data layout:
+ * <ul>
+ *     <li>Inline prefix of the index columns - first {@link #inlineSize()} bytes of the columns in the order-preserving encoding
+ *     (see {@link SortedIndexKeyEncoder}), padded with zeros;</li>
+ *     <li>Index columns link - 6 bytes;</li>
+ *     <li>Row ID - {@link RowId} (16 bytes).</li>
+ * </ul>
+ *
+ * <p>Inline prefixes are compared as unsigned bytes, the index columns are only read from the free list if the prefixes are equal and
+ * the searched key doesn't fit into the inline prefix.
+ */
+public interface SortedIndexTreeIo {
+    /** Inline sizes are multiples of this value, there is a separate IO type for every inline size. */
+    int INLINE_SIZE_STEP = 8;
+
+    /** Maximum inline size. */
+    int MAX_INLINE_SIZE = 64;
+
+    /** Size of the item without the inline prefix: index columns link and Row ID. */
+    int LINK_AND_ROW_ID_SIZE = PARTITIONLESS_LINK_SIZE_BYTES + 2 * Long.BYTES;
+
+    /**
+     * Returns an offset of the element inside the page.
+     *
+     * @see BplusIo#offset(int)
+     */
+    int offset(int idx);
+
+    /**
+     * Returns the size of the inline prefix of the index columns.
+     */
+    int inlineSize();
+
+    /**
+     * Stores a sorted index row, copied from another page.
+     *
+     * @see BplusIo#store(long, int, BplusIo, long, int)
+     */
+    default void store(long dstPageAddr, int dstIdx, BplusIo<SortedIndexRowKey> srcIo, long srcPageAddr, int srcIdx) {
+        assert ((SortedIndexTreeIo) srcIo).inlineSize() == inlineSize();
+
+        int dstOffset = offset(dstIdx);
+        int srcOffset = offset(srcIdx);
+
+        PageUtils.copyMemory(srcPageAddr, srcOffset, dstPageAddr, dstOffset, inlineSize() + LINK_AND_ROW_ID_SIZE);
+    }
+
+    /**
+     * Stores a sorted index row in the page.
+     *
+     * @see BplusIo#storeByOffset(long, int, Object)
+     */
+    default void storeByOffset(long pageAddr, int off, SortedIndexRowKey rowKey) {
+        assert rowKey instanceof SortedIndexRow;
+
+        SortedIndexRow row = (SortedIndexRow) rowKey;
+
+        byte[] encodedColumns = row.encodedColumns();
+
+        assert encodedColumns != null;
+
+        int inlineSize = inlineSize();
+
+        int len = Math.min(inlineSize, encodedColumns.length);
+
+        putBytes(pageAddr, off, encodedColumns, 0, len);
+
+        for (int i = len; i < inlineSize; i++) {
+            putByte(pageAddr, off + i, (byte) 0);
+        }
+
+        writePartitionlessLink(pageAddr + off + inlineSize, row.storedColumns().link());
+
+        RowId rowId = row.rowId();
+
+        putLong(pageAddr, off + inlineSize + PARTITIONLESS_LINK_SIZE_BYTES, rowId.mostSignificantBits());
+        putLong(pageAddr, off + inlineSize + PARTITIONLESS_LINK_SIZE_BYTES + Long.BYTES, rowId.leastSignificantBits());
+    }
+
+    /**
+     * Compare the {@link SortedIndexRowKey} from the page with passed {@link SortedIndexRowKey}.
+     *
+     * @param tree Tree that the page belongs to.
+     * @param pageAddr Page address.
+     * @param idx Element's index.
+     * @param rowKey Lookup index row key.
+     * @return Comparison result.
+     * @throws IgniteInternalCheckedException If failed to read the index columns from the free list.
+     */
+    default int compare(SortedIndexTree tree, long pageAddr, int idx, SortedIndexRowKey rowKey) throws IgniteInternalCheckedException {
+        int off = offset(idx);
+
+        int inlineSize = inlineSize();
+
+        byte[] key = tree.encodedColumns(rowKey);
+
+        int inlineLen = Math.min(inlineSize, key.length);
+
+        for (int i = 0; i < inlineLen; i++) {
+            int cmp = Integer.compare(Byte.toUnsignedInt(getByte(pageAddr, off + i)), Byte.toUnsignedInt(key[i]));
+
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+
+        // Encoded columns are self-delimiting, so a key that fits into the inline prefix is either a prefix of the stored columns or
+        // differs from them inside of the inline prefix.
+        if (key.length > inlineSize) {
+            long link = readPartitionlessLink(tree.partitionId(), pageAddr, off + inlineSize);
+
+            byte[] stored = tree.readEncodedColumns(link);
+
+            int mismatch = Arrays.mismatch(stored, key);
+
+            if (mismatch >= 0 && mismatch < key.length) {
+                return mismatch == stored.length
+                        ? -1
+                        : Integer.compare(Byte.toUnsignedInt(stored[mismatch]), Byte.toUnsignedInt(key[mismatch]));
+            }
+        }
+
+        if (!(rowKey instanceof SortedIndexRow)) {
+            return rowKey.prefixComparison();
+        }
+
+        RowId rowId = ((SortedIndexRow) rowKey).rowId();
+
+        int cmp = Long.compare(getLong(pageAddr, off + inlineSize + PARTITIONLESS_LINK_SIZE_BYTES), rowId.mostSignificantBits());
+
+        if (cmp != 0) {
+            return cmp;
+        }
+
+        return Long.compare(getLong(pageAddr, off + inlineSize + PARTITIONLESS_LINK_SIZE_BYTES + Long.BYTES), rowId.leastSignificantBits());
+    }
+
+    /**
+     * Reads a sorted index row value.
+     *
+     * @param tree Tree that the page belongs to.
+     * @param pageAddr Page address.
+     * @param idx Element's index.
+     * @return Sorted index row.
+     * @throws IgniteInternalCheckedException If failed to read the index columns from the free list.
+     */
+    default SortedIndexRow getRow(SortedIndexTree tree, long pageAddr, int idx) throws IgniteInternalCheckedException {
+        int off = offset(idx);
+
+        int inlineSize = inlineSize();
+
+        long link = readPartitionlessLink(tree.partitionId(), pageAddr, off + inlineSize);
+
+        long rowIdMsb = getLong(pageAddr, off + inlineSize + PARTITIONLESS_LINK_SIZE_BYTES);
+        long rowIdLsb = getLong(pageAddr, off + inlineSize + PARTITIONLESS_LINK_SIZE_BYTES + Long.BYTES);
+
+        return tree.readRow(link, new RowId(tree.partitionId(), rowIdMsb, rowIdLsb));
+    }
+}
@@ -17,11 +17,19 @@
 
 package org.apache.ignite.internal.storage.pagememory.mv;
 
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import org.apache.ignite.configuration.schemas.table.TableView;
@@ -29,12 +37,23 @@ import org.apache.ignite.hlc.HybridTimestamp;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.datapage.DataPageReader;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ByteBufferRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.TxIdMismatchException;
+import org.apache.ignite.internal.storage.VacuumResult;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
+import org.apache.ignite.internal.storage.pagememory.index.hash.HashIndexTree;
+import org.apache.ignite.internal.storage.pagememory.index.hash.PageMemoryHashIndexStorage;
+import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMeta;
+import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMetaTree;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.PageMemorySortedIndexStorage;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexTree;
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.IgniteCursor;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -52,13 +71,28 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
 
     private static final Predicate<HybridTimestamp> ALWAYS_LOAD_VALUE = timestamp -> true;
 
+    private static final Predicate<HybridTimestamp> NEVER_LOAD_VALUE = timestamp -> false;
+
+    /** Maximum number of the rows written by a single {@link #runConsistently} closure during a bulk load. */
+    private static final int BULK_LOAD_BATCH_SIZE = 1_000;
+
     private final int partitionId;
     private final int groupId;
 
+    private final TableView tableView;
+    private final PageMemory pageMemory;
+
     private final VersionChainTree versionChainTree;
     protected final RowVersionFreeList rowVersionFreeList;
     private final DataPageReader rowVersionDataPageReader;
 
+    protected final IndexColumnsFreeList indexFreeList;
+    private final IndexMetaTree indexMetaTree;
+
+    private final ConcurrentMap<UUID, PageMemoryHashIndexStorage> hashIndexes = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<UUID, PageMemorySortedIndexStorage> sortedIndexes = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      *
@@ -67,24 +101,145 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
      * @param pageMemory Page memory.
      * @param rowVersionFreeList Free list for {@link RowVersion}.
      * @param versionChainTree Table tree for {@link VersionChain}.
+     * @param indexFreeList Free list for index columns.
+     * @param indexMetaTree Tree that maps index ids to the root pages of index trees.
      */
     protected AbstractPageMemoryMvPartitionStorage(
             int partitionId,
             TableView tableView,
             PageMemory pageMemory,
             RowVersionFreeList rowVersionFreeList,
-            VersionChainTree versionChainTree
+            VersionChainTree versionChainTree,
+            IndexColumnsFreeList indexFreeList,
+            IndexMetaTree indexMetaTree
     ) {
         this.partitionId = partitionId;
+        this.tableView = tableView;
+        this.pageMemory = pageMemory;
 
         this.rowVersionFreeList = rowVersionFreeList;
         this.versionChainTree = versionChainTree;
 
+        this.indexFreeList = indexFreeList;
+        this.indexMetaTree = indexMetaTree;
+
         groupId = tableView.tableId();
 
         rowVersionDataPageReader = new DataPageReader(pageMemory, groupId, IoStatisticsHolderNoOp.INSTANCE);
     }
 
+    /**
+     * Returns a hash index instance, creating it if necessary.
+     *
+     * <p>Index trees are registered in the partition's index meta tree, so the data of the index is restored after the node restart.
+     *
+     * @param indexDescriptor Index descriptor.
+     * @throws StorageException If failed to create or restore the index tree.
+     */
+    public PageMemoryHashIndexStorage getOrCreateHashIndex(HashIndexDescriptor indexDescriptor) {
+        return hashIndexes.computeIfAbsent(indexDescriptor.id(), id -> runConsistently(() -> createOrRestoreHashIndex(indexDescriptor)));
+    }
+
+    private PageMemoryHashIndexStorage createOrRestoreHashIndex(HashIndexDescriptor indexDescriptor) {
+        try {
+            IndexMeta indexMeta = indexMetaTree.findOne(new IndexMeta(indexDescriptor.id(), 0L));
+
+            boolean initNew = indexMeta == null;
+
+            if (initNew) {
+                indexMeta = createIndexMeta(indexDescriptor.id());
+            }
+
+            HashIndexTree hashIndexTree = new HashIndexTree(
+                    groupId,
+                    tableView.name(),
+                    partitionId,
+                    pageMemory,
+                    PageLockListenerNoOp.INSTANCE,
+                    new AtomicLong(),
+                    indexMeta.rootPageId(),
+                    indexFreeList,
+                    initNew
+            );
+
+            return new PageMemoryHashIndexStorage(indexDescriptor, this, indexFreeList, hashIndexTree);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException(
+                    String.format("Error creating hash index [tableName=%s, partitionId=%s, indexId=%s]",
+                            tableView.name(), partitionId, indexDescriptor.id()),
+                    e
+            );
+        }
+    }
+
+    /**
+     * Returns a sorted index instance, creating it if necessary.
+     *
+     * <p>Index trees are registered in the partition's index meta tree, so the data of the index is restored after the node restart.
+     *
+     * @param indexDescriptor Index descriptor.
+     * @throws StorageException If failed to create or restore the index tree.
+     */
+    public PageMemorySortedIndexStorage getOrCreateSortedIndex(SortedIndexDescriptor indexDescriptor) {
+        return sortedIndexes.computeIfAbsent(
+                indexDescriptor.id(),
+                id -> runConsistently(() -> createOrRestoreSortedIndex(indexDescriptor))
+        );
+    }
+
+    /**
+     * Returns a sorted index instance which has already been created or restored by {@link #getOrCreateSortedIndex}.
+     *
+     * @param indexId Index ID.
+     * @return Index storage or {@code null} if it has not been created or restored yet.
+     */
+    public @Nullable PageMemorySortedIndexStorage getSortedIndex(UUID indexId) {
+        return sortedIndexes.get(indexId);
+    }
+
+    private PageMemorySortedIndexStorage createOrRestoreSortedIndex(SortedIndexDescriptor indexDescriptor) {
+        try {
+            IndexMeta indexMeta = indexMetaTree.findOne(new IndexMeta(indexDescriptor.id(), 0L));
+
+            boolean initNew = indexMeta == null;
+
+            if (initNew) {
+                indexMeta = createIndexMeta(indexDescriptor.id());
+            }
+
+            SortedIndexTree sortedIndexTree = new SortedIndexTree(
+                    groupId,
+                    tableView.name(),
+                    partitionId,
+                    pageMemory,
+                    PageLockListenerNoOp.INSTANCE,
+                    new AtomicLong(),
+                    indexMeta.rootPageId(),
+                    indexFreeList,
+                    indexDescriptor,
+                    initNew
+            );
+
+            return new PageMemorySortedIndexStorage(indexDescriptor, this, indexFreeList, sortedIndexTree);
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException(
+                    String.format("Error creating sorted index [tableName=%s, partitionId=%s, indexId=%s]",
+                            tableView.name(), partitionId, indexDescriptor.id()),
+                    e
+            );
+        }
+    }
+
+    private IndexMeta createIndexMeta(UUID indexId) throws IgniteInternalCheckedException {
+        IndexMeta indexMeta = new IndexMeta(indexId, pageMemory.allocatePage(groupId, partitionId, FLAG_AUX));
+
+        boolean replaced = indexMetaTree.putx(indexMeta);
+
+        assert !replaced : indexMeta;
+
+        return indexMeta;
+    }
+
     /** {@inheritDoc} */
     @Override
     public @Nullable BinaryRow read(RowId rowId, UUID txId) throws TxIdMismatchException, StorageException {
@@ -97,6 +252,28 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         return findLatestRowVersion(versionChain, txId, MATCH_ALL);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<BinaryRow> readAll(List<RowId> rowIds, UUID txId) throws TxIdMismatchException, StorageException {
+        BinaryRow[] res = new BinaryRow[rowIds.size()];
+
+        // Lookups are performed in the order of the version chain tree, so that consecutive descents share most of the inner pages,
+        // which are then likely to be found in the CPU caches.
+        Integer[] order = new Integer[res.length];
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (i1, i2) -> compareRowIds(rowIds.get(i1), rowIds.get(i2)));
+
+        for (int i : order) {
+            res[i] = read(rowIds.get(i), txId);
+        }
+
+        return Arrays.asList(res);
+    }
+
     /** {@inheritDoc} */
     @Override
     public @Nullable BinaryRow read(RowId rowId, HybridTimestamp timestamp) throws StorageException {
@@ -109,6 +286,15 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         return findRowVersionByTimestamp(versionChain, timestamp);
     }
 
+    /**
+     * Compares row ids in the order of the {@link VersionChainTree}.
+     */
+    private static int compareRowIds(RowId rowId1, RowId rowId2) {
+        int cmp = Long.compare(rowId1.mostSignificantBits(), rowId2.mostSignificantBits());
+
+        return cmp != 0 ? cmp : Long.compare(rowId1.leastSignificantBits(), rowId2.leastSignificantBits());
+    }
+
     private @Nullable VersionChain findVersionChain(RowId rowId) {
         try {
             return versionChainTree.findOne(new VersionChainKey(rowId));
@@ -330,6 +516,47 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void bulkLoad(Map<RowId, BinaryRow> rows, HybridTimestamp timestamp) throws StorageException {
+        // Version chains are inserted in the order of the tree, so that consecutive insertions go to the same leaf page.
+        List<RowId> rowIds = new ArrayList<>(rows.keySet());
+
+        rowIds.sort(AbstractPageMemoryMvPartitionStorage::compareRowIds);
+
+        for (int from = 0; from < rowIds.size(); from += BULK_LOAD_BATCH_SIZE) {
+            List<RowId> batch = rowIds.subList(from, Math.min(from + BULK_LOAD_BATCH_SIZE, rowIds.size()));
+
+            runConsistently(() -> {
+                bulkLoadBatch(batch, rows, timestamp);
+
+                return null;
+            });
+        }
+    }
+
+    private void bulkLoadBatch(List<RowId> rowIds, Map<RowId, BinaryRow> rows, HybridTimestamp timestamp) {
+        List<RowVersion> rowVersions = new ArrayList<>(rowIds.size());
+
+        for (RowId rowId : rowIds) {
+            // TODO IGNITE-16913 Add proper way to write row bytes into array without allocations.
+            rowVersions.add(new RowVersion(partitionId, 0, timestamp, NULL_LINK, ByteBuffer.wrap(rows.get(rowId).bytes())));
+        }
+
+        try {
+            // Committed versions are written at once, filling the data pages one by one.
+            rowVersionFreeList.insertDataRows(rowVersions);
+
+            for (int i = 0; i < rowIds.size(); i++) {
+                VersionChain oldChain = versionChainTree.put(new VersionChain(rowIds.get(i), null, rowVersions.get(i).link(), NULL_LINK));
+
+                assert oldChain == null : "Bulk loaded row already exists: " + oldChain;
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Cannot bulk load rows", e);
+        }
+    }
+
     private void removeRowVersion(RowVersion currentVersion) {
         try {
             rowVersionFreeList.removeDataRowByLink(currentVersion.link());
@@ -372,6 +599,167 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         return new ScanCursor(treeCursor, keyFilter, txId, timestamp);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public VacuumResult vacuum(HybridTimestamp lowWatermark, @Nullable RowId lowerBound, int limit) throws StorageException {
+        return runConsistently(() -> {
+            int chains = 0;
+            int versions = 0;
+            int removedVersions = 0;
+            int maxChainLength = 0;
+
+            try {
+                VersionChainKey lower = lowerBound == null ? null : new VersionChainKey(lowerBound);
+
+                IgniteCursor<VersionChain> treeCursor = versionChainTree.find(lower, null);
+
+                while (treeCursor.next()) {
+                    VersionChain versionChain = treeCursor.get();
+
+                    if (chains == limit) {
+                        return new VacuumResult(chains, versions, removedVersions, maxChainLength, versionChain.rowId());
+                    }
+
+                    chains++;
+
+                    int chainLength = versionChain.isUncommitted() ? 1 : 0;
+
+                    if (versionChain.hasCommittedVersions()) {
+                        RowVersion visibleVersion = null;
+
+                        // Only the headers of the versions are read, the chain is walked until the newest version that is visible at
+                        // the low watermark, the rest of the versions are garbage.
+                        long link = versionChain.newestCommittedLink();
+
+                        while (link != NULL_LINK && visibleVersion == null) {
+                            RowVersion rowVersion = readRowVersion(link, NEVER_LOAD_VALUE);
+
+                            assert rowVersion.isCommitted() : rowVersion;
+
+                            chainLength++;
+
+                            if (rowVersion.timestamp().compareTo(lowWatermark) <= 0) {
+                                visibleVersion = rowVersion;
+                            }
+
+                            link = rowVersion.nextLink();
+                        }
+
+                        if (visibleVersion != null && visibleVersion.hasNextLink()) {
+                            // The chain is cut first, so that the versions are never reachable after they are removed.
+                            rowVersionFreeList.updateNextLink(visibleVersion.link(), NULL_LINK);
+
+                            link = visibleVersion.nextLink();
+
+                            while (link != NULL_LINK) {
+                                RowVersion rowVersion = readRowVersion(link, NEVER_LOAD_VALUE);
+
+                                removeRowVersion(rowVersion);
+
+                                chainLength++;
+                                removedVersions++;
+
+                                link = rowVersion.nextLink();
+                            }
+                        }
+                    }
+
+                    versions += chainLength;
+                    maxChainLength = Math.max(maxChainLength, chainLength);
+                }
+            } catch (IgniteInternalCheckedException e) {
+                throw new StorageException("Failed to vacuum the partition", e);
+            }
+
+            return new VacuumResult(chains, versions, removedVersions, maxChainLength, null);
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable RowId scanVersions(@Nullable RowId lowerBound, int limit, BiConsumer<RowId, BinaryRow> consumer)
+            throws StorageException {
+        int chains = 0;
+
+        try {
+            VersionChainKey lower = lowerBound == null ? null : new VersionChainKey(lowerBound);
+
+            IgniteCursor<VersionChain> treeCursor = versionChainTree.find(lower, null);
+
+            while (treeCursor.next()) {
+                VersionChain versionChain = treeCursor.get();
+
+                if (chains == limit) {
+                    return versionChain.rowId();
+                }
+
+                chains++;
+
+                for (long link = versionChain.headLink(); link != NULL_LINK; ) {
+                    RowVersion rowVersion = readRowVersion(link, ALWAYS_LOAD_VALUE);
+
+                    ByteBufferRow row = rowVersionToBinaryRow(rowVersion);
+
+                    if (row != null) {
+                        consumer.accept(versionChain.rowId(), row);
+                    }
+
+                    link = rowVersion.nextLink();
+                }
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to scan the versions of the partition", e);
+        }
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable RowId indexBuildProgress(UUID indexId) throws StorageException {
+        IndexMeta indexMeta = findIndexMeta(indexId);
+
+        UUID nextRowIdToBuild = indexMeta == null ? null : indexMeta.nextRowIdToBuild();
+
+        return nextRowIdToBuild == null
+                ? null
+                : new RowId(partitionId, nextRowIdToBuild.getMostSignificantBits(), nextRowIdToBuild.getLeastSignificantBits());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean indexBuilt(UUID indexId) throws StorageException {
+        IndexMeta indexMeta = findIndexMeta(indexId);
+
+        return indexMeta != null && indexMeta.built();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void indexBuildProgress(UUID indexId, @Nullable RowId nextRowId) throws StorageException {
+        IndexMeta indexMeta = findIndexMeta(indexId);
+
+        if (indexMeta == null) {
+            throw new StorageException("Index is not found in the partition [partitionId=" + partitionId + ", indexId=" + indexId + ']');
+        }
+
+        UUID nextRowIdToBuild = nextRowId == null ? null : new UUID(nextRowId.mostSignificantBits(), nextRowId.leastSignificantBits());
+
+        try {
+            indexMetaTree.putx(new IndexMeta(indexId, indexMeta.rootPageId(), nextRowIdToBuild, nextRowId == null));
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Failed to save the index build progress [indexId=" + indexId + ']', e);
+        }
+    }
+
+    private @Nullable IndexMeta findIndexMeta(UUID indexId) {
+        try {
+            return indexMetaTree.findOne(new IndexMeta(indexId, 0L));
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Index meta lookup failed [indexId=" + indexId + ']', e);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public long rowsCount() {
@@ -392,6 +780,12 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
     @Override
     public void close() {
         versionChainTree.close();
+
+        hashIndexes.values().forEach(PageMemoryHashIndexStorage::close);
+
+        sortedIndexes.values().forEach(PageMemorySortedIndexStorage::close);
+
+        indexMetaTree.close();
     }
 
     /**
@@ -34,6 +34,8 @@ import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.pagememory.PersistentPageMemoryTableStorage;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PersistentPageMemoryStorageEngineView;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
+import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMetaTree;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.jetbrains.annotations.Nullable;
@@ -71,6 +73,8 @@ public class PersistentPageMemoryMvPartitionStorage extends AbstractPageMemoryMv
      * @param meta Partition meta.
      * @param rowVersionFreeList Free list for {@link RowVersion}.
      * @param versionChainTree Table tree for {@link VersionChain}.
+     * @param indexFreeList Free list for index columns.
+     * @param indexMetaTree Tree that maps index ids to the root pages of index trees.
      */
     public PersistentPageMemoryMvPartitionStorage(
             PersistentPageMemoryTableStorage tableStorage,
@@ -80,9 +84,11 @@ public class PersistentPageMemoryMvPartitionStorage extends AbstractPageMemoryMv
             CheckpointManager checkpointManager,
             PartitionMeta meta,
             RowVersionFreeList rowVersionFreeList,
-            VersionChainTree versionChainTree
+            VersionChainTree versionChainTree,
+            IndexColumnsFreeList indexFreeList,
+            IndexMetaTree indexMetaTree
     ) {
-        super(partitionId, tableView, dataRegion.pageMemory(), rowVersionFreeList, versionChainTree);
+        super(partitionId, tableView, dataRegion.pageMemory(), rowVersionFreeList, versionChainTree, indexFreeList, indexMetaTree);
 
         this.tableStorage = tableStorage;
 
@@ -184,6 +190,7 @@ public class PersistentPageMemoryMvPartitionStorage extends AbstractPageMemoryMv
     private void syncMetadataOnCheckpoint(@Nullable Executor executor) throws IgniteInternalCheckedException {
         if (executor == null) {
             rowVersionFreeList.saveMetadata();
+            indexFreeList.saveMetadata();
         } else {
             executor.execute(() -> {
                 try {
@@ -192,6 +199,14 @@ public class PersistentPageMemoryMvPartitionStorage extends AbstractPageMemoryMv
                     throw new IgniteInternalException("Failed to save RowVersionFreeList metadata", e);
                 }
             });
+
+            executor.execute(() -> {
+                try {
+                    indexFreeList.saveMetadata();
+                } catch (IgniteInternalCheckedException e) {
+                    throw new IgniteInternalException("Failed to save IndexColumnsFreeList metadata", e);
+                }
+            });
         }
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.pagememory.mv;
 
+import java.util.Collection;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.hlc.HybridTimestamp;
 import org.apache.ignite.internal.logger.IgniteLogger;
@@ -43,6 +44,8 @@ public class RowVersionFreeList extends AbstractFreeList<RowVersion> {
 
     private final UpdateTimestampHandler updateTimestampHandler = new UpdateTimestampHandler();
 
+    private final UpdateNextLinkHandler updateNextLinkHandler = new UpdateNextLinkHandler();
+
     /**
      * Constructor.
      *
@@ -98,6 +101,16 @@ public class RowVersionFreeList extends AbstractFreeList<RowVersion> {
         super.insertDataRow(row, statHolder);
     }
 
+    /**
+     * Inserts rows.
+     *
+     * @param rows Rows.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void insertDataRows(Collection<RowVersion> rows) throws IgniteInternalCheckedException {
+        super.insertDataRows(rows, statHolder);
+    }
+
     /**
      * Updates row version's timestamp.
      *
@@ -109,6 +122,17 @@ public class RowVersionFreeList extends AbstractFreeList<RowVersion> {
         updateDataRow(link, updateTimestampHandler, newTimestamp, statHolder);
     }
 
+    /**
+     * Updates row version's link to the next version.
+     *
+     * @param link link to the slot containing row version
+     * @param nextLink link to set
+     * @throws IgniteInternalCheckedException if something fails
+     */
+    public void updateNextLink(long link, long nextLink) throws IgniteInternalCheckedException {
+        updateDataRow(link, updateNextLinkHandler, nextLink, statHolder);
+    }
+
     /**
      * Removes a row by link.
      *
@@ -142,6 +166,29 @@ public class RowVersionFreeList extends AbstractFreeList<RowVersion> {
         }
     }
 
+    private class UpdateNextLinkHandler implements PageHandler<Long, Object> {
+        /** {@inheritDoc} */
+        @Override
+        public Object run(
+                int groupId,
+                long pageId,
+                long page,
+                long pageAddr,
+                PageIo io,
+                Long arg,
+                int itemId,
+                IoStatisticsHolder statHolder
+        ) throws IgniteInternalCheckedException {
+            RowVersionDataIo dataIo = (RowVersionDataIo) io;
+
+            dataIo.updateNextLink(pageAddr, itemId, pageSize(), arg);
+
+            evictionTracker.touchPage(pageId);
+
+            return true;
+        }
+    }
+
     /**
      * Shortcut method for {@link #saveMetadata(IoStatisticsHolder)} with statistics holder.
      *
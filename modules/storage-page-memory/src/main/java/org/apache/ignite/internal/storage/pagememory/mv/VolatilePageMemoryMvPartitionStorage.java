@@ -23,6 +23,8 @@ import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
+import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMetaTree;
 
 /**
  * Implementation of {@link MvPartitionStorage} based on a {@link BplusTree} for in-memory case.
@@ -39,15 +41,19 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
      * @param pageMemory Page memory.
      * @param rowVersionFreeList Free list for {@link RowVersion}.
      * @param versionChainTree Table tree for {@link VersionChain}.
+     * @param indexFreeList Free list for index columns.
+     * @param indexMetaTree Tree that maps index ids to the root pages of index trees.
      */
     public VolatilePageMemoryMvPartitionStorage(
             int partId,
             TableView tableView,
             VolatilePageMemory pageMemory,
             RowVersionFreeList rowVersionFreeList,
-            VersionChainTree versionChainTree
+            VersionChainTree versionChainTree,
+            IndexColumnsFreeList indexFreeList,
+            IndexMetaTree indexMetaTree
     ) {
-        super(partId, tableView, pageMemory, rowVersionFreeList, versionChainTree);
+        super(partId, tableView, pageMemory, rowVersionFreeList, versionChainTree, indexFreeList, indexMetaTree);
     }
 
     /** {@inheritDoc} */
@@ -110,6 +110,20 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
         HybridTimestamps.writeTimestampToMemory(pageAddr, payloadOffset + RowVersion.TIMESTAMP_OFFSET, timestamp);
     }
 
+    /**
+     * Updates the link to the next version leaving the rest untouched.
+     *
+     * @param pageAddr  page address
+     * @param itemId    item ID of the slot where row version (or its first fragment) is stored in this page
+     * @param pageSize  size of the page
+     * @param nextLink  link to store
+     */
+    public void updateNextLink(long pageAddr, int itemId, int pageSize, long nextLink) {
+        int payloadOffset = getPayloadOffset(pageAddr, itemId, pageSize, 0);
+
+        writePartitionlessLink(pageAddr + payloadOffset + RowVersion.NEXT_LINK_OFFSET, nextLink);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void printPage(long addr, int pageSize, IgniteStringBuilder sb) {
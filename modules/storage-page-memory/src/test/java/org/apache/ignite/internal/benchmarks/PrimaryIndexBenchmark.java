@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.benchmarks;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.PRIMARY_INDEX_DESCRIPTOR;
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.primaryIndexKey;
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.primaryIndexRow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
+import org.apache.ignite.internal.storage.pagememory.index.hash.HashIndexTree;
+import org.apache.ignite.internal.storage.pagememory.index.hash.PageMemoryHashIndexStorage;
+import org.apache.ignite.internal.util.Cursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares primary key lookups in the heap map, that was previously used by {@code VersionedRowStore}, with lookups in the off-heap
+ * {@link PageMemoryHashIndexStorage} that replaced it.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 15)
+@Measurement(iterations = 1, time = 30)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+@SuppressWarnings("InstanceVariableMayNotBeInitialized")
+public class PrimaryIndexBenchmark {
+    private static final int PAGE_SIZE = 16 * 1024;
+
+    private static final long REGION_SIZE = 1024L * 1024 * 1024;
+
+    private static final int PARTITION_ID = 0;
+
+    private static final int GROUP_ID = 1;
+
+    /** Number of keys in the index. */
+    @Param({"10000", "1000000"})
+    public int keysCount;
+
+    private VolatilePageMemory pageMemory;
+
+    private IndexColumnsFreeList freeList;
+
+    private HashIndexTree hashIndexTree;
+
+    private HashIndexStorage offHeapIndex;
+
+    private ConcurrentHashMap<ByteBuffer, RowId> heapIndex;
+
+    private ByteBuffer[] keys;
+
+    private BinaryTuple[] indexKeys;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(PrimaryIndexBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        PageIoRegistry ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        VolatilePageMemoryDataRegionView regionView = mock(VolatilePageMemoryDataRegionView.class);
+
+        when(regionView.name()).thenReturn("benchmark");
+        when(regionView.initSize()).thenReturn(REGION_SIZE);
+        when(regionView.maxSize()).thenReturn(REGION_SIZE);
+        when(regionView.memoryAllocator()).thenReturn(mock(UnsafeMemoryAllocatorView.class));
+
+        VolatilePageMemoryDataRegionConfiguration regionCfg = mock(VolatilePageMemoryDataRegionConfiguration.class);
+
+        when(regionCfg.value()).thenReturn(regionView);
+
+        pageMemory = new VolatilePageMemory(regionCfg, ioRegistry, PAGE_SIZE);
+
+        pageMemory.start();
+
+        freeList = new IndexColumnsFreeList(
+                GROUP_ID,
+                PARTITION_ID,
+                pageMemory,
+                null,
+                PageLockListenerNoOp.INSTANCE,
+                Loggers.forClass(PrimaryIndexBenchmark.class),
+                pageMemory.allocatePage(GROUP_ID, PARTITION_ID, FLAG_AUX),
+                true,
+                null,
+                PageEvictionTrackerNoOp.INSTANCE,
+                IoStatisticsHolderNoOp.INSTANCE
+        );
+
+        hashIndexTree = new HashIndexTree(
+                GROUP_ID,
+                "benchmark",
+                PARTITION_ID,
+                pageMemory,
+                PageLockListenerNoOp.INSTANCE,
+                new AtomicLong(),
+                pageMemory.allocatePage(GROUP_ID, PARTITION_ID, FLAG_AUX),
+                freeList,
+                true
+        );
+
+        offHeapIndex = new PageMemoryHashIndexStorage(PRIMARY_INDEX_DESCRIPTOR, mock(MvPartitionStorage.class), freeList, hashIndexTree);
+
+        heapIndex = new ConcurrentHashMap<>();
+
+        keys = new ByteBuffer[keysCount];
+        indexKeys = new BinaryTuple[keysCount];
+
+        for (int i = 0; i < keysCount; i++) {
+            ByteBuffer key = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, i);
+
+            RowId rowId = new RowId(PARTITION_ID);
+
+            heapIndex.put(key, rowId);
+            offHeapIndex.put(primaryIndexRow(key, rowId));
+
+            keys[i] = key;
+            indexKeys[i] = primaryIndexKey(key);
+        }
+    }
+
+    /**
+     * Closes resources.
+     */
+    @TearDown
+    public void tearDown() {
+        hashIndexTree.close();
+        freeList.close();
+        pageMemory.stop(true);
+    }
+
+    /**
+     * Lookup in the heap map.
+     */
+    @Benchmark
+    public RowId heapIndexGet() {
+        return heapIndex.get(keys[ThreadLocalRandom.current().nextInt(keysCount)]);
+    }
+
+    /**
+     * Lookup in the off-heap hash index, including the conversion of the key slice into an index key.
+     */
+    @Benchmark
+    public RowId offHeapIndexGet() throws Exception {
+        ByteBuffer key = keys[ThreadLocalRandom.current().nextInt(keysCount)];
+
+        try (Cursor<RowId> cursor = offHeapIndex.get(primaryIndexKey(key))) {
+            return cursor.hasNext() ? cursor.next() : null;
+        }
+    }
+
+    /**
+     * Lookup in the off-heap hash index with a prebuilt index key.
+     */
+    @Benchmark
+    public RowId offHeapIndexGetPrebuiltKey() throws Exception {
+        try (Cursor<RowId> cursor = offHeapIndex.get(indexKeys[ThreadLocalRandom.current().nextInt(keysCount)])) {
+            return cursor.hasNext() ? cursor.next() : null;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.storage.index.SortedIndexStorage.GREATER_OR_EQUAL;
+import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS;
+import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS_OR_EQUAL;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.BinaryTupleSchema;
+import org.apache.ignite.internal.schema.BinaryTupleSchema.Element;
+import org.apache.ignite.internal.schema.NativeType;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.index.IndexRow;
+import org.apache.ignite.internal.storage.index.IndexRowImpl;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor.ColumnDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.PageMemorySortedIndexStorage;
+import org.apache.ignite.internal.storage.pagememory.index.sorted.SortedIndexTree;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbMvPartitionStorage;
+import org.apache.ignite.internal.storage.rocksdb.index.RocksDbSortedIndexStorage;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * Compares lookups and range scans in the {@link PageMemorySortedIndexStorage}, which compares the inlined key prefixes in the tree
+ * pages, with the same operations in the {@link RocksDbSortedIndexStorage}.
+ *
+ * <p>Index has two columns: a long and a string with a common prefix, so the comparisons of the string values have to look past the
+ * first bytes of the value.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 15)
+@Measurement(iterations = 1, time = 30)
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+@SuppressWarnings("InstanceVariableMayNotBeInitialized")
+public class SortedIndexBenchmark {
+    private static final int PAGE_SIZE = 16 * 1024;
+
+    private static final long REGION_SIZE = 1024L * 1024 * 1024;
+
+    private static final int PARTITION_ID = 0;
+
+    private static final int GROUP_ID = 1;
+
+    /** Number of rows returned by a range scan. */
+    private static final int RANGE_SIZE = 100;
+
+    /** Number of rows written to RocksDB in a single batch. */
+    private static final int ROCKSDB_BATCH_SIZE = 10_000;
+
+    private static final BinaryTupleSchema TUPLE_SCHEMA = BinaryTupleSchema.create(new Element[] {
+            new Element(NativeTypes.INT64, false),
+            new Element(NativeTypes.STRING, false)
+    });
+
+    private static final BinaryTupleSchema PREFIX_SCHEMA = BinaryTupleSchema.create(new Element[] {
+            new Element(NativeTypes.INT64, false)
+    });
+
+    /** Number of keys in the index. */
+    @Param({"10000", "1000000"})
+    public int keysCount;
+
+    private VolatilePageMemory pageMemory;
+
+    private IndexColumnsFreeList freeList;
+
+    private SortedIndexTree sortedIndexTree;
+
+    private SortedIndexStorage pageMemoryIndex;
+
+    private Path rocksDbPath;
+
+    private DBOptions rocksDbOptions;
+
+    private ColumnFamilyOptions cfOptions;
+
+    private final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+
+    private RocksDB db;
+
+    private ColumnFamily indexCf;
+
+    private SortedIndexStorage rocksDbIndex;
+
+    private BinaryTuple[] keys;
+
+    private BinaryTuple[] prefixes;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(SortedIndexBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        SortedIndexDescriptor descriptor = indexDescriptor();
+
+        keys = new BinaryTuple[keysCount];
+        prefixes = new BinaryTuple[keysCount];
+
+        for (int i = 0; i < keysCount; i++) {
+            keys[i] = new BinaryTuple(TUPLE_SCHEMA, BinaryTupleBuilder.create(2, false)
+                    .appendLong(i / 10)
+                    .appendString("common-string-prefix-" + i)
+                    .build());
+
+            prefixes[i] = new BinaryTuple(PREFIX_SCHEMA, BinaryTupleBuilder.create(1, false)
+                    .appendLong(i / 10)
+                    .build());
+        }
+
+        setUpPageMemory(descriptor);
+        setUpRocksDb(descriptor);
+    }
+
+    private void setUpPageMemory(SortedIndexDescriptor descriptor) throws Exception {
+        PageIoRegistry ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        VolatilePageMemoryDataRegionView regionView = mock(VolatilePageMemoryDataRegionView.class);
+
+        when(regionView.name()).thenReturn("benchmark");
+        when(regionView.initSize()).thenReturn(REGION_SIZE);
+        when(regionView.maxSize()).thenReturn(REGION_SIZE);
+        when(regionView.memoryAllocator()).thenReturn(mock(UnsafeMemoryAllocatorView.class));
+
+        VolatilePageMemoryDataRegionConfiguration regionCfg = mock(VolatilePageMemoryDataRegionConfiguration.class);
+
+        when(regionCfg.value()).thenReturn(regionView);
+
+        pageMemory = new VolatilePageMemory(regionCfg, ioRegistry, PAGE_SIZE);
+
+        pageMemory.start();
+
+        freeList = new IndexColumnsFreeList(
+                GROUP_ID,
+                PARTITION_ID,
+                pageMemory,
+                null,
+                PageLockListenerNoOp.INSTANCE,
+                Loggers.forClass(SortedIndexBenchmark.class),
+                pageMemory.allocatePage(GROUP_ID, PARTITION_ID, FLAG_AUX),
+                true,
+                null,
+                PageEvictionTrackerNoOp.INSTANCE,
+                IoStatisticsHolderNoOp.INSTANCE
+        );
+
+        sortedIndexTree = new SortedIndexTree(
+                GROUP_ID,
+                "benchmark",
+                PARTITION_ID,
+                pageMemory,
+                PageLockListenerNoOp.INSTANCE,
+                new AtomicLong(),
+                pageMemory.allocatePage(GROUP_ID, PARTITION_ID, FLAG_AUX),
+                freeList,
+                descriptor,
+                true
+        );
+
+        pageMemoryIndex = new PageMemorySortedIndexStorage(descriptor, mock(MvPartitionStorage.class), freeList, sortedIndexTree);
+
+        for (BinaryTuple key : keys) {
+            pageMemoryIndex.put(new IndexRowImpl(key, new RowId(PARTITION_ID)));
+        }
+    }
+
+    private void setUpRocksDb(SortedIndexDescriptor descriptor) throws Exception {
+        RocksDB.loadLibrary();
+
+        rocksDbPath = Files.createTempDirectory("sorted-index-benchmark");
+
+        rocksDbOptions = new DBOptions()
+                .setCreateIfMissing(true)
+                .setCreateMissingColumnFamilies(true);
+
+        cfOptions = new ColumnFamilyOptions()
+                .useFixedLengthPrefixExtractor(RocksDbSortedIndexStorage.FIXED_PREFIX_LENGTH)
+                .setMemtablePrefixBloomSizeRatio(0.1);
+
+        db = RocksDB.open(
+                rocksDbOptions,
+                rocksDbPath.toString(),
+                List.of(
+                        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY),
+                        new ColumnFamilyDescriptor("cf-sorted".getBytes(UTF_8), cfOptions)
+                ),
+                cfHandles
+        );
+
+        indexCf = ColumnFamily.wrap(db, cfHandles.get(1));
+
+        // Index storage only needs the partition storage to get the write batch of the current consistency closure.
+        RocksDbMvPartitionStorage partitionStorage = mock(RocksDbMvPartitionStorage.class);
+
+        when(partitionStorage.partitionId()).thenReturn(PARTITION_ID);
+
+        try (
+                WriteBatchWithIndex writeBatch = new WriteBatchWithIndex();
+                WriteOptions writeOptions = new WriteOptions()
+        ) {
+            when(partitionStorage.currentWriteBatch()).thenReturn(writeBatch);
+
+            rocksDbIndex = new RocksDbSortedIndexStorage(descriptor, indexCf, partitionStorage);
+
+            for (int i = 0; i < keysCount; i++) {
+                rocksDbIndex.put(new IndexRowImpl(keys[i], new RowId(PARTITION_ID)));
+
+                if ((i + 1) % ROCKSDB_BATCH_SIZE == 0 || i == keysCount - 1) {
+                    db.write(writeOptions, writeBatch);
+
+                    writeBatch.clear();
+                }
+            }
+        }
+
+        db.compactRange(indexCf.handle());
+    }
+
+    private static SortedIndexDescriptor indexDescriptor() {
+        List<ColumnDescriptor> columns = List.of(
+                columnDescriptor("id", NativeTypes.INT64),
+                columnDescriptor("name", NativeTypes.STRING)
+        );
+
+        SortedIndexDescriptor descriptor = mock(SortedIndexDescriptor.class);
+
+        when(descriptor.id()).thenReturn(UUID.randomUUID());
+        when(descriptor.indexColumns()).thenReturn(columns);
+
+        return descriptor;
+    }
+
+    private static ColumnDescriptor columnDescriptor(String name, NativeType type) {
+        ColumnDescriptor column = mock(ColumnDescriptor.class);
+
+        when(column.name()).thenReturn(name);
+        when(column.type()).thenReturn(type);
+        when(column.nullable()).thenReturn(false);
+        when(column.asc()).thenReturn(true);
+
+        return column;
+    }
+
+    /**
+     * Closes resources.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        sortedIndexTree.close();
+        freeList.close();
+        pageMemory.stop(true);
+
+        IgniteUtils.closeAll(cfHandles);
+        IgniteUtils.closeAll(db, rocksDbOptions, cfOptions);
+
+        IgniteUtils.deleteIfExists(rocksDbPath);
+    }
+
+    /**
+     * Lookup of a single row in the page memory index.
+     */
+    @Benchmark
+    public IndexRow pageMemoryLookup() throws Exception {
+        return lookup(pageMemoryIndex);
+    }
+
+    /**
+     * Lookup of a single row in the RocksDB index.
+     */
+    @Benchmark
+    public IndexRow rocksDbLookup() throws Exception {
+        return lookup(rocksDbIndex);
+    }
+
+    /**
+     * Range scan by the first index column in the page memory index.
+     */
+    @Benchmark
+    public int pageMemoryRangeScan() throws Exception {
+        return rangeScan(pageMemoryIndex);
+    }
+
+    /**
+     * Range scan by the first index column in the RocksDB index.
+     */
+    @Benchmark
+    public int rocksDbRangeScan() throws Exception {
+        return rangeScan(rocksDbIndex);
+    }
+
+    private IndexRow lookup(SortedIndexStorage index) throws Exception {
+        BinaryTuple key = keys[ThreadLocalRandom.current().nextInt(keysCount)];
+
+        try (Cursor<IndexRow> cursor = index.scan(key, key, GREATER_OR_EQUAL | LESS_OR_EQUAL)) {
+            return cursor.hasNext() ? cursor.next() : null;
+        }
+    }
+
+    private int rangeScan(SortedIndexStorage index) throws Exception {
+        int from = ThreadLocalRandom.current().nextInt(Math.max(1, keysCount - RANGE_SIZE));
+
+        BinaryTuple lowerBound = prefixes[from];
+        BinaryTuple upperBound = prefixes[Math.min(keysCount - 1, from + RANGE_SIZE)];
+
+        int count = 0;
+
+        try (Cursor<IndexRow> cursor = index.scan(lowerBound, upperBound, GREATER_OR_EQUAL | LESS)) {
+            while (cursor.hasNext()) {
+                cursor.next();
+
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
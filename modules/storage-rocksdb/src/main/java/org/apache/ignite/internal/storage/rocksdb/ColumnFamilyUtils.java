@@ -39,11 +39,16 @@ class ColumnFamilyUtils {
      */
     static final String HASH_INDEX_CF_NAME = "cf-hash";
 
+    /**
+     * Name of the Column Family that stores sorted index data.
+     */
+    static final String SORTED_INDEX_CF_NAME = "cf-sorted";
+
     /**
      * Utility enum to describe a type of the column family - meta or partition.
      */
     enum ColumnFamilyType {
-        META, PARTITION, HASH_INDEX, UNKNOWN;
+        META, PARTITION, HASH_INDEX, SORTED_INDEX, UNKNOWN;
 
         /**
          * Determines column family type by its name.
@@ -58,6 +63,8 @@ class ColumnFamilyUtils {
                 return PARTITION;
             } else if (HASH_INDEX_CF_NAME.equals(cfName)) {
                 return HASH_INDEX;
+            } else if (SORTED_INDEX_CF_NAME.equals(cfName)) {
+                return SORTED_INDEX;
             } else {
                 return UNKNOWN;
             }
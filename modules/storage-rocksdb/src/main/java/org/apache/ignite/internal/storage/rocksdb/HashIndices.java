@@ -40,6 +40,14 @@ class HashIndices {
         );
     }
 
+    void destroy(int partitionId) {
+        HashIndexStorage storage = storages.remove(partitionId);
+
+        if (storage != null) {
+            storage.destroy();
+        }
+    }
+
     void destroy() {
         storages.forEach((partitionId, storage) -> storage.destroy());
     }
@@ -86,6 +86,13 @@ public class RocksDbDataRegion {
         IgniteUtils.closeAll(writeBufferManager, cache);
     }
 
+    /**
+     * Returns block cache associated with the region.
+     */
+    public Cache cache() {
+        return cache;
+    }
+
     /**
      * Returns write buffer manager associated with the region.
      */
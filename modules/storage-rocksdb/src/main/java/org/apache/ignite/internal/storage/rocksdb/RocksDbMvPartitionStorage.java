@@ -24,10 +24,18 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static java.util.Arrays.copyOf;
 import static java.util.Arrays.copyOfRange;
 import static org.apache.ignite.hlc.HybridTimestamp.HYBRID_TIMESTAMP_SIZE;
+import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import static org.rocksdb.ReadTier.PERSISTED_TIER;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -35,23 +43,29 @@ import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.hlc.HybridTimestamp;
+import org.apache.ignite.internal.rocksdb.RocksUtils;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ByteBufferRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.TxIdMismatchException;
+import org.apache.ignite.internal.storage.VacuumResult;
 import org.apache.ignite.internal.util.ByteUtils;
 import org.apache.ignite.internal.util.Cursor;
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.jetbrains.annotations.Nullable;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
+import org.rocksdb.SstFileWriter;
 import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteBatchWithIndex;
 import org.rocksdb.WriteOptions;
@@ -86,6 +100,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     /** Maximum size of the key. */
     private static final int MAX_KEY_SIZE = ROW_PREFIX_SIZE + HYBRID_TIMESTAMP_SIZE;
 
+    /** Prefix of the keys of the index build progress in the meta column family, see {@link #indexBuildKey(UUID)}. */
+    private static final byte[] INDEX_BUILD_PREFIX = "build".getBytes(StandardCharsets.UTF_8);
+
     /** Thread-local direct buffer instance to read keys from RocksDB. */
     private static final ThreadLocal<ByteBuffer> MV_KEY_BUFFER = withInitial(() -> allocateDirect(MAX_KEY_SIZE).order(BIG_ENDIAN));
 
@@ -210,6 +227,14 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         return requireWriteBatch();
     }
 
+    /**
+     * Returns a WriteBatch of the {@link #runConsistently} closure that is being executed by the current thread, or {@code null} if
+     * there's no such closure. Can be used by the affiliated storage implementations to read their own pending writes.
+     */
+    public @Nullable WriteBatchWithIndex pendingWriteBatch() {
+        return WRITE_BATCH.get();
+    }
+
     /** {@inheritDoc} */
     @Override
     public long lastAppliedIndex() {
@@ -407,6 +432,58 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The rows are written to an SST file in the order of their keys, the file is then ingested into the column family of the
+     * partitions, bypassing the memtable. Ingested data is persisted regardless of the {@link #flush()}.
+     */
+    @Override
+    public void bulkLoad(Map<RowId, BinaryRow> rows, HybridTimestamp timestamp) throws StorageException {
+        assert WRITE_BATCH.get() == null : "Bulk load can't be a part of a consistency closure";
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<RowId> rowIds = new ArrayList<>(rows.keySet());
+
+        // All the keys have the same timestamp, so the order of the keys is the order of the row ids.
+        rowIds.sort(RocksDbMvPartitionStorage::compareRowIds);
+
+        Path sstFile = tableStorage.tablePath().resolve("bulk-load-" + partitionId + "-" + UUID.randomUUID() + ".sst");
+
+        try (
+                EnvOptions envOptions = new EnvOptions();
+                Options options = new Options();
+                SstFileWriter sstFileWriter = new SstFileWriter(envOptions, options);
+                IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions().setMoveFiles(true)
+        ) {
+            sstFileWriter.open(sstFile.toString());
+
+            for (RowId rowId : rowIds) {
+                ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
+
+                putTimestamp(keyBuf, timestamp);
+
+                //TODO IGNITE-16913 Add proper way to write row bytes into array without allocations.
+                sstFileWriter.put(copyOf(keyBuf.array(), MAX_KEY_SIZE), rows.get(rowId).bytes());
+            }
+
+            sstFileWriter.finish();
+
+            db.ingestExternalFile(cf, List.of(sstFile.toString()), ingestOptions);
+        } catch (RocksDBException e) {
+            throw new StorageException("Failed to bulk load rows into storage", e);
+        } finally {
+            try {
+                Files.deleteIfExists(sstFile);
+            } catch (IOException e) {
+                throw new StorageException("Failed to delete a bulk load file: " + sstFile, e);
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public @Nullable BinaryRow read(RowId rowId, UUID txId) throws TxIdMismatchException, StorageException {
@@ -419,6 +496,45 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         return read(rowId, timestamp, null);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<BinaryRow> readAll(List<RowId> rowIds, UUID txId) throws TxIdMismatchException, StorageException {
+        BinaryRow[] res = new BinaryRow[rowIds.size()];
+
+        // Lookups are performed in the order of keys in the column family, so that a single iterator only ever moves forward.
+        Integer[] order = new Integer[res.length];
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (i1, i2) -> compareRowIds(rowIds.get(i1), rowIds.get(i2)));
+
+        // We can read data outside of consistency closure. Batch is not required.
+        WriteBatchWithIndex writeBatch = WRITE_BATCH.get();
+
+        try (
+                // Set next partition as an upper bound.
+                var readOpts = new ReadOptions().setIterateUpperBound(upperBound);
+                RocksIterator baseIterator = db.newIterator(cf, readOpts);
+                // "count()" check is mandatory. Write batch iterator without any updates just crashes everything.
+                // It's not documented, but this is exactly how it should be used.
+                RocksIterator seekIterator = writeBatch != null && writeBatch.count() > 0
+                        ? writeBatch.newIteratorWithBase(cf, baseIterator)
+                        : baseIterator
+        ) {
+            for (int i : order) {
+                RowId rowId = rowIds.get(i);
+
+                if (rowId.partitionId() == partitionId) {
+                    res[i] = read(seekIterator, rowId, null, txId);
+                }
+            }
+        }
+
+        return Arrays.asList(res);
+    }
+
     private @Nullable BinaryRow read(RowId rowId, @Nullable HybridTimestamp timestamp, @Nullable UUID txId)
             throws TxIdMismatchException, StorageException {
         assert timestamp == null ^ txId == null;
@@ -430,8 +546,6 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         // We can read data outside of consistency closure. Batch is not required.
         WriteBatchWithIndex writeBatch = WRITE_BATCH.get();
 
-        ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
-
         try (
                 // Set next partition as an upper bound.
                 var readOpts = new ReadOptions().setIterateUpperBound(upperBound);
@@ -442,53 +556,69 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                         ? writeBatch.newIteratorWithBase(cf, baseIterator)
                         : baseIterator
         ) {
-            if (timestamp == null) {
-                // Seek to the first appearance of row id if timestamp isn't set.
-                // Since timestamps are sorted from newest to oldest, first occurance will always be the latest version.
-                // Unfortunately, copy here is unavoidable with current API.
-                seekIterator.seek(copyOf(keyBuf.array(), keyBuf.position()));
-            } else {
-                // Put timestamp restriction according to N2O timestamps order.
-                putTimestamp(keyBuf, timestamp);
+            return read(seekIterator, rowId, timestamp, txId);
+        }
+    }
 
-                // This seek will either find a key with timestamp that's less or equal than required value, or a different key whatsoever.
-                // It is guaranteed by descending order of timestamps.
-                seekIterator.seek(keyBuf.array());
-            }
+    private @Nullable BinaryRow read(RocksIterator seekIterator, RowId rowId, @Nullable HybridTimestamp timestamp, @Nullable UUID txId)
+            throws TxIdMismatchException {
+        ByteBuffer keyBuf = prepareHeapKeyBuf(rowId);
 
-            // Return null if nothing was found.
-            if (invalid(seekIterator)) {
-                return null;
-            }
+        if (timestamp == null) {
+            // Seek to the first appearance of row id if timestamp isn't set.
+            // Since timestamps are sorted from newest to oldest, first occurance will always be the latest version.
+            // Unfortunately, copy here is unavoidable with current API.
+            seekIterator.seek(copyOf(keyBuf.array(), keyBuf.position()));
+        } else {
+            // Put timestamp restriction according to N2O timestamps order.
+            putTimestamp(keyBuf, timestamp);
 
-            // There's no guarantee that required key even exists. If it doesn't, then "seek" will point to a different key, obviously.
-            // To avoid returning its value, we have to check that actual key matches what we need.
-            // Here we prepare direct buffer to read key without timestamp. Shared direct buffer is used to avoid extra memory allocations.
-            ByteBuffer directBuffer = MV_KEY_BUFFER.get().position(0).limit(MAX_KEY_SIZE);
+            // This seek will either find a key with timestamp that's less or equal than required value, or a different key whatsoever.
+            // It is guaranteed by descending order of timestamps.
+            seekIterator.seek(keyBuf.array());
+        }
 
-            int keyLength = seekIterator.key(directBuffer);
+        // Return null if nothing was found.
+        if (invalid(seekIterator)) {
+            return null;
+        }
 
-            boolean valueHasTxId = keyLength == ROW_PREFIX_SIZE;
+        // There's no guarantee that required key even exists. If it doesn't, then "seek" will point to a different key, obviously.
+        // To avoid returning its value, we have to check that actual key matches what we need.
+        // Here we prepare direct buffer to read key without timestamp. Shared direct buffer is used to avoid extra memory allocations.
+        ByteBuffer directBuffer = MV_KEY_BUFFER.get().position(0).limit(MAX_KEY_SIZE);
 
-            // Comparison starts from the position of the row id.
-            directBuffer.position(ROW_ID_OFFSET);
+        int keyLength = seekIterator.key(directBuffer);
 
-            // Return null if seek found a wrong key.
-            if (!matches(rowId, directBuffer)) {
-                return null;
-            }
+        boolean valueHasTxId = keyLength == ROW_PREFIX_SIZE;
 
-            // Get binary row from the iterator. It has the exact payload that we need.
-            byte[] valueBytes = seekIterator.value();
+        // Comparison starts from the position of the row id.
+        directBuffer.position(ROW_ID_OFFSET);
 
-            assert valueBytes != null;
+        // Return null if seek found a wrong key.
+        if (!matches(rowId, directBuffer)) {
+            return null;
+        }
 
-            if (txId != null && valueHasTxId) {
-                validateTxId(valueBytes, txId);
-            }
+        // Get binary row from the iterator. It has the exact payload that we need.
+        byte[] valueBytes = seekIterator.value();
+
+        assert valueBytes != null;
 
-            return wrapValueIntoBinaryRow(valueBytes, valueHasTxId);
+        if (txId != null && valueHasTxId) {
+            validateTxId(valueBytes, txId);
         }
+
+        return wrapValueIntoBinaryRow(valueBytes, valueHasTxId);
+    }
+
+    /**
+     * Compares row ids in the order of their keys in the column family, i.e. as unsigned big endian values.
+     */
+    private static int compareRowIds(RowId rowId1, RowId rowId2) {
+        int cmp = Long.compareUnsigned(rowId1.mostSignificantBits(), rowId2.mostSignificantBits());
+
+        return cmp != 0 ? cmp : Long.compareUnsigned(rowId1.leastSignificantBits(), rowId2.leastSignificantBits());
     }
 
     private static boolean matches(RowId rowId, ByteBuffer buf) {
@@ -710,6 +840,202 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         };
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public VacuumResult vacuum(HybridTimestamp lowWatermark, @Nullable RowId lowerBound, int limit) throws StorageException {
+        assert WRITE_BATCH.get() == null : "Vacuum can't be a part of a consistency closure";
+
+        int chains = 0;
+        int versions = 0;
+        int removedVersions = 0;
+        int maxChainLength = 0;
+
+        try (
+                var readOpts = new ReadOptions().setIterateUpperBound(upperBound);
+                RocksIterator it = db.newIterator(cf, readOpts);
+                WriteBatch writeBatch = new WriteBatch()
+        ) {
+            it.seek(lowerBound == null ? partitionStartPrefix() : copyOf(prepareHeapKeyBuf(lowerBound).array(), ROW_PREFIX_SIZE));
+
+            byte[] chainPrefix = null;
+            int chainLength = 0;
+
+            // Set once the newest version committed at or before the low watermark is found, all the older versions are garbage.
+            boolean visibleVersionFound = false;
+
+            for (; !invalid(it); it.next()) {
+                byte[] keyBytes = it.key();
+
+                if (chainPrefix == null || !Arrays.equals(keyBytes, 0, ROW_PREFIX_SIZE, chainPrefix, 0, ROW_PREFIX_SIZE)) {
+                    if (chains == limit) {
+                        ByteBuffer keyBuf = ByteBuffer.wrap(keyBytes).order(BIG_ENDIAN).position(ROW_ID_OFFSET);
+
+                        RowId nextRowId = new RowId(partitionId, keyBuf.getLong(), keyBuf.getLong());
+
+                        db.write(writeOpts, writeBatch);
+
+                        return new VacuumResult(chains, versions, removedVersions, Math.max(maxChainLength, chainLength), nextRowId);
+                    }
+
+                    chains++;
+
+                    maxChainLength = Math.max(maxChainLength, chainLength);
+
+                    chainPrefix = copyOf(keyBytes, ROW_PREFIX_SIZE);
+                    chainLength = 0;
+                    visibleVersionFound = false;
+                }
+
+                versions++;
+                chainLength++;
+
+                if (visibleVersionFound) {
+                    writeBatch.delete(cf, keyBytes);
+
+                    removedVersions++;
+                } else if (keyBytes.length == MAX_KEY_SIZE && readTimestamp(keyBytes).compareTo(lowWatermark) <= 0) {
+                    visibleVersionFound = true;
+                }
+            }
+
+            db.write(writeOpts, writeBatch);
+
+            return new VacuumResult(chains, versions, removedVersions, Math.max(maxChainLength, chainLength), null);
+        } catch (RocksDBException e) {
+            throw new StorageException("Failed to vacuum the partition", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable RowId scanVersions(@Nullable RowId lowerBound, int limit, BiConsumer<RowId, BinaryRow> consumer)
+            throws StorageException {
+        try (
+                var readOpts = new ReadOptions().setIterateUpperBound(upperBound);
+                RocksIterator it = db.newIterator(cf, readOpts)
+        ) {
+            it.seek(lowerBound == null ? partitionStartPrefix() : copyOf(prepareHeapKeyBuf(lowerBound).array(), ROW_PREFIX_SIZE));
+
+            byte[] chainPrefix = null;
+            int chains = 0;
+
+            RowId rowId = null;
+
+            for (; !invalid(it); it.next()) {
+                byte[] keyBytes = it.key();
+
+                if (chainPrefix == null || !Arrays.equals(keyBytes, 0, ROW_PREFIX_SIZE, chainPrefix, 0, ROW_PREFIX_SIZE)) {
+                    ByteBuffer keyBuf = ByteBuffer.wrap(keyBytes).order(BIG_ENDIAN).position(ROW_ID_OFFSET);
+
+                    rowId = new RowId(partitionId, keyBuf.getLong(), keyBuf.getLong());
+
+                    if (chains == limit) {
+                        return rowId;
+                    }
+
+                    chains++;
+
+                    chainPrefix = copyOf(keyBytes, ROW_PREFIX_SIZE);
+                }
+
+                byte[] valueBytes = it.value();
+
+                boolean valueHasTxId = keyBytes.length == ROW_PREFIX_SIZE;
+
+                if (!isTombstone(valueBytes, valueHasTxId)) {
+                    consumer.accept(rowId, wrapValueIntoBinaryRow(valueBytes, valueHasTxId));
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable RowId indexBuildProgress(UUID indexId) throws StorageException {
+        byte[] progressBytes = readIndexBuildProgress(indexId);
+
+        if (progressBytes == null || progressBytes.length == 0) {
+            return null;
+        }
+
+        ByteBuffer progressBuf = ByteBuffer.wrap(progressBytes).order(BIG_ENDIAN);
+
+        return new RowId(partitionId, progressBuf.getLong(), progressBuf.getLong());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean indexBuilt(UUID indexId) throws StorageException {
+        byte[] progressBytes = readIndexBuildProgress(indexId);
+
+        return progressBytes != null && progressBytes.length == 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void indexBuildProgress(UUID indexId, @Nullable RowId nextRowId) throws StorageException {
+        WriteBatchWithIndex writeBatch = requireWriteBatch();
+
+        // An empty value marks the completed build.
+        byte[] progressBytes = nextRowId == null
+                ? BYTE_EMPTY_ARRAY
+                : ByteBuffer.allocate(ROW_ID_SIZE)
+                        .order(BIG_ENDIAN)
+                        .putLong(nextRowId.mostSignificantBits())
+                        .putLong(nextRowId.leastSignificantBits())
+                        .array();
+
+        try {
+            writeBatch.put(meta, indexBuildKey(indexId), progressBytes);
+        } catch (RocksDBException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    /**
+     * Reads the build progress of an index, including the pending writes of the current {@link #runConsistently} closure.
+     *
+     * @param indexId Index id.
+     * @return Row id bytes, empty array if the build has been completed or {@code null} if there's no saved progress.
+     */
+    private byte @Nullable [] readIndexBuildProgress(UUID indexId) {
+        WriteBatchWithIndex writeBatch = WRITE_BATCH.get();
+
+        byte[] key = indexBuildKey(indexId);
+
+        try {
+            return writeBatch == null ? db.get(meta, readOpts, key) : writeBatch.getFromBatchAndDB(db, meta, readOpts, key);
+        } catch (RocksDBException e) {
+            throw new StorageException(e);
+        }
+    }
+
+    /**
+     * Creates a key of the build progress of an index in the meta column family:
+     * <pre><code>| "build" | partId (2 bytes, BE) | indexId (16 bytes, BE) |</code></pre>
+     */
+    private byte[] indexBuildKey(UUID indexId) {
+        return ByteBuffer.allocate(INDEX_BUILD_PREFIX.length + Short.BYTES + 2 * Long.BYTES)
+                .order(BIG_ENDIAN)
+                .put(indexBuildKeyPrefix())
+                .putLong(indexId.getMostSignificantBits())
+                .putLong(indexId.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Creates a prefix of the keys of the build progress of all the indexes of the partition.
+     */
+    private byte[] indexBuildKeyPrefix() {
+        return ByteBuffer.allocate(INDEX_BUILD_PREFIX.length + Short.BYTES)
+                .order(BIG_ENDIAN)
+                .put(INDEX_BUILD_PREFIX)
+                .putShort((short) partitionId)
+                .array();
+    }
+
     @Override
     public long rowsCount() {
         try (
@@ -768,6 +1094,10 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         try (WriteBatch writeBatch = new WriteBatch()) {
             writeBatch.delete(meta, lastAppliedIndexKey);
 
+            byte[] indexBuildKeyPrefix = indexBuildKeyPrefix();
+
+            writeBatch.deleteRange(meta, indexBuildKeyPrefix, RocksUtils.rangeEnd(indexBuildKeyPrefix));
+
             writeBatch.delete(meta, RocksDbMetaStorage.partitionIdKey(partitionId));
 
             writeBatch.deleteRange(cf, partitionStartPrefix(), partitionEndPrefix());
@@ -822,6 +1152,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         buf.putInt(~ts.getLogical());
     }
 
+    /**
+     * Reads a timestamp written by {@link #putTimestamp(ByteBuffer, HybridTimestamp)} from a key of a committed version.
+     */
+    private static HybridTimestamp readTimestamp(byte[] keyBytes) {
+        ByteBuffer keyBuf = ByteBuffer.wrap(keyBytes).order(BIG_ENDIAN);
+
+        return new HybridTimestamp(~keyBuf.getLong(ROW_PREFIX_SIZE), ~keyBuf.getInt(ROW_PREFIX_SIZE + Long.BYTES));
+    }
+
     private static void putTransactionId(byte[] array, int off, UUID txId) {
         GridUnsafe.putLong(array, GridUnsafe.BYTE_ARR_OFF + off, txId.getMostSignificantBits());
         GridUnsafe.putLong(array, GridUnsafe.BYTE_ARR_OFF + off + Long.BYTES, txId.getLeastSignificantBits());
@@ -18,9 +18,12 @@
 package org.apache.ignite.internal.storage.rocksdb;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.PRIMARY_INDEX_DESCRIPTOR;
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.PRIMARY_INDEX_ID;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.HASH_INDEX_CF_NAME;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.META_CF_NAME;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.PARTITION_CF_NAME;
+import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.SORTED_INDEX_CF_NAME;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -38,7 +41,9 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.ignite.configuration.schemas.table.TableConfiguration;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
@@ -48,13 +53,17 @@ import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
 import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.ColumnFamilyType;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbHashIndexStorage;
+import org.apache.ignite.internal.storage.rocksdb.index.RocksDbSortedIndexStorage;
 import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.jetbrains.annotations.Nullable;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
@@ -105,6 +114,9 @@ public class RocksDbTableStorage implements MvTableStorage {
     /** Column Family handle for Hash Index data. */
     private volatile ColumnFamily hashIndexCf;
 
+    /** Column Family handle for Sorted Index data. */
+    private volatile ColumnFamily sortedIndexCf;
+
     /** List of all existing Column Family handles. */
     private volatile List<ColumnFamilyHandle> allCfHandles;
 
@@ -114,6 +126,9 @@ public class RocksDbTableStorage implements MvTableStorage {
     /** Hash Index storages by Index IDs. */
     private final ConcurrentMap<UUID, HashIndices> hashIndices = new ConcurrentHashMap<>();
 
+    /** Sorted Index storages by Index IDs. */
+    private final ConcurrentMap<UUID, SortedIndices> sortedIndices = new ConcurrentHashMap<>();
+
     /** Map with flush futures by sequence number at the time of the {@link #awaitFlush(boolean)} call. */
     private final ConcurrentMap<Long, CompletableFuture<Void>> flushFuturesBySequenceNumber = new ConcurrentHashMap<>();
 
@@ -163,6 +178,13 @@ public class RocksDbTableStorage implements MvTableStorage {
         return engine;
     }
 
+    /**
+     * Returns a path for the directory that stores table data.
+     */
+    public Path tablePath() {
+        return tablePath;
+    }
+
     /**
      * Returns a {@link RocksDB} instance.
      */
@@ -234,6 +256,11 @@ public class RocksDbTableStorage implements MvTableStorage {
 
                         break;
 
+                    case SORTED_INDEX:
+                        sortedIndexCf = cf;
+
+                        break;
+
                     default:
                         throw new StorageException("Unidentified column family [name=" + cf.name() + ", table=" + tableCfg.name() + ']');
                 }
@@ -242,6 +269,7 @@ public class RocksDbTableStorage implements MvTableStorage {
             assert meta != null;
             assert partitionCf != null;
             assert hashIndexCf != null;
+            assert sortedIndexCf != null;
 
             allCfHandles = List.copyOf(cfHandles);
 
@@ -425,6 +453,9 @@ public class RocksDbTableStorage implements MvTableStorage {
             return CompletableFuture.completedFuture(null);
         }
 
+        hashIndices.values().forEach(indices -> indices.destroy(partitionId));
+        sortedIndices.values().forEach(indices -> indices.destroy(partitionId));
+
         mvPartition.destroy();
 
         // Wait for the data to actually be removed from the disk and close the storage.
@@ -441,7 +472,43 @@ public class RocksDbTableStorage implements MvTableStorage {
     /** {@inheritDoc} */
     @Override
     public SortedIndexStorage getOrCreateSortedIndex(int partitionId, UUID indexId) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        return getOrCreateSortedIndex(partitionId, indexId, () -> new SortedIndexDescriptor(indexId, tableCfg.value()));
+    }
+
+    /**
+     * Returns an already created Sorted Index storage with the given descriptor or creates a new one.
+     *
+     * @param partitionId Partition ID.
+     * @param descriptor Index descriptor.
+     * @return Sorted Index storage.
+     * @throws StorageException If the given partition does not exist.
+     */
+    public SortedIndexStorage getOrCreateSortedIndex(int partitionId, SortedIndexDescriptor descriptor) {
+        return getOrCreateSortedIndex(partitionId, descriptor.id(), () -> descriptor);
+    }
+
+    private SortedIndexStorage getOrCreateSortedIndex(int partitionId, UUID indexId, Supplier<SortedIndexDescriptor> descriptor) {
+        SortedIndices storages = sortedIndices.computeIfAbsent(indexId, id -> new SortedIndices(descriptor.get()));
+
+        RocksDbMvPartitionStorage partitionStorage = getMvPartition(partitionId);
+
+        if (partitionStorage == null) {
+            throw new StorageException(String.format("Partition %d has not been created yet", partitionId));
+        }
+
+        return storages.getOrCreateStorage(sortedIndexCf, partitionStorage);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable SortedIndexStorage getSortedIndex(int partitionId, UUID indexId) {
+        if (getMvPartition(partitionId) == null) {
+            throw new StorageException(String.format("Partition %d has not been created yet", partitionId));
+        }
+
+        SortedIndices storages = sortedIndices.get(indexId);
+
+        return storages == null ? null : storages.getStorage(partitionId);
     }
 
     @Override
@@ -461,16 +528,37 @@ public class RocksDbTableStorage implements MvTableStorage {
         return storages.getOrCreateStorage(hashIndexCf, partitionStorage);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public HashIndexStorage getOrCreatePrimaryIndex(int partitionId) {
+        HashIndices storages = hashIndices.computeIfAbsent(PRIMARY_INDEX_ID, id -> new HashIndices(PRIMARY_INDEX_DESCRIPTOR));
+
+        RocksDbMvPartitionStorage partitionStorage = getMvPartition(partitionId);
+
+        if (partitionStorage == null) {
+            throw new StorageException(String.format("Partition %d has not been created yet", partitionId));
+        }
+
+        return storages.getOrCreateStorage(hashIndexCf, partitionStorage);
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> destroyIndex(UUID indexId) {
-        HashIndices storages = hashIndices.remove(indexId);
+        HashIndices hashStorages = hashIndices.remove(indexId);
+        SortedIndices sortedStorages = sortedIndices.remove(indexId);
 
-        if (storages == null) {
+        if (hashStorages == null && sortedStorages == null) {
             return CompletableFuture.completedFuture(null);
         }
 
-        storages.destroy();
+        if (hashStorages != null) {
+            hashStorages.destroy();
+        }
+
+        if (sortedStorages != null) {
+            sortedStorages.destroy();
+        }
 
         return awaitFlush(false);
     }
@@ -513,8 +601,12 @@ public class RocksDbTableStorage implements MvTableStorage {
                     .collect(Collectors.toList());
 
             // even if the database is new (no existing Column Families), we return the names of mandatory column families, that
-            // will be created automatically.
-            return existingNames.isEmpty() ? List.of(META_CF_NAME, PARTITION_CF_NAME, HASH_INDEX_CF_NAME) : existingNames;
+            // will be created automatically. The same goes for the mandatory column families that are missing in an existing database.
+            Stream<String> mandatoryNames = Stream.of(META_CF_NAME, PARTITION_CF_NAME, HASH_INDEX_CF_NAME, SORTED_INDEX_CF_NAME);
+
+            return Stream.concat(existingNames.stream(), mandatoryNames)
+                    .distinct()
+                    .collect(Collectors.toList());
         } catch (RocksDBException e) {
             throw new StorageException(
                     "Failed to read list of column families names for the RocksDB instance located at path " + absolutePathStr, e
@@ -551,6 +643,22 @@ public class RocksDbTableStorage implements MvTableStorage {
                         new ColumnFamilyOptions().useFixedLengthPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH)
                 );
 
+            case SORTED_INDEX:
+                // Range scans never cross the boundaries of an index partition, so the prefix bloom filter allows skipping the files
+                // that don't contain it. Index and filter blocks are kept in the block cache of the data region along with the data.
+                return new ColumnFamilyDescriptor(
+                        cfName.getBytes(UTF_8),
+                        new ColumnFamilyOptions()
+                                .useFixedLengthPrefixExtractor(RocksDbSortedIndexStorage.FIXED_PREFIX_LENGTH)
+                                .setMemtablePrefixBloomSizeRatio(0.1)
+                                .setTableFormatConfig(new BlockBasedTableConfig()
+                                        .setBlockCache(dataRegion.cache())
+                                        .setFilterPolicy(new BloomFilter(10, false))
+                                        .setWholeKeyFiltering(false)
+                                        .setCacheIndexAndFilterBlocks(true)
+                                        .setPinL0FilterAndIndexBlocksInCache(true))
+                );
+
             default:
                 throw new StorageException("Unidentified column family [name=" + cfName + ", table=" + tableCfg.name() + ']');
         }
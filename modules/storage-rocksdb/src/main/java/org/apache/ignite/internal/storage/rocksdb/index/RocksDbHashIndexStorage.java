@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.util.ByteUtils.bytesToLong;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.UUID;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.rocksdb.RocksIteratorAdapter;
@@ -115,11 +116,25 @@ public class RocksDbHashIndexStorage implements HashIndexStorage {
 
         ReadOptions options = new ReadOptions().setIterateUpperBound(upperBound);
 
-        RocksIterator it = indexCf.newIterator(options);
+        RocksIterator baseIterator = indexCf.newIterator(options);
+
+        // Reads inside of the consistency closure must see the pending updates of the closure itself.
+        // "count()" check is mandatory, see the comment in RocksDbMvPartitionStorage#read.
+        WriteBatchWithIndex writeBatch = partitionStorage.pendingWriteBatch();
+
+        RocksIterator it = writeBatch != null && writeBatch.count() > 0
+                ? writeBatch.newIteratorWithBase(indexCf.handle(), baseIterator)
+                : baseIterator;
 
         it.seek(rangeStart);
 
         return new RocksIteratorAdapter<>(it) {
+            @Override
+            public boolean hasNext() {
+                // Write batch iterator ignores the upper bound, so the prefix has to be checked explicitly.
+                return super.hasNext() && startsWith(it.key(), rangeStart);
+            }
+
             @Override
             protected RowId decodeEntry(byte[] key, byte[] value) {
                 // RowId UUID is located at the last 16 bytes of the key
@@ -133,7 +148,7 @@ public class RocksDbHashIndexStorage implements HashIndexStorage {
             public void close() throws Exception {
                 super.close();
 
-                IgniteUtils.closeAll(options, upperBound);
+                IgniteUtils.closeAll(baseIterator, options, upperBound);
             }
         };
     }
@@ -173,6 +188,10 @@ public class RocksDbHashIndexStorage implements HashIndexStorage {
         }
     }
 
+    private static boolean startsWith(byte[] key, byte[] prefix) {
+        return key.length >= prefix.length && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
     private byte[] rocksPrefix(BinaryTuple prefix) {
         return rocksPrefix(prefix, 0).array();
     }
@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.index;
+
+import static org.apache.ignite.internal.rocksdb.RocksUtils.rangeEnd;
+import static org.apache.ignite.internal.util.ByteUtils.bytesToLong;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.rocksdb.RocksIteratorAdapter;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.BinaryTupleSchema;
+import org.apache.ignite.internal.schema.BinaryTupleSchema.Element;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.index.IndexRow;
+import org.apache.ignite.internal.storage.index.IndexRowImpl;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexKeyEncoder;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbMvPartitionStorage;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * {@link SortedIndexStorage} implementation based on RocksDB.
+ *
+ * <p>This storage uses the following format for keys:
+ * <pre>
+ * Index ID (UUID) - 16 bytes
+ * Partition ID - 2 bytes
+ * Index columns in an order-preserving encoding - variable length
+ * Row ID (UUID) - 16 bytes
+ * </pre>
+ *
+ * <p>Encoding of the index columns is described in {@link SortedIndexKeyEncoder}. It can't be decoded back, so the values contain
+ * the index columns as a {@link BinaryTuple}.
+ *
+ * <p>Range scans are executed by iterators that are limited by the encoded bounds, so only the matching keys are read. Index ID and
+ * Partition ID are used as a prefix for the prefix bloom filter of the column family.
+ */
+public class RocksDbSortedIndexStorage implements SortedIndexStorage {
+    /**
+     * Length of the fixed part of the key: Index ID + Partition ID.
+     */
+    public static final int FIXED_PREFIX_LENGTH = 2 * Long.BYTES + Short.BYTES;
+
+    private final SortedIndexDescriptor descriptor;
+
+    private final ColumnFamily indexCf;
+
+    private final RocksDbMvPartitionStorage partitionStorage;
+
+    /**
+     * Binary tuple schema of the index columns.
+     */
+    private final BinaryTupleSchema tupleSchema;
+
+    /**
+     * Constant prefix of every index key.
+     */
+    private final byte[] constantPrefix;
+
+    /**
+     * Creates a new Sorted Index storage.
+     *
+     * @param descriptor Index descriptor.
+     * @param indexCf Column family that stores the index data.
+     * @param partitionStorage Partition storage of the partition that is being indexed (needed for consistency guarantees).
+     */
+    public RocksDbSortedIndexStorage(
+            SortedIndexDescriptor descriptor,
+            ColumnFamily indexCf,
+            RocksDbMvPartitionStorage partitionStorage
+    ) {
+        this.descriptor = descriptor;
+        this.indexCf = indexCf;
+        this.partitionStorage = partitionStorage;
+
+        this.tupleSchema = BinaryTupleSchema.create(descriptor.indexColumns().stream()
+                .map(column -> new Element(column.type(), column.nullable()))
+                .toArray(Element[]::new));
+
+        UUID indexId = descriptor.id();
+
+        this.constantPrefix = ByteBuffer.allocate(FIXED_PREFIX_LENGTH)
+                .order(ByteOrder.BIG_ENDIAN)
+                .putLong(indexId.getMostSignificantBits())
+                .putLong(indexId.getLeastSignificantBits())
+                .putShort((short) partitionStorage.partitionId())
+                .array();
+    }
+
+    @Override
+    public SortedIndexDescriptor indexDescriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public void put(IndexRow row) {
+        WriteBatchWithIndex writeBatch = partitionStorage.currentWriteBatch();
+
+        BinaryTuple tuple = row.indexColumns();
+
+        try {
+            writeBatch.put(indexCf.handle(), rocksKey(tuple, row.rowId()), tupleBytes(tuple));
+        } catch (RocksDBException e) {
+            throw new StorageException("Unable to insert data into sorted index. Index ID: " + descriptor.id(), e);
+        }
+    }
+
+    @Override
+    public void remove(IndexRow row) {
+        WriteBatchWithIndex writeBatch = partitionStorage.currentWriteBatch();
+
+        try {
+            writeBatch.delete(indexCf.handle(), rocksKey(row.indexColumns(), row.rowId()));
+        } catch (RocksDBException e) {
+            throw new StorageException("Unable to remove data from sorted index. Index ID: " + descriptor.id(), e);
+        }
+    }
+
+    @Override
+    public Cursor<IndexRow> scan(@Nullable BinaryTuple lowerBound, @Nullable BinaryTuple upperBound, int flags) {
+        boolean includeLower = (flags & GREATER_OR_EQUAL) != 0;
+        boolean includeUpper = (flags & LESS_OR_EQUAL) != 0;
+        boolean backwards = (flags & BACKWARDS) != 0;
+
+        // Bounds of the key range, the range is the same for both directions of the scan. Keys of the rows are longer than the
+        // encoded bounds, so a row is greater than the bound if its columns start with the bound columns.
+        byte[] rangeStart;
+
+        if (lowerBound == null) {
+            rangeStart = constantPrefix;
+        } else {
+            byte[] lowerKey = rocksKey(lowerBound, null);
+
+            rangeStart = includeLower ? lowerKey : rangeEnd(lowerKey);
+        }
+
+        byte[] rangeEnd;
+
+        if (upperBound == null) {
+            rangeEnd = rangeEnd(constantPrefix);
+        } else {
+            byte[] upperKey = rocksKey(upperBound, null);
+
+            rangeEnd = includeUpper ? rangeEnd(upperKey) : upperKey;
+        }
+
+        if (rangeStart == null) {
+            return Cursor.fromIterator(Collections.emptyIterator());
+        }
+
+        Slice lowerSlice = new Slice(rangeStart);
+        Slice upperSlice = rangeEnd == null ? null : new Slice(rangeEnd);
+
+        ReadOptions options = new ReadOptions()
+                .setIterateLowerBound(lowerSlice)
+                .setIterateUpperBound(upperSlice)
+                // Backwards scans are positioned at the upper bound, which may have a different prefix.
+                .setTotalOrderSeek(backwards);
+
+        RocksIterator baseIterator = indexCf.newIterator(options);
+
+        // Reads inside of the consistency closure must see the pending updates of the closure itself.
+        // "count()" check is mandatory, see the comment in RocksDbMvPartitionStorage#read.
+        WriteBatchWithIndex writeBatch = partitionStorage.pendingWriteBatch();
+
+        RocksIterator it = writeBatch != null && writeBatch.count() > 0
+                ? writeBatch.newIteratorWithBase(indexCf.handle(), baseIterator)
+                : baseIterator;
+
+        if (!backwards) {
+            it.seek(rangeStart);
+        } else if (rangeEnd == null) {
+            it.seekToLast();
+        } else {
+            it.seekForPrev(rangeEnd);
+
+            // Upper bound is exclusive.
+            if (it.isValid() && Arrays.compareUnsigned(it.key(), rangeEnd) >= 0) {
+                it.prev();
+            }
+        }
+
+        return new RocksIteratorAdapter<>(it) {
+            @Override
+            public boolean hasNext() {
+                if (!super.hasNext()) {
+                    return false;
+                }
+
+                // Write batch iterator ignores the bounds, so they have to be checked explicitly.
+                byte[] key = it.key();
+
+                return backwards
+                        ? Arrays.compareUnsigned(key, rangeStart) >= 0
+                        : rangeEnd == null || Arrays.compareUnsigned(key, rangeEnd) < 0;
+            }
+
+            @Override
+            public IndexRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                IndexRow row = decodeEntry(it.key(), it.value());
+
+                if (backwards) {
+                    it.prev();
+                } else {
+                    it.next();
+                }
+
+                return row;
+            }
+
+            @Override
+            protected IndexRow decodeEntry(byte[] key, byte[] value) {
+                // RowId UUID is located at the last 16 bytes of the key
+                long mostSignificantBits = bytesToLong(key, key.length - Long.BYTES * 2);
+                long leastSignificantBits = bytesToLong(key, key.length - Long.BYTES);
+
+                var rowId = new RowId(partitionStorage.partitionId(), mostSignificantBits, leastSignificantBits);
+
+                return new IndexRowImpl(new BinaryTuple(tupleSchema, value), rowId);
+            }
+
+            @Override
+            public void close() throws Exception {
+                super.close();
+
+                IgniteUtils.closeAll(baseIterator, options, lowerSlice, upperSlice);
+            }
+        };
+    }
+
+    @Override
+    public void destroy() {
+        byte[] rangeEnd = rangeEnd(constantPrefix);
+
+        assert rangeEnd != null;
+
+        try (WriteOptions writeOptions = new WriteOptions().setDisableWAL(true)) {
+            indexCf.db().deleteRange(indexCf.handle(), writeOptions, constantPrefix, rangeEnd);
+        } catch (RocksDBException e) {
+            throw new StorageException("Unable to remove data from sorted index. Index ID: " + descriptor.id(), e);
+        }
+    }
+
+    private byte[] rocksKey(BinaryTuple tuple, @Nullable RowId rowId) {
+        return new SortedIndexKeyEncoder(descriptor).encode(constantPrefix, tuple, rowId);
+    }
+
+    private static byte[] tupleBytes(BinaryTuple tuple) {
+        ByteBuffer buffer = tuple.byteBuffer();
+
+        byte[] bytes = new byte[buffer.remaining()];
+
+        buffer.duplicate().get(bytes);
+
+        return bytes;
+    }
+}
@@ -154,18 +154,6 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
         assertThat(tableStorage.isVolatile(), is(false));
     }
 
-    @Disabled("https://issues.apache.org/jira/browse/IGNITE-17318")
-    @Override
-    public void testCreateSortedIndex() {
-        super.testCreateSortedIndex();
-    }
-
-    @Disabled("https://issues.apache.org/jira/browse/IGNITE-17318")
-    @Override
-    public void testDestroyIndex() {
-        super.testDestroyIndex();
-    }
-
     @Disabled("https://issues.apache.org/jira/browse/IGNITE-17318")
     @Override
     public void testMisconfiguredIndices() {
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.index;
+
+import java.nio.file.Path;
+import java.util.UUID;
+import org.apache.ignite.configuration.schemas.table.NullValueDefaultConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.TableConfiguration;
+import org.apache.ignite.configuration.schemas.table.TableView;
+import org.apache.ignite.configuration.schemas.table.UnlimitedBudgetConfigurationSchema;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.index.AbstractSortedIndexStorageTest;
+import org.apache.ignite.internal.storage.index.IndexRow;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbTableStorage;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataStorageConfigurationSchema;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Tests for the {@link RocksDbSortedIndexStorage} class.
+ */
+@ExtendWith(WorkDirectoryExtension.class)
+public class RocksDbSortedIndexStorageTest extends AbstractSortedIndexStorageTest {
+    private static final int TEST_PARTITION = 0;
+
+    private RocksDbStorageEngine engine;
+
+    private RocksDbTableStorage tableStorage;
+
+    private MvPartitionStorage partitionStorage;
+
+    @BeforeEach
+    void setUp(
+            @WorkDirectory Path workDir,
+            @InjectConfiguration("mock {flushDelayMillis = 0, defaultRegion {size = 16536, writeBufferSize = 16536}}")
+            RocksDbStorageEngineConfiguration rocksDbEngineConfig,
+            @InjectConfiguration(
+                    polymorphicExtensions = {
+                            RocksDbDataStorageConfigurationSchema.class,
+                            NullValueDefaultConfigurationSchema.class,
+                            UnlimitedBudgetConfigurationSchema.class
+                    },
+                    value = "mock.dataStorage.name = " + RocksDbStorageEngine.ENGINE_NAME
+            )
+            TableConfiguration tableCfg
+    ) {
+        engine = new RocksDbStorageEngine(rocksDbEngineConfig, workDir);
+
+        engine.start();
+
+        tableStorage = engine.createMvTable(tableCfg);
+
+        tableStorage.start();
+
+        partitionStorage = tableStorage.getOrCreateMvPartition(TEST_PARTITION);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        IgniteUtils.closeAll(
+                tableStorage == null ? null : tableStorage::stop,
+                engine == null ? null : engine::stop
+        );
+    }
+
+    @Override
+    protected SortedIndexStorage createIndexStorage(UUID indexId, TableView tableCfg) {
+        SortedIndexDescriptor descriptor = new SortedIndexDescriptor(indexId, tableCfg);
+
+        return new ConsistentSortedIndexStorage(tableStorage.getOrCreateSortedIndex(TEST_PARTITION, descriptor));
+    }
+
+    /**
+     * Storage that performs every write inside of {@link MvPartitionStorage#runConsistently}, because this is where the RocksDB
+     * index storage expects to find its write batch.
+     */
+    private class ConsistentSortedIndexStorage implements SortedIndexStorage {
+        private final SortedIndexStorage delegate;
+
+        ConsistentSortedIndexStorage(SortedIndexStorage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SortedIndexDescriptor indexDescriptor() {
+            return delegate.indexDescriptor();
+        }
+
+        @Override
+        public void put(IndexRow row) {
+            partitionStorage.runConsistently(() -> {
+                delegate.put(row);
+
+                return null;
+            });
+        }
+
+        @Override
+        public void remove(IndexRow row) {
+            partitionStorage.runConsistently(() -> {
+                delegate.remove(row);
+
+                return null;
+            });
+        }
+
+        @Override
+        public void destroy() {
+            delegate.destroy();
+        }
+
+        @Override
+        public Cursor<IndexRow> scan(@Nullable BinaryTuple lowerBound, @Nullable BinaryTuple upperBound, int flags) {
+            return delegate.scan(lowerBound, upperBound, flags);
+        }
+    }
+}
@@ -238,6 +238,15 @@ public interface InternalTable extends AutoCloseable {
      */
     ClusterNode leaderAssignment(int partition);
 
+    /**
+     * Returns cluster nodes that are the leaders of the partition groups. Unlike {@link #leaderAssignment(int)}, doesn't block
+     * the calling thread: the leaders that are not known yet are requested asynchronously.
+     *
+     * @return Future with the leader nodes by partition numbers, an element is {@code null} if the leader is unknown or is not
+     *      in the topology.
+     */
+    CompletableFuture<List<ClusterNode>> leaderAssignmentsAsync();
+
     /**
      * Returns raft group client for corresponding partition.
      *
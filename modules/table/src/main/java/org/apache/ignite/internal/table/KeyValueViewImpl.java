@@ -32,7 +32,8 @@ import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
 import org.apache.ignite.internal.schema.marshaller.MarshallerException;
-import org.apache.ignite.internal.schema.marshaller.reflection.KvMarshallerImpl;
+import org.apache.ignite.internal.schema.marshaller.MarshallerFactory;
+import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -69,10 +70,29 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
             SchemaRegistry schemaReg,
             Mapper<K> keyMapper,
             Mapper<V> valueMapper
+    ) {
+        this(tbl, schemaReg, keyMapper, valueMapper, new ReflectionMarshallerFactory());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tbl Table storage.
+     * @param schemaReg Schema registry.
+     * @param keyMapper Key class mapper.
+     * @param valueMapper Value class mapper.
+     * @param marshallerFactory Marshaller factory.
+     */
+    public KeyValueViewImpl(
+            InternalTable tbl,
+            SchemaRegistry schemaReg,
+            Mapper<K> keyMapper,
+            Mapper<V> valueMapper,
+            MarshallerFactory marshallerFactory
     ) {
         super(tbl, schemaReg);
 
-        marshallerFactory = (schema) -> new KvMarshallerImpl<>(schema, keyMapper, valueMapper);
+        this.marshallerFactory = (schema) -> marshallerFactory.create(schema, keyMapper, valueMapper);
     }
 
     /** {@inheritDoc} */
@@ -31,8 +31,9 @@ import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.marshaller.MarshallerException;
+import org.apache.ignite.internal.schema.marshaller.MarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.RecordMarshaller;
-import org.apache.ignite.internal.schema.marshaller.reflection.RecordMarshallerImpl;
+import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.lang.IgniteException;
@@ -61,9 +62,21 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
      * @param mapper    Record class mapper.
      */
     public RecordViewImpl(InternalTable tbl, SchemaRegistry schemaReg, Mapper<R> mapper) {
+        this(tbl, schemaReg, mapper, new ReflectionMarshallerFactory());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tbl               Table.
+     * @param schemaReg         Schema registry.
+     * @param mapper            Record class mapper.
+     * @param marshallerFactory Marshaller factory.
+     */
+    public RecordViewImpl(InternalTable tbl, SchemaRegistry schemaReg, Mapper<R> mapper, MarshallerFactory marshallerFactory) {
         super(tbl, schemaReg);
 
-        marshallerFactory = (schema) -> new RecordMarshallerImpl<>(schema, mapper);
+        this.marshallerFactory = (schema) -> marshallerFactory.create(schema, mapper);
     }
 
     /** {@inheritDoc} */
@@ -17,14 +17,19 @@
 
 package org.apache.ignite.internal.table;
 
+import static org.apache.ignite.lang.IgniteSystemProperties.getBoolean;
+
 import java.util.Objects;
 import java.util.UUID;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.marshaller.MarshallerException;
+import org.apache.ignite.internal.schema.marshaller.MarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.TupleMarshallerException;
 import org.apache.ignite.internal.schema.marshaller.TupleMarshallerImpl;
+import org.apache.ignite.internal.schema.marshaller.asm.GeneratedMarshallerFactory;
 import org.apache.ignite.internal.schema.marshaller.reflection.KvMarshallerImpl;
+import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.network.ClusterNode;
@@ -39,9 +44,17 @@ import org.jetbrains.annotations.NotNull;
  * Table view implementation for binary objects.
  */
 public class TableImpl implements Table {
+    /** Whether the record and key-value views use the reflection-based marshallers instead of the generated ones. */
+    private static final boolean GENERATED_MARSHALLERS_DISABLED = getBoolean("IGNITE_GENERATED_MARSHALLERS_DISABLED");
+
     /** Internal table. */
     private final InternalTable tbl;
 
+    /** Marshaller factory of the record and key-value views, shared by the views to reuse the marshallers. */
+    private final MarshallerFactory marshallerFactory = GENERATED_MARSHALLERS_DISABLED
+            ? new ReflectionMarshallerFactory()
+            : new GeneratedMarshallerFactory();
+
     /** Schema registry. Should be set either in constructor or via {@link #schemaView(SchemaRegistry)} before start of using the table. */
     private volatile SchemaRegistry schemaReg;
 
@@ -107,7 +120,7 @@ public class TableImpl implements Table {
     /** {@inheritDoc} */
     @Override
     public <R> RecordView<R> recordView(Mapper<R> recMapper) {
-        return new RecordViewImpl<>(tbl, schemaReg, recMapper);
+        return new RecordViewImpl<>(tbl, schemaReg, recMapper, marshallerFactory);
     }
 
     /** {@inheritDoc} */
@@ -119,7 +132,7 @@ public class TableImpl implements Table {
     /** {@inheritDoc} */
     @Override
     public <K, V> KeyValueView<K, V> keyValueView(Mapper<K> keyMapper, Mapper<V> valMapper) {
-        return new KeyValueViewImpl<>(tbl, schemaReg, keyMapper, valMapper);
+        return new KeyValueViewImpl<>(tbl, schemaReg, keyMapper, valMapper, marshallerFactory);
     }
 
     /** {@inheritDoc} */
@@ -102,6 +102,10 @@ import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.distributed.gc.MvGc;
+import org.apache.ignite.internal.table.distributed.gc.MvGcMetricSource;
+import org.apache.ignite.internal.table.distributed.index.IndexBuilder;
+import org.apache.ignite.internal.table.distributed.index.IndexUpdater;
 import org.apache.ignite.internal.table.distributed.raft.PartitionListener;
 import org.apache.ignite.internal.table.distributed.raft.RebalanceRaftGroupEventsListener;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionSnapshotStorageFactory;
@@ -227,6 +231,12 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
      */
     private final ExecutorService ioExecutor;
 
+    /** Garbage collector of the row versions of the local partitions. */
+    private final MvGc mvGc;
+
+    /** Builder of the indexes over the data of the local partitions. */
+    private final IndexBuilder indexBuilder;
+
     /** Rebalance scheduler pool size. */
     private static final int REBALANCE_SCHEDULER_POOL_SIZE = Math.min(Utils.cpus() * 3, 20);
 
@@ -337,6 +347,20 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                 TimeUnit.MILLISECONDS,
                 new LinkedBlockingQueue<>(),
                 NamedThreadFactory.create(nodeName, "tableManager-io", LOG));
+
+        mvGc = new MvGc(
+                nodeName,
+                () -> tablesByIdVv.latest().values(),
+                txManager,
+                IgniteSystemProperties.getLong(MvGc.IGNITE_MV_GC_INTERVAL, MvGc.DFLT_INTERVAL),
+                IgniteSystemProperties.getInteger(MvGc.IGNITE_MV_GC_BATCH_SIZE, MvGc.DFLT_BATCH_SIZE)
+        );
+
+        indexBuilder = new IndexBuilder(
+                nodeName,
+                IgniteSystemProperties.getLong(IndexBuilder.IGNITE_INDEX_BUILD_INTERVAL, IndexBuilder.DFLT_INTERVAL),
+                IgniteSystemProperties.getInteger(IndexBuilder.IGNITE_INDEX_BUILD_BATCH_SIZE, IndexBuilder.DFLT_BATCH_SIZE)
+        );
     }
 
     /** {@inheritDoc} */
@@ -383,6 +407,10 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         });
 
         addMessageHandler(raftMgr.messagingService());
+
+        mvGc.start();
+
+        indexBuilder.start();
     }
 
     /**
@@ -595,7 +623,9 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                     return failedFuture(e);
                 }
 
-                InternalTable internalTbl = tablesById.get(tblId).internalTable();
+                TableImpl table = tablesById.get(tblId);
+
+                InternalTable internalTbl = table.internalTable();
 
                 MvTableStorage storage = internalTbl.storage();
                 boolean isInMemory = storage.isVolatile();
@@ -661,7 +691,15 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                                         raftMgr.startRaftGroupNode(
                                                 grpId,
                                                 newPartAssignment,
-                                                new PartitionListener(tblId, new VersionedRowStore(partitionStorage, txManager)),
+                                                new PartitionListener(
+                                                        tblId,
+                                                        new VersionedRowStore(
+                                                                partitionStorage,
+                                                                internalTbl.storage().getOrCreatePrimaryIndex(partId),
+                                                                txManager,
+                                                                new IndexUpdater(table)
+                                                        )
+                                                ),
                                                 new RebalanceRaftGroupEventsListener(
                                                         metaStorageMgr,
                                                         tablesCfg.tables().get(tablesById.get(tblId).name()),
@@ -749,6 +787,9 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
             raftGroupOptions = RaftGroupOptions.forPersistentStores();
         }
 
+        // Key lookups are served by the leader without a quorum round trip while its lease is valid.
+        raftGroupOptions.leaseBasedReads(true);
+
         //TODO Revisit peers String representation: https://issues.apache.org/jira/browse/IGNITE-17420
         raftGroupOptions.snapshotStorageFactory(new PartitionSnapshotStorageFactory(
                 partitionStorage,
@@ -768,6 +809,11 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
         busyLock.block();
 
+        // The collector and the index builder are stopped before the storages are closed.
+        mvGc.stop();
+
+        indexBuilder.stop();
+
         Map<UUID, TableImpl> tables = tablesByIdVv.latest();
 
         cleanUpTablesResources(tables);
@@ -1352,6 +1398,42 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         }
     }
 
+    /**
+     * Returns the metric source of the garbage collector of the row versions.
+     */
+    public MvGcMetricSource mvGcMetricSource() {
+        return mvGc.metricSource();
+    }
+
+    /**
+     * Builds an index over the data that already exists in the local partitions of a table. The build is resumed if it was started
+     * before the node restart.
+     *
+     * @param tableId Table id.
+     * @param indexId Index id.
+     * @return Future that's completed when the index is built in all the local partitions of the table.
+     */
+    public CompletableFuture<Void> buildIndexAsync(UUID tableId, UUID indexId) {
+        if (!busyLock.enterBusy()) {
+            return failedFuture(new NodeStoppingException());
+        }
+
+        try {
+            return tableAsyncInternal(tableId, false).thenCompose(table -> inBusyLock(busyLock, () -> indexBuilder.build(table, indexId)));
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    /**
+     * Cancels the build of an index, see {@link #buildIndexAsync(UUID, UUID)}.
+     *
+     * @param indexId Index id.
+     */
+    public void cancelIndexBuild(UUID indexId) {
+        indexBuilder.cancel(indexId);
+    }
+
     /**
      * Actual tables map.
      *
@@ -1600,7 +1682,12 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
                             RaftGroupListener raftGrpLsnr = new PartitionListener(
                                     tblId,
-                                    new VersionedRowStore(partitionStorage, txManager)
+                                    new VersionedRowStore(
+                                            partitionStorage,
+                                            tbl.internalTable().storage().getOrCreatePrimaryIndex(part),
+                                            txManager,
+                                            new IndexUpdater(tbl)
+                                    )
                             );
 
                             RaftGroupEventsListener raftGrpEvtsLsnr = new RebalanceRaftGroupEventsListener(
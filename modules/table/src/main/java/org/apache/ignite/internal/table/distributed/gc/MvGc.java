@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.gc;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.manager.IgniteComponent;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.VacuumResult;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.util.IgniteUtils;
+
+/**
+ * Garbage collector of the multi-version partition storages: periodically removes the row versions that can't be read anymore, see
+ * {@link MvPartitionStorage#vacuum}.
+ *
+ * <p>The low watermark is taken from the {@link TxManager#lowWatermark() transaction manager}. Every round processes at most a batch
+ * of version chains of every local partition and remembers where it stopped, so the next round continues from there, and a partition
+ * is fully vacuumed in a number of rounds. The interval between the rounds and the batch size limit the load the collection puts on
+ * the storages.
+ */
+public class MvGc implements IgniteComponent {
+    /**
+     * Interval between the garbage collection rounds in milliseconds, the garbage collection is disabled if not positive.
+     *
+     * <p>Default: {@code 1000}.
+     */
+    public static final String IGNITE_MV_GC_INTERVAL = "IGNITE_MV_GC_INTERVAL";
+
+    /**
+     * Maximum number of the version chains of a partition processed by a garbage collection round.
+     *
+     * <p>Default: {@code 1000}.
+     */
+    public static final String IGNITE_MV_GC_BATCH_SIZE = "IGNITE_MV_GC_BATCH_SIZE";
+
+    /** Default interval between the garbage collection rounds in milliseconds. */
+    public static final long DFLT_INTERVAL = 1_000;
+
+    /** Default maximum number of the version chains of a partition processed by a round. */
+    public static final int DFLT_BATCH_SIZE = 1_000;
+
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(MvGc.class);
+
+    /** Node name. */
+    private final String nodeName;
+
+    /** Supplier of the tables. */
+    private final Supplier<Collection<TableImpl>> tables;
+
+    /** Transaction manager. */
+    private final TxManager txManager;
+
+    /** Interval between the rounds in milliseconds. */
+    private final long interval;
+
+    /** Maximum number of the version chains of a partition processed by a round. */
+    private final int batchSize;
+
+    /** Metric source. */
+    private final MvGcMetricSource metricSource = new MvGcMetricSource();
+
+    /** Row ids to continue the vacuum of the partitions from, guarded by {@code this}. */
+    private Map<MvPartitionStorage, RowId> positions = new HashMap<>();
+
+    /** Garbage collection executor. */
+    private volatile ScheduledExecutorService executor;
+
+    /**
+     * The constructor.
+     *
+     * @param nodeName Node name.
+     * @param tables Supplier of the tables.
+     * @param txManager Transaction manager.
+     * @param interval Interval between the rounds in milliseconds, the periodic collection is disabled if not positive.
+     * @param batchSize Maximum number of the version chains of a partition processed by a round.
+     */
+    public MvGc(String nodeName, Supplier<Collection<TableImpl>> tables, TxManager txManager, long interval, int batchSize) {
+        assert batchSize > 0 : batchSize;
+
+        this.nodeName = nodeName;
+        this.tables = tables;
+        this.txManager = txManager;
+        this.interval = interval;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the metric source.
+     */
+    public MvGcMetricSource metricSource() {
+        return metricSource;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        if (interval <= 0) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(NamedThreadFactory.create(nodeName, "mv-gc", LOG));
+
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                runRound();
+            } catch (Throwable e) {
+                LOG.error("Garbage collection of row versions failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor0 = executor;
+
+        if (executor0 != null) {
+            IgniteUtils.shutdownAndAwaitTermination(executor0, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Runs a single garbage collection round over all the local partitions.
+     */
+    public synchronized void runRound() {
+        Timestamp now = Timestamp.nextVersion();
+
+        Timestamp lowWatermark = txManager.lowWatermark();
+
+        Map<MvPartitionStorage, RowId> newPositions = new HashMap<>();
+
+        int maxChainLength = 0;
+
+        for (TableImpl table : tables.get()) {
+            InternalTable internalTable = table.internalTable();
+
+            for (int partId = 0; partId < internalTable.partitions(); partId++) {
+                MvPartitionStorage partitionStorage = internalTable.storage().getMvPartition(partId);
+
+                if (partitionStorage == null) {
+                    continue;
+                }
+
+                VacuumResult result = partitionStorage.vacuum(lowWatermark, positions.get(partitionStorage), batchSize);
+
+                metricSource.onVacuum(result);
+
+                maxChainLength = Math.max(maxChainLength, result.maxChainLength());
+
+                if (result.nextRowId() != null) {
+                    newPositions.put(partitionStorage, result.nextRowId());
+                }
+            }
+        }
+
+        // Positions of the partitions which are gone are dropped along with the old map.
+        positions = newPositions;
+
+        metricSource.onRound(Math.max(0, (now.getTimestamp() >>> 16) - (lowWatermark.getTimestamp() >>> 16)), maxChainLength);
+    }
+}
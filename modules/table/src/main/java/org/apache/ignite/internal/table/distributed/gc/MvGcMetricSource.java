@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.gc;
+
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.storage.VacuumResult;
+
+/**
+ * Metric source of the {@link MvGc garbage collector} of multi-version partition storages.
+ */
+public class MvGcMetricSource extends AbstractMetricSource<MvGcMetricSource.Holder> {
+    /** Source name. */
+    public static final String SOURCE_NAME = "storage.gc";
+
+    /**
+     * Constructor.
+     */
+    public MvGcMetricSource() {
+        super(SOURCE_NAME);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void init(MetricSetBuilder bldr, Holder holder) {
+        holder.reclaimedVersions = bldr.longAdder("ReclaimedVersions", "Total number of the removed row versions.");
+
+        holder.scannedVersions = bldr.longAdder("ScannedVersions", "Total number of the row versions seen by the garbage collector.");
+
+        holder.scannedChains = bldr.longAdder("ScannedChains", "Total number of the version chains seen by the garbage collector.");
+
+        bldr.doubleGauge(
+                "AverageChainLength",
+                "Average number of the versions in a version chain seen by the garbage collector, before the removal.",
+                () -> {
+                    long chains = holder.scannedChains.value();
+
+                    return chains == 0 ? 0 : (double) holder.scannedVersions.value() / chains;
+                }
+        );
+
+        bldr.longGauge(
+                "MaxChainLength",
+                "Maximum number of the versions in a version chain seen by the latest garbage collection round, before the removal.",
+                () -> holder.maxChainLength
+        );
+
+        bldr.longGauge(
+                "LowWatermarkLag",
+                "How far the low watermark used by the latest garbage collection round was behind the current time, in milliseconds.",
+                () -> holder.lowWatermarkLag
+        );
+    }
+
+    /**
+     * Records a vacuum of a partition.
+     *
+     * @param result Result of the vacuum.
+     */
+    void onVacuum(VacuumResult result) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.reclaimedVersions.add(result.removedVersions());
+            holder.scannedVersions.add(result.versions());
+            holder.scannedChains.add(result.chains());
+        }
+    }
+
+    /**
+     * Records a completed garbage collection round.
+     *
+     * @param lowWatermarkLag How far the low watermark was behind the current time, in milliseconds.
+     * @param maxChainLength Maximum length of a version chain seen by the round.
+     */
+    void onRound(long lowWatermarkLag, int maxChainLength) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.lowWatermarkLag = lowWatermarkLag;
+            holder.maxChainLength = maxChainLength;
+        }
+    }
+
+    /**
+     * Holder class.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private LongAdderMetric reclaimedVersions;
+
+        private LongAdderMetric scannedVersions;
+
+        private LongAdderMetric scannedChains;
+
+        private volatile long maxChainLength;
+
+        private volatile long lowWatermarkLag;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.index;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.configuration.schemas.table.TableIndexView;
+import org.apache.ignite.internal.configuration.util.ConfigurationUtil;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.manager.IgniteComponent;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.NodeStoppingException;
+
+/**
+ * Builder of the indexes over the data that already exists in the local partitions: feeds the row versions of the partitions to the
+ * index storages, see {@link MvPartitionStorage#scanVersions}.
+ *
+ * <p>Every round processes at most a batch of version chains of every local partition of every index being built. The index rows of
+ * a batch are written consistently with the {@link MvPartitionStorage#indexBuildProgress(UUID, RowId) progress} of the build, so the
+ * build is resumed from where it stopped after the node restart, and the updates of the partition are not blocked in the meantime.
+ * The interval between the rounds and the batch size throttle the build, so it doesn't starve the foreground operations. The versions
+ * written during the build are put to the index by the write path, see {@link IndexUpdater}.
+ */
+public class IndexBuilder implements IgniteComponent {
+    /**
+     * Interval between the index build rounds in milliseconds.
+     *
+     * <p>Default: {@code 100}.
+     */
+    public static final String IGNITE_INDEX_BUILD_INTERVAL = "IGNITE_INDEX_BUILD_INTERVAL";
+
+    /**
+     * Maximum number of the version chains of a partition processed by an index build round.
+     *
+     * <p>Default: {@code 1000}.
+     */
+    public static final String IGNITE_INDEX_BUILD_BATCH_SIZE = "IGNITE_INDEX_BUILD_BATCH_SIZE";
+
+    /** Default interval between the index build rounds in milliseconds. */
+    public static final long DFLT_INTERVAL = 100;
+
+    /** Default maximum number of the version chains of a partition processed by a round. */
+    public static final int DFLT_BATCH_SIZE = 1_000;
+
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(IndexBuilder.class);
+
+    /** Node name. */
+    private final String nodeName;
+
+    /** Interval between the rounds in milliseconds. */
+    private final long interval;
+
+    /** Maximum number of the version chains of a partition processed by a round. */
+    private final int batchSize;
+
+    /** Builds in progress by the index ids. */
+    private final Map<UUID, IndexBuild> builds = new ConcurrentHashMap<>();
+
+    /** Index build executor. */
+    private volatile ScheduledExecutorService executor;
+
+    /**
+     * The constructor.
+     *
+     * @param nodeName Node name.
+     * @param interval Interval between the rounds in milliseconds.
+     * @param batchSize Maximum number of the version chains of a partition processed by a round.
+     */
+    public IndexBuilder(String nodeName, long interval, int batchSize) {
+        assert interval > 0 : interval;
+        assert batchSize > 0 : batchSize;
+
+        this.nodeName = nodeName;
+        this.interval = interval;
+        this.batchSize = batchSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(NamedThreadFactory.create(nodeName, "index-builder", LOG));
+
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                runRound();
+            } catch (Throwable e) {
+                LOG.error("Index build round failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor0 = executor;
+
+        if (executor0 != null) {
+            IgniteUtils.shutdownAndAwaitTermination(executor0, 10, TimeUnit.SECONDS);
+        }
+
+        builds.values().forEach(build -> build.future.completeExceptionally(new NodeStoppingException()));
+
+        builds.clear();
+    }
+
+    /**
+     * Starts the build of an index over the data of the local partitions of a table, unless it's already being built. The partitions
+     * that have already completed the build are skipped.
+     *
+     * @param table Table.
+     * @param indexId Index id.
+     * @return Future that's completed when the index is built in all the local partitions of the table.
+     */
+    public CompletableFuture<Void> build(TableImpl table, UUID indexId) {
+        return builds.computeIfAbsent(indexId, id -> new IndexBuild(table, indexId)).future;
+    }
+
+    /**
+     * Cancels the build of an index, e.g. when the index is dropped. The future of the build is cancelled.
+     *
+     * @param indexId Index id.
+     */
+    public void cancel(UUID indexId) {
+        IndexBuild build = builds.remove(indexId);
+
+        if (build != null) {
+            build.future.cancel(false);
+        }
+    }
+
+    /**
+     * Runs a single index build round over all the indexes being built.
+     */
+    public synchronized void runRound() {
+        for (IndexBuild build : builds.values()) {
+            try {
+                if (buildBatch(build)) {
+                    LOG.info("Index built [table={}, indexId={}]", build.table.name(), build.indexId);
+
+                    builds.remove(build.indexId, build);
+
+                    build.future.complete(null);
+                }
+            } catch (Throwable e) {
+                LOG.error("Index build failed [table={}, indexId={}]", e, build.table.name(), build.indexId);
+
+                builds.remove(build.indexId, build);
+
+                build.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Builds a batch of the index in every local partition.
+     *
+     * @param build Index build.
+     * @return {@code true} if the index is built in all the local partitions.
+     */
+    private boolean buildBatch(IndexBuild build) {
+        InternalTable internalTable = build.table.internalTable();
+
+        MvTableStorage tableStorage = internalTable.storage();
+
+        TableIndexView indexView = ConfigurationUtil.getByInternalId(tableStorage.configuration().value().indices(), build.indexId);
+
+        if (indexView == null) {
+            throw new StorageException(String.format("Index configuration for \"%s\" could not be found", build.indexId));
+        }
+
+        boolean built = true;
+
+        for (int partId = 0; partId < internalTable.partitions(); partId++) {
+            MvPartitionStorage partitionStorage = tableStorage.getMvPartition(partId);
+
+            if (partitionStorage == null) {
+                continue;
+            }
+
+            built &= partitionStorage.runConsistently(() -> {
+                if (partitionStorage.indexBuilt(build.indexId)) {
+                    return true;
+                }
+
+                RowId lowerBound = partitionStorage.indexBuildProgress(build.indexId);
+
+                RowId nextRowId = partitionStorage.scanVersions(lowerBound, batchSize, (rowId, row) ->
+                        build.indexUpdater.put(indexView, rowId, row));
+
+                partitionStorage.indexBuildProgress(build.indexId, nextRowId);
+
+                return nextRowId == null;
+            });
+        }
+
+        return built;
+    }
+
+    /**
+     * Build of an index.
+     */
+    private static class IndexBuild {
+        private final TableImpl table;
+
+        private final UUID indexId;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /** Puts the scanned row versions to the index. */
+        private final IndexUpdater indexUpdater;
+
+        private IndexBuild(TableImpl table, UUID indexId) {
+            this.table = table;
+            this.indexId = indexId;
+
+            indexUpdater = new IndexUpdater(table);
+        }
+    }
+}
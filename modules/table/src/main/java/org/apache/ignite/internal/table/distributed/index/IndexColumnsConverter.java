@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.index;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.schema.BinaryConverter;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.BinaryTupleSchema;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.storage.StorageException;
+
+/**
+ * Converts the rows of a table to the index columns of its secondary indexes. The same conversion is used to put the rows to the
+ * indexes and to check the rows read through the indexes, so the index columns of a row can be compared with the ones of an index row
+ * byte by byte.
+ */
+public class IndexColumnsConverter {
+    private final String tableName;
+
+    private final Supplier<SchemaRegistry> schemaRegistry;
+
+    /** Converters of the rows to the index columns by the index ids and the schema versions of the rows. */
+    private final Map<UUID, Map<Integer, Function<BinaryRow, BinaryTuple>>> converters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param tableName Table name.
+     * @param schemaRegistry Supplier of the schema registry of the table.
+     */
+    public IndexColumnsConverter(String tableName, Supplier<SchemaRegistry> schemaRegistry) {
+        this.tableName = tableName;
+        this.schemaRegistry = schemaRegistry;
+    }
+
+    /**
+     * Converts a row to the index columns.
+     *
+     * @param indexId Index id.
+     * @param row Row.
+     * @param columnNames Names of the index columns, only requested for the first row of a schema version.
+     * @return Index columns.
+     */
+    public BinaryTuple indexColumns(UUID indexId, BinaryRow row, Supplier<List<String>> columnNames) {
+        return converters.computeIfAbsent(indexId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(row.schemaVersion(), ver -> converter(ver, columnNames.get()))
+                .apply(row);
+    }
+
+    /**
+     * Returns a converter of the rows of the given schema version to the index columns.
+     *
+     * @param schemaVersion Schema version of the rows.
+     * @param columnNames Names of the index columns.
+     */
+    private Function<BinaryRow, BinaryTuple> converter(int schemaVersion, List<String> columnNames) {
+        SchemaDescriptor schema = schemaRegistry.get().schema(schemaVersion);
+
+        int[] columns = new int[columnNames.size()];
+
+        for (int i = 0; i < columns.length; i++) {
+            Column column = schema.column(columnNames.get(i));
+
+            if (column == null) {
+                throw new StorageException(String.format(
+                        "Index column \"%s\" is not found in the schema [table=%s, schemaVersion=%d]",
+                        columnNames.get(i), tableName, schemaVersion
+                ));
+            }
+
+            columns[i] = column.schemaIndex();
+        }
+
+        BinaryTupleSchema tupleSchema = BinaryTupleSchema.createSchema(schema, columns);
+
+        BinaryConverter converter = new BinaryConverter(schema, tupleSchema);
+
+        return row -> new BinaryTuple(tupleSchema, converter.toTuple(row));
+    }
+}
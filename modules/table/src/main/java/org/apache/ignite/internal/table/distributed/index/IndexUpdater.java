@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.index;
+
+import java.util.stream.Collectors;
+import org.apache.ignite.configuration.NamedListView;
+import org.apache.ignite.configuration.schemas.table.SortedIndexView;
+import org.apache.ignite.configuration.schemas.table.TableIndexView;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.index.HashIndexDescriptor;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.storage.index.IndexRowImpl;
+import org.apache.ignite.internal.storage.index.SortedIndexDescriptor;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.table.TableImpl;
+
+/**
+ * Puts the row versions of a table to its secondary indexes. Used by the write path for the new row versions and by the
+ * {@link IndexBuilder} for the versions that exist when an index is created, so an index being built doesn't miss the concurrent
+ * updates.
+ *
+ * <p>An index row is put for every row version and is not removed when the version is overwritten or removed, so the readers of the
+ * indexes check the rows they read from the partition.
+ */
+public class IndexUpdater {
+    private final TableImpl table;
+
+    private final IndexColumnsConverter converter;
+
+    /**
+     * Constructor.
+     *
+     * @param table Table.
+     */
+    public IndexUpdater(TableImpl table) {
+        this.table = table;
+        this.converter = new IndexColumnsConverter(table.name(), table::schemaView);
+    }
+
+    /**
+     * Puts a row version to all the secondary indexes of the table, the index storages are created if needed. Must be called inside of
+     * the same {@link org.apache.ignite.internal.storage.MvPartitionStorage#runConsistently} closure that writes the version.
+     *
+     * @param rowId Row id of the version chain.
+     * @param row Row version, not a tombstone.
+     */
+    public void put(RowId rowId, BinaryRow row) {
+        NamedListView<? extends TableIndexView> indices = table.internalTable().storage().configuration().value().indices();
+
+        for (String indexName : indices.namedListKeys()) {
+            put(indices.get(indexName), rowId, row);
+        }
+    }
+
+    /**
+     * Puts a row version to a secondary index, the index storage is created if needed.
+     *
+     * @param indexView Index configuration.
+     * @param rowId Row id of the version chain.
+     * @param row Row version, not a tombstone.
+     */
+    public void put(TableIndexView indexView, RowId rowId, BinaryRow row) {
+        MvTableStorage tableStorage = table.internalTable().storage();
+
+        if (indexView instanceof SortedIndexView) {
+            SortedIndexStorage indexStorage = tableStorage.getOrCreateSortedIndex(rowId.partitionId(), indexView.id());
+
+            BinaryTuple indexColumns = converter.indexColumns(indexView.id(), row, () -> indexStorage.indexDescriptor().indexColumns()
+                    .stream()
+                    .map(SortedIndexDescriptor.ColumnDescriptor::name)
+                    .collect(Collectors.toList()));
+
+            indexStorage.put(new IndexRowImpl(indexColumns, rowId));
+        } else {
+            HashIndexStorage indexStorage = tableStorage.getOrCreateHashIndex(rowId.partitionId(), indexView.id());
+
+            BinaryTuple indexColumns = converter.indexColumns(indexView.id(), row, () -> indexStorage.indexDescriptor().indexColumns()
+                    .stream()
+                    .map(HashIndexDescriptor.ColumnDescriptor::name)
+                    .collect(Collectors.toList()));
+
+            indexStorage.put(new IndexRowImpl(indexColumns, rowId));
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.table.distributed.raft;
 
 import static org.apache.ignite.lang.IgniteStringFormatter.format;
 
+import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -92,6 +93,9 @@ public class PartitionListener implements RaftGroupListener {
     /** Transaction manager. */
     private final TxManager txManager;
 
+    /** Whether runs of consecutive data commands are applied within a single consistent storage closure. */
+    private final boolean groupApply;
+
     /**
      * The constructor.
      *
@@ -99,10 +103,23 @@ public class PartitionListener implements RaftGroupListener {
      * @param store  The storage.
      */
     public PartitionListener(UUID tableId, VersionedRowStore store) {
+        this(tableId, store, true);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param tableId Table id.
+     * @param store  The storage.
+     * @param groupApply Whether runs of consecutive data commands are applied within a single consistent storage closure with a single
+     *      last applied index update, or every command is applied within its own closure.
+     */
+    public PartitionListener(UUID tableId, VersionedRowStore store, boolean groupApply) {
         this.lockId = new IgniteUuid(tableId, 0);
         this.storage = store;
         this.txManager = store.txManager();
         this.cursors = new ConcurrentHashMap<>();
+        this.groupApply = groupApply;
     }
 
     /** {@inheritDoc} */
@@ -128,63 +145,172 @@ public class PartitionListener implements RaftGroupListener {
     /** {@inheritDoc} */
     @Override
     public void onWrite(Iterator<CommandClosure<WriteCommand>> iterator) {
+        if (!groupApply) {
+            iterator.forEachRemaining(this::applyWriteCommand);
+
+            return;
+        }
+
+        List<CommandClosure<? extends WriteCommand>> group = new ArrayList<>();
+
         iterator.forEachRemaining((CommandClosure<? extends WriteCommand> clo) -> {
-            Command command = clo.command();
+            if (isDataCommand(clo.command())) {
+                group.add(clo);
+            } else {
+                applyDataCommandGroup(group);
 
-            if (!tryEnlistIntoTransaction(command, clo)) {
-                return;
+                group.clear();
+
+                applyWriteCommand(clo);
             }
+        });
 
-            long commandIndex = clo.index();
-
-            long storageAppliedIndex = storage.lastAppliedIndex();
-
-            assert storageAppliedIndex < commandIndex
-                    : "Pending write command has a higher index than already processed commands [commandIndex=" + commandIndex
-                    + ", storageAppliedIndex=" + storageAppliedIndex + ']';
-
-            if (command instanceof InsertCommand) {
-                clo.result(handleInsertCommand((InsertCommand) command, commandIndex));
-            } else if (command instanceof DeleteCommand) {
-                clo.result(handleDeleteCommand((DeleteCommand) command, commandIndex));
-            } else if (command instanceof ReplaceCommand) {
-                clo.result(handleReplaceCommand((ReplaceCommand) command, commandIndex));
-            } else if (command instanceof UpsertCommand) {
-                handleUpsertCommand((UpsertCommand) command, commandIndex);
-
-                clo.result(null);
-            } else if (command instanceof InsertAllCommand) {
-                clo.result(handleInsertAllCommand((InsertAllCommand) command, commandIndex));
-            } else if (command instanceof UpsertAllCommand) {
-                handleUpsertAllCommand((UpsertAllCommand) command, commandIndex);
-
-                clo.result(null);
-            } else if (command instanceof DeleteAllCommand) {
-                clo.result(handleDeleteAllCommand((DeleteAllCommand) command, commandIndex));
-            } else if (command instanceof DeleteExactCommand) {
-                clo.result(handleDeleteExactCommand((DeleteExactCommand) command, commandIndex));
-            } else if (command instanceof DeleteExactAllCommand) {
-                clo.result(handleDeleteExactAllCommand((DeleteExactAllCommand) command, commandIndex));
-            } else if (command instanceof ReplaceIfExistCommand) {
-                clo.result(handleReplaceIfExistsCommand((ReplaceIfExistCommand) command, commandIndex));
-            } else if (command instanceof GetAndDeleteCommand) {
-                clo.result(handleGetAndDeleteCommand((GetAndDeleteCommand) command, commandIndex));
-            } else if (command instanceof GetAndReplaceCommand) {
-                clo.result(handleGetAndReplaceCommand((GetAndReplaceCommand) command, commandIndex));
-            } else if (command instanceof GetAndUpsertCommand) {
-                clo.result(handleGetAndUpsertCommand((GetAndUpsertCommand) command, commandIndex));
-            } else if (command instanceof ScanInitCommand) {
-                handleScanInitCommand((CommandClosure<ScanInitCommand>) clo, (ScanInitCommand) command);
-            } else if (command instanceof ScanRetrieveBatchCommand) {
-                handleScanRetrieveBatchCommand((CommandClosure<ScanRetrieveBatchCommand>) clo, (ScanRetrieveBatchCommand) command);
-            } else if (command instanceof ScanCloseCommand) {
-                handleScanCloseCommand((CommandClosure<ScanCloseCommand>) clo, (ScanCloseCommand) command);
-            } else if (command instanceof FinishTxCommand) {
-                clo.result(handleFinishTxCommand((FinishTxCommand) command, commandIndex));
-            } else {
-                assert false : "Command was not found [cmd=" + command + ']';
+        applyDataCommandGroup(group);
+    }
+
+    /**
+     * Applies a single write command, data commands are applied within their own consistent storage closure.
+     *
+     * @param clo Command closure.
+     */
+    private void applyWriteCommand(CommandClosure<? extends WriteCommand> clo) {
+        Command command = clo.command();
+
+        if (!tryEnlistIntoTransaction(command, clo)) {
+            return;
+        }
+
+        long commandIndex = clo.index();
+
+        long storageAppliedIndex = storage.lastAppliedIndex();
+
+        assert storageAppliedIndex < commandIndex
+                : "Pending write command has a higher index than already processed commands [commandIndex=" + commandIndex
+                + ", storageAppliedIndex=" + storageAppliedIndex + ']';
+
+        if (isDataCommand(command)) {
+            clo.result(storage.delegate().runConsistently(() -> {
+                Serializable res = handleDataCommand(command);
+
+                storage.delegate().lastAppliedIndex(commandIndex);
+
+                return res;
+            }));
+        } else if (command instanceof ScanInitCommand) {
+            handleScanInitCommand((CommandClosure<ScanInitCommand>) clo, (ScanInitCommand) command);
+        } else if (command instanceof ScanRetrieveBatchCommand) {
+            handleScanRetrieveBatchCommand((CommandClosure<ScanRetrieveBatchCommand>) clo, (ScanRetrieveBatchCommand) command);
+        } else if (command instanceof ScanCloseCommand) {
+            handleScanCloseCommand((CommandClosure<ScanCloseCommand>) clo, (ScanCloseCommand) command);
+        } else if (command instanceof FinishTxCommand) {
+            clo.result(handleFinishTxCommand((FinishTxCommand) command, commandIndex));
+        } else {
+            assert false : "Command was not found [cmd=" + command + ']';
+        }
+    }
+
+    /**
+     * Applies a run of consecutive data commands within a single consistent storage closure and updates the last applied index
+     * once, to the index of the last applied command. Results are delivered to the closures only after the whole group has been
+     * written, so no command is acknowledged before its changes are durable.
+     *
+     * @param group Closures of the data commands, in the log order.
+     */
+    private void applyDataCommandGroup(List<CommandClosure<? extends WriteCommand>> group) {
+        if (group.isEmpty()) {
+            return;
+        }
+
+        List<CommandClosure<? extends WriteCommand>> applied = new ArrayList<>(group.size());
+
+        List<Serializable> results = new ArrayList<>(group.size());
+
+        storage.delegate().runConsistently(() -> {
+            long lastAppliedIndex = storage.lastAppliedIndex();
+
+            for (CommandClosure<? extends WriteCommand> clo : group) {
+                Command command = clo.command();
+
+                if (!tryEnlistIntoTransaction(command, clo)) {
+                    continue;
+                }
+
+                long commandIndex = clo.index();
+
+                assert lastAppliedIndex < commandIndex
+                        : "Pending write command has a higher index than already processed commands [commandIndex=" + commandIndex
+                        + ", storageAppliedIndex=" + lastAppliedIndex + ']';
+
+                results.add(handleDataCommand(command));
+
+                applied.add(clo);
+
+                lastAppliedIndex = commandIndex;
+            }
+
+            if (!applied.isEmpty()) {
+                storage.delegate().lastAppliedIndex(lastAppliedIndex);
             }
+
+            return null;
         });
+
+        for (int i = 0; i < applied.size(); i++) {
+            applied.get(i).result(results.get(i));
+        }
+    }
+
+    /**
+     * Checks whether a write command is a data command, i.e. a single or multi row modification that only touches the partition
+     * storage and may therefore be applied together with its neighbours.
+     *
+     * @param command Command.
+     * @return {@code true} if the command is a data command.
+     */
+    private static boolean isDataCommand(Command command) {
+        return command instanceof SingleKeyCommand || command instanceof MultiKeyCommand;
+    }
+
+    /**
+     * Dispatches a data command to its handler. Must be called within a consistent storage closure.
+     *
+     * @param command Data command.
+     * @return Result to be passed to the command closure.
+     */
+    private Serializable handleDataCommand(Command command) {
+        if (command instanceof InsertCommand) {
+            return handleInsertCommand((InsertCommand) command);
+        } else if (command instanceof DeleteCommand) {
+            return handleDeleteCommand((DeleteCommand) command);
+        } else if (command instanceof ReplaceCommand) {
+            return handleReplaceCommand((ReplaceCommand) command);
+        } else if (command instanceof UpsertCommand) {
+            handleUpsertCommand((UpsertCommand) command);
+
+            return null;
+        } else if (command instanceof InsertAllCommand) {
+            return handleInsertAllCommand((InsertAllCommand) command);
+        } else if (command instanceof UpsertAllCommand) {
+            handleUpsertAllCommand((UpsertAllCommand) command);
+
+            return null;
+        } else if (command instanceof DeleteAllCommand) {
+            return handleDeleteAllCommand((DeleteAllCommand) command);
+        } else if (command instanceof DeleteExactCommand) {
+            return handleDeleteExactCommand((DeleteExactCommand) command);
+        } else if (command instanceof DeleteExactAllCommand) {
+            return handleDeleteExactAllCommand((DeleteExactAllCommand) command);
+        } else if (command instanceof ReplaceIfExistCommand) {
+            return handleReplaceIfExistsCommand((ReplaceIfExistCommand) command);
+        } else if (command instanceof GetAndDeleteCommand) {
+            return handleGetAndDeleteCommand((GetAndDeleteCommand) command);
+        } else if (command instanceof GetAndReplaceCommand) {
+            return handleGetAndReplaceCommand((GetAndReplaceCommand) command);
+        } else if (command instanceof GetAndUpsertCommand) {
+            return handleGetAndUpsertCommand((GetAndUpsertCommand) command);
+        } else {
+            throw new AssertionError("Command was not found [cmd=" + command + ']');
+        }
     }
 
     /**
@@ -231,7 +357,7 @@ public class PartitionListener implements RaftGroupListener {
 
         assert keyRows != null && !keyRows.isEmpty();
 
-        // TODO asch IGNITE-15934 all reads are sequential, can be parallelized ?
+        // Rows are looked up in the partition storage with a single batched read.
         return new MultiRowsResponse(storage.getAll(keyRows, cmd.getTxId()));
     }
 
@@ -239,256 +365,165 @@ public class PartitionListener implements RaftGroupListener {
      * Handler for the {@link InsertCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private boolean handleInsertCommand(InsertCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            boolean res = storage.insert(cmd.getRow(), cmd.getTxId());
-
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return res;
-        });
+    private boolean handleInsertCommand(InsertCommand cmd) {
+        return storage.insert(cmd.getRow(), cmd.getTxId());
     }
 
     /**
      * Handler for the {@link DeleteCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private boolean handleDeleteCommand(DeleteCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            boolean res = storage.delete(cmd.getRow(), cmd.getTxId());
-
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return res;
-        });
+    private boolean handleDeleteCommand(DeleteCommand cmd) {
+        return storage.delete(cmd.getRow(), cmd.getTxId());
     }
 
     /**
      * Handler for the {@link ReplaceCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private boolean handleReplaceCommand(ReplaceCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            boolean res = storage.replace(cmd.getOldRow(), cmd.getRow(), cmd.getTxId());
-
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return res;
-        });
+    private boolean handleReplaceCommand(ReplaceCommand cmd) {
+        return storage.replace(cmd.getOldRow(), cmd.getRow(), cmd.getTxId());
     }
 
     /**
      * Handler for the {@link UpsertCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      */
-    private void handleUpsertCommand(UpsertCommand cmd, long commandIndex) {
-        storage.delegate().runConsistently(() -> {
-            storage.upsert(cmd.getRow(), cmd.getTxId());
-
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return null;
-        });
+    private void handleUpsertCommand(UpsertCommand cmd) {
+        storage.upsert(cmd.getRow(), cmd.getTxId());
     }
 
     /**
      * Handler for the {@link InsertAllCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private MultiRowsResponse handleInsertAllCommand(InsertAllCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            Collection<BinaryRow> rows = cmd.getRows();
+    private MultiRowsResponse handleInsertAllCommand(InsertAllCommand cmd) {
+        Collection<BinaryRow> rows = cmd.getRows();
 
-            assert rows != null && !rows.isEmpty();
+        assert rows != null && !rows.isEmpty();
 
-            List<BinaryRow> res = storage.insertAll(rows, cmd.getTxId());
-
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return new MultiRowsResponse(res);
-        });
+        return new MultiRowsResponse(storage.insertAll(rows, cmd.getTxId()));
     }
 
     /**
      * Handler for the {@link UpsertAllCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      */
-    private void handleUpsertAllCommand(UpsertAllCommand cmd, long commandIndex) {
-        storage.delegate().runConsistently(() -> {
-            Collection<BinaryRow> rows = cmd.getRows();
-
-            assert rows != null && !rows.isEmpty();
+    private void handleUpsertAllCommand(UpsertAllCommand cmd) {
+        Collection<BinaryRow> rows = cmd.getRows();
 
-            storage.upsertAll(rows, cmd.getTxId());
+        assert rows != null && !rows.isEmpty();
 
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return null;
-        });
+        storage.upsertAll(rows, cmd.getTxId());
     }
 
     /**
      * Handler for the {@link DeleteAllCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private MultiRowsResponse handleDeleteAllCommand(DeleteAllCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            Collection<BinaryRow> rows = cmd.getRows();
-
-            assert rows != null && !rows.isEmpty();
+    private MultiRowsResponse handleDeleteAllCommand(DeleteAllCommand cmd) {
+        Collection<BinaryRow> rows = cmd.getRows();
 
-            List<BinaryRow> res = storage.deleteAll(rows, cmd.getTxId());
+        assert rows != null && !rows.isEmpty();
 
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return new MultiRowsResponse(res);
-        });
+        return new MultiRowsResponse(storage.deleteAll(rows, cmd.getTxId()));
     }
 
     /**
      * Handler for the {@link DeleteExactCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private boolean handleDeleteExactCommand(DeleteExactCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            BinaryRow row = cmd.getRow();
+    private boolean handleDeleteExactCommand(DeleteExactCommand cmd) {
+        BinaryRow row = cmd.getRow();
 
-            assert row != null;
-            assert row.hasValue();
+        assert row != null;
+        assert row.hasValue();
 
-            boolean res = storage.deleteExact(row, cmd.getTxId());
-
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return res;
-        });
+        return storage.deleteExact(row, cmd.getTxId());
     }
 
     /**
      * Handler for the {@link DeleteExactAllCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private MultiRowsResponse handleDeleteExactAllCommand(DeleteExactAllCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            Collection<BinaryRow> rows = cmd.getRows();
-
-            assert rows != null && !rows.isEmpty();
+    private MultiRowsResponse handleDeleteExactAllCommand(DeleteExactAllCommand cmd) {
+        Collection<BinaryRow> rows = cmd.getRows();
 
-            List<BinaryRow> res = storage.deleteAllExact(rows, cmd.getTxId());
+        assert rows != null && !rows.isEmpty();
 
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return new MultiRowsResponse(res);
-        });
+        return new MultiRowsResponse(storage.deleteAllExact(rows, cmd.getTxId()));
     }
 
     /**
      * Handler for the {@link ReplaceIfExistCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private boolean handleReplaceIfExistsCommand(ReplaceIfExistCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            BinaryRow row = cmd.getRow();
-
-            assert row != null;
+    private boolean handleReplaceIfExistsCommand(ReplaceIfExistCommand cmd) {
+        BinaryRow row = cmd.getRow();
 
-            boolean res = storage.replace(row, cmd.getTxId());
-
-            storage.delegate().lastAppliedIndex(commandIndex);
+        assert row != null;
 
-            return res;
-        });
+        return storage.replace(row, cmd.getTxId());
     }
 
     /**
      * Handler for the {@link GetAndDeleteCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private SingleRowResponse handleGetAndDeleteCommand(GetAndDeleteCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            BinaryRow row = cmd.getRow();
-
-            assert row != null;
-
-            BinaryRow res = storage.getAndDelete(row, cmd.getTxId());
+    private SingleRowResponse handleGetAndDeleteCommand(GetAndDeleteCommand cmd) {
+        BinaryRow row = cmd.getRow();
 
-            storage.delegate().lastAppliedIndex(commandIndex);
+        assert row != null;
 
-            return new SingleRowResponse(res);
-        });
+        return new SingleRowResponse(storage.getAndDelete(row, cmd.getTxId()));
     }
 
     /**
      * Handler for the {@link GetAndReplaceCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private SingleRowResponse handleGetAndReplaceCommand(GetAndReplaceCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            BinaryRow row = cmd.getRow();
-
-            assert row != null && row.hasValue();
+    private SingleRowResponse handleGetAndReplaceCommand(GetAndReplaceCommand cmd) {
+        BinaryRow row = cmd.getRow();
 
-            BinaryRow res = storage.getAndReplace(row, cmd.getTxId());
+        assert row != null && row.hasValue();
 
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return new SingleRowResponse(res);
-        });
+        return new SingleRowResponse(storage.getAndReplace(row, cmd.getTxId()));
     }
 
     /**
      * Handler for the {@link GetAndUpsertCommand}.
      *
      * @param cmd Command.
-     * @param commandIndex Index of the RAFT command.
      * @return Result.
      */
-    private SingleRowResponse handleGetAndUpsertCommand(GetAndUpsertCommand cmd, long commandIndex) {
-        return storage.delegate().runConsistently(() -> {
-            BinaryRow row = cmd.getRow();
+    private SingleRowResponse handleGetAndUpsertCommand(GetAndUpsertCommand cmd) {
+        BinaryRow row = cmd.getRow();
 
-            assert row != null && row.hasValue();
+        assert row != null && row.hasValue();
 
-            BinaryRow res = storage.getAndUpsert(row, cmd.getTxId());
-
-            storage.delegate().lastAppliedIndex(commandIndex);
-
-            return new SingleRowResponse(res);
-        });
+        return new SingleRowResponse(storage.getAndUpsert(row, cmd.getTxId()));
     }
 
     /**
@@ -422,6 +422,33 @@ public class InternalTableImpl implements InternalTable {
         return clusterNodeResolver.apply(raftGroupService.leader().address());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<ClusterNode>> leaderAssignmentsAsync() {
+        List<CompletableFuture<?>> futs = new ArrayList<>();
+
+        for (RaftGroupService raftSvc : partitionMap.values()) {
+            if (raftSvc.leader() == null) {
+                // A failed refresh leaves the leader unknown instead of failing the whole assignment.
+                futs.add(raftSvc.refreshLeader().exceptionally(e -> null));
+            }
+        }
+
+        return CompletableFuture.allOf(futs.toArray(CompletableFuture[]::new)).thenApply(v -> {
+            List<ClusterNode> res = new ArrayList<>(partitions);
+
+            for (int p = 0; p < partitions; p++) {
+                RaftGroupService raftSvc = partitionMap.get(p);
+
+                Peer leader = raftSvc == null ? null : raftSvc.leader();
+
+                res.add(leader == null ? null : clusterNodeResolver.apply(leader.address()));
+            }
+
+            return res;
+        });
+    }
+
     /** {@inheritDoc} */
     @Override
     public RaftGroupService partitionRaftGroupService(int partition) {
@@ -17,23 +17,26 @@
 
 package org.apache.ignite.internal.table.distributed.storage;
 
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.primaryIndexKey;
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.primaryIndexRow;
+
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.table.distributed.index.IndexUpdater;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.util.Cursor;
@@ -49,36 +52,47 @@ public class VersionedRowStore {
     /** Storage delegate. */
     private final MvPartitionStorage storage;
 
+    /**
+     * Primary index, maps a key slice of a row to the {@link RowId} of its version chain. Lives in the same storage as the partition
+     * and is updated inside the same {@link MvPartitionStorage#runConsistently} closures, so it doesn't need to be rebuilt on start.
+     */
+    private final HashIndexStorage primaryIndex;
+
     /** Transaction manager. */
     private TxManager txManager;
 
-    //TODO: https://issues.apache.org/jira/browse/IGNITE-17205 Temporary solution until the implementation of the primary index is done.
-    /** Dummy primary index. */
-    private ConcurrentHashMap<ByteBuffer, RowId> primaryIndex = new ConcurrentHashMap<>();
-
-    /** Keys that were inserted by the transaction. */
-    private ConcurrentHashMap<UUID, List<ByteBuffer>> txsInsertedKeys = new ConcurrentHashMap<>();
+    /** Puts the written row versions to the secondary indexes, {@code null} if the secondary indexes are not maintained. */
+    private final @Nullable IndexUpdater indexUpdater;
 
-    /** Keys that were removed by the transaction. */
-    private ConcurrentHashMap<UUID, List<ByteBuffer>> txsRemovedKeys = new ConcurrentHashMap<>();
+    /**
+     * The constructor of a store that doesn't maintain the secondary indexes.
+     *
+     * @param storage The storage.
+     * @param primaryIndex Primary index storage of the partition.
+     * @param txManager The TX manager.
+     */
+    public VersionedRowStore(@NotNull MvPartitionStorage storage, @NotNull HashIndexStorage primaryIndex, @NotNull TxManager txManager) {
+        this(storage, primaryIndex, txManager, null);
+    }
 
     /**
      * The constructor.
      *
      * @param storage The storage.
+     * @param primaryIndex Primary index storage of the partition.
      * @param txManager The TX manager.
+     * @param indexUpdater Secondary indexes updater, {@code null} if the secondary indexes are not maintained.
      */
-    public VersionedRowStore(@NotNull MvPartitionStorage storage, @NotNull TxManager txManager) {
+    public VersionedRowStore(
+            @NotNull MvPartitionStorage storage,
+            @NotNull HashIndexStorage primaryIndex,
+            @NotNull TxManager txManager,
+            @Nullable IndexUpdater indexUpdater
+    ) {
         this.storage = Objects.requireNonNull(storage);
+        this.primaryIndex = Objects.requireNonNull(primaryIndex);
         this.txManager = Objects.requireNonNull(txManager);
-
-        Set<RowId> ids = new HashSet<>();
-
-        storage.forEach((rowId, binaryRow) -> {
-            if (ids.add(rowId)) {
-                primaryIndex.put(binaryRow.keySlice(), rowId);
-            }
-        });
+        this.indexUpdater = indexUpdater;
     }
 
     /**
@@ -105,7 +119,7 @@ public class VersionedRowStore {
     public BinaryRow get(@NotNull BinaryRow row, UUID txId) {
         assert row != null;
 
-        RowId rowId = primaryIndex.get(row.keySlice());
+        RowId rowId = findRowId(row.keySlice());
 
         if (rowId == null) {
             return null;
@@ -126,10 +140,29 @@ public class VersionedRowStore {
     public List<BinaryRow> getAll(Collection<BinaryRow> keyRows, UUID txId) {
         assert keyRows != null && !keyRows.isEmpty();
 
-        List<BinaryRow> res = new ArrayList<>(keyRows.size());
+        // Primary index lookups first, so that the partition storage is queried for all the found rows at once.
+        RowId[] keyRowIds = new RowId[keyRows.size()];
+
+        List<RowId> rowIds = new ArrayList<>(keyRows.size());
+
+        int i = 0;
 
         for (BinaryRow keyRow : keyRows) {
-            res.add(get(keyRow, txId));
+            RowId rowId = findRowId(keyRow.keySlice());
+
+            if (rowId != null) {
+                rowIds.add(rowId);
+            }
+
+            keyRowIds[i++] = rowId;
+        }
+
+        Iterator<BinaryRow> rows = rowIds.isEmpty() ? Collections.emptyIterator() : storage.readAll(rowIds, txId).iterator();
+
+        List<BinaryRow> res = new ArrayList<>(keyRows.size());
+
+        for (RowId rowId : keyRowIds) {
+            res.add(rowId == null ? null : rows.next());
         }
 
         return res;
@@ -146,17 +179,17 @@ public class VersionedRowStore {
 
         ByteBuffer key = row.keySlice();
 
-        RowId rowId = primaryIndex.get(key);
+        RowId rowId = findRowId(key);
 
         if (rowId == null) {
             rowId = storage.insert(row, txId);
 
-            primaryIndex.put(key, rowId);
-
-            txsInsertedKeys.computeIfAbsent(txId, entry -> new CopyOnWriteArrayList<ByteBuffer>()).add(key);
+            primaryIndex.put(primaryIndexRow(key, rowId));
         } else {
             storage.addWrite(rowId, row,  txId);
         }
+
+        putToIndexes(rowId, row);
     }
 
     /**
@@ -187,21 +220,19 @@ public class VersionedRowStore {
     public boolean delete(BinaryRow row, UUID txId) {
         assert row != null;
 
-        RowId rowId = primaryIndex.get(row.keySlice());
+        RowId rowId = findRowId(row.keySlice());
 
         if (rowId == null) {
             return false;
         }
 
-        BinaryRow prevRow = storage.read(primaryIndex.get(row.keySlice()), txId);
+        BinaryRow prevRow = storage.read(rowId, txId);
 
         if (prevRow == null) {
             return false;
         }
 
-        storage.addWrite(primaryIndex.get(row.keySlice()), null, txId);
-
-        txsRemovedKeys.computeIfAbsent(txId, entry -> new CopyOnWriteArrayList<>()).add(row.keySlice());
+        storage.addWrite(rowId, null, txId);
 
         return true;
     }
@@ -232,16 +263,16 @@ public class VersionedRowStore {
 
         ByteBuffer key = row.keySlice();
 
-        RowId rowId = primaryIndex.get(key);
+        RowId rowId = findRowId(key);
 
         if (rowId != null) {
             return false;
         } else {
             rowId = storage.insert(row, txId);
 
-            primaryIndex.put(key, rowId);
+            primaryIndex.put(primaryIndexRow(key, rowId));
 
-            txsInsertedKeys.computeIfAbsent(txId, entry -> new CopyOnWriteArrayList<ByteBuffer>()).add(key);
+            putToIndexes(rowId, row);
 
             return true;
         }
@@ -420,37 +451,15 @@ public class VersionedRowStore {
      * @param txId Transaction id.
      */
     public void commitWrite(ByteBuffer key, UUID txId) {
-        RowId rowId = primaryIndex.get(key);
+        RowId rowId = findRowId(key);
 
         if (rowId == null) {
             return;
         }
 
-        List<ByteBuffer> keys = txsRemovedKeys.get(txId);
-
-        if (keys != null) {
-            boolean removed = keys.remove(key);
-
-            if (removed) {
-                primaryIndex.remove(key);
-            }
-
-            if (keys.size() == 0) {
-                txsRemovedKeys.remove(txId);
-            }
-        }
-
-        keys = txsInsertedKeys.get(txId);
-
-        if (keys != null) {
-            keys.remove(key);
-
-            if (keys.size() == 0) {
-                txsInsertedKeys.remove(txId);
-            }
-        }
-
         storage.commitWrite(rowId, new Timestamp(txId));
+
+        removeFromPrimaryIndexIfDead(key, rowId);
     }
 
     /**
@@ -459,39 +468,57 @@ public class VersionedRowStore {
      * @param key Row key.
      */
     public void abortWrite(ByteBuffer key) {
-        RowId rowId = primaryIndex.get(key);
+        RowId rowId = findRowId(key);
 
         if (rowId == null) {
             return;
         }
 
-        AtomicReference<UUID> txId = new AtomicReference<>();
-
-        txsInsertedKeys.entrySet().forEach(entry -> {
-            if (entry.getValue().contains(key)) {
-                txId.set(entry.getKey());
-            }
-        });
-
-        if (txId.get() != null) {
-            List<ByteBuffer> keys = txsInsertedKeys.get(txId.get());
-
-            if (keys != null) {
-                boolean removed = keys.remove(key);
+        storage.abortWrite(rowId);
 
-                if (removed) {
-                    primaryIndex.remove(key);
-                }
+        removeFromPrimaryIndexIfDead(key, rowId);
+    }
 
-                if (keys.size() == 0) {
-                    txsInsertedKeys.remove(txId.get());
-                }
-            }
+    /**
+     * Looks up the primary index.
+     *
+     * @param key Row key.
+     * @return Row ID of the version chain for the key or {@code null} if there's no such key in the partition.
+     */
+    private @Nullable RowId findRowId(ByteBuffer key) {
+        try (Cursor<RowId> cursor = primaryIndex.get(primaryIndexKey(key))) {
+            return cursor.hasNext() ? cursor.next() : null;
+        } catch (StorageException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new StorageException("Failed to close the primary index cursor", e);
+        }
+    }
 
-            txsRemovedKeys.remove(txId.get());
+    /**
+     * Removes the key from the primary index if its version chain has no live committed versions anymore, that is, if a removal has just
+     * been committed or an insertion has just been aborted.
+     *
+     * @param key Row key.
+     * @param rowId Row ID of the version chain for the key.
+     */
+    private void removeFromPrimaryIndexIfDead(ByteBuffer key, RowId rowId) {
+        if (storage.read(rowId, Timestamp.nextVersion()) == null) {
+            primaryIndex.remove(primaryIndexRow(key, rowId));
         }
+    }
 
-        storage.abortWrite(rowId);
+    /**
+     * Puts a written row version to the secondary indexes. The indexes that are being built are updated as well, so that the build
+     * doesn't miss the versions it has already scanned past.
+     *
+     * @param rowId Row ID of the version chain.
+     * @param row Written row version.
+     */
+    private void putToIndexes(RowId rowId, BinaryRow row) {
+        if (indexUpdater != null) {
+            indexUpdater.put(rowId, row);
+        }
     }
 
     /**
@@ -544,7 +571,18 @@ public class VersionedRowStore {
      */
     public Cursor<BinaryRow> scan(Predicate<BinaryRow> pred) {
         // TODO https://issues.apache.org/jira/browse/IGNITE-17309 Transactional support for partition scans
-        Cursor<BinaryRow> delegate = storage.scan(pred, Timestamp.nextVersion());
+        // Registered, so that the garbage collection doesn't remove the versions visible to the cursor until it is closed.
+        Timestamp readTs = txManager.registerReadTimestamp();
+
+        Cursor<BinaryRow> delegate;
+
+        try {
+            delegate = storage.scan(pred, readTs);
+        } catch (RuntimeException e) {
+            txManager.unregisterReadTimestamp(readTs);
+
+            throw e;
+        }
 
         // TODO asch add tx support IGNITE-15087.
         return new Cursor<BinaryRow>() {
@@ -552,7 +590,11 @@ public class VersionedRowStore {
 
             @Override
             public void close() throws Exception {
-                delegate.close();
+                try {
+                    delegate.close();
+                } finally {
+                    txManager.unregisterReadTimestamp(readTs);
+                }
             }
 
             @Override
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks;
+
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.ROCKSDB_LRU_CACHE;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfigurationSchema.DEFAULT_DATA_REGION_NAME;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.configuration.schemas.table.TableConfiguration;
+import org.apache.ignite.configuration.schemas.table.TableView;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfiguration;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionView;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataStorageView;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
+import org.apache.ignite.internal.table.distributed.command.UpsertCommand;
+import org.apache.ignite.internal.table.distributed.raft.PartitionListener;
+import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.network.ClusterService;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.raft.client.WriteCommand;
+import org.apache.ignite.raft.client.service.CommandClosure;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of {@link PartitionListener#onWrite} applying a batch of committed upserts to a RocksDB partition storage
+ * within a single consistent storage closure with applying every command within its own closure.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 15)
+@Measurement(iterations = 1, time = 30)
+@BenchmarkMode({Mode.Throughput})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+@SuppressWarnings("InstanceVariableMayNotBeInitialized")
+public class PartitionListenerApplyBenchmark {
+    private static final int PARTITION_ID = 0;
+
+    private static final int KEYS_COUNT = 100_000;
+
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(
+            1,
+            new Column[]{new Column("key", NativeTypes.INT32, false)},
+            new Column[]{new Column("value", NativeTypes.INT32, false)}
+    );
+
+    /** Number of commands in a batch passed to {@link PartitionListener#onWrite}. */
+    @Param({"1", "16", "128"})
+    public int batchSize;
+
+    /** Whether consecutive data commands are applied within a single storage closure. */
+    @Param({"true", "false"})
+    public boolean groupApply;
+
+    private Path workDir;
+
+    private RocksDbStorageEngine engine;
+
+    private MvTableStorage tableStorage;
+
+    private PartitionListener listener;
+
+    private Row[] rows;
+
+    private UUID txId;
+
+    private long raftIndex;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(PartitionListenerApplyBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory(PartitionListenerApplyBenchmark.class.getSimpleName());
+
+        engine = new RocksDbStorageEngine(engineConfiguration(), workDir);
+
+        engine.start();
+
+        tableStorage = engine.createMvTable(tableConfiguration());
+
+        tableStorage.start();
+
+        MvPartitionStorage partitionStorage = tableStorage.getOrCreateMvPartition(PARTITION_ID);
+
+        ClusterService clusterService = mock(ClusterService.class, RETURNS_DEEP_STUBS);
+
+        when(clusterService.topologyService().localMember().address()).thenReturn(new NetworkAddress("127.0.0.1", 5003));
+
+        VersionedRowStore store = new VersionedRowStore(
+                partitionStorage,
+                tableStorage.getOrCreatePrimaryIndex(PARTITION_ID),
+                new TxManagerImpl(clusterService, new HeapLockManager())
+        );
+
+        listener = new PartitionListener(UUID.randomUUID(), store, groupApply);
+
+        rows = new Row[KEYS_COUNT];
+
+        for (int i = 0; i < KEYS_COUNT; i++) {
+            RowAssembler rowBuilder = new RowAssembler(SCHEMA, 0, 0);
+
+            rowBuilder.appendInt(i);
+            rowBuilder.appendInt(i);
+
+            rows[i] = new Row(SCHEMA, rowBuilder.build());
+        }
+
+        txId = Timestamp.nextVersion().toUuid();
+
+        raftIndex = partitionStorage.lastAppliedIndex();
+    }
+
+    /**
+     * Closes resources.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        tableStorage.stop();
+
+        engine.stop();
+
+        IgniteUtils.deleteIfExists(workDir);
+    }
+
+    /**
+     * Applies a batch of upserts of random keys within a single transaction.
+     */
+    @Benchmark
+    public void upsertBatch() {
+        listener.onWrite(new Iterator<>() {
+            private int applied;
+
+            @Override
+            public boolean hasNext() {
+                return applied < batchSize;
+            }
+
+            @Override
+            public CommandClosure<WriteCommand> next() {
+                applied++;
+
+                return new UpsertClosure(++raftIndex, new UpsertCommand(rows[ThreadLocalRandom.current().nextInt(KEYS_COUNT)], txId));
+            }
+        });
+    }
+
+    private static RocksDbStorageEngineConfiguration engineConfiguration() {
+        RocksDbDataRegionView regionView = mock(RocksDbDataRegionView.class);
+
+        when(regionView.name()).thenReturn(DEFAULT_DATA_REGION_NAME);
+        when(regionView.size()).thenReturn(256L * 1024 * 1024);
+        when(regionView.writeBufferSize()).thenReturn(64L * 1024 * 1024);
+        when(regionView.cache()).thenReturn(ROCKSDB_LRU_CACHE);
+        when(regionView.numShardBits()).thenReturn(-1);
+
+        RocksDbDataRegionConfiguration regionCfg = mock(RocksDbDataRegionConfiguration.class, RETURNS_DEEP_STUBS);
+
+        when(regionCfg.value()).thenReturn(regionView);
+        when(regionCfg.name().value()).thenReturn(DEFAULT_DATA_REGION_NAME);
+
+        RocksDbStorageEngineConfiguration engineCfg = mock(RocksDbStorageEngineConfiguration.class, RETURNS_DEEP_STUBS);
+
+        when(engineCfg.defaultRegion()).thenReturn(regionCfg);
+        when(engineCfg.flushDelayMillis().value()).thenReturn(100);
+
+        return engineCfg;
+    }
+
+    private static TableConfiguration tableConfiguration() {
+        RocksDbDataStorageView dataStorageView = mock(RocksDbDataStorageView.class);
+
+        when(dataStorageView.name()).thenReturn(RocksDbStorageEngine.ENGINE_NAME);
+        when(dataStorageView.dataRegion()).thenReturn(DEFAULT_DATA_REGION_NAME);
+
+        TableView tableView = mock(TableView.class);
+
+        when(tableView.name()).thenReturn("benchmark");
+        when(tableView.tableId()).thenReturn(1);
+        when(tableView.partitions()).thenReturn(1);
+        when(tableView.dataStorage()).thenReturn(dataStorageView);
+
+        TableConfiguration tableCfg = mock(TableConfiguration.class, RETURNS_DEEP_STUBS);
+
+        when(tableCfg.value()).thenReturn(tableView);
+        when(tableCfg.name().value()).thenReturn("benchmark");
+
+        return tableCfg;
+    }
+
+    /**
+     * Command closure of an upsert that ignores the result.
+     */
+    private static class UpsertClosure implements CommandClosure<WriteCommand> {
+        private final long index;
+
+        private final UpsertCommand command;
+
+        UpsertClosure(long index, UpsertCommand command) {
+            this.index = index;
+            this.command = command;
+        }
+
+        @Override
+        public long index() {
+            return index;
+        }
+
+        @Override
+        public WriteCommand command() {
+            return command;
+        }
+
+        @Override
+        public void result(@Nullable Serializable res) {
+            // No-op.
+        }
+    }
+}
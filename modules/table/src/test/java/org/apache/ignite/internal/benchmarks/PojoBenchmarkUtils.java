@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks;
+
+import com.facebook.presto.bytecode.Access;
+import com.facebook.presto.bytecode.ClassDefinition;
+import com.facebook.presto.bytecode.ClassGenerator;
+import com.facebook.presto.bytecode.DynamicClassLoader;
+import com.facebook.presto.bytecode.MethodDefinition;
+import com.facebook.presto.bytecode.ParameterizedType;
+import java.util.EnumSet;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
+import org.apache.ignite.internal.schema.marshaller.MarshallerFactory;
+
+/**
+ * Helpers for the benchmarks of the POJO marshallers.
+ */
+final class PojoBenchmarkUtils {
+    private PojoBenchmarkUtils() {
+    }
+
+    /**
+     * Defines a POJO class with the public fields {@code col0 ... col<fieldsCount-1>} of the given type, the names of the fields
+     * match the names of the columns created by the benchmarks.
+     *
+     * @param fieldType   Type of the fields.
+     * @param fieldsCount Number of the fields.
+     * @return POJO class.
+     */
+    static Class<?> definePojoClass(Class<?> fieldType, int fieldsCount) {
+        ClassDefinition classDef = new ClassDefinition(
+                EnumSet.of(Access.PUBLIC),
+                PojoBenchmarkUtils.class.getPackageName().replace('.', '/') + "/BenchmarkPojo",
+                ParameterizedType.type(Object.class)
+        );
+
+        for (int i = 0; i < fieldsCount; i++) {
+            classDef.declareField(EnumSet.of(Access.PUBLIC), "col" + i, ParameterizedType.type(fieldType));
+        }
+
+        MethodDefinition ctor = classDef.declareConstructor(EnumSet.of(Access.PUBLIC));
+
+        ctor.getBody()
+                .append(ctor.getThis())
+                .invokeConstructor(classDef.getSuperClass())
+                .ret();
+
+        DynamicClassLoader loader = new DynamicClassLoader(PojoBenchmarkUtils.class.getClassLoader());
+
+        return ClassGenerator.classGenerator(loader).defineClass(classDef, Object.class);
+    }
+
+    /**
+     * Creates an instance of a class defined with {@link #definePojoClass}.
+     *
+     * @param cls  POJO class.
+     * @param vals Values of the fields.
+     * @return POJO.
+     */
+    static Object newPojo(Class<?> cls, Object[] vals) throws ReflectiveOperationException {
+        Object obj = cls.getConstructor().newInstance();
+
+        for (int i = 0; i < vals.length; i++) {
+            cls.getField("col" + i).set(obj, vals[i]);
+        }
+
+        return obj;
+    }
+
+    /**
+     * Creates a marshaller of the {@code Long} keys and the POJO values. Generated marshaller classes are defined in the class loader
+     * of the POJO class, so they can access it.
+     *
+     * @param factory  Marshaller factory.
+     * @param schema   Schema.
+     * @param valClass POJO class defined with {@link #definePojoClass}.
+     * @return Marshaller.
+     */
+    @SuppressWarnings("unchecked")
+    static KvMarshaller<Long, Object> createMarshaller(MarshallerFactory factory, SchemaDescriptor schema, Class<?> valClass) {
+        Thread thread = Thread.currentThread();
+        ClassLoader prev = thread.getContextClassLoader();
+
+        thread.setContextClassLoader(valClass.getClassLoader());
+
+        try {
+            return factory.create(schema, Long.class, (Class<Object>) valClass);
+        } finally {
+            thread.setContextClassLoader(prev);
+        }
+    }
+}
@@ -26,9 +26,13 @@ import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.Columns;
 import org.apache.ignite.internal.schema.NativeTypes;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
+import org.apache.ignite.internal.schema.marshaller.MarshallerException;
 import org.apache.ignite.internal.schema.marshaller.TupleMarshaller;
 import org.apache.ignite.internal.schema.marshaller.TupleMarshallerException;
 import org.apache.ignite.internal.schema.marshaller.TupleMarshallerImpl;
+import org.apache.ignite.internal.schema.marshaller.asm.GeneratedMarshallerFactory;
+import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
 import org.apache.ignite.internal.schema.registry.SchemaRegistryImpl;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.table.Tuple;
@@ -65,6 +69,12 @@ public class TupleMarshallerFixlenOnlyBenchmark {
     /** Tuple marshaller. */
     private TupleMarshaller marshaller;
 
+    /** Generated POJO marshaller. */
+    private KvMarshaller<Long, Object> generatedMarshaller;
+
+    /** Reflection-based POJO marshaller. */
+    private KvMarshaller<Long, Object> reflectionMarshaller;
+
     /** Object fields count. */
     @Param({"1", "10", "100"})
     public int fieldsCount;
@@ -79,6 +89,9 @@ public class TupleMarshallerFixlenOnlyBenchmark {
     /** Values. */
     private Object[] vals;
 
+    /** POJO with the same values. */
+    private Object pojo;
+
     /**
      * Runner.
      */
@@ -94,16 +107,16 @@ public class TupleMarshallerFixlenOnlyBenchmark {
      * Setup.
      */
     @Setup
-    public void init() {
+    public void init() throws ReflectiveOperationException {
         long seed = System.currentTimeMillis();
 
         rnd = new Random(seed);
 
         schema = new SchemaDescriptor(
                 42,
-                new Column[]{new Column("key", NativeTypes.INT64, false)},
+                new Column[]{new Column("KEY", NativeTypes.INT64, false)},
                 IntStream.range(0, fieldsCount).boxed()
-                        .map(i -> new Column("col" + i, NativeTypes.INT64, nullable))
+                        .map(i -> new Column("COL" + i, NativeTypes.INT64, nullable))
                         .toArray(Column[]::new)
         );
 
@@ -129,6 +142,14 @@ public class TupleMarshallerFixlenOnlyBenchmark {
         for (int i = 0; i < vals.length; i++) {
             vals[i] = rnd.nextLong();
         }
+
+        // Primitive fields can't be mapped to nullable columns by the generated marshaller.
+        Class<?> pojoClass = PojoBenchmarkUtils.definePojoClass(nullable ? Long.class : long.class, fieldsCount);
+
+        pojo = PojoBenchmarkUtils.newPojo(pojoClass, vals);
+
+        generatedMarshaller = PojoBenchmarkUtils.createMarshaller(new GeneratedMarshallerFactory(), schema, pojoClass);
+        reflectionMarshaller = PojoBenchmarkUtils.createMarshaller(new ReflectionMarshallerFactory(), schema, pojoClass);
     }
 
     /**
@@ -152,4 +173,24 @@ public class TupleMarshallerFixlenOnlyBenchmark {
 
         bh.consume(row);
     }
+
+    /**
+     * Measure POJO marshalling with the generated marshaller.
+     *
+     * @param bh Black hole.
+     */
+    @Benchmark
+    public void measurePojoGeneratedMarshallerCost(Blackhole bh) throws MarshallerException {
+        bh.consume(generatedMarshaller.marshal(rnd.nextLong(), pojo));
+    }
+
+    /**
+     * Measure POJO marshalling with the reflection-based marshaller.
+     *
+     * @param bh Black hole.
+     */
+    @Benchmark
+    public void measurePojoReflectionMarshallerCost(Blackhole bh) throws MarshallerException {
+        bh.consume(reflectionMarshaller.marshal(rnd.nextLong(), pojo));
+    }
 }
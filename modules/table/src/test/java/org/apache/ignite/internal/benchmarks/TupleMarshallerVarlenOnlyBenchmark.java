@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.schema.NativeTypes.STRING;
 import static org.apache.ignite.internal.schema.SchemaManager.INITIAL_SCHEMA_VERSION;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
@@ -30,9 +31,13 @@ import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.Columns;
 import org.apache.ignite.internal.schema.DefaultValueProvider;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.marshaller.KvMarshaller;
+import org.apache.ignite.internal.schema.marshaller.MarshallerException;
 import org.apache.ignite.internal.schema.marshaller.TupleMarshaller;
 import org.apache.ignite.internal.schema.marshaller.TupleMarshallerException;
 import org.apache.ignite.internal.schema.marshaller.TupleMarshallerImpl;
+import org.apache.ignite.internal.schema.marshaller.asm.GeneratedMarshallerFactory;
+import org.apache.ignite.internal.schema.marshaller.reflection.ReflectionMarshallerFactory;
 import org.apache.ignite.internal.schema.registry.SchemaRegistryImpl;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.table.Tuple;
@@ -69,6 +74,12 @@ public class TupleMarshallerVarlenOnlyBenchmark {
     /** Tuple marshaller. */
     private TupleMarshaller marshaller;
 
+    /** Generated POJO marshaller. */
+    private KvMarshaller<Long, Object> generatedMarshaller;
+
+    /** Reflection-based POJO marshaller. */
+    private KvMarshaller<Long, Object> reflectionMarshaller;
+
     /** Object fields count. */
     @Param({"2", "10", "100"})
     public int fieldsCount;
@@ -91,6 +102,9 @@ public class TupleMarshallerVarlenOnlyBenchmark {
     /** Value. */
     private Object val;
 
+    /** POJO with all the fields set to the value. */
+    private Object pojo;
+
     /**
      * Runner.
      */
@@ -106,7 +120,7 @@ public class TupleMarshallerVarlenOnlyBenchmark {
      * Setup.
      */
     @Setup
-    public void init() {
+    public void init() throws ReflectiveOperationException {
         final long seed = System.currentTimeMillis();
         final boolean useString = "string".equals(type);
 
@@ -114,9 +128,9 @@ public class TupleMarshallerVarlenOnlyBenchmark {
 
         schema = new SchemaDescriptor(
                 42,
-                new Column[]{new Column("key", INT64, false, DefaultValueProvider.constantProvider(0L))},
+                new Column[]{new Column("KEY", INT64, false, DefaultValueProvider.constantProvider(0L))},
                 IntStream.range(0, fieldsCount).boxed()
-                        .map(i -> new Column("col" + i, useString ? STRING : BYTES, nullable))
+                        .map(i -> new Column("COL" + i, useString ? STRING : BYTES, nullable))
                         .toArray(Column[]::new)
         );
 
@@ -148,6 +162,17 @@ public class TupleMarshallerVarlenOnlyBenchmark {
         } else {
             rnd.nextBytes((byte[]) (val = new byte[dataSize / fieldsCount]));
         }
+
+        Class<?> pojoClass = PojoBenchmarkUtils.definePojoClass(useString ? String.class : byte[].class, fieldsCount);
+
+        Object[] vals = new Object[fieldsCount];
+
+        Arrays.fill(vals, val);
+
+        pojo = PojoBenchmarkUtils.newPojo(pojoClass, vals);
+
+        generatedMarshaller = PojoBenchmarkUtils.createMarshaller(new GeneratedMarshallerFactory(), schema, pojoClass);
+        reflectionMarshaller = PojoBenchmarkUtils.createMarshaller(new ReflectionMarshallerFactory(), schema, pojoClass);
     }
 
     /**
@@ -171,4 +196,24 @@ public class TupleMarshallerVarlenOnlyBenchmark {
 
         bh.consume(row);
     }
+
+    /**
+     * Measure POJO marshalling with the generated marshaller.
+     *
+     * @param bh Black hole.
+     */
+    @Benchmark
+    public void measurePojoGeneratedMarshallerCost(Blackhole bh) throws MarshallerException {
+        bh.consume(generatedMarshaller.marshal(rnd.nextLong(), pojo));
+    }
+
+    /**
+     * Measure POJO marshalling with the reflection-based marshaller.
+     *
+     * @param bh Black hole.
+     */
+    @Benchmark
+    public void measurePojoReflectionMarshallerCost(Blackhole bh) throws MarshallerException {
+        bh.consume(reflectionMarshaller.marshal(rnd.nextLong(), pojo));
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.table;
 
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.PRIMARY_INDEX_DESCRIPTOR;
+
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +30,7 @@ import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.NativeTypes;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapMvPartitionStorage;
+import org.apache.ignite.internal.storage.index.impl.TestHashIndexStorage;
 import org.apache.ignite.internal.table.distributed.storage.VersionedRowStore;
 import org.apache.ignite.internal.table.impl.DummyInternalTableImpl;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
@@ -55,8 +58,13 @@ public class Example {
     private static List<Table> tableFactory() {
         TxManagerImpl txManager = new TxManagerImpl(null, new HeapLockManager());
 
-        return Collections.singletonList(new TableImpl(new DummyInternalTableImpl(new VersionedRowStore(
-                new TestConcurrentHashMapMvPartitionStorage(0), txManager), txManager, new AtomicLong()), null));
+        VersionedRowStore rowStore = new VersionedRowStore(
+                new TestConcurrentHashMapMvPartitionStorage(0),
+                new TestHashIndexStorage(PRIMARY_INDEX_DESCRIPTOR),
+                txManager
+        );
+
+        return Collections.singletonList(new TableImpl(new DummyInternalTableImpl(rowStore, txManager, new AtomicLong()), null));
     }
 
     /**
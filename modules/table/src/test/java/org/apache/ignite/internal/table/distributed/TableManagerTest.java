@@ -88,6 +88,7 @@ import org.apache.ignite.internal.configuration.testframework.InjectRevisionList
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.metastorage.MetaStorageManager;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorConfigurationSchema;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.storage.impl.LocalLogStorageFactory;
@@ -803,7 +804,7 @@ public class TableManagerTest extends IgniteAbstractTest {
 
         DataStorageManager manager = new DataStorageManager(
                 tblsCfg,
-                dataStorageModules.createStorageEngines(NODE_NAME, mockedRegistry, storagePath, null)
+                dataStorageModules.createStorageEngines(NODE_NAME, mockedRegistry, storagePath, null, new MetricManager())
         );
 
         manager.start();
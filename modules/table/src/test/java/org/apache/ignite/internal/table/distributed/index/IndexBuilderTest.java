@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.index;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.configuration.schemas.table.NullValueDefaultConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.SortedIndexConfigurationSchema;
+import org.apache.ignite.configuration.schemas.table.TableConfiguration;
+import org.apache.ignite.configuration.schemas.table.UnlimitedBudgetConfigurationSchema;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.NativeTypes;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.configuration.SchemaConfigurationConverter;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.schema.testutils.builder.SchemaBuilders;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapMvTableStorage;
+import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapStorageEngine;
+import org.apache.ignite.internal.storage.chm.schema.TestConcurrentHashMapDataStorageConfigurationSchema;
+import org.apache.ignite.internal.storage.index.IndexRow;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.tx.Timestamp;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.schema.definition.ColumnType;
+import org.apache.ignite.schema.definition.TableDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Tests for the {@link IndexBuilder}.
+ */
+@ExtendWith(ConfigurationExtension.class)
+public class IndexBuilderTest {
+    private static final String INDEX_NAME = "VAL_IDX";
+
+    private static final int PARTITIONS = 2;
+
+    private static final int ROWS = 100;
+
+    private static final int BATCH_SIZE = 30;
+
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(
+            1,
+            new Column[]{new Column("KEY", NativeTypes.INT32, false)},
+            new Column[]{new Column("VAL", NativeTypes.INT32, false)}
+    );
+
+    @InjectConfiguration(
+            polymorphicExtensions = {
+                    TestConcurrentHashMapDataStorageConfigurationSchema.class,
+                    SortedIndexConfigurationSchema.class,
+                    NullValueDefaultConfigurationSchema.class,
+                    UnlimitedBudgetConfigurationSchema.class
+            },
+            value = "mock.dataStorage.name = " + TestConcurrentHashMapStorageEngine.ENGINE_NAME
+    )
+    private TableConfiguration tableCfg;
+
+    private TestConcurrentHashMapMvTableStorage tableStorage;
+
+    private TableImpl table;
+
+    private UUID indexId;
+
+    /** Values of the rows by the row ids. */
+    private final Map<RowId, Integer> rows = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        TableDefinition tableDefinition = SchemaBuilders.tableBuilder("PUBLIC", "TEST")
+                .columns(
+                        SchemaBuilders.column("KEY", ColumnType.INT32).build(),
+                        SchemaBuilders.column("VAL", ColumnType.INT32).build()
+                )
+                .withPrimaryKey("KEY")
+                .build();
+
+        assertThat(tableCfg.change(tableChange -> SchemaConfigurationConverter.convert(tableDefinition, tableChange)),
+                willCompleteSuccessfully());
+
+        assertThat(tableCfg.change(tableChange -> SchemaConfigurationConverter.addIndex(
+                SchemaBuilders.sortedIndex(INDEX_NAME).addIndexColumn("VAL").done().build(),
+                tableChange
+        )), willCompleteSuccessfully());
+
+        indexId = tableCfg.indices().value().get(INDEX_NAME).id();
+
+        tableStorage = new TestConcurrentHashMapMvTableStorage(tableCfg);
+
+        InternalTable internalTable = mock(InternalTable.class);
+
+        when(internalTable.storage()).thenReturn(tableStorage);
+        when(internalTable.partitions()).thenReturn(PARTITIONS);
+
+        SchemaRegistry schemaRegistry = mock(SchemaRegistry.class);
+
+        when(schemaRegistry.schema(SCHEMA.version())).thenReturn(SCHEMA);
+
+        table = mock(TableImpl.class);
+
+        when(table.internalTable()).thenReturn(internalTable);
+        when(table.schemaView()).thenReturn(schemaRegistry);
+        when(table.name()).thenReturn("TEST");
+
+        for (int partId = 0; partId < PARTITIONS; partId++) {
+            MvPartitionStorage partitionStorage = tableStorage.getOrCreateMvPartition(partId);
+
+            for (int i = 0; i < ROWS; i++) {
+                int key = partId * ROWS + i;
+
+                partitionStorage.runConsistently(() -> {
+                    RowId rowId = partitionStorage.insert(row(key, key * 10), UUID.randomUUID());
+
+                    partitionStorage.commitWrite(rowId, Timestamp.nextVersion());
+
+                    rows.put(rowId, key * 10);
+
+                    return null;
+                });
+            }
+        }
+    }
+
+    /**
+     * Tests that an index is built over the data that exists in the partitions.
+     */
+    @Test
+    public void testBuild() {
+        IndexBuilder builder = new IndexBuilder("test", 100, BATCH_SIZE);
+
+        CompletableFuture<Void> fut = builder.build(table, indexId);
+
+        for (int round = 0; round < ROWS / BATCH_SIZE; round++) {
+            builder.runRound();
+
+            assertFalse(fut.isDone());
+        }
+
+        builder.runRound();
+
+        assertThat(fut, willCompleteSuccessfully());
+
+        for (int partId = 0; partId < PARTITIONS; partId++) {
+            assertTrue(tableStorage.getMvPartition(partId).indexBuilt(indexId));
+        }
+
+        assertEquals(rows, indexedRows());
+    }
+
+    /**
+     * Tests that a build is resumed from where it stopped after a restart.
+     */
+    @Test
+    public void testResumeAfterRestart() {
+        IndexBuilder builder = new IndexBuilder("test", 100, BATCH_SIZE);
+
+        CompletableFuture<Void> fut = builder.build(table, indexId);
+
+        builder.runRound();
+
+        builder.stop();
+
+        assertTrue(fut.isCompletedExceptionally());
+
+        assertThat(indexedRows().size(), is(PARTITIONS * BATCH_SIZE));
+
+        builder = new IndexBuilder("test", 100, BATCH_SIZE);
+
+        fut = builder.build(table, indexId);
+
+        builder.runRound();
+
+        // The first batch of the partitions is not scanned again.
+        assertThat(indexedRows().size(), is(PARTITIONS * BATCH_SIZE * 2));
+
+        while (!fut.isDone()) {
+            builder.runRound();
+        }
+
+        assertThat(fut, willCompleteSuccessfully());
+
+        assertEquals(rows, indexedRows());
+    }
+
+    /**
+     * Tests that a cancelled build doesn't proceed.
+     */
+    @Test
+    public void testCancel() {
+        IndexBuilder builder = new IndexBuilder("test", 100, BATCH_SIZE);
+
+        CompletableFuture<Void> fut = builder.build(table, indexId);
+
+        builder.runRound();
+
+        builder.cancel(indexId);
+
+        assertTrue(fut.isCancelled());
+
+        builder.runRound();
+
+        assertThat(indexedRows().size(), is(PARTITIONS * BATCH_SIZE));
+
+        for (int partId = 0; partId < PARTITIONS; partId++) {
+            assertFalse(tableStorage.getMvPartition(partId).indexBuilt(indexId));
+        }
+    }
+
+    /**
+     * Returns the values of the indexed rows by the row ids.
+     */
+    private Map<RowId, Integer> indexedRows() {
+        Map<RowId, Integer> indexed = new HashMap<>();
+
+        for (int partId = 0; partId < PARTITIONS; partId++) {
+            SortedIndexStorage indexStorage = tableStorage.getSortedIndex(partId, indexId);
+
+            if (indexStorage == null) {
+                continue;
+            }
+
+            try (Cursor<IndexRow> cursor = indexStorage.scan(null, null, 0)) {
+                cursor.forEachRemaining(indexRow -> indexed.put(indexRow.rowId(), indexRow.indexColumns().intValue(0)));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return indexed;
+    }
+
+    private static Row row(int key, int val) {
+        RowAssembler rowBuilder = new RowAssembler(SCHEMA, 0, 0);
+
+        rowBuilder.appendInt(key);
+        rowBuilder.appendInt(val);
+
+        return new Row(SCHEMA, rowBuilder.build());
+    }
+}
@@ -17,14 +17,19 @@
 
 package org.apache.ignite.internal.table.distributed.raft;
 
+import static org.apache.ignite.internal.storage.index.PrimaryIndexUtils.PRIMARY_INDEX_DESCRIPTOR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -43,7 +48,9 @@ import org.apache.ignite.internal.schema.NativeTypes;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.chm.TestConcurrentHashMapMvPartitionStorage;
+import org.apache.ignite.internal.storage.index.impl.TestHashIndexStorage;
 import org.apache.ignite.internal.table.distributed.command.DeleteAllCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteCommand;
 import org.apache.ignite.internal.table.distributed.command.DeleteExactAllCommand;
@@ -109,6 +116,7 @@ public class PartitionCommandListenerTest {
 
         versionedRowStore = new VersionedRowStore(
                 new TestConcurrentHashMapMvPartitionStorage(0),
+                new TestHashIndexStorage(PRIMARY_INDEX_DESCRIPTOR),
                 new TxManagerImpl(clusterService, new HeapLockManager())
         );
 
@@ -262,6 +270,66 @@ public class PartitionCommandListenerTest {
         readAll(false);
     }
 
+    /**
+     * The test checks that a run of data commands is applied with a single last applied index update.
+     */
+    @Test
+    public void testGroupApply() {
+        MvPartitionStorage partitionStorage = spyPartitionStorage(true);
+
+        upsert();
+
+        verify(partitionStorage, times(1)).lastAppliedIndex(anyLong());
+
+        assertEquals(raftIndex.get(), partitionStorage.lastAppliedIndex());
+
+        readAndCheck(true);
+
+        delete(true);
+
+        verify(partitionStorage, times(2)).lastAppliedIndex(anyLong());
+
+        assertEquals(raftIndex.get(), partitionStorage.lastAppliedIndex());
+
+        readAndCheck(false);
+    }
+
+    /**
+     * The test checks that every data command updates the last applied index when the group apply is disabled.
+     */
+    @Test
+    public void testPerCommandApply() {
+        MvPartitionStorage partitionStorage = spyPartitionStorage(false);
+
+        upsert();
+
+        verify(partitionStorage, times(KEY_COUNT)).lastAppliedIndex(anyLong());
+
+        assertEquals(raftIndex.get(), partitionStorage.lastAppliedIndex());
+
+        readAndCheck(true);
+    }
+
+    /**
+     * Replaces the listener with one backed by a spied partition storage.
+     *
+     * @param groupApply Whether the listener applies runs of data commands within a single storage closure.
+     * @return Spied partition storage.
+     */
+    private MvPartitionStorage spyPartitionStorage(boolean groupApply) {
+        MvPartitionStorage partitionStorage = spy(new TestConcurrentHashMapMvPartitionStorage(0));
+
+        versionedRowStore = new VersionedRowStore(
+                partitionStorage,
+                new TestHashIndexStorage(PRIMARY_INDEX_DESCRIPTOR),
+                versionedRowStore.txManager()
+        );
+
+        commandListener = new PartitionListener(UUID.randomUUID(), versionedRowStore, groupApply);
+
+        return partitionStorage;
+    }
+
     /**
      * Prepares a closure iterator for a specific batch operation.
      *
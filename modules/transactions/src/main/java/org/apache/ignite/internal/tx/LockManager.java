@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.tx;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.jetbrains.annotations.TestOnly;
@@ -62,6 +64,25 @@ public interface LockManager {
      */
     public void tryReleaseShared(Object key, UUID txId) throws LockException;
 
+    /**
+     * Attempts to cancel a lock request of the transaction for the specified {@code key} which is not granted yet. The future of
+     * the request is completed with the given exception. A lock which is already held by the transaction is kept.
+     *
+     * @param key The key.
+     * @param txId Transaction id.
+     * @param err Exception to complete the request future with.
+     * @return {@code True} if a waiting request has been cancelled.
+     */
+    public boolean tryCancel(Object key, UUID txId, LockException err);
+
+    /**
+     * Returns a snapshot of lock queues of all keys which are locked or waited for. Waiters of every queue are ordered from the
+     * oldest to the youngest transaction.
+     *
+     * @return Lock queues by key.
+     */
+    public Map<Object, List<WaiterInfo>> locks();
+
     /**
      * Returns a collection of transaction ids that is associated with the specified {@code key}.
      *
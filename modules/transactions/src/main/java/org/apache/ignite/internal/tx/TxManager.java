@@ -139,6 +139,31 @@ public interface TxManager extends IgniteComponent {
      */
     boolean isLocal(NetworkAddress addr);
 
+    /**
+     * Returns the low watermark: a timestamp which is not greater than the start timestamp of any pending transaction known to this
+     * node and than any registered read timestamp. Transactions are known to the nodes they are started on and to the nodes hosting the
+     * partitions they have written to, so neither a transaction nor a registered read sees the local data at a timestamp below the low
+     * watermark.
+     *
+     * @return The low watermark.
+     */
+    Timestamp lowWatermark();
+
+    /**
+     * Generates a read timestamp and registers it, so that the {@link #lowWatermark() low watermark} doesn't pass it until it is
+     * {@link #unregisterReadTimestamp(Timestamp) unregistered}. Should be used by the long reads outside of transactions, like cursors.
+     *
+     * @return The read timestamp.
+     */
+    Timestamp registerReadTimestamp();
+
+    /**
+     * Unregisters a read timestamp obtained from {@link #registerReadTimestamp()}.
+     *
+     * @param readTs The read timestamp.
+     */
+    void unregisterReadTimestamp(Timestamp readTs);
+
     /**
      * Returns a number of finished transactions.
      *
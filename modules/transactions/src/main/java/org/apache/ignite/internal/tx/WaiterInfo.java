@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import java.util.UUID;
+import org.apache.ignite.internal.tostring.S;
+
+/**
+ * An immutable snapshot of a lock waiter.
+ */
+public class WaiterInfo implements Waiter {
+    /** Waiter transaction id. */
+    private final UUID txId;
+
+    /** {@code True} if the waiter holds the lock. */
+    private final boolean locked;
+
+    /** {@code True} if a read request. */
+    private final boolean forRead;
+
+    /** {@code True} if the waiter holds a read lock and waits for its upgrade to a write lock. */
+    private final boolean upgrading;
+
+    /**
+     * The constructor.
+     *
+     * @param txId Transaction id.
+     * @param locked {@code True} if the waiter holds the lock.
+     * @param forRead {@code True} if a read request.
+     * @param upgrading {@code True} if the waiter holds a read lock and waits for its upgrade to a write lock.
+     */
+    public WaiterInfo(UUID txId, boolean locked, boolean forRead, boolean upgrading) {
+        assert !upgrading || (locked && forRead);
+
+        this.txId = txId;
+        this.locked = locked;
+        this.forRead = forRead;
+        this.upgrading = upgrading;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public UUID txId() {
+        return txId;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean locked() {
+        return locked;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isForRead() {
+        return forRead;
+    }
+
+    /**
+     * Returns {@code true} if the waiter holds a read lock and waits for its upgrade to a write lock.
+     *
+     * @return {@code True} if the waiter waits for a lock upgrade.
+     */
+    public boolean upgrading() {
+        return upgrading;
+    }
+
+    /**
+     * Returns {@code true} if the waiter waits for a write lock, either a new one or an upgrade of a held read lock.
+     *
+     * @return {@code True} if the waiter waits for a write lock.
+     */
+    public boolean waitsForWrite() {
+        return upgrading || (!locked && !forRead);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(WaiterInfo.class, this);
+    }
+}
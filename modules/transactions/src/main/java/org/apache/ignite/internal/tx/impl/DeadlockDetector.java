@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.manager.IgniteComponent;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.tx.LockException;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.WaiterInfo;
+import org.apache.ignite.internal.tx.message.TxMessageGroup;
+import org.apache.ignite.internal.tx.message.TxMessagesFactory;
+import org.apache.ignite.internal.tx.message.WaitForGraphRequest;
+import org.apache.ignite.internal.tx.message.WaitForGraphResponse;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.ClusterService;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.NetworkMessageHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Periodically looks for deadlocks in a wait-for graph built from {@link LockManager#locks() snapshots} of the lock queues of all the
+ * cluster nodes: every node builds the graph of its local lock table and serves it to the detectors of the other nodes.
+ *
+ * <p>A waiter which waits for a write lock (or for an upgrade of its read lock) waits for all other transactions holding the lock. A
+ * waiter which waits for a read lock waits for the transactions holding a write lock and for the older transactions waiting for a
+ * write lock. For every cycle of the graph the youngest transaction is chosen as a victim: its waiting lock requests are failed with
+ * a {@link LockException}, so the owner of the transaction rolls it back through the regular finish path, which aborts its write
+ * intents and releases its locks. Every node only fails the requests that wait in its local lock table, the victim is chosen the same
+ * way on all the nodes, so a cycle spanning several nodes is broken by the node the victim waits on.
+ *
+ * <p>The detector is only useful with a lock manager which has deadlock prevention disabled, see {@link StripedLockManager}.
+ */
+public class DeadlockDetector implements IgniteComponent, NetworkMessageHandler {
+    /**
+     * Interval of the deadlock detection in milliseconds. Deadlock prevention by refusing conflicting requests of older transactions
+     * is used instead of the detection if the interval is not positive.
+     *
+     * <p>Default: {@code 0}.
+     */
+    public static final String IGNITE_DEADLOCK_DETECTION_INTERVAL = "IGNITE_DEADLOCK_DETECTION_INTERVAL";
+
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(DeadlockDetector.class);
+
+    /** Tx messages factory. */
+    private static final TxMessagesFactory FACTORY = new TxMessagesFactory();
+
+    /** Timeout of a wait-for graph request in milliseconds. */
+    private static final long GRAPH_REQUEST_TIMEOUT = 5_000;
+
+    /** Node name. */
+    private final String nodeName;
+
+    /** Cluster service. */
+    private final ClusterService clusterService;
+
+    /** Lock manager. */
+    private final LockManager lockManager;
+
+    /** Detection interval in milliseconds. */
+    private final long interval;
+
+    /** Detection executor. */
+    private volatile ScheduledExecutorService executor;
+
+    /**
+     * The constructor.
+     *
+     * @param nodeName Node name.
+     * @param clusterService Cluster service.
+     * @param lockManager Lock manager.
+     * @param interval Detection interval in milliseconds, the periodic detection is disabled if not positive.
+     */
+    public DeadlockDetector(String nodeName, ClusterService clusterService, LockManager lockManager, long interval) {
+        this.nodeName = nodeName;
+        this.clusterService = clusterService;
+        this.lockManager = lockManager;
+        this.interval = interval;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        // The local graph is served even if the local detection is disabled.
+        clusterService.messagingService().addMessageHandler(TxMessageGroup.class, this);
+
+        if (interval <= 0) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(NamedThreadFactory.create(nodeName, "deadlock-detector", LOG));
+
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                detect();
+            } catch (Throwable e) {
+                LOG.error("Deadlock detection failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() throws Exception {
+        ScheduledExecutorService executor0 = executor;
+
+        if (executor0 != null) {
+            IgniteUtils.shutdownAndAwaitTermination(executor0, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Runs a single detection pass and resolves the found deadlocks.
+     *
+     * @return Ids of the victim transactions.
+     */
+    public Set<UUID> detect() {
+        ClusterNode localMember = clusterService.topologyService().localMember();
+
+        List<CompletableFuture<NetworkMessage>> remoteGraphs = new ArrayList<>();
+
+        for (ClusterNode member : clusterService.topologyService().allMembers()) {
+            if (!member.equals(localMember)) {
+                remoteGraphs.add(clusterService.messagingService().invoke(member, FACTORY.waitForGraphRequest().build(),
+                        GRAPH_REQUEST_TIMEOUT));
+            }
+        }
+
+        Map<Object, List<WaiterInfo>> locks = lockManager.locks();
+
+        Map<UUID, Set<UUID>> graph = waitForGraph(locks);
+
+        for (CompletableFuture<NetworkMessage> fut : remoteGraphs) {
+            try {
+                Map<UUID, Set<UUID>> remoteGraph = ((WaitForGraphResponse) fut.join()).edges();
+
+                remoteGraph.forEach((txId, edges) -> graph.computeIfAbsent(txId, k -> new HashSet<>()).addAll(edges));
+            } catch (CompletionException e) {
+                // Cycles through the unavailable node are found by the next passes.
+                LOG.debug("Unable to get the wait-for graph of a node", e);
+            }
+        }
+
+        Set<UUID> victims = findVictims(graph);
+
+        for (UUID victim : victims) {
+            LockException err = new LockException("Transaction was chosen as a deadlock victim [txId=" + victim + ']');
+
+            for (Map.Entry<Object, List<WaiterInfo>> entry : locks.entrySet()) {
+                for (WaiterInfo waiter : entry.getValue()) {
+                    if (waiter.txId().equals(victim) && (!waiter.locked() || waiter.upgrading())
+                            && lockManager.tryCancel(entry.getKey(), victim, err)) {
+                        LOG.warn("Deadlock detected, failing a lock request of the youngest transaction of the cycle [txId={}]", victim);
+                    }
+                }
+            }
+        }
+
+        return victims;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onReceived(NetworkMessage message, NetworkAddress senderAddr, @Nullable Long correlationId) {
+        if (message instanceof WaitForGraphRequest) {
+            assert correlationId != null;
+
+            WaitForGraphResponse resp = FACTORY.waitForGraphResponse().edges(waitForGraph(lockManager.locks())).build();
+
+            clusterService.messagingService().respond(senderAddr, resp, correlationId);
+        }
+    }
+
+    /**
+     * Builds a wait-for graph.
+     *
+     * @param locks Lock queues ordered from the oldest to the youngest transaction.
+     * @return Transactions which each transaction waits for.
+     */
+    static Map<UUID, Set<UUID>> waitForGraph(Map<Object, List<WaiterInfo>> locks) {
+        Map<UUID, Set<UUID>> graph = new HashMap<>();
+
+        for (List<WaiterInfo> queue : locks.values()) {
+            for (int i = 0; i < queue.size(); i++) {
+                WaiterInfo waiter = queue.get(i);
+
+                boolean waitsForWrite = waiter.waitsForWrite();
+
+                if (!waitsForWrite && waiter.locked()) {
+                    continue;
+                }
+
+                for (int j = 0; j < queue.size(); j++) {
+                    WaiterInfo other = queue.get(j);
+
+                    if (i == j || other.txId().equals(waiter.txId())) {
+                        continue;
+                    }
+
+                    boolean blocks = waitsForWrite
+                            ? other.locked()
+                            : (other.locked() && !other.isForRead()) || (j < i && other.waitsForWrite());
+
+                    if (blocks) {
+                        graph.computeIfAbsent(waiter.txId(), k -> new HashSet<>()).add(other.txId());
+                    }
+                }
+            }
+        }
+
+        return graph;
+    }
+
+    /**
+     * Breaks all cycles of a wait-for graph by choosing the youngest transaction of every cycle as a victim.
+     *
+     * @param graph Wait-for graph.
+     * @return Victim transactions.
+     */
+    static Set<UUID> findVictims(Map<UUID, Set<UUID>> graph) {
+        Set<UUID> victims = new HashSet<>();
+
+        List<UUID> cycle;
+
+        while ((cycle = findCycle(graph, victims)) != null) {
+            // Transaction ids are ordered by their start time, the maximum is the youngest one.
+            victims.add(Collections.max(cycle));
+        }
+
+        return victims;
+    }
+
+    /**
+     * Searches a cycle with an iterative depth-first search.
+     *
+     * @param graph Wait-for graph.
+     * @param removed Transactions to exclude from the graph.
+     * @return Transactions forming a cycle or {@code null} if there is no cycle.
+     */
+    private static @Nullable List<UUID> findCycle(Map<UUID, Set<UUID>> graph, Set<UUID> removed) {
+        Set<UUID> visited = new HashSet<>();
+
+        for (UUID start : graph.keySet()) {
+            if (removed.contains(start) || !visited.add(start)) {
+                continue;
+            }
+
+            // Current path of the search along with the iterators of the unvisited edges of its nodes.
+            List<UUID> path = new ArrayList<>();
+            Set<UUID> onPath = new HashSet<>();
+            Deque<Iterator<UUID>> edges = new ArrayDeque<>();
+
+            path.add(start);
+            onPath.add(start);
+            edges.push(graph.getOrDefault(start, Set.of()).iterator());
+
+            while (!edges.isEmpty()) {
+                Iterator<UUID> it = edges.peek();
+
+                if (!it.hasNext()) {
+                    edges.pop();
+                    onPath.remove(path.remove(path.size() - 1));
+
+                    continue;
+                }
+
+                UUID next = it.next();
+
+                if (removed.contains(next)) {
+                    continue;
+                }
+
+                if (onPath.contains(next)) {
+                    return new ArrayList<>(path.subList(path.indexOf(next), path.size()));
+                }
+
+                if (visited.add(next)) {
+                    path.add(next);
+                    onPath.add(next);
+                    edges.push(graph.getOrDefault(next, Set.of()).iterator());
+                }
+            }
+        }
+
+        return null;
+    }
+}
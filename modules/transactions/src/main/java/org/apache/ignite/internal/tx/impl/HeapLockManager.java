@@ -21,6 +21,8 @@ import static java.util.concurrent.CompletableFuture.failedFuture;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.UUID;
@@ -31,6 +33,7 @@ import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.internal.tx.LockException;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.Waiter;
+import org.apache.ignite.internal.tx.WaiterInfo;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -114,6 +117,38 @@ public class HeapLockManager implements LockManager {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean tryCancel(Object key, UUID txId, LockException err) {
+        LockState state = locks.get(key);
+
+        if (state == null || !state.tryCancel(txId, err)) {
+            return false;
+        }
+
+        if (state.markedForRemove) {
+            locks.remove(key, state);
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<Object, List<WaiterInfo>> locks() {
+        Map<Object, List<WaiterInfo>> res = new HashMap<>();
+
+        locks.forEach((key, state) -> {
+            List<WaiterInfo> queue = state.snapshot();
+
+            if (!queue.isEmpty()) {
+                res.put(key, queue);
+            }
+        });
+
+        return res;
+    }
+
     /**
      * Returns the lock state for the key.
      *
@@ -374,6 +409,99 @@ public class HeapLockManager implements LockManager {
             return false;
         }
 
+        /**
+         * Attempts to cancel a waiting lock request.
+         *
+         * @param txId Transaction id.
+         * @param err Exception to complete the request future with.
+         * @return {@code True} if a waiting request has been cancelled.
+         */
+        public boolean tryCancel(UUID txId, LockException err) {
+            WaiterImpl waiter;
+
+            Collection<WaiterImpl> locked;
+
+            synchronized (waiters) {
+                waiter = waiters.get(txId);
+
+                if (waiter == null || waiter.locked()) {
+                    return false;
+                }
+
+                // An upgraded waiter has already given up its read lock.
+                waiters.remove(txId);
+
+                markedForRemove = waiters.isEmpty();
+
+                // The waiters which were queued after the cancelled request may be granted now.
+                locked = grantWaiters();
+            }
+
+            waiter.fut.completeExceptionally(err);
+
+            // Notify outside the monitor.
+            for (WaiterImpl w : locked) {
+                w.notifyLocked();
+            }
+
+            return true;
+        }
+
+        /**
+         * Grants the lock to the waiters which are compatible with the held locks: to the readers which have only read-locked waiters
+         * before them, or to the oldest writer if nobody holds the lock. Must be called under the monitor.
+         *
+         * @return Granted waiters to notify outside the monitor.
+         */
+        private Collection<WaiterImpl> grantWaiters() {
+            assert Thread.holdsLock(waiters);
+
+            Collection<WaiterImpl> locked = new ArrayList<>();
+
+            boolean first = true;
+
+            for (WaiterImpl tmp : waiters.values()) {
+                if (tmp.locked()) {
+                    if (!tmp.isForRead()) {
+                        break;
+                    }
+                } else if (tmp.isForRead() && !tmp.upgraded) {
+                    tmp.lock();
+
+                    locked.add(tmp);
+                } else {
+                    if (first) {
+                        tmp.lock();
+
+                        locked.add(tmp);
+                    }
+
+                    break;
+                }
+
+                first = false;
+            }
+
+            return locked;
+        }
+
+        /**
+         * Returns a snapshot of the waiters queue.
+         *
+         * @return Waiters ordered from the oldest to the youngest transaction.
+         */
+        public List<WaiterInfo> snapshot() {
+            synchronized (waiters) {
+                List<WaiterInfo> res = new ArrayList<>(waiters.size());
+
+                for (WaiterImpl waiter : waiters.values()) {
+                    res.add(new WaiterInfo(waiter.txId, waiter.locked, waiter.forRead, false));
+                }
+
+                return res;
+            }
+        }
+
         /**
          * Returns a collection of timestamps that is associated with the specified {@code key}.
          *
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+
+/**
+ * Metric source of a lock manager. Lock wait and hold times are measured in microseconds.
+ */
+public class LockManagerMetricSource extends AbstractMetricSource<LockManagerMetricSource.Holder> {
+    /** Source name. */
+    public static final String SOURCE_NAME = "tx.locks";
+
+    /** Bounds of the lock wait and hold time distributions, in microseconds. */
+    private static final long[] TIME_BOUNDS_US = {10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    /**
+     * Constructor.
+     */
+    public LockManagerMetricSource() {
+        super(SOURCE_NAME);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void init(MetricSetBuilder bldr, Holder holder) {
+        holder.acquired = bldr.longAdder("AcquiredLocks", "Total number of granted lock requests.");
+
+        holder.waited = bldr.longAdder("WaitedLocks", "Number of granted lock requests that had to wait in a queue.");
+
+        holder.failed = bldr.longAdder("FailedLocks", "Number of lock requests refused due to a conflict.");
+
+        holder.waitTime = bldr.distribution(
+                "LockWaitTime",
+                "Distribution of the time lock requests spent waiting in a queue, in microseconds.",
+                TIME_BOUNDS_US
+        );
+
+        holder.holdTime = bldr.distribution(
+                "LockHoldTime",
+                "Distribution of the time locks were held before being released, in microseconds.",
+                TIME_BOUNDS_US
+        );
+    }
+
+    /**
+     * Records a lock request that was granted.
+     *
+     * @param waitNanos Time the request spent in a queue in nanoseconds, {@code 0} if it was granted immediately.
+     */
+    void onLockAcquired(long waitNanos) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.acquired.increment();
+
+            if (waitNanos > 0) {
+                holder.waited.increment();
+                holder.waitTime.add(TimeUnit.NANOSECONDS.toMicros(waitNanos));
+            }
+        }
+    }
+
+    /**
+     * Records a released lock.
+     *
+     * @param holdNanos Time the lock was held in nanoseconds.
+     */
+    void onLockReleased(long holdNanos) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.holdTime.add(TimeUnit.NANOSECONDS.toMicros(holdNanos));
+        }
+    }
+
+    /**
+     * Records a lock request that was refused due to a conflict.
+     */
+    void onLockFailed() {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.failed.increment();
+        }
+    }
+
+    /**
+     * Holder class.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private LongAdderMetric acquired;
+
+        private LongAdderMetric waited;
+
+        private LongAdderMetric failed;
+
+        private DistributionMetric waitTime;
+
+        private DistributionMetric holdTime;
+    }
+}
@@ -0,0 +1,977 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.tx.LockException;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.Waiter;
+import org.apache.ignite.internal.tx.WaiterInfo;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link LockManager} implementation which keeps lock queues in a striped heap lock table.
+ *
+ * <p>Locking semantics are the same as in {@link HeapLockManager}: waiters are ordered from oldest to youngest transaction,
+ * a request is refused if a younger transaction already holds a conflicting lock, and an oldest read lock can be upgraded to a
+ * write lock. The difference is in how the lock table is organized:
+ * <ul>
+ *     <li>Keys are spread over a power-of-two number of stripes, every stripe is a small hash table guarded by its own monitor,
+ *     so that operations on unrelated keys don't contend with each other.</li>
+ *     <li>A lock queue is kept in a few parallel arrays sorted by transaction id instead of a {@code TreeMap} of waiter objects.
+ *     Queue objects of released keys are pooled by a stripe and reused.</li>
+ *     <li>A lock that is granted immediately doesn't allocate a future: a shared completed future is returned. A future is only
+ *     created for a request that has to wait.</li>
+ * </ul>
+ *
+ * <p>Deadlock prevention may be disabled. In that case a conflicting request always waits: a write lock is granted when no other
+ * transaction holds the lock, a read lock is granted when no other transaction holds a write lock and no older transaction waits
+ * for one, and an upgrading transaction keeps its read lock while waiting. Deadlocks are possible then and have to be resolved by
+ * a {@link DeadlockDetector}.
+ *
+ * <p>Lock wait and hold times are reported to {@link #metricSource()} when it is enabled.
+ */
+public class StripedLockManager implements LockManager {
+    /** Default number of stripes. */
+    public static final int DFLT_STRIPES = 64;
+
+    /** Future returned for locks which are granted immediately. */
+    private static final CompletableFuture<Void> COMPLETED = completedFuture(null);
+
+    /** Waiter requested a read lock. */
+    private static final byte FOR_READ = 1;
+
+    /** Waiter holds the lock. */
+    private static final byte LOCKED = 1 << 1;
+
+    /**
+     * Waiter has requested an upgrade of its read lock and waits for it. The read lock is given up while waiting if deadlock prevention
+     * is enabled, and is kept otherwise.
+     */
+    private static final byte UPGRADED = 1 << 2;
+
+    /** Stripes. */
+    private final Stripe[] stripes;
+
+    /** Stripe index mask. */
+    private final int mask;
+
+    /** Whether a request conflicting with a lock held by a younger transaction is refused. */
+    private final boolean deadlockPrevention;
+
+    /** Metric source. */
+    private final LockManagerMetricSource metricSource = new LockManagerMetricSource();
+
+    /**
+     * Creates a lock manager with the {@link #DFLT_STRIPES default} number of stripes and deadlock prevention enabled.
+     */
+    public StripedLockManager() {
+        this(DFLT_STRIPES, true);
+    }
+
+    /**
+     * Creates a lock manager with deadlock prevention enabled.
+     *
+     * @param stripes Number of stripes, rounded up to the nearest power of two.
+     */
+    public StripedLockManager(int stripes) {
+        this(stripes, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param stripes Number of stripes, rounded up to the nearest power of two.
+     * @param deadlockPrevention {@code False} to let conflicting requests wait instead of refusing them.
+     */
+    public StripedLockManager(int stripes, boolean deadlockPrevention) {
+        assert stripes > 0 && stripes <= 1 << 16 : stripes;
+
+        int cnt = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+
+        this.stripes = new Stripe[cnt];
+        this.mask = cnt - 1;
+        this.deadlockPrevention = deadlockPrevention;
+
+        for (int i = 0; i < cnt; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Returns a metric source of the lock manager.
+     *
+     * @return Metric source.
+     */
+    public LockManagerMetricSource metricSource() {
+        return metricSource;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> tryAcquire(Object key, UUID txId) {
+        int hash = hash(key);
+        Stripe stripe = stripe(hash);
+
+        synchronized (stripe) {
+            LockState state = stripe.getOrCreate(key, hash);
+
+            int idx = state.indexOf(txId);
+
+            boolean upgrade = false;
+
+            if (idx >= 0) {
+                byte flags = state.flags[idx];
+
+                if ((flags & LOCKED) == 0 || (flags & UPGRADED) != 0) {
+                    return state.futs[idx]; // Already waiting.
+                }
+
+                if ((flags & FOR_READ) == 0) {
+                    return COMPLETED; // Allow reenter.
+                }
+
+                upgrade = true;
+            }
+
+            long now = metricSource.enabled() ? System.nanoTime() : 0;
+
+            if (!deadlockPrevention) {
+                if (upgrade) {
+                    return state.upgrade(idx, metricSource);
+                }
+
+                return state.enqueue(-(idx + 1), txId, false, now, metricSource);
+            }
+
+            int next = idx >= 0 ? idx + 1 : -(idx + 1);
+
+            // If we have a younger waiter in a locked state, when refuse to wait for lock.
+            if (next < state.size && (state.flags[next] & LOCKED) != 0) {
+                metricSource.onLockFailed();
+
+                return failedFuture(new LockException(state.waiter(next)));
+            }
+
+            int pos = upgrade ? idx : state.insert(next, txId);
+
+            // Lock if oldest.
+            if (pos == 0) {
+                state.flags[pos] = LOCKED;
+                state.times[pos] = now;
+
+                metricSource.onLockAcquired(0);
+
+                return COMPLETED;
+            }
+
+            CompletableFuture<Void> fut = new CompletableFuture<>();
+
+            state.flags[pos] = upgrade ? UPGRADED : 0;
+            state.futs[pos] = fut;
+            state.times[pos] = now;
+
+            return fut;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void tryRelease(Object key, UUID txId) throws LockException {
+        int hash = hash(key);
+        Stripe stripe = stripe(hash);
+
+        List<CompletableFuture<Void>> locked = null;
+        List<CompletableFuture<Void>> toFail = null;
+
+        synchronized (stripe) {
+            LockState state = stripe.get(key, hash);
+
+            int idx = state == null ? -1 : state.indexOf(txId);
+
+            if (idx < 0 || state.flags[idx] != LOCKED) {
+                throw new LockException("Not exclusively locked by " + txId);
+            }
+
+            assert idx == 0 || !deadlockPrevention : "Exclusive lock is not the oldest one";
+
+            long now = metricSource.enabled() ? System.nanoTime() : 0;
+
+            onReleased(state.times[idx], now);
+
+            state.remove(idx);
+
+            if (state.size == 0) {
+                stripe.remove(state);
+
+                return;
+            }
+
+            if (!deadlockPrevention) {
+                locked = state.grantWaiters(now, metricSource);
+            } else if ((state.flags[0] & (FOR_READ | UPGRADED)) == 0) {
+                // Lock next waiter(s).
+                locked = new ArrayList<>(1);
+
+                locked.add(state.lock(0, now, metricSource));
+            } else {
+                // Grant lock to all adjacent readers.
+                for (int i = 0; i < state.size; i++) {
+                    byte flags = state.flags[i];
+
+                    if ((flags & UPGRADED) != 0) {
+                        // Fail upgraded waiters because of write.
+                        assert (flags & LOCKED) == 0;
+
+                        if (toFail == null) {
+                            toFail = new ArrayList<>();
+                        }
+
+                        // Downgrade to acquired read lock.
+                        toFail.add(state.futs[i]);
+
+                        state.flags[i] = FOR_READ | LOCKED;
+                        state.futs[i] = null;
+                        state.times[i] = now;
+                    } else if ((flags & FOR_READ) == 0) {
+                        break;
+                    } else {
+                        if (locked == null) {
+                            locked = new ArrayList<>();
+                        }
+
+                        locked.add(state.lock(i, now, metricSource));
+                    }
+                }
+            }
+        }
+
+        // Notify outside the monitor.
+        complete(locked);
+
+        if (toFail != null) {
+            Waiter unlocked = new WaiterInfo(txId, true, false, false);
+
+            for (CompletableFuture<Void> fut : toFail) {
+                fut.completeExceptionally(new LockException(unlocked));
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> tryAcquireShared(Object key, UUID txId) {
+        int hash = hash(key);
+        Stripe stripe = stripe(hash);
+
+        synchronized (stripe) {
+            LockState state = stripe.getOrCreate(key, hash);
+
+            int idx = state.indexOf(txId);
+
+            if (idx >= 0) {
+                // Allow reenter. A write lock implies a read lock.
+                return (state.flags[idx] & LOCKED) != 0 ? COMPLETED : state.futs[idx];
+            }
+
+            int pos = -(idx + 1);
+
+            long now = metricSource.enabled() ? System.nanoTime() : 0;
+
+            if (!deadlockPrevention) {
+                return state.enqueue(pos, txId, true, now, metricSource);
+            }
+
+            // Check lock compatibility.
+            if (pos < state.size && (state.flags[pos] & (LOCKED | FOR_READ)) == LOCKED) {
+                metricSource.onLockFailed();
+
+                return failedFuture(new LockException(state.waiter(pos)));
+            }
+
+            // Grant read lock if previous entry is read-locked (by induction).
+            boolean locked = pos == 0 || state.flags[pos - 1] == (FOR_READ | LOCKED);
+
+            state.insert(pos, txId);
+
+            state.times[pos] = now;
+
+            if (locked) {
+                state.flags[pos] = FOR_READ | LOCKED;
+
+                metricSource.onLockAcquired(0);
+
+                return COMPLETED;
+            }
+
+            CompletableFuture<Void> fut = new CompletableFuture<>();
+
+            state.flags[pos] = FOR_READ;
+            state.futs[pos] = fut;
+
+            return fut;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void tryReleaseShared(Object key, UUID txId) throws LockException {
+        int hash = hash(key);
+        Stripe stripe = stripe(hash);
+
+        List<CompletableFuture<Void>> locked = null;
+        CompletableFuture<Void> upgradeFut = null;
+
+        synchronized (stripe) {
+            LockState state = stripe.get(key, hash);
+
+            int idx = state == null ? -1 : state.indexOf(txId);
+
+            if (idx < 0 || (state.flags[idx] & (FOR_READ | LOCKED)) != (FOR_READ | LOCKED)) {
+                throw new LockException("Not shared locked by " + txId);
+            }
+
+            long now = metricSource.enabled() ? System.nanoTime() : 0;
+
+            onReleased(state.times[idx], now);
+
+            // A pending upgrade can't be granted without the read lock.
+            upgradeFut = state.futs[idx];
+
+            state.remove(idx);
+
+            if (state.size == 0) {
+                stripe.remove(state);
+            } else if (!deadlockPrevention) {
+                locked = state.grantWaiters(now, metricSource);
+            } else if (idx == 0 && (state.flags[0] & (FOR_READ | LOCKED)) == 0) {
+                // Lock next exclusive waiter if it became the oldest one.
+                locked = new ArrayList<>(1);
+
+                locked.add(state.lock(0, now, metricSource));
+            }
+        }
+
+        if (upgradeFut != null) {
+            upgradeFut.completeExceptionally(new LockException("Read lock has been released before the upgrade [txId=" + txId + ']'));
+        }
+
+        complete(locked);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean tryCancel(Object key, UUID txId, LockException err) {
+        int hash = hash(key);
+        Stripe stripe = stripe(hash);
+
+        CompletableFuture<Void> cancelled;
+        List<CompletableFuture<Void>> locked = null;
+
+        synchronized (stripe) {
+            LockState state = stripe.get(key, hash);
+
+            int idx = state == null ? -1 : state.indexOf(txId);
+
+            if (idx < 0 || state.futs[idx] == null) {
+                return false;
+            }
+
+            cancelled = state.futs[idx];
+
+            long now = metricSource.enabled() ? System.nanoTime() : 0;
+
+            if ((state.flags[idx] & LOCKED) != 0) {
+                // Keep the read lock of a cancelled upgrade.
+                state.flags[idx] = FOR_READ | LOCKED;
+                state.futs[idx] = null;
+            } else {
+                // An upgraded waiter has already given up its read lock if deadlock prevention is enabled.
+                state.remove(idx);
+            }
+
+            if (state.size == 0) {
+                stripe.remove(state);
+            } else if (!deadlockPrevention) {
+                locked = state.grantWaiters(now, metricSource);
+            } else {
+                // Readers which were queued after the cancelled request may be granted now.
+                for (int i = idx; i > 0 && i < state.size && state.flags[i - 1] == (FOR_READ | LOCKED) && state.flags[i] == FOR_READ; i++) {
+                    if (locked == null) {
+                        locked = new ArrayList<>();
+                    }
+
+                    locked.add(state.lock(i, now, metricSource));
+                }
+            }
+        }
+
+        cancelled.completeExceptionally(err);
+
+        complete(locked);
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<Object, List<WaiterInfo>> locks() {
+        Map<Object, List<WaiterInfo>> res = new HashMap<>();
+
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (LockState head : stripe.table) {
+                    for (LockState state = head; state != null; state = state.next) {
+                        List<WaiterInfo> queue = new ArrayList<>(state.size);
+
+                        for (int i = 0; i < state.size; i++) {
+                            queue.add(state.waiter(i));
+                        }
+
+                        res.put(state.key, queue);
+                    }
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<UUID> queue(Object key) {
+        int hash = hash(key);
+        Stripe stripe = stripe(hash);
+
+        synchronized (stripe) {
+            LockState state = stripe.get(key, hash);
+
+            if (state == null) {
+                return new ArrayList<>();
+            }
+
+            return new ArrayList<>(Arrays.asList(state.txIds).subList(0, state.size));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Waiter waiter(Object key, UUID txId) {
+        int hash = hash(key);
+        Stripe stripe = stripe(hash);
+
+        synchronized (stripe) {
+            LockState state = stripe.get(key, hash);
+
+            int idx = state == null ? -1 : state.indexOf(txId);
+
+            return idx < 0 ? null : state.waiter(idx);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEmpty() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.size != 0) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Completes futures of granted lock requests.
+     *
+     * @param locked Futures, may be {@code null}.
+     */
+    private static void complete(@Nullable List<CompletableFuture<Void>> locked) {
+        if (locked != null) {
+            for (CompletableFuture<Void> fut : locked) {
+                fut.complete(null);
+            }
+        }
+    }
+
+    /**
+     * Reports a lock hold time.
+     *
+     * @param grantedAt Time the lock was granted at, {@code 0} if it was granted while metrics were disabled.
+     * @param now Current time, {@code 0} if metrics are disabled.
+     */
+    private void onReleased(long grantedAt, long now) {
+        if (grantedAt != 0 && now != 0) {
+            metricSource.onLockReleased(now - grantedAt);
+        }
+    }
+
+    /**
+     * Returns a stripe for the key hash.
+     *
+     * @param hash Spread hash of a key.
+     * @return The stripe.
+     */
+    private Stripe stripe(int hash) {
+        // Fibonacci hashing, the stripe is chosen by the bits which are not used by the tables of the stripes.
+        return stripes[((hash * 0x9E3779B9) >>> 16) & mask];
+    }
+
+    /**
+     * Spreads higher bits of a key hash code to lower.
+     *
+     * @param key The key.
+     * @return Spread hash.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A stripe of the lock table: a chained hash table of lock states along with a pool of unused lock states. All methods must be
+     * called under the stripe monitor.
+     */
+    private static class Stripe {
+        /** Initial capacity of the table. */
+        private static final int INITIAL_CAPACITY = 16;
+
+        /** Maximum number of pooled lock states. */
+        private static final int MAX_POOL_SIZE = 64;
+
+        /** Buckets. */
+        private LockState[] table = new LockState[INITIAL_CAPACITY];
+
+        /** Number of lock states in the table. */
+        private int size;
+
+        /** Head of the pooled lock states list. */
+        private LockState pool;
+
+        /** Number of pooled lock states. */
+        private int poolSize;
+
+        /**
+         * Returns a lock state of the key.
+         *
+         * @param key The key.
+         * @param hash Spread hash of the key.
+         * @return The lock state or {@code null} if the key is not locked.
+         */
+        @Nullable LockState get(Object key, int hash) {
+            for (LockState state = table[hash & (table.length - 1)]; state != null; state = state.next) {
+                if (state.hash == hash && state.key.equals(key)) {
+                    return state;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Returns a lock state of the key, creating an empty one if the key is not locked.
+         *
+         * @param key The key.
+         * @param hash Spread hash of the key.
+         * @return The lock state.
+         */
+        LockState getOrCreate(Object key, int hash) {
+            LockState state = get(key, hash);
+
+            if (state != null) {
+                return state;
+            }
+
+            if (pool != null) {
+                state = pool;
+
+                pool = state.next;
+                poolSize--;
+            } else {
+                state = new LockState();
+            }
+
+            if (++size > table.length - (table.length >>> 2)) {
+                resize();
+            }
+
+            int bucket = hash & (table.length - 1);
+
+            state.key = key;
+            state.hash = hash;
+            state.next = table[bucket];
+
+            table[bucket] = state;
+
+            return state;
+        }
+
+        /**
+         * Removes an empty lock state from the table and returns it to the pool.
+         *
+         * @param state The lock state.
+         */
+        void remove(LockState state) {
+            assert state.size == 0;
+
+            int bucket = state.hash & (table.length - 1);
+
+            LockState prev = null;
+
+            for (LockState cur = table[bucket]; cur != state; cur = cur.next) {
+                assert cur != null;
+
+                prev = cur;
+            }
+
+            if (prev == null) {
+                table[bucket] = state.next;
+            } else {
+                prev.next = state.next;
+            }
+
+            size--;
+
+            state.key = null;
+            state.next = null;
+
+            // Don't keep queues grown by a hot key.
+            if (poolSize < MAX_POOL_SIZE && state.txIds.length == LockState.INITIAL_CAPACITY) {
+                state.next = pool;
+
+                pool = state;
+                poolSize++;
+            }
+        }
+
+        /**
+         * Doubles the table capacity.
+         */
+        private void resize() {
+            LockState[] oldTable = table;
+            LockState[] newTable = new LockState[oldTable.length << 1];
+
+            for (LockState head : oldTable) {
+                for (LockState state = head; state != null; ) {
+                    LockState next = state.next;
+
+                    int bucket = state.hash & (newTable.length - 1);
+
+                    state.next = newTable[bucket];
+                    newTable[bucket] = state;
+
+                    state = next;
+                }
+            }
+
+            table = newTable;
+        }
+    }
+
+    /**
+     * A lock state: a queue of waiters of a key ordered by transaction id. Waiters are kept in parallel arrays, only first
+     * {@link #size} elements of which are used.
+     */
+    private static class LockState {
+        /** Initial capacity of the queue. */
+        private static final int INITIAL_CAPACITY = 4;
+
+        /** The key. */
+        private Object key;
+
+        /** Spread hash of the key. */
+        private int hash;
+
+        /** Next state in a bucket or in a pool. */
+        private LockState next;
+
+        /** Number of waiters. */
+        private int size;
+
+        /** Transaction ids. */
+        private UUID[] txIds = new UUID[INITIAL_CAPACITY];
+
+        /** Waiter flags. */
+        private byte[] flags = new byte[INITIAL_CAPACITY];
+
+        /** Futures of waiters that are not locked yet, {@code null} for granted locks. */
+        @SuppressWarnings("unchecked")
+        private CompletableFuture<Void>[] futs = new CompletableFuture[INITIAL_CAPACITY];
+
+        /** Time a request was queued at or, for granted locks, time the lock was granted at. {@code 0} if metrics were disabled. */
+        private long[] times = new long[INITIAL_CAPACITY];
+
+        /**
+         * Searches for a waiter.
+         *
+         * @param txId Transaction id.
+         * @return Index of the waiter, or {@code (-(insertion point) - 1)} if there is no waiter of the transaction.
+         */
+        int indexOf(UUID txId) {
+            int low = 0;
+            int high = size - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+
+                int cmp = txIds[mid].compareTo(txId);
+
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -(low + 1);
+        }
+
+        /**
+         * Inserts a waiter with empty flags.
+         *
+         * @param pos Insertion point.
+         * @param txId Transaction id.
+         * @return Insertion point.
+         */
+        int insert(int pos, UUID txId) {
+            if (size == txIds.length) {
+                int newCap = size << 1;
+
+                txIds = Arrays.copyOf(txIds, newCap);
+                flags = Arrays.copyOf(flags, newCap);
+                futs = Arrays.copyOf(futs, newCap);
+                times = Arrays.copyOf(times, newCap);
+            }
+
+            int moved = size - pos;
+
+            if (moved > 0) {
+                System.arraycopy(txIds, pos, txIds, pos + 1, moved);
+                System.arraycopy(flags, pos, flags, pos + 1, moved);
+                System.arraycopy(futs, pos, futs, pos + 1, moved);
+                System.arraycopy(times, pos, times, pos + 1, moved);
+            }
+
+            txIds[pos] = txId;
+            flags[pos] = 0;
+            futs[pos] = null;
+            times[pos] = 0;
+
+            size++;
+
+            return pos;
+        }
+
+        /**
+         * Removes a waiter.
+         *
+         * @param pos Index of the waiter.
+         */
+        void remove(int pos) {
+            int moved = size - pos - 1;
+
+            if (moved > 0) {
+                System.arraycopy(txIds, pos + 1, txIds, pos, moved);
+                System.arraycopy(flags, pos + 1, flags, pos, moved);
+                System.arraycopy(futs, pos + 1, futs, pos, moved);
+                System.arraycopy(times, pos + 1, times, pos, moved);
+            }
+
+            size--;
+
+            txIds[size] = null;
+            futs[size] = null;
+        }
+
+        /**
+         * Enqueues a new request when deadlock prevention is disabled: the request is granted if it's compatible with the held
+         * locks and with the older waiting requests, otherwise it waits.
+         *
+         * @param pos Insertion point.
+         * @param txId Transaction id.
+         * @param forRead {@code True} to request a read lock.
+         * @param now Current time, {@code 0} if metrics are disabled.
+         * @param metrics Metric source.
+         * @return Lock future.
+         */
+        CompletableFuture<Void> enqueue(int pos, UUID txId, boolean forRead, long now, LockManagerMetricSource metrics) {
+            insert(pos, txId);
+
+            times[pos] = now;
+
+            if (compatible(pos, forRead)) {
+                flags[pos] = forRead ? FOR_READ | LOCKED : LOCKED;
+
+                metrics.onLockAcquired(0);
+
+                return COMPLETED;
+            }
+
+            CompletableFuture<Void> fut = new CompletableFuture<>();
+
+            flags[pos] = forRead ? FOR_READ : 0;
+            futs[pos] = fut;
+
+            return fut;
+        }
+
+        /**
+         * Upgrades a held read lock when deadlock prevention is disabled: the upgrade is granted if no other transaction holds
+         * the lock, otherwise the waiter keeps its read lock and waits.
+         *
+         * @param pos Index of the waiter.
+         * @param metrics Metric source.
+         * @return Upgrade future.
+         */
+        CompletableFuture<Void> upgrade(int pos, LockManagerMetricSource metrics) {
+            assert flags[pos] == (FOR_READ | LOCKED);
+
+            if (compatible(pos, false)) {
+                flags[pos] = LOCKED;
+
+                metrics.onLockAcquired(0);
+
+                return COMPLETED;
+            }
+
+            CompletableFuture<Void> fut = new CompletableFuture<>();
+
+            flags[pos] = FOR_READ | LOCKED | UPGRADED;
+            futs[pos] = fut;
+
+            return fut;
+        }
+
+        /**
+         * Grants all waiting requests which became compatible, used when deadlock prevention is disabled. Waiters are visited from
+         * the oldest one, so that older transactions are preferred.
+         *
+         * @param now Current time, {@code 0} if metrics are disabled.
+         * @param metrics Metric source.
+         * @return Futures to complete outside the monitor, or {@code null} if nothing was granted.
+         */
+        @Nullable List<CompletableFuture<Void>> grantWaiters(long now, LockManagerMetricSource metrics) {
+            List<CompletableFuture<Void>> locked = null;
+
+            for (int i = 0; i < size; i++) {
+                byte f = flags[i];
+
+                if (futs[i] == null || !compatible(i, (f & (FOR_READ | UPGRADED)) == FOR_READ)) {
+                    continue;
+                }
+
+                if (locked == null) {
+                    locked = new ArrayList<>();
+                }
+
+                if ((f & UPGRADED) != 0) {
+                    // The read lock is held already, keep its grant time.
+                    locked.add(futs[i]);
+
+                    flags[i] = LOCKED;
+                    futs[i] = null;
+
+                    metrics.onLockAcquired(0);
+                } else {
+                    locked.add(lock(i, now, metrics));
+                }
+            }
+
+            return locked;
+        }
+
+        /**
+         * Checks whether a request of a waiter can be granted when deadlock prevention is disabled. A write request is compatible if
+         * no other waiter holds the lock. A read request is compatible if no other waiter holds a write lock and no older waiter
+         * waits for a write lock.
+         *
+         * @param pos Index of the waiter.
+         * @param forRead {@code True} if a read lock is requested.
+         * @return {@code True} if the request can be granted.
+         */
+        private boolean compatible(int pos, boolean forRead) {
+            for (int i = 0; i < size; i++) {
+                if (i == pos) {
+                    continue;
+                }
+
+                byte f = flags[i];
+
+                if ((f & LOCKED) != 0 && (!forRead || (f & FOR_READ) == 0)) {
+                    return false;
+                }
+
+                if (forRead && i < pos && futs[i] != null && (f & (FOR_READ | UPGRADED)) != FOR_READ) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Grants a lock to a waiting request.
+         *
+         * @param pos Index of the waiter.
+         * @param now Current time, {@code 0} if metrics are disabled.
+         * @param metrics Metric source.
+         * @return Future to complete outside the monitor.
+         */
+        CompletableFuture<Void> lock(int pos, long now, LockManagerMetricSource metrics) {
+            CompletableFuture<Void> fut = futs[pos];
+
+            assert fut != null && (flags[pos] & LOCKED) == 0;
+
+            metrics.onLockAcquired(times[pos] != 0 && now != 0 ? Math.max(now - times[pos], 1) : 0);
+
+            // A granted upgrade is an exclusive lock.
+            flags[pos] = (byte) ((flags[pos] & FOR_READ) | LOCKED);
+            futs[pos] = null;
+            times[pos] = now;
+
+            return fut;
+        }
+
+        /**
+         * Returns a snapshot of a waiter.
+         *
+         * @param pos Index of the waiter.
+         * @return The waiter.
+         */
+        WaiterInfo waiter(int pos) {
+            byte f = flags[pos];
+
+            return new WaiterInfo(txIds[pos], (f & LOCKED) != 0, (f & FOR_READ) != 0, (f & (LOCKED | UPGRADED)) == (LOCKED | UPGRADED));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import static org.apache.ignite.lang.IgniteStringFormatter.format;
 
 import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,8 +31,13 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import org.apache.ignite.internal.tostring.IgniteToStringExclude;
+import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.LockException;
 import org.apache.ignite.internal.tx.LockManager;
@@ -43,6 +49,7 @@ import org.apache.ignite.internal.tx.message.TxFinishResponse;
 import org.apache.ignite.internal.tx.message.TxFinishResponseBuilder;
 import org.apache.ignite.internal.tx.message.TxMessageGroup;
 import org.apache.ignite.internal.tx.message.TxMessagesFactory;
+import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.network.NetworkAddress;
@@ -78,6 +85,15 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
     /** The storage for locks acquired by transactions. Each key is mapped to lock type where true is for read. */
     private final ConcurrentHashMap<UUID, Map<LockKey, Boolean>> locks = new ConcurrentHashMap<>();
 
+    /** Read timestamps of the reads outside of transactions, which are in progress. */
+    private final ConcurrentSkipListSet<Timestamp> readTimestamps = new ConcurrentSkipListSet<>();
+
+    /**
+     * Guards the generation and registration of start and read timestamps (read lock) against the calculation of the low watermark
+     * (write lock), so that a timestamp generated before the low watermark is always registered by the time it is calculated.
+     */
+    private final ReadWriteLock lowWatermarkLock = new ReentrantReadWriteLock();
+
     /**
      * The constructor.
      *
@@ -92,9 +108,17 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
     /** {@inheritDoc} */
     @Override
     public InternalTransaction begin() {
-        UUID txId = Timestamp.nextVersion().toUuid();
+        UUID txId;
+
+        lowWatermarkLock.readLock().lock();
 
-        states.put(txId, TxState.PENDING);
+        try {
+            txId = Timestamp.nextVersion().toUuid();
+
+            states.put(txId, TxState.PENDING);
+        } finally {
+            lowWatermarkLock.readLock().unlock();
+        }
 
         return new TransactionImpl(this, txId, clusterService.topologyService().localMember().address());
     }
@@ -270,6 +294,65 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
                         Collectors.mapping(entry -> entry.getKey().keyBytes(), Collectors.toList())));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Timestamp lowWatermark() {
+        Timestamp lowWatermark;
+
+        // Taken before the iteration, so that transactions started and reads registered concurrently don't need to be considered.
+        lowWatermarkLock.writeLock().lock();
+
+        try {
+            lowWatermark = Timestamp.nextVersion();
+        } finally {
+            lowWatermarkLock.writeLock().unlock();
+        }
+
+        for (Map.Entry<UUID, TxState> e : states.entrySet()) {
+            if (e.getValue() == TxState.PENDING) {
+                Timestamp startTs = new Timestamp(e.getKey());
+
+                if (startTs.compareTo(lowWatermark) < 0) {
+                    lowWatermark = startTs;
+                }
+            }
+        }
+
+        Iterator<Timestamp> readTsIt = readTimestamps.iterator();
+
+        if (readTsIt.hasNext()) {
+            Timestamp minReadTs = readTsIt.next();
+
+            if (minReadTs.compareTo(lowWatermark) < 0) {
+                lowWatermark = minReadTs;
+            }
+        }
+
+        return lowWatermark;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Timestamp registerReadTimestamp() {
+        lowWatermarkLock.readLock().lock();
+
+        try {
+            Timestamp readTs = Timestamp.nextVersion();
+
+            readTimestamps.add(readTs);
+
+            return readTs;
+        } finally {
+            lowWatermarkLock.readLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void unregisterReadTimestamp(Timestamp readTs) {
+        readTimestamps.remove(readTs);
+    }
+
     /** {@inheritDoc} */
     @Override
     public int finished() {
@@ -296,12 +379,14 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
         private final IgniteUuid id;
 
         /** The key. */
+        @IgniteToStringExclude
         private final ByteBuffer key;
 
         /**
          * Key bytes.
          * TODO: Remove the field after (IGNITE-14793).
          */
+        @IgniteToStringExclude
         private byte[] keyBytes;
 
         /**
@@ -357,6 +442,12 @@ public class TxManagerImpl implements TxManager, NetworkMessageHandler {
         public int hashCode() {
             return Objects.hash(id, key);
         }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return S.toString(LockKey.class, this, "key", IgniteUtils.toHexString(keyBytes));
+        }
     }
 
     /**
@@ -33,4 +33,14 @@ public class TxMessageGroup {
      * Message type for {@link TxFinishResponse}.
      */
     public static final short TX_FINISH_RESPONSE = 1;
+
+    /**
+     * Message type for {@link WaitForGraphRequest}.
+     */
+    public static final short WAIT_FOR_GRAPH_REQUEST = 2;
+
+    /**
+     * Message type for {@link WaitForGraphResponse}.
+     */
+    public static final short WAIT_FOR_GRAPH_RESPONSE = 3;
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.tx.LockException;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link HeapLockManager} with {@link StripedLockManager}. Every operation acquires a lock of a random key on behalf of
+ * a new transaction and releases it right away, the number of keys controls the contention.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 15)
+@Measurement(iterations = 1, time = 30)
+@BenchmarkMode({Mode.Throughput})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Fork(jvmArgs = "-Djava.lang.invoke.stringConcat=BC_SB" /* Workaround for Java 9+ */, value = 1)
+@SuppressWarnings("InstanceVariableMayNotBeInitialized")
+public class LockManagerBenchmark {
+    /** Lock manager implementation. */
+    @Param({"heap", "striped"})
+    public String lockManagerType;
+
+    /** Number of distinct keys, the fewer keys the higher the contention. */
+    @Param({"1", "64", "100000"})
+    public int keysCount;
+
+    private LockManager lockManager;
+
+    private Object[] keys;
+
+    /** Transaction id sequence, {@code Timestamp#nextVersion} is synchronized and would dominate the measurement. */
+    private final AtomicLong txIdSeq = new AtomicLong();
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(LockManagerBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setUp() {
+        lockManager = "heap".equals(lockManagerType) ? new HeapLockManager() : new StripedLockManager();
+
+        keys = new Object[keysCount];
+
+        for (int i = 0; i < keysCount; i++) {
+            keys[i] = "key" + i;
+        }
+    }
+
+    /**
+     * Acquires and releases an exclusive lock.
+     */
+    @Benchmark
+    public boolean exclusive() throws LockException {
+        Object key = keys[ThreadLocalRandom.current().nextInt(keysCount)];
+        UUID txId = new UUID(0, txIdSeq.incrementAndGet());
+
+        if (!await(lockManager.tryAcquire(key, txId))) {
+            return false;
+        }
+
+        lockManager.tryRelease(key, txId);
+
+        return true;
+    }
+
+    /**
+     * Acquires and releases a shared lock.
+     */
+    @Benchmark
+    public boolean shared() throws LockException {
+        Object key = keys[ThreadLocalRandom.current().nextInt(keysCount)];
+        UUID txId = new UUID(0, txIdSeq.incrementAndGet());
+
+        if (!await(lockManager.tryAcquireShared(key, txId))) {
+            return false;
+        }
+
+        lockManager.tryReleaseShared(key, txId);
+
+        return true;
+    }
+
+    /**
+     * Waits for a lock. Lock owners release their locks right away, so the wait is bounded.
+     *
+     * @return {@code false} if the lock request was refused due to a conflict.
+     */
+    private static boolean await(CompletableFuture<Void> fut) {
+        try {
+            fut.join();
+
+            return true;
+        } catch (CompletionException e) {
+            return false;
+        }
+    }
+}
@@ -17,12 +17,15 @@
 
 package org.apache.ignite.internal.tx;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -576,6 +579,87 @@ public abstract class AbstractLockManagerTest extends IgniteAbstractTest {
         assertTrue(lockManager.queue(key).isEmpty());
     }
 
+    @Test
+    public void testLocksDump() throws LockException {
+        UUID txId0 = Timestamp.nextVersion().toUuid();
+        UUID txId1 = Timestamp.nextVersion().toUuid();
+        Object key = new String("test");
+
+        assertTrue(lockManager.tryAcquire(key, txId0).isDone());
+        assertFalse(lockManager.tryAcquireShared(key, txId1).isDone());
+
+        Map<Object, List<WaiterInfo>> locks = lockManager.locks();
+
+        assertEquals(1, locks.size());
+
+        List<WaiterInfo> waiters = locks.get(key);
+
+        assertEquals(2, waiters.size());
+
+        assertEquals(txId0, waiters.get(0).txId());
+        assertTrue(waiters.get(0).locked());
+        assertFalse(waiters.get(0).isForRead());
+
+        assertEquals(txId1, waiters.get(1).txId());
+        assertFalse(waiters.get(1).locked());
+        assertTrue(waiters.get(1).isForRead());
+
+        lockManager.tryRelease(key, txId0);
+        lockManager.tryReleaseShared(key, txId1);
+
+        assertTrue(lockManager.locks().isEmpty());
+    }
+
+    @Test
+    public void testCancel() throws LockException {
+        UUID txId0 = Timestamp.nextVersion().toUuid();
+        UUID txId1 = Timestamp.nextVersion().toUuid();
+        Object key = new String("test");
+
+        assertTrue(lockManager.tryAcquire(key, txId0).isDone());
+
+        CompletableFuture<Void> fut = lockManager.tryAcquire(key, txId1);
+
+        assertFalse(fut.isDone());
+
+        assertFalse(lockManager.tryCancel(key, txId0, new LockException("Cancelled")));
+        assertTrue(lockManager.tryCancel(key, txId1, new LockException("Cancelled")));
+
+        expectConflict(fut);
+
+        assertEquals(List.of(txId0), List.copyOf(lockManager.queue(key)));
+
+        lockManager.tryRelease(key, txId0);
+
+        assertTrue(lockManager.queue(key).isEmpty());
+    }
+
+    @Test
+    public void testCancelGrantsQueuedReaders() throws LockException {
+        UUID[] txIds = generate(3);
+        Object key = new String("test");
+
+        assertTrue(lockManager.tryAcquireShared(key, txIds[0]).isDone());
+
+        CompletableFuture<Void> writeFut = lockManager.tryAcquire(key, txIds[1]);
+        CompletableFuture<Void> readFut = lockManager.tryAcquireShared(key, txIds[2]);
+
+        assertFalse(writeFut.isDone());
+        assertFalse(readFut.isDone());
+
+        assertTrue(lockManager.tryCancel(key, txIds[1], new LockException("Cancelled")));
+
+        expectConflict(writeFut);
+
+        assertTrue(readFut.isDone());
+        assertFalse(readFut.isCompletedExceptionally());
+
+        lockManager.tryReleaseShared(key, txIds[0]);
+        lockManager.tryReleaseShared(key, txIds[2]);
+
+        assertTrue(lockManager.queue(key).isEmpty());
+    }
+
     private UUID[] generate(int num) {
         UUID[] tmp = new UUID[num];
 
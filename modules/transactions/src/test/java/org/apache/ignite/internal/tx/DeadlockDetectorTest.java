@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.testframework.IgniteAbstractTest;
+import org.apache.ignite.internal.tx.impl.DeadlockDetector;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
+import org.apache.ignite.internal.tx.message.TxMessagesFactory;
+import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.ClusterService;
+import org.apache.ignite.network.NetworkAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for {@link DeadlockDetector}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class DeadlockDetectorTest extends IgniteAbstractTest {
+    private static final ClusterNode LOCAL_NODE = new ClusterNode("local", "local", new NetworkAddress("localhost", 10000));
+
+    private static final ClusterNode REMOTE_NODE = new ClusterNode("remote", "remote", new NetworkAddress("localhost", 10001));
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ClusterService clusterService;
+
+    private StripedLockManager lockManager;
+
+    private DeadlockDetector detector;
+
+    @BeforeEach
+    public void before() {
+        lockManager = new StripedLockManager(StripedLockManager.DFLT_STRIPES, false);
+
+        detector = new DeadlockDetector("test", clusterService, lockManager, 0);
+
+        when(clusterService.topologyService().localMember()).thenReturn(LOCAL_NODE);
+        when(clusterService.topologyService().allMembers()).thenReturn(List.of(LOCAL_NODE));
+    }
+
+    @Test
+    public void testNoDeadlock() throws LockException {
+        UUID txId0 = Timestamp.nextVersion().toUuid();
+        UUID txId1 = Timestamp.nextVersion().toUuid();
+
+        assertTrue(lockManager.tryAcquire("key", txId1).isDone());
+
+        CompletableFuture<Void> fut = lockManager.tryAcquire("key", txId0);
+
+        assertFalse(fut.isDone());
+
+        assertTrue(detector.detect().isEmpty());
+
+        lockManager.tryRelease("key", txId1);
+
+        assertTrue(fut.isDone());
+    }
+
+    @Test
+    public void testWriteDeadlock() {
+        UUID txId0 = Timestamp.nextVersion().toUuid();
+        UUID txId1 = Timestamp.nextVersion().toUuid();
+
+        assertTrue(lockManager.tryAcquire("key0", txId0).isDone());
+        assertTrue(lockManager.tryAcquire("key1", txId1).isDone());
+
+        CompletableFuture<Void> fut0 = lockManager.tryAcquire("key1", txId0);
+        CompletableFuture<Void> fut1 = lockManager.tryAcquire("key0", txId1);
+
+        assertFalse(fut0.isDone());
+        assertFalse(fut1.isDone());
+
+        assertEquals(Set.of(txId1), detector.detect());
+
+        assertTrue(fut1.isCompletedExceptionally());
+        assertFalse(fut0.isDone());
+
+        // The victim keeps its locks until its owner rolls it back.
+        assertTrue(lockManager.waiter("key1", txId1).locked());
+    }
+
+    @Test
+    public void testUpgradeDeadlock() {
+        UUID txId0 = Timestamp.nextVersion().toUuid();
+        UUID txId1 = Timestamp.nextVersion().toUuid();
+
+        assertTrue(lockManager.tryAcquireShared("key", txId0).isDone());
+        assertTrue(lockManager.tryAcquireShared("key", txId1).isDone());
+
+        CompletableFuture<Void> fut0 = lockManager.tryAcquire("key", txId0);
+        CompletableFuture<Void> fut1 = lockManager.tryAcquire("key", txId1);
+
+        assertFalse(fut0.isDone());
+        assertFalse(fut1.isDone());
+
+        assertEquals(Set.of(txId1), detector.detect());
+
+        assertTrue(fut1.isCompletedExceptionally());
+
+        // The victim keeps its read lock until the rollback releases it.
+        assertTrue(lockManager.waiter("key", txId1).locked());
+    }
+
+    @Test
+    public void testDistributedDeadlock() {
+        UUID txId0 = Timestamp.nextVersion().toUuid();
+        UUID txId1 = Timestamp.nextVersion().toUuid();
+
+        // The local node sees that txId1 waits for txId0, the remote node sees that txId0 waits for txId1.
+        assertTrue(lockManager.tryAcquire("key0", txId0).isDone());
+
+        CompletableFuture<Void> fut1 = lockManager.tryAcquire("key0", txId1);
+
+        assertFalse(fut1.isDone());
+
+        when(clusterService.topologyService().allMembers()).thenReturn(List.of(LOCAL_NODE, REMOTE_NODE));
+        when(clusterService.messagingService().invoke(eq(REMOTE_NODE), any(), anyLong())).thenReturn(completedFuture(
+                new TxMessagesFactory().waitForGraphResponse().edges(Map.of(txId0, Set.of(txId1))).build()
+        ));
+
+        assertEquals(Set.of(txId1), detector.detect());
+
+        assertTrue(fut1.isCompletedExceptionally());
+    }
+}
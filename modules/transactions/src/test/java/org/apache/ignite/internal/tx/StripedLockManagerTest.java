@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link StripedLockManager}.
+ */
+public class StripedLockManagerTest extends AbstractLockManagerTest {
+    @Override
+    protected LockManager newInstance() {
+        return new StripedLockManager();
+    }
+
+    @Test
+    public void testManyKeysInSingleStripe() throws LockException {
+        StripedLockManager lockManager = new StripedLockManager(1);
+
+        UUID txId = Timestamp.nextVersion().toUuid();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(lockManager.tryAcquire(i, txId).isDone());
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(lockManager.waiter(i, txId).locked());
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            lockManager.tryRelease(i, txId);
+        }
+
+        assertTrue(lockManager.isEmpty());
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(lockManager.tryAcquireShared(i, txId).isDone());
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            lockManager.tryReleaseShared(i, txId);
+        }
+
+        assertTrue(lockManager.isEmpty());
+    }
+
+    @Test
+    public void testMetrics() throws LockException {
+        StripedLockManager lockManager = new StripedLockManager();
+
+        MetricSet metrics = lockManager.metricSource().enable();
+
+        assertNotNull(metrics);
+
+        UUID txId0 = Timestamp.nextVersion().toUuid();
+        UUID txId1 = Timestamp.nextVersion().toUuid();
+        UUID txId2 = Timestamp.nextVersion().toUuid();
+        Object key = new String("test");
+
+        assertTrue(lockManager.tryAcquire(key, txId1).isDone());
+
+        CompletableFuture<Void> fut = lockManager.tryAcquire(key, txId2);
+
+        assertFalse(fut.isDone());
+
+        assertTrue(lockManager.tryAcquire(key, txId0).isCompletedExceptionally());
+
+        lockManager.tryRelease(key, txId1);
+
+        assertTrue(fut.isDone());
+
+        lockManager.tryRelease(key, txId2);
+
+        assertEquals(2, ((LongMetric) metrics.get("AcquiredLocks")).value());
+        assertEquals(1, ((LongMetric) metrics.get("WaitedLocks")).value());
+        assertEquals(1, ((LongMetric) metrics.get("FailedLocks")).value());
+    }
+}
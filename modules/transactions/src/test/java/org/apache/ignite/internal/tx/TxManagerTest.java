@@ -109,6 +109,47 @@ public class TxManagerTest extends IgniteAbstractTest {
         assertNull(tx.state());
     }
 
+    @Test
+    public void testLowWatermark() throws TransactionException {
+        Timestamp before = Timestamp.nextVersion();
+
+        InternalTransaction tx1 = txManager.begin();
+        InternalTransaction tx2 = txManager.begin();
+
+        assertEquals(new Timestamp(tx1.id()), txManager.lowWatermark());
+
+        tx1.commit();
+
+        assertEquals(new Timestamp(tx2.id()), txManager.lowWatermark());
+
+        tx2.rollback();
+
+        assertTrue(before.compareTo(txManager.lowWatermark()) < 0);
+    }
+
+    @Test
+    public void testLowWatermarkWithReadTimestamps() throws TransactionException {
+        Timestamp readTs1 = txManager.registerReadTimestamp();
+
+        InternalTransaction tx = txManager.begin();
+
+        Timestamp readTs2 = txManager.registerReadTimestamp();
+
+        assertEquals(readTs1, txManager.lowWatermark());
+
+        txManager.unregisterReadTimestamp(readTs1);
+
+        assertEquals(new Timestamp(tx.id()), txManager.lowWatermark());
+
+        tx.commit();
+
+        assertEquals(readTs2, txManager.lowWatermark());
+
+        txManager.unregisterReadTimestamp(readTs2);
+
+        assertTrue(readTs2.compareTo(txManager.lowWatermark()) < 0);
+    }
+
     @Test
     public void testEnlist() throws TransactionException {
         NetworkAddress addr = clusterService.topologyService().localMember().address();